@@ -26,6 +26,7 @@ package com.tenio.examples.client;
 
 import com.tenio.common.data.DataCollection;
 import com.tenio.common.utility.OsUtility;
+import com.tenio.core.network.codec.CodecUtility;
 import com.tenio.core.network.codec.decoder.BinaryPacketDecoder;
 import com.tenio.core.network.codec.decoder.BinaryPacketDecoderImpl;
 import com.tenio.core.network.codec.encoder.BinaryPacketEncoder;
@@ -158,7 +159,13 @@ public final class UDP {
         try {
           var response = new DatagramPacket(binaries, binaries.length);
           datagramSocket.receive(response);
-          listener.onReceivedUDP(binaryPacketDecoder.decode(binaries));
+          // the server may bundle several small packets into one datagram
+          if (CodecUtility.isBundle(binaries[0])) {
+            CodecUtility.unbundle(binaries, response.getLength(),
+                packet -> listener.onReceivedUDP(binaryPacketDecoder.decode(packet)));
+          } else {
+            listener.onReceivedUDP(binaryPacketDecoder.decode(binaries));
+          }
         } catch (IOException exception) {
           exception.printStackTrace();
           return;
@@ -0,0 +1,268 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.examples.example7;
+
+import com.tenio.common.data.DataUtility;
+import com.tenio.common.data.msgpack.element.MsgPackMap;
+import com.tenio.core.network.codec.decoder.BinaryPacketDecoder;
+import com.tenio.core.network.codec.decoder.BinaryPacketDecoderImpl;
+import com.tenio.core.network.codec.encoder.BinaryPacketEncoder;
+import com.tenio.core.network.codec.encoder.BinaryPacketEncoderImpl;
+import com.tenio.core.network.entity.outbound.packet.implement.PacketImpl;
+import com.tenio.examples.client.ClientUtility;
+import com.tenio.examples.server.SharedEventKey;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpClientCodec;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketClientHandshakerFactory;
+import io.netty.handler.codec.http.websocketx.WebSocketClientProtocolHandler;
+import io.netty.handler.codec.http.websocketx.WebSocketVersion;
+import io.netty.handler.codec.http.websocketx.extensions.compression.WebSocketClientCompressionHandler;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class puts a load on the WebSocket server of this example and measures the bandwidth and
+ * CPU time it costs on the client side:<br>
+ * 1. Create connections, each one offers the permessage-deflate extension during its handshake.<br>
+ * 2. Send a login request.<br>
+ * 3. Keep sending the player's position, the server broadcasts it to every player in the room.<br>
+ * 4. Report the traffic periodically.
+ * <p>
+ * The wire bytes are counted before the frames are inflated, the payload bytes after, so their
+ * ratio shows how much the transport compression saves. Run it once with
+ * <code>websocket-permessage-deflate</code> enabled and once with it disabled on the server to
+ * compare both modes, the server's CPU usage is reported by its system monitoring task.
+ */
+public final class TestClientWebsocketLoad {
+
+  private static final String WEBSOCKET_URI = "ws://localhost:8033/websocket";
+  private static final int NUMBER_CLIENTS = 100;
+  private static final int SEND_INTERVAL_MS = 100;
+  private static final int REPORT_INTERVAL_SECONDS = 5;
+  private static final int DURATION_SECONDS = 60;
+  private static final int MAX_HANDSHAKE_CONTENT_LENGTH = 8192;
+
+  private final TrafficCounter trafficCounter;
+  private final BinaryPacketEncoder binaryPacketEncoder;
+  private final BinaryPacketDecoder binaryPacketDecoder;
+
+  public TestClientWebsocketLoad() {
+    trafficCounter = new TrafficCounter();
+    // the packets are not compressed by the codec, so only the transport compresses them
+    binaryPacketEncoder = new BinaryPacketEncoderImpl();
+    binaryPacketDecoder = new BinaryPacketDecoderImpl();
+  }
+
+  /**
+   * The entry point
+   */
+  public static void main(String[] args) throws Exception {
+    new TestClientWebsocketLoad().run();
+  }
+
+  private void run() throws Exception {
+    var uri = new URI(WEBSOCKET_URI);
+    var eventLoopGroup = new NioEventLoopGroup();
+    List<Channel> channels = new ArrayList<>(NUMBER_CLIENTS);
+
+    try {
+      var bootstrap = new Bootstrap();
+      bootstrap.group(eventLoopGroup).channel(NioSocketChannel.class)
+          .handler(new ChannelInitializer<SocketChannel>() {
+            @Override
+            protected void initChannel(SocketChannel channel) {
+              var pipeline = channel.pipeline();
+              // it stays in front of the codecs to see the compressed bytes
+              pipeline.addLast("traffic-counter", trafficCounter);
+              pipeline.addLast("http-codec", new HttpClientCodec());
+              pipeline.addLast("http-aggregator",
+                  new HttpObjectAggregator(MAX_HANDSHAKE_CONTENT_LENGTH));
+              pipeline.addLast("compression", WebSocketClientCompressionHandler.INSTANCE);
+              pipeline.addLast("protocol", new WebSocketClientProtocolHandler(
+                  WebSocketClientHandshakerFactory.newHandshaker(uri, WebSocketVersion.V13, null,
+                      true, new DefaultHttpHeaders())));
+              pipeline.addLast("player", new PlayerHandler());
+            }
+          });
+
+      for (int i = 0; i < NUMBER_CLIENTS; i++) {
+        channels.add(bootstrap.connect(uri.getHost(), uri.getPort()).sync().channel());
+      }
+
+      var cpuTimeBefore = getProcessCpuTime();
+      var startTime = System.nanoTime();
+      for (int elapsed = 0; elapsed < DURATION_SECONDS; elapsed += REPORT_INTERVAL_SECONDS) {
+        TimeUnit.SECONDS.sleep(REPORT_INTERVAL_SECONDS);
+        report(REPORT_INTERVAL_SECONDS);
+      }
+      var elapsedNanoseconds = System.nanoTime() - startTime;
+      var cpuTime = getProcessCpuTime() - cpuTimeBefore;
+
+      System.out.printf("[TOTAL] wire in=%d bytes, payload in=%d bytes, wire out=%d bytes, " +
+              "messages in=%d, client CPU=%.1f%% of one core%n",
+          trafficCounter.totalReadWireBytes.sum(), trafficCounter.totalReadPayloadBytes.sum(),
+          trafficCounter.totalWrittenWireBytes.sum(), trafficCounter.totalReadMessages.sum(),
+          100.0 * cpuTime / elapsedNanoseconds);
+    } finally {
+      for (var channel : channels) {
+        channel.close();
+      }
+      eventLoopGroup.shutdownGracefully();
+    }
+  }
+
+  private void report(int intervalInSeconds) {
+    long readWireBytes = trafficCounter.readWireBytes.sumThenReset();
+    long readPayloadBytes = trafficCounter.readPayloadBytes.sumThenReset();
+    long writtenWireBytes = trafficCounter.writtenWireBytes.sumThenReset();
+    long readMessages = trafficCounter.readMessages.sumThenReset();
+
+    System.out.printf("[LOAD] in: %d msg/s, %d wire B/s, %d payload B/s (ratio %.2f), " +
+            "out: %d wire B/s%n",
+        readMessages / intervalInSeconds, readWireBytes / intervalInSeconds,
+        readPayloadBytes / intervalInSeconds,
+        readPayloadBytes == 0 ? 1.0 : (double) readWireBytes / readPayloadBytes,
+        writtenWireBytes / intervalInSeconds);
+  }
+
+  private long getProcessCpuTime() {
+    var operatingSystem = ManagementFactory.getOperatingSystemMXBean();
+    if (operatingSystem instanceof com.sun.management.OperatingSystemMXBean bean) {
+      return bean.getProcessCpuTime();
+    }
+    return 0L;
+  }
+
+  private void send(Channel channel, MsgPackMap message) {
+    var packet = PacketImpl.newInstance();
+    packet.setDataType(message.getType());
+    packet.setData(message.toBinaries());
+    // a WebSocket frame already delimits the packet
+    packet.hasLengthPrefixed(false);
+    packet = binaryPacketEncoder.encode(packet);
+    channel.writeAndFlush(new BinaryWebSocketFrame(Unpooled.wrappedBuffer(packet.getData())));
+  }
+
+  /**
+   * Logs in once the handshake is done, then moves the player periodically.
+   */
+  private final class PlayerHandler extends SimpleChannelInboundHandler<BinaryWebSocketFrame> {
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object event) throws Exception {
+      if (event == WebSocketClientProtocolHandler.ClientHandshakeStateEvent.HANDSHAKE_COMPLETE) {
+        var channel = ctx.channel();
+
+        var request = DataUtility.newMsgMap();
+        request.putString(SharedEventKey.KEY_PLAYER_LOGIN, ClientUtility.generateRandomString(5));
+        send(channel, request);
+
+        channel.eventLoop().scheduleAtFixedRate(() -> {
+          if (channel.isActive()) {
+            var random = ThreadLocalRandom.current();
+            var move = DataUtility.newMsgMap();
+            move.putIntegerArray(SharedEventKey.KEY_DATA,
+                new int[] {random.nextInt(100, 400), random.nextInt(100, 400)});
+            send(channel, move);
+          }
+        }, SEND_INTERVAL_MS, SEND_INTERVAL_MS, TimeUnit.MILLISECONDS);
+      }
+      super.userEventTriggered(ctx, event);
+    }
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, BinaryWebSocketFrame frame) {
+      var content = frame.content();
+      trafficCounter.readPayloadBytes.add(content.readableBytes());
+      trafficCounter.totalReadPayloadBytes.add(content.readableBytes());
+      trafficCounter.readMessages.increment();
+      trafficCounter.totalReadMessages.increment();
+      // decoding is a part of the client's cost
+      binaryPacketDecoder.decode(ByteBufUtil.getBytes(content));
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+      cause.printStackTrace();
+      ctx.close();
+    }
+  }
+
+  /**
+   * Counts the bytes on the wire, shared by all connections.
+   */
+  @ChannelHandler.Sharable
+  private static final class TrafficCounter extends ChannelDuplexHandler {
+
+    private final LongAdder readWireBytes = new LongAdder();
+    private final LongAdder writtenWireBytes = new LongAdder();
+    private final LongAdder readPayloadBytes = new LongAdder();
+    private final LongAdder readMessages = new LongAdder();
+    private final LongAdder totalReadWireBytes = new LongAdder();
+    private final LongAdder totalWrittenWireBytes = new LongAdder();
+    private final LongAdder totalReadPayloadBytes = new LongAdder();
+    private final LongAdder totalReadMessages = new LongAdder();
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object message) throws Exception {
+      if (message instanceof ByteBuf buffer) {
+        readWireBytes.add(buffer.readableBytes());
+        totalReadWireBytes.add(buffer.readableBytes());
+      }
+      super.channelRead(ctx, message);
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object message, ChannelPromise promise)
+        throws Exception {
+      if (message instanceof ByteBuf buffer) {
+        writtenWireBytes.add(buffer.readableBytes());
+        totalWrittenWireBytes.add(buffer.readableBytes());
+      }
+      super.write(ctx, message, promise);
+    }
+  }
+}
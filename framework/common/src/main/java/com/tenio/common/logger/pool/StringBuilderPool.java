@@ -25,8 +25,8 @@ THE SOFTWARE.
 package com.tenio.common.logger.pool;
 
 import com.google.common.base.Throwables;
-import com.tenio.common.constant.CommonConstant;
 import com.tenio.common.exception.NullElementPoolException;
+import com.tenio.common.pool.ConcurrentElementPool;
 import com.tenio.common.pool.ElementPool;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -39,11 +39,13 @@ public final class StringBuilderPool implements ElementPool<StringBuilder> {
   private static volatile StringBuilderPool instance;
   private final Logger logger = LogManager.getLogger(getClass());
 
-  private StringBuilder[] pool;
-  private boolean[] used;
+  private final ConcurrentElementPool<StringBuilder> pool;
 
   private StringBuilderPool() {
-    initialization();
+    // it is taken and repaid by every log call on every thread, the builders are cleared once
+    // they are repaid
+    pool = ConcurrentElementPool.newInstance(StringBuilder::new,
+        builder -> builder.setLength(0));
   }
 
   /**
@@ -65,64 +67,21 @@ public final class StringBuilderPool implements ElementPool<StringBuilder> {
     return reference;
   }
 
-  private void initialization() {
-    pool = new StringBuilder[CommonConstant.DEFAULT_NUMBER_ELEMENTS_POOL];
-    used = new boolean[CommonConstant.DEFAULT_NUMBER_ELEMENTS_POOL];
-
-    for (int i = 0; i < pool.length; i++) {
-      pool[i] = new StringBuilder();
-      used[i] = false;
-    }
-  }
-
   @Override
-  public synchronized StringBuilder get() {
-    for (int i = 0; i < used.length; i++) {
-      if (!used[i]) {
-        used[i] = true;
-        return pool[i];
-      }
-    }
-    // If we got here, then all the Elements are in use. We will
-    // increase the number in our pool by @ADD_ELEMENT_POOL (arbitrary value for
-    // illustration purposes).
-    var oldUsed = used;
-    used = new boolean[oldUsed.length + CommonConstant.ADDITIONAL_NUMBER_ELEMENTS_POOL];
-    System.arraycopy(oldUsed, 0, used, 0, oldUsed.length);
-
-    var oldPool = pool;
-    pool = new StringBuilder[oldPool.length + CommonConstant.ADDITIONAL_NUMBER_ELEMENTS_POOL];
-    System.arraycopy(oldPool, 0, pool, 0, oldPool.length);
-
-    for (int i = oldPool.length; i < pool.length; i++) {
-      pool[i] = new StringBuilder();
-      used[i] = false;
+  public StringBuilder get() {
+    int poolSize = pool.getPoolSize();
+    var builder = pool.get();
+    if (logger.isInfoEnabled() && pool.getPoolSize() > poolSize) {
+      infoWithoutPool(strgen("Increased the number of elements to ", pool.getPoolSize()));
     }
-
-    if (logger.isInfoEnabled()) {
-      infoWithoutPool(strgen("Increased the number of elements by ",
-          CommonConstant.ADDITIONAL_NUMBER_ELEMENTS_POOL, " to ", used.length));
-    }
-
-    // and allocate the last old element
-    used[oldPool.length - 1] = true;
-    return pool[oldPool.length - 1];
+    return builder;
   }
 
   @Override
-  public synchronized void repay(StringBuilder element) {
-    var flagFound = false;
-    for (int i = 0; i < pool.length; i++) {
-      if (pool[i] == element) {
-        used[i] = false;
-        // clear the array
-        element.setLength(0);
-        flagFound = true;
-        break;
-      }
-    }
-    if (!flagFound) {
-      var exception = new NullElementPoolException(element.toString());
+  public void repay(StringBuilder element) {
+    try {
+      pool.repay(element);
+    } catch (NullElementPoolException exception) {
       if (logger.isErrorEnabled()) {
         errorWithoutPool(exception);
       }
@@ -131,30 +90,38 @@ public final class StringBuilderPool implements ElementPool<StringBuilder> {
   }
 
   @Override
-  public synchronized void cleanup() {
-    for (int i = 0; i < pool.length; i++) {
-      pool[i] = null;
-      used[i] = false;
-    }
-
-    initialization();
+  public void cleanup() {
+    pool.cleanup();
   }
 
   @Override
-  public synchronized int getPoolSize() {
-    return (pool.length == used.length) ? pool.length : -1;
+  public int getPoolSize() {
+    return pool.getPoolSize();
   }
 
   @Override
-  public synchronized int getAvailableSlot() {
-    int slot = 0;
-    for (boolean b : used) {
-      if (!b) {
-        slot++;
-      }
-    }
+  public int getAvailableSlot() {
+    return pool.getAvailableSlot();
+  }
+
+  /**
+   * Retrieves the number of builders which were taken from the free ones.
+   *
+   * @return the number of hits
+   * @since 0.7.4
+   */
+  public long getHitCount() {
+    return pool.getHitCount();
+  }
 
-    return slot;
+  /**
+   * Retrieves the number of builders which had to be created.
+   *
+   * @return the number of misses
+   * @since 0.7.4
+   */
+  public long getMissCount() {
+    return pool.getMissCount();
   }
 
   /**
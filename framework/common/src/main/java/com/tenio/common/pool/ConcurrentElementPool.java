@@ -0,0 +1,397 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.common.pool;
+
+import com.tenio.common.constant.CommonConstant;
+import com.tenio.common.exception.NullElementPoolException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * An {@link ElementPool} which can be shared by threads. The free elements are kept in a lock-free
+ * stack of their indices, and the index of a repaid element is found in an identity table, so
+ * both {@link #get()} and {@link #repay(Object)} take a constant time and do not block each other.
+ * Only the growth of the pool takes a lock.
+ *
+ * <p>When all elements are in use, the pool grows by a fixed number of elements until it reaches
+ * its maximum size. After that, {@link #get()} creates elements which are not pooled, they are
+ * dropped when they are repaid.
+ *
+ * @param <T> the element type
+ * @since 0.7.4
+ */
+public final class ConcurrentElementPool<T> implements ElementPool<T> {
+
+  private static final long INDEX_MASK = 0xFFFFFFFFL;
+  private static final int NOT_FOUND = -1;
+
+  private final Supplier<T> factory;
+  private final Consumer<T> resetter;
+  private final int initialSize;
+  private final int growthSize;
+  private final int maximumSize;
+  // the top of the free stack keeps the index plus one in its low bits (zero for an empty stack)
+  // and a stamp in its high bits which changes on every update, so a stale top never wins
+  private final AtomicLong top;
+  private final AtomicInteger availableSlots;
+  private final AtomicInteger unpooledElements;
+  private final LongAdder hits;
+  private final LongAdder misses;
+
+  private volatile Segment[] segments;
+  private volatile IdentityTable indices;
+  private volatile int size;
+
+  private ConcurrentElementPool(Supplier<T> factory, Consumer<T> resetter, int initialSize,
+                                int growthSize, int maximumSize) {
+    if (initialSize < 0 || growthSize <= 0 || maximumSize < initialSize) {
+      throw new IllegalArgumentException(String.format(
+          "Invalid pool sizes, initial: %d, growth: %d, maximum: %d", initialSize, growthSize,
+          maximumSize));
+    }
+    this.factory = factory;
+    this.resetter = resetter;
+    this.initialSize = initialSize;
+    this.growthSize = growthSize;
+    this.maximumSize = maximumSize;
+    top = new AtomicLong();
+    availableSlots = new AtomicInteger();
+    unpooledElements = new AtomicInteger();
+    hits = new LongAdder();
+    misses = new LongAdder();
+    initialize();
+  }
+
+  /**
+   * Creates a new unbounded pool with the default sizes.
+   *
+   * @param factory  creates a new element
+   * @param resetter clears an element when it is repaid, it can be {@code null}
+   * @param <T>      the element type
+   * @return a new instance of {@link ConcurrentElementPool}
+   * @see CommonConstant#DEFAULT_NUMBER_ELEMENTS_POOL
+   * @see CommonConstant#ADDITIONAL_NUMBER_ELEMENTS_POOL
+   */
+  public static <T> ConcurrentElementPool<T> newInstance(Supplier<T> factory,
+                                                         Consumer<T> resetter) {
+    return newInstance(factory, resetter, CommonConstant.DEFAULT_NUMBER_ELEMENTS_POOL,
+        CommonConstant.ADDITIONAL_NUMBER_ELEMENTS_POOL, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Creates a new pool.
+   *
+   * @param factory     creates a new element, it may return {@code null} when the element can
+   *                    not be created
+   * @param resetter    clears an element when it is repaid, it can be {@code null}
+   * @param initialSize the number of elements created at first
+   * @param growthSize  the number of elements added when all elements are in use
+   * @param maximumSize the maximum number of pooled elements
+   * @param <T>         the element type
+   * @return a new instance of {@link ConcurrentElementPool}
+   */
+  public static <T> ConcurrentElementPool<T> newInstance(Supplier<T> factory,
+                                                         Consumer<T> resetter, int initialSize,
+                                                         int growthSize, int maximumSize) {
+    return new ConcurrentElementPool<>(factory, resetter, initialSize, growthSize, maximumSize);
+  }
+
+  @Override
+  public T get() {
+    while (true) {
+      int index = pop();
+      if (index != NOT_FOUND) {
+        hits.increment();
+        return take(index);
+      }
+      synchronized (this) {
+        // another thread may have repaid an element or grown the pool in the meantime
+        if (availableSlots.get() > 0) {
+          continue;
+        }
+        misses.increment();
+        if (size >= maximumSize) {
+          unpooledElements.incrementAndGet();
+          return factory.get();
+        }
+        index = grow();
+      }
+      return take(index);
+    }
+  }
+
+  @Override
+  public void repay(T element) {
+    if (element == null) {
+      throw new NullElementPoolException("null");
+    }
+    int index = indices.get(element);
+    if (index == NOT_FOUND) {
+      if (unpooledElements.getAndUpdate(count -> count > 0 ? count - 1 : count) > 0) {
+        return;
+      }
+      throw new NullElementPoolException(element.toString());
+    }
+    var segment = segments[segmentOf(index)];
+    int offset = offsetOf(index);
+    // an element which is repaid twice is only pushed once
+    if (!segment.used.compareAndSet(offset, 1, 0)) {
+      return;
+    }
+    if (resetter != null) {
+      resetter.accept(element);
+    }
+    push(index, index, 1);
+  }
+
+  /**
+   * Drops all elements and creates the initial ones again. The pool must not be used by other
+   * threads at the same time, and the elements retrieved before can not be repaid.
+   */
+  @Override
+  public synchronized void cleanup() {
+    initialize();
+  }
+
+  @Override
+  public int getPoolSize() {
+    return size;
+  }
+
+  @Override
+  public int getAvailableSlot() {
+    return availableSlots.get();
+  }
+
+  /**
+   * Retrieves the maximum number of pooled elements.
+   *
+   * @return the maximum size
+   */
+  public int getMaximumSize() {
+    return maximumSize;
+  }
+
+  /**
+   * Retrieves the number of elements which were taken from the free elements.
+   *
+   * @return the number of hits
+   */
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * Retrieves the number of elements which had to be created, because all pooled elements were
+   * in use.
+   *
+   * @return the number of misses
+   */
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  private void initialize() {
+    top.set(0L);
+    availableSlots.set(0);
+    unpooledElements.set(0);
+    hits.reset();
+    misses.reset();
+    segments = new Segment[0];
+    indices = new IdentityTable(Math.max(initialSize, growthSize));
+    size = 0;
+    if (initialSize > 0) {
+      append(initialSize);
+      push(0, initialSize - 1, initialSize);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private T take(int index) {
+    var segment = segments[segmentOf(index)];
+    int offset = offsetOf(index);
+    segment.used.set(offset, 1);
+    return (T) segment.elements[offset];
+  }
+
+  private int grow() {
+    int first = size;
+    int count = (int) Math.min(growthSize, (long) maximumSize - first);
+    append(count);
+    // the first new element is handed out directly, the others become free
+    if (count > 1) {
+      push(first + 1, first + count - 1, count - 1);
+    }
+    return first;
+  }
+
+  private void append(int count) {
+    int first = size;
+    var segment = new Segment(count);
+    var table = indices;
+    for (int i = 0; i < count; i++) {
+      var element = factory.get();
+      segment.elements[i] = element;
+      segment.next[i] = first + i + 2;
+      if (element != null) {
+        table = table.put(element, first + i);
+      }
+    }
+    var oldSegments = segments;
+    var newSegments = new Segment[oldSegments.length + 1];
+    System.arraycopy(oldSegments, 0, newSegments, 0, oldSegments.length);
+    newSegments[oldSegments.length] = segment;
+    // the new elements are only published to other threads through the free stack
+    segments = newSegments;
+    indices = table;
+    size = first + count;
+  }
+
+  private int pop() {
+    while (true) {
+      long current = top.get();
+      int index = (int) (current & INDEX_MASK) - 1;
+      if (index < 0) {
+        return NOT_FOUND;
+      }
+      int next = segments[segmentOf(index)].next[offsetOf(index)];
+      if (top.compareAndSet(current, nextStamp(current) | next)) {
+        availableSlots.decrementAndGet();
+        return index;
+      }
+    }
+  }
+
+  /**
+   * Pushes a chain of free indices, each of them is already linked to the following one.
+   */
+  private void push(int first, int last, int count) {
+    var lastSegment = segments[segmentOf(last)];
+    int lastOffset = offsetOf(last);
+    while (true) {
+      long current = top.get();
+      lastSegment.next[lastOffset] = (int) (current & INDEX_MASK);
+      if (top.compareAndSet(current, nextStamp(current) | (first + 1))) {
+        availableSlots.addAndGet(count);
+        return;
+      }
+    }
+  }
+
+  private static long nextStamp(long current) {
+    return ((current >>> 32) + 1) << 32;
+  }
+
+  private int segmentOf(int index) {
+    return index < initialSize ? 0 : (initialSize > 0 ? 1 : 0) + (index - initialSize) / growthSize;
+  }
+
+  private int offsetOf(int index) {
+    return index < initialSize ? index : (index - initialSize) % growthSize;
+  }
+
+  private static final class Segment {
+
+    private final Object[] elements;
+    // the index plus one of the next free element, only valid while the element is free
+    private final int[] next;
+    private final AtomicIntegerArray used;
+
+    private Segment(int length) {
+      elements = new Object[length];
+      next = new int[length];
+      used = new AtomicIntegerArray(length);
+    }
+  }
+
+  /**
+   * An open addressing table from elements to their indices, compared by identity. It is only
+   * changed while the pool is growing, a key is always written to an empty slot which no
+   * other key's probe passes, so readers never need a lock.
+   */
+  private static final class IdentityTable {
+
+    private final Object[] keys;
+    private final int[] values;
+    private int count;
+
+    private IdentityTable(int expectedSize) {
+      int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+      keys = new Object[capacity];
+      values = new int[capacity];
+    }
+
+    private int get(Object key) {
+      int mask = keys.length - 1;
+      for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+        var current = keys[slot];
+        if (current == key) {
+          return values[slot];
+        }
+        if (current == null) {
+          return NOT_FOUND;
+        }
+      }
+    }
+
+    /**
+     * Puts a new key, the returned table replaces this one when it has to be enlarged.
+     */
+    private IdentityTable put(Object key, int value) {
+      var table = this;
+      if ((count + 1) * 2 > keys.length) {
+        table = new IdentityTable(keys.length);
+        for (int slot = 0; slot < keys.length; slot++) {
+          if (keys[slot] != null) {
+            table.insert(keys[slot], values[slot]);
+          }
+        }
+      }
+      table.insert(key, value);
+      return table;
+    }
+
+    private void insert(Object key, int value) {
+      int mask = keys.length - 1;
+      int slot = hash(key) & mask;
+      while (keys[slot] != null) {
+        slot = (slot + 1) & mask;
+      }
+      // readers only look for the keys of elements which were handed out, and those elements
+      // were published through the free stack after they had been inserted
+      values[slot] = value;
+      keys[slot] = key;
+      count++;
+    }
+
+    private static int hash(Object key) {
+      int hash = System.identityHashCode(key);
+      return hash ^ (hash >>> 16);
+    }
+  }
+}
@@ -0,0 +1,152 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.common.pool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tenio.common.exception.NullElementPoolException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For Concurrent Element Pool")
+class ConcurrentElementPoolTest {
+
+  @Test
+  @DisplayName("A repaid element is reset and handed out again")
+  void repaidElementShouldBeReused() {
+    var pool = ConcurrentElementPool.newInstance(StringBuilder::new,
+        builder -> builder.setLength(0), 2, 2, 8);
+    var builder = pool.get();
+    builder.append("text");
+    pool.repay(builder);
+
+    var reused = pool.get();
+    assertSame(builder, reused);
+    assertEquals(0, reused.length());
+    assertEquals(2, pool.getHitCount());
+    assertEquals(0, pool.getMissCount());
+  }
+
+  @Test
+  @DisplayName("The pool grows by its growth size when all elements are in use")
+  void poolShouldGrowWhenAllElementsAreInUse() {
+    var pool = ConcurrentElementPool.newInstance(Object::new, null, 4, 3, 100);
+    List<Object> elements = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      elements.add(pool.get());
+    }
+
+    assertEquals(7, pool.getPoolSize());
+    assertEquals(2, pool.getAvailableSlot());
+    assertEquals(1, pool.getMissCount());
+    assertEquals(5, elements.stream().distinct().count());
+    elements.forEach(pool::repay);
+    assertEquals(7, pool.getAvailableSlot());
+  }
+
+  @Test
+  @DisplayName("A bounded pool creates unpooled elements after reaching its maximum size")
+  void boundedPoolShouldCreateUnpooledElements() {
+    var pool = ConcurrentElementPool.newInstance(Object::new, null, 1, 1, 2);
+    var first = pool.get();
+    var second = pool.get();
+    var unpooled = pool.get();
+
+    assertEquals(2, pool.getPoolSize());
+    assertEquals(2, pool.getMissCount());
+    pool.repay(unpooled);
+    pool.repay(first);
+    pool.repay(second);
+    assertEquals(2, pool.getAvailableSlot());
+    assertThrows(NullElementPoolException.class, () -> pool.repay(new Object()));
+  }
+
+  @Test
+  @DisplayName("Repaying an invalid element throws an exception, repaying twice is ignored")
+  void invalidRepaymentsShouldBeDetected() {
+    var pool = ConcurrentElementPool.newInstance(Object::new, null);
+    var element = pool.get();
+    pool.repay(element);
+    pool.repay(element);
+
+    assertEquals(pool.getPoolSize(), pool.getAvailableSlot());
+    assertThrows(NullElementPoolException.class, () -> pool.repay(new Object()));
+    assertThrows(NullElementPoolException.class, () -> pool.repay(null));
+  }
+
+  @Test
+  @DisplayName("Cleaning up the pool creates the initial elements again")
+  void cleanupShouldRecreateTheInitialElements() {
+    var pool = ConcurrentElementPool.newInstance(Object::new, null, 2, 2, 10);
+    var element = pool.get();
+    pool.get();
+    pool.get();
+    pool.cleanup();
+
+    assertEquals(2, pool.getPoolSize());
+    assertEquals(2, pool.getAvailableSlot());
+    assertNotSame(element, pool.get());
+    assertThrows(NullElementPoolException.class, () -> pool.repay(element));
+    assertThrows(IllegalArgumentException.class,
+        () -> ConcurrentElementPool.newInstance(Object::new, null, 4, 0, 8));
+  }
+
+  @Test
+  @DisplayName("An element is never held by two threads at the same time")
+  void elementsShouldBeExclusiveUnderContention() throws InterruptedException {
+    var pool = ConcurrentElementPool.newInstance(Object::new, null, 4, 4, Integer.MAX_VALUE);
+    Set<Object> held = ConcurrentHashMap.newKeySet();
+    var conflicts = new AtomicInteger();
+    int threads = 8;
+    var done = new CountDownLatch(threads);
+    for (int i = 0; i < threads; i++) {
+      new Thread(() -> {
+        for (int round = 0; round < 20_000; round++) {
+          var element = pool.get();
+          if (!held.add(element)) {
+            conflicts.incrementAndGet();
+          }
+          held.remove(element);
+          pool.repay(element);
+        }
+        done.countDown();
+      }).start();
+    }
+    done.await();
+
+    assertEquals(0, conflicts.get());
+    assertEquals(pool.getPoolSize(), pool.getAvailableSlot());
+    assertTrue(pool.getPoolSize() <= 4 + threads * 4);
+  }
+}
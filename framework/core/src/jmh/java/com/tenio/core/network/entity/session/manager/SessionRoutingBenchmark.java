@@ -0,0 +1,159 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.entity.session.manager;
+
+import com.tenio.core.network.entity.session.Session;
+import com.tenio.core.network.entity.session.implement.SessionImpl;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the routing a selector loop performs for every ready key: the synchronized map lookup
+ * which was used before against the bound session (the key attachment and the convey id table).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(SessionRoutingBenchmark.SESSIONS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SessionRoutingBenchmark {
+
+  static final int SESSIONS = 4096;
+
+  private Map<SelectionKey, Session> sessionByKeys;
+  private SelectionKey[] keys;
+  private Map<Integer, Session> sessionByDatagrams;
+  private DatagramSessionTable table;
+
+  @Setup
+  public void setUp() {
+    sessionByKeys = new HashMap<>();
+    keys = new SelectionKey[SESSIONS];
+    sessionByDatagrams = new HashMap<>();
+    table = DatagramSessionTable.newInstance();
+    for (int i = 0; i < SESSIONS; i++) {
+      Session session = SessionImpl.newInstance();
+      keys[i] = new DetachedSelectionKey();
+      keys[i].attach(session);
+      sessionByKeys.put(keys[i], session);
+      sessionByDatagrams.put(i, session);
+      table.put(i, session);
+    }
+  }
+
+  @Benchmark
+  public int selectionKeyByMap() {
+    int routed = 0;
+    for (var key : keys) {
+      synchronized (sessionByKeys) {
+        routed += sessionByKeys.get(key) != null ? 1 : 0;
+      }
+    }
+    return routed;
+  }
+
+  @Benchmark
+  public int selectionKeyByAttachment() {
+    int routed = 0;
+    for (var key : keys) {
+      routed += key.attachment() instanceof Session ? 1 : 0;
+    }
+    return routed;
+  }
+
+  @Benchmark
+  public int datagramByMap() {
+    int routed = 0;
+    for (int i = 0; i < SESSIONS; i++) {
+      synchronized (sessionByDatagrams) {
+        routed += sessionByDatagrams.get(i) != null ? 1 : 0;
+      }
+    }
+    return routed;
+  }
+
+  @Benchmark
+  public int datagramByTable() {
+    int routed = 0;
+    for (int i = 0; i < SESSIONS; i++) {
+      routed += table.get(i) != null ? 1 : 0;
+    }
+    return routed;
+  }
+
+  private static final class DetachedSelectionKey extends SelectionKey {
+
+    @Override
+    public SelectableChannel channel() {
+      return null;
+    }
+
+    @Override
+    public Selector selector() {
+      return null;
+    }
+
+    @Override
+    public boolean isValid() {
+      return true;
+    }
+
+    @Override
+    public void cancel() {
+    }
+
+    @Override
+    public int interestOps() {
+      return SelectionKey.OP_READ;
+    }
+
+    @Override
+    public SelectionKey interestOps(int ops) {
+      return this;
+    }
+
+    @Override
+    public int readyOps() {
+      return SelectionKey.OP_READ;
+    }
+  }
+}
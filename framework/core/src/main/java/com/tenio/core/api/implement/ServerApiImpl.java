@@ -47,6 +47,8 @@ import com.tenio.core.exception.AddedDuplicatedPlayerException;
 import com.tenio.core.exception.CreatedRoomException;
 import com.tenio.core.exception.PlayerJoinedRoomException;
 import com.tenio.core.exception.RemovedNonExistentPlayerException;
+import com.tenio.core.monitoring.jfr.PlayerJoinedRoomEvent;
+import com.tenio.core.monitoring.jfr.PlayerLeftRoomEvent;
 import com.tenio.core.network.entity.session.Session;
 import com.tenio.core.server.Server;
 import java.io.IOException;
@@ -227,12 +229,16 @@ public final class ServerApiImpl extends SystemLogger implements ServerApi {
     try {
       room.addPlayer(player, roomPassword, asSpectator, slotInRoom);
       player.setCurrentRoom(room);
+      PlayerJoinedRoomEvent.emit(player, room, asSpectator, PlayerJoinedRoomResult.SUCCESS);
       getEventManager().emit(ServerEvent.PLAYER_JOINED_ROOM_RESULT, player, room,
           PlayerJoinedRoomResult.SUCCESS);
     } catch (PlayerJoinedRoomException exception) {
+      PlayerJoinedRoomEvent.emit(player, room, asSpectator, exception.getResult());
       getEventManager().emit(ServerEvent.PLAYER_JOINED_ROOM_RESULT, player, room,
           exception.getResult());
     } catch (AddedDuplicatedPlayerException exception) {
+      PlayerJoinedRoomEvent.emit(player, room, asSpectator,
+          PlayerJoinedRoomResult.DUPLICATED_PLAYER);
       getEventManager().emit(ServerEvent.PLAYER_JOINED_ROOM_RESULT, player, room,
           PlayerJoinedRoomResult.DUPLICATED_PLAYER);
     }
@@ -268,9 +274,12 @@ public final class ServerApiImpl extends SystemLogger implements ServerApi {
       if (room != null) {
         room.removePlayer(player);
       }
+      PlayerLeftRoomEvent.emit(player, room, leaveRoomMode, PlayerLeftRoomResult.SUCCESS);
       getEventManager().emit(ServerEvent.PLAYER_AFTER_LEFT_ROOM, player, room,
           leaveRoomMode, PlayerLeftRoomResult.SUCCESS);
     } catch (RemovedNonExistentPlayerException exception) {
+      PlayerLeftRoomEvent.emit(player, room, leaveRoomMode,
+          PlayerLeftRoomResult.PLAYER_ALREADY_LEFT_ROOM);
       getEventManager().emit(ServerEvent.PLAYER_AFTER_LEFT_ROOM, player, room,
           leaveRoomMode, PlayerLeftRoomResult.PLAYER_ALREADY_LEFT_ROOM);
     }
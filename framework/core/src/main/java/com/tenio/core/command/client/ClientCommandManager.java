@@ -29,6 +29,7 @@ import com.tenio.common.logger.SystemLogger;
 import com.tenio.core.bootstrap.annotation.Component;
 import com.tenio.core.entity.Player;
 import com.tenio.core.exception.AddedDuplicatedClientCommandException;
+import com.tenio.core.monitoring.latency.LatencyTracker;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -44,6 +45,7 @@ public final class ClientCommandManager extends SystemLogger {
 
   private final Map<Short, AbstractClientCommandHandler<Player, DataCollection>> commands =
       new HashMap<>();
+  private volatile LatencyTracker latencyTracker;
 
   /**
    * Registers a command handler.
@@ -110,9 +112,26 @@ public final class ClientCommandManager extends SystemLogger {
       return;
     }
 
+    var tracker = latencyTracker;
+    long invokedTime = tracker != null ? tracker.now() : 0L;
+
     // invokes execute method for handler
     Runnable runnable = () -> handler.execute(player, message);
     runnable.run();
+
+    if (invokedTime != 0L) {
+      tracker.recordCommand(code, invokedTime);
+    }
+  }
+
+  /**
+   * Sets the tracker recording the latency of each command's handler.
+   *
+   * @param latencyTracker the {@link LatencyTracker}
+   * @since 0.7.4
+   */
+  public void setLatencyTracker(LatencyTracker latencyTracker) {
+    this.latencyTracker = latencyTracker;
   }
 
   /**
@@ -29,11 +29,13 @@ import com.tenio.common.utility.XmlUtility;
 import com.tenio.core.configuration.constant.CoreConstant;
 import com.tenio.core.configuration.define.CoreConfigurationType;
 import com.tenio.core.network.configuration.SocketConfiguration;
+import com.tenio.core.network.configuration.SocketTuning;
 import com.tenio.core.network.define.TransportType;
 import java.io.File;
 import java.io.InputStream;
 import java.util.HashMap;
 import org.w3c.dom.Document;
+import org.w3c.dom.NamedNodeMap;
 import org.w3c.dom.Node;
 
 /**
@@ -47,6 +49,7 @@ import org.w3c.dom.Node;
  *   <li>Support for custom configuration values</li>
  *   <li>Integration with common configuration</li>
  *   <li>Socket configuration management</li>
+ *   <li>Socket tuning profiles declared by the port's attributes</li>
  *   <li>Transport type configuration</li>
  * </ul>
  *
@@ -114,10 +117,12 @@ public abstract class CoreConfiguration extends CommonConfiguration {
       var cacheSizeNode = dataNode.getAttributes().getNamedItem("cacheSize");
       int cacheSize = cacheSizeNode != null ?
           Integer.parseInt(cacheSizeNode.getTextContent()) : 1; // The default value should be 1
+      var transportType =
+          TransportType.getByValue(dataNode.getAttributes().getNamedItem("type").getTextContent());
       var socketConfiguration =
           new SocketConfiguration(dataNode.getAttributes().getNamedItem("name").getTextContent(),
-              TransportType.getByValue(dataNode.getAttributes().getNamedItem("type").getTextContent()),
-              Integer.parseInt(dataNode.getTextContent()), cacheSize);
+              transportType, Integer.parseInt(dataNode.getTextContent()), cacheSize,
+              parseSocketTuning(transportType, dataNode.getAttributes()));
 
       if (socketConfiguration.type() == TransportType.TCP) {
         push(CoreConfigurationType.NETWORK_TCP, socketConfiguration);
@@ -168,4 +173,28 @@ public abstract class CoreConfiguration extends CommonConfiguration {
 
     extend(extProperties);
   }
+
+  private SocketTuning parseSocketTuning(TransportType transportType, NamedNodeMap attributes) {
+    // the absent attributes keep the default values of the transportation type
+    var defaultTuning = SocketTuning.getDefault(transportType);
+    return new SocketTuning(
+        parseBooleanAttribute(attributes, "tcpNoDelay", defaultTuning.tcpNoDelay()),
+        parseBooleanAttribute(attributes, "keepAlive", defaultTuning.keepAlive()),
+        parseIntAttribute(attributes, "receiveBufferSize", defaultTuning.receiveBufferSize()),
+        parseIntAttribute(attributes, "sendBufferSize", defaultTuning.sendBufferSize()),
+        parseIntAttribute(attributes, "backlog", defaultTuning.backlog()),
+        parseIntAttribute(attributes, "linger", defaultTuning.lingerInSeconds()),
+        parseIntAttribute(attributes, "trafficClass", defaultTuning.trafficClass()));
+  }
+
+  private boolean parseBooleanAttribute(NamedNodeMap attributes, String name,
+                                        boolean defaultValue) {
+    var node = attributes.getNamedItem(name);
+    return node != null ? Boolean.parseBoolean(node.getTextContent()) : defaultValue;
+  }
+
+  private int parseIntAttribute(NamedNodeMap attributes, String name, int defaultValue) {
+    var node = attributes.getNamedItem(name);
+    return node != null ? Integer.decode(node.getTextContent().trim()) : defaultValue;
+  }
 }
@@ -78,6 +78,14 @@ public final class CoreConstant {
    */
   public static final String DEFAULT_FW_LOG4J2_FILE = "log4j2.tenio.xml";
 
+  /**
+   * The flight recorder settings file shipped with the framework.
+   * It enables the TenIO events in a recording.
+   *
+   * @since 0.7.4
+   */
+  public static final String FLIGHT_RECORDER_PROFILE_FILE = "profile.tenio.jfc";
+
   /**
    * The expected user self-defined log4j2 setting file path.
    */
@@ -158,6 +166,13 @@ public final class CoreConstant {
    */
   public static final int DEFAULT_NUMBER_HTTP_WORKERS = 8;
 
+  /**
+   * The path of the HTTP endpoint exposing the server's metrics.
+   *
+   * @since 0.7.4
+   */
+  public static final String METRICS_ENDPOINT = "metrics";
+
   /**
    * Private constructor to prevent instantiation.
    * This class should not be instantiated as it contains only constants.
@@ -29,6 +29,9 @@ import com.tenio.core.configuration.CoreConfiguration;
 import com.tenio.core.entity.define.mode.PlayerDisconnectMode;
 import com.tenio.core.entity.define.mode.RoomRemoveMode;
 import com.tenio.core.exception.OutboundQueueFullException;
+import com.tenio.core.monitoring.latency.LatencyTracker;
+import com.tenio.core.network.define.SocketReaderAssignment;
+import com.tenio.core.network.entity.inbound.policy.RequestSheddingPolicy;
 import com.tenio.core.network.entity.outbound.packet.policy.OutboundQueuePolicy;
 import com.tenio.core.network.entity.session.Session;
 import java.util.HashMap;
@@ -209,6 +212,55 @@ public enum CoreConfigurationType implements ConfigurationType {
    * @since 0.5.0
    */
   PROP_MAX_PLAYER_IDLE_TIME_NEVER_DEPORTED("max-player-idle-time-never-deported"),
+  /**
+   * Determines whether the requests from the same sender should be processed in order by one
+   * processor worker at a time, idle workers then steal batches of requests from busy ones.
+   *
+   * @since 0.7.4
+   */
+  PROP_PROCESSOR_SESSION_AFFINITY("processor-session-affinity"),
+  /**
+   * Sets the acceptable time in milliseconds a request can wait in the processor's queue. When
+   * the waiting time stays above this target for an interval, low-priority requests are refused.
+   * Disable this feature by setting the value to {@code 0}.
+   *
+   * @see #PROP_PROCESSOR_SHEDDING_INTERVAL
+   * @since 0.7.4
+   */
+  PROP_PROCESSOR_SHEDDING_TARGET_SOJOURN_TIME("processor-shedding-target-sojourn-time"),
+  /**
+   * Sets the time in milliseconds the waiting time of requests must stay above the target
+   * before the processor starts refusing low-priority requests.
+   *
+   * @see #PROP_PROCESSOR_SHEDDING_TARGET_SOJOURN_TIME
+   * @since 0.7.4
+   */
+  PROP_PROCESSOR_SHEDDING_INTERVAL("processor-shedding-interval"),
+  /**
+   * Requests having their priority values greater than or equal to this value can be refused
+   * when the server is overloaded. This setting is used by the default shedding policy, when it
+   * is not defined, no request is refused.
+   *
+   * @see RequestSheddingPolicy
+   * @since 0.7.4
+   */
+  PROP_PROCESSOR_SHEDDING_MIN_PRIORITY("processor-shedding-min-priority"),
+  /**
+   * Tracks the latencies of the stages messages go through, from the socket reading to the
+   * socket writing, and of the client commands' handlers. It can be switched at runtime by the
+   * server's latency tracker.
+   *
+   * @see LatencyTracker
+   * @since 0.7.4
+   */
+  PROP_LATENCY_TRACKING("latency-tracking"),
+  /**
+   * Exposes the server's metrics on the {@code metrics} endpoint of the HTTP server, it is enabled
+   * by default whenever an HTTP port is declared.
+   *
+   * @since 0.7.4
+   */
+  NETWORK_PROP_HTTP_METRICS("http-metrics"),
   /**
    * Determines whether the WebSocket connection could use SSL configuration.
    */
@@ -221,6 +273,58 @@ public enum CoreConfigurationType implements ConfigurationType {
    * Sets packet handling buffer size in bytes for the WebSocket receiver.
    */
   NETWORK_PROP_WEBSOCKET_RECEIVER_BUFFER_SIZE("websocket-receiver-buffer-size"),
+  /**
+   * Sets the number of bytes pending in a WebSocket channel's outbound buffer below which the
+   * channel is writable again.
+   *
+   * @since 0.7.4
+   */
+  NETWORK_PROP_WEBSOCKET_WRITE_BUFFER_LOW_WATER_MARK("websocket-write-buffer-low-water-mark"),
+  /**
+   * Sets the number of bytes pending in a WebSocket channel's outbound buffer above which the
+   * channel is not writable, the following packets are parked in the session's outbound queue.
+   *
+   * @since 0.7.4
+   */
+  NETWORK_PROP_WEBSOCKET_WRITE_BUFFER_HIGH_WATER_MARK("websocket-write-buffer-high-water-mark"),
+  /**
+   * Negotiates the permessage-deflate extension with the WebSocket clients offering it. The packets
+   * sent to the clients which negotiated it skip the per-packet compression, the clients which
+   * declined it keep the per-packet compression.
+   *
+   * @since 0.7.4
+   */
+  NETWORK_PROP_WEBSOCKET_PERMESSAGE_DEFLATE("websocket-permessage-deflate"),
+  /**
+   * Sets the deflate compression level of the permessage-deflate extension, from 0 to 9.
+   *
+   * @since 0.7.4
+   */
+  NETWORK_PROP_WEBSOCKET_PERMESSAGE_DEFLATE_LEVEL("websocket-permessage-deflate-level"),
+  /**
+   * Sets the size of the clients' sliding window in bits, from 8 to 15. It only applies to the
+   * clients offering {@code client_max_window_bits}, the server's window follows the client's
+   * offer.
+   *
+   * @since 0.7.4
+   */
+  NETWORK_PROP_WEBSOCKET_PERMESSAGE_DEFLATE_CLIENT_WINDOW_BITS(
+      "websocket-permessage-deflate-client-window-bits"),
+  /**
+   * Determines whether the clients keep their compression context across the messages of a
+   * WebSocket channel. It only applies to the clients offering {@code client_no_context_takeover},
+   * the server resets its own context when the client asks for it.
+   *
+   * @since 0.7.4
+   */
+  NETWORK_PROP_WEBSOCKET_PERMESSAGE_DEFLATE_CLIENT_CONTEXT_TAKEOVER(
+      "websocket-permessage-deflate-client-context-takeover"),
+  /**
+   * Sets the minimum size of a WebSocket frame in bytes to be compressed.
+   *
+   * @since 0.7.4
+   */
+  NETWORK_PROP_WEBSOCKET_PERMESSAGE_DEFLATE_MIN_SIZE("websocket-permessage-deflate-min-size"),
   /**
    * Sets packet handling buffer size in bytes for the socket acceptor (Accepting new incoming
    * client sockets).
@@ -234,6 +338,35 @@ public enum CoreConfigurationType implements ConfigurationType {
    * Sets packet handling buffer size in bytes for the socket sender.
    */
   NETWORK_PROP_SOCKET_WRITER_BUFFER_SIZE("socket-writer-buffer-size"),
+  /**
+   * Determines whether the socket acceptor, readers and writers run as event loops on dedicated
+   * platform threads instead of virtual threads, so that blocking selections never pin carrier
+   * threads.
+   *
+   * @since 0.7.4
+   */
+  NETWORK_PROP_SOCKET_EVENT_LOOP("socket-event-loop"),
+  /**
+   * Sets the strategy to choose a socket reader for each newly accepted client socket.
+   *
+   * @see SocketReaderAssignment
+   * @since 0.7.4
+   */
+  NETWORK_PROP_SOCKET_READER_ASSIGNMENT("socket-reader-assignment"),
+  /**
+   * Determines whether the guaranteed UDP packets are retransmitted until they are acknowledged
+   * by clients (reliable UDP transport). The clients must speak the same ARQ protocol.
+   *
+   * @since 0.7.4
+   */
+  NETWORK_PROP_DATAGRAM_RELIABLE("datagram-reliable"),
+  /**
+   * Sets the maximum size in bytes of a datagram which bundles small UDP packets, the bundling is
+   * disabled if the value is less than or equals to 0.
+   *
+   * @since 0.7.4
+   */
+  NETWORK_PROP_DATAGRAM_BUNDLE_MTU("datagram-bundle-mtu"),
   /**
    * Sets packet compression threshold in bytes at that the packet will be compressed.
    */
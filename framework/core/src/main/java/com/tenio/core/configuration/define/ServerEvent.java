@@ -33,6 +33,7 @@ import com.tenio.core.handler.event.EventConnectionEstablishedResult;
 import com.tenio.core.handler.event.EventDisconnectPlayer;
 import com.tenio.core.handler.event.EventFetchedBandwidthInfo;
 import com.tenio.core.handler.event.EventFetchedCcuInfo;
+import com.tenio.core.handler.event.EventLatencyMonitoring;
 import com.tenio.core.handler.event.EventPlayerAfterLeftRoom;
 import com.tenio.core.handler.event.EventPlayerBeforeLeaveRoom;
 import com.tenio.core.handler.event.EventPlayerJoinedRoomResult;
@@ -41,6 +42,7 @@ import com.tenio.core.handler.event.EventPlayerConnectionRetry;
 import com.tenio.core.handler.event.EventPlayerConnectionResumed;
 import com.tenio.core.handler.event.EventPlayerSubscribedChannel;
 import com.tenio.core.handler.event.EventPlayerUnsubscribedChannel;
+import com.tenio.core.handler.event.EventProcessorMonitoring;
 import com.tenio.core.handler.event.EventReceivedMessageFromPlayer;
 import com.tenio.core.handler.event.EventRoomCreatedResult;
 import com.tenio.core.handler.event.EventRoomWillBeRemoved;
@@ -262,6 +264,21 @@ public enum ServerEvent {
    * @see EventSystemMonitoring
    */
   SYSTEM_MONITORING,
+  /**
+   * When the server provides information regarding the request processor.
+   *
+   * @see EventProcessorMonitoring
+   * @since 0.7.4
+   */
+  PROCESSOR_MONITORING,
+  /**
+   * When the server provides the latencies of the stages messages go through, it only happens
+   * while the latency tracking is on.
+   *
+   * @see EventLatencyMonitoring
+   * @since 0.7.4
+   */
+  LATENCY_MONITORING,
   /**
    * When the server is going to shut down.
    *
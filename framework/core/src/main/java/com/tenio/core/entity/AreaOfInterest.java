@@ -0,0 +1,158 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.entity;
+
+import com.tenio.core.entity.implement.GridAreaOfInterest;
+import com.tenio.core.exception.AddedDuplicatedPlayerException;
+import com.tenio.core.exception.RemovedNonExistentPlayerException;
+import com.tenio.core.network.entity.outbound.Response;
+import java.util.Collection;
+
+/**
+ * Manages the area of interest (AOI) of players in a large space, e.g. an open-world room. Each
+ * player registers its position and view radius, a player (the observer) sees another one (the
+ * subject) when the subject is within the observer's view radius. Broadcasts can then be sent to
+ * the players who can see their subject instead of everyone in the room.
+ *
+ * <p>Key features:
+ * <ul>
+ *   <li>Spatial queries of the players in range of a position</li>
+ *   <li>Incremental enter and leave events when players move, join or leave</li>
+ *   <li>Recipients resolution for responses, see
+ *   {@link Response#setRecipientsInRange(AreaOfInterest, Player)}</li>
+ * </ul>
+ *
+ * <p>Thread safety: Implementations of this interface should be thread-safe, the listener is
+ * notified on the thread which changes the area.
+ *
+ * @see GridAreaOfInterest
+ * @see AreaOfInterestListener
+ * @since 0.7.4
+ */
+public interface AreaOfInterest {
+
+  /**
+   * Sets the listener which is notified when players enter or leave the views of others.
+   *
+   * @param listener the {@link AreaOfInterestListener}, it can be {@code null}
+   */
+  void setListener(AreaOfInterestListener listener);
+
+  /**
+   * Registers a player.
+   *
+   * @param player     the {@link Player}
+   * @param x          the player's x coordinate
+   * @param y          the player's y coordinate
+   * @param viewRadius the player's view radius
+   * @throws AddedDuplicatedPlayerException when the player is already registered
+   */
+  void addPlayer(Player player, float x, float y, float viewRadius)
+      throws AddedDuplicatedPlayerException;
+
+  /**
+   * Moves a player, it has no effect if the player is not registered.
+   *
+   * @param player the {@link Player}
+   * @param x      the player's new x coordinate
+   * @param y      the player's new y coordinate
+   */
+  void updatePlayer(Player player, float x, float y);
+
+  /**
+   * Changes the view radius of a player, it has no effect if the player is not registered.
+   *
+   * @param player     the {@link Player}
+   * @param viewRadius the player's new view radius
+   */
+  void setViewRadius(Player player, float viewRadius);
+
+  /**
+   * Unregisters a player, the players which saw it and which it saw are notified to leave.
+   *
+   * @param player the {@link Player}
+   * @throws RemovedNonExistentPlayerException when the player is not registered
+   */
+  void removePlayer(Player player) throws RemovedNonExistentPlayerException;
+
+  /**
+   * Determines whether a player is registered.
+   *
+   * @param player the {@link Player}
+   * @return {@code true} if the player is registered, otherwise {@code false}
+   */
+  boolean containsPlayer(Player player);
+
+  /**
+   * Retrieves the number of registered players.
+   *
+   * @return the number of players
+   */
+  int getPlayerCount();
+
+  /**
+   * Adds the players within a distance of a position to a collection.
+   *
+   * @param x      the position's x coordinate
+   * @param y      the position's y coordinate
+   * @param radius the distance
+   * @param result the collection which the players are added to, it is not cleared
+   * @return the number of added players
+   */
+  int getPlayersInRange(float x, float y, float radius, Collection<Player> result);
+
+  /**
+   * Adds the players whose views contain a position to a collection.
+   *
+   * @param x      the position's x coordinate
+   * @param y      the position's y coordinate
+   * @param result the collection which the players are added to, it is not cleared
+   * @return the number of added players
+   */
+  int getViewers(float x, float y, Collection<Player> result);
+
+  /**
+   * Adds the players which see a player to a collection, the player itself is excluded.
+   *
+   * @param subject the {@link Player}
+   * @param result  the collection which the players are added to, it is not cleared
+   * @return the number of added players
+   */
+  int getObservers(Player subject, Collection<Player> result);
+
+  /**
+   * Adds the players which a player sees to a collection, the player itself is excluded.
+   *
+   * @param observer the {@link Player}
+   * @param result   the collection which the players are added to, it is not cleared
+   * @return the number of added players
+   */
+  int getVisiblePlayers(Player observer, Collection<Player> result);
+
+  /**
+   * Unregisters all players without notifying the listener.
+   */
+  void clear();
+}
@@ -0,0 +1,52 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.entity;
+
+/**
+ * The listener of an {@link AreaOfInterest}, it is notified when a player starts or stops seeing
+ * another one.
+ *
+ * @since 0.7.4
+ */
+public interface AreaOfInterestListener {
+
+  /**
+   * The subject entered the observer's view, e.g. the observer should be sent the subject's
+   * spawn.
+   *
+   * @param observer the {@link Player} which sees
+   * @param subject  the {@link Player} which is seen
+   */
+  void onEnter(Player observer, Player subject);
+
+  /**
+   * The subject left the observer's view, e.g. the observer should be told to despawn the
+   * subject.
+   *
+   * @param observer the {@link Player} which saw
+   * @param subject  the {@link Player} which was seen
+   */
+  void onLeave(Player observer, Player subject);
+}
@@ -44,7 +44,15 @@ public enum AccessDatagramChannelResult {
   /**
    * Accessing to a datagram channel is failed cause the session protocol is invalid.
    */
-  INVALID_SESSION_PROTOCOL;
+  INVALID_SESSION_PROTOCOL,
+  /**
+   * Accessing to a datagram channel is failed cause the server is overloaded and the request was
+   * refused by the load shedding. The requesting player is still resolved, so that it can be
+   * told.
+   *
+   * @since 0.7.4
+   */
+  SERVER_OVERLOADED;
 
   @Override
   public String toString() {
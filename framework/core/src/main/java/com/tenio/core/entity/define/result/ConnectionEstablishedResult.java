@@ -39,7 +39,16 @@ public enum ConnectionEstablishedResult {
    * <p>
    * <b>NOTE:</b> After this event emitted, the session will be <b>closed</b>.
    */
-  REACHED_MAX_CONNECTION;
+  REACHED_MAX_CONNECTION,
+  /**
+   * Connection fails to connect to the server because the server is overloaded and the request
+   * was refused by the load shedding.
+   * <p>
+   * <b>NOTE:</b> After this event emitted, the session will be <b>closed</b>.
+   *
+   * @since 0.7.4
+   */
+  SERVER_OVERLOADED;
 
   @Override
   public String toString() {
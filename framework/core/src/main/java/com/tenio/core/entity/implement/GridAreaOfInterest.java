@@ -0,0 +1,523 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.entity.implement;
+
+import com.tenio.core.entity.AreaOfInterest;
+import com.tenio.core.entity.AreaOfInterestListener;
+import com.tenio.core.entity.Player;
+import com.tenio.core.exception.AddedDuplicatedPlayerException;
+import com.tenio.core.exception.RemovedNonExistentPlayerException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Implementation of {@link AreaOfInterest} on a uniform grid of square cells. A query only visits
+ * the cells its range overlaps, the positions outside the space are kept in its border cells.
+ * The players each player sees and is seen by are kept, so a move only compares the players
+ * around the mover's new position with the ones it had before.
+ *
+ * <p>The cell size is best close to the usual view radius: smaller cells make the queries visit
+ * more cells, larger ones make them test more players.
+ *
+ * <p>Thread safety: the grid and the players it keeps are guarded by the instance's monitor, all
+ * the methods which read or change them synchronize on it. The listener is called once the
+ * monitor is released, so it can call back into the area. Its notifications are queued in the
+ * order of the changes and fired by one thread at a time, a thread which finds another one
+ * firing leaves its notifications to that thread.
+ *
+ * @since 0.7.4
+ */
+public final class GridAreaOfInterest implements AreaOfInterest {
+
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private final float width;
+  private final float height;
+  private final float cellSize;
+  private final int numCellsX;
+  private final int numCellsY;
+  private final Cell[] cells;
+  private final Map<Player, Integer> indices;
+  /**
+   * The players each player sees.
+   */
+  private final Map<Player, Set<Player>> visiblePlayers;
+  /**
+   * The players each player is seen by.
+   */
+  private final Map<Player, Set<Player>> observers;
+  /**
+   * The changes which wait to be fired to the listener.
+   */
+  private final Queue<Notification> notifications;
+  private final ReentrantLock notifying;
+  // The players and their positions, view radii, cells and slots in their cells by their indices
+  private Player[] players;
+  private float[] positionsX;
+  private float[] positionsY;
+  private float[] viewRadii;
+  private int[] playerCells;
+  private int[] playerSlots;
+  private int playerCount;
+  private float maxViewRadius;
+  private volatile AreaOfInterestListener listener;
+
+  private GridAreaOfInterest(float width, float height, float cellSize) {
+    if (!(width > 0) || !(height > 0) || !(cellSize > 0)) {
+      throw new IllegalArgumentException(String.format(
+          "Unable to create an area of interest, invalid size: %f x %f, cell size: %f", width,
+          height, cellSize));
+    }
+    this.width = width;
+    this.height = height;
+    this.cellSize = cellSize;
+    numCellsX = Math.max(1, (int) Math.ceil(width / cellSize));
+    numCellsY = Math.max(1, (int) Math.ceil(height / cellSize));
+    cells = new Cell[numCellsX * numCellsY];
+    for (int i = 0; i < cells.length; i++) {
+      cells[i] = new Cell();
+    }
+    indices = new HashMap<>();
+    visiblePlayers = new HashMap<>();
+    observers = new HashMap<>();
+    players = new Player[DEFAULT_CAPACITY];
+    positionsX = new float[DEFAULT_CAPACITY];
+    positionsY = new float[DEFAULT_CAPACITY];
+    viewRadii = new float[DEFAULT_CAPACITY];
+    playerCells = new int[DEFAULT_CAPACITY];
+    playerSlots = new int[DEFAULT_CAPACITY];
+    notifications = new ConcurrentLinkedQueue<>();
+    notifying = new ReentrantLock();
+  }
+
+  /**
+   * Creates a new area of interest.
+   *
+   * @param width    the width of the space
+   * @param height   the height of the space
+   * @param cellSize the size of each square cell
+   * @return a new instance of {@link AreaOfInterest}
+   */
+  public static AreaOfInterest newInstance(float width, float height, float cellSize) {
+    return new GridAreaOfInterest(width, height, cellSize);
+  }
+
+  @Override
+  public void setListener(AreaOfInterestListener listener) {
+    this.listener = listener;
+  }
+
+  @Override
+  public void addPlayer(Player player, float x, float y, float viewRadius)
+      throws AddedDuplicatedPlayerException {
+    synchronized (this) {
+      putPlayer(player, x, y, viewRadius);
+    }
+    fireNotifications();
+  }
+
+  private void putPlayer(Player player, float x, float y, float viewRadius) {
+    if (indices.containsKey(player)) {
+      throw new AddedDuplicatedPlayerException(player);
+    }
+    if (playerCount == players.length) {
+      int capacity = playerCount * 2;
+      players = Arrays.copyOf(players, capacity);
+      positionsX = Arrays.copyOf(positionsX, capacity);
+      positionsY = Arrays.copyOf(positionsY, capacity);
+      viewRadii = Arrays.copyOf(viewRadii, capacity);
+      playerCells = Arrays.copyOf(playerCells, capacity);
+      playerSlots = Arrays.copyOf(playerSlots, capacity);
+    }
+    int index = playerCount++;
+    int cell = getCellIndex(x, y);
+    players[index] = player;
+    positionsX[index] = x;
+    positionsY[index] = y;
+    viewRadii[index] = viewRadius;
+    playerCells[index] = cell;
+    playerSlots[index] = cells[cell].add(index);
+    indices.put(player, index);
+    visiblePlayers.put(player, new HashSet<>());
+    observers.put(player, new HashSet<>());
+    maxViewRadius = Math.max(maxViewRadius, viewRadius);
+
+    refreshVisiblePlayers(index);
+    refreshObservers(index);
+  }
+
+  @Override
+  public void updatePlayer(Player player, float x, float y) {
+    synchronized (this) {
+      movePlayer(player, x, y);
+    }
+    fireNotifications();
+  }
+
+  private void movePlayer(Player player, float x, float y) {
+    var index = indices.get(player);
+    if (index == null) {
+      return;
+    }
+    positionsX[index] = x;
+    positionsY[index] = y;
+    int cell = getCellIndex(x, y);
+    if (cell != playerCells[index]) {
+      removeFromCell(index);
+      playerCells[index] = cell;
+      playerSlots[index] = cells[cell].add(index);
+    }
+
+    refreshVisiblePlayers(index);
+    refreshObservers(index);
+  }
+
+  @Override
+  public void setViewRadius(Player player, float viewRadius) {
+    synchronized (this) {
+      changeViewRadius(player, viewRadius);
+    }
+    fireNotifications();
+  }
+
+  private void changeViewRadius(Player player, float viewRadius) {
+    var index = indices.get(player);
+    if (index == null) {
+      return;
+    }
+    float oldViewRadius = viewRadii[index];
+    viewRadii[index] = viewRadius;
+    if (viewRadius >= maxViewRadius) {
+      maxViewRadius = viewRadius;
+    } else if (oldViewRadius >= maxViewRadius) {
+      refreshMaxViewRadius();
+    }
+
+    refreshVisiblePlayers(index);
+  }
+
+  @Override
+  public void removePlayer(Player player) throws RemovedNonExistentPlayerException {
+    synchronized (this) {
+      takePlayer(player);
+    }
+    fireNotifications();
+  }
+
+  private void takePlayer(Player player) {
+    var index = indices.remove(player);
+    if (index == null) {
+      throw new RemovedNonExistentPlayerException(player.getIdentity());
+    }
+    for (var subject : visiblePlayers.remove(player)) {
+      observers.get(subject).remove(player);
+      queueNotification(false, player, subject);
+    }
+    for (var observer : observers.remove(player)) {
+      visiblePlayers.get(observer).remove(player);
+      queueNotification(false, observer, player);
+    }
+    float viewRadius = viewRadii[index];
+    removeFromCell(index);
+
+    // the last player takes the removed one's index, so the players stay packed
+    int last = --playerCount;
+    if (index != last) {
+      var moved = players[last];
+      players[index] = moved;
+      positionsX[index] = positionsX[last];
+      positionsY[index] = positionsY[last];
+      viewRadii[index] = viewRadii[last];
+      playerCells[index] = playerCells[last];
+      playerSlots[index] = playerSlots[last];
+      cells[playerCells[index]].members[playerSlots[index]] = index;
+      indices.put(moved, index);
+    }
+    players[last] = null;
+    if (viewRadius >= maxViewRadius) {
+      refreshMaxViewRadius();
+    }
+  }
+
+  @Override
+  public synchronized boolean containsPlayer(Player player) {
+    return indices.containsKey(player);
+  }
+
+  @Override
+  public synchronized int getPlayerCount() {
+    return playerCount;
+  }
+
+  @Override
+  public synchronized int getPlayersInRange(float x, float y, float radius,
+                                            Collection<Player> result) {
+    return collect(x, y, radius, false, null, result);
+  }
+
+  @Override
+  public synchronized int getViewers(float x, float y, Collection<Player> result) {
+    return collect(x, y, maxViewRadius, true, null, result);
+  }
+
+  @Override
+  public synchronized int getObservers(Player subject, Collection<Player> result) {
+    var players = observers.get(subject);
+    if (players == null) {
+      return 0;
+    }
+    result.addAll(players);
+    return players.size();
+  }
+
+  @Override
+  public synchronized int getVisiblePlayers(Player observer, Collection<Player> result) {
+    var players = visiblePlayers.get(observer);
+    if (players == null) {
+      return 0;
+    }
+    result.addAll(players);
+    return players.size();
+  }
+
+  @Override
+  public synchronized void clear() {
+    for (var cell : cells) {
+      cell.size = 0;
+    }
+    Arrays.fill(players, 0, playerCount, null);
+    playerCount = 0;
+    maxViewRadius = 0;
+    indices.clear();
+    visiblePlayers.clear();
+    observers.clear();
+  }
+
+  /**
+   * Compares the players a player sees now with the ones it saw, and notifies the changes.
+   *
+   * @param index the player's index
+   */
+  private void refreshVisiblePlayers(int index) {
+    var player = players[index];
+    Set<Player> inRange = new HashSet<>();
+    collect(positionsX[index], positionsY[index], viewRadii[index], false, player, inRange);
+
+    var visible = visiblePlayers.get(player);
+    var iterator = visible.iterator();
+    while (iterator.hasNext()) {
+      var subject = iterator.next();
+      if (!inRange.contains(subject)) {
+        iterator.remove();
+        observers.get(subject).remove(player);
+        queueNotification(false, player, subject);
+      }
+    }
+    for (var subject : inRange) {
+      if (visible.add(subject)) {
+        observers.get(subject).add(player);
+        queueNotification(true, player, subject);
+      }
+    }
+  }
+
+  /**
+   * Compares the players which see a player now with the ones which saw it, and notifies the
+   * changes.
+   *
+   * @param index the player's index
+   */
+  private void refreshObservers(int index) {
+    var player = players[index];
+    Set<Player> viewers = new HashSet<>();
+    collect(positionsX[index], positionsY[index], maxViewRadius, true, player, viewers);
+
+    var seenBy = observers.get(player);
+    var iterator = seenBy.iterator();
+    while (iterator.hasNext()) {
+      var observer = iterator.next();
+      if (!viewers.contains(observer)) {
+        iterator.remove();
+        visiblePlayers.get(observer).remove(player);
+        queueNotification(false, observer, player);
+      }
+    }
+    for (var observer : viewers) {
+      if (seenBy.add(observer)) {
+        visiblePlayers.get(observer).add(player);
+        queueNotification(true, observer, player);
+      }
+    }
+  }
+
+  /**
+   * Adds the players in range of a position to a collection.
+   *
+   * @param x        the position's x coordinate
+   * @param y        the position's y coordinate
+   * @param radius   the distance which the cells are visited in
+   * @param viewers  {@code true} if only the players whose view radii reach the position are
+   *                 added, otherwise the players within the distance
+   * @param excluded the player which is never added, it can be {@code null}
+   * @param result   the collection which the players are added to
+   * @return the number of added players
+   */
+  private int collect(float x, float y, float radius, boolean viewers, Player excluded,
+                      Collection<Player> result) {
+    if (!(radius >= 0)) {
+      return 0;
+    }
+    int left = getCellCoordinate(x - radius, numCellsX, width);
+    int right = getCellCoordinate(x + radius, numCellsX, width);
+    int top = getCellCoordinate(y - radius, numCellsY, height);
+    int bottom = getCellCoordinate(y + radius, numCellsY, height);
+
+    int count = 0;
+    for (int cellY = top; cellY <= bottom; cellY++) {
+      for (int cellX = left; cellX <= right; cellX++) {
+        var cell = cells[cellY * numCellsX + cellX];
+        for (int slot = 0; slot < cell.size; slot++) {
+          int member = cell.members[slot];
+          float dx = positionsX[member] - x;
+          float dy = positionsY[member] - y;
+          float limit = viewers ? viewRadii[member] : radius;
+          if (dx * dx + dy * dy <= limit * limit && players[member] != excluded) {
+            result.add(players[member]);
+            count++;
+          }
+        }
+      }
+    }
+    return count;
+  }
+
+  private int getCellCoordinate(float value, int numCells, float size) {
+    int coordinate = (int) Math.floor(Math.min(value, size) / cellSize);
+    return Math.max(0, Math.min(coordinate, numCells - 1));
+  }
+
+  private int getCellIndex(float x, float y) {
+    return getCellCoordinate(x, numCellsX, width)
+        + getCellCoordinate(y, numCellsY, height) * numCellsX;
+  }
+
+  private void removeFromCell(int index) {
+    var cell = cells[playerCells[index]];
+    int slot = playerSlots[index];
+    int last = --cell.size;
+    if (slot != last) {
+      // the last member takes the removed one's slot
+      int moved = cell.members[last];
+      cell.members[slot] = moved;
+      playerSlots[moved] = slot;
+    }
+  }
+
+  /**
+   * Queues a change for the listener, it is called with the caller's monitor held.
+   *
+   * @param entered  {@code true} if the subject entered the observer's view, otherwise it left
+   * @param observer the {@link Player} which sees
+   * @param subject  the {@link Player} which is seen
+   */
+  private void queueNotification(boolean entered, Player observer, Player subject) {
+    if (listener != null) {
+      notifications.add(new Notification(entered, observer, subject));
+    }
+  }
+
+  /**
+   * Fires the queued changes to the listener, it must be called without the monitor held.
+   */
+  private void fireNotifications() {
+    // checking the queue again once the lock is released picks up the notifications which were
+    // queued by a thread that found this one firing
+    while (!notifications.isEmpty() && notifying.tryLock()) {
+      try {
+        Notification notification;
+        while ((notification = notifications.poll()) != null) {
+          var currentListener = listener;
+          if (currentListener == null) {
+            continue;
+          }
+          if (notification.entered()) {
+            currentListener.onEnter(notification.observer(), notification.subject());
+          } else {
+            currentListener.onLeave(notification.observer(), notification.subject());
+          }
+        }
+      } finally {
+        notifying.unlock();
+      }
+    }
+  }
+
+  private void refreshMaxViewRadius() {
+    maxViewRadius = 0;
+    for (int i = 0; i < playerCount; i++) {
+      maxViewRadius = Math.max(maxViewRadius, viewRadii[i]);
+    }
+  }
+
+  @Override
+  public synchronized String toString() {
+    return "GridAreaOfInterest{" +
+        "width=" + width +
+        ", height=" + height +
+        ", cellSize=" + cellSize +
+        ", players=" + playerCount +
+        '}';
+  }
+
+  /**
+   * A change of who sees whom, which waits to be fired to the listener.
+   */
+  private record Notification(boolean entered, Player observer, Player subject) {
+  }
+
+  /**
+   * The indices of the players inhabiting a cell.
+   */
+  private static final class Cell {
+
+    private int[] members = new int[DEFAULT_CAPACITY];
+    private int size;
+
+    private int add(int member) {
+      if (size == members.length) {
+        members = Arrays.copyOf(members, size * 2);
+      }
+      members[size] = member;
+      return size++;
+    }
+  }
+}
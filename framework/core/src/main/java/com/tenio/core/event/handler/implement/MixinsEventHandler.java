@@ -30,9 +30,12 @@ import com.tenio.core.configuration.define.ServerEvent;
 import com.tenio.core.event.implement.EventManager;
 import com.tenio.core.handler.event.EventFetchedBandwidthInfo;
 import com.tenio.core.handler.event.EventFetchedCcuInfo;
+import com.tenio.core.handler.event.EventLatencyMonitoring;
+import com.tenio.core.handler.event.EventProcessorMonitoring;
 import com.tenio.core.handler.event.EventServerInitialization;
 import com.tenio.core.handler.event.EventServerTeardown;
 import com.tenio.core.handler.event.EventSystemMonitoring;
+import com.tenio.core.monitoring.latency.LatencyTracker;
 import java.util.Optional;
 
 /**
@@ -56,6 +59,12 @@ public final class MixinsEventHandler {
   @AutowiredAcceptNull
   private EventSystemMonitoring eventSystemMonitoring;
 
+  @AutowiredAcceptNull
+  private EventProcessorMonitoring eventProcessorMonitoring;
+
+  @AutowiredAcceptNull
+  private EventLatencyMonitoring eventLatencyMonitoring;
+
   /**
    * Initialization.
    *
@@ -74,6 +83,10 @@ public final class MixinsEventHandler {
         Optional.ofNullable(eventFetchedCcuInfo);
     final var eventSystemMonitoringOp =
         Optional.ofNullable(eventSystemMonitoring);
+    final var eventProcessorMonitoringOp =
+        Optional.ofNullable(eventProcessorMonitoring);
+    final var eventLatencyMonitoringOp =
+        Optional.ofNullable(eventLatencyMonitoring);
 
     eventServerInitializationOp.ifPresent(
         event -> eventManager.on(ServerEvent.SERVER_INITIALIZATION, params -> {
@@ -128,6 +141,28 @@ public final class MixinsEventHandler {
 
           event.onSystemMonitoring(cpuUsage, totalMemory, usedMemory, freeMemory, platformThreads);
 
+          return null;
+        }));
+
+    eventProcessorMonitoringOp.ifPresent(event -> eventManager.on(ServerEvent.PROCESSOR_MONITORING,
+        params -> {
+          long pendingRequests = (long) params[0];
+          long processedRequests = (long) params[1];
+          long stolenBatches = (long) params[2];
+          long shedRequests = (long) params[3];
+
+          event.onProcessorMonitoring(pendingRequests, processedRequests, stolenBatches,
+              shedRequests);
+
+          return null;
+        }));
+
+    eventLatencyMonitoringOp.ifPresent(event -> eventManager.on(ServerEvent.LATENCY_MONITORING,
+        params -> {
+          var latencyTracker = (LatencyTracker) params[0];
+
+          event.onLatencyMonitoring(latencyTracker);
+
           return null;
         }));
   }
@@ -0,0 +1,53 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.handler.event;
+
+import com.tenio.core.configuration.define.CoreConfigurationType;
+import com.tenio.core.monitoring.define.LatencyStage;
+import com.tenio.core.monitoring.latency.LatencyTracker;
+
+/**
+ * Monitoring the latencies of the stages messages go through on the server.
+ *
+ * @since 0.7.4
+ */
+@FunctionalInterface
+public interface EventLatencyMonitoring {
+
+  /**
+   * Monitoring the latencies on the server. The information is updated every interval time,
+   * together with the system information, but only while the latency tracking is on.
+   *
+   * @param latencyTracker the {@link LatencyTracker}, its histograms of the stages and of the
+   *                       client commands keep the latencies in nanoseconds since the server
+   *                       started, for instance, the 99th percentile of the handlers is
+   *                       {@code latencyTracker.getStageHistogram(LatencyStage.HANDLER)
+   *                       .getValueAtPercentile(99.0)}
+   * @see LatencyStage
+   * @see CoreConfigurationType#INTERVAL_SYSTEM_MONITORING
+   * @see CoreConfigurationType#PROP_LATENCY_TRACKING
+   */
+  void onLatencyMonitoring(LatencyTracker latencyTracker);
+}
@@ -0,0 +1,56 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.handler.event;
+
+import com.tenio.core.configuration.define.CoreConfigurationType;
+
+/**
+ * Monitoring the request processor information.
+ *
+ * @since 0.7.4
+ */
+@FunctionalInterface
+public interface EventProcessorMonitoring {
+
+  /**
+   * Monitoring the request processor on the server. The information should be frequently
+   * updated every interval time, together with the system information.
+   *
+   * @param pendingRequests   {@code long} value, the current number of requests waiting in the
+   *                          processor's queues
+   * @param processedRequests {@code long} value, the total number of processed requests
+   * @param stolenBatches     {@code long} value, the total number of request batches stolen by
+   *                          idle workers, it is always {@code 0} when the session affinity mode
+   *                          is disabled
+   * @param shedRequests      {@code long} value, the total number of requests refused by the
+   *                          load shedding, it is always {@code 0} when the load shedding is
+   *                          disabled
+   * @see CoreConfigurationType#INTERVAL_SYSTEM_MONITORING
+   * @see CoreConfigurationType#PROP_PROCESSOR_SESSION_AFFINITY
+   * @see CoreConfigurationType#PROP_PROCESSOR_SHEDDING_TARGET_SOJOURN_TIME
+   */
+  void onProcessorMonitoring(long pendingRequests, long processedRequests, long stolenBatches,
+                             long shedRequests);
+}
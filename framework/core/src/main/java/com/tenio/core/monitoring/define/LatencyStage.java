@@ -0,0 +1,88 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.monitoring.define;
+
+/**
+ * The stages a message goes through on the server, from the socket it is read from to the socket
+ * its responses are written to. Their latencies are recorded separately, so a jump of the overall
+ * latency can be located.
+ *
+ * @since 0.7.4
+ */
+public enum LatencyStage {
+
+  /**
+   * From the moment the bytes are read from a socket to the moment the framer starts working on
+   * them, it is the waiting time in the reader's hand-off queue.
+   */
+  READ("read"),
+  /**
+   * From the moment the framer starts working on the read bytes to the moment a whole packet is
+   * collected.
+   */
+  FRAME("frame"),
+  /**
+   * The time spent by the packet decoder to turn a framed packet into a message.
+   */
+  DECODE("decode"),
+  /**
+   * The waiting time of a message in its session's inbound queue.
+   */
+  INBOUND_QUEUE("inbound_queue"),
+  /**
+   * The time spent by the handlers of a message, it includes the user's handler of the received
+   * messages.
+   */
+  HANDLER("handler"),
+  /**
+   * The waiting time of a packet in its session's outbound queue.
+   */
+  OUTBOUND_QUEUE("outbound_queue"),
+  /**
+   * From the first attempt to write a packet to the moment its last byte is written on the
+   * socket.
+   */
+  WRITE("write");
+
+  private final String value;
+
+  LatencyStage(final String value) {
+    this.value = value;
+  }
+
+  /**
+   * Retrieves the stage's name used in the metrics' names.
+   *
+   * @return the {@link String} stage's name
+   */
+  public final String getValue() {
+    return this.value;
+  }
+
+  @Override
+  public String toString() {
+    return this.name();
+  }
+}
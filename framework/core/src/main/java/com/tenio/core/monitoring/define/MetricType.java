@@ -0,0 +1,66 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.monitoring.define;
+
+/**
+ * The types of metrics, as they are declared in the exposition format.
+ *
+ * @since 0.7.4
+ */
+public enum MetricType {
+
+  /**
+   * A value which only goes up, it is reset when the server restarts.
+   */
+  COUNTER("counter"),
+  /**
+   * A value which can go up and down.
+   */
+  GAUGE("gauge"),
+  /**
+   * The distribution of the observed values in buckets.
+   */
+  HISTOGRAM("histogram");
+
+  private final String value;
+
+  MetricType(final String value) {
+    this.value = value;
+  }
+
+  /**
+   * Retrieves the type's name used in the exposition format.
+   *
+   * @return the {@link String} type's name
+   */
+  public final String getValue() {
+    return this.value;
+  }
+
+  @Override
+  public String toString() {
+    return this.name();
+  }
+}
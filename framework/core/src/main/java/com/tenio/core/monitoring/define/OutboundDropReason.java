@@ -0,0 +1,68 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.monitoring.define;
+
+import com.tenio.core.exception.OutboundQueueFullException;
+import com.tenio.core.exception.OutboundQueuePolicyViolationException;
+import com.tenio.core.network.entity.outbound.packet.policy.OutboundQueuePolicy;
+
+/**
+ * The reasons an outbound packet is dropped before it reaches its session's queue.
+ *
+ * @see OutboundQueuePolicy
+ * @since 0.7.4
+ */
+public enum OutboundDropReason {
+
+  /**
+   * The queue has no more room, see {@link OutboundQueueFullException}.
+   */
+  QUEUE_FULL("queue_full"),
+  /**
+   * The packet's guarantee is too low for the current queue usage, see
+   * {@link OutboundQueuePolicyViolationException}.
+   */
+  POLICY_VIOLATION("policy_violation");
+
+  private final String value;
+
+  OutboundDropReason(final String value) {
+    this.value = value;
+  }
+
+  /**
+   * Retrieves the reason's value.
+   *
+   * @return the {@link String} reason's value
+   */
+  public final String getValue() {
+    return this.value;
+  }
+
+  @Override
+  public String toString() {
+    return this.name();
+  }
+}
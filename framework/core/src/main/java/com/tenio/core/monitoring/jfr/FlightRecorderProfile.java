@@ -0,0 +1,90 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.monitoring.jfr;
+
+import com.tenio.core.configuration.constant.CoreConstant;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.util.HashMap;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+/**
+ * The flight recorder settings profile shipped with the framework, see
+ * {@link CoreConstant#FLIGHT_RECORDER_PROFILE_FILE}. All TenIO events are disabled by default,
+ * they are only recorded when this profile is used, so the GC, lock contention and network
+ * behaviours can be correlated in one recording.
+ *
+ * <p>The profile can be passed to the JVM after it is extracted from the framework's jar, for
+ * example: {@code -XX:StartFlightRecording:settings=default,settings=profile.tenio.jfc}, or a
+ * recording can be started programmatically with {@link #newRecording()}.
+ *
+ * @since 0.7.4
+ */
+public final class FlightRecorderProfile {
+
+  private static final String JDK_DEFAULT_CONFIGURATION = "default";
+
+  private FlightRecorderProfile() {
+    throw new UnsupportedOperationException("This class does not support to create a new instance");
+  }
+
+  /**
+   * Retrieves the settings profile of TenIO events.
+   *
+   * @return the {@link Configuration} read from the profile file
+   * @throws IOException    if the profile file could not be read
+   * @throws ParseException if the profile file is not a valid settings file
+   */
+  public static Configuration getConfiguration() throws IOException, ParseException {
+    try (var profileStream = FlightRecorderProfile.class.getClassLoader()
+        .getResourceAsStream(CoreConstant.FLIGHT_RECORDER_PROFILE_FILE)) {
+      if (profileStream == null) {
+        throw new IOException("Unable to find the flight recorder profile: " +
+            CoreConstant.FLIGHT_RECORDER_PROFILE_FILE);
+      }
+      return Configuration.create(new InputStreamReader(profileStream, StandardCharsets.UTF_8));
+    }
+  }
+
+  /**
+   * Creates a new recording which uses the JDK default settings together with the TenIO events
+   * settings. The recording is not started yet.
+   *
+   * @return a new {@link Recording}
+   * @throws IOException    if one of the settings files could not be read
+   * @throws ParseException if one of the settings files is not valid
+   */
+  public static Recording newRecording() throws IOException, ParseException {
+    var settings =
+        new HashMap<>(Configuration.getConfiguration(JDK_DEFAULT_CONFIGURATION).getSettings());
+    settings.putAll(getConfiguration().getSettings());
+    var recording = new Recording(settings);
+    recording.setName("TenIO");
+    return recording;
+  }
+}
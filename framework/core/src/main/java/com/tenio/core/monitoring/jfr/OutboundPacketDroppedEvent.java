@@ -0,0 +1,98 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.monitoring.jfr;
+
+import com.tenio.core.monitoring.define.OutboundDropReason;
+import com.tenio.core.network.entity.outbound.packet.Packet;
+import com.tenio.core.network.entity.session.Session;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Percentage;
+import jdk.jfr.StackTrace;
+
+/**
+ * The flight recorder event which is committed when an outbound packet is dropped by its
+ * session's queue.
+ *
+ * @see OutboundDropReason
+ * @see FlightRecorderProfile
+ * @since 0.7.4
+ */
+@Name("com.tenio.core.OutboundPacketDropped")
+@Label("Outbound Packet Dropped")
+@Category({"TenIO", "Network"})
+@Description("An outbound packet has been dropped by its session's queue")
+@Enabled(false)
+@StackTrace(false)
+public final class OutboundPacketDroppedEvent extends jdk.jfr.Event {
+
+  @Label("Session Id")
+  private long sessionId;
+
+  @Label("Reason")
+  private String reason;
+
+  @Label("Guarantee")
+  private String guarantee;
+
+  @Label("Data Size")
+  @DataAmount
+  private int dataSize;
+
+  @Label("Queue Usage")
+  @Percentage
+  private float queueUsage;
+
+  /**
+   * Creates a new event, the instances are only created by {@link #emit}.
+   */
+  private OutboundPacketDroppedEvent() {
+  }
+
+  /**
+   * Commits a new event for the dropped packet if the event is enabled in the running
+   * recordings.
+   *
+   * @param session the {@link Session} which owns the queue
+   * @param packet  the dropped {@link Packet}
+   * @param reason  the {@link OutboundDropReason}
+   */
+  public static void emit(Session session, Packet packet, OutboundDropReason reason) {
+    var event = new OutboundPacketDroppedEvent();
+    if (event.shouldCommit()) {
+      event.sessionId = session.getId();
+      event.reason = reason.getValue();
+      event.guarantee = String.valueOf(packet.getGuarantee());
+      event.dataSize = packet.getOriginalSize();
+      var outboundQueue = session.fetchOutboundQueue();
+      event.queueUsage = outboundQueue != null ? outboundQueue.getPercentageUsed() / 100.0f : 0.0f;
+      event.commit();
+    }
+  }
+}
@@ -0,0 +1,113 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.monitoring.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The flight recorder event which covers the encoding of an outbound packet, the encryption and
+ * the compression included.
+ *
+ * @see FlightRecorderProfile
+ * @since 0.7.4
+ */
+@Name("com.tenio.core.PacketEncoded")
+@Label("Packet Encoded")
+@Category({"TenIO", "Network"})
+@Description("An outbound packet has been encoded")
+@Enabled(false)
+@StackTrace(false)
+public final class PacketEncodedEvent extends jdk.jfr.Event {
+
+  @Label("Original Size")
+  @Description("The size of packet's data before it is encoded")
+  @DataAmount
+  private int originalSize;
+
+  @Label("Encoded Size")
+  @Description("The size of the encoded packet, its header included")
+  @DataAmount
+  private int encodedSize;
+
+  @Label("Compressed")
+  private boolean compressed;
+
+  @Label("Encrypted")
+  private boolean encrypted;
+
+  @Label("Compression Ratio")
+  @Description("The compressed data size divided by the uncompressed one, 1 when the data is "
+      + "not compressed")
+  private float compressionRatio;
+
+  /**
+   * Creates a new event, the instances are only created by {@link #start()}.
+   */
+  private PacketEncodedEvent() {
+  }
+
+  /**
+   * Creates a new event and begins it if it is enabled in the running recordings.
+   *
+   * @return a new instance of {@link PacketEncodedEvent}
+   */
+  public static PacketEncodedEvent start() {
+    var event = new PacketEncodedEvent();
+    if (event.isEnabled()) {
+      event.begin();
+    }
+    return event;
+  }
+
+  /**
+   * Ends and commits the event if it is enabled in the running recordings.
+   *
+   * @param originalSize     the size of packet's data before it is encoded
+   * @param uncompressedSize the size of packet's data before the compression
+   * @param compressedSize   the size of packet's data after the compression, it equals to the
+   *                         uncompressed size when the data is not compressed
+   * @param encodedSize      the size of the encoded packet
+   * @param compressed       whether the data is compressed
+   * @param encrypted        whether the data is encrypted
+   */
+  public void commit(int originalSize, int uncompressedSize, int compressedSize,
+                     int encodedSize, boolean compressed, boolean encrypted) {
+    end();
+    if (shouldCommit()) {
+      this.originalSize = originalSize;
+      this.encodedSize = encodedSize;
+      this.compressed = compressed;
+      this.encrypted = encrypted;
+      compressionRatio = uncompressedSize > 0 ? (float) compressedSize / uncompressedSize : 1.0f;
+      commit();
+    }
+  }
+}
@@ -0,0 +1,101 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.monitoring.jfr;
+
+import com.tenio.core.network.codec.packet.PacketHeader;
+import com.tenio.core.network.entity.session.Session;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The flight recorder event which covers the decoding of a completely framed inbound packet.
+ * The event is begun right before the decoding and completed right after it.
+ *
+ * @see FlightRecorderProfile
+ * @since 0.7.4
+ */
+@Name("com.tenio.core.PacketFramed")
+@Label("Packet Framed")
+@Category({"TenIO", "Network"})
+@Description("An inbound packet has been framed and decoded")
+@Enabled(false)
+@StackTrace(false)
+public final class PacketFramedEvent extends jdk.jfr.Event {
+
+  @Label("Session Id")
+  private long sessionId;
+
+  @Label("Data Size")
+  @DataAmount
+  private int dataSize;
+
+  @Label("Compressed")
+  private boolean compressed;
+
+  @Label("Encrypted")
+  private boolean encrypted;
+
+  /**
+   * Creates a new event, the instances are only created by {@link #start()}.
+   */
+  private PacketFramedEvent() {
+  }
+
+  /**
+   * Creates a new event and begins it if it is enabled in the running recordings.
+   *
+   * @return a new instance of {@link PacketFramedEvent}
+   */
+  public static PacketFramedEvent start() {
+    var event = new PacketFramedEvent();
+    if (event.isEnabled()) {
+      event.begin();
+    }
+    return event;
+  }
+
+  /**
+   * Ends and commits the event if it is enabled in the running recordings.
+   *
+   * @param session      the {@link Session} which sent the packet
+   * @param packetHeader the packet's {@link PacketHeader}
+   * @param dataSize     the size of packet's data in bytes
+   */
+  public void commit(Session session, PacketHeader packetHeader, int dataSize) {
+    end();
+    if (shouldCommit()) {
+      sessionId = session.getId();
+      this.dataSize = dataSize;
+      compressed = packetHeader.isCompressed();
+      encrypted = packetHeader.isEncrypted();
+      commit();
+    }
+  }
+}
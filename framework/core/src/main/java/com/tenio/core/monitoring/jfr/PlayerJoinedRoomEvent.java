@@ -0,0 +1,93 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.monitoring.jfr;
+
+import com.tenio.core.entity.Player;
+import com.tenio.core.entity.Room;
+import com.tenio.core.entity.define.result.PlayerJoinedRoomResult;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The flight recorder event which is committed when a player attempts to join a room.
+ *
+ * @see PlayerLeftRoomEvent
+ * @see FlightRecorderProfile
+ * @since 0.7.4
+ */
+@Name("com.tenio.core.PlayerJoinedRoom")
+@Label("Player Joined Room")
+@Category({"TenIO", "Room"})
+@Description("A player has attempted to join a room")
+@Enabled(false)
+@StackTrace(false)
+public final class PlayerJoinedRoomEvent extends jdk.jfr.Event {
+
+  @Label("Player")
+  private String player;
+
+  @Label("Room Id")
+  private long roomId;
+
+  @Label("Spectator")
+  private boolean spectator;
+
+  @Label("Result")
+  private String result;
+
+  @Label("Room Players")
+  private int roomPlayers;
+
+  /**
+   * Creates a new event, the instances are only created by {@link #emit}.
+   */
+  private PlayerJoinedRoomEvent() {
+  }
+
+  /**
+   * Commits a new event for the attempt if the event is enabled in the running recordings.
+   *
+   * @param player    the joining {@link Player}
+   * @param room      the {@link Room}
+   * @param spectator whether the player joins as a spectator
+   * @param result    the {@link PlayerJoinedRoomResult}
+   */
+  public static void emit(Player player, Room room, boolean spectator,
+                          PlayerJoinedRoomResult result) {
+    var event = new PlayerJoinedRoomEvent();
+    if (event.shouldCommit()) {
+      event.player = player.getIdentity();
+      event.roomId = room.getId();
+      event.spectator = spectator;
+      event.result = String.valueOf(result);
+      event.roomPlayers = room.getSnapshotPlayerCount();
+      event.commit();
+    }
+  }
+}
@@ -0,0 +1,94 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.monitoring.jfr;
+
+import com.tenio.core.entity.Player;
+import com.tenio.core.entity.Room;
+import com.tenio.core.entity.define.mode.PlayerLeaveRoomMode;
+import com.tenio.core.entity.define.result.PlayerLeftRoomResult;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The flight recorder event which is committed when a player leaves a room.
+ *
+ * @see PlayerJoinedRoomEvent
+ * @see FlightRecorderProfile
+ * @since 0.7.4
+ */
+@Name("com.tenio.core.PlayerLeftRoom")
+@Label("Player Left Room")
+@Category({"TenIO", "Room"})
+@Description("A player has left a room")
+@Enabled(false)
+@StackTrace(false)
+public final class PlayerLeftRoomEvent extends jdk.jfr.Event {
+
+  @Label("Player")
+  private String player;
+
+  @Label("Room Id")
+  private long roomId;
+
+  @Label("Mode")
+  private String mode;
+
+  @Label("Result")
+  private String result;
+
+  @Label("Room Players")
+  private int roomPlayers;
+
+  /**
+   * Creates a new event, the instances are only created by {@link #emit}.
+   */
+  private PlayerLeftRoomEvent() {
+  }
+
+  /**
+   * Commits a new event for the leaving if the event is enabled in the running recordings.
+   *
+   * @param player the leaving {@link Player}
+   * @param room   the {@link Room}, it can be {@code null} when the player was not in any room
+   * @param mode   the {@link PlayerLeaveRoomMode}
+   * @param result the {@link PlayerLeftRoomResult}
+   */
+  public static void emit(Player player, Room room, PlayerLeaveRoomMode mode,
+                          PlayerLeftRoomResult result) {
+    var event = new PlayerLeftRoomEvent();
+    if (event.shouldCommit()) {
+      event.player = player.getIdentity();
+      event.roomId = room != null ? room.getId() : -1L;
+      event.mode = String.valueOf(mode);
+      event.result = String.valueOf(result);
+      event.roomPlayers = room != null ? room.getSnapshotPlayerCount() : 0;
+      event.commit();
+    }
+  }
+}
@@ -0,0 +1,87 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.monitoring.jfr;
+
+import com.tenio.core.network.entity.inbound.Request;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The flight recorder event which is committed when a processor takes a request out of its
+ * queue, it carries how long the request has waited there.
+ *
+ * @see FlightRecorderProfile
+ * @since 0.7.4
+ */
+@Name("com.tenio.core.ProcessorQueueWait")
+@Label("Processor Queue Wait")
+@Category({"TenIO", "Processor"})
+@Description("A request has been taken out of a processor queue")
+@Enabled(false)
+@StackTrace(false)
+public final class ProcessorQueueWaitEvent extends jdk.jfr.Event {
+
+  @Label("Processor")
+  private String processor;
+
+  @Label("Request Event")
+  private String requestEvent;
+
+  @Label("Priority")
+  private int priority;
+
+  @Label("Wait Time")
+  @Timespan(Timespan.MILLISECONDS)
+  private long waitTime;
+
+  /**
+   * Creates a new event, the instances are only created by {@link #emit}.
+   */
+  private ProcessorQueueWaitEvent() {
+  }
+
+  /**
+   * Commits a new event for the request if the event is enabled in the running recordings.
+   *
+   * @param processor   the processor's name
+   * @param request     the taken {@link Request}
+   * @param currentTime the current time in milliseconds
+   */
+  public static void emit(String processor, Request request, long currentTime) {
+    var event = new ProcessorQueueWaitEvent();
+    if (event.shouldCommit()) {
+      event.processor = processor;
+      event.requestEvent = String.valueOf(request.getEvent());
+      event.priority = request.getPriority();
+      event.waitTime = currentTime - request.getCreatedTimestamp();
+      event.commit();
+    }
+  }
+}
@@ -0,0 +1,99 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.monitoring.jfr;
+
+import com.tenio.core.entity.define.mode.ConnectionDisconnectMode;
+import com.tenio.core.entity.define.mode.PlayerDisconnectMode;
+import com.tenio.core.network.entity.session.Session;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The flight recorder event which is committed when a session is closed.
+ *
+ * @see SessionOpenedEvent
+ * @see FlightRecorderProfile
+ * @since 0.7.4
+ */
+@Name("com.tenio.core.SessionClosed")
+@Label("Session Closed")
+@Category({"TenIO", "Session"})
+@Description("A session has been closed")
+@Enabled(false)
+@StackTrace(false)
+public final class SessionClosedEvent extends jdk.jfr.Event {
+
+  @Label("Session Id")
+  private long sessionId;
+
+  @Label("Transport")
+  private String transport;
+
+  @Label("Connection Disconnect Mode")
+  private String connectionDisconnectMode;
+
+  @Label("Player Disconnect Mode")
+  private String playerDisconnectMode;
+
+  @Label("Lifetime")
+  @Timespan(Timespan.MILLISECONDS)
+  private long lifetime;
+
+  @Label("Dropped Packets")
+  private long droppedPackets;
+
+  /**
+   * Creates a new event, the instances are only created by {@link #emit}.
+   */
+  private SessionClosedEvent() {
+  }
+
+  /**
+   * Commits a new event for the session if the event is enabled in the running recordings.
+   *
+   * @param session                  the closed {@link Session}
+   * @param connectionDisconnectMode the {@link ConnectionDisconnectMode}
+   * @param playerDisconnectMode     the {@link PlayerDisconnectMode}
+   * @param closedTime               the closing time in milliseconds
+   */
+  public static void emit(Session session, ConnectionDisconnectMode connectionDisconnectMode,
+                          PlayerDisconnectMode playerDisconnectMode, long closedTime) {
+    var event = new SessionClosedEvent();
+    if (event.shouldCommit()) {
+      event.sessionId = session.getId();
+      event.transport = session.getTransportType().name();
+      event.connectionDisconnectMode = String.valueOf(connectionDisconnectMode);
+      event.playerDisconnectMode = String.valueOf(playerDisconnectMode);
+      event.lifetime = closedTime - session.getCreatedTime();
+      event.droppedPackets = session.getDroppedPackets();
+      event.commit();
+    }
+  }
+}
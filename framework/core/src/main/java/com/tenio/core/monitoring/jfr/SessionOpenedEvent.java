@@ -0,0 +1,75 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.monitoring.jfr;
+
+import com.tenio.core.network.entity.session.Session;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The flight recorder event which is committed when a session is activated.
+ *
+ * @see SessionClosedEvent
+ * @see FlightRecorderProfile
+ * @since 0.7.4
+ */
+@Name("com.tenio.core.SessionOpened")
+@Label("Session Opened")
+@Category({"TenIO", "Session"})
+@Description("A session has been activated")
+@Enabled(false)
+@StackTrace(false)
+public final class SessionOpenedEvent extends jdk.jfr.Event {
+
+  @Label("Session Id")
+  private long sessionId;
+
+  @Label("Transport")
+  private String transport;
+
+  /**
+   * Creates a new event, the instances are only created by {@link #emit}.
+   */
+  private SessionOpenedEvent() {
+  }
+
+  /**
+   * Commits a new event for the session if the event is enabled in the running recordings.
+   *
+   * @param session the activated {@link Session}
+   */
+  public static void emit(Session session) {
+    var event = new SessionOpenedEvent();
+    if (event.shouldCommit()) {
+      event.sessionId = session.getId();
+      event.transport = session.getTransportType().name();
+      event.commit();
+    }
+  }
+}
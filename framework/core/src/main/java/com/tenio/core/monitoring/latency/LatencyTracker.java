@@ -0,0 +1,231 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.monitoring.latency;
+
+import com.tenio.core.monitoring.define.LatencyStage;
+import com.tenio.core.monitoring.metric.Histogram;
+import com.tenio.core.monitoring.metric.HistogramFamily;
+import com.tenio.core.monitoring.metric.MetricRegistry;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
+
+/**
+ * Records the latencies of the stages a message goes through, and of the client commands'
+ * handlers, in histograms.
+ *
+ * <p>The tracking can be switched on and off at runtime. While it is off, {@link #now()} returns
+ * {@code 0} without reading the clock, the components do not stamp their messages and packets,
+ * and the timestamps taken before are ignored, so the only cost left on the hot paths is a
+ * volatile read.
+ *
+ * @see LatencyStage
+ * @since 0.7.4
+ */
+public final class LatencyTracker {
+
+  // the command histograms are indexed by the unsigned command codes, in pages which are only
+  // allocated for the used ranges of codes
+  private static final int PAGE_BITS = 8;
+  private static final int PAGE_SIZE = 1 << PAGE_BITS;
+  private static final int PAGE_MASK = PAGE_SIZE - 1;
+  private static final int NUMBER_OF_PAGES = (1 << Short.SIZE) >>> PAGE_BITS;
+
+  private final Histogram[] stageHistograms;
+  private final HistogramFamily commandHistogramFamily;
+  private final AtomicReferenceArray<AtomicReferenceArray<Histogram>> commandHistograms;
+  private volatile boolean enabled;
+
+  private LatencyTracker() {
+    var stages = LatencyStage.values();
+    stageHistograms = new Histogram[stages.length];
+    for (var stage : stages) {
+      stageHistograms[stage.ordinal()] = Histogram.newLatencyInstance(
+          "tenio_latency_" + stage.getValue() + "_seconds",
+          "The latency of the " + stage.getValue() + " stage of messages");
+    }
+    commandHistogramFamily = HistogramFamily.newLatencyInstance("tenio_latency_command_seconds",
+        "The latency of the handlers of the client commands", "command");
+    commandHistograms = new AtomicReferenceArray<>(NUMBER_OF_PAGES);
+  }
+
+  /**
+   * Creates a new disabled tracker.
+   *
+   * @return a new instance of {@link LatencyTracker}
+   */
+  public static LatencyTracker newInstance() {
+    return new LatencyTracker();
+  }
+
+  /**
+   * Determines whether the latencies are being tracked.
+   *
+   * @return {@code true} if the latencies are being tracked, otherwise {@code false}
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Switches the tracking on or off, it takes effect immediately.
+   *
+   * @param enabled sets it to {@code true} to track the latencies
+   */
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Retrieves a timestamp to start measuring a stage.
+   *
+   * @return the current {@link System#nanoTime()} value, or {@code 0} when the tracking is off
+   */
+  public long now() {
+    return enabled ? System.nanoTime() : 0L;
+  }
+
+  /**
+   * Records the latency of a stage which ends now.
+   *
+   * @param stage     the {@link LatencyStage}
+   * @param startTime the timestamp retrieved by {@link #now()} when the stage started, nothing is
+   *                  recorded if it is {@code 0}
+   */
+  public void record(LatencyStage stage, long startTime) {
+    if (startTime != 0L && enabled) {
+      stageHistograms[stage.ordinal()].record(System.nanoTime() - startTime);
+    }
+  }
+
+  /**
+   * Records the latency of a stage.
+   *
+   * @param stage     the {@link LatencyStage}
+   * @param startTime the timestamp retrieved by {@link #now()} when the stage started, nothing is
+   *                  recorded if it is {@code 0}
+   * @param endTime   the timestamp retrieved by {@link #now()} when the stage ended
+   */
+  public void record(LatencyStage stage, long startTime, long endTime) {
+    if (startTime != 0L && endTime != 0L) {
+      stageHistograms[stage.ordinal()].record(endTime - startTime);
+    }
+  }
+
+  /**
+   * Records the latency of a client command's handler which ends now.
+   *
+   * @param code      the command's code
+   * @param startTime the timestamp retrieved by {@link #now()} when the handler was invoked,
+   *                  nothing is recorded if it is {@code 0}
+   */
+  public void recordCommand(short code, long startTime) {
+    if (startTime != 0L && enabled) {
+      long latency = System.nanoTime() - startTime;
+      var histogram = getCommandHistogram(code);
+      if (histogram == null) {
+        histogram = createCommandHistogram(code);
+      }
+      histogram.record(latency);
+    }
+  }
+
+  /**
+   * Retrieves the histogram of a stage, its values are in nanoseconds.
+   *
+   * @param stage the {@link LatencyStage}
+   * @return the stage's {@link Histogram}
+   */
+  public Histogram getStageHistogram(LatencyStage stage) {
+    return stageHistograms[stage.ordinal()];
+  }
+
+  /**
+   * Retrieves the histogram of a client command, its values are in nanoseconds.
+   *
+   * @param code the command's code
+   * @return the command's {@link Histogram}, or {@code null} if nothing was recorded for it
+   */
+  public Histogram getCommandHistogram(short code) {
+    int index = Short.toUnsignedInt(code);
+    var page = commandHistograms.get(index >>> PAGE_BITS);
+    return page != null ? page.get(index & PAGE_MASK) : null;
+  }
+
+  /**
+   * Walks the histograms of the client commands which have been recorded.
+   *
+   * @param consumer the {@link BiConsumer} receiving each command's code and histogram
+   */
+  public void forEachCommandHistogram(BiConsumer<Short, Histogram> consumer) {
+    for (int pageIndex = 0; pageIndex < NUMBER_OF_PAGES; pageIndex++) {
+      var page = commandHistograms.get(pageIndex);
+      if (page == null) {
+        continue;
+      }
+      for (int i = 0; i < PAGE_SIZE; i++) {
+        var histogram = page.get(i);
+        if (histogram != null) {
+          consumer.accept((short) ((pageIndex << PAGE_BITS) | i), histogram);
+        }
+      }
+    }
+  }
+
+  /**
+   * Publishes the histograms into a metric registry. The histograms of the client commands are
+   * exposed as one histogram labelled by the command's code.
+   *
+   * @param metricRegistry the {@link MetricRegistry}
+   */
+  public void registerMetrics(MetricRegistry metricRegistry) {
+    for (var histogram : stageHistograms) {
+      metricRegistry.register(histogram);
+    }
+    metricRegistry.register(commandHistogramFamily);
+  }
+
+  private synchronized Histogram createCommandHistogram(short code) {
+    int index = Short.toUnsignedInt(code);
+    var page = commandHistograms.get(index >>> PAGE_BITS);
+    if (page == null) {
+      page = new AtomicReferenceArray<>(PAGE_SIZE);
+      commandHistograms.set(index >>> PAGE_BITS, page);
+    }
+    var histogram = page.get(index & PAGE_MASK);
+    if (histogram == null) {
+      histogram = commandHistogramFamily.add(String.valueOf(code));
+      page.set(index & PAGE_MASK, histogram);
+    }
+    return histogram;
+  }
+
+  @Override
+  public String toString() {
+    return "LatencyTracker{" +
+        "enabled=" + enabled +
+        ", commands=" + commandHistogramFamily.size() +
+        '}';
+  }
+}
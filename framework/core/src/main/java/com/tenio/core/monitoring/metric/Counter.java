@@ -0,0 +1,129 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.monitoring.metric;
+
+import com.tenio.core.monitoring.define.MetricType;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * A monotonic counter. It either owns a lock-free adder, or reads a value which is already counted
+ * somewhere else, for instance by a network statistic, so nothing is counted twice on the hot
+ * paths.
+ *
+ * @since 0.7.4
+ */
+public final class Counter implements Metric {
+
+  private final String name;
+  private final String help;
+  private final LongAdder adder;
+  private final LongSupplier source;
+
+  private Counter(String name, String help, LongAdder adder, LongSupplier source) {
+    this.name = name;
+    this.help = help;
+    this.adder = adder;
+    this.source = source;
+  }
+
+  /**
+   * Creates a new counter owning its value.
+   *
+   * @param name the counter's name
+   * @param help the counter's description
+   * @return a new instance of {@link Counter}
+   */
+  public static Counter newInstance(String name, String help) {
+    var adder = new LongAdder();
+    return new Counter(name, help, adder, adder::sum);
+  }
+
+  /**
+   * Creates a new counter reading its value from another source.
+   *
+   * @param name   the counter's name
+   * @param help   the counter's description
+   * @param source the source of the counter's value
+   * @return a new instance of {@link Counter} which cannot be increased directly
+   */
+  public static Counter newInstance(String name, String help, LongSupplier source) {
+    return new Counter(name, help, null, source);
+  }
+
+  /**
+   * Increases the counter by one.
+   *
+   * @throws UnsupportedOperationException when the counter reads its value from another source
+   */
+  public void increment() {
+    add(1L);
+  }
+
+  /**
+   * Increases the counter.
+   *
+   * @param value the non-negative value to add
+   * @throws UnsupportedOperationException when the counter reads its value from another source
+   */
+  public void add(long value) {
+    if (adder == null) {
+      throw new UnsupportedOperationException("The counter " + name + " is read from its source");
+    }
+    adder.add(value);
+  }
+
+  /**
+   * Retrieves the current value.
+   *
+   * @return the current value
+   */
+  public long get() {
+    return source.getAsLong();
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public String getHelp() {
+    return help;
+  }
+
+  @Override
+  public MetricType getType() {
+    return MetricType.COUNTER;
+  }
+
+  @Override
+  public String toString() {
+    return "Counter{" +
+        "name='" + name + '\'' +
+        ", value=" + get() +
+        '}';
+  }
+}
@@ -0,0 +1,91 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.monitoring.metric;
+
+import com.tenio.core.monitoring.define.MetricType;
+import java.util.function.DoubleSupplier;
+
+/**
+ * A value which can go up and down. It is sampled from its source only when the metrics are
+ * scraped.
+ *
+ * @since 0.7.4
+ */
+public final class Gauge implements Metric {
+
+  private final String name;
+  private final String help;
+  private final DoubleSupplier source;
+
+  private Gauge(String name, String help, DoubleSupplier source) {
+    this.name = name;
+    this.help = help;
+    this.source = source;
+  }
+
+  /**
+   * Creates a new gauge.
+   *
+   * @param name   the gauge's name
+   * @param help   the gauge's description
+   * @param source the source of the gauge's value, it must be cheap and must not block
+   * @return a new instance of {@link Gauge}
+   */
+  public static Gauge newInstance(String name, String help, DoubleSupplier source) {
+    return new Gauge(name, help, source);
+  }
+
+  /**
+   * Retrieves the current value.
+   *
+   * @return the current value
+   */
+  public double get() {
+    return source.getAsDouble();
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public String getHelp() {
+    return help;
+  }
+
+  @Override
+  public MetricType getType() {
+    return MetricType.GAUGE;
+  }
+
+  @Override
+  public String toString() {
+    return "Gauge{" +
+        "name='" + name + '\'' +
+        ", value=" + get() +
+        '}';
+  }
+}
@@ -0,0 +1,262 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.monitoring.metric;
+
+import com.tenio.core.monitoring.define.MetricType;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram with log-linear buckets, in the manner of HdrHistogram. Every power of
+ * two range is split into {@value #SUB_BUCKET_COUNT} linear sub-buckets, so any recorded value is
+ * known within 12.5% of its real value, while recording is only an index computation and an atomic
+ * increment. The values are recorded as {@code long} in their own unit (nanoseconds for latencies)
+ * and converted by a scale (to seconds for latencies) when they are exposed.
+ *
+ * @since 0.7.4
+ */
+public final class Histogram implements Metric {
+
+  /**
+   * The number of bits used to split a power of two range.
+   */
+  static final int SUB_BUCKET_BITS = 3;
+
+  /**
+   * The number of linear sub-buckets in a power of two range.
+   */
+  static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+  /**
+   * The scale converting nanoseconds to seconds.
+   */
+  public static final double NANOSECONDS_TO_SECONDS = 1e-9;
+
+  /**
+   * The default highest value tracked by latency histograms, 60 seconds in nanoseconds.
+   */
+  public static final long DEFAULT_HIGHEST_TRACKABLE_NANOSECONDS = 60_000_000_000L;
+
+  private static final int SUB_BUCKET_MASK = SUB_BUCKET_COUNT - 1;
+
+  private final String name;
+  private final String help;
+  private final double scale;
+  private final AtomicLongArray counts;
+  private final LongAdder sum;
+  private final LongAccumulator max;
+
+  private Histogram(String name, String help, long highestTrackableValue, double scale) {
+    if (highestTrackableValue < SUB_BUCKET_COUNT) {
+      throw new IllegalArgumentException(
+          "The highest trackable value must be greater than or equals to " + SUB_BUCKET_COUNT);
+    }
+    this.name = name;
+    this.help = help;
+    this.scale = scale;
+    counts = new AtomicLongArray(getBucketIndex(highestTrackableValue) + 1);
+    sum = new LongAdder();
+    max = new LongAccumulator(Math::max, 0L);
+  }
+
+  /**
+   * Creates a new histogram.
+   *
+   * @param name                  the histogram's name
+   * @param help                  the histogram's description
+   * @param highestTrackableValue the highest value kept in its own bucket, the greater values
+   *                              are counted in the last bucket
+   * @param scale                 the factor converting a recorded value to the exposed unit
+   * @return a new instance of {@link Histogram}
+   */
+  public static Histogram newInstance(String name, String help, long highestTrackableValue,
+                                      double scale) {
+    return new Histogram(name, help, highestTrackableValue, scale);
+  }
+
+  /**
+   * Creates a new histogram recording latencies in nanoseconds, they are exposed in seconds.
+   *
+   * @param name the histogram's name
+   * @param help the histogram's description
+   * @return a new instance of {@link Histogram}
+   */
+  public static Histogram newLatencyInstance(String name, String help) {
+    return new Histogram(name, help, DEFAULT_HIGHEST_TRACKABLE_NANOSECONDS,
+        NANOSECONDS_TO_SECONDS);
+  }
+
+  /**
+   * Retrieves the bucket's index of a value.
+   *
+   * @param value a non-negative value
+   * @return the bucket's index
+   */
+  static int getBucketIndex(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+    int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    return ((shift + 1) << SUB_BUCKET_BITS) + (int) ((value >>> shift) & SUB_BUCKET_MASK);
+  }
+
+  /**
+   * Retrieves the highest value (inclusive) which falls in a bucket.
+   *
+   * @param index the bucket's index
+   * @return the bucket's upper bound
+   */
+  static long getBucketUpperBound(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    int shift = (index >>> SUB_BUCKET_BITS) - 1;
+    long lowerBound = (long) (SUB_BUCKET_COUNT + (index & SUB_BUCKET_MASK)) << shift;
+    return lowerBound + (1L << shift) - 1;
+  }
+
+  /**
+   * Determines whether a bucket closes a power of two range. Only these buckets are exposed, so a
+   * scrape stays short while the percentiles are still computed from every bucket.
+   *
+   * @param index the bucket's index
+   * @return {@code true} if the bucket is the last one of its range
+   */
+  static boolean isExposedBucket(int index) {
+    return (index & SUB_BUCKET_MASK) == SUB_BUCKET_MASK;
+  }
+
+  /**
+   * Records a value.
+   *
+   * @param value the value, negative values are recorded as 0
+   */
+  public void record(long value) {
+    if (value < 0L) {
+      value = 0L;
+    }
+    counts.incrementAndGet(Math.min(getBucketIndex(value), counts.length() - 1));
+    sum.add(value);
+    max.accumulate(value);
+  }
+
+  /**
+   * Retrieves the number of recorded values.
+   *
+   * @return the number of recorded values
+   */
+  public long getCount() {
+    long count = 0L;
+    for (int i = 0; i < counts.length(); i++) {
+      count += counts.get(i);
+    }
+    return count;
+  }
+
+  /**
+   * Retrieves the sum of recorded values, in their own unit.
+   *
+   * @return the sum of recorded values
+   */
+  public long getSum() {
+    return sum.sum();
+  }
+
+  /**
+   * Retrieves the greatest recorded value, in its own unit.
+   *
+   * @return the greatest recorded value
+   */
+  public long getMax() {
+    return max.get();
+  }
+
+  /**
+   * Retrieves the value below which a percentage of the recorded values fall. The result is the
+   * upper bound of the bucket where the percentile is, but never more than the greatest value.
+   *
+   * @param percentile the percentile, from 0 to 100
+   * @return the value at the percentile, in its own unit, or 0 if nothing is recorded
+   */
+  public long getValueAtPercentile(double percentile) {
+    long total = getCount();
+    if (total == 0L) {
+      return 0L;
+    }
+    long target = Math.max(1L, (long) Math.ceil(Math.min(percentile, 100.0) / 100.0 * total));
+    long cumulative = 0L;
+    for (int i = 0; i < counts.length(); i++) {
+      cumulative += counts.get(i);
+      if (cumulative >= target) {
+        return Math.min(getBucketUpperBound(i), getMax());
+      }
+    }
+    return getMax();
+  }
+
+  /**
+   * Retrieves the factor converting a recorded value to the exposed unit.
+   *
+   * @return the scale
+   */
+  public double getScale() {
+    return scale;
+  }
+
+  int getNumberOfBuckets() {
+    return counts.length();
+  }
+
+  long getBucketCount(int index) {
+    return counts.get(index);
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public String getHelp() {
+    return help;
+  }
+
+  @Override
+  public MetricType getType() {
+    return MetricType.HISTOGRAM;
+  }
+
+  @Override
+  public String toString() {
+    return "Histogram{" +
+        "name='" + name + '\'' +
+        ", count=" + getCount() +
+        ", p50=" + getValueAtPercentile(50.0) +
+        ", p99=" + getValueAtPercentile(99.0) +
+        ", max=" + getMax() +
+        '}';
+  }
+}
@@ -0,0 +1,150 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.monitoring.metric;
+
+import com.tenio.core.monitoring.define.MetricType;
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * A family of histograms sharing one name, they are told apart by the value of a single label,
+ * for instance the latencies of the client commands labelled by the command's code. The family is
+ * registered once, the histograms added later are exposed without touching the registry.
+ *
+ * @since 0.7.4
+ */
+public final class HistogramFamily implements Metric {
+
+  private static final String[] NO_LABEL_VALUES = new String[0];
+  private static final Histogram[] NO_HISTOGRAMS = new Histogram[0];
+
+  private final String name;
+  private final String help;
+  private final String labelName;
+  private final long highestTrackableValue;
+  private final double scale;
+  private volatile String[] labelValues;
+  private volatile Histogram[] histograms;
+
+  private HistogramFamily(String name, String help, String labelName, long highestTrackableValue,
+                          double scale) {
+    this.name = name;
+    this.help = help;
+    this.labelName = labelName;
+    this.highestTrackableValue = highestTrackableValue;
+    this.scale = scale;
+    labelValues = NO_LABEL_VALUES;
+    histograms = NO_HISTOGRAMS;
+  }
+
+  /**
+   * Creates a new family of histograms recording latencies in nanoseconds, they are exposed in
+   * seconds.
+   *
+   * @param name      the family's name
+   * @param help      the family's description
+   * @param labelName the name of the label telling the histograms apart
+   * @return a new instance of {@link HistogramFamily}
+   */
+  public static HistogramFamily newLatencyInstance(String name, String help, String labelName) {
+    return new HistogramFamily(name, help, labelName,
+        Histogram.DEFAULT_HIGHEST_TRACKABLE_NANOSECONDS, Histogram.NANOSECONDS_TO_SECONDS);
+  }
+
+  /**
+   * Adds a new histogram to the family. The callers are expected to keep the returned histogram
+   * and to add each label value only once.
+   *
+   * @param labelValue the label's value of the new histogram
+   * @return the new {@link Histogram}
+   */
+  public synchronized Histogram add(String labelValue) {
+    var histogram = Histogram.newInstance(name, help, highestTrackableValue, scale);
+    int size = histograms.length;
+    var newLabelValues = Arrays.copyOf(labelValues, size + 1);
+    var newHistograms = Arrays.copyOf(histograms, size + 1);
+    newLabelValues[size] = labelValue;
+    newHistograms[size] = histogram;
+    // the histograms are written last and read first, so a reader never sees one without its label
+    labelValues = newLabelValues;
+    histograms = newHistograms;
+    return histogram;
+  }
+
+  /**
+   * Retrieves the name of the label telling the histograms apart.
+   *
+   * @return the {@link String} label's name
+   */
+  public String getLabelName() {
+    return labelName;
+  }
+
+  /**
+   * Retrieves the number of histograms in the family.
+   *
+   * @return the number of histograms
+   */
+  public int size() {
+    return histograms.length;
+  }
+
+  /**
+   * Walks the histograms of the family in their adding order.
+   *
+   * @param consumer the {@link BiConsumer} receiving each label's value and histogram
+   */
+  public void forEach(BiConsumer<String, Histogram> consumer) {
+    var currentHistograms = histograms;
+    var currentLabelValues = labelValues;
+    for (int i = 0; i < currentHistograms.length; i++) {
+      consumer.accept(currentLabelValues[i], currentHistograms[i]);
+    }
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public String getHelp() {
+    return help;
+  }
+
+  @Override
+  public MetricType getType() {
+    return MetricType.HISTOGRAM;
+  }
+
+  @Override
+  public String toString() {
+    return "HistogramFamily{" +
+        "name='" + name + '\'' +
+        ", labelName='" + labelName + '\'' +
+        ", labelValues=" + Arrays.toString(labelValues) +
+        '}';
+  }
+}
@@ -0,0 +1,215 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.monitoring.metric;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * The registry that the server's components publish their metrics into. A metric is registered
+ * once, at start-up, then only its own lock-free value is touched by the hot paths. The scrapes
+ * walk an immutable array of the registered metrics, so they never block a registration nor are
+ * blocked by one.
+ *
+ * @since 0.7.4
+ */
+public final class MetricRegistry {
+
+  private static final Pattern NAME_PATTERN = Pattern.compile("[a-zA-Z_:][a-zA-Z0-9_:]*");
+  private static final Metric[] EMPTY = new Metric[0];
+
+  private final Map<String, Metric> metrics;
+  private volatile Metric[] snapshot;
+
+  private MetricRegistry() {
+    metrics = new ConcurrentHashMap<>();
+    snapshot = EMPTY;
+  }
+
+  /**
+   * Creates a new registry.
+   *
+   * @return a new instance of {@link MetricRegistry}
+   */
+  public static MetricRegistry newInstance() {
+    return new MetricRegistry();
+  }
+
+  /**
+   * Registers a counter owning its value.
+   *
+   * @param name the counter's name
+   * @param help the counter's description
+   * @return the new {@link Counter}, or the registered one with the same name
+   * @throws IllegalArgumentException when the name is invalid or taken by another kind of metric
+   */
+  public Counter counter(String name, String help) {
+    return register(name, Counter.class, () -> Counter.newInstance(name, help));
+  }
+
+  /**
+   * Registers a counter reading its value from another source.
+   *
+   * @param name   the counter's name
+   * @param help   the counter's description
+   * @param source the source of the counter's value
+   * @return the new {@link Counter}, or the registered one with the same name
+   * @throws IllegalArgumentException when the name is invalid or taken by another kind of metric
+   */
+  public Counter counter(String name, String help, LongSupplier source) {
+    return register(name, Counter.class, () -> Counter.newInstance(name, help, source));
+  }
+
+  /**
+   * Registers a gauge.
+   *
+   * @param name   the gauge's name
+   * @param help   the gauge's description
+   * @param source the source of the gauge's value, it must be cheap and must not block
+   * @return the new {@link Gauge}, or the registered one with the same name
+   * @throws IllegalArgumentException when the name is invalid or taken by another kind of metric
+   */
+  public Gauge gauge(String name, String help, DoubleSupplier source) {
+    return register(name, Gauge.class, () -> Gauge.newInstance(name, help, source));
+  }
+
+  /**
+   * Registers a histogram recording latencies in nanoseconds, they are exposed in seconds.
+   *
+   * @param name the histogram's name
+   * @param help the histogram's description
+   * @return the new {@link Histogram}, or the registered one with the same name
+   * @throws IllegalArgumentException when the name is invalid or taken by another kind of metric
+   */
+  public Histogram latencyHistogram(String name, String help) {
+    return register(name, Histogram.class, () -> Histogram.newLatencyInstance(name, help));
+  }
+
+  /**
+   * Registers a histogram.
+   *
+   * @param name                  the histogram's name
+   * @param help                  the histogram's description
+   * @param highestTrackableValue the highest value kept in its own bucket
+   * @param scale                 the factor converting a recorded value to the exposed unit
+   * @return the new {@link Histogram}, or the registered one with the same name
+   * @throws IllegalArgumentException when the name is invalid or taken by another kind of metric
+   */
+  public Histogram histogram(String name, String help, long highestTrackableValue, double scale) {
+    return register(name, Histogram.class,
+        () -> Histogram.newInstance(name, help, highestTrackableValue, scale));
+  }
+
+  /**
+   * Registers a metric which is created and owned by another component, for instance the
+   * histograms of the latency tracker.
+   *
+   * @param metric the {@link Metric} to register
+   * @throws IllegalArgumentException when the name is invalid or taken by another metric
+   */
+  public synchronized void register(Metric metric) {
+    var existing = checkName(metric.getName());
+    if (existing == metric) {
+      return;
+    }
+    if (existing != null) {
+      throw new IllegalArgumentException(
+          "The metric " + metric.getName() + " is already registered");
+    }
+    add(metric);
+  }
+
+  /**
+   * Retrieves a registered metric.
+   *
+   * @param name the metric's name
+   * @return the {@link Metric}, or {@code null} if there is no metric with the name
+   */
+  public Metric getMetric(String name) {
+    return metrics.get(name);
+  }
+
+  /**
+   * Retrieves the number of registered metrics.
+   *
+   * @return the number of registered metrics
+   */
+  public int size() {
+    return snapshot.length;
+  }
+
+  /**
+   * Walks the registered metrics in their registration order.
+   *
+   * @param consumer the {@link Consumer} receiving each metric
+   */
+  public void forEach(Consumer<Metric> consumer) {
+    for (Metric metric : snapshot) {
+      consumer.accept(metric);
+    }
+  }
+
+  private synchronized <T extends Metric> T register(String name, Class<T> clazz,
+                                                     Supplier<T> creator) {
+    var existing = checkName(name);
+    if (existing != null) {
+      if (!clazz.isInstance(existing)) {
+        throw new IllegalArgumentException(
+            "The metric " + name + " is already registered as a " + existing.getType());
+      }
+      return clazz.cast(existing);
+    }
+    var metric = creator.get();
+    add(metric);
+    return metric;
+  }
+
+  private Metric checkName(String name) {
+    if (name == null || !NAME_PATTERN.matcher(name).matches()) {
+      throw new IllegalArgumentException("Invalid metric name: " + name);
+    }
+    return metrics.get(name);
+  }
+
+  private void add(Metric metric) {
+    metrics.put(metric.getName(), metric);
+    var metricsArray = Arrays.copyOf(snapshot, snapshot.length + 1);
+    metricsArray[snapshot.length] = metric;
+    snapshot = metricsArray;
+  }
+
+  @Override
+  public String toString() {
+    return "MetricRegistry{" +
+        "metrics=" + metrics.keySet() +
+        '}';
+  }
+}
@@ -0,0 +1,164 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.monitoring.metric;
+
+/**
+ * Writes the metrics of a registry in the Prometheus text exposition format (version 0.0.4),
+ * which is also accepted by OpenMetrics scrapers. Numbers are appended straight to the given
+ * builder, so a scrape allocates nothing once the builder has grown to the registry's size.
+ *
+ * @since 0.7.4
+ */
+public final class MetricTextFormat {
+
+  /**
+   * The content type of the exposition format.
+   */
+  public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+  private MetricTextFormat() {
+    throw new UnsupportedOperationException("This class does not support to create a new instance");
+  }
+
+  /**
+   * Appends all metrics of a registry.
+   *
+   * @param registry the {@link MetricRegistry}
+   * @param builder  the {@link StringBuilder} receiving the text
+   */
+  public static void write(MetricRegistry registry, StringBuilder builder) {
+    registry.forEach(metric -> write(metric, builder));
+  }
+
+  /**
+   * Appends a metric.
+   *
+   * @param metric  the {@link Metric}
+   * @param builder the {@link StringBuilder} receiving the text
+   */
+  public static void write(Metric metric, StringBuilder builder) {
+    var name = metric.getName();
+    builder.append("# HELP ").append(name).append(' ');
+    appendEscapedHelp(metric.getHelp(), builder);
+    builder.append('\n');
+    builder.append("# TYPE ").append(name).append(' ').append(metric.getType().getValue())
+        .append('\n');
+
+    switch (metric) {
+      case Counter counter -> builder.append(name).append(' ').append(counter.get()).append('\n');
+      case Gauge gauge -> {
+        builder.append(name).append(' ');
+        appendDouble(gauge.get(), builder);
+        builder.append('\n');
+      }
+      case Histogram histogram -> writeHistogram(histogram, null, null, builder);
+      case HistogramFamily family -> family.forEach((labelValue, histogram) ->
+          writeHistogram(histogram, family.getLabelName(), labelValue, builder));
+      default -> throw new IllegalArgumentException("Unsupported metric: " + metric.getType());
+    }
+  }
+
+  private static void writeHistogram(Histogram histogram, String labelName, String labelValue,
+                                     StringBuilder builder) {
+    var name = histogram.getName();
+    double scale = histogram.getScale();
+    int numberOfBuckets = histogram.getNumberOfBuckets();
+    // the exposed buckets are cumulative, the count is taken from the same pass so that it always
+    // equals the "+Inf" bucket even while values are being recorded
+    long cumulative = 0L;
+    for (int i = 0; i < numberOfBuckets; i++) {
+      cumulative += histogram.getBucketCount(i);
+      if (Histogram.isExposedBucket(i) && i < numberOfBuckets - 1) {
+        builder.append(name).append("_bucket{");
+        appendLabel(labelName, labelValue, ',', builder);
+        builder.append("le=\"");
+        appendDouble(Histogram.getBucketUpperBound(i) * scale, builder);
+        builder.append("\"} ").append(cumulative).append('\n');
+      }
+    }
+    builder.append(name).append("_bucket{");
+    appendLabel(labelName, labelValue, ',', builder);
+    builder.append("le=\"+Inf\"} ").append(cumulative).append('\n');
+    builder.append(name).append("_sum");
+    appendLabels(labelName, labelValue, builder);
+    builder.append(' ');
+    appendDouble(histogram.getSum() * scale, builder);
+    builder.append('\n');
+    builder.append(name).append("_count");
+    appendLabels(labelName, labelValue, builder);
+    builder.append(' ').append(cumulative).append('\n');
+  }
+
+  private static void appendLabels(String labelName, String labelValue, StringBuilder builder) {
+    if (labelName != null) {
+      builder.append('{');
+      appendLabel(labelName, labelValue, '}', builder);
+    }
+  }
+
+  private static void appendLabel(String labelName, String labelValue, char ending,
+                                  StringBuilder builder) {
+    if (labelName == null) {
+      return;
+    }
+    builder.append(labelName).append("=\"");
+    for (int i = 0; i < labelValue.length(); i++) {
+      char character = labelValue.charAt(i);
+      if (character == '\\' || character == '"') {
+        builder.append('\\').append(character);
+      } else if (character == '\n') {
+        builder.append("\\n");
+      } else {
+        builder.append(character);
+      }
+    }
+    builder.append('"').append(ending);
+  }
+
+  private static void appendDouble(double value, StringBuilder builder) {
+    if (Double.isNaN(value)) {
+      builder.append("NaN");
+    } else if (Double.isInfinite(value)) {
+      builder.append(value > 0 ? "+Inf" : "-Inf");
+    } else if (value == (long) value) {
+      builder.append((long) value);
+    } else {
+      builder.append(value);
+    }
+  }
+
+  private static void appendEscapedHelp(String help, StringBuilder builder) {
+    for (int i = 0; i < help.length(); i++) {
+      char character = help.charAt(i);
+      if (character == '\\') {
+        builder.append("\\\\");
+      } else if (character == '\n') {
+        builder.append("\\n");
+      } else {
+        builder.append(character);
+      }
+    }
+  }
+}
@@ -25,6 +25,7 @@ THE SOFTWARE.
 package com.tenio.core.monitoring.system;
 
 import com.sun.management.OperatingSystemMXBean;
+import com.tenio.core.monitoring.metric.MetricRegistry;
 import com.tenio.core.utility.ZeroUtility;
 import java.lang.management.ManagementFactory;
 
@@ -121,6 +122,29 @@ public final class SystemMonitoring {
     return Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
   }
 
+  /**
+   * Publishes the system's gauges into a metric registry. They are sampled by each scrape without
+   * touching the baseline of {@link #getCpuUsage()}, and the thread count is read from the thread
+   * MX bean instead of walking every thread's stack.
+   *
+   * @param metricRegistry the {@link MetricRegistry}
+   * @since 0.7.4
+   */
+  public void registerMetrics(MetricRegistry metricRegistry) {
+    var threadMxBean = ManagementFactory.getThreadMXBean();
+    metricRegistry.gauge("tenio_system_cpu_usage",
+        "The recent CPU usage of the server's process, from 0 to 1",
+        () -> Math.max(0.0D, operatingSystemMxBean.getProcessCpuLoad()));
+    metricRegistry.gauge("tenio_system_memory_total_bytes",
+        "The memory currently reserved by the JVM", this::getTotalMemory);
+    metricRegistry.gauge("tenio_system_memory_used_bytes",
+        "The memory currently used by the JVM", this::getUsedMemory);
+    metricRegistry.gauge("tenio_system_memory_free_bytes",
+        "The memory which can still be used by the JVM", this::getFreeMemory);
+    metricRegistry.gauge("tenio_system_threads",
+        "The number of live platform threads", threadMxBean::getThreadCount);
+  }
+
   @Override
   public String toString() {
     return String.format(
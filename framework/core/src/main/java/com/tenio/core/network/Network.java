@@ -24,7 +24,13 @@ THE SOFTWARE.
 
 package com.tenio.core.network;
 
+import com.tenio.core.monitoring.latency.LatencyTracker;
+import com.tenio.core.network.configuration.DatagramBundleConfiguration;
+import com.tenio.core.network.configuration.PerMessageDeflateConfiguration;
+import com.tenio.core.network.configuration.WebSocketWriteBufferConfiguration;
+import com.tenio.core.network.configuration.ReliableDatagramConfiguration;
 import com.tenio.core.network.configuration.SocketConfiguration;
+import com.tenio.core.network.define.SocketReaderAssignment;
 import com.tenio.core.network.entity.outbound.packet.OutboundQueue;
 import com.tenio.core.network.entity.outbound.packet.policy.DefaultOutboundQueuePolicy;
 import com.tenio.core.network.entity.outbound.packet.policy.OutboundQueuePolicy;
@@ -33,6 +39,7 @@ import com.tenio.core.network.entity.session.Session;
 import com.tenio.core.network.entity.session.manager.SessionManager;
 import com.tenio.core.network.security.filter.ConnectionFilter;
 import com.tenio.core.network.security.filter.DefaultConnectionFilter;
+import com.tenio.core.network.statistic.EventLoopStatistic;
 import com.tenio.core.network.statistic.NetworkReaderStatistic;
 import com.tenio.core.network.statistic.NetworkWriterStatistic;
 import com.tenio.core.network.codec.decoder.BinaryPacketDecoder;
@@ -41,6 +48,7 @@ import com.tenio.core.network.zero.engine.reader.policy.DatagramPacketPolicy;
 import com.tenio.core.service.Service;
 import jakarta.servlet.http.HttpServlet;
 import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -134,6 +142,28 @@ public interface Network extends Service {
    */
   void setWebSocketUsingSsl(boolean usingSsl);
 
+  /**
+   * Sets the write buffer water marks of the WebSocket channels. A session whose channel is
+   * above the high water mark has its packets parked in its outbound queue, so they are subject
+   * to the {@link OutboundQueuePolicy} like the ones of socket sessions.
+   *
+   * @param writeBufferConfiguration the {@link WebSocketWriteBufferConfiguration}
+   * @since 0.7.4
+   */
+  void setWebSocketWriteBufferConfiguration(
+      WebSocketWriteBufferConfiguration writeBufferConfiguration);
+
+  /**
+   * Enables the permessage-deflate extension for the WebSocket clients that negotiate it. The
+   * frames are then compressed by the transport, so the WebSocket packets are not compressed by
+   * the packet compressor anymore.
+   *
+   * @param perMessageDeflateConfiguration the {@link PerMessageDeflateConfiguration}
+   * @since 0.7.4
+   */
+  void setWebSocketPerMessageDeflateConfiguration(
+      PerMessageDeflateConfiguration perMessageDeflateConfiguration);
+
   /**
    * Declares the server IP address.
    *
@@ -277,6 +307,50 @@ public interface Network extends Service {
    */
   void setDatagramPacketPolicy(DatagramPacketPolicy datagramPacketPolicy);
 
+  /**
+   * Determines whether the socket (TCP/UDP) engines run their workers as event loops on dedicated
+   * platform threads instead of virtual threads.
+   *
+   * @param enabled sets it {@code true} to use platform threads, otherwise {@code false}
+   * @since 0.7.4
+   */
+  void setSocketEventLoopEnabled(boolean enabled);
+
+  /**
+   * Sets the strategy to choose a socket reader for each newly accepted client socket.
+   *
+   * @param socketReaderAssignment the {@link SocketReaderAssignment} value
+   * @since 0.7.4
+   */
+  void setSocketReaderAssignment(SocketReaderAssignment socketReaderAssignment);
+
+  /**
+   * Enables the reliable UDP transport. The UDP packets with
+   * {@link com.tenio.core.network.define.ResponseGuarantee#GUARANTEED} or
+   * {@link com.tenio.core.network.define.ResponseGuarantee#GUARANTEED_QUICKEST} are retransmitted
+   * until they are acknowledged, the others are still sent once.
+   *
+   * @param reliableDatagramConfiguration the {@link ReliableDatagramConfiguration}, {@code null}
+   *                                      to keep sending every UDP packet once
+   * @since 0.7.4
+   */
+  void setDatagramReliableConfiguration(
+      ReliableDatagramConfiguration reliableDatagramConfiguration);
+
+  /**
+   * Enables the bundling of small outbound UDP packets. The unreliable UDP packets queued for the
+   * same session are coalesced into one datagram up to the maximum transmission unit, clients
+   * must unbundle the datagrams which have the
+   * {@link com.tenio.core.network.codec.packet.PacketHeaderType#BUNDLE} header.
+   *
+   * @param datagramBundleConfiguration the {@link DatagramBundleConfiguration}, {@code null} to
+   *                                    send each UDP packet in its own datagram
+   * @see com.tenio.core.network.codec.CodecUtility#unbundle(byte[], int,
+   * java.util.function.Consumer)
+   * @since 0.7.4
+   */
+  void setDatagramBundleConfiguration(DatagramBundleConfiguration datagramBundleConfiguration);
+
   /**
    * Retrieves the session manager instance.
    *
@@ -300,6 +374,34 @@ public interface Network extends Service {
    */
   NetworkWriterStatistic getNetworkWriterStatistic();
 
+  /**
+   * Retrieves the tracker recording the latencies of the stages the messages go through, from
+   * the socket reading to the socket writing.
+   *
+   * @return a {@link LatencyTracker} instance
+   * @since 0.7.4
+   */
+  LatencyTracker getLatencyTracker();
+
+  /**
+   * Retrieves the statistics of all running socket readers, one for each reader's loop. They
+   * show how many channels, bytes and how much busy time each loop is handling.
+   *
+   * @return an unmodifiable {@link List} of {@link EventLoopStatistic}
+   * @since 0.7.4
+   */
+  List<EventLoopStatistic> getSocketReaderEventLoopStatistics();
+
+  /**
+   * Retrieves the statistics of all running datagram readers, one for each UDP lane. They show
+   * how many packets and bytes each lane is reading, so an unbalanced kernel flow hashing can be
+   * spotted.
+   *
+   * @return an unmodifiable {@link List} of {@link EventLoopStatistic}
+   * @since 0.7.4
+   */
+  List<EventLoopStatistic> getDatagramReaderEventLoopStatistics();
+
   /**
    * Writes down (binaries) data to socket/channel in order to send them to clients side.
    *
@@ -27,7 +27,13 @@ package com.tenio.core.network;
 import com.tenio.core.configuration.define.ServerEvent;
 import com.tenio.core.event.implement.EventManager;
 import com.tenio.core.manager.AbstractManager;
+import com.tenio.core.monitoring.latency.LatencyTracker;
+import com.tenio.core.network.configuration.DatagramBundleConfiguration;
+import com.tenio.core.network.configuration.PerMessageDeflateConfiguration;
+import com.tenio.core.network.configuration.WebSocketWriteBufferConfiguration;
+import com.tenio.core.network.configuration.ReliableDatagramConfiguration;
 import com.tenio.core.network.configuration.SocketConfiguration;
+import com.tenio.core.network.define.SocketReaderAssignment;
 import com.tenio.core.network.define.TransportType;
 import com.tenio.core.network.entity.outbound.packet.Packet;
 import com.tenio.core.network.entity.outbound.packet.implement.PacketImpl;
@@ -40,6 +46,7 @@ import com.tenio.core.network.jetty.JettyHttp;
 import com.tenio.core.network.netty.NettyWebSocket;
 import com.tenio.core.network.netty.NettyWebSocketImpl;
 import com.tenio.core.network.security.filter.ConnectionFilter;
+import com.tenio.core.network.statistic.EventLoopStatistic;
 import com.tenio.core.network.statistic.NetworkReaderStatistic;
 import com.tenio.core.network.statistic.NetworkWriterStatistic;
 import com.tenio.core.network.zero.ZeroSocket;
@@ -49,6 +56,7 @@ import com.tenio.core.network.codec.encoder.BinaryPacketEncoder;
 import com.tenio.core.network.zero.engine.reader.policy.DatagramPacketPolicy;
 import jakarta.servlet.http.HttpServlet;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -64,6 +72,7 @@ public final class NetworkImpl extends AbstractManager implements Network {
   private final ZeroSocket socketService;
   private final NetworkReaderStatistic networkReaderStatistic;
   private final NetworkWriterStatistic networkWriterStatistic;
+  private final LatencyTracker latencyTracker;
   private boolean initialized;
 
   private boolean httpServiceInitialized;
@@ -82,6 +91,7 @@ public final class NetworkImpl extends AbstractManager implements Network {
     sessionManager = SessionManagerImpl.newInstance(eventManager);
     networkReaderStatistic = NetworkReaderStatistic.newInstance();
     networkWriterStatistic = NetworkWriterStatistic.newInstance();
+    latencyTracker = LatencyTracker.newInstance();
 
     httpService = JettyHttp.newInstance(eventManager);
     webSocketService = NettyWebSocketImpl.newInstance(eventManager);
@@ -112,6 +122,9 @@ public final class NetworkImpl extends AbstractManager implements Network {
     socketService.setSessionManager(sessionManager);
     socketService.setNetworkReaderStatistic(networkReaderStatistic);
     socketService.setNetworkWriterStatistic(networkWriterStatistic);
+    socketService.setLatencyTracker(latencyTracker);
+
+    sessionManager.configureLatencyTracker(latencyTracker);
 
     if (httpServiceInitialized) {
       httpService.initialize();
@@ -219,6 +232,18 @@ public final class NetworkImpl extends AbstractManager implements Network {
     webSocketService.setUsingSsl(usingSsl);
   }
 
+  @Override
+  public void setWebSocketWriteBufferConfiguration(
+      WebSocketWriteBufferConfiguration writeBufferConfiguration) {
+    webSocketService.setWriteBufferConfiguration(writeBufferConfiguration);
+  }
+
+  @Override
+  public void setWebSocketPerMessageDeflateConfiguration(
+      PerMessageDeflateConfiguration perMessageDeflateConfiguration) {
+    webSocketService.setPerMessageDeflateConfiguration(perMessageDeflateConfiguration);
+  }
+
   @Override
   public void setSocketAcceptorServerAddress(String serverAddress) {
     socketService.setAcceptorServerAddress(serverAddress);
@@ -316,6 +341,28 @@ public final class NetworkImpl extends AbstractManager implements Network {
     socketService.setDatagramPacketPolicy(datagramPacketPolicy);
   }
 
+  @Override
+  public void setSocketEventLoopEnabled(boolean enabled) {
+    socketService.setEventLoopEnabled(enabled);
+  }
+
+  @Override
+  public void setSocketReaderAssignment(SocketReaderAssignment socketReaderAssignment) {
+    socketService.setReaderAssignment(socketReaderAssignment);
+  }
+
+  @Override
+  public void setDatagramReliableConfiguration(
+      ReliableDatagramConfiguration reliableDatagramConfiguration) {
+    socketService.setReliableDatagramConfiguration(reliableDatagramConfiguration);
+  }
+
+  @Override
+  public void setDatagramBundleConfiguration(
+      DatagramBundleConfiguration datagramBundleConfiguration) {
+    socketService.setDatagramBundleConfiguration(datagramBundleConfiguration);
+  }
+
   @Override
   public SessionManager getSessionManager() {
     return sessionManager;
@@ -331,6 +378,21 @@ public final class NetworkImpl extends AbstractManager implements Network {
     return networkWriterStatistic;
   }
 
+  @Override
+  public LatencyTracker getLatencyTracker() {
+    return latencyTracker;
+  }
+
+  @Override
+  public List<EventLoopStatistic> getSocketReaderEventLoopStatistics() {
+    return socketService.getReaderEventLoopStatistics();
+  }
+
+  @Override
+  public List<EventLoopStatistic> getDatagramReaderEventLoopStatistics() {
+    return socketService.getDatagramReaderEventLoopStatistics();
+  }
+
   @Override
   public void write(Response response, boolean markedAsLast) {
     var message = response.getContent();
@@ -27,6 +27,7 @@ package com.tenio.core.network.codec;
 import com.tenio.common.data.DataType;
 import com.tenio.core.network.codec.packet.PacketHeader;
 import com.tenio.core.network.codec.packet.PacketHeaderType;
+import java.util.function.Consumer;
 
 /**
  * The utility class provides methods to work with packet and binary data.
@@ -38,6 +39,20 @@ public final class CodecUtility {
    */
   private static final byte DATA_TYPE_MASK = 0b00000011;
 
+  /**
+   * The number of bytes used to prefix each packet in a bundle with its length.
+   *
+   * @since 0.7.4
+   */
+  public static final int BUNDLE_ENTRY_LENGTH_BYTES = 2;
+
+  /**
+   * The maximum size of a packet which can be put in a bundle.
+   *
+   * @since 0.7.4
+   */
+  public static final int MAXIMUM_BUNDLE_ENTRY_SIZE = 0xFFFF;
+
   private CodecUtility() {
     throw new UnsupportedOperationException("This class does not support to create new instance");
   }
@@ -112,4 +127,52 @@ public final class CodecUtility {
 
     return headerByte;
   }
+
+  /**
+   * Determines whether a datagram is a bundle of several packets.
+   *
+   * @param headerByte the first {@code byte} of the datagram
+   * @return {@code true} if the datagram is a bundle, otherwise {@code false}
+   * @since 0.7.4
+   */
+  public static boolean isBundle(byte headerByte) {
+    return (headerByte & PacketHeaderType.BUNDLE.getValue()) != 0;
+  }
+
+  /**
+   * Splits a bundle into its packets. The bundle starts with a {@link PacketHeaderType#BUNDLE}
+   * header byte, then each packet (its own header byte included) is prefixed by its length in
+   * {@link #BUNDLE_ENTRY_LENGTH_BYTES} bytes, big-endian.
+   *
+   * @param datagram the received datagram
+   * @param length   the number of valid bytes in the datagram
+   * @param consumer receives each packet in the order they were bundled
+   * @return the number of packets found in the bundle
+   * @throws IllegalArgumentException when the datagram is not a bundle or it is truncated, the
+   *                                  packets found before the broken one are still delivered
+   * @since 0.7.4
+   */
+  public static int unbundle(byte[] datagram, int length, Consumer<byte[]> consumer) {
+    if (length <= 0 || length > datagram.length || !isBundle(datagram[0])) {
+      throw new IllegalArgumentException("The datagram is not a bundle");
+    }
+    int count = 0;
+    int position = 1;
+    while (position < length) {
+      if (position + BUNDLE_ENTRY_LENGTH_BYTES > length) {
+        throw new IllegalArgumentException("Truncated bundle entry length at: " + position);
+      }
+      int entryLength = ((datagram[position] & 0xFF) << 8) | (datagram[position + 1] & 0xFF);
+      position += BUNDLE_ENTRY_LENGTH_BYTES;
+      if (entryLength == 0 || position + entryLength > length) {
+        throw new IllegalArgumentException("Invalid bundle entry length: " + entryLength);
+      }
+      byte[] entry = new byte[entryLength];
+      System.arraycopy(datagram, position, entry, 0, entryLength);
+      position += entryLength;
+      consumer.accept(entry);
+      count++;
+    }
+    return count;
+  }
 }
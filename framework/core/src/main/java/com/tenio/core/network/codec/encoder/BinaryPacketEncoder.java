@@ -88,6 +88,21 @@ public interface BinaryPacketEncoder {
    */
   Packet encode(Packet packet);
 
+  /**
+   * Encodes a packet for transmission to clients, the same way as {@link #encode(Packet)} does,
+   * but the per-packet compression can be skipped. It is meant for transports which already
+   * compress the whole stream, where compressing every packet again would only waste CPU time.
+   *
+   * @param packet             the incoming {@link Packet} to be encoded
+   * @param compressionAllowed {@code false} if the packet must not be compressed regardless of the
+   *                           compression threshold
+   * @return the encoded {@link Packet} ready for transmission
+   * @throws PacketCompressorException if compression fails
+   * @throws PacketEncryptorException  if encryption fails
+   * @since 0.7.4
+   */
+  Packet encode(Packet packet, boolean compressionAllowed);
+
   /**
    * Sets the compressor for packet compression/decompression.
    * The compressor is used to reduce packet size before transmission.
@@ -27,6 +27,7 @@ package com.tenio.core.network.codec.encoder;
 import com.tenio.common.logger.SystemLogger;
 import com.tenio.core.network.codec.CodecUtility;
 import com.tenio.core.network.codec.compression.BinaryPacketCompressor;
+import com.tenio.core.monitoring.jfr.PacketEncodedEvent;
 import com.tenio.core.network.codec.encryption.BinaryPacketEncryptor;
 import com.tenio.core.network.codec.packet.PacketHeader;
 import com.tenio.core.network.entity.outbound.packet.Packet;
@@ -52,11 +53,18 @@ public final class BinaryPacketEncoderImpl extends SystemLogger implements Binar
 
   @Override
   public Packet encode(Packet packet) {
+    return encode(packet, true);
+  }
+
+  @Override
+  public Packet encode(Packet packet, boolean compressionAllowed) {
     // retrieve the packet original data first
     byte[] binaries = packet.getData();
     if (binaries == null || binaries.length == 0) {
       throw new IllegalArgumentException("Th packet has empty data to encode");
     }
+    var encodedEvent = PacketEncodedEvent.start();
+    int originalSize = binaries.length;
 
     // Order: encryption -> compression (It must be reversed in Decoder)
     // 1. check if the data needs to be encrypted
@@ -77,7 +85,9 @@ public final class BinaryPacketEncoderImpl extends SystemLogger implements Binar
 
     // 2. check if the data needs to be compressed
     boolean needsCompressed = false;
-    if (compressionThresholdBytes > 0 && binaries.length >= compressionThresholdBytes) {
+    int uncompressedSize = binaries.length;
+    if (compressionAllowed && compressionThresholdBytes > 0 &&
+        binaries.length >= compressionThresholdBytes) {
       if (compressor != null) {
         try {
           binaries = compressor.compress(binaries);
@@ -130,6 +140,8 @@ public final class BinaryPacketEncoderImpl extends SystemLogger implements Binar
 
     // form new data for the packet
     packet.setData(packetBuffer.array());
+    encodedEvent.commit(originalSize, uncompressedSize, binaries.length, packetBuffer.capacity(),
+        needsCompressed, needsEncrypted);
 
     return packet;
   }
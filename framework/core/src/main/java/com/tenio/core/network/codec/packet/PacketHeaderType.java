@@ -30,7 +30,8 @@ import java.util.Map;
 /**
  * The definition of all packet header setting flags.
  * <p>
- * <b>NOTE:</b> it's safe to define up to 8 flags per byte.
+ * <b>NOTE:</b> it's safe to define up to 6 flags per byte, the last 2 bits are reserved for the
+ * data type.
  */
 public enum PacketHeaderType {
 
@@ -53,17 +54,19 @@ public enum PacketHeaderType {
    */
   ENCRYPTION((byte) 0b00010000),
   /**
-   * This slot is reserved.
+   * The datagram is a bundle of several regular packets, each one is prefixed by its length in
+   * 2 bytes.
    *
-   * @since 0.6.7
+   * @since 0.7.4
    */
-  RESERVED_1((byte) 0b00001000),
+  BUNDLE((byte) 0b00001000),
   /**
-   * This slot is reserved.
+   * The datagram is a segment of the reliable UDP transport, its content is not a regular packet
+   * but an ARQ segment which carries one.
    *
-   * @since 0.6.7
+   * @since 0.7.4
    */
-  RESERVED_2((byte) 0b00000100);
+  RELIABLE((byte) 0b00000100);
 
   // Reverse-lookup map for getting a type from an exact value.
   private static final Map<Byte, PacketHeaderType> lookup = new HashMap<>();
@@ -0,0 +1,89 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.configuration;
+
+/**
+ * The settings of the outbound UDP bundling. Small UDP packets queued for the same session are
+ * coalesced into one datagram, so they share a single IP/UDP header and a single system call.
+ *
+ * @param maximumTransmissionUnit     the maximum size in bytes of a bundled datagram, it should
+ *                                    stay below the path MTU minus the IP/UDP headers to avoid
+ *                                    IP fragmentation
+ * @param flushDeadlineInMilliseconds the longest time a packet waits in a bundle for more
+ *                                    packets of its session
+ * @since 0.7.4
+ */
+public record DatagramBundleConfiguration(int maximumTransmissionUnit,
+                                          int flushDeadlineInMilliseconds) {
+
+  /**
+   * The smallest allowed value of the maximum transmission unit.
+   */
+  public static final int MINIMUM_TRANSMISSION_UNIT = 64;
+
+  /**
+   * The largest allowed value of the maximum transmission unit, it is the maximum UDP payload
+   * over IPv4.
+   */
+  public static final int MAXIMUM_TRANSMISSION_UNIT = 65507;
+
+  /**
+   * The default flush deadline in milliseconds.
+   */
+  public static final int DEFAULT_FLUSH_DEADLINE_IN_MILLISECONDS = 5;
+
+  /**
+   * Validates the settings.
+   */
+  public DatagramBundleConfiguration {
+    if (maximumTransmissionUnit < MINIMUM_TRANSMISSION_UNIT ||
+        maximumTransmissionUnit > MAXIMUM_TRANSMISSION_UNIT) {
+      throw new IllegalArgumentException("The maximum transmission unit must be in range [" +
+          MINIMUM_TRANSMISSION_UNIT + ", " + MAXIMUM_TRANSMISSION_UNIT + "]");
+    }
+    if (flushDeadlineInMilliseconds <= 0) {
+      throw new IllegalArgumentException("The flush deadline must be greater than 0");
+    }
+  }
+
+  /**
+   * Creates the settings with the default flush deadline.
+   *
+   * @param maximumTransmissionUnit the maximum size in bytes of a bundled datagram
+   */
+  public DatagramBundleConfiguration(int maximumTransmissionUnit) {
+    this(maximumTransmissionUnit, DEFAULT_FLUSH_DEADLINE_IN_MILLISECONDS);
+  }
+
+  /**
+   * Retrieves the default settings: bundles of 1200 bytes at most, which fit in the path MTU of
+   * almost every network, flushed after 5 milliseconds.
+   *
+   * @return the default {@link DatagramBundleConfiguration}
+   */
+  public static DatagramBundleConfiguration getDefault() {
+    return new DatagramBundleConfiguration(1200, DEFAULT_FLUSH_DEADLINE_IN_MILLISECONDS);
+  }
+}
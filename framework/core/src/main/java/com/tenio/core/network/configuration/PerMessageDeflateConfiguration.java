@@ -0,0 +1,93 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.configuration;
+
+/**
+ * The settings of the RFC 7692 permessage-deflate extension which is negotiated with WebSocket
+ * clients during the handshake. While the extension is active for a channel, whole frames are
+ * deflated by the transport with a compression context that, unless it is disabled, is kept from
+ * one message to the next, so the per-packet compressor is not applied to the packets of that
+ * channel. Clients which decline the extension keep the per-packet compression.
+ *
+ * <p>The server's own sliding window and context takeover follow the client's offer, the server
+ * always accepts a smaller window or a context reset asked by the client. The client settings
+ * below are only applied to the clients offering the matching parameters.
+ *
+ * @param compressionLevel      the deflate compression level, from 0 (no compression) to 9 (best
+ *                              compression)
+ * @param clientWindowBits      the size in bits of the client's sliding window, from 8 to 15, it
+ *                              is applied when the client offers {@code client_max_window_bits}
+ * @param clientContextTakeover whether the client keeps its compression context across messages.
+ *                              When it is disabled, the server asks the clients offering
+ *                              {@code client_no_context_takeover} to reset their context after
+ *                              every message
+ * @param minimumSizeInBytes    frames with less bytes than this value are sent uncompressed
+ * @since 0.7.4
+ */
+public record PerMessageDeflateConfiguration(int compressionLevel, int clientWindowBits,
+                                             boolean clientContextTakeover,
+                                             int minimumSizeInBytes) {
+
+  /**
+   * The default compression level.
+   */
+  public static final int DEFAULT_COMPRESSION_LEVEL = 6;
+
+  /**
+   * The default (and maximum) size of the client's sliding window in bits.
+   */
+  public static final int DEFAULT_CLIENT_WINDOW_BITS = 15;
+
+  /**
+   * The default minimum size of a frame to be compressed, in bytes. Smaller frames hardly shrink
+   * and would only cost CPU time.
+   */
+  public static final int DEFAULT_MINIMUM_SIZE_IN_BYTES = 64;
+
+  /**
+   * Validates the settings.
+   */
+  public PerMessageDeflateConfiguration {
+    if (compressionLevel < 0 || compressionLevel > 9) {
+      throw new IllegalArgumentException("The compression level must be in range [0, 9]");
+    }
+    if (clientWindowBits < 8 || clientWindowBits > 15) {
+      throw new IllegalArgumentException("The client window bits must be in range [8, 15]");
+    }
+    if (minimumSizeInBytes < 0) {
+      throw new IllegalArgumentException("The minimum size must be greater than or equals to 0");
+    }
+  }
+
+  /**
+   * Retrieves the default settings.
+   *
+   * @return the default {@link PerMessageDeflateConfiguration}
+   */
+  public static PerMessageDeflateConfiguration getDefault() {
+    return new PerMessageDeflateConfiguration(DEFAULT_COMPRESSION_LEVEL,
+        DEFAULT_CLIENT_WINDOW_BITS, true, DEFAULT_MINIMUM_SIZE_IN_BYTES);
+  }
+}
@@ -0,0 +1,85 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.configuration;
+
+/**
+ * The settings of the reliable UDP transport. Each session which has a datagram channel owns an
+ * ARQ (Automatic Repeat reQuest) control block built from these settings.
+ *
+ * @param intervalInMilliseconds       the period between two flushes of control blocks, it is
+ *                                     also the smallest time to wait for a retransmission
+ * @param minimumRtoInMilliseconds     the lower bound of the retransmission timeout
+ * @param fastResend                   the number of later segments acknowledged before a missing
+ *                                     one is retransmitted without waiting for its timeout, it is
+ *                                     disabled when the value is less than or equals to 0
+ * @param sendWindow                   the maximum number of segments in flight
+ * @param receiveWindow                the maximum number of out-of-order segments buffered by a
+ *                                     receiver
+ * @param congestionControl            enables the congestion window (slow start, congestion
+ *                                     avoidance and multiplicative decrease on losses)
+ * @param deadLink                     the number of transmissions of a segment without any
+ *                                     acknowledgement after that the link is considered dead
+ * @param maximumWaitingSegments       the maximum number of segments waiting for a free slot in
+ *                                     the send window, newer ones are dropped when it is reached
+ * @since 0.7.4
+ */
+public record ReliableDatagramConfiguration(int intervalInMilliseconds,
+                                            int minimumRtoInMilliseconds, int fastResend,
+                                            int sendWindow, int receiveWindow,
+                                            boolean congestionControl, int deadLink,
+                                            int maximumWaitingSegments) {
+
+  /**
+   * Validates the settings.
+   */
+  public ReliableDatagramConfiguration {
+    if (intervalInMilliseconds <= 0) {
+      throw new IllegalArgumentException("The interval must be greater than 0");
+    }
+    if (minimumRtoInMilliseconds <= 0) {
+      throw new IllegalArgumentException("The minimum RTO must be greater than 0");
+    }
+    if (sendWindow <= 0 || receiveWindow <= 0) {
+      throw new IllegalArgumentException("The send and receive windows must be greater than 0");
+    }
+    if (deadLink <= 0) {
+      throw new IllegalArgumentException("The dead link threshold must be greater than 0");
+    }
+    if (maximumWaitingSegments <= 0) {
+      throw new IllegalArgumentException("The maximum waiting segments must be greater than 0");
+    }
+  }
+
+  /**
+   * Retrieves the default settings which favour latency: a 10 ms interval, a 30 ms minimum RTO,
+   * fast retransmission after 2 duplicated acknowledgements, windows of 128 segments with the
+   * congestion control enabled and a dead link after 20 transmissions.
+   *
+   * @return the default {@link ReliableDatagramConfiguration}
+   */
+  public static ReliableDatagramConfiguration getDefault() {
+    return new ReliableDatagramConfiguration(10, 30, 2, 128, 128, true, 20, 1024);
+  }
+}
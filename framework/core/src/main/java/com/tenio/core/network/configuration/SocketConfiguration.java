@@ -28,6 +28,27 @@ import com.tenio.core.network.define.TransportType;
 
 /**
  * A configuration for a socket.
+ *
+ * @param name      the socket's name
+ * @param type      the {@link TransportType}
+ * @param port      the socket's port
+ * @param cacheSize the number of channels opened on the same port (UDP only)
+ * @param tuning    the {@link SocketTuning} profile applied to the socket and its connections
  */
-public record SocketConfiguration(String name, TransportType type, int port, int cacheSize) {
+public record SocketConfiguration(String name, TransportType type, int port, int cacheSize,
+                                  SocketTuning tuning) {
+
+  /**
+   * Creates a configuration using the default tuning profile of its transportation type.
+   *
+   * @param name      the socket's name
+   * @param type      the {@link TransportType}
+   * @param port      the socket's port
+   * @param cacheSize the number of channels opened on the same port (UDP only)
+   * @see SocketTuning#getDefault(TransportType)
+   * @since 0.7.4
+   */
+  public SocketConfiguration(String name, TransportType type, int port, int cacheSize) {
+    this(name, type, port, cacheSize, SocketTuning.getDefault(type));
+  }
 }
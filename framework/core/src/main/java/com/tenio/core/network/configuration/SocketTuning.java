@@ -0,0 +1,95 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.configuration;
+
+import com.tenio.core.network.define.TransportType;
+
+/**
+ * The tuning profile applied to every socket of a transport, it covers the listening sockets and
+ * the accepted connections. A negative value means the option is left to the operating system's
+ * default.
+ *
+ * @param tcpNoDelay        disables Nagle's algorithm ({@code TCP_NODELAY}), so that small packets
+ *                          are sent at once
+ * @param keepAlive         enables TCP keep-alive probes ({@code SO_KEEPALIVE})
+ * @param receiveBufferSize the socket receiving buffer size in bytes ({@code SO_RCVBUF})
+ * @param sendBufferSize    the socket sending buffer size in bytes ({@code SO_SNDBUF})
+ * @param backlog           the maximum number of pending connections waiting to be accepted
+ * @param lingerInSeconds   the time in seconds a closing socket blocks to send its remaining data
+ *                          ({@code SO_LINGER})
+ * @param trafficClass      the type-of-service or traffic class field in the IP header
+ *                          ({@code IP_TOS})
+ * @since 0.7.4
+ */
+public record SocketTuning(boolean tcpNoDelay, boolean keepAlive, int receiveBufferSize,
+                           int sendBufferSize, int backlog, int lingerInSeconds,
+                           int trafficClass) {
+
+  /**
+   * The value for an option that should be left to the operating system's default.
+   */
+  public static final int UNSET = -1;
+
+  private static final int DEFAULT_BACKLOG = 1024;
+  private static final int DEFAULT_TCP_BUFFER_SIZE = 256 * 1024; // 256 KB
+  private static final int DEFAULT_UDP_BUFFER_SIZE = 1024 * 1024; // 1 MB
+
+  /**
+   * Retrieves the default tuning profile for a transportation type.
+   *
+   * <ul>
+   *   <li>TCP: no delay, keep-alive, 256 KB buffers and a backlog of 1024</li>
+   *   <li>UDP: 1 MB buffers</li>
+   *   <li>WebSocket: no delay, keep-alive and a backlog of 1024, its buffer sizes are left to
+   *   the WebSocket sender/receiver buffer size settings</li>
+   * </ul>
+   *
+   * @param type the {@link TransportType}
+   * @return the default {@link SocketTuning} of the type
+   */
+  public static SocketTuning getDefault(TransportType type) {
+    if (type == null) {
+      return new SocketTuning(false, false, UNSET, UNSET, UNSET, UNSET, UNSET);
+    }
+    return switch (type) {
+      case TCP -> new SocketTuning(true, true, DEFAULT_TCP_BUFFER_SIZE, DEFAULT_TCP_BUFFER_SIZE,
+          DEFAULT_BACKLOG, UNSET, UNSET);
+      case UDP -> new SocketTuning(false, false, DEFAULT_UDP_BUFFER_SIZE, DEFAULT_UDP_BUFFER_SIZE,
+          UNSET, UNSET, UNSET);
+      case WEB_SOCKET -> new SocketTuning(true, true, UNSET, UNSET, DEFAULT_BACKLOG, UNSET, UNSET);
+      default -> new SocketTuning(false, false, UNSET, UNSET, UNSET, UNSET, UNSET);
+    };
+  }
+
+  /**
+   * Determines whether a value of option is set.
+   *
+   * @param value the option's value
+   * @return {@code true} if the value should be applied, otherwise {@code false}
+   */
+  public static boolean isSet(int value) {
+    return value >= 0;
+  }
+}
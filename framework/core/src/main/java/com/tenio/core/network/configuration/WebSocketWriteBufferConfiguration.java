@@ -0,0 +1,71 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.configuration;
+
+/**
+ * The write buffer water marks of WebSocket channels. Once the bytes pending in a channel's
+ * outbound buffer exceed the high water mark, the channel stops being writable and the following
+ * packets of its session are parked in the session's outbound queue, where the outbound queue
+ * policy decides which ones are dropped. The channel becomes writable again when its pending bytes
+ * fall below the low water mark.
+ *
+ * @param lowWaterMark  the number of pending bytes below which a channel is writable again
+ * @param highWaterMark the number of pending bytes above which a channel is not writable
+ * @since 0.7.4
+ */
+public record WebSocketWriteBufferConfiguration(int lowWaterMark, int highWaterMark) {
+
+  /**
+   * The default low water mark in bytes.
+   */
+  public static final int DEFAULT_LOW_WATER_MARK = 32 * 1024; // 32 KB
+
+  /**
+   * The default high water mark in bytes.
+   */
+  public static final int DEFAULT_HIGH_WATER_MARK = 64 * 1024; // 64 KB
+
+  /**
+   * Validates the settings.
+   */
+  public WebSocketWriteBufferConfiguration {
+    if (lowWaterMark <= 0) {
+      throw new IllegalArgumentException("The low water mark must be greater than 0");
+    }
+    if (highWaterMark < lowWaterMark) {
+      throw new IllegalArgumentException(
+          "The high water mark must be greater than or equals to the low water mark");
+    }
+  }
+
+  /**
+   * Retrieves the default settings.
+   *
+   * @return the default {@link WebSocketWriteBufferConfiguration}
+   */
+  public static WebSocketWriteBufferConfiguration getDefault() {
+    return new WebSocketWriteBufferConfiguration(DEFAULT_LOW_WATER_MARK, DEFAULT_HIGH_WATER_MARK);
+  }
+}
@@ -0,0 +1,91 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.define;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The definitions of strategies to choose a socket reader (an event loop) for newly accepted
+ * client sockets.
+ *
+ * @since 0.7.4
+ */
+public enum SocketReaderAssignment {
+
+  /**
+   * New sockets are assigned to the readers in turn.
+   */
+  ROUND_ROBIN("round-robin"),
+  /**
+   * New sockets are assigned to the reader which has the fewest registered channels.
+   */
+  LEAST_CHANNELS("least-channels"),
+  /**
+   * New sockets are assigned to the reader which has the lowest recent rate of read bytes, the
+   * number of registered channels is used to break ties.
+   */
+  LEAST_BYTE_RATE("least-byte-rate");
+
+  // Reverse-lookup map for getting a type from a value
+  private static final Map<String, SocketReaderAssignment> lookup = new HashMap<>();
+
+  static {
+    for (var type : SocketReaderAssignment.values()) {
+      lookup.put(type.getValue(), type);
+    }
+  }
+
+  private final String value;
+
+  SocketReaderAssignment(final String value) {
+    this.value = value;
+  }
+
+  /**
+   * Retrieves the assignment strategy by looking at its value.
+   *
+   * @param value the corresponding {@link String} value of assignment strategy
+   * @return the corresponding {@link SocketReaderAssignment} if it is available, otherwise
+   * {@code null}
+   */
+  public static SocketReaderAssignment getByValue(String value) {
+    return lookup.get(value);
+  }
+
+  /**
+   * Retrieves the assignment strategy in text value.
+   *
+   * @return the assignment strategy in {@link String} value
+   */
+  public final String getValue() {
+    return value;
+  }
+
+  @Override
+  public final String toString() {
+    return name();
+  }
+}
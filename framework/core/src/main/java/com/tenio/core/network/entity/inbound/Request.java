@@ -47,6 +47,16 @@ public interface Request {
    */
   long getId();
 
+  /**
+   * Retrieves the affinity ID of request. Requests sharing the same affinity ID are coming from
+   * the same sender (a session or a remote address) and are expected to be processed in the
+   * order they were received.
+   *
+   * @return the {@code long} affinity ID of request
+   * @since 0.7.4
+   */
+  long getAffinityId();
+
   /**
    * Retrieves the server event associating to the request.
    *
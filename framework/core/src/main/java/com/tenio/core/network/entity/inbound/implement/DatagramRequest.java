@@ -65,6 +65,11 @@ public class DatagramRequest implements Request {
     return id;
   }
 
+  @Override
+  public long getAffinityId() {
+    return datagramRemoteAddress != null ? datagramRemoteAddress.hashCode() : id;
+  }
+
   @Override
   public DatagramChannel getSender() {
     return datagramChannel;
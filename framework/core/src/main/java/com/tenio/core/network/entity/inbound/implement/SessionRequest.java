@@ -64,6 +64,11 @@ public class SessionRequest implements Request {
     return id;
   }
 
+  @Override
+  public long getAffinityId() {
+    return session != null ? session.getId() : id;
+  }
+
   @Override
   public Session getSender() {
     return session;
@@ -0,0 +1,64 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.entity.inbound.policy;
+
+import com.tenio.core.network.entity.inbound.Request;
+import com.tenio.core.processor.RequestComparator;
+
+/**
+ * The default implementation of the request shedding policy. A request can be refused when its
+ * priority value is not less than the configured one. Notes that requests having smaller
+ * priority values are processed first, see {@link RequestComparator}.
+ *
+ * @see RequestSheddingPolicy
+ * @since 0.7.4
+ */
+public class DefaultRequestSheddingPolicy implements RequestSheddingPolicy {
+
+  /**
+   * The minimum sheddable priority used when it is not configured, no request can be refused
+   * then, whatever its priority value is.
+   */
+  public static final int NOTHING_SHEDDABLE = Integer.MAX_VALUE;
+
+  private final int minSheddablePriority;
+
+  /**
+   * Initialization.
+   *
+   * @param minSheddablePriority requests having their priority values greater than or equal to
+   *                             this value can be refused, or {@link #NOTHING_SHEDDABLE} to
+   *                             refuse none of them
+   */
+  public DefaultRequestSheddingPolicy(int minSheddablePriority) {
+    this.minSheddablePriority = minSheddablePriority;
+  }
+
+  @Override
+  public boolean isSheddable(Request request) {
+    return minSheddablePriority != NOTHING_SHEDDABLE
+        && request.getPriority() >= minSheddablePriority;
+  }
+}
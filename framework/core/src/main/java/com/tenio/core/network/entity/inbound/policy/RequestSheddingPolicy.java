@@ -0,0 +1,48 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.entity.inbound.policy;
+
+import com.tenio.core.network.entity.inbound.Request;
+import com.tenio.core.processor.RequestAdmissionController;
+
+/**
+ * The request shedding policy, it decides which requests can be refused by the processor when
+ * the server is overloaded.
+ *
+ * @see RequestAdmissionController
+ * @see DefaultRequestSheddingPolicy
+ * @since 0.7.4
+ */
+public interface RequestSheddingPolicy {
+
+  /**
+   * Determines whether the request can be refused when the server is overloaded. Only
+   * low-priority requests should be sheddable, the others are always processed.
+   *
+   * @param request an instance of {@link Request}
+   * @return {@code true} if the request can be refused, otherwise {@code false}
+   */
+  boolean isSheddable(Request request);
+}
@@ -26,6 +26,7 @@ package com.tenio.core.network.entity.outbound;
 
 import com.tenio.common.data.DataCollection;
 import com.tenio.common.data.DataType;
+import com.tenio.core.entity.AreaOfInterest;
 import com.tenio.core.entity.Player;
 import com.tenio.core.network.define.ResponseGuarantee;
 import com.tenio.core.network.entity.outbound.packet.policy.OutboundQueuePolicy;
@@ -79,6 +80,29 @@ public interface Response {
    */
   Response setRecipientPlayers(Collection<Player> players);
 
+  /**
+   * Sets the players whose views contain a position as recipients, they are resolved from the
+   * area of interest instead of the whole room.
+   *
+   * @param areaOfInterest the {@link AreaOfInterest} which the recipients are registered in
+   * @param x              the position's x coordinate
+   * @param y              the position's y coordinate
+   * @return the pointer of this instance
+   * @since 0.7.4
+   */
+  Response setRecipientsInRange(AreaOfInterest areaOfInterest, float x, float y);
+
+  /**
+   * Sets the players which see a player as recipients, e.g. for broadcasting the player's
+   * updates. The player itself is not included.
+   *
+   * @param areaOfInterest the {@link AreaOfInterest} which the recipients are registered in
+   * @param subject        the {@link Player} which is seen
+   * @return the pointer of this instance
+   * @since 0.7.4
+   */
+  Response setRecipientsInRange(AreaOfInterest areaOfInterest, Player subject);
+
   /**
    * Retrieves a collection of non session recipient players.
    *
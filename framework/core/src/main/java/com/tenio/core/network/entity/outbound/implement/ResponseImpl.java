@@ -27,6 +27,7 @@ package com.tenio.core.network.entity.outbound.implement;
 import com.tenio.common.data.DataCollection;
 import com.tenio.common.data.DataType;
 import com.tenio.common.logger.SystemLogger;
+import com.tenio.core.entity.AreaOfInterest;
 import com.tenio.core.entity.Player;
 import com.tenio.core.network.define.ResponseGuarantee;
 import com.tenio.core.network.entity.outbound.Response;
@@ -124,6 +125,24 @@ public final class ResponseImpl extends SystemLogger implements Response {
     return this;
   }
 
+  @Override
+  public Response setRecipientsInRange(AreaOfInterest areaOfInterest, float x, float y) {
+    if (players == null) {
+      players = new ArrayList<>();
+    }
+    areaOfInterest.getViewers(x, y, players);
+    return this;
+  }
+
+  @Override
+  public Response setRecipientsInRange(AreaOfInterest areaOfInterest, Player subject) {
+    if (players == null) {
+      players = new ArrayList<>();
+    }
+    areaOfInterest.getObservers(subject, players);
+    return this;
+  }
+
   @Override
   public Response setRecipientPlayer(Player player) {
     if (players == null) {
@@ -229,6 +229,36 @@ public interface Packet {
    */
   boolean isFragmented();
 
+  /**
+   * Retrieves the time when the packet's data got fragmented for the first time, it is the
+   * moment the packet enters the partial-write state.
+   *
+   * @return the {@link System#nanoTime()} value when the packet's data got fragmented, or
+   * {@code 0} if it has never been fragmented
+   * @since 0.7.4
+   */
+  long getFragmentedTime();
+
+  /**
+   * Retrieves the time when the packet was put into its session's outbound queue, it is only
+   * stamped while the latencies are being tracked.
+   *
+   * @return the {@link System#nanoTime()} value when the packet was queued, or {@code 0} if it
+   * was not stamped
+   * @see com.tenio.core.monitoring.latency.LatencyTracker
+   * @since 0.7.4
+   */
+  long getQueuedTime();
+
+  /**
+   * Stamps the time when the packet is put into its session's outbound queue.
+   *
+   * @param queuedTime the {@link System#nanoTime()} value when the packet is queued, or {@code 0}
+   *                   if it is not stamped
+   * @since 0.7.4
+   */
+  void setQueuedTime(long queuedTime);
+
   /**
    * Determines whether the packet is the last one or not. In case this is the last sent packet,
    * it will close the connection.
@@ -50,6 +50,8 @@ public final class PacketImpl implements Packet, Comparable<Packet> {
   private int originalSize;
   private Collection<Session> recipients;
   private byte[] fragmentBuffer;
+  private long fragmentedTime;
+  private long queuedTime;
   private boolean last;
 
   private PacketImpl() {
@@ -171,6 +173,9 @@ public final class PacketImpl implements Packet, Comparable<Packet> {
 
   @Override
   public void setFragmentBuffer(byte[] binaries) {
+    if (fragmentBuffer == null && binaries != null) {
+      fragmentedTime = System.nanoTime();
+    }
     fragmentBuffer = binaries;
   }
 
@@ -179,6 +184,21 @@ public final class PacketImpl implements Packet, Comparable<Packet> {
     return fragmentBuffer != null;
   }
 
+  @Override
+  public long getFragmentedTime() {
+    return fragmentedTime;
+  }
+
+  @Override
+  public long getQueuedTime() {
+    return queuedTime;
+  }
+
+  @Override
+  public void setQueuedTime(long queuedTime) {
+    this.queuedTime = queuedTime;
+  }
+
   @Override
   public boolean isMarkedAsLast() {
     return last;
@@ -241,6 +261,7 @@ public final class PacketImpl implements Packet, Comparable<Packet> {
     packet.setRecipients(recipients);
     packet.setTransportType(transportType);
     packet.setMarkedAsLast(last);
+    packet.setQueuedTime(queuedTime);
     return packet;
   }
 }
@@ -30,6 +30,7 @@ import com.tenio.core.entity.Player;
 import com.tenio.core.entity.define.mode.ConnectionDisconnectMode;
 import com.tenio.core.entity.define.mode.PlayerDisconnectMode;
 import com.tenio.core.exception.InboundQueueFullException;
+import com.tenio.core.monitoring.latency.LatencyTracker;
 import com.tenio.core.network.codec.packet.PacketReadState;
 import com.tenio.core.network.codec.packet.PendingPacket;
 import com.tenio.core.network.codec.packet.ProcessedPacket;
@@ -179,6 +180,15 @@ public interface Session {
    */
   void configureSlowConsumingOutboundQueueWarningThreshold(int threshold);
 
+  /**
+   * Sets the tracker recording the latencies of the inbound messages, from the moment they are
+   * queued to the moment their handlers finish.
+   *
+   * @param latencyTracker the {@link LatencyTracker}, it can be {@code null}
+   * @since 0.7.4
+   */
+  void configureLatencyTracker(LatencyTracker latencyTracker);
+
   /**
    * Retrieves an outbound queue of session which is using to send messages to clients side.
    *
@@ -31,6 +31,10 @@ import com.tenio.core.configuration.define.ServerEvent;
 import com.tenio.core.entity.define.mode.ConnectionDisconnectMode;
 import com.tenio.core.entity.define.mode.PlayerDisconnectMode;
 import com.tenio.core.exception.InboundQueueFullException;
+import com.tenio.core.monitoring.define.LatencyStage;
+import com.tenio.core.monitoring.jfr.SessionClosedEvent;
+import com.tenio.core.monitoring.jfr.SessionOpenedEvent;
+import com.tenio.core.monitoring.latency.LatencyTracker;
 import com.tenio.core.network.codec.packet.PacketReadState;
 import com.tenio.core.network.codec.packet.PendingPacket;
 import com.tenio.core.network.codec.packet.ProcessedPacket;
@@ -75,8 +79,10 @@ public class SessionImpl extends AbstractLogger implements Session {
   private ConnectionFilter connectionFilter;
 
   private final Thread inboundProcess;
-  private final BlockingQueue<DataCollection> inboundQueue;
+  // holds the messages, or the traced messages while the latencies are being tracked
+  private final BlockingQueue<Object> inboundQueue;
   private final AtomicInteger inboundQueueCount;
+  private LatencyTracker latencyTracker;
 
   private int maxInboundQueueSize;
   private int slowConsumingInboundQueueWarningThreshold;
@@ -191,7 +197,8 @@ public class SessionImpl extends AbstractLogger implements Session {
       }
       throw exception;
     }
-    inboundQueue.add(message);
+    long enqueuedTime = latencyTracker != null ? latencyTracker.now() : 0L;
+    inboundQueue.add(enqueuedTime != 0L ? new TracedMessage(message, enqueuedTime) : message);
     inboundQueueCount.incrementAndGet();
   }
 
@@ -210,6 +217,11 @@ public class SessionImpl extends AbstractLogger implements Session {
     slowConsumingOutboundQueueWarningThreshold = threshold;
   }
 
+  @Override
+  public void configureLatencyTracker(LatencyTracker latencyTracker) {
+    this.latencyTracker = latencyTracker;
+  }
+
   @Override
   public OutboundQueue fetchOutboundQueue() {
     return outboundQueue;
@@ -466,6 +478,7 @@ public class SessionImpl extends AbstractLogger implements Session {
   public void activate() {
     if (transitionState(State.INITIALIZED, State.ACTIVATED)) {
       inboundProcess.start();
+      SessionOpenedEvent.emit(this);
     } else {
       if (isWarnEnabled()) {
         warn("[Invalid States Transition] Expected State: INITIALIZED, New State: ACTIVATED, " +
@@ -521,6 +534,9 @@ public class SessionImpl extends AbstractLogger implements Session {
           break;
       }
 
+      SessionClosedEvent.emit(this, connectionDisconnectMode, playerDisconnectMode,
+          inactivatedTime);
+
       sessionManager.emitEvent(ServerEvent.SESSION_WILL_BE_CLOSED, this,
               connectionDisconnectMode, playerDisconnectMode);
     }
@@ -560,9 +576,17 @@ public class SessionImpl extends AbstractLogger implements Session {
     while (!Thread.currentThread().isInterrupted()) {
       if (state == State.ACTIVATED) {
         try {
-          DataCollection message = inboundQueue.take();
+          Object message = inboundQueue.take();
           inboundQueueCount.decrementAndGet();
-          sessionManager.emitEvent(ServerEvent.SESSION_READ_MESSAGE, this, message);
+          if (message instanceof TracedMessage tracedMessage) {
+            latencyTracker.record(LatencyStage.INBOUND_QUEUE, tracedMessage.enqueuedTime());
+            long handlingTime = latencyTracker.now();
+            sessionManager.emitEvent(ServerEvent.SESSION_READ_MESSAGE, this,
+                tracedMessage.message());
+            latencyTracker.record(LatencyStage.HANDLER, handlingTime);
+          } else {
+            sessionManager.emitEvent(ServerEvent.SESSION_READ_MESSAGE, this, message);
+          }
         } catch (InterruptedException exception) {
           // InterruptedException is not an error
           // It’s a signal to stop the thread
@@ -624,4 +648,6 @@ public class SessionImpl extends AbstractLogger implements Session {
         ", remainingOutboundQueue=" + outboundQueue.getSnapshotSize() +
         '}';
   }
+
+  private record TracedMessage(DataCollection message, long enqueuedTime) {}
 }
@@ -0,0 +1,184 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.entity.session.manager;
+
+import com.tenio.core.network.entity.session.Session;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Routes UDP convey ids to their sessions. The datagram readers look a session up for every
+ * received packet, so reads only index an array and never take a lock. The convey ids are handed
+ * out sequentially, so they spread evenly over the slots. Binding and unbinding happen once per
+ * session, they are serialized, and the table doubles its capacity whenever a new id lands on a
+ * slot which is still owned by a live session.
+ *
+ * @since 0.7.4
+ */
+final class DatagramSessionTable {
+
+  /**
+   * The number of slots a new table starts with.
+   */
+  static final int DEFAULT_INITIAL_CAPACITY = 1024;
+  /**
+   * The table stops growing at this number of slots, any further collision is kept in a map.
+   */
+  static final int MAXIMUM_CAPACITY = 1 << 20;
+
+  private final Map<Integer, Session> overflows;
+  private volatile AtomicReferenceArray<Entry> entries;
+
+  private DatagramSessionTable(int initialCapacity) {
+    if (initialCapacity <= 0 || initialCapacity > MAXIMUM_CAPACITY
+        || Integer.bitCount(initialCapacity) != 1) {
+      throw new IllegalArgumentException(String.format(
+          "The initial capacity must be a power of two in [1, %d], but got: %d", MAXIMUM_CAPACITY,
+          initialCapacity));
+    }
+    overflows = new ConcurrentHashMap<>();
+    entries = new AtomicReferenceArray<>(initialCapacity);
+  }
+
+  /**
+   * Creates a new table with the default capacity.
+   *
+   * @return a new instance of {@link DatagramSessionTable}
+   */
+  static DatagramSessionTable newInstance() {
+    return new DatagramSessionTable(DEFAULT_INITIAL_CAPACITY);
+  }
+
+  /**
+   * Creates a new table.
+   *
+   * @param initialCapacity the number of slots, it must be a power of two
+   * @return a new instance of {@link DatagramSessionTable}
+   * @throws IllegalArgumentException when the capacity is not a power of two in the allowed range
+   */
+  static DatagramSessionTable newInstance(int initialCapacity) {
+    return new DatagramSessionTable(initialCapacity);
+  }
+
+  /**
+   * Retrieves the session bound to a convey id, it never blocks.
+   *
+   * @param conveyId the UDP convey id
+   * @return the bound {@link Session}, otherwise {@code null}
+   */
+  Session get(int conveyId) {
+    var snapshot = entries;
+    var entry = snapshot.get(conveyId & (snapshot.length() - 1));
+    if (entry != null && entry.conveyId() == conveyId) {
+      return entry.session();
+    }
+    return overflows.isEmpty() ? null : overflows.get(conveyId);
+  }
+
+  /**
+   * Binds a session to a convey id, the previous binding of the same id is replaced.
+   *
+   * @param conveyId the UDP convey id
+   * @param session  the {@link Session}
+   */
+  synchronized void put(int conveyId, Session session) {
+    overflows.remove(conveyId);
+    var entry = new Entry(conveyId, session);
+    while (true) {
+      var snapshot = entries;
+      int index = conveyId & (snapshot.length() - 1);
+      var existing = snapshot.get(index);
+      if (existing == null || existing.conveyId() == conveyId) {
+        snapshot.set(index, entry);
+        return;
+      }
+      if (snapshot.length() >= MAXIMUM_CAPACITY) {
+        overflows.put(conveyId, session);
+        return;
+      }
+      grow(snapshot);
+    }
+  }
+
+  /**
+   * Unbinds a convey id.
+   *
+   * @param conveyId the UDP convey id
+   */
+  synchronized void remove(int conveyId) {
+    var snapshot = entries;
+    int index = conveyId & (snapshot.length() - 1);
+    var existing = snapshot.get(index);
+    if (existing != null && existing.conveyId() == conveyId) {
+      snapshot.set(index, null);
+    } else {
+      overflows.remove(conveyId);
+    }
+  }
+
+  /**
+   * Retrieves the current number of slots.
+   *
+   * @return the current number of slots
+   */
+  int getCapacity() {
+    return entries.length();
+  }
+
+  /**
+   * Retrieves the number of bindings which could not be placed in the array.
+   *
+   * @return the number of overflowed bindings
+   */
+  int getOverflows() {
+    return overflows.size();
+  }
+
+  private void grow(AtomicReferenceArray<Entry> snapshot) {
+    // a slot of the old array always maps onto a distinct slot of the doubled one, so nothing
+    // collides while copying
+    var grown = new AtomicReferenceArray<Entry>(snapshot.length() << 1);
+    int mask = grown.length() - 1;
+    for (int i = 0; i < snapshot.length(); i++) {
+      var entry = snapshot.get(i);
+      if (entry != null) {
+        grown.set(entry.conveyId() & mask, entry);
+      }
+    }
+    entries = grown;
+  }
+
+  @Override
+  public String toString() {
+    return "DatagramSessionTable{" +
+        "capacity=" + getCapacity() +
+        ", overflows=" + getOverflows() +
+        '}';
+  }
+
+  private record Entry(int conveyId, Session session) {
+  }
+}
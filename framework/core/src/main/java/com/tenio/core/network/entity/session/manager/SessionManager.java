@@ -29,12 +29,14 @@ import com.tenio.core.entity.define.mode.ConnectionDisconnectMode;
 import com.tenio.core.entity.define.mode.PlayerDisconnectMode;
 import com.tenio.core.event.implement.EventManager;
 import com.tenio.core.manager.Manager;
+import com.tenio.core.monitoring.latency.LatencyTracker;
 import com.tenio.core.network.entity.outbound.packet.OutboundQueue;
 import com.tenio.core.network.entity.outbound.packet.policy.DefaultOutboundQueuePolicy;
 import com.tenio.core.network.entity.outbound.packet.policy.OutboundQueuePolicy;
 import com.tenio.core.network.entity.session.Session;
 import com.tenio.core.network.security.filter.ConnectionFilter;
 import io.netty.channel.Channel;
+import io.netty.util.AttributeKey;
 import java.nio.channels.DatagramChannel;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.SocketChannel;
@@ -63,6 +65,13 @@ public interface SessionManager extends Manager {
    * Default the threshold for warning of slow consuming outbound queue.
    */
   int DEFAULT_SLOW_CONSUMING_OUTBOUND_QUEUE_WARNING_THRESHOLD = 10;
+  /**
+   * The attribute which binds a WebSocket {@link Channel} to its session, so the channel handler
+   * can reach the session without looking it up in the management list.
+   *
+   * @since 0.7.4
+   */
+  AttributeKey<Session> WEBSOCKET_SESSION_ATTRIBUTE = AttributeKey.valueOf("tenio-session");
 
   /**
    * Ensures the calculation on the session list is thread-safe.
@@ -73,7 +82,8 @@ public interface SessionManager extends Manager {
   void computeSessions(Consumer<Iterator<Session>> onComputed);
 
   /**
-   * Creates a new socket (TCP) session and adds it to the management list.
+   * Creates a new socket (TCP) session and adds it to the management list. The session is also
+   * attached to its {@link SelectionKey}, so the reader can take it directly from the selected key.
    *
    * @param socketChannel the {@link SocketChannel}
    * @param selectionKey  the {@link SelectionKey}, selected for the socket channel by a selector
@@ -98,7 +108,8 @@ public interface SessionManager extends Manager {
   Session getSessionBySocket(SocketChannel socketChannel);
 
   /**
-   * Creates a new WebSocket session and adds it to the management list.
+   * Creates a new WebSocket session and adds it to the management list. The session is also bound
+   * to the channel by the {@link #WEBSOCKET_SESSION_ATTRIBUTE} attribute.
    *
    * @param webSocketChannel the WebSocket {@link Channel}
    * @return a new instance of {@link Session}
@@ -191,6 +202,14 @@ public interface SessionManager extends Manager {
    */
   void configureSlowConsumingOutboundQueueWarningThreshold(int threshold);
 
+  /**
+   * Sets the tracker recording the latencies of the inbound messages of all sessions.
+   *
+   * @param latencyTracker the {@link LatencyTracker}
+   * @since 0.7.4
+   */
+  void configureLatencyTracker(LatencyTracker latencyTracker);
+
   /**
    * Removes a session from its manager, this method should not be invoked directly. Calls
    * instead the method {@link Session#close(ConnectionDisconnectMode, PlayerDisconnectMode)}
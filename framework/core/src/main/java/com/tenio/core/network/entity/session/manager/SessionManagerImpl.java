@@ -27,6 +27,7 @@ package com.tenio.core.network.entity.session.manager;
 import com.tenio.core.configuration.define.ServerEvent;
 import com.tenio.core.event.implement.EventManager;
 import com.tenio.core.manager.AbstractManager;
+import com.tenio.core.monitoring.latency.LatencyTracker;
 import com.tenio.core.network.entity.outbound.packet.OutboundQueue;
 import com.tenio.core.network.entity.outbound.packet.implement.OutboundQueueImpl;
 import com.tenio.core.network.entity.outbound.packet.policy.OutboundQueuePolicy;
@@ -55,6 +56,7 @@ public final class SessionManagerImpl extends AbstractManager implements Session
   private final Map<SocketChannel, Session> sessionBySockets;
   private final Map<Channel, Session> sessionByWebSockets;
   private final Map<Integer, Session> sessionByDatagrams;
+  private final DatagramSessionTable datagramSessionTable;
   private volatile List<Session> snapshotSessionsList;
   private volatile int snapshotSessionCount;
   private OutboundQueuePolicy outboundQueuePolicy;
@@ -64,6 +66,7 @@ public final class SessionManagerImpl extends AbstractManager implements Session
   private int slowConsumingInboundQueueWarningThreshold;
   private int slowConsumingOutboundQueueWarningThreshold;
   private int maxIdleTimeInSeconds;
+  private LatencyTracker latencyTracker;
 
   private SessionManagerImpl(EventManager eventManager) {
     super(eventManager);
@@ -71,6 +74,7 @@ public final class SessionManagerImpl extends AbstractManager implements Session
     sessionBySockets = new HashMap<>();
     sessionByWebSockets = new HashMap<>();
     sessionByDatagrams = new HashMap<>();
+    datagramSessionTable = DatagramSessionTable.newInstance();
     snapshotSessionsList = new ArrayList<>();
     inboundQueueSize = DEFAULT_MAX_INBOUND_QUEUE_SIZE;
     outboundQueueSize = DEFAULT_MAX_OUTBOUND_QUEUE_SIZE;
@@ -103,6 +107,9 @@ public final class SessionManagerImpl extends AbstractManager implements Session
     synchronized (this) {
       sessionByIds.put(session.getId(), session);
       sessionBySockets.put(session.fetchSocketChannel(), session);
+      if (selectionKey != null) {
+        selectionKey.attach(session);
+      }
       snapshotSessionsList = sessionByIds.values().stream().toList();
       snapshotSessionCount = sessionByIds.size();
       session.activate();
@@ -132,14 +139,14 @@ public final class SessionManagerImpl extends AbstractManager implements Session
     synchronized (sessionByDatagrams) {
       session.configureDatagramChannel(datagramChannel, udpConvey);
       sessionByDatagrams.put(udpConvey, session);
+      datagramSessionTable.put(udpConvey, session);
     }
   }
 
   @Override
   public Session getSessionByDatagram(int udpConvey) {
-    synchronized (sessionByDatagrams) {
-      return sessionByDatagrams.get(udpConvey);
-    }
+    // it is called for every received datagram, the map only serves administrative queries
+    return datagramSessionTable.get(udpConvey);
   }
 
   @Override
@@ -155,6 +162,7 @@ public final class SessionManagerImpl extends AbstractManager implements Session
     synchronized (this) {
       sessionByIds.put(session.getId(), session);
       sessionByWebSockets.put(webSocketChannel, session);
+      webSocketChannel.attr(WEBSOCKET_SESSION_ATTRIBUTE).set(session);
       snapshotSessionsList = sessionByIds.values().stream().toList();
       snapshotSessionCount = sessionByIds.size();
       session.activate();
@@ -190,6 +198,11 @@ public final class SessionManagerImpl extends AbstractManager implements Session
     outboundQueueSize = queueSize;
   }
 
+  @Override
+  public void configureLatencyTracker(LatencyTracker latencyTracker) {
+    this.latencyTracker = latencyTracker;
+  }
+
   @Override
   public void configureSlowConsumingInboundQueueWarningThreshold(int threshold) {
     slowConsumingInboundQueueWarningThreshold = threshold;
@@ -207,11 +220,22 @@ public final class SessionManagerImpl extends AbstractManager implements Session
         case TCP -> {
           if (session.containsUdp()) {
             sessionByDatagrams.remove(session.getUdpConveyId());
+            datagramSessionTable.remove(session.getUdpConveyId());
             session.configureDatagramChannel(null, Session.EMPTY_DATAGRAM_CONVEY_ID);
           }
           sessionBySockets.remove(session.fetchSocketChannel());
+          var selectionKey = session.fectchSocketSelectionKey();
+          if (selectionKey != null && selectionKey.attachment() == session) {
+            selectionKey.attach(null);
+          }
+        }
+        case WEB_SOCKET -> {
+          var webSocketChannel = session.fetchWebSocketChannel();
+          sessionByWebSockets.remove(webSocketChannel);
+          if (webSocketChannel != null && webSocketChannel.hasAttr(WEBSOCKET_SESSION_ATTRIBUTE)) {
+            webSocketChannel.attr(WEBSOCKET_SESSION_ATTRIBUTE).compareAndSet(session, null);
+          }
         }
-        case WEB_SOCKET -> sessionByWebSockets.remove(session.fetchWebSocketChannel());
         default -> {
         }
       }
@@ -272,5 +296,6 @@ public final class SessionManagerImpl extends AbstractManager implements Session
     session.configureSlowConsumingOutboundQueueWarningThreshold(slowConsumingOutboundQueueWarningThreshold);
     session.configureConnectionFilter(connectionFilter);
     session.configureMaxIdleTimeInSeconds(maxIdleTimeInSeconds);
+    session.configureLatencyTracker(latencyTracker);
   }
 }
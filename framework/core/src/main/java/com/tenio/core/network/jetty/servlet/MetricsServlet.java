@@ -0,0 +1,84 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.jetty.servlet;
+
+import com.tenio.core.monitoring.metric.MetricRegistry;
+import com.tenio.core.monitoring.metric.MetricTextFormat;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.Serial;
+
+/**
+ * Exposes the metrics of a {@link MetricRegistry} to Prometheus/OpenMetrics scrapers. The text is
+ * rendered in a builder which is reused by all scrapes, so the rendering is serialized, but it
+ * never waits for nor delays the hot paths that update the metrics. The rendered text is written to
+ * the client after the builder is released, a slow scraper does not hold up the other ones.
+ *
+ * @since 0.7.4
+ */
+public final class MetricsServlet extends HttpServlet {
+
+  @Serial
+  private static final long serialVersionUID = -6150497290318732913L;
+
+  private static final int DEFAULT_BUFFER_SIZE = 16 * 1024;
+
+  private final transient MetricRegistry metricRegistry;
+  private final transient StringBuilder builder;
+
+  private MetricsServlet(MetricRegistry metricRegistry) {
+    this.metricRegistry = metricRegistry;
+    builder = new StringBuilder(DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * Creates a new servlet.
+   *
+   * @param metricRegistry the {@link MetricRegistry} to expose
+   * @return a new instance of {@link MetricsServlet}
+   */
+  public static MetricsServlet newInstance(MetricRegistry metricRegistry) {
+    return new MetricsServlet(metricRegistry);
+  }
+
+  @Override
+  protected void doGet(HttpServletRequest request, HttpServletResponse response)
+      throws IOException {
+    String text;
+    synchronized (builder) {
+      builder.setLength(0);
+      MetricTextFormat.write(metricRegistry, builder);
+      text = builder.toString();
+    }
+
+    response.setStatus(HttpServletResponse.SC_OK);
+    response.setContentType(MetricTextFormat.CONTENT_TYPE);
+    var writer = response.getWriter();
+    writer.write(text);
+    writer.flush();
+  }
+}
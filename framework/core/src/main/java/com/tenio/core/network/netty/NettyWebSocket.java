@@ -24,7 +24,9 @@ THE SOFTWARE.
 
 package com.tenio.core.network.netty;
 
+import com.tenio.core.network.configuration.PerMessageDeflateConfiguration;
 import com.tenio.core.network.configuration.SocketConfiguration;
+import com.tenio.core.network.configuration.WebSocketWriteBufferConfiguration;
 import com.tenio.core.network.entity.outbound.packet.Packet;
 import com.tenio.core.network.entity.session.manager.SessionManager;
 import com.tenio.core.network.security.filter.ConnectionFilter;
@@ -123,6 +125,25 @@ public interface NettyWebSocket extends Service {
    */
   void setWebSocketConfiguration(SocketConfiguration socketConfiguration);
 
+  /**
+   * Sets the write buffer water marks of the WebSocket channels.
+   *
+   * @param writeBufferConfiguration the {@link WebSocketWriteBufferConfiguration}
+   * @since 0.7.4
+   */
+  void setWriteBufferConfiguration(WebSocketWriteBufferConfiguration writeBufferConfiguration);
+
+  /**
+   * Enables the permessage-deflate extension for the WebSocket clients that negotiate it. The
+   * packets sent to these clients skip the per-packet compression, the others keep it.
+   *
+   * @param perMessageDeflateConfiguration the {@link PerMessageDeflateConfiguration}, or
+   *                                       {@code null} to disable the extension
+   * @since 0.7.4
+   */
+  void setPerMessageDeflateConfiguration(
+      PerMessageDeflateConfiguration perMessageDeflateConfiguration);
+
   /**
    * Determines whether the WebSocket is able to use the SSL.
    *
@@ -30,9 +30,14 @@ import com.tenio.core.event.implement.EventManager;
 import com.tenio.core.exception.ServiceRuntimeException;
 import com.tenio.core.manager.AbstractManager;
 import com.tenio.core.network.configuration.SocketConfiguration;
+import com.tenio.core.network.configuration.SocketTuning;
+import com.tenio.core.network.configuration.PerMessageDeflateConfiguration;
+import com.tenio.core.network.configuration.WebSocketWriteBufferConfiguration;
 import com.tenio.core.network.entity.outbound.packet.Packet;
+import com.tenio.core.network.entity.session.Session;
 import com.tenio.core.network.entity.session.manager.SessionManager;
 import com.tenio.core.network.netty.websocket.NettyWsInitializer;
+import com.tenio.core.network.netty.websocket.NettyWsWriter;
 import com.tenio.core.network.security.filter.ConnectionFilter;
 import com.tenio.core.network.security.ssl.WebSocketSslContext;
 import com.tenio.core.network.statistic.NetworkReaderStatistic;
@@ -40,18 +45,27 @@ import com.tenio.core.network.statistic.NetworkWriterStatistic;
 import com.tenio.core.network.codec.decoder.BinaryPacketDecoder;
 import com.tenio.core.network.codec.encoder.BinaryPacketEncoder;
 import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.MultiThreadIoEventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollIoHandler;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.nio.NioIoHandler;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
-import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionEncoder;
 import io.netty.util.concurrent.DefaultThreadFactory;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * The implementation for the Netty's websockets services.
@@ -81,6 +95,9 @@ public final class NettyWebSocketImpl extends AbstractManager implements NettyWe
   private BinaryPacketDecoder binaryPacketDecoder;
   private NetworkReaderStatistic networkReaderStatistic;
   private NetworkWriterStatistic networkWriterStatistic;
+  private NettyWsWriter nettyWsWriter;
+  private WebSocketWriteBufferConfiguration writeBufferConfiguration;
+  private PerMessageDeflateConfiguration perMessageDeflateConfiguration;
   private SocketConfiguration socketConfiguration;
   private boolean usingSsl;
 
@@ -93,6 +110,7 @@ public final class NettyWebSocketImpl extends AbstractManager implements NettyWe
     receiverBufferSize = DEFAULT_RECEIVER_BUFFER_SIZE;
     producerWorkerSize = DEFAULT_PRODUCER_WORKER_SIZE;
     consumerWorkerSize = DEFAULT_CONSUMER_WORKER_SIZE;
+    writeBufferConfiguration = WebSocketWriteBufferConfiguration.getDefault();
 
     initialized = false;
   }
@@ -115,8 +133,13 @@ public final class NettyWebSocketImpl extends AbstractManager implements NettyWe
     var defaultWebsocketThreadFactory =
         new DefaultThreadFactory(PREFIX_WEBSOCKET, true, Thread.NORM_PRIORITY);
 
-    webSocketAcceptors = new NioEventLoopGroup(producerWorkerSize, defaultWebsocketThreadFactory);
-    webSocketWorkers = new NioEventLoopGroup(consumerWorkerSize, defaultWebsocketThreadFactory);
+    // the native transport saves the selector's bookkeeping and some copies on Linux, NIO is
+    // still used wherever the native library cannot be loaded
+    boolean usingEpoll = isEpollAvailable();
+    webSocketAcceptors = createEventLoopGroup(usingEpoll, producerWorkerSize,
+        defaultWebsocketThreadFactory);
+    webSocketWorkers = createEventLoopGroup(usingEpoll, consumerWorkerSize,
+        defaultWebsocketThreadFactory);
     serverWebSockets = new ArrayList<>();
 
     WebSocketSslContext sslContext = null;
@@ -124,20 +147,90 @@ public final class NettyWebSocketImpl extends AbstractManager implements NettyWe
       sslContext = new WebSocketSslContext();
     }
 
+    // the buffer sizes in the tuning profile take precedence over the sender/receiver settings
+    var socketTuning = socketConfiguration.tuning();
+    int sendBufferSize = SocketTuning.isSet(socketTuning.sendBufferSize()) ?
+        socketTuning.sendBufferSize() : senderBufferSize;
+    int receiveBufferSize = SocketTuning.isSet(socketTuning.receiveBufferSize()) ?
+        socketTuning.receiveBufferSize() : receiverBufferSize;
+
     bootstrap = new ServerBootstrap();
-    bootstrap.group(webSocketAcceptors, webSocketWorkers).channel(NioServerSocketChannel.class)
-        .option(ChannelOption.SO_BACKLOG, 5)
-        .childOption(ChannelOption.SO_SNDBUF, senderBufferSize)
-        .childOption(ChannelOption.SO_RCVBUF, receiverBufferSize)
-        .childOption(ChannelOption.SO_KEEPALIVE, true)
+    bootstrap.group(webSocketAcceptors, webSocketWorkers).channel(getServerChannelClass(usingEpoll))
+        // accepted sockets inherit the receiving buffer size of the server socket
+        .option(ChannelOption.SO_RCVBUF, receiveBufferSize)
+        .option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+        // the inbound frames and the handshake responses are carved from pooled arenas
+        .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+        .childOption(ChannelOption.TCP_NODELAY, socketTuning.tcpNoDelay())
+        .childOption(ChannelOption.SO_KEEPALIVE, socketTuning.keepAlive())
+        .childOption(ChannelOption.SO_SNDBUF, sendBufferSize)
+        .childOption(ChannelOption.SO_RCVBUF, receiveBufferSize)
+        // a channel above its high water mark makes the writer park packets in the session's
+        // outbound queue rather than growing Netty's outbound buffer without bound
+        .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK,
+            new WriteBufferWaterMark(writeBufferConfiguration.lowWaterMark(),
+                writeBufferConfiguration.highWaterMark()))
         .childHandler(NettyWsInitializer.newInstance(eventManager, sessionManager,
-            connectionFilter, binaryPacketDecoder, networkReaderStatistic, sslContext, usingSsl));
+            connectionFilter, binaryPacketDecoder, networkReaderStatistic, nettyWsWriter,
+            perMessageDeflateConfiguration, sslContext, usingSsl));
+    // otherwise, Netty uses the system's maximum backlog
+    if (SocketTuning.isSet(socketTuning.backlog())) {
+      bootstrap.option(ChannelOption.SO_BACKLOG, socketTuning.backlog());
+    }
+    if (SocketTuning.isSet(socketTuning.lingerInSeconds())) {
+      bootstrap.childOption(ChannelOption.SO_LINGER, socketTuning.lingerInSeconds());
+    }
+    if (SocketTuning.isSet(socketTuning.trafficClass())) {
+      bootstrap.childOption(ChannelOption.IP_TOS, socketTuning.trafficClass());
+    }
+
+    if (isInfoEnabled()) {
+      info("WEB SOCKET TRANSPORT", buildgen("Using ", usingEpoll ? "epoll" : "nio",
+          " transport with the pooled buffer allocator"));
+    }
+
+    if (isInfoEnabled()) {
+      info("WEB SOCKET TUNING", buildgen("Accepted connections use: TCP_NODELAY=",
+          socketTuning.tcpNoDelay(), ", SO_KEEPALIVE=", socketTuning.keepAlive(), ", SO_RCVBUF=",
+          receiveBufferSize, ", SO_SNDBUF=", sendBufferSize, ", SO_LINGER=",
+          socketTuning.lingerInSeconds(), ", IP_TOS=", socketTuning.trafficClass(),
+          ", WRITE_BUFFER_WATER_MARK=", writeBufferConfiguration.lowWaterMark(), "/",
+          writeBufferConfiguration.highWaterMark()));
+    }
+
+    if (perMessageDeflateConfiguration != null && isInfoEnabled()) {
+      info("WEB SOCKET COMPRESSION", buildgen("Negotiating permessage-deflate with: level=",
+          perMessageDeflateConfiguration.compressionLevel(), ", client window bits=",
+          perMessageDeflateConfiguration.clientWindowBits(), ", client context takeover=",
+          perMessageDeflateConfiguration.clientContextTakeover(), ", minimum size=",
+          perMessageDeflateConfiguration.minimumSizeInBytes(),
+          " bytes, the other clients keep the packet compression"));
+    }
 
     if (isInfoEnabled()) {
       info("WEB SOCKET", buildgen("Started at port: ", socketConfiguration.port()));
     }
   }
 
+  private boolean isEpollAvailable() {
+    try {
+      return Epoll.isAvailable();
+    } catch (LinkageError error) {
+      // the native transport is not shipped along with the application
+      return false;
+    }
+  }
+
+  private EventLoopGroup createEventLoopGroup(boolean usingEpoll, int threads,
+                                              ThreadFactory threadFactory) {
+    return new MultiThreadIoEventLoopGroup(threads, threadFactory,
+        usingEpoll ? EpollIoHandler.newFactory() : NioIoHandler.newFactory());
+  }
+
+  private Class<? extends ServerChannel> getServerChannelClass(boolean usingEpoll) {
+    return usingEpoll ? EpollServerSocketChannel.class : NioServerSocketChannel.class;
+  }
+
   private void attemptToShutdown() {
     for (var socket : serverWebSockets) {
       close(socket);
@@ -228,6 +321,13 @@ public final class NettyWebSocketImpl extends AbstractManager implements NettyWe
       throw new RuntimeException(exception);
     }
     serverWebSockets.add(channelFuture.channel());
+
+    if (isInfoEnabled()) {
+      var serverConfig = channelFuture.channel().config();
+      info("WEB SOCKET", buildgen("Bound at port: ", socketConfiguration.port(), ", backlog: ",
+          serverConfig.getOption(ChannelOption.SO_BACKLOG), ", SO_RCVBUF=",
+          serverConfig.getOption(ChannelOption.SO_RCVBUF)));
+    }
   }
 
   @Override
@@ -298,6 +398,7 @@ public final class NettyWebSocketImpl extends AbstractManager implements NettyWe
   @Override
   public void setNetworkWriterStatistic(NetworkWriterStatistic networkWriterStatistic) {
     this.networkWriterStatistic = networkWriterStatistic;
+    nettyWsWriter = NettyWsWriter.newInstance(networkWriterStatistic);
   }
 
   @Override
@@ -305,6 +406,18 @@ public final class NettyWebSocketImpl extends AbstractManager implements NettyWe
     this.socketConfiguration = socketConfiguration;
   }
 
+  @Override
+  public void setWriteBufferConfiguration(
+      WebSocketWriteBufferConfiguration writeBufferConfiguration) {
+    this.writeBufferConfiguration = writeBufferConfiguration;
+  }
+
+  @Override
+  public void setPerMessageDeflateConfiguration(
+      PerMessageDeflateConfiguration perMessageDeflateConfiguration) {
+    this.perMessageDeflateConfiguration = perMessageDeflateConfiguration;
+  }
+
   @Override
   public void setUsingSsl(boolean usingSsl) {
     this.usingSsl = usingSsl;
@@ -312,34 +425,68 @@ public final class NettyWebSocketImpl extends AbstractManager implements NettyWe
 
   @Override
   public void write(Packet packet) {
-    var iterator = packet.getRecipients().iterator();
-    while (iterator.hasNext()) {
-      var session = iterator.next();
-      if (packet.isMarkedAsLast()) {
-        try {
-          if (session.isActivated()) {
-            session.close(ConnectionDisconnectMode.CLIENT_REQUEST,
-                PlayerDisconnectMode.CLIENT_REQUEST);
+    // The packet is encoded once, for the first activated recipient. Every frame then shares its
+    // bytes through a retained duplicate, and the content is released once all frames are queued.
+    // A recipient whose channel is saturated gets the packet parked in its outbound queue.
+    // With permessage-deflate, the transport compresses the frames of the clients which
+    // negotiated it, so they get a variant without the packet compression. The other clients
+    // keep the packet compression. The encoder changes the packet it encodes, so both variants
+    // are encoded from copies.
+    boolean deflateEnabled = perMessageDeflateConfiguration != null;
+    Packet encodedPacket = null;
+    ByteBuf content = null;
+    Packet deflatedPacket = null;
+    ByteBuf deflatedContent = null;
+    try {
+      var iterator = packet.getRecipients().iterator();
+      while (iterator.hasNext()) {
+        var session = iterator.next();
+        if (packet.isMarkedAsLast()) {
+          try {
+            if (session.isActivated()) {
+              session.close(ConnectionDisconnectMode.CLIENT_REQUEST,
+                  PlayerDisconnectMode.CLIENT_REQUEST);
+            }
+          } catch (IOException exception) {
+            if (isErrorEnabled()) {
+              error(exception, session.toString());
+            }
           }
-        } catch (IOException exception) {
-          if (isErrorEnabled()) {
-            error(exception, session.toString());
+          return;
+        }
+        if (session.isActivated()) {
+          if (deflateEnabled && isPerMessageDeflateNegotiated(session)) {
+            if (deflatedContent == null) {
+              deflatedPacket = binaryPacketEncoder.encode(packet.deepCopy(), false);
+              deflatedContent = Unpooled.wrappedBuffer(deflatedPacket.getData());
+            }
+            nettyWsWriter.write(session, deflatedPacket, deflatedContent);
+          } else {
+            if (content == null) {
+              encodedPacket = binaryPacketEncoder.encode(deflateEnabled ? packet.deepCopy() : packet);
+              content = Unpooled.wrappedBuffer(encodedPacket.getData());
+            }
+            nettyWsWriter.write(session, encodedPacket, content);
+          }
+        } else {
+          if (isDebugEnabled()) {
+            debug("WRITE WEBSOCKET CHANNEL", "Session is inactivated: ", session.toString());
           }
         }
-        return;
       }
-      if (session.isActivated()) {
-        packet = binaryPacketEncoder.encode(packet);
-        session.fetchWebSocketChannel()
-            .writeAndFlush(new BinaryWebSocketFrame(Unpooled.wrappedBuffer(packet.getData())));
-        session.addWrittenBytes(packet.getOriginalSize());
-        networkWriterStatistic.updateWrittenBytes(packet.getOriginalSize());
-        networkWriterStatistic.updateWrittenPackets(1);
-      } else {
-        if (isDebugEnabled()) {
-          debug("WRITE WEBSOCKET CHANNEL", "Session is inactivated: ", session.toString());
-        }
+    } finally {
+      if (content != null) {
+        content.release();
+      }
+      if (deflatedContent != null) {
+        deflatedContent.release();
       }
     }
   }
+
+  private boolean isPerMessageDeflateNegotiated(Session session) {
+    // the extension handler installs its frame encoder once the client accepted the extension
+    var channel = session.fetchWebSocketChannel();
+    return channel != null && channel.pipeline().get(WebSocketExtensionEncoder.class) != null;
+  }
 }
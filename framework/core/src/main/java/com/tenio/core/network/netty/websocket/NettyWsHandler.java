@@ -31,12 +31,14 @@ import com.tenio.core.entity.define.mode.PlayerDisconnectMode;
 import com.tenio.core.event.implement.EventManager;
 import com.tenio.core.exception.InboundQueueFullException;
 import com.tenio.core.exception.RefusedConnectionAddressException;
+import com.tenio.core.network.codec.CodecUtility;
 import com.tenio.core.network.entity.session.Session;
 import com.tenio.core.network.entity.session.manager.SessionManager;
 import com.tenio.core.network.security.filter.ConnectionFilter;
 import com.tenio.core.network.statistic.NetworkReaderStatistic;
 import com.tenio.core.network.utility.SocketUtility;
 import com.tenio.core.network.codec.decoder.BinaryPacketDecoder;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
@@ -87,7 +89,7 @@ public final class NettyWsHandler extends ChannelInboundHandlerAdapter {
 
   @Override
   public void channelInactive(ChannelHandlerContext ctx) {
-    var session = sessionManager.getSessionByWebSocket(ctx.channel());
+    var session = getSession(ctx.channel());
     // if the socket is handled by its session, let the session processes
     if (session != null && session.isActivated()) {
       try {
@@ -107,13 +109,19 @@ public final class NettyWsHandler extends ChannelInboundHandlerAdapter {
   public void channelRead(ChannelHandlerContext ctx, Object raw) {
     // only allow this type of frame
     if (raw instanceof BinaryWebSocketFrame) {
-      // convert the BinaryWebSocketFrame to bytes' array
+      // the header is read in place and only the body is copied out of the frame
       var buffer = ((BinaryWebSocketFrame) raw).content();
-      var binaries = new byte[buffer.readableBytes()];
-      buffer.getBytes(buffer.readerIndex(), binaries);
+      int readableBytes = buffer.readableBytes();
+      if (readableBytes == 0) {
+        buffer.release();
+        return;
+      }
+      var packetHeader = CodecUtility.decodeFirstHeaderByte(buffer.getByte(buffer.readerIndex()));
+      var binaries = new byte[readableBytes - 1];
+      buffer.getBytes(buffer.readerIndex() + 1, binaries);
       buffer.release();
 
-      var session = sessionManager.getSessionByWebSocket(ctx.channel());
+      var session = getSession(ctx.channel());
 
       if (session == null) {
         try {
@@ -146,11 +154,11 @@ public final class NettyWsHandler extends ChannelInboundHandlerAdapter {
         return;
       }
 
-      session.addReadBytes(binaries.length);
-      networkReaderStatistic.updateReadBytes(binaries.length);
+      session.addReadBytes(readableBytes);
+      networkReaderStatistic.updateReadBytes(readableBytes);
       networkReaderStatistic.updateReadPackets(1);
 
-      var message = binaryPacketDecoder.decode(binaries);
+      var message = binaryPacketDecoder.decode(packetHeader, binaries);
 
       if (session.isAssociatedToPlayer(Session.AssociatedState.NONE)) {
         eventManager.emit(ServerEvent.SESSION_REQUEST_CONNECTION, session, message);
@@ -164,9 +172,21 @@ public final class NettyWsHandler extends ChannelInboundHandlerAdapter {
     }
   }
 
+  private Session getSession(Channel channel) {
+    // the session is bound to its channel when it is created, the management list is only
+    // consulted for a channel which has not been bound yet
+    if (channel.hasAttr(SessionManager.WEBSOCKET_SESSION_ATTRIBUTE)) {
+      var session = channel.attr(SessionManager.WEBSOCKET_SESSION_ATTRIBUTE).get();
+      if (session != null) {
+        return session;
+      }
+    }
+    return sessionManager.getSessionByWebSocket(channel);
+  }
+
   @Override
   public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
-    var session = sessionManager.getSessionByWebSocket(ctx.channel());
+    var session = getSession(ctx.channel());
     if (session != null) {
       if (logger.isErrorEnabled()) {
         logger.error(cause, "Session: ", session.toString());
@@ -25,6 +25,7 @@ THE SOFTWARE.
 package com.tenio.core.network.netty.websocket;
 
 import com.tenio.core.event.implement.EventManager;
+import com.tenio.core.network.configuration.PerMessageDeflateConfiguration;
 import com.tenio.core.network.entity.session.manager.SessionManager;
 import com.tenio.core.network.security.filter.ConnectionFilter;
 import com.tenio.core.network.security.ssl.WebSocketSslContext;
@@ -33,6 +34,12 @@ import com.tenio.core.network.codec.decoder.BinaryPacketDecoder;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionFilter;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionFilterProvider;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketServerExtensionHandler;
+import io.netty.handler.codec.http.websocketx.extensions.compression.PerMessageDeflateServerExtensionHandshaker;
+import io.netty.handler.flush.FlushConsolidationHandler;
 import io.netty.handler.ssl.SslHandler;
 import javax.net.ssl.SSLEngine;
 
@@ -46,6 +53,8 @@ public final class NettyWsInitializer extends ChannelInitializer<SocketChannel>
   private final ConnectionFilter connectionFilter;
   private final BinaryPacketDecoder binaryPacketDecoder;
   private final NetworkReaderStatistic networkReaderStatistic;
+  private final NettyWsWriter nettyWsWriter;
+  private final PerMessageDeflateServerExtensionHandshaker perMessageDeflateHandshaker;
   private final WebSocketSslContext sslContext;
   private final boolean usingSsl;
 
@@ -53,12 +62,17 @@ public final class NettyWsInitializer extends ChannelInitializer<SocketChannel>
                              ConnectionFilter connectionFilter,
                              BinaryPacketDecoder binaryPacketDecoder,
                              NetworkReaderStatistic networkReaderStatistic,
+                             NettyWsWriter nettyWsWriter,
+                             PerMessageDeflateConfiguration deflateConfiguration,
                              WebSocketSslContext sslContext, boolean usingSsl) {
     this.eventManager = eventManager;
     this.sessionManager = sessionManager;
     this.connectionFilter = connectionFilter;
     this.binaryPacketDecoder = binaryPacketDecoder;
     this.networkReaderStatistic = networkReaderStatistic;
+    this.nettyWsWriter = nettyWsWriter;
+    perMessageDeflateHandshaker = deflateConfiguration != null ?
+        createPerMessageDeflateHandshaker(deflateConfiguration) : null;
     this.sslContext = sslContext;
     this.usingSsl = usingSsl;
   }
@@ -71,6 +85,9 @@ public final class NettyWsInitializer extends ChannelInitializer<SocketChannel>
    * @param connectionFilter       the instance of {@link ConnectionFilter}
    * @param binaryPacketDecoder    the instance of {@link BinaryPacketDecoder}
    * @param networkReaderStatistic the instance of {@link NetworkReaderStatistic}
+   * @param nettyWsWriter          the instance of {@link NettyWsWriter}, shared by all channels
+   * @param deflateConfiguration   the {@link PerMessageDeflateConfiguration}, or {@code null} if
+   *                               the permessage-deflate extension is disabled
    * @param sslContext             the {@link WebSocketSslContext}
    * @param usingSsl               is using ssl or not
    * @return an instance
@@ -80,15 +97,53 @@ public final class NettyWsInitializer extends ChannelInitializer<SocketChannel>
                                                ConnectionFilter connectionFilter,
                                                BinaryPacketDecoder binaryPacketDecoder,
                                                NetworkReaderStatistic networkReaderStatistic,
+                                               NettyWsWriter nettyWsWriter,
+                                               PerMessageDeflateConfiguration deflateConfiguration,
                                                WebSocketSslContext sslContext, boolean usingSsl) {
     return new NettyWsInitializer(eventManager, sessionManager, connectionFilter,
-        binaryPacketDecoder, networkReaderStatistic, sslContext, usingSsl);
+        binaryPacketDecoder, networkReaderStatistic, nettyWsWriter, deflateConfiguration,
+        sslContext, usingSsl);
+  }
+
+  private static PerMessageDeflateServerExtensionHandshaker createPerMessageDeflateHandshaker(
+      PerMessageDeflateConfiguration configuration) {
+    int minimumSizeInBytes = configuration.minimumSizeInBytes();
+    // small frames are sent as they are, the inbound frames are always inflated when the client
+    // marked them as compressed
+    var filterProvider = new WebSocketExtensionFilterProvider() {
+      @Override
+      public WebSocketExtensionFilter encoderFilter() {
+        return (WebSocketFrame frame) -> frame.content().readableBytes() < minimumSizeInBytes;
+      }
+
+      @Override
+      public WebSocketExtensionFilter decoderFilter() {
+        return WebSocketExtensionFilter.NEVER_SKIP;
+      }
+    };
+    // the server's window and context follow the client's offer, declining a smaller server window
+    // or a server context reset would disable the extension for that client. The client settings
+    // only apply when the client offers client_max_window_bits or client_no_context_takeover. The
+    // last argument (0) leaves the inflated message size unbounded, as it was before
+    return new PerMessageDeflateServerExtensionHandshaker(configuration.compressionLevel(), true,
+        configuration.clientWindowBits(), true, !configuration.clientContextTakeover(),
+        filterProvider, 0);
   }
 
   @Override
   protected void initChannel(SocketChannel channel) {
     var pipeline = channel.pipeline();
 
+    // it stays in front of every handler so a burst of written frames reaches the socket (and the
+    // ssl engine) with a single flush
+    pipeline.addLast("flush-consolidation",
+        new FlushConsolidationHandler(FlushConsolidationHandler.DEFAULT_EXPLICIT_FLUSH_AFTER_FLUSHES,
+            true));
+
+    // writes the parked packets of the session again once the channel drains below its low
+    // water mark
+    pipeline.addLast("writer", nettyWsWriter);
+
     // add ssl handler
     if (usingSsl) {
       SSLEngine engine = sslContext.getServerContext().createSSLEngine();
@@ -99,6 +154,13 @@ public final class NettyWsInitializer extends ChannelInitializer<SocketChannel>
     // add http-codec for TCP handshake
     pipeline.addLast("httpServerCodec", new HttpServerCodec());
 
+    // negotiates permessage-deflate with the clients offering it, once the upgrade response is
+    // written, it installs the frame deflater and inflater, then removes itself
+    if (perMessageDeflateHandshaker != null) {
+      pipeline.addLast("permessage-deflate",
+          new WebSocketServerExtensionHandler(perMessageDeflateHandshaker));
+    }
+
     // the logic handler
     pipeline.addLast("http-handshake",
         NettyWsHandShake.newInstance(eventManager, sessionManager, connectionFilter,
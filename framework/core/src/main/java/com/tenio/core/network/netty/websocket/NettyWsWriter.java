@@ -0,0 +1,162 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.netty.websocket;
+
+import com.tenio.common.logger.SystemLogger;
+import com.tenio.core.exception.OutboundQueueFullException;
+import com.tenio.core.exception.OutboundQueuePolicyViolationException;
+import com.tenio.core.monitoring.define.OutboundDropReason;
+import com.tenio.core.monitoring.jfr.OutboundPacketDroppedEvent;
+import com.tenio.core.network.entity.outbound.packet.Packet;
+import com.tenio.core.network.entity.session.Session;
+import com.tenio.core.network.entity.session.manager.SessionManager;
+import com.tenio.core.network.statistic.NetworkWriterStatistic;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+
+/**
+ * Writes encoded packets to WebSocket channels with backpressure. While a channel is writable and
+ * its session has nothing parked, a packet goes straight to the channel. Once the channel's
+ * outbound buffer rises above the high water mark, packets are parked in the session's outbound
+ * queue instead, so the {@link com.tenio.core.network.entity.outbound.packet.policy.OutboundQueuePolicy}
+ * decides which of them are dropped. The parked packets are written again, in order, when the
+ * channel reports it is writable. It sits in every WebSocket pipeline to receive that report.
+ *
+ * @since 0.7.4
+ */
+@ChannelHandler.Sharable
+public final class NettyWsWriter extends ChannelInboundHandlerAdapter {
+
+  private final NetworkWriterStatistic networkWriterStatistic;
+  private final NettyWsWriterPrivateLogger logger;
+
+  private NettyWsWriter(NetworkWriterStatistic networkWriterStatistic) {
+    this.networkWriterStatistic = networkWriterStatistic;
+    logger = new NettyWsWriterPrivateLogger();
+  }
+
+  /**
+   * Creates a new instance of the websocket writer.
+   *
+   * @param networkWriterStatistic the instance of {@link NetworkWriterStatistic}
+   * @return a new instance of {@link NettyWsWriter}
+   */
+  public static NettyWsWriter newInstance(NetworkWriterStatistic networkWriterStatistic) {
+    return new NettyWsWriter(networkWriterStatistic);
+  }
+
+  /**
+   * Writes an encoded packet to the session's channel, or parks it when the channel cannot take
+   * more data at the moment.
+   *
+   * @param session the recipient {@link Session}
+   * @param packet  the encoded {@link Packet}
+   * @param content the packet's data shared by all recipients, the frame takes a retained
+   *                duplicate of it
+   */
+  public void write(Session session, Packet packet, ByteBuf content) {
+    var channel = session.fetchWebSocketChannel();
+    var outboundQueue = session.fetchOutboundQueue();
+    // the parked packets have to leave first, otherwise the order is broken
+    if (outboundQueue == null || (channel.isWritable() && outboundQueue.isEmpty())) {
+      writeFrame(session, channel, packet, content.retainedDuplicate());
+      return;
+    }
+
+    if (logger.isWarnEnabled()) {
+      int remaining = session.getRemainingSlowConsumingOutboundQueue();
+      if (remaining > 0) {
+        logger.warn("[Slow Consuming Outbound Queue] Remaining: ", remaining, " > ", session);
+      }
+    }
+
+    try {
+      outboundQueue.put(packet);
+    } catch (OutboundQueuePolicyViolationException exception) {
+      session.addDroppedPackets(1);
+      networkWriterStatistic.updateWrittenDroppedPacketsByPolicy(1);
+      OutboundPacketDroppedEvent.emit(session, packet, OutboundDropReason.POLICY_VIOLATION);
+      return;
+    } catch (OutboundQueueFullException exception) {
+      session.addDroppedPackets(1);
+      networkWriterStatistic.updateWrittenDroppedPacketsByFull(1);
+      OutboundPacketDroppedEvent.emit(session, packet, OutboundDropReason.QUEUE_FULL);
+      return;
+    }
+
+    // the channel may have turned writable before the packet was parked, nothing would wake
+    // the queue up then
+    if (channel.isWritable()) {
+      channel.eventLoop().execute(() -> writePendingPackets(session));
+    }
+  }
+
+  /**
+   * Writes the parked packets of a session while its channel stays writable.
+   *
+   * @param session the {@link Session}
+   */
+  public void writePendingPackets(Session session) {
+    var channel = session.fetchWebSocketChannel();
+    var outboundQueue = session.fetchOutboundQueue();
+    if (channel == null || outboundQueue == null) {
+      return;
+    }
+    while (channel.isWritable()) {
+      var packet = outboundQueue.take();
+      if (packet == null) {
+        return;
+      }
+      writeFrame(session, channel, packet, Unpooled.wrappedBuffer(packet.getData()));
+    }
+  }
+
+  @Override
+  public void channelWritabilityChanged(ChannelHandlerContext ctx) {
+    var channel = ctx.channel();
+    if (channel.isWritable() && channel.hasAttr(SessionManager.WEBSOCKET_SESSION_ATTRIBUTE)) {
+      var session = channel.attr(SessionManager.WEBSOCKET_SESSION_ATTRIBUTE).get();
+      if (session != null && session.isActivated()) {
+        writePendingPackets(session);
+      }
+    }
+    ctx.fireChannelWritabilityChanged();
+  }
+
+  private void writeFrame(Session session, Channel channel, Packet packet, ByteBuf content) {
+    channel.writeAndFlush(new BinaryWebSocketFrame(content));
+    session.addWrittenBytes(packet.getOriginalSize());
+    networkWriterStatistic.updateWrittenBytes(packet.getOriginalSize());
+    networkWriterStatistic.updateWrittenPackets(1);
+  }
+}
+
+class NettyWsWriterPrivateLogger extends SystemLogger {
+}
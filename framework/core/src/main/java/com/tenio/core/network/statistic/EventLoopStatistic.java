@@ -0,0 +1,233 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.statistic;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks the load of one event loop (a thread polling its own selector) in the zero engine.
+ * The recent values are sampled over a window of time, so they reflect how busy a loop is at
+ * the moment instead of since the server started.
+ *
+ * <p>Key features:
+ * <ul>
+ *   <li>Number of channels registered to the loop</li>
+ *   <li>Utilization (the ratio between busy time and total time) of the loop</li>
+ *   <li>Recent rate of bytes read by the loop</li>
+ *   <li>Recent rate of packets read by the loop</li>
+ * </ul>
+ *
+ * @see NetworkReaderStatistic
+ * @since 0.7.4
+ */
+public final class EventLoopStatistic {
+
+  /**
+   * The minimum window of time that recent values are calculated on.
+   */
+  public static final long SAMPLING_INTERVAL_IN_NANOSECONDS = TimeUnit.SECONDS.toNanos(1L);
+
+  private final AtomicInteger channels;
+  private final LongAdder busyTime;
+  private final LongAdder idleTime;
+  private final LongAdder readBytes;
+  private final LongAdder readPackets;
+  private long lastSampledTime;
+  private long lastBusyTime;
+  private long lastIdleTime;
+  private long lastReadBytes;
+  private long lastReadPackets;
+  private double utilization;
+  private double byteRate;
+  private double packetRate;
+
+  private EventLoopStatistic() {
+    channels = new AtomicInteger();
+    busyTime = new LongAdder();
+    idleTime = new LongAdder();
+    readBytes = new LongAdder();
+    readPackets = new LongAdder();
+    lastSampledTime = System.nanoTime();
+  }
+
+  /**
+   * Initialization.
+   *
+   * @return a new instance of {@link EventLoopStatistic}
+   */
+  public static EventLoopStatistic newInstance() {
+    return new EventLoopStatistic();
+  }
+
+  /**
+   * Increases the number of channels registered to the loop by one.
+   */
+  public void increaseChannels() {
+    channels.incrementAndGet();
+  }
+
+  /**
+   * Sets the actual number of channels registered to the loop, it should be called by the loop
+   * itself.
+   *
+   * @param numberChannels the number of registered channels ({@code integer} value)
+   */
+  public void updateChannels(int numberChannels) {
+    channels.set(numberChannels);
+  }
+
+  /**
+   * Updates the time the loop spent on handling ready channels.
+   *
+   * @param nanoseconds the busy time in nanoseconds ({@code long} value)
+   */
+  public void updateBusyTime(long nanoseconds) {
+    busyTime.add(nanoseconds);
+  }
+
+  /**
+   * Updates the time the loop spent on waiting for ready channels.
+   *
+   * @param nanoseconds the idle time in nanoseconds ({@code long} value)
+   */
+  public void updateIdleTime(long nanoseconds) {
+    idleTime.add(nanoseconds);
+  }
+
+  /**
+   * Updates the number of bytes read by the loop.
+   *
+   * @param numberBytes the additional read bytes ({@code long} value)
+   */
+  public void updateReadBytes(long numberBytes) {
+    readBytes.add(numberBytes);
+  }
+
+  /**
+   * Updates the number of packets read by the loop.
+   *
+   * @param numberPackets the additional read packets ({@code long} value)
+   */
+  public void updateReadPackets(long numberPackets) {
+    readPackets.add(numberPackets);
+  }
+
+  /**
+   * Retrieves the number of channels registered to the loop.
+   *
+   * @return the number of registered channels ({@code integer} value)
+   */
+  public int getChannels() {
+    return channels.get();
+  }
+
+  /**
+   * Retrieves the total number of bytes read by the loop.
+   *
+   * @return the total read bytes ({@code long} value)
+   */
+  public long getReadBytes() {
+    return readBytes.sum();
+  }
+
+  /**
+   * Retrieves the total number of packets read by the loop.
+   *
+   * @return the total read packets ({@code long} value)
+   */
+  public long getReadPackets() {
+    return readPackets.sum();
+  }
+
+  /**
+   * Retrieves the recent utilization of the loop.
+   *
+   * @return a {@code double} value between {@code 0.0} (always waiting) and {@code 1.0} (never
+   * waiting)
+   */
+  public synchronized double getUtilization() {
+    sample(System.nanoTime());
+    return utilization;
+  }
+
+  /**
+   * Retrieves the recent rate of bytes read by the loop.
+   *
+   * @return the number of read bytes per second ({@code double} value)
+   */
+  public synchronized double getRecentByteRate() {
+    sample(System.nanoTime());
+    return byteRate;
+  }
+
+  /**
+   * Retrieves the recent rate of packets read by the loop.
+   *
+   * @return the number of read packets per second ({@code double} value)
+   */
+  public synchronized double getRecentPacketRate() {
+    sample(System.nanoTime());
+    return packetRate;
+  }
+
+  synchronized void sample(long nanoTime) {
+    long elapsedTime = nanoTime - lastSampledTime;
+    if (elapsedTime >= SAMPLING_INTERVAL_IN_NANOSECONDS) {
+      long currentBusyTime = busyTime.sum();
+      long currentIdleTime = idleTime.sum();
+      long currentReadBytes = readBytes.sum();
+      long currentReadPackets = readPackets.sum();
+
+      long busyDelta = currentBusyTime - lastBusyTime;
+      long totalDelta = busyDelta + currentIdleTime - lastIdleTime;
+      // a loop blocked on its selector during the whole window has nothing recorded yet
+      utilization = totalDelta > 0 ? (double) busyDelta / totalDelta : 0.0;
+      byteRate = (currentReadBytes - lastReadBytes) * (double) TimeUnit.SECONDS.toNanos(1L) /
+          elapsedTime;
+      packetRate = (currentReadPackets - lastReadPackets) *
+          (double) TimeUnit.SECONDS.toNanos(1L) / elapsedTime;
+
+      lastSampledTime = nanoTime;
+      lastBusyTime = currentBusyTime;
+      lastIdleTime = currentIdleTime;
+      lastReadBytes = currentReadBytes;
+      lastReadPackets = currentReadPackets;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "EventLoopStatistic{" +
+        "channels=" + getChannels() +
+        ", readBytes=" + getReadBytes() +
+        ", utilization=" + getUtilization() +
+        ", readPackets=" + getReadPackets() +
+        ", recentByteRate=" + getRecentByteRate() +
+        ", recentPacketRate=" + getRecentPacketRate() +
+        '}';
+  }
+}
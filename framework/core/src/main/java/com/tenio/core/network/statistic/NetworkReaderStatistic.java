@@ -24,6 +24,7 @@ THE SOFTWARE.
 
 package com.tenio.core.network.statistic;
 
+import com.tenio.core.monitoring.metric.MetricRegistry;
 import java.util.concurrent.atomic.LongAdder;
 
 /**
@@ -118,6 +119,22 @@ public final class NetworkReaderStatistic {
     return readDroppedPackets.sum();
   }
 
+  /**
+   * Publishes the counters into a metric registry. The registered metrics read the counters of
+   * this statistic, so nothing is counted twice.
+   *
+   * @param metricRegistry the {@link MetricRegistry}
+   * @since 0.7.4
+   */
+  public void registerMetrics(MetricRegistry metricRegistry) {
+    metricRegistry.counter("tenio_network_read_bytes_total",
+        "The number of bytes received from clients", this::getReadBytes);
+    metricRegistry.counter("tenio_network_read_packets_total",
+        "The number of packets received from clients", this::getReadPackets);
+    metricRegistry.counter("tenio_network_read_dropped_packets_total",
+        "The number of received packets refused by the policies", this::getReadDroppedPackets);
+  }
+
   @Override
   public String toString() {
     return "NetworkReaderStatistic{" +
@@ -24,15 +24,18 @@ THE SOFTWARE.
 
 package com.tenio.core.network.statistic;
 
+import com.tenio.core.monitoring.metric.MetricRegistry;
 import com.tenio.core.network.entity.outbound.packet.OutboundQueue;
 import com.tenio.core.network.entity.outbound.packet.policy.OutboundQueuePolicy;
 
+import java.util.concurrent.atomic.LongAccumulator;
 import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Tracks and manages network writing statistics for the server.
  * This class provides thread-safe counters for monitoring bytes written,
- * packets sent, and dropped packets due to policy violations or queue overflow.
+ * packets sent, dropped packets due to policy violations or queue overflow, and packets which
+ * could not be written at once (partial writes).
  *
  * <p>Key features:
  * <ul>
@@ -40,6 +43,8 @@ import java.util.concurrent.atomic.LongAdder;
  *   <li>Bytes written tracking</li>
  *   <li>Packet count monitoring</li>
  *   <li>Dropped packet statistics (policy and queue overflow)</li>
+ *   <li>Time spent in the partial-write state</li>
+ *   <li>Datagrams saved by bundling small UDP packets</li>
  *   <li>Singleton instance management</li>
  * </ul>
  *
@@ -54,12 +59,22 @@ public final class NetworkWriterStatistic {
   private final LongAdder writtenPackets;
   private final LongAdder writtenDroppedPacketsByPolicy;
   private final LongAdder writtenDroppedPacketsByFull;
+  private final LongAdder writtenPartialPackets;
+  private final LongAdder partialWriteTime;
+  private final LongAccumulator maxPartialWriteTime;
+  private final LongAdder writtenBundles;
+  private final LongAdder bundledPackets;
 
   private NetworkWriterStatistic() {
     writtenBytes = new LongAdder();
     writtenPackets = new LongAdder();
     writtenDroppedPacketsByPolicy = new LongAdder();
     writtenDroppedPacketsByFull = new LongAdder();
+    writtenPartialPackets = new LongAdder();
+    partialWriteTime = new LongAdder();
+    maxPartialWriteTime = new LongAccumulator(Math::max, 0L);
+    writtenBundles = new LongAdder();
+    bundledPackets = new LongAdder();
   }
 
   /**
@@ -113,6 +128,31 @@ public final class NetworkWriterStatistic {
     writtenDroppedPacketsByFull.add(numberPackets);
   }
 
+  /**
+   * Updates the time a packet spent in the partial-write state, from the moment its data could
+   * not be written at once to the moment its last byte was written.
+   *
+   * @param nanoseconds {@code long} value, the time in nanoseconds the packet spent in the
+   *                    partial-write state
+   * @since 0.7.4
+   */
+  public void updatePartialWriteTime(long nanoseconds) {
+    writtenPartialPackets.increment();
+    partialWriteTime.add(nanoseconds);
+    maxPartialWriteTime.accumulate(nanoseconds);
+  }
+
+  /**
+   * Updates the statistic with one sent datagram which bundled several packets.
+   *
+   * @param numberPackets {@code long} value, the number of packets carried by the datagram
+   * @since 0.7.4
+   */
+  public void updateWrittenBundle(long numberPackets) {
+    writtenBundles.increment();
+    bundledPackets.add(numberPackets);
+  }
+
   /**
    * Retrieves the current number of sending bytes data to clients side.
    *
@@ -164,6 +204,96 @@ public final class NetworkWriterStatistic {
     return getWrittenDroppedPacketsByPolicy() + getWrittenDroppedPacketsByFull();
   }
 
+  /**
+   * Retrieves the current number of packets which were written to clients side in more than one
+   * attempt (partial writes).
+   *
+   * @return the number of partially written packets
+   * @since 0.7.4
+   */
+  public long getWrittenPartialPackets() {
+    return writtenPartialPackets.sum();
+  }
+
+  /**
+   * Retrieves the total time in nanoseconds packets spent in the partial-write state.
+   *
+   * @return the total time in nanoseconds spent in the partial-write state
+   * @since 0.7.4
+   */
+  public long getPartialWriteTime() {
+    return partialWriteTime.sum();
+  }
+
+  /**
+   * Retrieves the longest time in nanoseconds a packet spent in the partial-write state.
+   *
+   * @return the longest time in nanoseconds spent in the partial-write state
+   * @since 0.7.4
+   */
+  public long getMaxPartialWriteTime() {
+    return maxPartialWriteTime.get();
+  }
+
+  /**
+   * Retrieves the number of sent datagrams which bundled several packets.
+   *
+   * @return the number of sent bundles
+   * @since 0.7.4
+   */
+  public long getWrittenBundles() {
+    return writtenBundles.sum();
+  }
+
+  /**
+   * Retrieves the number of packets which were sent inside bundles.
+   *
+   * @return the number of bundled packets
+   * @since 0.7.4
+   */
+  public long getBundledPackets() {
+    return bundledPackets.sum();
+  }
+
+  /**
+   * Retrieves the number of datagrams, hence the IP/UDP headers and system calls, saved by
+   * bundling. Each bundle replaces as many datagrams as the packets it carries.
+   *
+   * @return the number of saved datagrams
+   * @since 0.7.4
+   */
+  public long getSavedDatagrams() {
+    // both counters are read separately, a concurrent update must not show a negative value
+    return Math.max(0L, getBundledPackets() - getWrittenBundles());
+  }
+
+  /**
+   * Publishes the counters into a metric registry. The registered metrics read the counters of
+   * this statistic, so nothing is counted twice.
+   *
+   * @param metricRegistry the {@link MetricRegistry}
+   * @since 0.7.4
+   */
+  public void registerMetrics(MetricRegistry metricRegistry) {
+    metricRegistry.counter("tenio_network_written_bytes_total",
+        "The number of bytes sent to clients", this::getWrittenBytes);
+    metricRegistry.counter("tenio_network_written_packets_total",
+        "The number of packets sent to clients", this::getWrittenPackets);
+    metricRegistry.counter("tenio_network_written_dropped_packets_by_policy_total",
+        "The number of outbound packets dropped by the outbound queue policy",
+        this::getWrittenDroppedPacketsByPolicy);
+    metricRegistry.counter("tenio_network_written_dropped_packets_by_full_total",
+        "The number of outbound packets dropped because the outbound queue was full",
+        this::getWrittenDroppedPacketsByFull);
+    metricRegistry.counter("tenio_network_written_partial_packets_total",
+        "The number of packets which could not be written at once",
+        this::getWrittenPartialPackets);
+    metricRegistry.counter("tenio_network_written_bundles_total",
+        "The number of datagrams carrying bundled packets", this::getWrittenBundles);
+    metricRegistry.counter("tenio_network_bundled_packets_total",
+        "The number of packets sent inside bundles", this::getBundledPackets);
+  }
+
   @Override
   public String toString() {
     return "NetworkWriterStatistic{" +
@@ -171,6 +301,11 @@ public final class NetworkWriterStatistic {
         ", writtenPackets=" + getWrittenPackets() +
         ", writtenDroppedPacketsByPolicy=" + getWrittenDroppedPacketsByPolicy() +
         ", writtenDroppedPacketsByFull=" + getWrittenDroppedPacketsByFull() +
+        ", writtenPartialPackets=" + getWrittenPartialPackets() +
+        ", partialWriteTime=" + getPartialWriteTime() +
+        ", maxPartialWriteTime=" + getMaxPartialWriteTime() +
+        ", writtenBundles=" + getWrittenBundles() +
+        ", bundledPackets=" + getBundledPackets() +
         '}';
   }
 }
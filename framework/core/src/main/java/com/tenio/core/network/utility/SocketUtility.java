@@ -24,15 +24,20 @@ THE SOFTWARE.
 
 package com.tenio.core.network.utility;
 
+import com.tenio.core.network.configuration.SocketTuning;
 import io.netty.channel.Channel;
 import java.io.IOException;
+import java.net.SocketOption;
+import java.net.StandardSocketOptions;
 import java.nio.ByteBuffer;
 import java.nio.channels.DatagramChannel;
+import java.nio.channels.NetworkChannel;
 import java.nio.channels.SelectableChannel;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
+import java.util.List;
 
 /**
  * The socket utility class.
@@ -41,6 +46,11 @@ import java.nio.channels.SocketChannel;
  */
 public final class SocketUtility {
 
+  private static final List<SocketOption<?>> TUNING_OPTIONS = List.of(
+      StandardSocketOptions.TCP_NODELAY, StandardSocketOptions.SO_KEEPALIVE,
+      StandardSocketOptions.SO_RCVBUF, StandardSocketOptions.SO_SNDBUF,
+      StandardSocketOptions.SO_LINGER, StandardSocketOptions.IP_TOS);
+
   private SocketUtility() {
     throw new UnsupportedOperationException();
   }
@@ -143,6 +153,71 @@ public final class SocketUtility {
     }
   }
 
+  /**
+   * Applies a tuning profile to a channel. Only the options which the channel supports are
+   * applied, e.g. a {@link ServerSocketChannel} only takes the receiving buffer size (it should
+   * be applied before binding so that accepted sockets inherit it), a {@link DatagramChannel}
+   * ignores the TCP options.
+   *
+   * @param channel the {@link NetworkChannel}
+   * @param tuning  the {@link SocketTuning} profile
+   * @throws IOException whenever there is any exception occurred
+   * @since 0.7.4
+   */
+  public static void applySocketTuning(NetworkChannel channel, SocketTuning tuning)
+      throws IOException {
+    var supportedOptions = channel.supportedOptions();
+    if (supportedOptions.contains(StandardSocketOptions.TCP_NODELAY)) {
+      channel.setOption(StandardSocketOptions.TCP_NODELAY, tuning.tcpNoDelay());
+    }
+    if (supportedOptions.contains(StandardSocketOptions.SO_KEEPALIVE)) {
+      channel.setOption(StandardSocketOptions.SO_KEEPALIVE, tuning.keepAlive());
+    }
+    if (SocketTuning.isSet(tuning.receiveBufferSize()) &&
+        supportedOptions.contains(StandardSocketOptions.SO_RCVBUF)) {
+      channel.setOption(StandardSocketOptions.SO_RCVBUF, tuning.receiveBufferSize());
+    }
+    if (SocketTuning.isSet(tuning.sendBufferSize()) &&
+        supportedOptions.contains(StandardSocketOptions.SO_SNDBUF)) {
+      channel.setOption(StandardSocketOptions.SO_SNDBUF, tuning.sendBufferSize());
+    }
+    if (SocketTuning.isSet(tuning.lingerInSeconds()) &&
+        supportedOptions.contains(StandardSocketOptions.SO_LINGER)) {
+      channel.setOption(StandardSocketOptions.SO_LINGER, tuning.lingerInSeconds());
+    }
+    if (SocketTuning.isSet(tuning.trafficClass()) &&
+        supportedOptions.contains(StandardSocketOptions.IP_TOS)) {
+      channel.setOption(StandardSocketOptions.IP_TOS, tuning.trafficClass());
+    }
+  }
+
+  /**
+   * Reads the effective values of the tuning options from a channel, the operating system may
+   * adjust requested values (e.g. doubling or capping buffer sizes).
+   *
+   * @param channel the {@link NetworkChannel}
+   * @return a {@link String} describing the effective options supported by the channel
+   * @since 0.7.4
+   */
+  public static String describeSocketTuning(NetworkChannel channel) {
+    var description = new StringBuilder();
+    var supportedOptions = channel.supportedOptions();
+    for (SocketOption<?> option : TUNING_OPTIONS) {
+      if (supportedOptions.contains(option)) {
+        if (!description.isEmpty()) {
+          description.append(", ");
+        }
+        description.append(option.name()).append('=');
+        try {
+          description.append(channel.getOption(option));
+        } catch (IOException | UnsupportedOperationException exception) {
+          description.append("n/a");
+        }
+      }
+    }
+    return description.toString();
+  }
+
   /**
    * Creates a byte buffer used for socket reading operations.
    *
@@ -24,17 +24,23 @@ THE SOFTWARE.
 
 package com.tenio.core.network.zero;
 
+import com.tenio.core.monitoring.latency.LatencyTracker;
 import com.tenio.core.network.codec.decoder.BinaryPacketDecoder;
 import com.tenio.core.network.codec.encoder.BinaryPacketEncoder;
+import com.tenio.core.network.configuration.DatagramBundleConfiguration;
+import com.tenio.core.network.configuration.ReliableDatagramConfiguration;
 import com.tenio.core.network.configuration.SocketConfiguration;
+import com.tenio.core.network.define.SocketReaderAssignment;
 import com.tenio.core.network.entity.outbound.packet.Packet;
 import com.tenio.core.network.entity.session.manager.SessionManager;
 import com.tenio.core.network.security.filter.ConnectionFilter;
+import com.tenio.core.network.statistic.EventLoopStatistic;
 import com.tenio.core.network.statistic.NetworkReaderStatistic;
 import com.tenio.core.network.statistic.NetworkWriterStatistic;
 import com.tenio.core.network.zero.engine.reader.policy.DatagramPacketPolicy;
 import com.tenio.core.service.Service;
 import java.nio.ByteBuffer;
+import java.util.List;
 
 /**
  * All APIs designed for working with sockets (TCP/UDP).
@@ -129,6 +135,14 @@ public interface ZeroSocket extends Service {
    */
   void setNetworkWriterStatistic(NetworkWriterStatistic networkWriterStatistic);
 
+  /**
+   * Sets the tracker recording the latencies of the messages and packets.
+   *
+   * @param latencyTracker a {@link LatencyTracker} instance
+   * @since 0.7.4
+   */
+  void setLatencyTracker(LatencyTracker latencyTracker);
+
   /**
    * Declares socket (TCP, UDP) configurations for the network.
    *
@@ -160,6 +174,60 @@ public interface ZeroSocket extends Service {
    */
   void setDatagramPacketPolicy(DatagramPacketPolicy datagramPacketPolicy);
 
+  /**
+   * Determines whether the acceptor, reader and writer run their workers as event loops on
+   * dedicated platform threads instead of virtual threads.
+   *
+   * @param enabled sets it {@code true} to use platform threads, otherwise {@code false}
+   * @since 0.7.4
+   */
+  void setEventLoopEnabled(boolean enabled);
+
+  /**
+   * Sets the strategy to choose a reader for each newly accepted client socket.
+   *
+   * @param socketReaderAssignment the {@link SocketReaderAssignment} value
+   * @since 0.7.4
+   */
+  void setReaderAssignment(SocketReaderAssignment socketReaderAssignment);
+
+  /**
+   * Retrieves the statistics of all running readers, one for each reader's loop.
+   *
+   * @return an unmodifiable {@link List} of {@link EventLoopStatistic}
+   * @since 0.7.4
+   */
+  List<EventLoopStatistic> getReaderEventLoopStatistics();
+
+  /**
+   * Retrieves the statistics of all running datagram readers, one for each UDP lane.
+   *
+   * @return an unmodifiable {@link List} of {@link EventLoopStatistic}
+   * @since 0.7.4
+   */
+  List<EventLoopStatistic> getDatagramReaderEventLoopStatistics();
+
+  /**
+   * Enables the reliable UDP transport, the guaranteed UDP packets are then retransmitted until
+   * they are acknowledged. This must be set before the service is initialized.
+   *
+   * @param reliableDatagramConfiguration the {@link ReliableDatagramConfiguration}, {@code null}
+   *                                      to keep sending every UDP packet once
+   * @since 0.7.4
+   */
+  void setReliableDatagramConfiguration(
+      ReliableDatagramConfiguration reliableDatagramConfiguration);
+
+  /**
+   * Enables the bundling of small outbound UDP packets. This must be set before the service is
+   * started.
+   *
+   * @param datagramBundleConfiguration the {@link DatagramBundleConfiguration}, {@code null} to
+   *                                    send each UDP packet in its own datagram
+   * @since 0.7.4
+   */
+  void setDatagramBundleConfiguration(DatagramBundleConfiguration datagramBundleConfiguration);
+
   /**
    * Retrieves the maximum starting time in milliseconds.
    *
@@ -26,10 +26,15 @@ package com.tenio.core.network.zero;
 
 import com.tenio.core.event.implement.EventManager;
 import com.tenio.core.manager.AbstractManager;
+import com.tenio.core.monitoring.latency.LatencyTracker;
+import com.tenio.core.network.configuration.DatagramBundleConfiguration;
+import com.tenio.core.network.configuration.ReliableDatagramConfiguration;
 import com.tenio.core.network.configuration.SocketConfiguration;
+import com.tenio.core.network.define.SocketReaderAssignment;
 import com.tenio.core.network.entity.outbound.packet.Packet;
 import com.tenio.core.network.entity.session.manager.SessionManager;
 import com.tenio.core.network.security.filter.ConnectionFilter;
+import com.tenio.core.network.statistic.EventLoopStatistic;
 import com.tenio.core.network.statistic.NetworkReaderStatistic;
 import com.tenio.core.network.statistic.NetworkWriterStatistic;
 import com.tenio.core.network.codec.decoder.BinaryPacketDecoder;
@@ -41,11 +46,14 @@ import com.tenio.core.network.zero.engine.implement.ZeroAcceptorImpl;
 import com.tenio.core.network.zero.engine.implement.ZeroReaderImpl;
 import com.tenio.core.network.zero.engine.implement.ZeroWriterImpl;
 import com.tenio.core.network.zero.engine.listener.ZeroReaderListener;
+import com.tenio.core.network.zero.engine.listener.ZeroWriterListener;
+import com.tenio.core.network.zero.engine.manager.ReliableDatagramManager;
 import com.tenio.core.network.zero.engine.reader.policy.DatagramPacketPolicy;
 import com.tenio.core.network.zero.handler.DatagramIoHandler;
 import com.tenio.core.network.zero.handler.SocketIoHandler;
 import com.tenio.core.network.zero.handler.implement.DatagramIoHandlerImpl;
 import com.tenio.core.network.zero.handler.implement.SocketIoHandlerImpl;
+import java.util.List;
 
 /**
  * The implementation for the socket service manager.
@@ -61,6 +69,7 @@ public final class ZeroSocketImpl extends AbstractManager implements ZeroSocket
   private final DatagramIoHandler datagramIoHandler;
   private final SocketIoHandler socketIoHandler;
 
+  private ReliableDatagramManager reliableDatagramManager;
   private boolean initialized;
 
   private ZeroSocketImpl(EventManager eventManager) {
@@ -95,6 +104,7 @@ public final class ZeroSocketImpl extends AbstractManager implements ZeroSocket
   private void setupReader() {
     reader.setDatagramIoHandler(datagramIoHandler);
     reader.setSocketIoHandler(socketIoHandler);
+    reader.setZeroWriterListener((ZeroWriterListener) writer);
   }
 
   private void setupWriter() {
@@ -102,11 +112,20 @@ public final class ZeroSocketImpl extends AbstractManager implements ZeroSocket
     writer.setSocketIoHandler(socketIoHandler);
   }
 
+  private void setupReliableDatagramManager() {
+    if (reliableDatagramManager != null) {
+      reliableDatagramManager.setNetworkWriterStatistic(writer.getNetworkWriterStatistic());
+    }
+    reader.setReliableDatagramManager(reliableDatagramManager);
+    writer.setReliableDatagramManager(reliableDatagramManager);
+  }
+
   @Override
   public void initialize() {
     setupAcceptor();
     setupReader();
     setupWriter();
+    setupReliableDatagramManager();
 
     reader.initialize();
     writer.initialize();
@@ -124,6 +143,10 @@ public final class ZeroSocketImpl extends AbstractManager implements ZeroSocket
     reader.start();
     writer.start();
     acceptor.start();
+
+    if (reliableDatagramManager != null) {
+      reliableDatagramManager.start();
+    }
   }
 
   @Override
@@ -135,6 +158,10 @@ public final class ZeroSocketImpl extends AbstractManager implements ZeroSocket
     acceptor.shutdown();
     reader.shutdown();
     writer.shutdown();
+
+    if (reliableDatagramManager != null) {
+      reliableDatagramManager.shutdown();
+    }
   }
 
   @Override
@@ -223,6 +250,14 @@ public final class ZeroSocketImpl extends AbstractManager implements ZeroSocket
     writer.setNetworkWriterStatistic(networkWriterStatistic);
   }
 
+  @Override
+  public void setLatencyTracker(LatencyTracker latencyTracker) {
+    reader.setLatencyTracker(latencyTracker);
+    writer.setLatencyTracker(latencyTracker);
+
+    socketIoHandler.setLatencyTracker(latencyTracker);
+  }
+
   @Override
   public void setSocketConfigurations(SocketConfiguration tcpSocketConfiguration,
                                       SocketConfiguration udpChannelConfiguration) {
@@ -245,6 +280,41 @@ public final class ZeroSocketImpl extends AbstractManager implements ZeroSocket
     reader.setDatagramPacketPolicy(datagramPacketPolicy);
   }
 
+  @Override
+  public void setEventLoopEnabled(boolean enabled) {
+    acceptor.setEventLoopEnabled(enabled);
+    reader.setEventLoopEnabled(enabled);
+    writer.setEventLoopEnabled(enabled);
+  }
+
+  @Override
+  public void setReaderAssignment(SocketReaderAssignment socketReaderAssignment) {
+    reader.setSocketReaderAssignment(socketReaderAssignment);
+  }
+
+  @Override
+  public List<EventLoopStatistic> getReaderEventLoopStatistics() {
+    return reader.getEventLoopStatistics();
+  }
+
+  @Override
+  public List<EventLoopStatistic> getDatagramReaderEventLoopStatistics() {
+    return reader.getDatagramEventLoopStatistics();
+  }
+
+  @Override
+  public void setReliableDatagramConfiguration(
+      ReliableDatagramConfiguration reliableDatagramConfiguration) {
+    reliableDatagramManager = reliableDatagramConfiguration != null ?
+        ReliableDatagramManager.newInstance(reliableDatagramConfiguration) : null;
+  }
+
+  @Override
+  public void setDatagramBundleConfiguration(
+      DatagramBundleConfiguration datagramBundleConfiguration) {
+    writer.setDatagramBundleConfiguration(datagramBundleConfiguration);
+  }
+
   @Override
   public int getMaximumStartingTimeInMilliseconds() {
     int acceptorStartingTime = acceptor.getMaximumStartingTimeInMilliseconds();
@@ -104,4 +104,15 @@ public interface ZeroEngine extends Service, ServiceListener {
    * @param maxSize the maximum value buffer size ({@code integer} value)
    */
   void setMaxBufferSize(int maxSize);
+
+  /**
+   * Determines whether the engine runs its workers as event loops on dedicated platform threads
+   * instead of virtual threads. A worker blocking on its selector then never pins a carrier
+   * thread which is shared with other virtual threads. This must be set before the engine is
+   * initialized.
+   *
+   * @param enabled sets it {@code true} to use platform threads, otherwise {@code false}
+   * @since 0.7.4
+   */
+  void setEventLoopEnabled(boolean enabled);
 }
@@ -24,9 +24,15 @@ THE SOFTWARE.
 
 package com.tenio.core.network.zero.engine;
 
+import com.tenio.core.monitoring.latency.LatencyTracker;
 import com.tenio.core.network.configuration.SocketConfiguration;
+import com.tenio.core.network.define.SocketReaderAssignment;
+import com.tenio.core.network.statistic.EventLoopStatistic;
 import com.tenio.core.network.statistic.NetworkReaderStatistic;
+import com.tenio.core.network.zero.engine.manager.ReliableDatagramManager;
+import com.tenio.core.network.zero.engine.listener.ZeroWriterListener;
 import com.tenio.core.network.zero.engine.reader.policy.DatagramPacketPolicy;
+import java.util.List;
 
 /**
  * The engine supports reading binaries data from sockets.
@@ -63,6 +69,14 @@ public interface ZeroReader extends ZeroEngine {
    */
   void setNetworkReaderStatistic(NetworkReaderStatistic networkReaderStatistic);
 
+  /**
+   * Sets the tracker recording the latencies of the inbound messages.
+   *
+   * @param latencyTracker a {@link LatencyTracker} instance
+   * @since 0.7.4
+   */
+  void setLatencyTracker(LatencyTracker latencyTracker);
+
   /**
    * Sets a datagram packet policy.
    *
@@ -70,4 +84,47 @@ public interface ZeroReader extends ZeroEngine {
    * @since 0.6.7
    */
   void setDatagramPacketPolicy(DatagramPacketPolicy datagramPacketPolicy);
+
+  /**
+   * Sets a listener for the writer engine which is using for communication between two engines.
+   *
+   * @param zeroWriterListener the {@link ZeroWriterListener} instance
+   * @see ZeroWriter
+   * @since 0.7.4
+   */
+  void setZeroWriterListener(ZeroWriterListener zeroWriterListener);
+
+  /**
+   * Sets the strategy to choose a socket reader for each newly accepted client socket.
+   *
+   * @param socketReaderAssignment the {@link SocketReaderAssignment} value
+   * @since 0.7.4
+   */
+  void setSocketReaderAssignment(SocketReaderAssignment socketReaderAssignment);
+
+  /**
+   * Retrieves the statistics of all running socket readers, one for each reader's loop.
+   *
+   * @return an unmodifiable {@link List} of {@link EventLoopStatistic}
+   * @since 0.7.4
+   */
+  List<EventLoopStatistic> getEventLoopStatistics();
+
+  /**
+   * Retrieves the statistics of all running datagram readers, one for each UDP lane. Each lane
+   * owns one of the channels sharing the UDP port.
+   *
+   * @return an unmodifiable {@link List} of {@link EventLoopStatistic}
+   * @since 0.7.4
+   */
+  List<EventLoopStatistic> getDatagramEventLoopStatistics();
+
+  /**
+   * Sets the reliable datagram manager which processes the reliable UDP segments.
+   *
+   * @param reliableDatagramManager the {@link ReliableDatagramManager}, {@code null} to accept
+   *                                regular datagrams only
+   * @since 0.7.4
+   */
+  void setReliableDatagramManager(ReliableDatagramManager reliableDatagramManager);
 }
@@ -24,10 +24,13 @@ THE SOFTWARE.
 
 package com.tenio.core.network.zero.engine;
 
+import com.tenio.core.monitoring.latency.LatencyTracker;
 import com.tenio.core.network.entity.outbound.packet.Packet;
 import com.tenio.core.network.entity.outbound.packet.OutboundQueue;
 import com.tenio.core.network.statistic.NetworkWriterStatistic;
 import com.tenio.core.network.codec.encoder.BinaryPacketEncoder;
+import com.tenio.core.network.configuration.DatagramBundleConfiguration;
+import com.tenio.core.network.zero.engine.manager.ReliableDatagramManager;
 
 /**
  * The engine supports writing binaries data to sockets.
@@ -58,10 +61,37 @@ public interface ZeroWriter extends ZeroEngine {
    */
   void setNetworkWriterStatistic(NetworkWriterStatistic networkWriterStatistic);
 
+  /**
+   * Sets the tracker recording the latencies of the outbound packets.
+   *
+   * @param latencyTracker a {@link LatencyTracker} instance
+   * @since 0.7.4
+   */
+  void setLatencyTracker(LatencyTracker latencyTracker);
+
   /**
    * Sets an instance of packet encoder to encode packets for sending to clients.
    *
    * @param packetEncoder an instance of {@link BinaryPacketEncoder}
    */
   void setPacketEncoder(BinaryPacketEncoder packetEncoder);
+
+  /**
+   * Sets the reliable datagram manager which retransmits the guaranteed UDP packets.
+   *
+   * @param reliableDatagramManager the {@link ReliableDatagramManager}, {@code null} to send all
+   *                                UDP packets once
+   * @since 0.7.4
+   */
+  void setReliableDatagramManager(ReliableDatagramManager reliableDatagramManager);
+
+  /**
+   * Sets the bundling settings which coalesce the small UDP packets of a session into one
+   * datagram.
+   *
+   * @param datagramBundleConfiguration the {@link DatagramBundleConfiguration}, {@code null} to
+   *                                    send each UDP packet in its own datagram
+   * @since 0.7.4
+   */
+  void setDatagramBundleConfiguration(DatagramBundleConfiguration datagramBundleConfiguration);
 }
@@ -29,6 +29,7 @@ import com.tenio.core.entity.define.mode.ConnectionDisconnectMode;
 import com.tenio.core.exception.RefusedConnectionAddressException;
 import com.tenio.core.exception.ServiceRuntimeException;
 import com.tenio.core.network.configuration.SocketConfiguration;
+import com.tenio.core.network.configuration.SocketTuning;
 import com.tenio.core.network.security.filter.ConnectionFilter;
 import com.tenio.core.network.utility.SocketUtility;
 import com.tenio.core.network.zero.engine.listener.ZeroReaderListener;
@@ -43,6 +44,7 @@ import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -59,7 +61,8 @@ import java.util.concurrent.atomic.AtomicInteger;
  * <ul>
  *   <li>Bind and register TCP server sockets (OP_ACCEPT)</li>
  *   <li>Bind UDP channels (delegated to reader selector)</li>
- *   <li>Accept new client sockets and hand off to readers</li>
+ *   <li>Accept new client sockets, apply the {@link SocketTuning} profile and hand off to
+ *   readers</li>
  *   <li>Filter client IPs with {@link ConnectionFilter}</li>
  *   <li>Clean shutdown of all resources (client/server channels, selector)</li>
  * </ul>
@@ -72,10 +75,9 @@ public final class AcceptorHandler extends SystemLogger {
 
   private static final AtomicInteger ID_GENERATOR = new AtomicInteger();
 
-  private static final int DEFAULT_RCV_BUF = 256 * 1024; // 256 KB
-  private static final int DEFAULT_SND_BUF = 256 * 1024; // 256 KB
-
   private final String serverAddress;
+  private final SocketTuning socketTuning;
+  private final AtomicBoolean socketTuningLogged;
   /**
    * This selector manages {@link ServerSocketChannel} instances.
    */
@@ -104,6 +106,8 @@ public final class AcceptorHandler extends SystemLogger {
     this.connectionFilter = connectionFilter;
     this.zeroReaderListener = zeroReaderListener;
     this.socketIoHandler = socketIoHandler;
+    socketTuning = tcpSocketConfiguration.tuning();
+    socketTuningLogged = new AtomicBoolean(false);
 
     internalQueue = new LinkedBlockingQueue<>();
     internalProcess = Thread.ofVirtual().name("socket-acceptor-" + ID_GENERATOR.incrementAndGet()).start(this::processInternalQueue);
@@ -132,10 +136,14 @@ public final class AcceptorHandler extends SystemLogger {
           debug("SERVER SOCKET CHANNEL", "It doesn't support SO_REUSEPORT option");
         }
       }
-      serverSocketChannel.bind(new InetSocketAddress(serverAddress, port));
+      // the receiving buffer must be set before binding, so that accepted sockets inherit it
+      SocketUtility.applySocketTuning(serverSocketChannel, socketTuning);
+      serverSocketChannel.bind(new InetSocketAddress(serverAddress, port),
+          SocketTuning.isSet(socketTuning.backlog()) ? socketTuning.backlog() : 0);
       if (isInfoEnabled()) {
         info("TCP SOCKET", buildgen("Started at address: ", serverAddress, ", port: ",
-            serverSocketChannel.socket().getLocalPort()));
+            serverSocketChannel.socket().getLocalPort(), ", backlog: ", socketTuning.backlog(),
+            ", ", SocketUtility.describeSocketTuning(serverSocketChannel)));
       }
       // only server socket should interest in this key OP_ACCEPT
       serverSocketChannel.register(acceptableSelector, SelectionKey.OP_ACCEPT);
@@ -236,9 +244,12 @@ public final class AcceptorHandler extends SystemLogger {
         try {
           connectionFilter.validateAndAddAddress(info.inetAddress.getHostAddress());
           info.clientSocketChannel.configureBlocking(false);
-          info.clientSocketChannel.socket().setTcpNoDelay(true);
-          info.clientSocketChannel.setOption(StandardSocketOptions.SO_RCVBUF, DEFAULT_RCV_BUF);
-          info.clientSocketChannel.setOption(StandardSocketOptions.SO_SNDBUF, DEFAULT_SND_BUF);
+          SocketUtility.applySocketTuning(info.clientSocketChannel, socketTuning);
+          // the operating system may adjust the requested values, shows the effective ones once
+          if (isInfoEnabled() && socketTuningLogged.compareAndSet(false, true)) {
+            info("TCP SOCKET TUNING", buildgen("Accepted connections use: ",
+                SocketUtility.describeSocketTuning(info.clientSocketChannel)));
+          }
           zeroReaderListener.acceptClientSocketChannel(info.clientSocketChannel,
                   readerSelectionKey -> socketIoHandler.channelActive(info.clientSocketChannel,
                           readerSelectionKey), () -> {
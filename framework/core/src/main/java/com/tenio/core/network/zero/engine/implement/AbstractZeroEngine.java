@@ -58,6 +58,7 @@ public abstract class AbstractZeroEngine extends AbstractManager implements Zero
   private SocketIoHandler socketIoHandler;
   private DatagramIoHandler datagramIoHandler;
   private SessionManager sessionManager;
+  private boolean eventLoopEnabled;
   private volatile boolean activated;
 
   /**
@@ -75,7 +76,12 @@ public abstract class AbstractZeroEngine extends AbstractManager implements Zero
   }
 
   private void initializeWorkers() {
-    executorService = Executors.newVirtualThreadPerTaskExecutor();
+    if (eventLoopEnabled) {
+      // the threads are daemon ones like virtual threads, so they never hold the JVM back
+      executorService = Executors.newThreadPerTaskExecutor(Thread.ofPlatform().daemon().factory());
+    } else {
+      executorService = Executors.newVirtualThreadPerTaskExecutor();
+    }
 
     Runtime.getRuntime().addShutdownHook(new Thread(() -> {
       if (executorService != null && !executorService.isShutdown()) {
@@ -178,6 +184,21 @@ public abstract class AbstractZeroEngine extends AbstractManager implements Zero
     bufferSize = maxSize;
   }
 
+  @Override
+  public void setEventLoopEnabled(boolean enabled) {
+    eventLoopEnabled = enabled;
+  }
+
+  /**
+   * Determines whether the engine runs its workers on dedicated platform threads.
+   *
+   * @return {@code true} if the workers are event loops, otherwise {@code false}
+   * @since 0.7.4
+   */
+  public boolean isEventLoopEnabled() {
+    return eventLoopEnabled;
+  }
+
   @Override
   public void initialize() {
     initializeWorkers();
@@ -207,7 +228,7 @@ public abstract class AbstractZeroEngine extends AbstractManager implements Zero
       info("START ENGINE", buildgen("zero-", getName(), " (",
               getNumberOfExtraWorkers() > 0 ?
                       ( "M:" + (executorSize - getNumberOfExtraWorkers()) + "|E:" + getNumberOfExtraWorkers())
-                      : executorSize, ")"));
+                      : executorSize, eventLoopEnabled ? "|event-loop" : "", ")"));
     }
   }
 
@@ -25,19 +25,24 @@ THE SOFTWARE.
 package com.tenio.core.network.zero.engine.implement;
 
 import com.tenio.core.event.implement.EventManager;
+import com.tenio.core.monitoring.latency.LatencyTracker;
 import com.tenio.core.network.configuration.SocketConfiguration;
+import com.tenio.core.network.define.SocketReaderAssignment;
+import com.tenio.core.network.statistic.EventLoopStatistic;
 import com.tenio.core.network.statistic.NetworkReaderStatistic;
 import com.tenio.core.network.utility.SocketUtility;
 import com.tenio.core.network.zero.engine.ZeroReader;
 import com.tenio.core.network.zero.engine.listener.ZeroReaderListener;
+import com.tenio.core.network.zero.engine.listener.ZeroWriterListener;
+import com.tenio.core.network.zero.engine.manager.ReliableDatagramManager;
 import com.tenio.core.network.zero.engine.reader.DatagramReaderHandler;
 import com.tenio.core.network.zero.engine.reader.SocketReaderHandler;
 import com.tenio.core.network.zero.engine.reader.policy.DatagramPacketPolicy;
 import java.io.IOException;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.SocketChannel;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
@@ -56,10 +61,15 @@ public final class ZeroReaderImpl extends AbstractZeroEngine implements ZeroRead
   private String serverAddress;
   private SocketConfiguration udpChannelConfiguration;
   private NetworkReaderStatistic networkReaderStatistic;
+  private ZeroWriterListener zeroWriterListener;
+  private SocketReaderAssignment socketReaderAssignment;
+  private ReliableDatagramManager reliableDatagramManager;
+  private LatencyTracker latencyTracker;
 
   private ZeroReaderImpl(EventManager eventManager) {
     super(eventManager);
     setName("reader");
+    socketReaderAssignment = SocketReaderAssignment.ROUND_ROBIN;
   }
 
   /**
@@ -73,8 +83,31 @@ public final class ZeroReaderImpl extends AbstractZeroEngine implements ZeroRead
   }
 
   private SocketReaderHandler getSocketReaderHandler() {
-    int index = Math.floorMod(INDEXER.getAndIncrement(), getThreadPoolSize() - getNumberOfExtraWorkers());
-    return socketReaderHandlers.get(index);
+    int size = socketReaderHandlers.size();
+    int index = Math.floorMod(INDEXER.getAndIncrement(), size);
+    if (socketReaderAssignment == SocketReaderAssignment.ROUND_ROBIN) {
+      return socketReaderHandlers.get(index);
+    }
+    // the search starts from a rotating position, so equally loaded readers take turns
+    var selectedHandler = socketReaderHandlers.get(index);
+    for (int i = 1; i < size; i++) {
+      var socketReaderHandler = socketReaderHandlers.get((index + i) % size);
+      if (isLessLoaded(socketReaderHandler.getEventLoopStatistic(),
+          selectedHandler.getEventLoopStatistic())) {
+        selectedHandler = socketReaderHandler;
+      }
+    }
+    return selectedHandler;
+  }
+
+  private boolean isLessLoaded(EventLoopStatistic candidate, EventLoopStatistic selected) {
+    if (socketReaderAssignment == SocketReaderAssignment.LEAST_BYTE_RATE) {
+      int comparison = Double.compare(candidate.getRecentByteRate(), selected.getRecentByteRate());
+      if (comparison != 0) {
+        return comparison < 0;
+      }
+    }
+    return candidate.getChannels() < selected.getChannels();
   }
 
   @Override
@@ -104,30 +137,64 @@ public final class ZeroReaderImpl extends AbstractZeroEngine implements ZeroRead
     this.networkReaderStatistic = networkReaderStatistic;
   }
 
+  @Override
+  public void setLatencyTracker(LatencyTracker latencyTracker) {
+    this.latencyTracker = latencyTracker;
+  }
+
   @Override
   public void setDatagramPacketPolicy(DatagramPacketPolicy datagramPacketPolicy) {
     this.datagramPacketPolicy = datagramPacketPolicy;
   }
 
+  @Override
+  public void setZeroWriterListener(ZeroWriterListener zeroWriterListener) {
+    this.zeroWriterListener = zeroWriterListener;
+  }
+
+  @Override
+  public void setSocketReaderAssignment(SocketReaderAssignment socketReaderAssignment) {
+    this.socketReaderAssignment = socketReaderAssignment;
+  }
+
+  @Override
+  public List<EventLoopStatistic> getEventLoopStatistics() {
+    return socketReaderHandlers.stream().map(SocketReaderHandler::getEventLoopStatistic).toList();
+  }
+
+  @Override
+  public List<EventLoopStatistic> getDatagramEventLoopStatistics() {
+    return datagramReaderHandlers.stream().map(DatagramReaderHandler::getEventLoopStatistic).toList();
+  }
+
+  @Override
+  public void setReliableDatagramManager(ReliableDatagramManager reliableDatagramManager) {
+    this.reliableDatagramManager = reliableDatagramManager;
+  }
+
   @Override
   public void onInitialized() {
-    // it should support multiple reader handlers
-    socketReaderHandlers = new ArrayList<>(getThreadPoolSize() - getNumberOfExtraWorkers());
-    datagramReaderHandlers = new ArrayList<>(getNumberOfExtraWorkers());
+    // it should support multiple reader handlers, they are added by their own workers while the
+    // acceptor may be looking for one of them
+    socketReaderHandlers = new CopyOnWriteArrayList<>();
+    datagramReaderHandlers = new CopyOnWriteArrayList<>();
   }
 
   @Override
   public void onStarted() {
     if (udpChannelConfiguration != null) {
+      // each lane owns exactly one SO_REUSEPORT channel and never hands it over to another lane,
+      // so the kernel's flow hashing keeps a client's datagrams on the same loop
       for (int i = 0; i < getNumberOfExtraWorkers(); i++) {
         run(() -> {
           try {
             DatagramReaderHandler datagramReaderHandler =
                     new DatagramReaderHandler(SocketUtility.createReaderBuffer(getMaxBufferSize()),
                             getSessionManager(), getSocketIoHandler().getPacketDecoder(),
-                            getNetworkReaderStatistic(), getDatagramIoHandler(), datagramPacketPolicy);
+                            getNetworkReaderStatistic(), getDatagramIoHandler(), datagramPacketPolicy,
+                            reliableDatagramManager);
             datagramReaderHandler.openDatagramChannels(serverAddress, udpChannelConfiguration.port(),
-                    udpChannelConfiguration.cacheSize());
+                    1, udpChannelConfiguration.tuning());
             datagramReaderHandlers.add(datagramReaderHandler);
 
             while (!Thread.currentThread().isInterrupted()) {
@@ -153,7 +220,9 @@ public final class ZeroReaderImpl extends AbstractZeroEngine implements ZeroRead
   public void onRunning() {
     try {
       var socketReaderHandler = new SocketReaderHandler(SocketUtility.createReaderBuffer(getMaxBufferSize()),
-              getSessionManager(), getNetworkReaderStatistic(), getSocketIoHandler());
+              getSessionManager(), getNetworkReaderStatistic(), getSocketIoHandler(),
+              zeroWriterListener);
+      socketReaderHandler.setLatencyTracker(latencyTracker);
       socketReaderHandlers.add(socketReaderHandler);
 
       while (!Thread.currentThread().isInterrupted()) {
@@ -174,9 +243,18 @@ public final class ZeroReaderImpl extends AbstractZeroEngine implements ZeroRead
     }
   }
 
+  /**
+   * Retrieves the number of datagram lanes. There is one lane for each configured UDP channel
+   * (the cache size), but at least one worker is always left for the socket readers.
+   *
+   * @return the number of datagram lanes
+   */
   @Override
   public int getNumberOfExtraWorkers() {
-    return udpChannelConfiguration != null ? getThreadPoolSize() <= 1 ? 0 : getThreadPoolSize() / 2 : 0;
+    if (udpChannelConfiguration == null || getThreadPoolSize() <= 1) {
+      return 0;
+    }
+    return Math.max(1, Math.min(udpChannelConfiguration.cacheSize(), getThreadPoolSize() - 1));
   }
 
   @Override
@@ -27,16 +27,23 @@ package com.tenio.core.network.zero.engine.implement;
 import com.tenio.core.event.implement.EventManager;
 import com.tenio.core.exception.OutboundQueueFullException;
 import com.tenio.core.exception.OutboundQueuePolicyViolationException;
+import com.tenio.core.monitoring.define.OutboundDropReason;
+import com.tenio.core.monitoring.jfr.OutboundPacketDroppedEvent;
+import com.tenio.core.monitoring.latency.LatencyTracker;
 import com.tenio.core.network.entity.outbound.packet.Packet;
 import com.tenio.core.network.entity.session.Session;
+import com.tenio.core.network.configuration.DatagramBundleConfiguration;
 import com.tenio.core.network.statistic.NetworkWriterStatistic;
 import com.tenio.core.network.codec.encoder.BinaryPacketEncoder;
 import com.tenio.core.network.zero.engine.ZeroWriter;
+import com.tenio.core.network.zero.engine.listener.ZeroWriterListener;
+import com.tenio.core.network.zero.engine.manager.ReliableDatagramManager;
 import com.tenio.core.network.zero.engine.manager.SessionTicketsQueueManager;
 import com.tenio.core.network.zero.engine.writer.WriterHandler;
 import com.tenio.core.network.zero.engine.writer.implement.DatagramWriterHandler;
 import com.tenio.core.network.zero.engine.writer.implement.SocketWriterHandler;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -44,12 +51,15 @@ import java.util.concurrent.atomic.AtomicInteger;
  *
  * @see ZeroWriter
  */
-public final class ZeroWriterImpl extends AbstractZeroEngine implements ZeroWriter {
+public final class ZeroWriterImpl extends AbstractZeroEngine implements ZeroWriter, ZeroWriterListener {
 
   private final AtomicInteger id;
   private SessionTicketsQueueManager sessionTicketsQueueManager;
   private NetworkWriterStatistic networkWriterStatistic;
   private BinaryPacketEncoder binaryPacketEncoder;
+  private ReliableDatagramManager reliableDatagramManager;
+  private DatagramBundleConfiguration datagramBundleConfiguration;
+  private LatencyTracker latencyTracker;
 
   private ZeroWriterImpl(EventManager eventManager) {
     super(eventManager);
@@ -72,27 +82,40 @@ public final class ZeroWriterImpl extends AbstractZeroEngine implements ZeroWrit
     socketWriterHandler.setNetworkWriterStatistic(networkWriterStatistic);
     socketWriterHandler.setSessionTicketsQueueManager(sessionTicketsQueueManager);
     socketWriterHandler.setPacketEncoder(binaryPacketEncoder);
+    socketWriterHandler.setLatencyTracker(latencyTracker);
     socketWriterHandler.allocateBuffer(getMaxBufferSize());
 
     return socketWriterHandler;
   }
 
-  private WriterHandler createDatagramWriterHandler() {
+  private DatagramWriterHandler createDatagramWriterHandler() {
     var datagramWriterHandler = DatagramWriterHandler.newInstance();
     datagramWriterHandler.setNetworkWriterStatistic(networkWriterStatistic);
     datagramWriterHandler.setSessionTicketsQueueManager(sessionTicketsQueueManager);
     datagramWriterHandler.setPacketEncoder(binaryPacketEncoder);
+    datagramWriterHandler.setLatencyTracker(latencyTracker);
     datagramWriterHandler.allocateBuffer(getMaxBufferSize());
+    datagramWriterHandler.setReliableDatagramManager(reliableDatagramManager);
+    datagramWriterHandler.setDatagramBundleConfiguration(datagramBundleConfiguration);
 
     return datagramWriterHandler;
   }
 
   private void writing(BlockingQueue<Session> sessionTicketsQueue,
                        WriterHandler socketWriterHandler,
-                       WriterHandler datagramWriterHandler) {
+                       DatagramWriterHandler datagramWriterHandler) {
     try {
-      Session session = sessionTicketsQueue.take();
-      processSessionQueue(session, socketWriterHandler, datagramWriterHandler);
+      if (datagramBundleConfiguration == null) {
+        Session session = sessionTicketsQueue.take();
+        processSessionQueue(session, socketWriterHandler, datagramWriterHandler);
+      } else {
+        // a bundle which is waiting for more packets must still leave on its deadline, so the
+        // writer never blocks for longer than that
+        Session session = sessionTicketsQueue.poll(
+            datagramBundleConfiguration.flushDeadlineInMilliseconds(), TimeUnit.MILLISECONDS);
+        processSessionQueue(session, socketWriterHandler, datagramWriterHandler);
+        datagramWriterHandler.flushExpiredBundles(System.nanoTime());
+      }
     } catch (Throwable cause) {
       if (isErrorEnabled()) {
         error(cause, "Interruption occurred when process a session and its packet");
@@ -177,6 +200,10 @@ public final class ZeroWriterImpl extends AbstractZeroEngine implements ZeroWrit
           }
         }
 
+        if (latencyTracker != null) {
+          packet.setQueuedTime(latencyTracker.now());
+        }
+
         // put new item into the queue
         outboundQueue.put(packet);
 
@@ -187,13 +214,21 @@ public final class ZeroWriterImpl extends AbstractZeroEngine implements ZeroWrit
       } catch (OutboundQueuePolicyViolationException exception) {
         session.addDroppedPackets(1);
         networkWriterStatistic.updateWrittenDroppedPacketsByPolicy(1);
+        OutboundPacketDroppedEvent.emit(session, packet, OutboundDropReason.POLICY_VIOLATION);
       } catch (OutboundQueueFullException exception) {
         session.addDroppedPackets(1);
         networkWriterStatistic.updateWrittenDroppedPacketsByFull(1);
+        OutboundPacketDroppedEvent.emit(session, packet, OutboundDropReason.QUEUE_FULL);
       }
     }
   }
 
+  @Override
+  public void continueWriting(Session session) {
+    // the session is always handled by the same lane, so its packets keep their order
+    sessionTicketsQueueManager.getQueueByElementId(session.getId()).add(session);
+  }
+
   @Override
   public NetworkWriterStatistic getNetworkWriterStatistic() {
     return networkWriterStatistic;
@@ -204,11 +239,27 @@ public final class ZeroWriterImpl extends AbstractZeroEngine implements ZeroWrit
     this.networkWriterStatistic = networkWriterStatistic;
   }
 
+  @Override
+  public void setLatencyTracker(LatencyTracker latencyTracker) {
+    this.latencyTracker = latencyTracker;
+  }
+
   @Override
   public void setPacketEncoder(BinaryPacketEncoder packetEncoder) {
     this.binaryPacketEncoder = packetEncoder;
   }
 
+  @Override
+  public void setReliableDatagramManager(ReliableDatagramManager reliableDatagramManager) {
+    this.reliableDatagramManager = reliableDatagramManager;
+  }
+
+  @Override
+  public void setDatagramBundleConfiguration(
+      DatagramBundleConfiguration datagramBundleConfiguration) {
+    this.datagramBundleConfiguration = datagramBundleConfiguration;
+  }
+
   @Override
   public void onInitialized() {
     sessionTicketsQueueManager = new SessionTicketsQueueManager(getThreadPoolSize());
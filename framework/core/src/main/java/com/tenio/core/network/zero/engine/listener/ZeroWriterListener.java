@@ -0,0 +1,52 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.zero.engine.listener;
+
+import com.tenio.core.network.entity.session.Session;
+import com.tenio.core.network.zero.engine.ZeroReader;
+import com.tenio.core.network.zero.engine.ZeroWriter;
+import com.tenio.core.network.zero.engine.reader.SocketReaderHandler;
+import java.nio.channels.SelectionKey;
+
+/**
+ * The listener of the writer engine, it is used by the reader engine to hand sessions back to
+ * their writer lanes.
+ *
+ * @see ZeroReader
+ * @see ZeroWriter
+ * @since 0.7.4
+ */
+public interface ZeroWriterListener {
+
+  /**
+   * When the socket channel of a session, which has a partially written packet, becomes
+   * writable again ({@link SelectionKey#OP_WRITE} is ready). The session then is put back to its
+   * writer lane to continue writing the left unsent data.
+   *
+   * @param session the {@link Session} which is able to continue writing
+   * @see SocketReaderHandler
+   */
+  void continueWriting(Session session);
+}
@@ -0,0 +1,268 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.zero.engine.manager;
+
+import com.tenio.common.logger.SystemLogger;
+import com.tenio.core.manager.Manager;
+import com.tenio.core.network.configuration.ReliableDatagramConfiguration;
+import com.tenio.core.network.entity.session.Session;
+import com.tenio.core.network.statistic.NetworkWriterStatistic;
+import com.tenio.core.network.zero.engine.reliable.DatagramLossSimulator;
+import com.tenio.core.network.zero.engine.reliable.ReliableChannel;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * This class keeps the reliable UDP control blocks of sessions, one for each UDP convey ID, and
+ * periodically flushes them so that lost segments are retransmitted.
+ *
+ * @see ReliableChannel
+ * @since 0.7.4
+ */
+public final class ReliableDatagramManager extends SystemLogger implements Manager {
+
+  private final ReliableDatagramConfiguration configuration;
+  private final Map<Integer, Entry> entries;
+  private NetworkWriterStatistic networkWriterStatistic;
+  private volatile DatagramLossSimulator datagramLossSimulator;
+  private Thread ticker;
+
+  private ReliableDatagramManager(ReliableDatagramConfiguration configuration) {
+    this.configuration = configuration;
+    entries = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Creates a new reliable datagram manager instance.
+   *
+   * @param configuration the {@link ReliableDatagramConfiguration}
+   * @return a new instance of {@link ReliableDatagramManager}
+   */
+  public static ReliableDatagramManager newInstance(ReliableDatagramConfiguration configuration) {
+    return new ReliableDatagramManager(configuration);
+  }
+
+  /**
+   * Sets the network writer statistic which records the bytes of all transmitted segments.
+   *
+   * @param networkWriterStatistic the {@link NetworkWriterStatistic}
+   */
+  public void setNetworkWriterStatistic(NetworkWriterStatistic networkWriterStatistic) {
+    this.networkWriterStatistic = networkWriterStatistic;
+  }
+
+  /**
+   * Passes all outgoing segments through a simulated lossy network, it is meant for testing only.
+   *
+   * @param datagramLossSimulator the {@link DatagramLossSimulator}, {@code null} to disable the
+   *                              simulation
+   */
+  public void setDatagramLossSimulator(DatagramLossSimulator datagramLossSimulator) {
+    this.datagramLossSimulator = datagramLossSimulator;
+  }
+
+  /**
+   * Starts flushing the control blocks periodically.
+   */
+  public synchronized void start() {
+    if (ticker != null) {
+      return;
+    }
+    ticker = Thread.ofPlatform().daemon().name("reliable-datagram-ticker").start(() -> {
+      while (!Thread.currentThread().isInterrupted()) {
+        try {
+          update(now());
+          // noinspection BusyWait
+          Thread.sleep(configuration.intervalInMilliseconds());
+        } catch (InterruptedException exception) {
+          Thread.currentThread().interrupt();
+        } catch (Throwable cause) {
+          if (isErrorEnabled()) {
+            error(cause);
+          }
+        }
+      }
+    });
+    if (isInfoEnabled()) {
+      info("RELIABLE DATAGRAM", configuration);
+    }
+  }
+
+  /**
+   * Stops flushing and removes all the control blocks.
+   */
+  public synchronized void shutdown() {
+    if (ticker != null) {
+      ticker.interrupt();
+      ticker = null;
+    }
+    entries.clear();
+  }
+
+  /**
+   * Sends a content reliably to a session.
+   *
+   * @param session the recipient {@link Session}
+   * @param content the content, it is normally an encoded packet
+   * @param ordered sets it {@code true} if the content must be delivered in order, otherwise
+   *                {@code false}
+   * @return {@code true} if the content is accepted, otherwise {@code false} when it is dropped
+   */
+  public boolean send(Session session, byte[] content, boolean ordered) {
+    var channel = getOrCreateChannel(session);
+    if (!channel.send(content, ordered)) {
+      return false;
+    }
+    channel.flush(now());
+    return true;
+  }
+
+  /**
+   * Processes a reliable segment coming from a session. The acknowledgements are sent at once.
+   *
+   * @param session  the sender {@link Session}
+   * @param datagram the reliable segment
+   * @param receiver receives the delivered contents, they are normally encoded packets
+   */
+  public void input(Session session, byte[] datagram, Consumer<byte[]> receiver) {
+    var channel = getOrCreateChannel(session);
+    var contents = new ArrayList<byte[]>();
+    long now = now();
+    if (channel.input(datagram, now, contents::add)) {
+      channel.flush(now);
+    }
+    // delivers outside the control block's lock
+    contents.forEach(receiver);
+  }
+
+  /**
+   * Retrieves the control block of a UDP convey ID.
+   *
+   * @param conveyId the UDP convey ID
+   * @return the {@link ReliableChannel} if it is available, otherwise {@code null}
+   */
+  public ReliableChannel getChannel(int conveyId) {
+    var entry = entries.get(conveyId);
+    return entry != null ? entry.channel : null;
+  }
+
+  /**
+   * Retrieves the number of control blocks.
+   *
+   * @return the number of control blocks
+   */
+  public int getChannelCount() {
+    return entries.size();
+  }
+
+  /**
+   * Flushes all the control blocks and drops the ones which belong to inactivated sessions.
+   *
+   * @param now the current time in milliseconds
+   */
+  void update(long now) {
+    var simulator = datagramLossSimulator;
+    if (simulator != null) {
+      simulator.flush(now);
+    }
+
+    var iterator = entries.values().iterator();
+    while (iterator.hasNext()) {
+      var entry = iterator.next();
+      if (!entry.session.isActivated()) {
+        iterator.remove();
+        continue;
+      }
+      // a dead channel accepts no more content, its session is expected to be closed by the
+      // idle checking
+      if (entry.channel.isDead()) {
+        if (!entry.reportedDead) {
+          entry.reportedDead = true;
+          if (isWarnEnabled()) {
+            warn("RELIABLE DATAGRAM", "Dead link: ", entry.channel, " > ", entry.session);
+          }
+        }
+        continue;
+      }
+      entry.channel.flush(now);
+    }
+  }
+
+  private ReliableChannel getOrCreateChannel(Session session) {
+    return entries.computeIfAbsent(session.getUdpConveyId(), conveyId -> new Entry(session,
+        new ReliableChannel(conveyId, configuration, datagram -> output(session, datagram))))
+        .channel;
+  }
+
+  private void output(Session session, byte[] datagram) {
+    var simulator = datagramLossSimulator;
+    if (simulator != null) {
+      simulator.offer(datagram, simulatedDatagram -> write(session, simulatedDatagram), now());
+    } else {
+      write(session, datagram);
+    }
+  }
+
+  private void write(Session session, byte[] datagram) {
+    var datagramChannel = session.fetchDatagramChannel();
+    var remoteAddress = session.getDatagramRemoteAddress();
+    if (datagramChannel == null || remoteAddress == null) {
+      return;
+    }
+
+    try {
+      int writtenBytes = datagramChannel.send(ByteBuffer.wrap(datagram), remoteAddress);
+      session.addWrittenBytes(writtenBytes);
+      if (networkWriterStatistic != null) {
+        networkWriterStatistic.updateWrittenBytes(writtenBytes);
+      }
+    } catch (IOException exception) {
+      if (isErrorEnabled()) {
+        error(exception, "Error occurred in writing on session: ", session.toString());
+      }
+    }
+  }
+
+  private static long now() {
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+  }
+
+  private static final class Entry {
+
+    private final Session session;
+    private final ReliableChannel channel;
+    private boolean reportedDead;
+
+    private Entry(Session session, ReliableChannel channel) {
+      this.session = session;
+      this.channel = channel;
+    }
+  }
+}
@@ -27,11 +27,18 @@ package com.tenio.core.network.zero.engine.reader;
 import com.tenio.common.data.DataCollection;
 import com.tenio.common.logger.SystemLogger;
 import com.tenio.core.exception.ServiceRuntimeException;
+import com.tenio.core.network.codec.CodecUtility;
 import com.tenio.core.network.codec.decoder.BinaryPacketDecoder;
+import com.tenio.core.network.codec.packet.PacketHeaderType;
+import com.tenio.core.network.configuration.SocketTuning;
+import com.tenio.core.network.define.TransportType;
 import com.tenio.core.network.entity.session.Session;
 import com.tenio.core.network.entity.session.manager.SessionManager;
+import com.tenio.core.network.statistic.EventLoopStatistic;
 import com.tenio.core.network.statistic.NetworkReaderStatistic;
 import com.tenio.core.network.utility.SocketUtility;
+import com.tenio.core.network.zero.engine.manager.ReliableDatagramManager;
+import com.tenio.core.network.zero.engine.reliable.ReliableChannel;
 import com.tenio.core.network.zero.engine.reader.policy.DatagramPacketPolicy;
 import com.tenio.core.network.zero.handler.DatagramIoHandler;
 import java.io.IOException;
@@ -42,9 +49,6 @@ import java.nio.ByteBuffer;
 import java.nio.channels.DatagramChannel;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Handles read/write events on datagram channels using a {@link Selector}.
@@ -63,19 +67,20 @@ import java.util.concurrent.atomic.AtomicInteger;
  * <p>Each reader thread runs in a loop, polling its selector and reacting
  * to channel readiness, ensuring non-blocking high-performance IO handling.
  *
+ * <p>A handler is one lane: it normally owns a single {@code SO_REUSEPORT} channel, so that the
+ * kernel spreads the incoming flows over the lanes by hashing their addresses and a client keeps
+ * landing on the same lane. Datagrams are decoded on the lane's thread, no other thread is
+ * involved. The header byte is read in place from the receive buffer, while the body is copied
+ * into an array of its own, which is what the decoder, the compressor and the encryptor take.
+ *
  * @see DatagramIoHandler
  * @since 0.6.6
  */
 
 public final class DatagramReaderHandler extends SystemLogger {
 
-  private static final AtomicInteger ID_GENERATOR = new AtomicInteger();
-
   private static final int MAX_PACKETS_PER_CYCLE = 256;
 
-  private static final int DEFAULT_RCV_BUF = 1024 * 1024; // 1 MB
-  private static final int DEFAULT_SND_BUF = 1024 * 1024; // 1 MB
-
   /**
    * This selector manages {@link DatagramChannel} instances.
    */
@@ -86,8 +91,8 @@ public final class DatagramReaderHandler extends SystemLogger {
   private final NetworkReaderStatistic networkReaderStatistic;
   private final DatagramIoHandler datagramIoHandler;
   private final DatagramPacketPolicy datagramPacketPolicy;
-  private final Thread internalProcess;
-  private final BlockingQueue<Info> internalQueue;
+  private final ReliableDatagramManager reliableDatagramManager;
+  private final EventLoopStatistic eventLoopStatistic;
 
   /**
    * Constructor.
@@ -106,16 +111,42 @@ public final class DatagramReaderHandler extends SystemLogger {
                                NetworkReaderStatistic networkReaderStatistic,
                                DatagramIoHandler datagramIoHandler,
                                DatagramPacketPolicy datagramPacketPolicy) throws IOException {
+    this(readerBuffer, sessionManager, binaryPacketDecoder, networkReaderStatistic,
+        datagramIoHandler, datagramPacketPolicy, null);
+  }
+
+  /**
+   * Constructor with the reliable UDP transport.
+   *
+   * @param readerBuffer            instance of {@link ByteBuffer}
+   * @param sessionManager          instance of {@link SessionManager}
+   * @param binaryPacketDecoder     instance of {@link BinaryPacketDecoder}
+   * @param networkReaderStatistic  instance of {@link NetworkReaderStatistic}
+   * @param datagramIoHandler       instance of {@link DatagramIoHandler}
+   * @param datagramPacketPolicy    instance of {@link DatagramPacketPolicy}
+   * @param reliableDatagramManager instance of {@link ReliableDatagramManager}, {@code null}
+   *                                when the reliable segments are not accepted
+   * @throws IOException whenever any IO exception thrown
+   * @since 0.7.4
+   */
+  public DatagramReaderHandler(ByteBuffer readerBuffer,
+                               SessionManager sessionManager,
+                               BinaryPacketDecoder binaryPacketDecoder,
+                               NetworkReaderStatistic networkReaderStatistic,
+                               DatagramIoHandler datagramIoHandler,
+                               DatagramPacketPolicy datagramPacketPolicy,
+                               ReliableDatagramManager reliableDatagramManager)
+      throws IOException {
     this.readerBuffer = readerBuffer;
     this.sessionManager = sessionManager;
     this.binaryPacketDecoder = binaryPacketDecoder;
     this.networkReaderStatistic = networkReaderStatistic;
     this.datagramIoHandler = datagramIoHandler;
     this.datagramPacketPolicy = datagramPacketPolicy;
+    this.reliableDatagramManager = reliableDatagramManager;
 
     readableSelector = Selector.open();
-    internalQueue = new LinkedBlockingQueue<>();
-    internalProcess = Thread.ofVirtual().name("datagram-reader-" + ID_GENERATOR.incrementAndGet()).start(this::processInternalQueue);
+    eventLoopStatistic = EventLoopStatistic.newInstance();
   }
 
   /**
@@ -124,8 +155,6 @@ public final class DatagramReaderHandler extends SystemLogger {
    * @throws Exception whenever any exceptions thrown
    */
   public void shutdown() throws Exception {
-    internalProcess.interrupt();
-    internalQueue.clear();
     readableSelector.wakeup();
     SocketUtility.shutdownSelector(readableSelector);
   }
@@ -134,6 +163,7 @@ public final class DatagramReaderHandler extends SystemLogger {
    * Processing. This should be run in a loop.
    */
   public void running() {
+    long selectingTime = System.nanoTime();
     int countReadyKeys = 0;
     try {
       // blocks until at least one channel is ready for the events you registered for
@@ -141,7 +171,27 @@ public final class DatagramReaderHandler extends SystemLogger {
     } catch (IOException exception) {
       error(exception, "I/O reading/selection error: ", exception.getMessage());
     }
+    long processingTime = System.nanoTime();
+    eventLoopStatistic.updateIdleTime(processingTime - selectingTime);
+
+    try {
+      processSelectedKeys(countReadyKeys);
+    } finally {
+      eventLoopStatistic.updateBusyTime(System.nanoTime() - processingTime);
+    }
+  }
+
+  /**
+   * Retrieves the statistic of this lane.
+   *
+   * @return the {@link EventLoopStatistic} of the lane
+   * @since 0.7.4
+   */
+  public EventLoopStatistic getEventLoopStatistic() {
+    return eventLoopStatistic;
+  }
 
+  private void processSelectedKeys(int countReadyKeys) {
     if (countReadyKeys == 0) {
       return;
     }
@@ -173,11 +223,28 @@ public final class DatagramReaderHandler extends SystemLogger {
    */
   public void openDatagramChannels(String serverAddress, int port, int cacheSize)
       throws ServiceRuntimeException {
+    openDatagramChannels(serverAddress, port, cacheSize,
+        SocketTuning.getDefault(TransportType.UDP));
+  }
+
+  /**
+   * Open datagram channels with a tuning profile.
+   *
+   * @param serverAddress the server IP address
+   * @param port          datagram (UDP) port
+   * @param cacheSize     the number of datagram channels that registers in the same selector
+   * @param socketTuning  the {@link SocketTuning} profile applied to each channel
+   * @throws ServiceRuntimeException whenever there is exception occurred
+   * @since 0.7.4
+   */
+  public void openDatagramChannels(String serverAddress, int port, int cacheSize,
+                                   SocketTuning socketTuning) throws ServiceRuntimeException {
     if (cacheSize <= 0) {
       throw new IllegalArgumentException("The cache size of datagram channels must be greater than 0");
     }
     try {
       boolean reusePortSupported = true;
+      String effectiveTuning = null;
       for (int i = 0; i < cacheSize; i++) {
         var datagramChannel = DatagramChannel.open();
         datagramChannel.configureBlocking(false);
@@ -190,9 +257,12 @@ public final class DatagramReaderHandler extends SystemLogger {
           }
         }
         datagramChannel.setOption(StandardSocketOptions.SO_BROADCAST, true);
-        datagramChannel.setOption(StandardSocketOptions.SO_RCVBUF, DEFAULT_RCV_BUF);
-        datagramChannel.setOption(StandardSocketOptions.SO_SNDBUF, DEFAULT_SND_BUF);
+        SocketUtility.applySocketTuning(datagramChannel, socketTuning);
         datagramChannel.bind(new InetSocketAddress(serverAddress, port));
+        if (effectiveTuning == null) {
+          effectiveTuning = SocketUtility.describeSocketTuning(datagramChannel);
+        }
+        eventLoopStatistic.increaseChannels();
         // udp datagram is a connectionless protocol, we don't need to create
         // bi-direction connection, that why it's not necessary to register it to
         // acceptable selector. Just leave it to the reader selector later
@@ -205,7 +275,7 @@ public final class DatagramReaderHandler extends SystemLogger {
       }
       if (isInfoEnabled()) {
         info("UDP CHANNEL(S)", buildgen("Opened at address: ", serverAddress, ", port: ",
-            port, ", cacheSize: ", cacheSize));
+            port, ", cacheSize: ", cacheSize, ", ", effectiveTuning));
       }
     } catch (IOException exception) {
       throw new ServiceRuntimeException(exception.getMessage());
@@ -229,14 +299,18 @@ public final class DatagramReaderHandler extends SystemLogger {
           // update statistic data
           networkReaderStatistic.updateReadBytes(byteCount);
           networkReaderStatistic.updateReadPackets(1);
+          eventLoopStatistic.updateReadBytes(byteCount);
+          eventLoopStatistic.updateReadPackets(1);
           // ready to read data from buffer
           readerBuffer.flip();
-          // reads data from buffer and transfers them to the next process
-          byte[] binaries = new byte[readerBuffer.limit()];
-          readerBuffer.get(binaries);
-
-          // offload process
-          internalQueue.add(new Info(datagramChannel, remoteAddress, binaries, byteCount));
+          // decodes at once on this lane, a broken datagram must not stop the next ones
+          try {
+            processDatagram(datagramChannel, remoteAddress, readerBuffer, byteCount);
+          } catch (RuntimeException exception) {
+            if (isErrorEnabled()) {
+              error(exception, "Unable to process a datagram from: ", remoteAddress);
+            }
+          }
 
           readerBuffer.clear();
           packetCount++;
@@ -250,60 +324,95 @@ public final class DatagramReaderHandler extends SystemLogger {
     }
   }
 
-  private void processInternalQueue() {
-    while (!Thread.currentThread().isInterrupted()) {
+  private void processDatagram(DatagramChannel datagramChannel, SocketAddress remoteAddress,
+                               ByteBuffer datagram, int byteCount) {
+    if (datagram.remaining() == 0) {
+      return;
+    }
+
+    byte headerByte = datagram.get(datagram.position());
+    if (reliableDatagramManager != null &&
+        (headerByte & PacketHeaderType.RELIABLE.getValue()) != 0) {
+      byte[] segment = new byte[datagram.remaining()];
+      datagram.get(segment);
+      processReliableSegment(datagramChannel, remoteAddress, segment, byteCount);
+      return;
+    }
+
+    // the header is read in place, the body is copied out of the receive buffer since the decoder
+    // works on arrays
+    var packetHeader = CodecUtility.decodeFirstHeaderByte(headerByte);
+    byte[] body = new byte[datagram.remaining() - 1];
+    datagram.get(datagram.position() + 1, body);
+    processMessage(datagramChannel, remoteAddress,
+        binaryPacketDecoder.decode(packetHeader, body), byteCount);
+  }
+
+  private void processReliableSegment(DatagramChannel datagramChannel,
+                                      SocketAddress remoteAddress, byte[] segment,
+                                      int byteCount) {
+    if (!ReliableChannel.isReliableSegment(segment)) {
+      return;
+    }
+    Session session = sessionManager.getSessionByDatagram(ReliableChannel.readConveyId(segment));
+    if (session == null || !session.isActivated()) {
+      if (isDebugEnabled()) {
+        debug("READ UDP CHANNEL", "Reliable segment for unavailable session: ", session);
+      }
+      return;
+    }
+
+    session.setDatagramRemoteAddress(remoteAddress);
+    session.addReadBytes(byteCount);
+    // the delivered contents are regular packets, their bytes were counted with the segment
+    reliableDatagramManager.input(session, segment, content -> {
       try {
-        Info info = internalQueue.take();
-
-        // convert binary to dataCollection object
-        var dataCollection = binaryPacketDecoder.decode(info.binaries);
-
-        // retrieves session by its datagram channel, hence we are using only one
-        // datagram channel for all sessions, we use incoming request convey ID to
-        // distinguish them
-        var processedDataCollection = datagramPacketPolicy.applyPolicy(dataCollection);
-        int udpConvey = processedDataCollection.getLeft();
-        DataCollection message = processedDataCollection.getRight();
-
-        Session session = sessionManager.getSessionByDatagram(udpConvey);
-
-        if (session == null) {
-          datagramIoHandler.channelRead(info.datagramChannel, info.remoteAddress, message);
-        } else {
-          if (session.isActivated()) {
-            // When a client (like A or B) is behind a NAT (Network Address Translation), its
-            // private/internal IP and port are not directly visible to your server.
-            // Instead, the NAT device assigns a temporary public IP + port mapping like:
-            // Private client (B): 192.168.1.5:54321
-            // → NAT mapping →
-            // Public IP: 203.0.113.42:61724
-            // But these mappings are temporary and will expire after some idle time (often 30
-            // seconds to a few minutes) if there's no traffic.
-            // Solution:
-            // Every 10 to 30 seconds, the client sends this to the server.
-            // The effects:
-            // - Keeps the NAT mapping alive (prevents expiry).
-            // - Server can update the client’s SocketAddress if the NAT changes the port dynamically.
-            session.setDatagramRemoteAddress(info.remoteAddress);
-            session.addReadBytes(info.byteCount);
-            datagramIoHandler.sessionRead(session, message);
-          } else {
-            if (isDebugEnabled()) {
-              debug("READ UDP CHANNEL", "Session is inactivated: ", session.toString());
-            }
-          }
-        }
-      } catch (InterruptedException exception) {
-        // InterruptedException is not an error
-        // It’s a signal to stop the thread
-        Thread.currentThread().interrupt();
+        processMessage(datagramChannel, remoteAddress, binaryPacketDecoder.decode(content), 0);
       } catch (Throwable cause) {
+        // one broken content must not hold back the others delivered with the same segment
         if (isErrorEnabled()) {
           error(cause);
         }
       }
-    }
+    });
   }
 
-  private record Info(DatagramChannel datagramChannel, SocketAddress remoteAddress, byte[] binaries, int byteCount) {};
+  private void processMessage(DatagramChannel datagramChannel, SocketAddress remoteAddress,
+                              DataCollection dataCollection, int byteCount) {
+    // retrieves session by its datagram channel, hence we are using only one
+    // datagram channel for all sessions, we use incoming request convey ID to
+    // distinguish them
+    var processedDataCollection = datagramPacketPolicy.applyPolicy(dataCollection);
+    int udpConvey = processedDataCollection.getLeft();
+    DataCollection message = processedDataCollection.getRight();
+
+    Session session = sessionManager.getSessionByDatagram(udpConvey);
+
+    if (session == null) {
+      datagramIoHandler.channelRead(datagramChannel, remoteAddress, message);
+    } else {
+      if (session.isActivated()) {
+        // When a client (like A or B) is behind a NAT (Network Address Translation), its
+        // private/internal IP and port are not directly visible to your server.
+        // Instead, the NAT device assigns a temporary public IP + port mapping like:
+        // Private client (B): 192.168.1.5:54321
+        // → NAT mapping →
+        // Public IP: 203.0.113.42:61724
+        // But these mappings are temporary and will expire after some idle time (often 30
+        // seconds to a few minutes) if there's no traffic.
+        // Solution:
+        // Every 10 to 30 seconds, the client sends this to the server.
+        // The effects:
+        // - Keeps the NAT mapping alive (prevents expiry).
+        // - Server can update the client’s SocketAddress if the NAT changes the port dynamically.
+        session.setDatagramRemoteAddress(remoteAddress);
+        session.addReadBytes(byteCount);
+        datagramIoHandler.sessionRead(session, message);
+      } else {
+        if (isDebugEnabled()) {
+          debug("READ UDP CHANNEL", "Session is inactivated: ", session.toString());
+        }
+      }
+    }
+  }
 }
@@ -26,10 +26,14 @@ package com.tenio.core.network.zero.engine.reader;
 
 import com.tenio.common.logger.SystemLogger;
 import com.tenio.core.entity.define.mode.ConnectionDisconnectMode;
+import com.tenio.core.monitoring.define.LatencyStage;
+import com.tenio.core.monitoring.latency.LatencyTracker;
 import com.tenio.core.network.entity.session.Session;
 import com.tenio.core.network.entity.session.manager.SessionManager;
+import com.tenio.core.network.statistic.EventLoopStatistic;
 import com.tenio.core.network.statistic.NetworkReaderStatistic;
 import com.tenio.core.network.zero.engine.acceptor.AcceptorHandler;
+import com.tenio.core.network.zero.engine.listener.ZeroWriterListener;
 import com.tenio.core.network.zero.handler.SocketIoHandler;
 import com.tenio.core.utility.ExceptionUtility;
 import com.tenio.core.utility.entity.Triple;
@@ -56,13 +60,15 @@ import java.util.function.Consumer;
  * <p>Responsibilities:
  * <ul>
  *   <li>Register socket channels for read/write events</li>
- *   <li>Dispatch readable/writable keys to appropriate handlers</li>
+ *   <li>Dispatch readable keys to the reading process, and route writable keys back to the
+ *   writer lane of their sessions</li>
  *   <li>Manage selection loop and wakeup mechanisms</li>
  *   <li>Notify {@link SocketIoHandler} for channel lifecycle events</li>
  * </ul>
  *
  * <p>Each reader thread runs in a loop, polling its selector and reacting
- * to channel readiness, ensuring non-blocking high-performance IO handling.
+ * to channel readiness, ensuring non-blocking high-performance IO handling. The load of the loop
+ * is recorded in its own {@link EventLoopStatistic}.
  *
  * @see AcceptorHandler
  * @see SocketIoHandler
@@ -80,10 +86,13 @@ public final class SocketReaderHandler extends SystemLogger {
   private final ByteBuffer readerBuffer;
   private final SessionManager sessionManager;
   private final NetworkReaderStatistic networkReaderStatistic;
+  private final EventLoopStatistic eventLoopStatistic;
   private final SocketIoHandler socketIoHandler;
+  private final ZeroWriterListener zeroWriterListener;
   private final Queue<Triple<SocketChannel, Consumer<SelectionKey>, Runnable>> pendingClientSocketChannels;
   private final Thread internalProcess;
   private final BlockingQueue<Info> internalQueue;
+  private volatile LatencyTracker latencyTracker;
 
   /**
    * Constructor.
@@ -92,17 +101,21 @@ public final class SocketReaderHandler extends SystemLogger {
    * @param sessionManager         instance of {@link SessionManager}
    * @param networkReaderStatistic instance of {@link NetworkReaderStatistic}
    * @param socketIoHandler        instance of {@link SocketIoHandler}
+   * @param zeroWriterListener     instance of {@link ZeroWriterListener}
    * @throws IOException whenever any IO exception thrown
    */
   public SocketReaderHandler(ByteBuffer readerBuffer,
                              SessionManager sessionManager,
                              NetworkReaderStatistic networkReaderStatistic,
-                             SocketIoHandler socketIoHandler) throws IOException {
+                             SocketIoHandler socketIoHandler,
+                             ZeroWriterListener zeroWriterListener) throws IOException {
     this.readerBuffer = readerBuffer;
     this.sessionManager = sessionManager;
     this.networkReaderStatistic = networkReaderStatistic;
     this.socketIoHandler = socketIoHandler;
+    this.zeroWriterListener = zeroWriterListener;
 
+    eventLoopStatistic = EventLoopStatistic.newInstance();
     readableSelector = Selector.open();
     pendingClientSocketChannels = new ConcurrentLinkedQueue<>();
     internalQueue = new LinkedBlockingQueue<>();
@@ -120,9 +133,31 @@ public final class SocketReaderHandler extends SystemLogger {
                                           Consumer<SelectionKey> onSuccess,
                                           Runnable onFailed) {
     pendingClientSocketChannels.add(new Triple<>(socketChannel, onSuccess, onFailed));
+    // counts it at once, so the following assignments can see this channel before it is registered
+    eventLoopStatistic.increaseChannels();
     readableSelector.wakeup(); // this helps unblock the instruction select() in the method running()
   }
 
+  /**
+   * Retrieves the statistic of this reader's loop.
+   *
+   * @return an instance of {@link EventLoopStatistic}
+   * @since 0.7.4
+   */
+  public EventLoopStatistic getEventLoopStatistic() {
+    return eventLoopStatistic;
+  }
+
+  /**
+   * Sets the tracker recording the latencies of the read bytes.
+   *
+   * @param latencyTracker an instance of {@link LatencyTracker}
+   * @since 0.7.4
+   */
+  public void setLatencyTracker(LatencyTracker latencyTracker) {
+    this.latencyTracker = latencyTracker;
+  }
+
   /**
    * Shutdown processing.
    *
@@ -146,6 +181,7 @@ public final class SocketReaderHandler extends SystemLogger {
    * Processing. This should be run in a loop.
    */
   public void running() {
+    long selectingTime = System.nanoTime();
     int countReadyKeys = 0;
     try {
       // blocks until at least one channel is ready for the events you registered for
@@ -153,10 +189,24 @@ public final class SocketReaderHandler extends SystemLogger {
     } catch (IOException exception) {
       error(exception, "I/O reading/selection error: ", exception.getMessage());
     }
+    long processingTime = System.nanoTime();
+    eventLoopStatistic.updateIdleTime(processingTime - selectingTime);
+
+    try {
+      processSelectedKeys(countReadyKeys);
+    } finally {
+      if (readableSelector.isOpen()) {
+        eventLoopStatistic.updateChannels(readableSelector.keys().size() +
+            pendingClientSocketChannels.size());
+      }
+      eventLoopStatistic.updateBusyTime(System.nanoTime() - processingTime);
+    }
+  }
 
+  private void processSelectedKeys(int countReadyKeys) {
     // register channels to selector
-    // readable selector was registered by OP_READ interested only socket channels,
-    // but in some cases, we can receive "can writable" signal from those sockets
+    // readable selector was registered by OP_READ interested only socket channels, the writer
+    // adds OP_WRITE interest when a packet could not be written at once
     Triple<SocketChannel, Consumer<SelectionKey>, Runnable> pendingSocketChannel;
     while ((pendingSocketChannel = pendingClientSocketChannels.poll()) != null) {
       try {
@@ -184,7 +234,7 @@ public final class SocketReaderHandler extends SystemLogger {
       if (selectionKey.isValid()) {
         var selectableChannel = selectionKey.channel();
         var socketChannel = (SocketChannel) selectableChannel;
-        readTcpData(socketChannel, selectionKey, readerBuffer);
+        processTcpChannel(socketChannel, selectionKey, readerBuffer);
       }
     }
 
@@ -196,10 +246,12 @@ public final class SocketReaderHandler extends SystemLogger {
     }
   }
 
-  private void readTcpData(SocketChannel socketChannel, SelectionKey selectionKey,
-                           ByteBuffer readerBuffer) {
-    // retrieves session by its socket channel
-    var session = sessionManager.getSessionBySocket(socketChannel);
+  private void processTcpChannel(SocketChannel socketChannel, SelectionKey selectionKey,
+                                 ByteBuffer readerBuffer) {
+    // the session is attached to its key when it is created, the management list is only consulted
+    // for a key which has not been bound yet
+    var session = selectionKey.attachment() instanceof Session attachedSession ? attachedSession :
+        sessionManager.getSessionBySocket(socketChannel);
 
     if (session == null) {
       if (isDebugEnabled()) {
@@ -217,40 +269,55 @@ public final class SocketReaderHandler extends SystemLogger {
     }
 
     if (selectionKey.isValid() && selectionKey.isReadable()) {
-      // prepares the buffer first
-      readerBuffer.clear();
-      // reads data from socket and write them to buffer
-      int byteCount = 0;
-      try {
-        // this isOpen() && isConnected() method can only work if the server side decides to close
-        // the socket. There is no way to know if the connection is closed on the client side
-        byteCount = socketChannel.read(readerBuffer);
-        if (byteCount == -1) {
-          // no left data is available, should close the connection
-          socketIoHandler.channelInactive(socketChannel, selectionKey,
-              ConnectionDisconnectMode.LOST_IN_READ);
-          return;
-        }
-      } catch (IOException exception) {
-        if (isErrorEnabled() && !ExceptionUtility.messageContains(exception,
-                ExceptionUtility.IGNORE_LOGGING_EXCEPTIONS)) {
-          error(exception, "An exception was occurred on channel: ", socketChannel.toString());
-        }
-        socketIoHandler.sessionException(session, exception);
+      readTcpData(session, socketChannel, selectionKey, readerBuffer);
+    }
+
+    // reading may close the channel, so the key has to be checked again
+    if (selectionKey.isValid() && selectionKey.isWritable()) {
+      // stop watching until the writer asks for it again, otherwise the selector keeps waking up
+      // while the writer lane is still busy
+      selectionKey.interestOpsAnd(~SelectionKey.OP_WRITE);
+      zeroWriterListener.continueWriting(session);
+    }
+  }
+
+  private void readTcpData(Session session, SocketChannel socketChannel, SelectionKey selectionKey,
+                           ByteBuffer readerBuffer) {
+    // prepares the buffer first
+    readerBuffer.clear();
+    // reads data from socket and write them to buffer
+    int byteCount = 0;
+    try {
+      // this isOpen() && isConnected() method can only work if the server side decides to close
+      // the socket. There is no way to know if the connection is closed on the client side
+      byteCount = socketChannel.read(readerBuffer);
+      if (byteCount == -1) {
+        // no left data is available, should close the connection
+        socketIoHandler.channelInactive(socketChannel, selectionKey,
+            ConnectionDisconnectMode.LOST_IN_READ);
+        return;
       }
-      if (byteCount > 0) {
-        // update statistic data
-        session.addReadBytes(byteCount);
-        networkReaderStatistic.updateReadBytes(byteCount);
-        // ready to read data from buffer
-        readerBuffer.flip();
-        // reads data from buffer and transfers them to the next process
-        byte[] binaries = new byte[readerBuffer.limit()];
-        readerBuffer.get(binaries);
-
-        // offload process
-        internalQueue.add(new Info(session, binaries));
+    } catch (IOException exception) {
+      if (isErrorEnabled() && !ExceptionUtility.messageContains(exception,
+              ExceptionUtility.IGNORE_LOGGING_EXCEPTIONS)) {
+        error(exception, "An exception was occurred on channel: ", socketChannel.toString());
       }
+      socketIoHandler.sessionException(session, exception);
+    }
+    if (byteCount > 0) {
+      // update statistic data
+      session.addReadBytes(byteCount);
+      networkReaderStatistic.updateReadBytes(byteCount);
+      eventLoopStatistic.updateReadBytes(byteCount);
+      // ready to read data from buffer
+      readerBuffer.flip();
+      // reads data from buffer and transfers them to the next process
+      byte[] binaries = new byte[readerBuffer.limit()];
+      readerBuffer.get(binaries);
+
+      // offload process
+      var tracker = latencyTracker;
+      internalQueue.add(new Info(session, binaries, tracker != null ? tracker.now() : 0L));
     }
   }
 
@@ -258,6 +325,9 @@ public final class SocketReaderHandler extends SystemLogger {
     while (!Thread.currentThread().isInterrupted()) {
       try {
         Info info = internalQueue.take();
+        if (info.receivedTime != 0L) {
+          latencyTracker.record(LatencyStage.READ, info.receivedTime);
+        }
 
         socketIoHandler.sessionRead(info.session, info.binaries);
       } catch (InterruptedException exception) {
@@ -272,5 +342,5 @@ public final class SocketReaderHandler extends SystemLogger {
     }
   }
 
-  private record Info(Session session, byte[] binaries) {}
+  private record Info(Session session, byte[] binaries, long receivedTime) {}
 }
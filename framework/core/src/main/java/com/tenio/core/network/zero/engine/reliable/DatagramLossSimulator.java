@@ -0,0 +1,146 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.zero.engine.reliable;
+
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Simulates a lossy network in front of datagram outputs, it drops datagrams at a given rate and
+ * delays the others by a latency plus a random jitter, so reordering happens naturally. It is
+ * meant for testing the reliable transport, over loopback or fully in memory.
+ *
+ * <p>The delayed datagrams are released by {@link #flush(long)}, a zero latency without jitter
+ * delivers the kept datagrams at once.
+ *
+ * @since 0.7.4
+ */
+public final class DatagramLossSimulator {
+
+  private final double lossRate;
+  private final int latencyInMilliseconds;
+  private final int jitterInMilliseconds;
+  private final Random random;
+  private final PriorityQueue<DelayedDatagram> delayedDatagrams;
+  private long order;
+  private long droppedDatagrams;
+
+  private DatagramLossSimulator(double lossRate, int latencyInMilliseconds,
+                                int jitterInMilliseconds, long seed) {
+    if (lossRate < 0 || lossRate >= 1) {
+      throw new IllegalArgumentException("The loss rate must be in [0, 1)");
+    }
+    if (latencyInMilliseconds < 0 || jitterInMilliseconds < 0) {
+      throw new IllegalArgumentException("The latency and jitter must not be negative");
+    }
+    this.lossRate = lossRate;
+    this.latencyInMilliseconds = latencyInMilliseconds;
+    this.jitterInMilliseconds = jitterInMilliseconds;
+    random = new Random(seed);
+    delayedDatagrams = new PriorityQueue<>((first, second) -> {
+      int compared = Long.compare(first.deliveryTime, second.deliveryTime);
+      return compared != 0 ? compared : Long.compare(first.order, second.order);
+    });
+  }
+
+  /**
+   * Creates a new simulator.
+   *
+   * @param lossRate              the probability in [0, 1) that a datagram is dropped
+   * @param latencyInMilliseconds the one-way latency
+   * @param jitterInMilliseconds  the maximum random delay added to the latency
+   * @param seed                  the random seed, so that a simulation can be repeated
+   * @return a new instance of {@link DatagramLossSimulator}
+   */
+  public static DatagramLossSimulator newInstance(double lossRate, int latencyInMilliseconds,
+                                                  int jitterInMilliseconds, long seed) {
+    return new DatagramLossSimulator(lossRate, latencyInMilliseconds, jitterInMilliseconds, seed);
+  }
+
+  /**
+   * Passes a datagram through the simulated network.
+   *
+   * @param datagram the datagram
+   * @param target   the real output which receives the datagram when it is due
+   * @param now      the current time in milliseconds
+   */
+  public void offer(byte[] datagram, Consumer<byte[]> target, long now) {
+    synchronized (this) {
+      if (random.nextDouble() < lossRate) {
+        droppedDatagrams++;
+        return;
+      }
+      int delay = latencyInMilliseconds +
+          (jitterInMilliseconds > 0 ? random.nextInt(jitterInMilliseconds + 1) : 0);
+      if (delay > 0) {
+        delayedDatagrams.add(new DelayedDatagram(now + delay, order++, datagram, target));
+        return;
+      }
+    }
+    target.accept(datagram);
+  }
+
+  /**
+   * Delivers all the datagrams which are due.
+   *
+   * @param now the current time in milliseconds
+   */
+  public void flush(long now) {
+    while (true) {
+      DelayedDatagram delayedDatagram;
+      synchronized (this) {
+        delayedDatagram = delayedDatagrams.peek();
+        if (delayedDatagram == null || delayedDatagram.deliveryTime > now) {
+          return;
+        }
+        delayedDatagrams.poll();
+      }
+      delayedDatagram.target.accept(delayedDatagram.datagram);
+    }
+  }
+
+  /**
+   * Retrieves the number of dropped datagrams.
+   *
+   * @return the number of dropped datagrams
+   */
+  public synchronized long getDroppedDatagrams() {
+    return droppedDatagrams;
+  }
+
+  /**
+   * Retrieves the number of datagrams still being delayed.
+   *
+   * @return the number of delayed datagrams
+   */
+  public synchronized int getDelayedDatagrams() {
+    return delayedDatagrams.size();
+  }
+
+  private record DelayedDatagram(long deliveryTime, long order, byte[] datagram,
+                                 Consumer<byte[]> target) {
+  }
+}
@@ -0,0 +1,591 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.zero.engine.reliable;
+
+import com.tenio.core.network.codec.packet.PacketHeaderType;
+import com.tenio.core.network.configuration.ReliableDatagramConfiguration;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The ARQ (Automatic Repeat reQuest) control block of one UDP convey, it makes datagrams
+ * reliable in the way of KCP: selective acknowledgements, fast retransmissions, RTT estimation
+ * (RFC 6298), a congestion window and optionally ordered deliveries.
+ *
+ * <p>Every segment is written as:
+ * <pre>
+ * [header: 1 byte][command: 1 byte][convey id: 4 bytes][flags: 1 byte][sn: 4 bytes]
+ * [una: 4 bytes][window: 2 bytes][timestamp: 4 bytes][content]
+ * </pre>
+ * The header byte is {@link PacketHeaderType#RELIABLE}, so a reliable segment is never mistaken
+ * for a regular packet. The content of a push segment is an encoded packet, the content of an
+ * acknowledgement segment is a list of acknowledged pairs {@code [sn: 4 bytes][timestamp: 4
+ * bytes]}. The {@code una} field tells the peer that every segment before it was received.
+ *
+ * <p>Ordered segments are delivered in the sending order, unordered ones are delivered as soon
+ * as they arrive while they are still retransmitted and de-duplicated. Both kinds share the same
+ * sequence numbers.
+ *
+ * <p>A channel is driven by 3 calls: {@link #send(byte[], boolean)} queues a content,
+ * {@link #input(byte[], long, Consumer)} processes an incoming segment and
+ * {@link #flush(long)} emits acknowledgements, new segments and retransmissions via the output.
+ * All of them are thread-safe.
+ *
+ * @since 0.7.4
+ */
+public final class ReliableChannel {
+
+  /**
+   * The number of bytes of a segment header.
+   */
+  public static final int HEADER_SIZE = 21;
+
+  /**
+   * The maximum number of content bytes a segment can carry.
+   */
+  public static final int MAXIMUM_CONTENT_SIZE = 65507 - HEADER_SIZE;
+
+  private static final byte COMMAND_PUSH = 1;
+  private static final byte COMMAND_ACK = 2;
+  private static final byte FLAG_ORDERED = 1;
+  private static final int CONVEY_ID_OFFSET = 2;
+  private static final int ACK_ENTRY_SIZE = 8;
+  private static final int MAXIMUM_ACK_ENTRIES = 128;
+  private static final int MAXIMUM_RTO = 60000;
+  private static final int INITIAL_RTO = 200;
+  private static final int MINIMUM_SLOW_START_THRESHOLD = 2;
+  private static final int INITIAL_CONGESTION_WINDOW = 10;
+  private static final int INITIAL_REMOTE_WINDOW = 10;
+
+  private final int conveyId;
+  private final ReliableDatagramConfiguration configuration;
+  private final Consumer<byte[]> output;
+
+  private final Deque<Segment> waitingSegments;
+  private final Deque<Segment> flyingSegments;
+  private final Segment[] receivingSegments;
+  private final List<int[]> pendingAcknowledgements;
+
+  private int sendNext;
+  private int sendUnacknowledged;
+  private int receiveNext;
+  private int bufferedSegments;
+  private int remoteWindow;
+
+  private int smoothedRtt;
+  private int rttVariation;
+  private int rto;
+
+  private int congestionWindow;
+  private int slowStartThreshold;
+  private int congestionIncrement;
+
+  private boolean dead;
+  private long sentSegments;
+  private long retransmittedSegments;
+  private long fastRetransmittedSegments;
+
+  /**
+   * Creates a new control block.
+   *
+   * @param conveyId      the UDP convey ID shared by both sides
+   * @param configuration the {@link ReliableDatagramConfiguration}
+   * @param output        writes an encoded segment to the wire
+   */
+  public ReliableChannel(int conveyId, ReliableDatagramConfiguration configuration,
+                         Consumer<byte[]> output) {
+    this.conveyId = conveyId;
+    this.configuration = configuration;
+    this.output = output;
+
+    waitingSegments = new ArrayDeque<>();
+    flyingSegments = new ArrayDeque<>();
+    receivingSegments = new Segment[configuration.receiveWindow()];
+    pendingAcknowledgements = new ArrayList<>();
+
+    // the peer's receive window is unknown until its first header arrives, only a few segments
+    // are sent meanwhile
+    remoteWindow = INITIAL_REMOTE_WINDOW;
+    rto = Math.max(INITIAL_RTO, configuration.minimumRtoInMilliseconds());
+    congestionWindow = Math.min(INITIAL_CONGESTION_WINDOW, configuration.sendWindow());
+    slowStartThreshold = configuration.sendWindow();
+  }
+
+  /**
+   * Determines whether a datagram is a segment of the reliable transport.
+   *
+   * @param datagram the received datagram
+   * @return {@code true} if the datagram is a reliable segment, otherwise {@code false}
+   */
+  public static boolean isReliableSegment(byte[] datagram) {
+    return datagram != null && datagram.length >= HEADER_SIZE &&
+        (datagram[0] & PacketHeaderType.RELIABLE.getValue()) != 0;
+  }
+
+  /**
+   * Reads the UDP convey ID of a reliable segment.
+   *
+   * @param datagram the reliable segment
+   * @return the UDP convey ID
+   */
+  public static int readConveyId(byte[] datagram) {
+    return ByteBuffer.wrap(datagram, CONVEY_ID_OFFSET, Integer.BYTES).getInt();
+  }
+
+  /**
+   * Queues a content to be sent reliably.
+   *
+   * @param content the content, it is normally an encoded packet
+   * @param ordered sets it {@code true} if the content must be delivered after all the previous
+   *                ordered ones, otherwise {@code false}
+   * @return {@code true} if the content is queued, {@code false} if it is dropped because the
+   * channel is dead or too many segments are waiting
+   * @throws IllegalArgumentException when the content does not fit in a datagram
+   */
+  public synchronized boolean send(byte[] content, boolean ordered) {
+    if (content.length > MAXIMUM_CONTENT_SIZE) {
+      throw new IllegalArgumentException("The content exceeds " + MAXIMUM_CONTENT_SIZE + " bytes");
+    }
+    if (dead || waitingSegments.size() >= configuration.maximumWaitingSegments()) {
+      return false;
+    }
+    waitingSegments.add(new Segment(ordered, content));
+    return true;
+  }
+
+  /**
+   * Processes an incoming segment.
+   *
+   * @param datagram the received segment
+   * @param now      the current time in milliseconds
+   * @param receiver receives the delivered contents
+   * @return {@code true} if the segment belongs to this channel and is processed, otherwise
+   * {@code false}
+   */
+  public synchronized boolean input(byte[] datagram, long now, Consumer<byte[]> receiver) {
+    if (!isReliableSegment(datagram)) {
+      return false;
+    }
+
+    var buffer = ByteBuffer.wrap(datagram);
+    buffer.position(1);
+    byte command = buffer.get();
+    if (buffer.getInt() != conveyId) {
+      return false;
+    }
+    byte flags = buffer.get();
+    int sn = buffer.getInt();
+    int una = buffer.getInt();
+    remoteWindow = Short.toUnsignedInt(buffer.getShort());
+    int timestamp = buffer.getInt();
+
+    int acknowledgedSegments = 0;
+
+    switch (command) {
+      case COMMAND_ACK -> {
+        int current = (int) now;
+        int maximumAcknowledged = sendUnacknowledged;
+        int minimumRtt = -1;
+        while (buffer.remaining() >= ACK_ENTRY_SIZE) {
+          int acknowledgedSn = buffer.getInt();
+          int echoedTimestamp = buffer.getInt();
+          if (acknowledge(acknowledgedSn)) {
+            int rtt = current - echoedTimestamp;
+            if (rtt >= 0 && (minimumRtt < 0 || rtt < minimumRtt)) {
+              minimumRtt = rtt;
+            }
+            if (acknowledgedSegments == 0 || acknowledgedSn - maximumAcknowledged > 0) {
+              maximumAcknowledged = acknowledgedSn;
+            }
+            acknowledgedSegments++;
+          }
+        }
+        if (acknowledgedSegments > 0) {
+          countSkippedSegments(maximumAcknowledged);
+        }
+        // takes one sample for each acknowledgement, the freshest one, so that a batch of entries
+        // does not collapse the RTT variation
+        if (minimumRtt >= 0) {
+          updateRtt(minimumRtt);
+        }
+        // the cumulative acknowledgement comes after the selective ones, which still carry
+        // their RTT samples
+        acknowledgedSegments += acknowledgeUntil(una);
+      }
+      case COMMAND_PUSH -> {
+        acknowledgedSegments += acknowledgeUntil(una);
+        byte[] content = new byte[buffer.remaining()];
+        buffer.get(content);
+        // a segment beyond the receive window is dropped, acknowledging it would stop its
+        // retransmission
+        if (receive(sn, (flags & FLAG_ORDERED) != 0, content, receiver)) {
+          pendingAcknowledgements.add(new int[] {sn, timestamp});
+        }
+      }
+      default -> {
+        return false;
+      }
+    }
+
+    removeAcknowledgedSegments();
+    growCongestionWindow(acknowledgedSegments);
+    return true;
+  }
+
+  /**
+   * Emits pending acknowledgements, new segments allowed by the windows and retransmissions of
+   * timed out or skipped segments. This should be called periodically.
+   *
+   * @param now the current time in milliseconds
+   */
+  public synchronized void flush(long now) {
+    int current = (int) now;
+
+    flushAcknowledgements(current);
+
+    int window = Math.min(configuration.sendWindow(), remoteWindow);
+    if (configuration.congestionControl()) {
+      window = Math.min(window, congestionWindow);
+    }
+    // always lets one segment probe a closed window, so that it can be reopened
+    window = Math.max(window, 1);
+    while (!waitingSegments.isEmpty() && sendNext - sendUnacknowledged < window) {
+      var segment = waitingSegments.poll();
+      segment.sn = sendNext++;
+      flyingSegments.add(segment);
+    }
+
+    boolean skipped = false;
+    boolean timedOut = false;
+    for (var segment : flyingSegments) {
+      if (segment.acknowledged) {
+        continue;
+      }
+      if (segment.transmissions == 0) {
+        segment.rto = rto;
+        transmit(segment, current);
+      } else if (current - segment.resendTimestamp >= 0) {
+        segment.rto = Math.min(segment.rto + Math.max(segment.rto, rto) / 2, MAXIMUM_RTO);
+        transmit(segment, current);
+        retransmittedSegments++;
+        timedOut = true;
+      } else if (configuration.fastResend() > 0 &&
+          segment.skippedCount >= configuration.fastResend()) {
+        transmit(segment, current);
+        segment.skippedCount = 0;
+        retransmittedSegments++;
+        fastRetransmittedSegments++;
+        skipped = true;
+      }
+      if (segment.transmissions >= configuration.deadLink()) {
+        dead = true;
+      }
+    }
+
+    if (skipped) {
+      slowStartThreshold = Math.max((sendNext - sendUnacknowledged) / 2,
+          MINIMUM_SLOW_START_THRESHOLD);
+      congestionWindow = slowStartThreshold + configuration.fastResend();
+      congestionIncrement = 0;
+    }
+    if (timedOut) {
+      slowStartThreshold = Math.max(congestionWindow / 2, MINIMUM_SLOW_START_THRESHOLD);
+      congestionWindow = 1;
+      congestionIncrement = 0;
+    }
+  }
+
+  private void transmit(Segment segment, int current) {
+    segment.transmissions++;
+    segment.resendTimestamp = current + segment.rto;
+
+    var buffer = ByteBuffer.allocate(HEADER_SIZE + segment.content.length);
+    writeHeader(buffer, COMMAND_PUSH, segment.ordered ? FLAG_ORDERED : 0, segment.sn, current);
+    buffer.put(segment.content);
+    output.accept(buffer.array());
+    sentSegments++;
+  }
+
+  private void flushAcknowledgements(int current) {
+    int index = 0;
+    while (index < pendingAcknowledgements.size()) {
+      int count = Math.min(MAXIMUM_ACK_ENTRIES, pendingAcknowledgements.size() - index);
+      var buffer = ByteBuffer.allocate(HEADER_SIZE + count * ACK_ENTRY_SIZE);
+      writeHeader(buffer, COMMAND_ACK, (byte) 0, 0, current);
+      for (int i = 0; i < count; i++) {
+        int[] acknowledgement = pendingAcknowledgements.get(index++);
+        buffer.putInt(acknowledgement[0]);
+        buffer.putInt(acknowledgement[1]);
+      }
+      output.accept(buffer.array());
+    }
+    pendingAcknowledgements.clear();
+  }
+
+  private void writeHeader(ByteBuffer buffer, byte command, byte flags, int sn, int current) {
+    buffer.put(PacketHeaderType.RELIABLE.getValue());
+    buffer.put(command);
+    buffer.putInt(conveyId);
+    buffer.put(flags);
+    buffer.putInt(sn);
+    buffer.putInt(receiveNext);
+    buffer.putShort((short) Math.min(receivingSegments.length - bufferedSegments, 0xFFFF));
+    buffer.putInt(current);
+  }
+
+  private boolean receive(int sn, boolean ordered, byte[] content, Consumer<byte[]> receiver) {
+    int distance = sn - receiveNext;
+    // a duplicated segment is acknowledged again but never delivered twice
+    if (distance < 0) {
+      return true;
+    }
+    if (distance >= receivingSegments.length) {
+      return false;
+    }
+
+    int slot = Math.floorMod(sn, receivingSegments.length);
+    if (receivingSegments[slot] != null) {
+      return true;
+    }
+
+    var segment = new Segment(ordered, content);
+    if (!ordered) {
+      receiver.accept(content);
+      segment.content = null;
+    }
+    receivingSegments[slot] = segment;
+    bufferedSegments++;
+
+    // delivers the contiguous segments in order
+    slot = Math.floorMod(receiveNext, receivingSegments.length);
+    while (receivingSegments[slot] != null) {
+      var next = receivingSegments[slot];
+      receivingSegments[slot] = null;
+      bufferedSegments--;
+      receiveNext++;
+      if (next.content != null) {
+        receiver.accept(next.content);
+      }
+      slot = Math.floorMod(receiveNext, receivingSegments.length);
+    }
+    return true;
+  }
+
+  private int acknowledgeUntil(int una) {
+    int count = 0;
+    for (var segment : flyingSegments) {
+      if (una - segment.sn <= 0) {
+        break;
+      }
+      if (!segment.acknowledged) {
+        segment.acknowledged = true;
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private boolean acknowledge(int sn) {
+    if (sn - sendUnacknowledged < 0 || sn - sendNext >= 0) {
+      return false;
+    }
+    for (var segment : flyingSegments) {
+      if (segment.sn == sn) {
+        if (segment.acknowledged) {
+          return false;
+        }
+        segment.acknowledged = true;
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void countSkippedSegments(int maximumAcknowledged) {
+    for (var segment : flyingSegments) {
+      if (maximumAcknowledged - segment.sn <= 0) {
+        break;
+      }
+      if (!segment.acknowledged) {
+        segment.skippedCount++;
+      }
+    }
+  }
+
+  private void removeAcknowledgedSegments() {
+    while (!flyingSegments.isEmpty() && flyingSegments.peek().acknowledged) {
+      flyingSegments.poll();
+    }
+    sendUnacknowledged = flyingSegments.isEmpty() ? sendNext : flyingSegments.peek().sn;
+  }
+
+  private void growCongestionWindow(int acknowledgedSegments) {
+    if (!configuration.congestionControl()) {
+      return;
+    }
+    for (int i = 0; i < acknowledgedSegments && congestionWindow < configuration.sendWindow();
+         i++) {
+      // slow start grows by one segment per acknowledgement, the congestion avoidance grows by
+      // one segment per window
+      if (congestionWindow < slowStartThreshold) {
+        congestionWindow++;
+      } else if (++congestionIncrement >= congestionWindow) {
+        congestionIncrement = 0;
+        congestionWindow++;
+      }
+    }
+  }
+
+  private void updateRtt(int rtt) {
+    if (smoothedRtt == 0) {
+      smoothedRtt = rtt;
+      rttVariation = rtt / 2;
+    } else {
+      rttVariation = (3 * rttVariation + Math.abs(smoothedRtt - rtt)) / 4;
+      smoothedRtt = Math.max((7 * smoothedRtt + rtt) / 8, 1);
+    }
+    int candidate = smoothedRtt + Math.max(configuration.intervalInMilliseconds(), 4 * rttVariation);
+    rto = Math.min(Math.max(candidate, configuration.minimumRtoInMilliseconds()), MAXIMUM_RTO);
+  }
+
+  /**
+   * Retrieves the UDP convey ID.
+   *
+   * @return the UDP convey ID
+   */
+  public int getConveyId() {
+    return conveyId;
+  }
+
+  /**
+   * Determines whether a segment was transmitted too many times without any acknowledgement.
+   * A dead channel accepts no more content.
+   *
+   * @return {@code true} if the link is considered dead, otherwise {@code false}
+   */
+  public synchronized boolean isDead() {
+    return dead;
+  }
+
+  /**
+   * Retrieves the smoothed round-trip time.
+   *
+   * @return the smoothed RTT in milliseconds, it is 0 when there is no sample yet
+   */
+  public synchronized int getSmoothedRtt() {
+    return smoothedRtt;
+  }
+
+  /**
+   * Retrieves the current retransmission timeout.
+   *
+   * @return the RTO in milliseconds
+   */
+  public synchronized int getRto() {
+    return rto;
+  }
+
+  /**
+   * Retrieves the current congestion window.
+   *
+   * @return the number of segments allowed in flight by the congestion control
+   */
+  public synchronized int getCongestionWindow() {
+    return congestionWindow;
+  }
+
+  /**
+   * Retrieves the number of segments which are sent but not yet acknowledged or still waiting
+   * for a free slot in the send window.
+   *
+   * @return the number of pending segments
+   */
+  public synchronized int getPendingSegments() {
+    return waitingSegments.size() + flyingSegments.size();
+  }
+
+  /**
+   * Retrieves the total number of transmitted push segments, retransmissions included.
+   *
+   * @return the number of sent segments
+   */
+  public synchronized long getSentSegments() {
+    return sentSegments;
+  }
+
+  /**
+   * Retrieves the number of retransmissions, caused by either timeouts or skips.
+   *
+   * @return the number of retransmitted segments
+   */
+  public synchronized long getRetransmittedSegments() {
+    return retransmittedSegments;
+  }
+
+  /**
+   * Retrieves the number of retransmissions caused by later segments being acknowledged first.
+   *
+   * @return the number of fast retransmitted segments
+   */
+  public synchronized long getFastRetransmittedSegments() {
+    return fastRetransmittedSegments;
+  }
+
+  @Override
+  public synchronized String toString() {
+    return "ReliableChannel{" +
+        "conveyId=" + conveyId +
+        ", sendNext=" + sendNext +
+        ", sendUnacknowledged=" + sendUnacknowledged +
+        ", receiveNext=" + receiveNext +
+        ", smoothedRtt=" + smoothedRtt +
+        ", rto=" + rto +
+        ", congestionWindow=" + congestionWindow +
+        ", retransmittedSegments=" + retransmittedSegments +
+        ", dead=" + dead +
+        '}';
+  }
+
+  private static final class Segment {
+
+    private final boolean ordered;
+    private byte[] content;
+    private int sn;
+    private int resendTimestamp;
+    private int rto;
+    private int transmissions;
+    private int skippedCount;
+    private boolean acknowledged;
+
+    private Segment(boolean ordered, byte[] content) {
+      this.ordered = ordered;
+      this.content = content;
+    }
+  }
+}
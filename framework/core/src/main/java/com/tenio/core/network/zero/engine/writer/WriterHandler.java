@@ -24,6 +24,7 @@ THE SOFTWARE.
 
 package com.tenio.core.network.zero.engine.writer;
 
+import com.tenio.core.monitoring.latency.LatencyTracker;
 import com.tenio.core.network.codec.encoder.BinaryPacketEncoder;
 import com.tenio.core.network.entity.outbound.packet.Packet;
 import com.tenio.core.network.entity.outbound.packet.OutboundQueue;
@@ -118,6 +119,22 @@ public interface WriterHandler {
    */
   void setNetworkWriterStatistic(NetworkWriterStatistic networkWriterStatistic);
 
+  /**
+   * Retrieves the tracker recording the latencies of the outbound packets.
+   *
+   * @return a {@link LatencyTracker} instance, or {@code null} if it was not set
+   * @since 0.7.4
+   */
+  LatencyTracker getLatencyTracker();
+
+  /**
+   * Sets the tracker recording the latencies of the outbound packets.
+   *
+   * @param latencyTracker a {@link LatencyTracker} instance
+   * @since 0.7.4
+   */
+  void setLatencyTracker(LatencyTracker latencyTracker);
+
   /**
    * Retrieves a byte buffer which a socket can read/write binaries data from/down.
    *
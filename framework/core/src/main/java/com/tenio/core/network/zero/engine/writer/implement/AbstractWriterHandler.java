@@ -25,6 +25,7 @@ THE SOFTWARE.
 package com.tenio.core.network.zero.engine.writer.implement;
 
 import com.tenio.common.logger.SystemLogger;
+import com.tenio.core.monitoring.latency.LatencyTracker;
 import com.tenio.core.network.codec.encoder.BinaryPacketEncoder;
 import com.tenio.core.network.entity.session.Session;
 import com.tenio.core.network.statistic.NetworkWriterStatistic;
@@ -42,6 +43,7 @@ public abstract class AbstractWriterHandler extends SystemLogger implements Writ
   private SessionTicketsQueueManager sessionTicketsQueueManager;
   private BinaryPacketEncoder binaryPacketEncoder;
   private NetworkWriterStatistic networkWriterStatistic;
+  private LatencyTracker latencyTracker;
   private ByteBuffer byteBuffer;
 
   @Override
@@ -74,6 +76,16 @@ public abstract class AbstractWriterHandler extends SystemLogger implements Writ
     this.networkWriterStatistic = networkWriterStatistic;
   }
 
+  @Override
+  public LatencyTracker getLatencyTracker() {
+    return latencyTracker;
+  }
+
+  @Override
+  public void setLatencyTracker(LatencyTracker latencyTracker) {
+    this.latencyTracker = latencyTracker;
+  }
+
   @Override
   public ByteBuffer getBuffer() {
     return byteBuffer;
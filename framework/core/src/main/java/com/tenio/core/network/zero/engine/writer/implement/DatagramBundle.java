@@ -0,0 +1,182 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.zero.engine.writer.implement;
+
+import com.tenio.core.network.codec.CodecUtility;
+import com.tenio.core.network.codec.packet.PacketHeaderType;
+import com.tenio.core.network.entity.session.Session;
+import java.nio.ByteBuffer;
+
+/**
+ * Collects the encoded UDP packets of one session into a single datagram. The datagram starts
+ * with a {@link PacketHeaderType#BUNDLE} header byte, then each packet is prefixed by its length
+ * in {@link CodecUtility#BUNDLE_ENTRY_LENGTH_BYTES} bytes. A bundle holding only one packet is
+ * sent as that plain packet.
+ *
+ * <p>A bundle is not thread-safe, it is only used by the writer which handles its session.
+ *
+ * @see CodecUtility#unbundle(byte[], int, java.util.function.Consumer)
+ * @since 0.7.4
+ */
+public final class DatagramBundle {
+
+  private static final int BUNDLE_HEADER_BYTES = 1;
+
+  private final Session session;
+  private final ByteBuffer buffer;
+  private int packets;
+  private long firstPacketTime;
+
+  private DatagramBundle(Session session, int maximumTransmissionUnit) {
+    this.session = session;
+    buffer = ByteBuffer.allocate(maximumTransmissionUnit);
+    reset();
+  }
+
+  /**
+   * Creates a new empty bundle.
+   *
+   * @param session                 the {@link Session} which receives the bundle
+   * @param maximumTransmissionUnit the maximum size in bytes of the bundled datagram
+   * @return a new instance of {@link DatagramBundle}
+   */
+  public static DatagramBundle newInstance(Session session, int maximumTransmissionUnit) {
+    return new DatagramBundle(session, maximumTransmissionUnit);
+  }
+
+  /**
+   * Determines whether a packet is small enough to be put in a bundle.
+   *
+   * @param packetLength            the size in bytes of the encoded packet
+   * @param maximumTransmissionUnit the maximum size in bytes of a bundled datagram
+   * @return {@code true} if the packet can be bundled, otherwise {@code false}
+   */
+  public static boolean isBundleable(int packetLength, int maximumTransmissionUnit) {
+    return packetLength > 0 && packetLength <= CodecUtility.MAXIMUM_BUNDLE_ENTRY_SIZE &&
+        BUNDLE_HEADER_BYTES + CodecUtility.BUNDLE_ENTRY_LENGTH_BYTES + packetLength <=
+            maximumTransmissionUnit;
+  }
+
+  /**
+   * Determines whether there is enough room left for one more packet.
+   *
+   * @param packetLength the size in bytes of the encoded packet
+   * @return {@code true} if the packet fits in this bundle, otherwise {@code false}
+   */
+  public boolean hasRoomFor(int packetLength) {
+    return buffer.remaining() >= CodecUtility.BUNDLE_ENTRY_LENGTH_BYTES + packetLength;
+  }
+
+  /**
+   * Appends an encoded packet, the caller must check {@link #hasRoomFor(int)} first.
+   *
+   * @param packet the encoded packet, its header byte included
+   * @param now    the current time in nanoseconds
+   */
+  public void add(byte[] packet, long now) {
+    if (packets == 0) {
+      firstPacketTime = now;
+    }
+    buffer.putShort((short) packet.length);
+    buffer.put(packet);
+    packets++;
+  }
+
+  /**
+   * Determines whether the oldest packet has waited for the deadline.
+   *
+   * @param now                   the current time in nanoseconds
+   * @param deadlineInNanoseconds the longest time a packet waits in the bundle
+   * @return {@code true} if the bundle should be sent now, otherwise {@code false}
+   */
+  public boolean isExpired(long now, long deadlineInNanoseconds) {
+    return packets > 0 && now - firstPacketTime >= deadlineInNanoseconds;
+  }
+
+  /**
+   * Copies the datagram to a buffer which is ready to be written, then empties the bundle.
+   *
+   * @param target the {@link ByteBuffer} which receives the datagram, its capacity must not be
+   *               less than the maximum transmission unit
+   */
+  public void drainTo(ByteBuffer target) {
+    target.clear();
+    if (packets == 1) {
+      // one packet needs no framing at all
+      int offset = BUNDLE_HEADER_BYTES + CodecUtility.BUNDLE_ENTRY_LENGTH_BYTES;
+      target.put(buffer.array(), offset, buffer.position() - offset);
+    } else {
+      target.put(buffer.array(), 0, buffer.position());
+    }
+    target.flip();
+    reset();
+  }
+
+  /**
+   * Drops all the collected packets.
+   */
+  public void reset() {
+    buffer.clear();
+    buffer.put(PacketHeaderType.BUNDLE.getValue());
+    packets = 0;
+    firstPacketTime = 0L;
+  }
+
+  /**
+   * Retrieves the session which receives the bundle.
+   *
+   * @return the {@link Session}
+   */
+  public Session getSession() {
+    return session;
+  }
+
+  /**
+   * Retrieves the number of collected packets.
+   *
+   * @return the number of packets waiting in the bundle
+   */
+  public int getPackets() {
+    return packets;
+  }
+
+  /**
+   * Determines whether the bundle has no packet.
+   *
+   * @return {@code true} if the bundle is empty, otherwise {@code false}
+   */
+  public boolean isEmpty() {
+    return packets == 0;
+  }
+
+  @Override
+  public String toString() {
+    return "DatagramBundle{" +
+        "session=" + session +
+        ", packets=" + packets +
+        ", bytes=" + buffer.position() +
+        '}';
+  }
+}
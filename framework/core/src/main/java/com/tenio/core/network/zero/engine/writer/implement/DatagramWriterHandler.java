@@ -24,17 +24,33 @@ THE SOFTWARE.
 
 package com.tenio.core.network.zero.engine.writer.implement;
 
+import com.tenio.core.monitoring.define.LatencyStage;
+import com.tenio.core.network.configuration.DatagramBundleConfiguration;
+import com.tenio.core.network.define.ResponseGuarantee;
 import com.tenio.core.network.entity.outbound.packet.Packet;
 import com.tenio.core.network.entity.outbound.packet.OutboundQueue;
 import com.tenio.core.network.entity.session.Session;
+import com.tenio.core.network.zero.engine.manager.ReliableDatagramManager;
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The Datagram writing handler.
  */
 public final class DatagramWriterHandler extends AbstractWriterHandler {
 
+  // only the writer's own thread touches the bundles, a session is always handled by the same one
+  private final Map<Long, DatagramBundle> datagramBundles;
+  private ReliableDatagramManager reliableDatagramManager;
+  private DatagramBundleConfiguration datagramBundleConfiguration;
+  private long flushDeadlineInNanoseconds;
+  private long lastFlushCheckTime;
+
   private DatagramWriterHandler() {
+    datagramBundles = new HashMap<>();
   }
 
   /**
@@ -46,6 +62,64 @@ public final class DatagramWriterHandler extends AbstractWriterHandler {
     return new DatagramWriterHandler();
   }
 
+  /**
+   * Sets the reliable datagram manager. When it is set, the packets with
+   * {@link ResponseGuarantee#GUARANTEED} or {@link ResponseGuarantee#GUARANTEED_QUICKEST} are
+   * retransmitted until they are acknowledged, the guaranteed ones are also delivered in order.
+   * The others are still sent once.
+   *
+   * @param reliableDatagramManager the {@link ReliableDatagramManager}, {@code null} to send all
+   *                                packets once
+   * @since 0.7.4
+   */
+  public void setReliableDatagramManager(ReliableDatagramManager reliableDatagramManager) {
+    this.reliableDatagramManager = reliableDatagramManager;
+  }
+
+  /**
+   * Sets the bundling settings. When they are set, the small unreliable UDP packets queued for a
+   * session are coalesced into one datagram up to the maximum transmission unit. A bundle is sent
+   * once its session has no more queued packets, once it is full, or at the latest when its
+   * oldest packet reaches the flush deadline.
+   *
+   * @param datagramBundleConfiguration the {@link DatagramBundleConfiguration}, {@code null} to
+   *                                    send each packet in its own datagram
+   * @since 0.7.4
+   */
+  public void setDatagramBundleConfiguration(
+      DatagramBundleConfiguration datagramBundleConfiguration) {
+    this.datagramBundleConfiguration = datagramBundleConfiguration;
+    if (datagramBundleConfiguration != null) {
+      flushDeadlineInNanoseconds = TimeUnit.MILLISECONDS.toNanos(
+          datagramBundleConfiguration.flushDeadlineInMilliseconds());
+    }
+  }
+
+  /**
+   * Sends the bundles whose oldest packet reached the flush deadline and forgets the bundles of
+   * deactivated sessions. It is cheap to call it often, the bundles are only checked once per
+   * deadline period.
+   *
+   * @param now the current time in nanoseconds
+   * @since 0.7.4
+   */
+  public void flushExpiredBundles(long now) {
+    if (datagramBundles.isEmpty() || now - lastFlushCheckTime < flushDeadlineInNanoseconds) {
+      return;
+    }
+    lastFlushCheckTime = now;
+
+    Iterator<DatagramBundle> iterator = datagramBundles.values().iterator();
+    while (iterator.hasNext()) {
+      var datagramBundle = iterator.next();
+      if (!datagramBundle.getSession().isActivated()) {
+        iterator.remove();
+      } else if (datagramBundle.isExpired(now, flushDeadlineInNanoseconds)) {
+        flushBundle(datagramBundle);
+      }
+    }
+  }
+
   @Override
   public void send(OutboundQueue outboundQueue, Session session, Packet packet) {
     // retrieve the datagram channel instance from session
@@ -71,6 +145,10 @@ public final class DatagramWriterHandler extends AbstractWriterHandler {
       return;
     }
 
+    if (getLatencyTracker() != null) {
+      getLatencyTracker().record(LatencyStage.OUTBOUND_QUEUE, packet.getQueuedTime());
+    }
+
     packet = getPacketEncoder().encode(packet);
 
     // the datagram channel will send data by packet, so no fragment using here
@@ -84,6 +162,24 @@ public final class DatagramWriterHandler extends AbstractWriterHandler {
       return;
     }
 
+    if (reliableDatagramManager != null && isReliable(packet.getGuarantee())) {
+      sendReliably(outboundQueue, session, packet, sendingData);
+      return;
+    }
+
+    if (datagramBundleConfiguration != null) {
+      if (DatagramBundle.isBundleable(sendingData.length,
+          datagramBundleConfiguration.maximumTransmissionUnit())) {
+        sendBundled(outboundQueue, session, sendingData);
+        return;
+      }
+      // a big packet travels alone, but not before the packets which were queued ahead of it
+      var datagramBundle = datagramBundles.get(session.getId());
+      if (datagramBundle != null) {
+        flushBundle(datagramBundle);
+      }
+    }
+
     // clear the buffer first
     getBuffer().clear();
 
@@ -129,4 +225,93 @@ public final class DatagramWriterHandler extends AbstractWriterHandler {
       getSessionTicketsQueue(session.getId()).add(session);
     }
   }
+
+  private boolean isReliable(ResponseGuarantee guarantee) {
+    return guarantee == ResponseGuarantee.GUARANTEED ||
+        guarantee == ResponseGuarantee.GUARANTEED_QUICKEST;
+  }
+
+  private void sendReliably(OutboundQueue outboundQueue, Session session, Packet packet,
+                            byte[] sendingData) {
+    // the quickest ones skip the ordering, so a lost packet never holds them back
+    boolean ordered = packet.getGuarantee() == ResponseGuarantee.GUARANTEED;
+    if (reliableDatagramManager.send(session, sendingData, ordered)) {
+      // the written bytes are counted per segment by the manager, retransmissions included
+      getNetworkWriterStatistic().updateWrittenPackets(1);
+    } else {
+      session.addDroppedPackets(1);
+      getNetworkWriterStatistic().updateWrittenDroppedPacketsByFull(1);
+    }
+
+    outboundQueue.take();
+
+    if (session.isActivated() && !outboundQueue.isSnapshotEmpty()) {
+      getSessionTicketsQueue(session.getId()).add(session);
+    }
+  }
+
+  private void sendBundled(OutboundQueue outboundQueue, Session session, byte[] sendingData) {
+    long now = System.nanoTime();
+    var datagramBundle = datagramBundles.computeIfAbsent(session.getId(),
+        key -> DatagramBundle.newInstance(session,
+            datagramBundleConfiguration.maximumTransmissionUnit()));
+    if (!datagramBundle.hasRoomFor(sendingData.length)) {
+      flushBundle(datagramBundle);
+    }
+    datagramBundle.add(sendingData, now);
+    getNetworkWriterStatistic().updateWrittenPackets(1);
+
+    outboundQueue.take();
+
+    // the bundle leaves as soon as the session has nothing more queued, so an idle session adds
+    // no latency, while a busy one is held back until the deadline at most
+    boolean hasMorePackets = !outboundQueue.isSnapshotEmpty();
+    if (!hasMorePackets || datagramBundle.isExpired(now, flushDeadlineInNanoseconds)) {
+      flushBundle(datagramBundle);
+    }
+
+    if (session.isActivated() && hasMorePackets) {
+      getSessionTicketsQueue(session.getId()).add(session);
+    }
+  }
+
+  private void flushBundle(DatagramBundle datagramBundle) {
+    if (datagramBundle.isEmpty()) {
+      return;
+    }
+
+    var session = datagramBundle.getSession();
+    var datagramChannel = session.fetchDatagramChannel();
+    var remoteAddress = session.getDatagramRemoteAddress();
+    if (!session.isActivated() || datagramChannel == null || remoteAddress == null) {
+      if (isDebugEnabled()) {
+        debug("DATAGRAM CHANNEL SEND", "Dropped ", datagramBundle.getPackets(),
+            " bundled packets of unavailable session: ", session);
+      }
+      datagramBundle.reset();
+      return;
+    }
+
+    if (getBuffer().capacity() < datagramBundleConfiguration.maximumTransmissionUnit()) {
+      allocateBuffer(datagramBundleConfiguration.maximumTransmissionUnit());
+    }
+    int packets = datagramBundle.getPackets();
+    datagramBundle.drainTo(getBuffer());
+
+    int writtenBytes;
+    try {
+      writtenBytes = datagramChannel.send(getBuffer(), remoteAddress);
+    } catch (IOException exception) {
+      if (isErrorEnabled()) {
+        error(exception, "Error occurred in writing on session: ", session.toString());
+      }
+      return;
+    }
+
+    getNetworkWriterStatistic().updateWrittenBytes(writtenBytes);
+    if (packets > 1) {
+      getNetworkWriterStatistic().updateWrittenBundle(packets);
+    }
+    session.addWrittenBytes(writtenBytes);
+  }
 }
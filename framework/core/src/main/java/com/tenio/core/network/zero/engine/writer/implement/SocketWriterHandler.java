@@ -26,11 +26,13 @@ package com.tenio.core.network.zero.engine.writer.implement;
 
 import com.tenio.core.entity.define.mode.ConnectionDisconnectMode;
 import com.tenio.core.entity.define.mode.PlayerDisconnectMode;
+import com.tenio.core.monitoring.define.LatencyStage;
 import com.tenio.core.network.entity.outbound.packet.Packet;
 import com.tenio.core.network.entity.outbound.packet.OutboundQueue;
 import com.tenio.core.network.entity.session.Session;
 import com.tenio.core.utility.ExceptionUtility;
 import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
 import java.nio.channels.SelectionKey;
 
 /**
@@ -75,9 +77,26 @@ public final class SocketWriterHandler extends AbstractWriterHandler {
       return;
     }
 
-    // encode the packet
-    packet.hasLengthPrefixed(true);
-    packet = getPacketEncoder().encode(packet);
+    var selectionKey = session.fectchSocketSelectionKey();
+    // the packet is waiting for the channel to be writable again, the reader selector will hand
+    // the session back once it is, so there is no need to retry writing on every new packet
+    if (packet.isFragmented() && isWaitingForWritable(selectionKey)) {
+      return;
+    }
+
+    // the packet leaves its queue on the first attempt to write it
+    var latencyTracker = getLatencyTracker();
+    long writingTime = 0L;
+    if (latencyTracker != null && !packet.isFragmented()) {
+      latencyTracker.record(LatencyStage.OUTBOUND_QUEUE, packet.getQueuedTime());
+      writingTime = latencyTracker.now();
+    }
+
+    // encode the packet, a fragmented packet was already encoded in the first attempt
+    if (!packet.isFragmented()) {
+      packet.hasLengthPrefixed(true);
+      packet = getPacketEncoder().encode(packet);
+    }
     // set priority for packet left unsent data (fragment)
     byte[] sendingData = packet.isFragmented() ? packet.getFragmentBuffer() : packet.getData();
     if (sendingData == null || sendingData.length == 0) {
@@ -114,21 +133,22 @@ public final class SocketWriterHandler extends AbstractWriterHandler {
     // but it's up to the channel, so it's possible to get left unsent bytes
     try {
       realWrittenBytes = channel.write(getBuffer());
-      var selectionKey = session.fectchSocketSelectionKey();
-      int currentOps = selectionKey.interestOps();
-      // in this case, the channel is not interested in writing, so we are asking for it
+      // the reader thread changes the interest set as well, so the changes must be atomic
       if (getBuffer().hasRemaining()) {
-        if ((currentOps & SelectionKey.OP_WRITE) == 0) {
-          selectionKey.interestOps(currentOps | SelectionKey.OP_WRITE);
+        // in this case, the channel is not interested in writing, so we are asking for it
+        if ((selectionKey.interestOpsOr(SelectionKey.OP_WRITE) & SelectionKey.OP_WRITE) == 0) {
+          // the selector may be blocked with the old interest set
+          var selector = selectionKey.selector();
+          if (selector != null) {
+            selector.wakeup();
+          }
         }
       } else {
         // nothing left to be written, the channel should not wait for that action, remove it
-        if ((currentOps & SelectionKey.OP_WRITE) != 0) {
-          selectionKey.interestOps(currentOps & ~SelectionKey.OP_WRITE);
-        }
+        selectionKey.interestOpsAnd(~SelectionKey.OP_WRITE);
       }
 
-    } catch (IOException exception) {
+    } catch (IOException | CancelledKeyException exception) {
       if (isErrorEnabled() && !ExceptionUtility.messageContains(exception,
           ExceptionUtility.IGNORE_LOGGING_EXCEPTIONS)) {
         error(exception, "Error occurred in writing on session: ", session.toString());
@@ -167,6 +187,14 @@ public final class SocketWriterHandler extends AbstractWriterHandler {
     } else {
       // update the statistic data
       getNetworkWriterStatistic().updateWrittenPackets(1);
+      if (packet.isFragmented()) {
+        getNetworkWriterStatistic().updatePartialWriteTime(System.nanoTime() - packet.getFragmentedTime());
+      }
+      if (latencyTracker != null) {
+        // a fragmented packet is measured from its first partial write
+        latencyTracker.record(LatencyStage.WRITE,
+            packet.isFragmented() ? packet.getFragmentedTime() : writingTime);
+      }
 
       // now the packet can be safely removed
       outboundQueue.take();
@@ -191,4 +219,13 @@ public final class SocketWriterHandler extends AbstractWriterHandler {
       }
     }
   }
+
+  private boolean isWaitingForWritable(SelectionKey selectionKey) {
+    try {
+      return (selectionKey.interestOps() & SelectionKey.OP_WRITE) != 0;
+    } catch (CancelledKeyException exception) {
+      // the channel is being closed, writing on it lets the session be cleaned up
+      return false;
+    }
+  }
 }
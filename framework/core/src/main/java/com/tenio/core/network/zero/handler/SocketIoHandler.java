@@ -25,6 +25,7 @@ THE SOFTWARE.
 package com.tenio.core.network.zero.handler;
 
 import com.tenio.core.entity.define.mode.ConnectionDisconnectMode;
+import com.tenio.core.monitoring.latency.LatencyTracker;
 import com.tenio.core.network.codec.decoder.BinaryPacketDecoder;
 import com.tenio.core.network.entity.session.Session;
 import java.nio.channels.SelectionKey;
@@ -88,4 +89,12 @@ public interface SocketIoHandler extends BaseIoHandler {
    * @param packetDecoder an instance of {@link BinaryPacketDecoder}
    */
   void setPacketDecoder(BinaryPacketDecoder packetDecoder);
+
+  /**
+   * Sets the tracker recording the latencies of framing and decoding the packets.
+   *
+   * @param latencyTracker an instance of {@link LatencyTracker}
+   * @since 0.7.4
+   */
+  void setLatencyTracker(LatencyTracker latencyTracker);
 }
@@ -26,6 +26,9 @@ package com.tenio.core.network.zero.handler.frame;
 
 import com.tenio.common.data.DataCollection;
 import com.tenio.common.utility.ByteUtility;
+import com.tenio.core.monitoring.define.LatencyStage;
+import com.tenio.core.monitoring.jfr.PacketFramedEvent;
+import com.tenio.core.monitoring.latency.LatencyTracker;
 import com.tenio.core.network.codec.CodecUtility;
 import com.tenio.core.network.codec.decoder.BinaryPacketDecoder;
 import com.tenio.core.network.codec.packet.PacketHeader;
@@ -43,6 +46,7 @@ import java.nio.ByteBuffer;
 public final class BinaryPacketFramer {
 
   private BinaryPacketDecoder binaryPacketDecoder;
+  private LatencyTracker latencyTracker;
   private PacketFramingListener packetFramingListener;
 
   /**
@@ -54,6 +58,7 @@ public final class BinaryPacketFramer {
    */
   public void framing(Session session, byte[] binaries) {
     PacketReadState readState = session.getPacketReadState();
+    long framingTime = latencyTracker != null ? latencyTracker.now() : 0L;
 
     try {
       while (binaries.length > 0) {
@@ -77,9 +82,13 @@ public final class BinaryPacketFramer {
         }
 
         if (readState == PacketReadState.WAIT_DATA) {
-          processedPacket = handlePacketData(session, binaries);
+          processedPacket = handlePacketData(session, binaries, framingTime);
           readState = processedPacket.getPacketReadState();
           binaries = processedPacket.getData();
+          if (readState == PacketReadState.WAIT_NEW_PACKET && framingTime != 0L) {
+            // the next packet in the same chunk starts being framed now
+            framingTime = latencyTracker.now();
+          }
         }
       }
     } catch (Exception exception) {
@@ -117,6 +126,16 @@ public final class BinaryPacketFramer {
     this.packetFramingListener = packetFramingListener;
   }
 
+  /**
+   * Sets the tracker recording the latencies of framing and decoding the packets.
+   *
+   * @param latencyTracker the {@link LatencyTracker}
+   * @since 0.7.4
+   */
+  public void setLatencyTracker(LatencyTracker latencyTracker) {
+    this.latencyTracker = latencyTracker;
+  }
+
   private ProcessedPacket handleNewPacket(Session session, byte[] binaries) {
     PacketHeader packetHeader = CodecUtility.decodeFirstHeaderByte(binaries[0]);
     if (!packetHeader.hasLengthPrefixed()) {
@@ -231,7 +250,7 @@ public final class BinaryPacketFramer {
     return processedPacket;
   }
 
-  private ProcessedPacket handlePacketData(Session session, byte[] binaries) {
+  private ProcessedPacket handlePacketData(Session session, byte[] binaries, long framingTime) {
     PacketReadState packetReadState = PacketReadState.WAIT_DATA;
     PendingPacket pendingPacket = session.getPendingPacket();
     PacketHeader packetHeader = pendingPacket.getPacketHeader();
@@ -253,7 +272,14 @@ public final class BinaryPacketFramer {
       }
 
       // now the packet data is completely collected
+      long framedTime = framingTime != 0L ? latencyTracker.now() : 0L;
+      var framedEvent = PacketFramedEvent.start();
       DataCollection dataCollection = binaryPacketDecoder.decode(packetHeader, binaries);
+      framedEvent.commit(session, packetHeader, pendingPacket.getExpectedLength());
+      if (framedTime != 0L) {
+        latencyTracker.record(LatencyStage.FRAME, framingTime, framedTime);
+        latencyTracker.record(LatencyStage.DECODE, framedTime);
+      }
 
       // result a framed packet data
       packetFramingListener.onFramedResult(session, dataCollection);
@@ -31,6 +31,7 @@ import com.tenio.core.entity.define.mode.PlayerDisconnectMode;
 import com.tenio.core.event.implement.EventManager;
 import com.tenio.core.exception.InboundQueueFullException;
 import com.tenio.core.exception.RefusedConnectionAddressException;
+import com.tenio.core.monitoring.latency.LatencyTracker;
 import com.tenio.core.network.codec.decoder.BinaryPacketDecoder;
 import com.tenio.core.network.entity.session.Session;
 import com.tenio.core.network.utility.SocketUtility;
@@ -109,7 +110,8 @@ public final class SocketIoHandlerImpl extends AbstractIoHandler
   public void channelInactive(SocketChannel socketChannel,
                               SelectionKey selectionKey,
                               ConnectionDisconnectMode connectionDisconnectMode) {
-    var session = sessionManager.getSessionBySocket(socketChannel);
+    var session = selectionKey != null && selectionKey.attachment() instanceof Session attachedSession ?
+        attachedSession : sessionManager.getSessionBySocket(socketChannel);
     if (session != null && session.isActivated()) {
       // if the socket is handled by its session, let the session processes
       try {
@@ -160,4 +162,9 @@ public final class SocketIoHandlerImpl extends AbstractIoHandler
     binaryPacketFramer.setBinaryPacketDecoder(packetDecoder);
     binaryPacketFramer.setPacketFramingResult(this);
   }
+
+  @Override
+  public void setLatencyTracker(LatencyTracker latencyTracker) {
+    binaryPacketFramer.setLatencyTracker(latencyTracker);
+  }
 }
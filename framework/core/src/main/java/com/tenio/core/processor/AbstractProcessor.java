@@ -25,10 +25,12 @@ THE SOFTWARE.
 package com.tenio.core.processor;
 
 import com.tenio.common.utility.StringUtility;
+import com.tenio.common.utility.TimeUtility;
 import com.tenio.core.configuration.constant.CoreConstant;
 import com.tenio.core.event.implement.EventManager;
 import com.tenio.core.manager.AbstractManager;
 import com.tenio.core.manager.BlockingQueueManager;
+import com.tenio.core.monitoring.jfr.ProcessorQueueWaitEvent;
 import com.tenio.core.network.entity.inbound.Request;
 
 import java.util.concurrent.ExecutorService;
@@ -48,6 +50,10 @@ import java.util.concurrent.atomic.AtomicInteger;
  * <ul>
  *   <li>Thread pool management for request processing</li>
  *   <li>Priority-based request queue</li>
+ *   <li>Optional session affinity mode with work stealing, see
+ *   {@link WorkStealingRequestQueue}</li>
+ *   <li>Optional admission control and load shedding, see
+ *   {@link RequestAdmissionController}</li>
  *   <li>Configurable queue size limits</li>
  *   <li>Request processing metrics</li>
  *   <li>Service lifecycle integration</li>
@@ -70,16 +76,21 @@ import java.util.concurrent.atomic.AtomicInteger;
  * @see Processor
  * @see Request
  * @see RequestComparator
+ * @see ProcessorStatistic
  * @since 0.3.0
  */
 public abstract class AbstractProcessor extends AbstractManager implements Processor, Runnable {
 
   private final AtomicInteger id;
   private final AtomicBoolean stopping;
+  private final ProcessorStatistic processorStatistic;
   private String name;
   private ExecutorService executorService;
   private int executorSize;
   private BlockingQueueManager<Request> requestManager;
+  private WorkStealingRequestQueue affinityRequestQueue;
+  private RequestAdmissionController requestAdmissionController;
+  private boolean sessionAffinity;
   private volatile boolean initialized;
   private volatile boolean activated;
 
@@ -92,11 +103,16 @@ public abstract class AbstractProcessor extends AbstractManager implements Proce
     super(eventManager);
     id = new AtomicInteger(0);
     stopping = new AtomicBoolean(false);
+    processorStatistic = ProcessorStatistic.newInstance();
     executorSize = DEFAULT_NUMBER_WORKERS;
   }
 
   private void initializeWorkers() {
-    if (isEnabledPriority()) {
+    if (sessionAffinity) {
+      affinityRequestQueue = WorkStealingRequestQueue.newInstance(getThreadPoolSize(),
+          DEFAULT_AFFINITY_BATCH_SIZE, DEFAULT_AFFINITY_IDLE_WAIT_IN_MILLISECONDS,
+          isEnabledPriority(), processorStatistic);
+    } else if (isEnabledPriority()) {
       requestManager = new BlockingQueueManager<>(getThreadPoolSize(),
           () -> new PriorityBlockingQueue<>(DEFAULT_INITIAL_QUEUE_SIZE, RequestComparator.newInstance()));
     } else {
@@ -153,8 +169,17 @@ public abstract class AbstractProcessor extends AbstractManager implements Proce
     while (!Thread.currentThread().isInterrupted()) {
       if (activated) {
         try {
+          if (affinityRequestQueue != null) {
+            affinityRequestQueue.poll(index, this::processRequestSafely);
+            continue;
+          }
           Request request = requestManager.getQueueByIndex(index).take();
+          processorStatistic.updatePendingRequests(-1);
+          if (!admit(request)) {
+            continue;
+          }
           processRequest(request);
+          processorStatistic.updateProcessedRequests(1);
         } catch (InterruptedException exception) {
           // InterruptedException is not an error
           // It’s a signal to stop the thread
@@ -168,8 +193,40 @@ public abstract class AbstractProcessor extends AbstractManager implements Proce
     }
   }
 
+  // an exception must not break the batch, the remaining requests of the same sender still
+  // have to be processed in order
+  private void processRequestSafely(Request request) {
+    try {
+      if (!admit(request)) {
+        return;
+      }
+      processRequest(request);
+      processorStatistic.updateProcessedRequests(1);
+    } catch (Throwable cause) {
+      if (isErrorEnabled()) {
+        error(cause);
+      }
+    }
+  }
+
+  private boolean admit(Request request) {
+    long currentTime = TimeUtility.currentTimeMillis();
+    ProcessorQueueWaitEvent.emit(name, request, currentTime);
+    if (requestAdmissionController == null ||
+        requestAdmissionController.admit(request, currentTime)) {
+      return true;
+    }
+    processorStatistic.updateShedRequests(1);
+    refuseRequest(request);
+    return false;
+  }
+
   private void destroy() {
-    requestManager.clear();
+    if (affinityRequestQueue != null) {
+      affinityRequestQueue.clear();
+    } else {
+      requestManager.clear();
+    }
     onDestroyed();
   }
 
@@ -248,7 +305,27 @@ public abstract class AbstractProcessor extends AbstractManager implements Proce
 
   @Override
   public void enqueueRequest(Request request) {
-      requestManager.getQueueByElementId(request.getId()).add(request);
+    if (affinityRequestQueue != null) {
+      affinityRequestQueue.add(request);
+      return;
+    }
+    requestManager.getQueueByElementId(request.getId()).add(request);
+    processorStatistic.updatePendingRequests(1);
+  }
+
+  @Override
+  public void setSessionAffinity(boolean sessionAffinity) {
+    this.sessionAffinity = sessionAffinity;
+  }
+
+  @Override
+  public void setRequestAdmissionController(RequestAdmissionController requestAdmissionController) {
+    this.requestAdmissionController = requestAdmissionController;
+  }
+
+  @Override
+  public ProcessorStatistic getProcessorStatistic() {
+    return processorStatistic;
   }
 
   @Override
@@ -287,4 +364,16 @@ public abstract class AbstractProcessor extends AbstractManager implements Proce
    * @param request the processing {@link Request}
    */
   public abstract void processRequest(Request request);
+
+  /**
+   * Refuses a request which was shed by the admission control, the sender should be informed
+   * about the refusal. Does nothing by default.
+   *
+   * @param request the refused {@link Request}
+   * @see RequestAdmissionController
+   * @since 0.7.4
+   */
+  protected void refuseRequest(Request request) {
+    // do nothing
+  }
 }
@@ -67,6 +67,20 @@ public interface Processor extends Service, ServiceListener {
    * The default number of workers (threads).
    */
   int DEFAULT_NUMBER_WORKERS = 5;
+  /**
+   * The maximum number of requests of one sender processed in a row, when the session affinity
+   * mode is enabled.
+   *
+   * @since 0.7.4
+   */
+  int DEFAULT_AFFINITY_BATCH_SIZE = 32;
+  /**
+   * The time in milliseconds an idle worker waits for new requests before it tries to steal work
+   * from others, when the session affinity mode is enabled.
+   *
+   * @since 0.7.4
+   */
+  long DEFAULT_AFFINITY_IDLE_WAIT_IN_MILLISECONDS = 10L;
 
   /**
    * Enqueue a request from a request queue for processing.
@@ -88,4 +102,33 @@ public interface Processor extends Service, ServiceListener {
    * @param maxSize the thread pool size ({@code integer} value)
    */
   void setThreadPoolSize(int maxSize);
+
+  /**
+   * Enables or disables the session affinity mode. When it is enabled, requests from the same
+   * sender are processed in order by one worker at a time, and idle workers steal whole batches
+   * of requests from busy ones. This method must be called before the processor is initialized.
+   *
+   * @param sessionAffinity sets it {@code true} to enable the session affinity mode, otherwise
+   *                        {@code false}
+   * @see WorkStealingRequestQueue
+   * @since 0.7.4
+   */
+  void setSessionAffinity(boolean sessionAffinity);
+
+  /**
+   * Sets the admission controller which refuses low-priority requests when the server is
+   * overloaded. The admission control is disabled when it is not set.
+   *
+   * @param requestAdmissionController an instance of {@link RequestAdmissionController}
+   * @since 0.7.4
+   */
+  void setRequestAdmissionController(RequestAdmissionController requestAdmissionController);
+
+  /**
+   * Retrieves the processor statistic.
+   *
+   * @return an instance of {@link ProcessorStatistic}
+   * @since 0.7.4
+   */
+  ProcessorStatistic getProcessorStatistic();
 }
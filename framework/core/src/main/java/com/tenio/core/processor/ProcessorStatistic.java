@@ -0,0 +1,173 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.processor;
+
+import com.tenio.core.monitoring.metric.MetricRegistry;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks and manages request processing statistics for a processor.
+ * This class provides thread-safe counters for monitoring the pending requests (queue depth),
+ * processed requests, the session batches stolen between workers and the requests refused by
+ * the admission control.
+ *
+ * <p>Key features:
+ * <ul>
+ *   <li>Thread-safe counters</li>
+ *   <li>Queue depth tracking</li>
+ *   <li>Processed request count monitoring</li>
+ *   <li>Work stealing statistics</li>
+ *   <li>Load shedding statistics</li>
+ * </ul>
+ *
+ * @see AbstractProcessor
+ * @see WorkStealingRequestQueue
+ * @see RequestAdmissionController
+ * @since 0.7.4
+ */
+public final class ProcessorStatistic {
+
+  private final LongAdder pendingRequests;
+  private final LongAdder processedRequests;
+  private final LongAdder stolenBatches;
+  private final LongAdder shedRequests;
+
+  private ProcessorStatistic() {
+    pendingRequests = new LongAdder();
+    processedRequests = new LongAdder();
+    stolenBatches = new LongAdder();
+    shedRequests = new LongAdder();
+  }
+
+  /**
+   * Initialization.
+   *
+   * @return a new instance of {@link ProcessorStatistic}
+   */
+  public static ProcessorStatistic newInstance() {
+    return new ProcessorStatistic();
+  }
+
+  /**
+   * Updates the number of requests which are waiting in queues. A positive value means requests
+   * were enqueued, a negative one means they were taken out for processing.
+   *
+   * @param numberRequests {@code long} value, the changed number of pending requests
+   */
+  public void updatePendingRequests(long numberRequests) {
+    pendingRequests.add(numberRequests);
+  }
+
+  /**
+   * Updates the number of processed requests.
+   *
+   * @param numberRequests {@code long} value, the additional number of processed requests
+   */
+  public void updateProcessedRequests(long numberRequests) {
+    processedRequests.add(numberRequests);
+  }
+
+  /**
+   * Updates the number of session batches which were stolen by idle workers.
+   *
+   * @param numberBatches {@code long} value, the additional number of stolen batches
+   */
+  public void updateStolenBatches(long numberBatches) {
+    stolenBatches.add(numberBatches);
+  }
+
+  /**
+   * Updates the number of requests which were refused due to the server overload.
+   *
+   * @param numberRequests {@code long} value, the additional number of shed requests
+   */
+  public void updateShedRequests(long numberRequests) {
+    shedRequests.add(numberRequests);
+  }
+
+  /**
+   * Retrieves the current number of requests waiting in queues (the queue depth).
+   *
+   * @return {@code long} value, the current number of pending requests
+   */
+  public long getPendingRequests() {
+    return pendingRequests.sum();
+  }
+
+  /**
+   * Retrieves the current number of processed requests.
+   *
+   * @return {@code long} value, the current number of processed requests
+   */
+  public long getProcessedRequests() {
+    return processedRequests.sum();
+  }
+
+  /**
+   * Retrieves the current number of session batches which were stolen by idle workers.
+   *
+   * @return {@code long} value, the current number of stolen batches
+   */
+  public long getStolenBatches() {
+    return stolenBatches.sum();
+  }
+
+  /**
+   * Retrieves the current number of requests refused due to the server overload.
+   *
+   * @return {@code long} value, the current number of shed requests
+   */
+  public long getShedRequests() {
+    return shedRequests.sum();
+  }
+
+  /**
+   * Publishes the counters into a metric registry. The registered metrics read the counters of
+   * this statistic, so nothing is counted twice.
+   *
+   * @param metricRegistry the {@link MetricRegistry}
+   * @since 0.7.4
+   */
+  public void registerMetrics(MetricRegistry metricRegistry) {
+    metricRegistry.gauge("tenio_processor_pending_requests",
+        "The number of requests waiting to be processed", this::getPendingRequests);
+    metricRegistry.counter("tenio_processor_processed_requests_total",
+        "The number of processed requests", this::getProcessedRequests);
+    metricRegistry.counter("tenio_processor_stolen_batches_total",
+        "The number of request batches stolen by idle processors", this::getStolenBatches);
+    metricRegistry.counter("tenio_processor_shed_requests_total",
+        "The number of requests shed under overload", this::getShedRequests);
+  }
+
+  @Override
+  public String toString() {
+    return "ProcessorStatistic{" +
+        "pendingRequests=" + getPendingRequests() +
+        ", processedRequests=" + getProcessedRequests() +
+        ", stolenBatches=" + getStolenBatches() +
+        ", shedRequests=" + getShedRequests() +
+        '}';
+  }
+}
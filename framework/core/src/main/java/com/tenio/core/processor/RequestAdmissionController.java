@@ -0,0 +1,207 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.processor;
+
+import com.tenio.core.configuration.define.ServerEvent;
+import com.tenio.core.network.entity.inbound.Request;
+import com.tenio.core.network.entity.inbound.policy.RequestSheddingPolicy;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * A CoDel-style (Controlled Delay) admission controller for the request processor.
+ *
+ * <p>Instead of limiting the queue length, it measures the sojourn time of every dequeued
+ * request, the time it spent waiting in the processor's queue. The sojourn time is tracked
+ * separately per request type ({@link ServerEvent}). When the sojourn time of a type stays above
+ * the target for at least one interval, the type is considered overloaded and the controller
+ * starts refusing its sheddable requests, see {@link RequestSheddingPolicy}. The refusals get
+ * more frequent following the CoDel control law ({@code interval / sqrt(count)}) as long as the
+ * queue does not drain, and they stop as soon as a request's sojourn time gets back below the
+ * target.</p>
+ *
+ * <p>Key features:
+ * <ul>
+ *   <li>Reacts to the queueing delay, not to the queue length</li>
+ *   <li>Tolerates short bursts which drain within one interval</li>
+ *   <li>Sheds low-priority requests only, the others are always admitted</li>
+ * </ul>
+ *
+ * <p>Thread-safe: The state of each request type is guarded by its own lock.</p>
+ *
+ * @see AbstractProcessor
+ * @see RequestSheddingPolicy
+ * @since 0.7.4
+ */
+public final class RequestAdmissionController {
+
+  /**
+   * The default interval in milliseconds.
+   */
+  public static final long DEFAULT_INTERVAL_IN_MILLISECONDS = 100L;
+
+  private final Map<ServerEvent, SojournState> states;
+  private final RequestSheddingPolicy requestSheddingPolicy;
+  private final long targetSojournTimeInMilliseconds;
+  private final long intervalInMilliseconds;
+
+  private RequestAdmissionController(long targetSojournTimeInMilliseconds,
+                                     long intervalInMilliseconds,
+                                     RequestSheddingPolicy requestSheddingPolicy) {
+    if (targetSojournTimeInMilliseconds <= 0) {
+      throw new IllegalArgumentException("targetSojournTimeInMilliseconds must be greater than 0");
+    }
+    if (intervalInMilliseconds <= 0) {
+      throw new IllegalArgumentException("intervalInMilliseconds must be greater than 0");
+    }
+    this.targetSojournTimeInMilliseconds = targetSojournTimeInMilliseconds;
+    this.intervalInMilliseconds = intervalInMilliseconds;
+    this.requestSheddingPolicy = requestSheddingPolicy;
+    // all states are created in advance, so the map is never modified afterward
+    states = new EnumMap<>(ServerEvent.class);
+    for (var event : ServerEvent.values()) {
+      states.put(event, new SojournState());
+    }
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param targetSojournTimeInMilliseconds the acceptable sojourn time in milliseconds of a
+   *                                        request in the queue
+   * @param intervalInMilliseconds          the time in milliseconds the sojourn time must stay
+   *                                        above the target before requests are refused
+   * @param requestSheddingPolicy           the {@link RequestSheddingPolicy} to select the
+   *                                        requests which can be refused
+   * @return a new instance of {@link RequestAdmissionController}
+   * @throws IllegalArgumentException if any of the time values is not positive
+   */
+  public static RequestAdmissionController newInstance(long targetSojournTimeInMilliseconds,
+                                                       long intervalInMilliseconds,
+                                                       RequestSheddingPolicy requestSheddingPolicy) {
+    return new RequestAdmissionController(targetSojournTimeInMilliseconds, intervalInMilliseconds,
+        requestSheddingPolicy);
+  }
+
+  /**
+   * Determines whether a dequeued request should be processed or refused.
+   *
+   * @param request     the dequeued {@link Request}
+   * @param currentTime the current time in milliseconds
+   * @return {@code true} if the request should be processed, otherwise {@code false} and it
+   * should be refused
+   */
+  public boolean admit(Request request, long currentTime) {
+    var event = request.getEvent();
+    if (event == null) {
+      return true;
+    }
+    long sojournTime = Math.max(0L, currentTime - request.getCreatedTimestamp());
+    return !states.get(event).shouldShed(sojournTime, currentTime,
+        requestSheddingPolicy.isSheddable(request));
+  }
+
+  /**
+   * Retrieves the latest measured sojourn time of a request type.
+   *
+   * @param event the request type
+   * @return the latest sojourn time in milliseconds of the request type
+   */
+  public long getSojournTime(ServerEvent event) {
+    return states.get(event).sojournTime;
+  }
+
+  /**
+   * Determines whether a request type is considered overloaded, and its sheddable requests are
+   * being refused.
+   *
+   * @param event the request type
+   * @return {@code true} if the request type is overloaded, otherwise {@code false}
+   */
+  public boolean isShedding(ServerEvent event) {
+    return states.get(event).shedding;
+  }
+
+  /**
+   * Retrieves the target sojourn time.
+   *
+   * @return the target sojourn time in milliseconds
+   */
+  public long getTargetSojournTime() {
+    return targetSojournTimeInMilliseconds;
+  }
+
+  /**
+   * Retrieves the interval.
+   *
+   * @return the interval in milliseconds
+   */
+  public long getInterval() {
+    return intervalInMilliseconds;
+  }
+
+  private final class SojournState {
+
+    private volatile long sojournTime;
+    private volatile boolean shedding;
+    private long firstAboveTime;
+    private long shedNext;
+    private int shedCount;
+
+    private synchronized boolean shouldShed(long sojournTime, long currentTime, boolean sheddable) {
+      this.sojournTime = sojournTime;
+
+      if (sojournTime < targetSojournTimeInMilliseconds) {
+        firstAboveTime = 0L;
+        shedding = false;
+        return false;
+      }
+
+      if (firstAboveTime == 0L) {
+        firstAboveTime = currentTime + intervalInMilliseconds;
+        return false;
+      }
+
+      if (currentTime < firstAboveTime) {
+        return false;
+      }
+
+      if (!shedding) {
+        shedding = true;
+        // when the overload comes back soon, continue with the previous rate
+        shedCount = currentTime - shedNext < intervalInMilliseconds ? Math.max(1, shedCount - 2) : 1;
+        shedNext = currentTime;
+      }
+
+      if (!sheddable || currentTime < shedNext) {
+        return false;
+      }
+
+      shedCount++;
+      shedNext = currentTime + (long) (intervalInMilliseconds / Math.sqrt(shedCount));
+      return true;
+    }
+  }
+}
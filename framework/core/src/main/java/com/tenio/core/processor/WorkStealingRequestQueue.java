@@ -0,0 +1,348 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.processor;
+
+import com.tenio.core.network.entity.inbound.Request;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * A session-affine request queue with work stealing, used by {@link AbstractProcessor} when the
+ * session affinity mode is enabled.
+ *
+ * <p>Requests are grouped into batches by their {@link Request#getAffinityId()}, every batch
+ * holds the pending requests of one sender in arrival order. Each worker owns a deque of
+ * scheduled batches, a batch is assigned to its home worker using {@code affinityId % workers}.
+ * A worker takes batches from the head of its own deque, and when it runs out of work, it steals
+ * a whole batch from the tail of another worker's deque.</p>
+ *
+ * <p>A batch is owned by at most one worker at a time: it is either waiting in exactly one deque
+ * or being processed. Thus, the requests of a sender are never processed concurrently and their
+ * FIFO order is always preserved, even when the batch moves between workers.</p>
+ *
+ * <p>When the priority is enabled, it never reorders the requests of a sender. It only decides
+ * which batch a worker takes next: every deque keeps one FIFO lane per priority, and a batch
+ * joins the lane of its first pending request. The lane with the smallest priority value is
+ * served first, the same order as {@link RequestComparator}.</p>
+ *
+ * <p>Thread-safe: The batch lifecycle (create, schedule, release, remove) is guarded by the
+ * per-key atomicity of {@link ConcurrentHashMap#compute}, requests inside a batch are held by a
+ * concurrent queue and the lanes of a deque are guarded by its lock.</p>
+ *
+ * @see AbstractProcessor
+ * @see ProcessorStatistic
+ * @since 0.7.4
+ */
+public final class WorkStealingRequestQueue {
+
+  private final List<WorkerDeque> deques;
+  private final ConcurrentHashMap<Long, Batch> batches;
+  private final ProcessorStatistic processorStatistic;
+  private final boolean prioritized;
+  private final int workerSize;
+  private final int batchSize;
+  private final long idleWaitInMilliseconds;
+
+  private WorkStealingRequestQueue(int workerSize, int batchSize, long idleWaitInMilliseconds,
+                                   boolean prioritized, ProcessorStatistic processorStatistic) {
+    if (workerSize <= 0) {
+      throw new IllegalArgumentException("workerSize must be greater than 0");
+    }
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("batchSize must be greater than 0");
+    }
+    this.workerSize = workerSize;
+    this.batchSize = batchSize;
+    this.idleWaitInMilliseconds = idleWaitInMilliseconds;
+    this.prioritized = prioritized;
+    this.processorStatistic = processorStatistic;
+    batches = new ConcurrentHashMap<>();
+    deques = new ArrayList<>(workerSize);
+    for (int i = 0; i < workerSize; i++) {
+      deques.add(new WorkerDeque());
+    }
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param workerSize             the number of workers, each one owns a deque
+   * @param batchSize              the maximum number of requests a worker processes from a
+   *                               batch before giving other batches a turn
+   * @param idleWaitInMilliseconds the time in milliseconds an idle worker waits on its own
+   *                               deque before it tries to steal again
+   * @param prioritized            {@code true} if the workers take the batches by the priority
+   *                               of their first pending requests, otherwise in arrival order
+   * @param processorStatistic     the {@link ProcessorStatistic} to record the queue depth and
+   *                               stolen batches
+   * @return a new instance of {@link WorkStealingRequestQueue}
+   * @throws IllegalArgumentException if {@code workerSize <= 0} or {@code batchSize <= 0}
+   */
+  public static WorkStealingRequestQueue newInstance(int workerSize, int batchSize,
+                                                     long idleWaitInMilliseconds,
+                                                     boolean prioritized,
+                                                     ProcessorStatistic processorStatistic) {
+    return new WorkStealingRequestQueue(workerSize, batchSize, idleWaitInMilliseconds,
+        prioritized, processorStatistic);
+  }
+
+  /**
+   * Adds a request to the batch of its sender. The batch is scheduled on its home worker if it
+   * is not owned by any worker yet.
+   *
+   * @param request the {@link Request} to add
+   */
+  public void add(Request request) {
+    batches.compute(request.getAffinityId(), (affinityId, batch) -> {
+      if (batch == null) {
+        batch = new Batch(affinityId);
+      }
+      batch.requests.add(request);
+      if (!batch.scheduled) {
+        // an unscheduled batch is empty, so the request is its first pending one
+        batch.scheduled = true;
+        batch.priority = getLanePriority(request);
+        deques.get(Math.floorMod(affinityId, workerSize)).offerLast(batch);
+      }
+      return batch;
+    });
+    processorStatistic.updatePendingRequests(1);
+  }
+
+  /**
+   * Takes a batch for the worker, processes up to {@code batchSize} of its requests in order and
+   * releases it. The worker looks at its own deque first, then tries to steal from the others
+   * and finally waits on its own deque for a while.
+   *
+   * @param workerIndex the index of the polling worker
+   * @param consumer    processes every taken request, it should not throw any exception
+   * @return the number of processed requests, {@code 0} if there was no work
+   * @throws InterruptedException when the worker is interrupted while waiting
+   */
+  public int poll(int workerIndex, Consumer<Request> consumer) throws InterruptedException {
+    var deque = deques.get(workerIndex);
+    var batch = deque.pollFirst();
+    if (batch == null) {
+      batch = steal(workerIndex);
+    }
+    if (batch == null) {
+      batch = deque.pollFirst(idleWaitInMilliseconds, TimeUnit.MILLISECONDS);
+    }
+    if (batch == null) {
+      return 0;
+    }
+
+    int processed = 0;
+    try {
+      Request request;
+      while (processed < batchSize && (request = batch.requests.poll()) != null) {
+        processed++;
+        processorStatistic.updatePendingRequests(-1);
+        consumer.accept(request);
+      }
+    } finally {
+      release(workerIndex, batch);
+    }
+    return processed;
+  }
+
+  private Batch steal(int thiefIndex) {
+    for (int i = 1; i < workerSize; i++) {
+      var batch = deques.get((thiefIndex + i) % workerSize).pollLast();
+      if (batch != null) {
+        processorStatistic.updateStolenBatches(1);
+        return batch;
+      }
+    }
+    return null;
+  }
+
+  // The batch stays on the releasing worker when it still has requests, otherwise it is
+  // removed, and the next request of its sender will schedule a fresh one on the home worker
+  private void release(int workerIndex, Batch batch) {
+    batches.compute(batch.affinityId, (affinityId, current) -> {
+      if (batch.requests.isEmpty()) {
+        batch.scheduled = false;
+        return null;
+      }
+      batch.priority = getLanePriority(batch.requests.peek());
+      deques.get(workerIndex).offerLast(batch);
+      return batch;
+    });
+  }
+
+  private int getLanePriority(Request request) {
+    return prioritized ? request.getPriority() : 0;
+  }
+
+  /**
+   * Retrieves the number of batches waiting in a worker's deque.
+   *
+   * @param workerIndex the index of worker
+   * @return the number of waiting batches of the worker
+   */
+  public int getScheduledBatches(int workerIndex) {
+    return deques.get(workerIndex).size();
+  }
+
+  /**
+   * Retrieves the number of workers.
+   *
+   * @return the number of workers
+   */
+  public int getWorkerSize() {
+    return workerSize;
+  }
+
+  /**
+   * Cleanup all internal deques and batches.
+   */
+  public void clear() {
+    for (var deque : deques) {
+      deque.clear();
+    }
+    batches.clear();
+  }
+
+  private static final class Batch {
+
+    private final long affinityId;
+    private final Queue<Request> requests;
+    // only written inside ConcurrentHashMap#compute of the same key, before the batch is offered
+    // to a deque
+    private boolean scheduled;
+    private int priority;
+
+    private Batch(long affinityId) {
+      this.affinityId = affinityId;
+      requests = new ConcurrentLinkedQueue<>();
+    }
+  }
+
+  /**
+   * The batches scheduled on a worker, in one FIFO lane per priority. Both ends are taken from
+   * the lane with the smallest priority value: the head by the owner, the tail by the thieves.
+   */
+  private static final class WorkerDeque {
+
+    private final ReentrantLock lock;
+    private final Condition notEmpty;
+    private final TreeMap<Integer, ArrayDeque<Batch>> lanes;
+    private int size;
+
+    private WorkerDeque() {
+      lock = new ReentrantLock();
+      notEmpty = lock.newCondition();
+      lanes = new TreeMap<>();
+    }
+
+    private void offerLast(Batch batch) {
+      lock.lock();
+      try {
+        lanes.computeIfAbsent(batch.priority, priority -> new ArrayDeque<>()).offerLast(batch);
+        size++;
+        notEmpty.signal();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private Batch pollFirst() {
+      lock.lock();
+      try {
+        return take(true);
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private Batch pollFirst(long timeout, TimeUnit unit) throws InterruptedException {
+      long nanos = unit.toNanos(timeout);
+      lock.lockInterruptibly();
+      try {
+        while (size == 0) {
+          if (nanos <= 0L) {
+            return null;
+          }
+          nanos = notEmpty.awaitNanos(nanos);
+        }
+        return take(true);
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private Batch pollLast() {
+      lock.lock();
+      try {
+        return take(false);
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private Batch take(boolean first) {
+      if (size == 0) {
+        return null;
+      }
+      var entry = lanes.firstEntry();
+      var lane = entry.getValue();
+      var batch = first ? lane.pollFirst() : lane.pollLast();
+      if (lane.isEmpty()) {
+        lanes.remove(entry.getKey());
+      }
+      size--;
+      return batch;
+    }
+
+    private int size() {
+      lock.lock();
+      try {
+        return size;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private void clear() {
+      lock.lock();
+      try {
+        lanes.clear();
+        size = 0;
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+}
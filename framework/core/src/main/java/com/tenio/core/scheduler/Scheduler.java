@@ -28,9 +28,12 @@ import com.tenio.core.entity.define.mode.PlayerDisconnectMode;
 import com.tenio.core.entity.define.mode.RoomRemoveMode;
 import com.tenio.core.entity.manager.PlayerManager;
 import com.tenio.core.entity.manager.RoomManager;
+import com.tenio.core.monitoring.latency.LatencyTracker;
+import com.tenio.core.monitoring.metric.MetricRegistry;
 import com.tenio.core.network.entity.session.manager.SessionManager;
 import com.tenio.core.network.statistic.NetworkReaderStatistic;
 import com.tenio.core.network.statistic.NetworkWriterStatistic;
+import com.tenio.core.processor.ProcessorStatistic;
 import com.tenio.core.service.Service;
 
 /**
@@ -124,4 +127,30 @@ public interface Scheduler extends Service {
    * @param networkWriterStatistic an instance of {@link NetworkWriterStatistic}
    */
   void setNetworkWriterStatistic(NetworkWriterStatistic networkWriterStatistic);
+
+  /**
+   * Sets an object for recording all activities regarding processing requests.
+   *
+   * @param processorStatistic an instance of {@link ProcessorStatistic}
+   * @since 0.7.4
+   */
+  void setProcessorStatistic(ProcessorStatistic processorStatistic);
+
+  /**
+   * Sets the tracker recording the latencies of the messages, they are reported together with
+   * the system information while the tracking is on.
+   *
+   * @param latencyTracker an instance of {@link LatencyTracker}
+   * @since 0.7.4
+   */
+  void setLatencyTracker(LatencyTracker latencyTracker);
+
+  /**
+   * Lets the tasks publish the numbers they report into a metric registry. It must be called once
+   * the player manager, the statistics and the latency tracker are set.
+   *
+   * @param metricRegistry an instance of {@link MetricRegistry}
+   * @since 0.7.4
+   */
+  void setMetricRegistry(MetricRegistry metricRegistry);
 }
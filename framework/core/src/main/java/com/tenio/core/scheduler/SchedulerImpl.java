@@ -30,9 +30,12 @@ import com.tenio.core.entity.manager.PlayerManager;
 import com.tenio.core.entity.manager.RoomManager;
 import com.tenio.core.event.implement.EventManager;
 import com.tenio.core.manager.AbstractManager;
+import com.tenio.core.monitoring.latency.LatencyTracker;
+import com.tenio.core.monitoring.metric.MetricRegistry;
 import com.tenio.core.network.entity.session.manager.SessionManager;
 import com.tenio.core.network.statistic.NetworkReaderStatistic;
 import com.tenio.core.network.statistic.NetworkWriterStatistic;
+import com.tenio.core.processor.ProcessorStatistic;
 import com.tenio.core.scheduler.task.core.AutoCleanOrphanSessionTask;
 import com.tenio.core.scheduler.task.core.AutoDisconnectPlayerTask;
 import com.tenio.core.scheduler.task.core.AutoRemoveRoomTask;
@@ -225,4 +228,21 @@ public final class SchedulerImpl extends AbstractManager implements Scheduler {
   public void setNetworkWriterStatistic(NetworkWriterStatistic networkWriterStatistic) {
     trafficCounterTask.setNetworkWriterStatistic(networkWriterStatistic);
   }
+
+  @Override
+  public void setProcessorStatistic(ProcessorStatistic processorStatistic) {
+    systemMonitoringTask.setProcessorStatistic(processorStatistic);
+  }
+
+  @Override
+  public void setLatencyTracker(LatencyTracker latencyTracker) {
+    systemMonitoringTask.setLatencyTracker(latencyTracker);
+  }
+
+  @Override
+  public void setMetricRegistry(MetricRegistry metricRegistry) {
+    ccuReportTask.setMetricRegistry(metricRegistry);
+    trafficCounterTask.setMetricRegistry(metricRegistry);
+    systemMonitoringTask.setMetricRegistry(metricRegistry);
+  }
 }
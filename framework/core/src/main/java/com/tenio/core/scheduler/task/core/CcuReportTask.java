@@ -29,6 +29,7 @@ import com.tenio.core.configuration.CoreConfiguration;
 import com.tenio.core.configuration.define.ServerEvent;
 import com.tenio.core.entity.manager.PlayerManager;
 import com.tenio.core.event.implement.EventManager;
+import com.tenio.core.monitoring.metric.MetricRegistry;
 import com.tenio.core.scheduler.task.AbstractSystemTask;
 
 import java.util.concurrent.Executors;
@@ -78,6 +79,17 @@ public final class CcuReportTask extends AbstractSystemTask {
     this.playerManager = playerManager;
   }
 
+  /**
+   * Publishes the number of players into a metric registry, the player manager must be set first.
+   *
+   * @param metricRegistry the {@link MetricRegistry}
+   * @since 0.7.4
+   */
+  public void setMetricRegistry(MetricRegistry metricRegistry) {
+    metricRegistry.gauge("tenio_players", "The number of players currently in the server",
+        playerManager::getSnapshotPlayerCount);
+  }
+
   @Override
   public ScheduledFuture<?> getScheduler() {
     return scheduler;
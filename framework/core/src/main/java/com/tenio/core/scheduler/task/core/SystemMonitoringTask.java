@@ -28,7 +28,10 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.tenio.core.configuration.CoreConfiguration;
 import com.tenio.core.configuration.define.ServerEvent;
 import com.tenio.core.event.implement.EventManager;
+import com.tenio.core.monitoring.latency.LatencyTracker;
+import com.tenio.core.monitoring.metric.MetricRegistry;
 import com.tenio.core.monitoring.system.SystemMonitoring;
+import com.tenio.core.processor.ProcessorStatistic;
 import com.tenio.core.scheduler.task.AbstractSystemTask;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -44,6 +47,8 @@ public final class SystemMonitoringTask extends AbstractSystemTask {
   private final SystemMonitoring systemMonitoring;
   private ScheduledExecutorService scheduledService;
   private ScheduledFuture<?> scheduler;
+  private ProcessorStatistic processorStatistic;
+  private LatencyTracker latencyTracker;
 
   private SystemMonitoringTask(EventManager eventManager) {
     super(eventManager);
@@ -66,13 +71,62 @@ public final class SystemMonitoringTask extends AbstractSystemTask {
     var threadFactoryTask = new ThreadFactoryBuilder().setNameFormat("task-system-monitoring").build();
     scheduledService = Executors.newSingleThreadScheduledExecutor(threadFactoryTask);
     scheduler = scheduledService.scheduleAtFixedRate(
-        () -> eventManager.emit(ServerEvent.SYSTEM_MONITORING, systemMonitoring.getCpuUsage(),
-                systemMonitoring.getTotalMemory(), systemMonitoring.getUsedMemory(),
-                systemMonitoring.getFreeMemory(),
-                systemMonitoring.countRunningPlatformThreads()),
+        () -> {
+          eventManager.emit(ServerEvent.SYSTEM_MONITORING, systemMonitoring.getCpuUsage(),
+              systemMonitoring.getTotalMemory(), systemMonitoring.getUsedMemory(),
+              systemMonitoring.getFreeMemory(),
+              systemMonitoring.countRunningPlatformThreads());
+          if (processorStatistic != null) {
+            eventManager.emit(ServerEvent.PROCESSOR_MONITORING,
+                processorStatistic.getPendingRequests(),
+                processorStatistic.getProcessedRequests(),
+                processorStatistic.getStolenBatches(),
+                processorStatistic.getShedRequests());
+          }
+          if (latencyTracker != null && latencyTracker.isEnabled()) {
+            eventManager.emit(ServerEvent.LATENCY_MONITORING, latencyTracker);
+          }
+        },
         initialDelay, interval, TimeUnit.SECONDS);
   }
 
+  /**
+   * Sets an object for recording all activities regarding processing requests.
+   *
+   * @param processorStatistic an instance of {@link ProcessorStatistic}
+   * @since 0.7.4
+   */
+  public void setProcessorStatistic(ProcessorStatistic processorStatistic) {
+    this.processorStatistic = processorStatistic;
+  }
+
+  /**
+   * Sets the tracker recording the latencies of the messages.
+   *
+   * @param latencyTracker an instance of {@link LatencyTracker}
+   * @since 0.7.4
+   */
+  public void setLatencyTracker(LatencyTracker latencyTracker) {
+    this.latencyTracker = latencyTracker;
+  }
+
+  /**
+   * Publishes the system's gauges and, when they are set first, the processor's counters and the
+   * latency histograms into a metric registry.
+   *
+   * @param metricRegistry the {@link MetricRegistry}
+   * @since 0.7.4
+   */
+  public void setMetricRegistry(MetricRegistry metricRegistry) {
+    systemMonitoring.registerMetrics(metricRegistry);
+    if (processorStatistic != null) {
+      processorStatistic.registerMetrics(metricRegistry);
+    }
+    if (latencyTracker != null) {
+      latencyTracker.registerMetrics(metricRegistry);
+    }
+  }
+
   @Override
   public ScheduledFuture<?> getScheduler() {
     return scheduler;
@@ -27,6 +27,7 @@ package com.tenio.core.scheduler.task.core;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.tenio.core.configuration.define.ServerEvent;
 import com.tenio.core.event.implement.EventManager;
+import com.tenio.core.monitoring.metric.MetricRegistry;
 import com.tenio.core.network.statistic.NetworkReaderStatistic;
 import com.tenio.core.network.statistic.NetworkWriterStatistic;
 import com.tenio.core.scheduler.task.AbstractSystemTask;
@@ -113,4 +114,16 @@ public final class TrafficCounterTask extends AbstractSystemTask {
   public void setNetworkWriterStatistic(NetworkWriterStatistic networkWriterStatistic) {
     this.networkWriterStatistic = networkWriterStatistic;
   }
+
+  /**
+   * Publishes the network counters into a metric registry, the network statistics must be set
+   * first.
+   *
+   * @param metricRegistry the {@link MetricRegistry}
+   * @since 0.7.4
+   */
+  public void setMetricRegistry(MetricRegistry metricRegistry) {
+    networkReaderStatistic.registerMetrics(metricRegistry);
+    networkWriterStatistic.registerMetrics(metricRegistry);
+  }
 }
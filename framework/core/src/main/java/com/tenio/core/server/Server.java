@@ -33,6 +33,8 @@ import com.tenio.core.entity.manager.ChannelManager;
 import com.tenio.core.entity.manager.PlayerManager;
 import com.tenio.core.entity.manager.RoomManager;
 import com.tenio.core.event.implement.EventManager;
+import com.tenio.core.monitoring.latency.LatencyTracker;
+import com.tenio.core.monitoring.metric.MetricRegistry;
 import com.tenio.core.network.entity.outbound.Response;
 import com.tenio.core.network.zero.engine.manager.DatagramChannelManager;
 import io.netty.bootstrap.Bootstrap;
@@ -119,6 +121,25 @@ public interface Server {
    */
   Configuration getConfiguration();
 
+  /**
+   * Retrieves the registry that the server's components publish their metrics into, the
+   * application can register its own metrics there as well. They are exposed on the
+   * {@code metrics} endpoint of the HTTP server.
+   *
+   * @return the {@link MetricRegistry} of server
+   * @since 0.7.4
+   */
+  MetricRegistry getMetricRegistry();
+
+  /**
+   * Retrieves the tracker recording the latencies of the stages messages go through and of the
+   * client commands' handlers. The tracking can be switched on and off at runtime.
+   *
+   * @return the {@link LatencyTracker} of server
+   * @since 0.7.4
+   */
+  LatencyTracker getLatencyTracker();
+
   /**
    * Retrieves the time when server starts in milliseconds.
    *
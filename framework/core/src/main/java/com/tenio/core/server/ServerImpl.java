@@ -43,6 +43,8 @@ import com.tenio.core.entity.manager.implement.ChannelManagerImpl;
 import com.tenio.core.entity.manager.implement.PlayerManagerImpl;
 import com.tenio.core.entity.manager.implement.RoomManagerImpl;
 import com.tenio.core.event.implement.EventManager;
+import com.tenio.core.monitoring.latency.LatencyTracker;
+import com.tenio.core.monitoring.metric.MetricRegistry;
 import com.tenio.core.network.Network;
 import com.tenio.core.network.NetworkImpl;
 import com.tenio.core.network.codec.compression.BinaryPacketCompressor;
@@ -51,16 +53,25 @@ import com.tenio.core.network.codec.decoder.BinaryPacketDecoderImpl;
 import com.tenio.core.network.codec.encoder.BinaryPacketEncoder;
 import com.tenio.core.network.codec.encoder.BinaryPacketEncoderImpl;
 import com.tenio.core.network.codec.encryption.BinaryPacketEncryptor;
+import com.tenio.core.network.configuration.DatagramBundleConfiguration;
+import com.tenio.core.network.configuration.PerMessageDeflateConfiguration;
+import com.tenio.core.network.configuration.WebSocketWriteBufferConfiguration;
+import com.tenio.core.network.configuration.ReliableDatagramConfiguration;
 import com.tenio.core.network.configuration.SocketConfiguration;
+import com.tenio.core.network.define.SocketReaderAssignment;
 import com.tenio.core.network.entity.outbound.packet.policy.DefaultOutboundQueuePolicy;
 import com.tenio.core.network.entity.outbound.packet.policy.OutboundQueuePolicy;
 import com.tenio.core.network.entity.outbound.Response;
+import com.tenio.core.network.entity.inbound.policy.DefaultRequestSheddingPolicy;
 import com.tenio.core.network.entity.inbound.policy.RequestPolicy;
+import com.tenio.core.network.entity.inbound.policy.RequestSheddingPolicy;
+import com.tenio.core.network.jetty.servlet.MetricsServlet;
 import com.tenio.core.network.security.filter.ConnectionFilter;
 import com.tenio.core.network.security.filter.DefaultConnectionFilter;
 import com.tenio.core.network.zero.engine.manager.DatagramChannelManager;
 import com.tenio.core.network.zero.engine.reader.policy.DatagramPacketPolicy;
 import com.tenio.core.network.zero.engine.reader.policy.DefaultDatagramPacketPolicy;
+import com.tenio.core.processor.RequestAdmissionController;
 import com.tenio.core.scheduler.Scheduler;
 import com.tenio.core.scheduler.SchedulerImpl;
 import com.tenio.core.server.core.ZeroProcessor;
@@ -68,6 +79,7 @@ import com.tenio.core.server.core.ZeroProcessorImpl;
 import com.tenio.core.server.setting.ConfigurationAssessment;
 import com.tenio.core.utility.CommandUtility;
 import java.io.IOError;
+import java.util.HashMap;
 import org.jline.reader.EndOfFileException;
 import org.jline.reader.LineReaderBuilder;
 import org.jline.reader.UserInterruptException;
@@ -91,6 +103,7 @@ public final class ServerImpl extends SystemLogger implements Server {
   private final Scheduler scheduler;
   private final Network network;
   private final ServerApi serverApi;
+  private final MetricRegistry metricRegistry;
   private ClientCommandManager clientCommandManager;
   private Configuration configuration;
   private long startedTime;
@@ -106,6 +119,7 @@ public final class ServerImpl extends SystemLogger implements Server {
     serverApi = ServerApiImpl.newInstance(this);
     zeroProcessor = ZeroProcessorImpl.newInstance(eventManager, serverApi, datagramChannelManager);
     scheduler = SchedulerImpl.newInstance(eventManager);
+    metricRegistry = MetricRegistry.newInstance();
   } // prevent creation manually
 
   /**
@@ -214,6 +228,9 @@ public final class ServerImpl extends SystemLogger implements Server {
 
   private void setupClientCommands(ClientCommandManager clientCommandManager) {
     this.clientCommandManager = clientCommandManager;
+    if (clientCommandManager != null) {
+      clientCommandManager.setLatencyTracker(network.getLatencyTracker());
+    }
   }
 
   private void setupEntitiesManagementService(Configuration configuration) {
@@ -247,6 +264,9 @@ public final class ServerImpl extends SystemLogger implements Server {
     scheduler.setRoomManager(roomManager);
     scheduler.setNetworkReaderStatistic(network.getNetworkReaderStatistic());
     scheduler.setNetworkWriterStatistic(network.getNetworkWriterStatistic());
+    scheduler.setProcessorStatistic(zeroProcessor.getProcessorStatistic());
+    scheduler.setLatencyTracker(network.getLatencyTracker());
+    scheduler.setMetricRegistry(metricRegistry);
   }
 
   private void setupNetworkService(Configuration configuration, BootstrapHandler bootstrapHandler)
@@ -262,6 +282,14 @@ public final class ServerImpl extends SystemLogger implements Server {
 
     var servletMap = bootstrapHandler.getServletMap();
     var httpConfiguration = configuration.get(CoreConfigurationType.NETWORK_HTTP);
+    var httpMetrics = CoreConfigurationType.NETWORK_PROP_HTTP_METRICS;
+    if (httpConfiguration != null &&
+        (!configuration.isDefined(httpMetrics) || configuration.getBoolean(httpMetrics))) {
+      // an endpoint declared by the application under the same path takes precedence
+      servletMap = servletMap != null ? new HashMap<>(servletMap) : new HashMap<>();
+      servletMap.putIfAbsent(CoreConstant.METRICS_ENDPOINT,
+          MetricsServlet.newInstance(metricRegistry));
+    }
     network.setHttpConfiguration(
         CoreConstant.DEFAULT_NUMBER_HTTP_WORKERS,
         httpConfiguration != null ? ((SocketConfiguration) httpConfiguration).port() : 0,
@@ -291,6 +319,28 @@ public final class ServerImpl extends SystemLogger implements Server {
         configuration.getInt(CoreConfigurationType.NETWORK_PROP_SOCKET_READER_BUFFER_SIZE));
     network.setSocketReaderWorkers(
         configuration.getInt(CoreConfigurationType.WORKER_SOCKET_READER));
+    network.setSocketEventLoopEnabled(
+        configuration.getBoolean(CoreConfigurationType.NETWORK_PROP_SOCKET_EVENT_LOOP));
+    if (configuration.isDefined(CoreConfigurationType.NETWORK_PROP_SOCKET_READER_ASSIGNMENT)) {
+      var socketReaderAssignment = SocketReaderAssignment.getByValue(
+          configuration.getString(CoreConfigurationType.NETWORK_PROP_SOCKET_READER_ASSIGNMENT));
+      if (socketReaderAssignment == null) {
+        throw new IllegalArgumentException("Unsupported socket reader assignment: " +
+            configuration.getString(CoreConfigurationType.NETWORK_PROP_SOCKET_READER_ASSIGNMENT));
+      }
+      network.setSocketReaderAssignment(socketReaderAssignment);
+    }
+    if (configuration.getBoolean(CoreConfigurationType.NETWORK_PROP_DATAGRAM_RELIABLE)) {
+      network.setDatagramReliableConfiguration(ReliableDatagramConfiguration.getDefault());
+    }
+    if (configuration.isDefined(CoreConfigurationType.NETWORK_PROP_DATAGRAM_BUNDLE_MTU)) {
+      int maximumTransmissionUnit =
+          configuration.getInt(CoreConfigurationType.NETWORK_PROP_DATAGRAM_BUNDLE_MTU);
+      if (maximumTransmissionUnit > 0) {
+        network.setDatagramBundleConfiguration(
+            new DatagramBundleConfiguration(maximumTransmissionUnit));
+      }
+    }
 
     network.setSocketWriterBufferSize(
         configuration.getInt(CoreConfigurationType.NETWORK_PROP_SOCKET_WRITER_BUFFER_SIZE));
@@ -311,6 +361,16 @@ public final class ServerImpl extends SystemLogger implements Server {
     network
         .setWebSocketUsingSsl(
             configuration.getBoolean(CoreConfigurationType.NETWORK_PROP_WEBSOCKET_USING_SSL));
+    var lowWaterMark = CoreConfigurationType.NETWORK_PROP_WEBSOCKET_WRITE_BUFFER_LOW_WATER_MARK;
+    var highWaterMark = CoreConfigurationType.NETWORK_PROP_WEBSOCKET_WRITE_BUFFER_HIGH_WATER_MARK;
+    if (configuration.isDefined(lowWaterMark) && configuration.isDefined(highWaterMark)) {
+      network.setWebSocketWriteBufferConfiguration(new WebSocketWriteBufferConfiguration(
+          configuration.getInt(lowWaterMark), configuration.getInt(highWaterMark)));
+    }
+    var perMessageDeflate = CoreConfigurationType.NETWORK_PROP_WEBSOCKET_PERMESSAGE_DEFLATE;
+    if (configuration.isDefined(perMessageDeflate) && configuration.getBoolean(perMessageDeflate)) {
+      network.setWebSocketPerMessageDeflateConfiguration(createPerMessageDeflateConfiguration(configuration));
+    }
 
     OutboundQueuePolicy outboundQueuePolicy = bootstrapHandler.getBeanByClazz(OutboundQueuePolicy.class);
     if (outboundQueuePolicy == null) {
@@ -336,6 +396,11 @@ public final class ServerImpl extends SystemLogger implements Server {
     network.setSessionMaxIdleTimeInSeconds(
         configuration.getInt(CoreConfigurationType.PROP_MAX_PLAYER_IDLE_TIME));
 
+    // the latency tracking is off by default, it can be switched on later at runtime as well
+    network.getLatencyTracker().setEnabled(
+        configuration.isDefined(CoreConfigurationType.PROP_LATENCY_TRACKING) &&
+            configuration.getBoolean(CoreConfigurationType.PROP_LATENCY_TRACKING));
+
     BinaryPacketCompressor binaryPacketCompressor =
         bootstrapHandler.getBeanByClazz(BinaryPacketCompressor.class);
     BinaryPacketEncryptor binaryPacketEncryptor =
@@ -356,6 +421,26 @@ public final class ServerImpl extends SystemLogger implements Server {
     network.setPacketEncoder(binaryPacketEncoder);
   }
 
+  private PerMessageDeflateConfiguration createPerMessageDeflateConfiguration(
+      Configuration configuration) {
+    // every setting is optional, the missing ones take their default values
+    var level = CoreConfigurationType.NETWORK_PROP_WEBSOCKET_PERMESSAGE_DEFLATE_LEVEL;
+    var clientWindowBits =
+        CoreConfigurationType.NETWORK_PROP_WEBSOCKET_PERMESSAGE_DEFLATE_CLIENT_WINDOW_BITS;
+    var clientContextTakeover =
+        CoreConfigurationType.NETWORK_PROP_WEBSOCKET_PERMESSAGE_DEFLATE_CLIENT_CONTEXT_TAKEOVER;
+    var minimumSize = CoreConfigurationType.NETWORK_PROP_WEBSOCKET_PERMESSAGE_DEFLATE_MIN_SIZE;
+    return new PerMessageDeflateConfiguration(
+        configuration.isDefined(level) ? configuration.getInt(level) :
+            PerMessageDeflateConfiguration.DEFAULT_COMPRESSION_LEVEL,
+        configuration.isDefined(clientWindowBits) ? configuration.getInt(clientWindowBits) :
+            PerMessageDeflateConfiguration.DEFAULT_CLIENT_WINDOW_BITS,
+        !configuration.isDefined(clientContextTakeover) ||
+            configuration.getBoolean(clientContextTakeover),
+        configuration.isDefined(minimumSize) ? configuration.getInt(minimumSize) :
+            PerMessageDeflateConfiguration.DEFAULT_MINIMUM_SIZE_IN_BYTES);
+  }
+
   private void setupInternalProcessorService(Configuration configuration,
                                              BootstrapHandler bootstrapHandler) {
     RequestPolicy requestPolicy = bootstrapHandler.getBeanByClazz(RequestPolicy.class);
@@ -365,9 +450,30 @@ public final class ServerImpl extends SystemLogger implements Server {
     zeroProcessor.setSessionManager(network.getSessionManager());
     zeroProcessor.setPlayerManager(playerManager);
     zeroProcessor.setThreadPoolSize(configuration.getInt(CoreConfigurationType.WORKER_PROCESSOR));
+    zeroProcessor.setSessionAffinity(
+        configuration.getBoolean(CoreConfigurationType.PROP_PROCESSOR_SESSION_AFFINITY));
     zeroProcessor.setKeepPlayerOnDisconnection(
         configuration.getBoolean(CoreConfigurationType.PROP_KEEP_PLAYER_ON_DISCONNECTION));
 
+    // the load shedding is disabled by default, and when it is not defined in configuration
+    if (configuration.isDefined(CoreConfigurationType.PROP_PROCESSOR_SHEDDING_TARGET_SOJOURN_TIME)
+        && configuration.getInt(CoreConfigurationType.PROP_PROCESSOR_SHEDDING_TARGET_SOJOURN_TIME) > 0) {
+      RequestSheddingPolicy requestSheddingPolicy =
+          bootstrapHandler.getBeanByClazz(RequestSheddingPolicy.class);
+      if (requestSheddingPolicy == null) {
+        requestSheddingPolicy = new DefaultRequestSheddingPolicy(
+            configuration.isDefined(CoreConfigurationType.PROP_PROCESSOR_SHEDDING_MIN_PRIORITY) ?
+                configuration.getInt(CoreConfigurationType.PROP_PROCESSOR_SHEDDING_MIN_PRIORITY) :
+                DefaultRequestSheddingPolicy.NOTHING_SHEDDABLE);
+      }
+      zeroProcessor.setRequestAdmissionController(RequestAdmissionController.newInstance(
+          configuration.getInt(CoreConfigurationType.PROP_PROCESSOR_SHEDDING_TARGET_SOJOURN_TIME),
+          configuration.isDefined(CoreConfigurationType.PROP_PROCESSOR_SHEDDING_INTERVAL) ?
+              configuration.getInt(CoreConfigurationType.PROP_PROCESSOR_SHEDDING_INTERVAL) :
+              RequestAdmissionController.DEFAULT_INTERVAL_IN_MILLISECONDS,
+          requestSheddingPolicy));
+    }
+
     zeroProcessor.setNetworkReaderStatistic(network.getNetworkReaderStatistic());
     zeroProcessor.setNetworkWriterStatistic(network.getNetworkWriterStatistic());
   }
@@ -477,6 +583,16 @@ public final class ServerImpl extends SystemLogger implements Server {
     return configuration;
   }
 
+  @Override
+  public MetricRegistry getMetricRegistry() {
+    return metricRegistry;
+  }
+
+  @Override
+  public LatencyTracker getLatencyTracker() {
+    return network.getLatencyTracker();
+  }
+
   @Override
   public long getStartedTime() {
     return startedTime;
@@ -168,6 +168,50 @@ public final class ZeroProcessorImpl extends AbstractProcessor implements ZeroPr
     }
   }
 
+  @Override
+  protected void refuseRequest(Request request) {
+    switch (request.getEvent()) {
+      case SESSION_REQUEST_CONNECTION -> refuseSessionRequestsConnection(request);
+      case DATAGRAM_CHANNEL_REQUEST_ACCESS -> refuseDatagramChannelRequestsAccess(request);
+      default -> {
+        // do nothing
+      }
+    }
+  }
+
+  private void refuseSessionRequestsConnection(Request request) {
+    var session = (Session) request.getSender();
+    if (!session.isActivated()) {
+      return;
+    }
+    eventManager.emit(ServerEvent.CONNECTION_ESTABLISHED_RESULT, session, request.getMessage(),
+        ConnectionEstablishedResult.SERVER_OVERLOADED);
+    try {
+      session.close(ConnectionDisconnectMode.REFUSED_CONNECTION, PlayerDisconnectMode.CONNECTION_LOST);
+    } catch (IOException exception) {
+      if (isErrorEnabled()) {
+        error(exception, "Session closed with error: ", session.toString());
+      }
+    }
+  }
+
+  private void refuseDatagramChannelRequestsAccess(Request request) {
+    // the requesting player is resolved as it would be for the access, so that the refusal can
+    // be sent to its session
+    if (!(validateDatagramChannelRequestsAccess(request) instanceof Optional<?> optionalPlayer)) {
+      return;
+    }
+
+    if (optionalPlayer.isEmpty()) {
+      eventManager.emit(ServerEvent.ACCESS_DATAGRAM_CHANNEL_REQUEST_VALIDATION_RESULT,
+          null, Session.EMPTY_DATAGRAM_CONVEY_ID, AccessDatagramChannelResult.PLAYER_NOT_FOUND);
+    } else {
+      eventManager.emit(ServerEvent.ACCESS_DATAGRAM_CHANNEL_REQUEST_VALIDATION_RESULT,
+          optionalPlayer.get(), Session.EMPTY_DATAGRAM_CONVEY_ID,
+          AccessDatagramChannelResult.SERVER_OVERLOADED);
+    }
+  }
+
   private void processSessionRequestsConnection(Request request) {
     // Check if it's a reconnection request first
     var session = (Session) request.getSender();
@@ -311,20 +355,22 @@ public final class ZeroProcessorImpl extends AbstractProcessor implements ZeroPr
     }
   }
 
-  private void processDatagramChannelRequestsAccess(Request request) {
-    var message = request.getMessage();
-
-    // verify the datagram channel accessing request
+  private Object validateDatagramChannelRequestsAccess(Request request) {
     Object checkingPlayer = null;
     try {
-      checkingPlayer = eventManager.emit(ServerEvent.ACCESS_DATAGRAM_CHANNEL_REQUEST_VALIDATION, message);
+      checkingPlayer = eventManager.emit(ServerEvent.ACCESS_DATAGRAM_CHANNEL_REQUEST_VALIDATION,
+          request.getMessage());
     } catch (Exception exception) {
       if (isErrorEnabled()) {
         error(exception, request);
       }
     }
+    return checkingPlayer;
+  }
 
-    if (!(checkingPlayer instanceof Optional<?> optionalPlayer)) {
+  private void processDatagramChannelRequestsAccess(Request request) {
+    // verify the datagram channel accessing request
+    if (!(validateDatagramChannelRequestsAccess(request) instanceof Optional<?> optionalPlayer)) {
       return;
     }
 
@@ -35,6 +35,7 @@ import static org.mockito.Mockito.verify;
 import com.tenio.common.data.DataCollection;
 import com.tenio.core.entity.Player;
 import com.tenio.core.exception.AddedDuplicatedClientCommandException;
+import com.tenio.core.monitoring.latency.LatencyTracker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -112,6 +113,21 @@ class ClientCommandManagerTest {
     verify(handler).execute(player, message);
   }
 
+  @Test
+  @DisplayName("invoke records the handler's latency while the tracking is on")
+  void testInvokeRecordsCommandLatency() {
+    var latencyTracker = LatencyTracker.newInstance();
+    manager.setLatencyTracker(latencyTracker);
+    manager.registerCommand((short) 5, stubHandler());
+
+    manager.invoke((short) 5, mock(Player.class), mock(DataCollection.class));
+    assertNull(latencyTracker.getCommandHistogram((short) 5));
+
+    latencyTracker.setEnabled(true);
+    manager.invoke((short) 5, mock(Player.class), mock(DataCollection.class));
+    assertEquals(1L, latencyTracker.getCommandHistogram((short) 5).getCount());
+  }
+
   @Test
   @DisplayName("invoke with unknown code does nothing")
   void testInvokeUnknownCodeDoesNothing() {
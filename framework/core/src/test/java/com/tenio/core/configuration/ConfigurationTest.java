@@ -31,6 +31,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import com.tenio.core.configuration.define.CoreConfigurationType;
 import com.tenio.core.network.define.TransportType;
 import com.tenio.core.network.configuration.SocketConfiguration;
+import com.tenio.core.network.configuration.SocketTuning;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -64,4 +65,16 @@ class ConfigurationTest {
         () -> assertEquals(TransportType.WEB_SOCKET, webSocket.type())
     );
   }
+
+  @Test
+  public void getConfigurationSocketTuningShouldReturnTrueValue() {
+    var tcp = (SocketConfiguration) configuration.get(CoreConfigurationType.NETWORK_TCP);
+    var udp = (SocketConfiguration) configuration.get(CoreConfigurationType.NETWORK_UDP);
+    assertAll("getSocketTuningConfiguration",
+        () -> assertTrue(tcp.tuning().tcpNoDelay()),
+        () -> assertEquals(1024, tcp.tuning().backlog()),
+        () -> assertEquals(SocketTuning.UNSET, tcp.tuning().lingerInSeconds()),
+        () -> assertEquals(SocketTuning.getDefault(TransportType.UDP), udp.tuning())
+    );
+  }
 }
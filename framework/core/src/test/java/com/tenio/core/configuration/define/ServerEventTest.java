@@ -52,12 +52,14 @@ class ServerEventTest {
     assertNotNull(ServerEvent.valueOf("FETCHED_CCU_INFO"));
     assertNotNull(ServerEvent.valueOf("FETCHED_BANDWIDTH_INFO"));
     assertNotNull(ServerEvent.valueOf("SYSTEM_MONITORING"));
+    assertNotNull(ServerEvent.valueOf("PROCESSOR_MONITORING"));
+    assertNotNull(ServerEvent.valueOf("LATENCY_MONITORING"));
   }
 
   @Test
-  @DisplayName("Total number of ServerEvent values is 33")
+  @DisplayName("Total number of ServerEvent values is 35")
   void testTotalCount() {
-    assertEquals(33, ServerEvent.values().length);
+    assertEquals(35, ServerEvent.values().length);
   }
 
   @Test
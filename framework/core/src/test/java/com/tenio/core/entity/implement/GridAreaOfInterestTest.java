@@ -0,0 +1,221 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.entity.implement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tenio.core.entity.AreaOfInterest;
+import com.tenio.core.entity.AreaOfInterestListener;
+import com.tenio.core.entity.Player;
+import com.tenio.core.exception.AddedDuplicatedPlayerException;
+import com.tenio.core.exception.RemovedNonExistentPlayerException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GridAreaOfInterestTest {
+
+  private AreaOfInterest areaOfInterest;
+  private List<String> events;
+
+  @BeforeEach
+  void setUp() {
+    areaOfInterest = GridAreaOfInterest.newInstance(1000.0f, 1000.0f, 50.0f);
+    events = new ArrayList<>();
+    areaOfInterest.setListener(new AreaOfInterestListener() {
+      @Override
+      public void onEnter(Player observer, Player subject) {
+        events.add(observer.getIdentity() + "+" + subject.getIdentity());
+      }
+
+      @Override
+      public void onLeave(Player observer, Player subject) {
+        events.add(observer.getIdentity() + "-" + subject.getIdentity());
+      }
+    });
+  }
+
+  @Test
+  void testInvalidSizeIsRejected() {
+    assertThrows(IllegalArgumentException.class,
+        () -> GridAreaOfInterest.newInstance(100.0f, 100.0f, 0.0f));
+  }
+
+  @Test
+  void testAddingPlayersNotifiesWhoSeesWhom() {
+    var alice = DefaultPlayer.newInstance("alice");
+    var bob = DefaultPlayer.newInstance("bob");
+    areaOfInterest.addPlayer(alice, 100.0f, 100.0f, 50.0f);
+    // bob is within alice's view, but alice is outside bob's smaller one
+    areaOfInterest.addPlayer(bob, 130.0f, 100.0f, 20.0f);
+
+    assertEquals(List.of("alice+bob"), events);
+    assertEquals(2, areaOfInterest.getPlayerCount());
+    assertThrows(AddedDuplicatedPlayerException.class,
+        () -> areaOfInterest.addPlayer(bob, 0.0f, 0.0f, 10.0f));
+  }
+
+  @Test
+  void testMovingPlayersNotifiesOnlyTheChanges() {
+    var alice = DefaultPlayer.newInstance("alice");
+    var bob = DefaultPlayer.newInstance("bob");
+    areaOfInterest.addPlayer(alice, 100.0f, 100.0f, 50.0f);
+    areaOfInterest.addPlayer(bob, 500.0f, 500.0f, 50.0f);
+    assertTrue(events.isEmpty());
+
+    areaOfInterest.updatePlayer(bob, 120.0f, 120.0f);
+    assertEquals(Set.of("alice+bob", "bob+alice"), new HashSet<>(events));
+
+    // moving inside each other's views changes nothing
+    events.clear();
+    areaOfInterest.updatePlayer(bob, 110.0f, 125.0f);
+    assertTrue(events.isEmpty());
+
+    areaOfInterest.updatePlayer(alice, 900.0f, 900.0f);
+    assertEquals(Set.of("alice-bob", "bob-alice"), new HashSet<>(events));
+  }
+
+  @Test
+  void testChangingViewRadiusNotifiesTheObserver() {
+    var alice = DefaultPlayer.newInstance("alice");
+    var bob = DefaultPlayer.newInstance("bob");
+    areaOfInterest.addPlayer(alice, 100.0f, 100.0f, 10.0f);
+    areaOfInterest.addPlayer(bob, 200.0f, 100.0f, 10.0f);
+
+    areaOfInterest.setViewRadius(alice, 150.0f);
+    assertEquals(List.of("alice+bob"), events);
+    areaOfInterest.setViewRadius(alice, 10.0f);
+    assertEquals(List.of("alice+bob", "alice-bob"), events);
+  }
+
+  @Test
+  void testListenerIsCalledWithoutTheLockAndCanCallBack() {
+    var alice = DefaultPlayer.newInstance("alice");
+    var bob = DefaultPlayer.newInstance("bob");
+    List<Boolean> locked = new ArrayList<>();
+    List<Player> visible = new ArrayList<>();
+    areaOfInterest.setListener(new AreaOfInterestListener() {
+      @Override
+      public void onEnter(Player observer, Player subject) {
+        locked.add(Thread.holdsLock(areaOfInterest));
+        events.add(observer.getIdentity() + "+" + subject.getIdentity());
+        areaOfInterest.getVisiblePlayers(observer, visible);
+        // a change made by the listener is notified after the current one
+        areaOfInterest.setViewRadius(observer, 0.0f);
+      }
+
+      @Override
+      public void onLeave(Player observer, Player subject) {
+        locked.add(Thread.holdsLock(areaOfInterest));
+        events.add(observer.getIdentity() + "-" + subject.getIdentity());
+      }
+    });
+    areaOfInterest.addPlayer(alice, 100.0f, 100.0f, 50.0f);
+    areaOfInterest.addPlayer(bob, 130.0f, 100.0f, 20.0f);
+
+    assertEquals(List.of("alice+bob", "alice-bob"), events);
+    assertEquals(List.of(false, false), locked);
+    assertEquals(List.of(bob), visible);
+    assertEquals(0, areaOfInterest.getVisiblePlayers(alice, new ArrayList<>()));
+  }
+
+  @Test
+  void testRemovingPlayerNotifiesTheLeavesAndKeepsTheOthers() {
+    var alice = DefaultPlayer.newInstance("alice");
+    var bob = DefaultPlayer.newInstance("bob");
+    var carol = DefaultPlayer.newInstance("carol");
+    areaOfInterest.addPlayer(alice, 100.0f, 100.0f, 50.0f);
+    areaOfInterest.addPlayer(bob, 110.0f, 100.0f, 50.0f);
+    areaOfInterest.addPlayer(carol, 120.0f, 100.0f, 50.0f);
+    events.clear();
+
+    areaOfInterest.removePlayer(alice);
+    assertEquals(Set.of("alice-bob", "alice-carol", "bob-alice", "carol-alice"),
+        new HashSet<>(events));
+    assertFalse(areaOfInterest.containsPlayer(alice));
+    assertThrows(RemovedNonExistentPlayerException.class,
+        () -> areaOfInterest.removePlayer(alice));
+
+    List<Player> observers = new ArrayList<>();
+    assertEquals(1, areaOfInterest.getObservers(carol, observers));
+    assertEquals(List.of(bob), observers);
+    List<Player> inRange = new ArrayList<>();
+    areaOfInterest.getPlayersInRange(100.0f, 100.0f, 30.0f, inRange);
+    assertEquals(Set.of(bob, carol), new HashSet<>(inRange));
+  }
+
+  @Test
+  void testObserversMatchTheViewersAfterRandomMoves() {
+    var random = new Random(5);
+    int count = 300;
+    List<Player> players = new ArrayList<>();
+    float[] positionsX = new float[count];
+    float[] positionsY = new float[count];
+    float[] viewRadii = new float[count];
+    for (int i = 0; i < count; i++) {
+      var player = DefaultPlayer.newInstance("player-" + i);
+      viewRadii[i] = 20.0f + random.nextFloat() * 80.0f;
+      areaOfInterest.addPlayer(player, 0.0f, 0.0f, viewRadii[i]);
+      players.add(player);
+    }
+    for (int step = 0; step < 3; step++) {
+      for (int i = 0; i < count; i++) {
+        positionsX[i] = random.nextFloat() * 1000.0f;
+        positionsY[i] = random.nextFloat() * 1000.0f;
+        areaOfInterest.updatePlayer(players.get(i), positionsX[i], positionsY[i]);
+      }
+    }
+
+    for (int subject = 0; subject < count; subject++) {
+      Set<Player> expected = new HashSet<>();
+      for (int observer = 0; observer < count; observer++) {
+        float dx = positionsX[observer] - positionsX[subject];
+        float dy = positionsY[observer] - positionsY[subject];
+        if (observer != subject && dx * dx + dy * dy <= viewRadii[observer] * viewRadii[observer]) {
+          expected.add(players.get(observer));
+        }
+      }
+      List<Player> observers = new ArrayList<>();
+      areaOfInterest.getObservers(players.get(subject), observers);
+      assertEquals(expected, new HashSet<>(observers));
+
+      // the viewers of the subject's position also include the subject itself
+      expected.add(players.get(subject));
+      List<Player> viewers = new ArrayList<>();
+      areaOfInterest.getViewers(positionsX[subject], positionsY[subject], viewers);
+      assertEquals(expected, new HashSet<>(viewers));
+    }
+
+    areaOfInterest.clear();
+    assertEquals(0, areaOfInterest.getPlayerCount());
+  }
+}
@@ -0,0 +1,111 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.monitoring.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.tenio.core.configuration.define.ServerEvent;
+import com.tenio.core.network.define.TransportType;
+import com.tenio.core.network.entity.inbound.Request;
+import com.tenio.core.network.entity.session.Session;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FlightRecorderProfileTest {
+
+  private static final List<Class<? extends jdk.jfr.Event>> EVENTS = List.of(
+      SessionOpenedEvent.class, SessionClosedEvent.class, PacketFramedEvent.class,
+      PacketEncodedEvent.class, OutboundPacketDroppedEvent.class, ProcessorQueueWaitEvent.class,
+      PlayerJoinedRoomEvent.class, PlayerLeftRoomEvent.class);
+
+  @Test
+  void testProfileEnablesAllEvents() throws Exception {
+    var settings = FlightRecorderProfile.getConfiguration().getSettings();
+    for (var event : EVENTS) {
+      var name = event.getAnnotation(Name.class);
+      assertNotNull(name, event.getName());
+      assertEquals("true", settings.get(name.value() + "#enabled"), name.value());
+    }
+    assertEquals("true", settings.get("com.tenio.engine.HeartbeatOverrun#enabled"));
+  }
+
+  @Test
+  void testNewRecordingKeepsTheJdkDefaultSettings() throws Exception {
+    try (var recording = FlightRecorderProfile.newRecording()) {
+      assertEquals("TenIO", recording.getName());
+      assertEquals("true", recording.getSettings().get("com.tenio.core.SessionOpened#enabled"));
+      assertEquals("true", recording.getSettings().get("jdk.GarbageCollection#enabled"));
+    }
+  }
+
+  @Test
+  void testEmittedEventsAreRecordedWithTheirFields(@TempDir Path directory) throws Exception {
+    var session = mock(Session.class);
+    when(session.getId()).thenReturn(42L);
+    when(session.getTransportType()).thenReturn(TransportType.TCP);
+    var request = mock(Request.class);
+    when(request.getEvent()).thenReturn(ServerEvent.SESSION_REQUEST_CONNECTION);
+    when(request.getPriority()).thenReturn(3);
+    when(request.getCreatedTimestamp()).thenReturn(1_000L);
+
+    var file = directory.resolve("tenio.jfr");
+    try (var recording = new Recording()) {
+      recording.enable(SessionOpenedEvent.class);
+      recording.enable(ProcessorQueueWaitEvent.class);
+      recording.start();
+      SessionOpenedEvent.emit(session);
+      ProcessorQueueWaitEvent.emit("processor", request, 1_250L);
+      recording.stop();
+      recording.dump(file);
+    }
+    List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+    var opened = find(events, "com.tenio.core.SessionOpened");
+    assertEquals(42L, opened.getLong("sessionId"));
+    assertEquals("TCP", opened.getString("transport"));
+
+    var waited = find(events, "com.tenio.core.ProcessorQueueWait");
+    assertEquals("processor", waited.getString("processor"));
+    assertEquals("SESSION_REQUEST_CONNECTION", waited.getString("requestEvent"));
+    assertEquals(3, waited.getInt("priority"));
+    assertEquals(250L, waited.getLong("waitTime"));
+  }
+
+  private RecordedEvent find(List<RecordedEvent> events, String name) {
+    var found = events.stream().filter(event -> event.getEventType().getName().equals(name))
+        .toList();
+    assertEquals(1, found.size(), name);
+    return found.get(0);
+  }
+}
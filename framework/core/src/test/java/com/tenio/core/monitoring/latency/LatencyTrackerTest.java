@@ -0,0 +1,120 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.monitoring.latency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tenio.core.monitoring.define.LatencyStage;
+import com.tenio.core.monitoring.metric.HistogramFamily;
+import com.tenio.core.monitoring.metric.MetricRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For LatencyTracker")
+class LatencyTrackerTest {
+
+  @Test
+  @DisplayName("Nothing is stamped nor recorded while the tracking is off")
+  void testDisabledTrackerRecordsNothing() {
+    var tracker = LatencyTracker.newInstance();
+
+    assertFalse(tracker.isEnabled());
+    assertEquals(0L, tracker.now());
+
+    tracker.record(LatencyStage.READ, System.nanoTime() - 1_000L);
+    tracker.recordCommand((short) 1, System.nanoTime() - 1_000L);
+
+    assertEquals(0L, tracker.getStageHistogram(LatencyStage.READ).getCount());
+    assertNull(tracker.getCommandHistogram((short) 1));
+  }
+
+  @Test
+  @DisplayName("The stages are recorded in their own histograms")
+  void testStagesAreRecorded() {
+    var tracker = LatencyTracker.newInstance();
+    tracker.setEnabled(true);
+
+    long startTime = tracker.now();
+    assertTrue(startTime != 0L);
+    tracker.record(LatencyStage.DECODE, startTime);
+    tracker.record(LatencyStage.FRAME, 100L, 1_100L);
+
+    assertEquals(1L, tracker.getStageHistogram(LatencyStage.DECODE).getCount());
+    assertEquals(1L, tracker.getStageHistogram(LatencyStage.FRAME).getCount());
+    assertEquals(1_000L, tracker.getStageHistogram(LatencyStage.FRAME).getSum());
+    assertEquals(0L, tracker.getStageHistogram(LatencyStage.WRITE).getCount());
+  }
+
+  @Test
+  @DisplayName("A timestamp taken while the tracking was off is ignored")
+  void testZeroTimestampIsIgnored() {
+    var tracker = LatencyTracker.newInstance();
+    tracker.setEnabled(true);
+
+    tracker.record(LatencyStage.HANDLER, 0L);
+    tracker.record(LatencyStage.HANDLER, 0L, 1_000L);
+    tracker.recordCommand((short) 1, 0L);
+
+    assertEquals(0L, tracker.getStageHistogram(LatencyStage.HANDLER).getCount());
+    assertNull(tracker.getCommandHistogram((short) 1));
+  }
+
+  @Test
+  @DisplayName("The commands' histograms are published as one family labelled by the code")
+  void testCommandHistogramsArePublished() {
+    var tracker = LatencyTracker.newInstance();
+    var registry = MetricRegistry.newInstance();
+    tracker.setEnabled(true);
+    tracker.recordCommand((short) 1, tracker.now());
+
+    tracker.registerMetrics(registry);
+    assertEquals(LatencyStage.values().length + 1, registry.size());
+    assertSame(tracker.getStageHistogram(LatencyStage.WRITE),
+        registry.getMetric("tenio_latency_write_seconds"));
+    var family = (HistogramFamily) registry.getMetric("tenio_latency_command_seconds");
+    assertEquals("command", family.getLabelName());
+    assertEquals(1, family.size());
+
+    tracker.recordCommand((short) -1, tracker.now());
+    tracker.recordCommand((short) -1, tracker.now());
+    assertEquals(2, family.size());
+    assertEquals(2L, tracker.getCommandHistogram((short) -1).getCount());
+    assertEquals(1L, tracker.getCommandHistogram((short) 1).getCount());
+
+    var codes = new ArrayList<Short>();
+    tracker.forEachCommandHistogram((code, histogram) -> codes.add(code));
+    assertEquals(List.of((short) 1, (short) -1), codes);
+
+    // it is safe to publish them again
+    tracker.registerMetrics(registry);
+    assertEquals(LatencyStage.values().length + 1, registry.size());
+  }
+}
@@ -0,0 +1,105 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.monitoring.metric;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For Histogram")
+class HistogramTest {
+
+  @Test
+  @DisplayName("Every value falls in the bucket bounded by its upper bound")
+  void testBucketIndexAndUpperBoundAgree() {
+    for (long value = 0; value < 100_000; value++) {
+      int index = Histogram.getBucketIndex(value);
+      assertTrue(value <= Histogram.getBucketUpperBound(index));
+      if (index > 0) {
+        assertTrue(value > Histogram.getBucketUpperBound(index - 1));
+      }
+    }
+    int lastIndex = Histogram.getBucketIndex(Long.MAX_VALUE);
+    assertEquals(Long.MAX_VALUE, Histogram.getBucketUpperBound(lastIndex));
+  }
+
+  @Test
+  @DisplayName("A bucket never spans more than an eighth of its values")
+  void testRelativeError() {
+    for (long value : new long[] {1_000L, 123_456L, 9_999_999L, 1_000_000_000L}) {
+      long upperBound = Histogram.getBucketUpperBound(Histogram.getBucketIndex(value));
+      assertTrue(upperBound - value <= value / Histogram.SUB_BUCKET_COUNT);
+    }
+  }
+
+  @Test
+  @DisplayName("The percentiles are read from the recorded distribution")
+  void testPercentiles() {
+    var histogram = Histogram.newLatencyInstance("test_latency_seconds", "test");
+    for (long value = 1; value <= 1000; value++) {
+      histogram.record(value * 1000L);
+    }
+
+    assertEquals(1000L, histogram.getCount());
+    assertEquals(500_500_000L, histogram.getSum());
+    assertEquals(1_000_000L, histogram.getMax());
+
+    long p50 = histogram.getValueAtPercentile(50.0);
+    assertTrue(p50 >= 500_000L && p50 <= 500_000L * 9 / 8, "p50=" + p50);
+    long p99 = histogram.getValueAtPercentile(99.0);
+    assertTrue(p99 >= 990_000L && p99 <= 1_000_000L, "p99=" + p99);
+    assertEquals(1_000_000L, histogram.getValueAtPercentile(100.0));
+  }
+
+  @Test
+  @DisplayName("Negative values are recorded as 0 and greater values land in the last bucket")
+  void testOutOfRangeValues() {
+    var histogram = Histogram.newInstance("test_values", "test", 1024L, 1.0);
+    histogram.record(-5L);
+    histogram.record(1L << 40);
+
+    assertEquals(2L, histogram.getCount());
+    assertEquals(1L, histogram.getBucketCount(0));
+    assertEquals(1L, histogram.getBucketCount(histogram.getNumberOfBuckets() - 1));
+  }
+
+  @Test
+  @DisplayName("An empty histogram reports 0")
+  void testEmpty() {
+    var histogram = Histogram.newLatencyInstance("test_latency_seconds", "test");
+    assertEquals(0L, histogram.getCount());
+    assertEquals(0L, histogram.getValueAtPercentile(99.0));
+  }
+
+  @Test
+  @DisplayName("A too small trackable range is refused")
+  void testInvalidRange() {
+    assertThrows(IllegalArgumentException.class,
+        () -> Histogram.newInstance("test_values", "test", 4L, 1.0));
+  }
+}
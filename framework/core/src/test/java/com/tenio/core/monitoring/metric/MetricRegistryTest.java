@@ -0,0 +1,121 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.monitoring.metric;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For MetricRegistry")
+class MetricRegistryTest {
+
+  @Test
+  @DisplayName("Metrics are walked in their registration order")
+  void testRegistrationOrder() {
+    var registry = MetricRegistry.newInstance();
+    registry.counter("a_total", "a");
+    registry.gauge("b", "b", () -> 1.0);
+    registry.latencyHistogram("c_seconds", "c");
+
+    List<String> names = new ArrayList<>();
+    registry.forEach(metric -> names.add(metric.getName()));
+
+    assertEquals(List.of("a_total", "b", "c_seconds"), names);
+    assertEquals(3, registry.size());
+  }
+
+  @Test
+  @DisplayName("Registering a taken name returns the same metric")
+  void testRegisteringTwiceReturnsTheSameMetric() {
+    var registry = MetricRegistry.newInstance();
+    var counter = registry.counter("requests_total", "requests");
+
+    assertSame(counter, registry.counter("requests_total", "requests"));
+    assertSame(counter, registry.getMetric("requests_total"));
+    assertEquals(1, registry.size());
+  }
+
+  @Test
+  @DisplayName("A name taken by another kind of metric is refused")
+  void testRegisteringAnotherKindIsRefused() {
+    var registry = MetricRegistry.newInstance();
+    registry.counter("requests_total", "requests");
+
+    assertThrows(IllegalArgumentException.class,
+        () -> registry.gauge("requests_total", "requests", () -> 0.0));
+  }
+
+  @Test
+  @DisplayName("An existing metric can be registered once under its own name")
+  void testRegisteringAnExistingMetric() {
+    var registry = MetricRegistry.newInstance();
+    var histogram = Histogram.newLatencyInstance("stage_seconds", "stage");
+
+    registry.register(histogram);
+    registry.register(histogram);
+    assertSame(histogram, registry.getMetric("stage_seconds"));
+    assertEquals(1, registry.size());
+
+    assertThrows(IllegalArgumentException.class,
+        () -> registry.register(Histogram.newLatencyInstance("stage_seconds", "stage")));
+    assertThrows(IllegalArgumentException.class,
+        () -> registry.register(Histogram.newLatencyInstance("stage-seconds", "stage")));
+  }
+
+  @Test
+  @DisplayName("Invalid names are refused")
+  void testInvalidNames() {
+    var registry = MetricRegistry.newInstance();
+
+    assertThrows(IllegalArgumentException.class, () -> registry.counter("1st", "invalid"));
+    assertThrows(IllegalArgumentException.class, () -> registry.counter("a-b", "invalid"));
+    assertThrows(IllegalArgumentException.class, () -> registry.counter(null, "invalid"));
+    assertNull(registry.getMetric("1st"));
+  }
+
+  @Test
+  @DisplayName("Counters either own their value or read it from a source")
+  void testCounters() {
+    var registry = MetricRegistry.newInstance();
+    var owned = registry.counter("owned_total", "owned");
+    owned.increment();
+    owned.add(2L);
+    assertEquals(3L, owned.get());
+
+    var source = new AtomicLong(7L);
+    var supplied = registry.counter("supplied_total", "supplied", source::get);
+    assertEquals(7L, supplied.get());
+    source.set(8L);
+    assertEquals(8L, supplied.get());
+    assertThrows(UnsupportedOperationException.class, supplied::increment);
+  }
+}
@@ -0,0 +1,117 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.monitoring.metric;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For MetricTextFormat")
+class MetricTextFormatTest {
+
+  @Test
+  @DisplayName("Counters and gauges are written with their help and type")
+  void testCounterAndGauge() {
+    var registry = MetricRegistry.newInstance();
+    registry.counter("tenio_test_total", "A test\\counter").add(42L);
+    registry.gauge("tenio_test_ratio", "A test gauge", () -> 0.5);
+    registry.gauge("tenio_test_players", "Another test gauge", () -> 3.0);
+
+    var builder = new StringBuilder();
+    MetricTextFormat.write(registry, builder);
+
+    assertEquals("""
+        # HELP tenio_test_total A test\\\\counter
+        # TYPE tenio_test_total counter
+        tenio_test_total 42
+        # HELP tenio_test_ratio A test gauge
+        # TYPE tenio_test_ratio gauge
+        tenio_test_ratio 0.5
+        # HELP tenio_test_players Another test gauge
+        # TYPE tenio_test_players gauge
+        tenio_test_players 3
+        """, builder.toString());
+  }
+
+  @Test
+  @DisplayName("Histograms are written as cumulative buckets")
+  void testHistogram() {
+    var registry = MetricRegistry.newInstance();
+    var histogram = registry.histogram("tenio_test_values", "A test histogram", 1024L, 1.0);
+    histogram.record(3L);
+    histogram.record(100L);
+    histogram.record(100L);
+
+    var builder = new StringBuilder();
+    MetricTextFormat.write(registry, builder);
+    var text = builder.toString();
+
+    assertTrue(text.contains("# TYPE tenio_test_values histogram\n"));
+    assertTrue(text.contains("tenio_test_values_bucket{le=\"7\"} 1\n"));
+    assertTrue(text.contains("tenio_test_values_bucket{le=\"63\"} 1\n"));
+    assertTrue(text.contains("tenio_test_values_bucket{le=\"127\"} 3\n"));
+    assertTrue(text.contains("tenio_test_values_bucket{le=\"+Inf\"} 3\n"));
+    assertTrue(text.contains("tenio_test_values_sum 203\n"));
+    assertTrue(text.endsWith("tenio_test_values_count 3\n"));
+  }
+
+  @Test
+  @DisplayName("A histogram family is written once with a labelled series per histogram")
+  void testHistogramFamily() {
+    var registry = MetricRegistry.newInstance();
+    var family = HistogramFamily.newLatencyInstance("tenio_test_latency_seconds",
+        "A test family", "command");
+    registry.register(family);
+    family.add("1").record(1_000L);
+    family.add("a\"b").record(1_000L);
+
+    var builder = new StringBuilder();
+    MetricTextFormat.write(registry, builder);
+    var text = builder.toString();
+
+    assertEquals(text.indexOf("# TYPE"), text.lastIndexOf("# TYPE"));
+    assertTrue(text.contains("# TYPE tenio_test_latency_seconds histogram\n"));
+    assertTrue(text.contains("tenio_test_latency_seconds_bucket{command=\"1\",le=\"+Inf\"} 1\n"));
+    assertTrue(text.contains("tenio_test_latency_seconds_sum{command=\"1\"} "));
+    assertTrue(text.contains("tenio_test_latency_seconds_count{command=\"1\"} 1\n"));
+    assertTrue(text.endsWith("tenio_test_latency_seconds_count{command=\"a\\\"b\"} 1\n"));
+  }
+
+  @Test
+  @DisplayName("Special values are written as the format expects")
+  void testSpecialValues() {
+    var registry = MetricRegistry.newInstance();
+    registry.gauge("tenio_test_nan", "nan", () -> Double.NaN);
+    registry.gauge("tenio_test_inf", "inf", () -> Double.POSITIVE_INFINITY);
+
+    var builder = new StringBuilder();
+    MetricTextFormat.write(registry, builder);
+
+    assertTrue(builder.toString().contains("tenio_test_nan NaN\n"));
+    assertTrue(builder.toString().contains("tenio_test_inf +Inf\n"));
+  }
+}
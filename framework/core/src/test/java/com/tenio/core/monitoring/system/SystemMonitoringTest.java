@@ -27,6 +27,8 @@ package com.tenio.core.monitoring.system;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.tenio.core.monitoring.metric.Gauge;
+import com.tenio.core.monitoring.metric.MetricRegistry;
 import org.junit.jupiter.api.Test;
 
 class SystemMonitoringTest {
@@ -75,4 +77,15 @@ class SystemMonitoringTest {
     assertTrue(str.contains("cpuUsage"));
     assertTrue(str.contains("totalMemory"));
   }
+
+  @Test
+  void testRegisteredGaugesAreSampled() {
+    MetricRegistry registry = MetricRegistry.newInstance();
+    SystemMonitoring.newInstance().registerMetrics(registry);
+
+    Gauge threads = (Gauge) registry.getMetric("tenio_system_threads");
+    assertTrue(threads.get() > 0);
+    Gauge cpuUsage = (Gauge) registry.getMetric("tenio_system_cpu_usage");
+    assertTrue(cpuUsage.get() >= 0.0);
+  }
 }
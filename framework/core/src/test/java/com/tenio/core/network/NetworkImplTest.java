@@ -36,7 +36,9 @@ import com.tenio.core.entity.Player;
 import com.tenio.core.event.implement.EventManager;
 import com.tenio.core.network.codec.decoder.BinaryPacketDecoder;
 import com.tenio.core.network.codec.encoder.BinaryPacketEncoder;
+import com.tenio.core.network.configuration.PerMessageDeflateConfiguration;
 import com.tenio.core.network.configuration.SocketConfiguration;
+import com.tenio.core.network.configuration.WebSocketWriteBufferConfiguration;
 import com.tenio.core.network.entity.outbound.Response;
 import com.tenio.core.network.entity.outbound.implement.ResponseImpl;
 import com.tenio.core.network.entity.outbound.packet.policy.OutboundQueuePolicy;
@@ -212,6 +214,22 @@ class NetworkImplTest {
     verify(nettyService).setUsingSsl(true);
   }
 
+  @Test
+  @DisplayName("Test setWebSocketWriteBufferConfiguration() delegates to webSocketService")
+  void testSetWebSocketWriteBufferConfiguration() {
+    var configuration = WebSocketWriteBufferConfiguration.getDefault();
+    assertDoesNotThrow(() -> service.setWebSocketWriteBufferConfiguration(configuration));
+    verify(nettyService).setWriteBufferConfiguration(configuration);
+  }
+
+  @Test
+  @DisplayName("Test setWebSocketPerMessageDeflateConfiguration() delegates to webSocketService")
+  void testSetWebSocketPerMessageDeflateConfiguration() {
+    var configuration = PerMessageDeflateConfiguration.getDefault();
+    assertDoesNotThrow(() -> service.setWebSocketPerMessageDeflateConfiguration(configuration));
+    verify(nettyService).setPerMessageDeflateConfiguration(configuration);
+  }
+
   @Test
   @DisplayName("Test setSocketAcceptorServerAddress() delegates to zeroService")
   void testSetSocketAcceptorServerAddress() {
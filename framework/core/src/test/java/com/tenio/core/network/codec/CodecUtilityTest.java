@@ -24,6 +24,7 @@ THE SOFTWARE.
 
 package com.tenio.core.network.codec;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -31,7 +32,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.tenio.common.data.DataType;
 import com.tenio.core.network.codec.packet.PacketHeader;
+import com.tenio.core.network.codec.packet.PacketHeaderType;
 import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -109,4 +113,37 @@ class CodecUtilityTest {
     assertThrows(IllegalArgumentException.class,
         () -> CodecUtility.decodeFirstHeaderByte(invalidByte));
   }
+
+  @Test
+  @DisplayName("isBundle detects the bundle header but no regular packet header")
+  void testIsBundle() {
+    assertTrue(CodecUtility.isBundle(PacketHeaderType.BUNDLE.getValue()));
+    PacketHeader header = PacketHeader.newInstance(true, true, true, true, DataType.MSG_PACK);
+    assertFalse(CodecUtility.isBundle(CodecUtility.encodeFirstHeaderByte(header)));
+  }
+
+  @Test
+  @DisplayName("unbundle delivers each packet in order")
+  void testUnbundleDeliversPacketsInOrder() {
+    byte[] datagram = {PacketHeaderType.BUNDLE.getValue(), 0, 2, 1, 10, 0, 3, 1, 20, 21, 0};
+    List<byte[]> packets = new ArrayList<>();
+
+    // the trailing byte is not part of the received datagram
+    assertEquals(2, CodecUtility.unbundle(datagram, datagram.length - 1, packets::add));
+    assertArrayEquals(new byte[] {1, 10}, packets.get(0));
+    assertArrayEquals(new byte[] {1, 20, 21}, packets.get(1));
+  }
+
+  @Test
+  @DisplayName("unbundle refuses a regular packet and a truncated bundle")
+  void testUnbundleRefusesBrokenDatagrams() {
+    List<byte[]> packets = new ArrayList<>();
+    assertThrows(IllegalArgumentException.class,
+        () -> CodecUtility.unbundle(new byte[] {1, 2, 3}, 3, packets::add));
+    byte[] truncated = {PacketHeaderType.BUNDLE.getValue(), 0, 2, 1, 10, 0, 5, 1};
+    assertThrows(IllegalArgumentException.class,
+        () -> CodecUtility.unbundle(truncated, truncated.length, packets::add));
+    // the complete packet before the broken one was still delivered
+    assertEquals(1, packets.size());
+  }
 }
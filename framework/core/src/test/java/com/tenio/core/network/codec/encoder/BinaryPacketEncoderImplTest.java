@@ -24,13 +24,19 @@ THE SOFTWARE.
 
 package com.tenio.core.network.codec.encoder;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.doThrow;
 
 import com.tenio.common.data.DataType;
+import com.tenio.core.network.codec.CodecUtility;
 import com.tenio.core.network.codec.compression.BinaryPacketCompressor;
 import com.tenio.core.network.codec.encryption.BinaryPacketEncryptor;
 import com.tenio.core.network.entity.outbound.packet.Packet;
@@ -187,4 +193,22 @@ class BinaryPacketEncoderImplTest {
 
     assertNotNull(encoder.encode(packet));
   }
+
+  @Test
+  @DisplayName("Test encoding with compression disallowed skips the compressor")
+  void testEncodeWithCompressionDisallowed() throws Exception {
+    BinaryPacketCompressor compressor = mock(BinaryPacketCompressor.class);
+    encoder.setCompressor(compressor);
+    encoder.setCompressionThresholdBytes(1);
+
+    var packet = PacketImpl.newInstance();
+    packet.setDataType(DataType.ZERO);
+    packet.setData(new byte[]{1, 2, 3});
+
+    var encodedPacket = encoder.encode(packet, false);
+
+    verify(compressor, never()).compress(any());
+    assertFalse(CodecUtility.decodeFirstHeaderByte(encodedPacket.getData()[0]).isCompressed());
+    assertEquals(4, encodedPacket.getData().length);
+  }
 }
@@ -67,4 +67,24 @@ class PacketHeaderTypeTest {
   void testGetValueBigSize() {
     assertEquals((byte) 0b01000000, PacketHeaderType.BIG_SIZE.getValue());
   }
+
+  @Test
+  @DisplayName("getValue returns the correct bit-mask byte for RELIABLE")
+  void testGetValueReliable() {
+    assertEquals((byte) 0b00000100, PacketHeaderType.RELIABLE.getValue());
+  }
+
+  @Test
+  @DisplayName("getValue returns the correct bit-mask byte for BUNDLE")
+  void testGetValueBundle() {
+    assertEquals((byte) 0b00001000, PacketHeaderType.BUNDLE.getValue());
+  }
+
+  @Test
+  @DisplayName("No header type overlaps the bits reserved for the data type")
+  void testNoHeaderTypeOverlapsDataTypeBits() {
+    for (PacketHeaderType type : PacketHeaderType.values()) {
+      assertEquals(0, type.getValue() & 0b00000011);
+    }
+  }
 }
@@ -0,0 +1,68 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For PerMessageDeflateConfiguration")
+class PerMessageDeflateConfigurationTest {
+
+  @Test
+  @DisplayName("The default settings keep the compression context across messages")
+  void testDefault() {
+    var configuration = PerMessageDeflateConfiguration.getDefault();
+
+    assertEquals(6, configuration.compressionLevel());
+    assertEquals(15, configuration.clientWindowBits());
+    assertTrue(configuration.clientContextTakeover());
+    assertEquals(64, configuration.minimumSizeInBytes());
+  }
+
+  @Test
+  @DisplayName("The boundary values are accepted")
+  void testBoundaries() {
+    assertDoesNotThrow(() -> new PerMessageDeflateConfiguration(0, 8, false, 0));
+    assertDoesNotThrow(() -> new PerMessageDeflateConfiguration(9, 15, true, 1024));
+  }
+
+  @Test
+  @DisplayName("Invalid settings are refused")
+  void testInvalidSettings() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new PerMessageDeflateConfiguration(10, 15, true, 64));
+    assertThrows(IllegalArgumentException.class,
+        () -> new PerMessageDeflateConfiguration(6, 7, true, 64));
+    assertThrows(IllegalArgumentException.class,
+        () -> new PerMessageDeflateConfiguration(6, 16, true, 64));
+    assertThrows(IllegalArgumentException.class,
+        () -> new PerMessageDeflateConfiguration(6, 15, true, -1));
+  }
+}
@@ -0,0 +1,66 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For ReliableDatagramConfiguration")
+class ReliableDatagramConfigurationTest {
+
+  @Test
+  @DisplayName("The default settings favour latency")
+  void testDefault() {
+    var configuration = ReliableDatagramConfiguration.getDefault();
+
+    assertEquals(10, configuration.intervalInMilliseconds());
+    assertEquals(30, configuration.minimumRtoInMilliseconds());
+    assertEquals(2, configuration.fastResend());
+    assertEquals(128, configuration.sendWindow());
+    assertEquals(128, configuration.receiveWindow());
+    assertTrue(configuration.congestionControl());
+    assertEquals(20, configuration.deadLink());
+    assertEquals(1024, configuration.maximumWaitingSegments());
+  }
+
+  @Test
+  @DisplayName("Invalid settings are refused")
+  void testInvalidSettings() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new ReliableDatagramConfiguration(0, 30, 2, 128, 128, true, 20, 1024));
+    assertThrows(IllegalArgumentException.class,
+        () -> new ReliableDatagramConfiguration(10, 0, 2, 128, 128, true, 20, 1024));
+    assertThrows(IllegalArgumentException.class,
+        () -> new ReliableDatagramConfiguration(10, 30, 2, 0, 128, true, 20, 1024));
+    assertThrows(IllegalArgumentException.class,
+        () -> new ReliableDatagramConfiguration(10, 30, 2, 128, 128, true, 0, 1024));
+    assertThrows(IllegalArgumentException.class,
+        () -> new ReliableDatagramConfiguration(10, 30, 2, 128, 128, true, 20, 0));
+  }
+}
@@ -40,7 +40,19 @@ class SocketConfigurationTest {
     assertEquals(8080, actualSocketConfiguration.port());
     assertEquals(TransportType.UNKNOWN, actualSocketConfiguration.type());
     assertEquals(0, actualSocketConfiguration.cacheSize());
-    assertEquals("SocketConfiguration[name=Name, type=UNKNOWN, port=8080, cacheSize=0]",
+    assertEquals(SocketTuning.getDefault(TransportType.UNKNOWN),
+        actualSocketConfiguration.tuning());
+    assertEquals("SocketConfiguration[name=Name, type=UNKNOWN, port=8080, cacheSize=0, " +
+            "tuning=SocketTuning[tcpNoDelay=false, keepAlive=false, receiveBufferSize=-1, " +
+            "sendBufferSize=-1, backlog=-1, lingerInSeconds=-1, trafficClass=-1]]",
         actualSocketConfiguration.toString());
   }
+
+  @Test
+  void testConstructorWithTuning() {
+    var tuning = new SocketTuning(true, false, 1024, 2048, 128, 0, 0x10);
+    var socketConfiguration = new SocketConfiguration("tcp", TransportType.TCP, 8032, 1, tuning);
+
+    assertEquals(tuning, socketConfiguration.tuning());
+  }
 }
@@ -0,0 +1,83 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tenio.core.network.define.TransportType;
+import org.junit.jupiter.api.Test;
+
+class SocketTuningTest {
+
+  @Test
+  void testDefaultTcpTuning() {
+    var tuning = SocketTuning.getDefault(TransportType.TCP);
+
+    assertTrue(tuning.tcpNoDelay());
+    assertTrue(tuning.keepAlive());
+    assertEquals(256 * 1024, tuning.receiveBufferSize());
+    assertEquals(256 * 1024, tuning.sendBufferSize());
+    assertEquals(1024, tuning.backlog());
+    assertFalse(SocketTuning.isSet(tuning.lingerInSeconds()));
+    assertFalse(SocketTuning.isSet(tuning.trafficClass()));
+  }
+
+  @Test
+  void testDefaultUdpTuning() {
+    var tuning = SocketTuning.getDefault(TransportType.UDP);
+
+    assertEquals(1024 * 1024, tuning.receiveBufferSize());
+    assertEquals(1024 * 1024, tuning.sendBufferSize());
+    assertFalse(SocketTuning.isSet(tuning.backlog()));
+  }
+
+  @Test
+  void testDefaultWebSocketTuningLeavesBufferSizesUnset() {
+    var tuning = SocketTuning.getDefault(TransportType.WEB_SOCKET);
+
+    assertTrue(tuning.tcpNoDelay());
+    assertEquals(1024, tuning.backlog());
+    assertFalse(SocketTuning.isSet(tuning.receiveBufferSize()));
+    assertFalse(SocketTuning.isSet(tuning.sendBufferSize()));
+  }
+
+  @Test
+  void testDefaultTuningOfUnknownTypeLeavesEverythingUnset() {
+    var tuning = SocketTuning.getDefault(null);
+
+    assertEquals(SocketTuning.getDefault(TransportType.HTTP), tuning);
+    assertFalse(SocketTuning.isSet(tuning.receiveBufferSize()));
+    assertFalse(SocketTuning.isSet(tuning.backlog()));
+  }
+
+  @Test
+  void testIsSet() {
+    assertTrue(SocketTuning.isSet(0));
+    assertTrue(SocketTuning.isSet(1024));
+    assertFalse(SocketTuning.isSet(SocketTuning.UNSET));
+  }
+}
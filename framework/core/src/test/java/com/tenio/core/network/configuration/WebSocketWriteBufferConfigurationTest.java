@@ -0,0 +1,60 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.configuration;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For WebSocketWriteBufferConfiguration")
+class WebSocketWriteBufferConfigurationTest {
+
+  @Test
+  @DisplayName("The default settings use Netty's water marks")
+  void testDefault() {
+    var configuration = WebSocketWriteBufferConfiguration.getDefault();
+
+    assertEquals(32 * 1024, configuration.lowWaterMark());
+    assertEquals(64 * 1024, configuration.highWaterMark());
+  }
+
+  @Test
+  @DisplayName("Equal water marks are accepted")
+  void testEqualWaterMarks() {
+    assertDoesNotThrow(() -> new WebSocketWriteBufferConfiguration(1024, 1024));
+  }
+
+  @Test
+  @DisplayName("Invalid settings are refused")
+  void testInvalidSettings() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new WebSocketWriteBufferConfiguration(0, 1024));
+    assertThrows(IllegalArgumentException.class,
+        () -> new WebSocketWriteBufferConfiguration(2048, 1024));
+  }
+}
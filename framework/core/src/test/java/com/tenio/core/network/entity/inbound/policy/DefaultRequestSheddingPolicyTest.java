@@ -0,0 +1,64 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.entity.inbound.policy;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.tenio.core.network.entity.inbound.Request;
+import org.junit.jupiter.api.Test;
+
+class DefaultRequestSheddingPolicyTest {
+
+  @Test
+  void testRequestWithLowerPriorityValueIsNotSheddable() {
+    Request request = mock(Request.class);
+    when(request.getPriority()).thenReturn(1);
+    assertFalse(new DefaultRequestSheddingPolicy(2).isSheddable(request));
+  }
+
+  @Test
+  void testRequestWithEqualOrGreaterPriorityValueIsSheddable() {
+    DefaultRequestSheddingPolicy policy = new DefaultRequestSheddingPolicy(2);
+    Request request = mock(Request.class);
+    when(request.getPriority()).thenReturn(2);
+    assertTrue(policy.isSheddable(request));
+    when(request.getPriority()).thenReturn(3);
+    assertTrue(policy.isSheddable(request));
+  }
+
+  @Test
+  void testNothingIsSheddableByDefault() {
+    DefaultRequestSheddingPolicy policy =
+        new DefaultRequestSheddingPolicy(DefaultRequestSheddingPolicy.NOTHING_SHEDDABLE);
+    Request request = mock(Request.class);
+    when(request.getPriority()).thenReturn(0);
+    assertFalse(policy.isSheddable(request));
+    when(request.getPriority()).thenReturn(Integer.MAX_VALUE);
+    assertFalse(policy.isSheddable(request));
+  }
+}
@@ -37,6 +37,8 @@ import static org.mockito.Mockito.when;
 import com.tenio.common.data.DataCollection;
 import com.tenio.common.data.DataType;
 import com.tenio.core.entity.Player;
+import com.tenio.core.entity.implement.DefaultPlayer;
+import com.tenio.core.entity.implement.GridAreaOfInterest;
 import com.tenio.core.network.define.ResponseGuarantee;
 import com.tenio.core.network.entity.outbound.Response;
 import com.tenio.core.network.entity.session.Session;
@@ -145,6 +147,23 @@ class ResponseImplTest {
     assertEquals(2, response.getRecipientPlayers().size());
   }
 
+  @Test
+  void testSetRecipientsInRangeResolvesPlayersFromTheAreaOfInterest() {
+    var areaOfInterest = GridAreaOfInterest.newInstance(100.0f, 100.0f, 10.0f);
+    Player near = DefaultPlayer.newInstance("near");
+    Player far = DefaultPlayer.newInstance("far");
+    Player subject = DefaultPlayer.newInstance("subject");
+    areaOfInterest.addPlayer(near, 10.0f, 10.0f, 20.0f);
+    areaOfInterest.addPlayer(far, 90.0f, 90.0f, 20.0f);
+    areaOfInterest.addPlayer(subject, 15.0f, 15.0f, 5.0f);
+
+    response.setRecipientsInRange(areaOfInterest, subject);
+    assertEquals(List.of(near), new ArrayList<>(response.getRecipientPlayers()));
+
+    response.setRecipientsInRange(areaOfInterest, 85.0f, 85.0f);
+    assertEquals(List.of(near, far), new ArrayList<>(response.getRecipientPlayers()));
+  }
+
   @Test
   void testSetRecipientSessionTcpGoesToSocketSessions() {
     Session session = mock(Session.class);
@@ -139,6 +139,25 @@ class PacketImplTest {
     assertArrayEquals(new byte[]{0x01, 0x02}, packet.getFragmentBuffer());
   }
 
+  @Test
+  void testFragmentedTimeIsKeptUntilTheFragmentIsCleared() {
+    assertEquals(0L, packet.getFragmentedTime());
+    packet.setFragmentBuffer(new byte[]{0x01, 0x02});
+    long fragmentedTime = packet.getFragmentedTime();
+    assertTrue(fragmentedTime != 0L);
+    packet.setFragmentBuffer(new byte[]{0x02});
+    assertEquals(fragmentedTime, packet.getFragmentedTime());
+  }
+
+  @Test
+  void testQueuedTimeIsKeptByTheCopies() {
+    assertEquals(0L, packet.getQueuedTime());
+    packet.setData(new byte[] {1, 2, 3});
+    packet.setQueuedTime(42L);
+    assertEquals(42L, packet.getQueuedTime());
+    assertEquals(42L, packet.deepCopy().getQueuedTime());
+  }
+
   @Test
   void testSetAndGetRecipients() {
     Session session = mock(Session.class);
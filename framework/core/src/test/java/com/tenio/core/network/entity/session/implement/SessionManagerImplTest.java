@@ -29,6 +29,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -224,8 +225,7 @@ class SessionManagerImplTest {
   @Test
   @DisplayName("createWebSocketSession creates an activated WEB_SOCKET session")
   void testCreateWebSocketSession() {
-    io.netty.channel.Channel channel = mock(io.netty.channel.Channel.class);
-    when(channel.remoteAddress()).thenReturn(new InetSocketAddress("127.0.0.1", 8080));
+    io.netty.channel.Channel channel = mockWebSocketChannel();
 
     Session session = sessionManager.createWebSocketSession(channel);
 
@@ -234,13 +234,13 @@ class SessionManagerImplTest {
     assertEquals(TransportType.WEB_SOCKET, session.getTransportType());
     assertEquals(1, sessionManager.getSnapshotSessionCount());
     assertEquals(session, sessionManager.getSessionByWebSocket(channel));
+    assertEquals(session, channel.attr(SessionManager.WEBSOCKET_SESSION_ATTRIBUTE).get());
   }
 
   @Test
   @DisplayName("removeSessionByWebSocket removes the session and decrements count")
   void testRemoveSessionByWebSocket() {
-    io.netty.channel.Channel channel = mock(io.netty.channel.Channel.class);
-    when(channel.remoteAddress()).thenReturn(new InetSocketAddress("127.0.0.1", 8080));
+    io.netty.channel.Channel channel = mockWebSocketChannel();
 
     sessionManager.createWebSocketSession(channel);
     assertEquals(1, sessionManager.getSnapshotSessionCount());
@@ -248,6 +248,16 @@ class SessionManagerImplTest {
     sessionManager.removeSessionByWebSocket(channel);
     assertEquals(0, sessionManager.getSnapshotSessionCount());
     assertNull(sessionManager.getSessionByWebSocket(channel));
+    assertNull(channel.attr(SessionManager.WEBSOCKET_SESSION_ATTRIBUTE).get());
+  }
+
+  private io.netty.channel.Channel mockWebSocketChannel() {
+    io.netty.channel.Channel channel = mock(io.netty.channel.Channel.class);
+    var attributes = new io.netty.util.DefaultAttributeMap();
+    when(channel.remoteAddress()).thenReturn(new InetSocketAddress("127.0.0.1", 8080));
+    when(channel.attr(any())).thenAnswer(invocation -> attributes.attr(invocation.getArgument(0)));
+    when(channel.hasAttr(any())).thenAnswer(invocation -> attributes.hasAttr(invocation.getArgument(0)));
+    return channel;
   }
 
   private java.nio.channels.SocketChannel mockSocketChannel() {
@@ -286,4 +296,68 @@ class SessionManagerImplTest {
     assertEquals(0, sessionManager.getSnapshotSessionCount());
     assertNull(sessionManager.getSessionBySocket(socketChannel));
   }
+
+  @Test
+  @DisplayName("createSocketSession attaches the session to its selection key until it is removed")
+  void testCreateSocketSessionAttachesSelectionKey() {
+    java.nio.channels.SocketChannel socketChannel = mockSocketChannel();
+    java.nio.channels.SelectionKey selectionKey = new DetachedSelectionKey();
+
+    Session session = sessionManager.createSocketSession(socketChannel, selectionKey);
+    assertEquals(session, selectionKey.attachment());
+
+    sessionManager.removeSessionBySocket(socketChannel);
+    assertNull(selectionKey.attachment());
+  }
+
+  @Test
+  @DisplayName("getSessionByDatagram returns null once the session is removed")
+  void testGetSessionByDatagramAfterRemoval() throws java.io.IOException {
+    java.nio.channels.SocketChannel socketChannel = mockSocketChannel();
+    Session session = sessionManager.createSocketSession(socketChannel, new DetachedSelectionKey());
+    try (var datagramChannel = java.nio.channels.DatagramChannel.open()) {
+      sessionManager.addDatagramForSession(datagramChannel, 42, session);
+      assertEquals(session, sessionManager.getSessionByDatagram(42));
+
+      sessionManager.removeSession(session);
+      assertNull(sessionManager.getSessionByDatagram(42));
+    }
+  }
+
+  private static final class DetachedSelectionKey extends java.nio.channels.SelectionKey {
+
+    @Override
+    public java.nio.channels.SelectableChannel channel() {
+      return null;
+    }
+
+    @Override
+    public java.nio.channels.Selector selector() {
+      return null;
+    }
+
+    @Override
+    public boolean isValid() {
+      return true;
+    }
+
+    @Override
+    public void cancel() {
+    }
+
+    @Override
+    public int interestOps() {
+      return 0;
+    }
+
+    @Override
+    public java.nio.channels.SelectionKey interestOps(int ops) {
+      return this;
+    }
+
+    @Override
+    public int readyOps() {
+      return 0;
+    }
+  }
 }
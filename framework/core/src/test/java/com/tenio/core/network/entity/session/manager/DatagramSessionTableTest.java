@@ -0,0 +1,158 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.entity.session.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tenio.core.network.entity.session.Session;
+import com.tenio.core.network.entity.session.implement.SessionImpl;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For DatagramSessionTable")
+class DatagramSessionTableTest {
+
+  @Test
+  @DisplayName("The initial capacity must be a power of two in the allowed range")
+  void testInvalidInitialCapacityThrows() {
+    assertThrows(IllegalArgumentException.class, () -> DatagramSessionTable.newInstance(0));
+    assertThrows(IllegalArgumentException.class, () -> DatagramSessionTable.newInstance(12));
+    assertThrows(IllegalArgumentException.class,
+        () -> DatagramSessionTable.newInstance(DatagramSessionTable.MAXIMUM_CAPACITY << 1));
+  }
+
+  @Test
+  @DisplayName("A bound convey id resolves to its session until it is removed")
+  void testPutGetAndRemove() {
+    var table = DatagramSessionTable.newInstance();
+    Session session = SessionImpl.newInstance();
+
+    assertNull(table.get(7));
+    table.put(7, session);
+    assertSame(session, table.get(7));
+
+    table.remove(7);
+    assertNull(table.get(7));
+  }
+
+  @Test
+  @DisplayName("An id sharing the slot of a bound id does not resolve to the bound session")
+  void testCollidingIdIsNotConfused() {
+    var table = DatagramSessionTable.newInstance(4);
+    table.put(1, SessionImpl.newInstance());
+
+    assertNull(table.get(5));
+  }
+
+  @Test
+  @DisplayName("The table doubles when a new id lands on a live slot")
+  void testGrowsOnCollision() {
+    var table = DatagramSessionTable.newInstance(4);
+    Session first = SessionImpl.newInstance();
+    Session second = SessionImpl.newInstance();
+
+    table.put(1, first);
+    table.put(5, second);
+
+    assertEquals(8, table.getCapacity());
+    assertSame(first, table.get(1));
+    assertSame(second, table.get(5));
+    assertEquals(0, table.getOverflows());
+  }
+
+  @Test
+  @DisplayName("Removing a colliding id does not unbind the session owning the slot")
+  void testRemoveUnknownIdKeepsSlotOwner() {
+    var table = DatagramSessionTable.newInstance(4);
+    Session session = SessionImpl.newInstance();
+    table.put(1, session);
+
+    table.remove(5);
+
+    assertSame(session, table.get(1));
+  }
+
+  @Test
+  @DisplayName("Sequential ids are all resolved after many bindings")
+  void testSequentialIdsResolve() {
+    var table = DatagramSessionTable.newInstance();
+    List<Session> sessions = new ArrayList<>();
+    for (int i = 0; i < 5000; i++) {
+      Session session = SessionImpl.newInstance();
+      sessions.add(session);
+      table.put(i, session);
+    }
+    for (int i = 0; i < 5000; i++) {
+      assertSame(sessions.get(i), table.get(i));
+    }
+    assertEquals(0, table.getOverflows());
+  }
+
+  @Test
+  @DisplayName("Readers never see a wrong session while the table grows")
+  void testConcurrentReadsWhileGrowing() throws InterruptedException {
+    var table = DatagramSessionTable.newInstance(2);
+    Session stable = SessionImpl.newInstance();
+    table.put(0, stable);
+
+    var failed = new AtomicBoolean();
+    var done = new AtomicBoolean();
+    var started = new CountDownLatch(1);
+    var reader = new Thread(() -> {
+      started.countDown();
+      while (!done.get()) {
+        if (table.get(0) != stable) {
+          failed.set(true);
+        }
+      }
+    });
+    reader.start();
+    started.await();
+
+    for (int i = 1; i < 10000; i++) {
+      table.put(i, SessionImpl.newInstance());
+    }
+    done.set(true);
+    reader.join();
+
+    assertFalse(failed.get());
+    assertSame(stable, table.get(0));
+  }
+
+  @Test
+  @DisplayName("Test toString contains the class name")
+  void testToString() {
+    assertTrue(DatagramSessionTable.newInstance().toString().contains("DatagramSessionTable"));
+  }
+}
@@ -0,0 +1,90 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.jetty.servlet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.tenio.core.monitoring.metric.MetricRegistry;
+import com.tenio.core.monitoring.metric.MetricTextFormat;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For MetricsServlet")
+class MetricsServletTest {
+
+  @Test
+  @DisplayName("A scrape writes the registry in the text format")
+  void testScrape() throws Exception {
+    var registry = MetricRegistry.newInstance();
+    var counter = registry.counter("tenio_test_total", "A test counter");
+    counter.add(5L);
+    var servlet = MetricsServlet.newInstance(registry);
+
+    var first = scrape(servlet);
+    assertTrue(first.contains("tenio_test_total 5\n"));
+
+    // the reused buffers must not leak the previous scrape
+    counter.increment();
+    var second = scrape(servlet);
+    assertTrue(second.contains("tenio_test_total 6\n"));
+    assertEquals(first.length(), second.length());
+  }
+
+  @Test
+  @DisplayName("A scrape larger than the initial buffer is written entirely")
+  void testLargeScrape() throws Exception {
+    var registry = MetricRegistry.newInstance();
+    for (int i = 0; i < 200; i++) {
+      registry.latencyHistogram("tenio_test_" + i + "_seconds", "A test histogram");
+    }
+    var servlet = MetricsServlet.newInstance(registry);
+
+    var expected = new StringBuilder();
+    MetricTextFormat.write(registry, expected);
+
+    assertEquals(expected.toString(), scrape(servlet));
+  }
+
+  private String scrape(MetricsServlet servlet) throws Exception {
+    HttpServletRequest request = mock(HttpServletRequest.class);
+    HttpServletResponse response = mock(HttpServletResponse.class);
+    var stringWriter = new StringWriter();
+    when(response.getWriter()).thenReturn(new PrintWriter(stringWriter));
+
+    servlet.doGet(request, response);
+
+    verify(response).setStatus(HttpServletResponse.SC_OK);
+    verify(response).setContentType(MetricTextFormat.CONTENT_TYPE);
+    return stringWriter.toString();
+  }
+}
@@ -31,6 +31,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -39,6 +40,7 @@ import com.tenio.core.entity.define.mode.PlayerDisconnectMode;
 import com.tenio.core.event.implement.EventManager;
 import com.tenio.core.network.codec.decoder.BinaryPacketDecoder;
 import com.tenio.core.network.codec.encoder.BinaryPacketEncoder;
+import com.tenio.core.network.configuration.PerMessageDeflateConfiguration;
 import com.tenio.core.network.configuration.SocketConfiguration;
 import com.tenio.core.network.define.TransportType;
 import com.tenio.core.network.entity.outbound.packet.Packet;
@@ -47,7 +49,11 @@ import com.tenio.core.network.entity.session.manager.SessionManager;
 import com.tenio.core.network.security.filter.ConnectionFilter;
 import com.tenio.core.network.statistic.NetworkReaderStatistic;
 import com.tenio.core.network.statistic.NetworkWriterStatistic;
+import io.netty.channel.ChannelPipeline;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketExtensionEncoder;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -234,6 +240,72 @@ class NettyWebSocketImplTest {
     webSocket.shutdown();
   }
 
+  @Test
+  @DisplayName("write with permessage-deflate negotiated encodes the packet without compression")
+  void testWriteWithPerMessageDeflateSkipsPacketCompression() {
+    Session session = mock(Session.class);
+    Packet packet = mock(Packet.class);
+    Packet copiedPacket = mock(Packet.class);
+    Packet encodedPacket = mock(Packet.class);
+    BinaryPacketEncoder encoder = mock(BinaryPacketEncoder.class);
+    io.netty.channel.Channel nettyChannel = mockChannel(true);
+
+    when(packet.getRecipients()).thenReturn(List.of(session));
+    when(packet.isMarkedAsLast()).thenReturn(false);
+    when(packet.deepCopy()).thenReturn(copiedPacket);
+    when(session.isActivated()).thenReturn(true);
+    when(encoder.encode(copiedPacket, false)).thenReturn(encodedPacket);
+    when(encodedPacket.getData()).thenReturn(new byte[]{1, 2, 3});
+    when(session.fetchWebSocketChannel()).thenReturn(nettyChannel);
+
+    webSocket.setPacketEncoder(encoder);
+    webSocket.setNetworkWriterStatistic(mock(NetworkWriterStatistic.class));
+    webSocket.setPerMessageDeflateConfiguration(PerMessageDeflateConfiguration.getDefault());
+
+    assertDoesNotThrow(() -> webSocket.write(packet));
+
+    verify(encoder).encode(copiedPacket, false);
+    verify(encoder, never()).encode(any(Packet.class));
+    verify(nettyChannel).writeAndFlush(any());
+  }
+
+  @Test
+  @DisplayName("write with permessage-deflate enabled keeps the packet compression for the others")
+  void testWriteWithPerMessageDeflateKeepsPacketCompressionForOtherClients() {
+    Session deflateSession = mock(Session.class);
+    Session plainSession = mock(Session.class);
+    Packet packet = mock(Packet.class);
+    Packet deflateCopy = mock(Packet.class);
+    Packet plainCopy = mock(Packet.class);
+    BinaryPacketEncoder encoder = mock(BinaryPacketEncoder.class);
+    io.netty.channel.Channel deflateChannel = mockChannel(true);
+    io.netty.channel.Channel plainChannel = mockChannel(false);
+
+    when(packet.getRecipients()).thenReturn(List.of(deflateSession, plainSession));
+    when(packet.isMarkedAsLast()).thenReturn(false);
+    when(packet.deepCopy()).thenReturn(deflateCopy, plainCopy);
+    when(deflateSession.isActivated()).thenReturn(true);
+    when(plainSession.isActivated()).thenReturn(true);
+    when(deflateSession.fetchWebSocketChannel()).thenReturn(deflateChannel);
+    when(plainSession.fetchWebSocketChannel()).thenReturn(plainChannel);
+    when(encoder.encode(deflateCopy, false)).thenReturn(deflateCopy);
+    when(encoder.encode(plainCopy)).thenReturn(plainCopy);
+    when(deflateCopy.getData()).thenReturn(new byte[]{1, 2, 3});
+    when(plainCopy.getData()).thenReturn(new byte[]{4, 5});
+
+    webSocket.setPacketEncoder(encoder);
+    webSocket.setNetworkWriterStatistic(mock(NetworkWriterStatistic.class));
+    webSocket.setPerMessageDeflateConfiguration(PerMessageDeflateConfiguration.getDefault());
+
+    assertDoesNotThrow(() -> webSocket.write(packet));
+
+    verify(encoder).encode(deflateCopy, false);
+    verify(encoder).encode(plainCopy);
+    verify(encoder, never()).encode(packet);
+    verify(deflateChannel).writeAndFlush(any());
+    verify(plainChannel).writeAndFlush(any());
+  }
+
   @Test
   @DisplayName("write with active non-last packet encodes and writes to websocket channel")
   void testWriteWithActiveNonLastPacketEncodesAndWrites() {
@@ -296,4 +368,64 @@ class NettyWebSocketImplTest {
 
     assertDoesNotThrow(() -> webSocket.write(packet));
   }
+
+  @Test
+  @DisplayName("write encodes the packet once and shares its content with every recipient")
+  void testWriteEncodesOnceForAllRecipients() {
+    Session firstSession = mock(Session.class);
+    Session secondSession = mock(Session.class);
+    Packet packet = mock(Packet.class);
+    Packet encodedPacket = mock(Packet.class);
+    BinaryPacketEncoder encoder = mock(BinaryPacketEncoder.class);
+    NetworkWriterStatistic writerStatistic = mock(NetworkWriterStatistic.class);
+    io.netty.channel.Channel firstChannel = mock(io.netty.channel.Channel.class);
+    io.netty.channel.Channel secondChannel = mock(io.netty.channel.Channel.class);
+    List<BinaryWebSocketFrame> frames = new ArrayList<>();
+
+    when(packet.getRecipients()).thenReturn(List.of(firstSession, secondSession));
+    when(packet.isMarkedAsLast()).thenReturn(false);
+    when(firstSession.isActivated()).thenReturn(true);
+    when(secondSession.isActivated()).thenReturn(true);
+    when(encoder.encode(packet)).thenReturn(encodedPacket);
+    when(encodedPacket.getData()).thenReturn(new byte[] {1, 2, 3});
+    when(encodedPacket.getOriginalSize()).thenReturn(3);
+    when(firstSession.fetchWebSocketChannel()).thenReturn(firstChannel);
+    when(secondSession.fetchWebSocketChannel()).thenReturn(secondChannel);
+    when(firstChannel.writeAndFlush(any())).thenAnswer(invocation -> {
+      frames.add(invocation.getArgument(0));
+      return mock(io.netty.channel.ChannelFuture.class);
+    });
+    when(secondChannel.writeAndFlush(any())).thenAnswer(invocation -> {
+      frames.add(invocation.getArgument(0));
+      return mock(io.netty.channel.ChannelFuture.class);
+    });
+
+    webSocket.setPacketEncoder(encoder);
+    webSocket.setNetworkWriterStatistic(writerStatistic);
+    webSocket.write(packet);
+
+    verify(encoder, times(1)).encode(packet);
+    verify(writerStatistic, times(2)).updateWrittenPackets(1);
+    assertEquals(2, frames.size());
+    // the frames hold the only remaining references to the shared content
+    assertEquals(2, frames.get(0).refCnt());
+    for (var frame : frames) {
+      assertEquals(3, frame.content().readableBytes());
+      frame.release();
+    }
+    assertEquals(0, frames.get(0).refCnt());
+  }
+
+  private io.netty.channel.Channel mockChannel(boolean perMessageDeflateNegotiated) {
+    io.netty.channel.Channel channel = mock(io.netty.channel.Channel.class);
+    ChannelPipeline pipeline = mock(ChannelPipeline.class);
+    when(channel.pipeline()).thenReturn(pipeline);
+    when(channel.isWritable()).thenReturn(true);
+    when(channel.writeAndFlush(any())).thenReturn(mock(io.netty.channel.ChannelFuture.class));
+    if (perMessageDeflateNegotiated) {
+      when(pipeline.get(WebSocketExtensionEncoder.class))
+          .thenReturn(mock(WebSocketExtensionEncoder.class));
+    }
+    return channel;
+  }
 }
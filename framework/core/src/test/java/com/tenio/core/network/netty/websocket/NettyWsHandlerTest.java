@@ -25,6 +25,7 @@ THE SOFTWARE.
 package com.tenio.core.network.netty.websocket;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
@@ -41,15 +42,18 @@ import com.tenio.core.configuration.define.ServerEvent;
 import com.tenio.core.exception.InboundQueueFullException;
 import com.tenio.core.exception.RefusedConnectionAddressException;
 import com.tenio.core.network.codec.decoder.BinaryPacketDecoder;
+import com.tenio.core.network.codec.packet.PacketHeader;
 import com.tenio.core.network.entity.session.Session;
 import com.tenio.core.network.entity.session.manager.SessionManager;
 import com.tenio.core.network.security.filter.ConnectionFilter;
 import com.tenio.core.network.statistic.NetworkReaderStatistic;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelFuture;
 import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.util.DefaultAttributeMap;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import org.junit.jupiter.api.BeforeEach;
@@ -174,7 +178,7 @@ class NettyWsHandlerTest {
     when(session.isAssociatedToPlayer(Session.AssociatedState.DOING)).thenReturn(false);
     when(session.isAssociatedToPlayer(Session.AssociatedState.NONE)).thenReturn(false);
     when(session.isAssociatedToPlayer(Session.AssociatedState.DONE)).thenReturn(true);
-    when(binaryPacketDecoder.decode(any(byte[].class))).thenReturn(message);
+    when(binaryPacketDecoder.decode(any(PacketHeader.class), any(byte[].class))).thenReturn(message);
 
     assertDoesNotThrow(() -> handler.channelRead(ctx, frame));
 
@@ -201,7 +205,7 @@ class NettyWsHandlerTest {
     when(session.isActivated()).thenReturn(true);
     when(session.isAssociatedToPlayer(Session.AssociatedState.DOING)).thenReturn(false);
     when(session.isAssociatedToPlayer(Session.AssociatedState.NONE)).thenReturn(true);
-    when(binaryPacketDecoder.decode(any(byte[].class))).thenReturn(message);
+    when(binaryPacketDecoder.decode(any(PacketHeader.class), any(byte[].class))).thenReturn(message);
 
     assertDoesNotThrow(() -> handler.channelRead(ctx, frame));
 
@@ -357,11 +361,78 @@ class NettyWsHandlerTest {
     when(session.isAssociatedToPlayer(Session.AssociatedState.DOING)).thenReturn(false);
     when(session.isAssociatedToPlayer(Session.AssociatedState.NONE)).thenReturn(false);
     when(session.isAssociatedToPlayer(Session.AssociatedState.DONE)).thenReturn(true);
-    when(binaryPacketDecoder.decode(any(byte[].class))).thenReturn(message);
+    when(binaryPacketDecoder.decode(any(PacketHeader.class), any(byte[].class))).thenReturn(message);
     doThrow(new InboundQueueFullException(100)).when(session).enqueueInbound(message);
 
     assertDoesNotThrow(() -> handler.channelRead(ctx, frame));
 
     verify(networkReaderStatistic).updateReadDroppedPackets(1);
   }
+
+  @Test
+  @DisplayName("channelRead takes the session bound to the channel without looking it up")
+  void testChannelReadUsesSessionBoundToChannel() throws Exception {
+    ChannelHandlerContext ctx = mock(ChannelHandlerContext.class);
+    Channel channel = mock(Channel.class);
+    var attributes = new DefaultAttributeMap();
+    BinaryWebSocketFrame frame = mock(BinaryWebSocketFrame.class);
+    ByteBuf byteBuf = mock(ByteBuf.class);
+    Session session = mock(Session.class);
+    DataCollection message = mock(DataCollection.class);
+
+    when(ctx.channel()).thenReturn(channel);
+    when(channel.attr(any())).thenAnswer(invocation -> attributes.attr(invocation.getArgument(0)));
+    when(channel.hasAttr(any())).thenAnswer(invocation -> attributes.hasAttr(invocation.getArgument(0)));
+    attributes.attr(SessionManager.WEBSOCKET_SESSION_ATTRIBUTE).set(session);
+    when(frame.content()).thenReturn(byteBuf);
+    when(byteBuf.readableBytes()).thenReturn(3);
+    when(byteBuf.readerIndex()).thenReturn(0);
+    when(session.isActivated()).thenReturn(true);
+    when(session.isAssociatedToPlayer(Session.AssociatedState.DOING)).thenReturn(false);
+    when(session.isAssociatedToPlayer(Session.AssociatedState.NONE)).thenReturn(false);
+    when(session.isAssociatedToPlayer(Session.AssociatedState.DONE)).thenReturn(true);
+    when(binaryPacketDecoder.decode(any(PacketHeader.class), any(byte[].class))).thenReturn(message);
+
+    assertDoesNotThrow(() -> handler.channelRead(ctx, frame));
+
+    verify(session).enqueueInbound(message);
+    verify(sessionManager, never()).getSessionByWebSocket(any());
+  }
+
+  @Test
+  @DisplayName("channelRead decodes the header in place and passes only the body to the decoder")
+  void testChannelReadDecodesHeaderInPlace() throws Exception {
+    ChannelHandlerContext ctx = mock(ChannelHandlerContext.class);
+    Channel channel = mock(Channel.class);
+    Session session = mock(Session.class);
+    DataCollection message = mock(DataCollection.class);
+    var frame = new BinaryWebSocketFrame(Unpooled.wrappedBuffer(new byte[] {1, 7, 8}));
+
+    when(ctx.channel()).thenReturn(channel);
+    when(sessionManager.getSessionByWebSocket(channel)).thenReturn(session);
+    when(session.isActivated()).thenReturn(true);
+    when(session.isAssociatedToPlayer(Session.AssociatedState.DOING)).thenReturn(false);
+    when(session.isAssociatedToPlayer(Session.AssociatedState.NONE)).thenReturn(false);
+    when(session.isAssociatedToPlayer(Session.AssociatedState.DONE)).thenReturn(true);
+    when(binaryPacketDecoder.decode(any(PacketHeader.class), any(byte[].class))).thenReturn(message);
+
+    handler.channelRead(ctx, frame);
+
+    verify(binaryPacketDecoder).decode(any(PacketHeader.class), eq(new byte[] {7, 8}));
+    verify(networkReaderStatistic).updateReadBytes(3);
+    verify(session).enqueueInbound(message);
+    assertEquals(0, frame.refCnt());
+  }
+
+  @Test
+  @DisplayName("channelRead releases an empty frame without touching the session")
+  void testChannelReadIgnoresEmptyFrame() {
+    ChannelHandlerContext ctx = mock(ChannelHandlerContext.class);
+    var frame = new BinaryWebSocketFrame(Unpooled.buffer(0));
+
+    assertDoesNotThrow(() -> handler.channelRead(ctx, frame));
+
+    verify(sessionManager, never()).getSessionByWebSocket(any());
+    assertEquals(0, frame.refCnt());
+  }
 }
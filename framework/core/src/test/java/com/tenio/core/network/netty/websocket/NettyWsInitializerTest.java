@@ -28,19 +28,24 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.tenio.core.event.implement.EventManager;
 import com.tenio.core.network.codec.decoder.BinaryPacketDecoder;
+import com.tenio.core.network.configuration.PerMessageDeflateConfiguration;
 import com.tenio.core.network.entity.session.manager.SessionManager;
 import com.tenio.core.network.security.filter.ConnectionFilter;
 import com.tenio.core.network.security.ssl.WebSocketSslContext;
 import com.tenio.core.network.statistic.NetworkReaderStatistic;
+import com.tenio.core.network.statistic.NetworkWriterStatistic;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelPipeline;
+import io.netty.handler.codec.http.websocketx.extensions.WebSocketServerExtensionHandler;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLEngine;
 import org.junit.jupiter.api.DisplayName;
@@ -59,6 +64,8 @@ class NettyWsInitializerTest {
             mock(ConnectionFilter.class),
             mock(BinaryPacketDecoder.class),
             mock(NetworkReaderStatistic.class),
+            NettyWsWriter.newInstance(mock(NetworkWriterStatistic.class)),
+            null,
             mock(WebSocketSslContext.class),
             false));
 
@@ -75,6 +82,8 @@ class NettyWsInitializerTest {
             mock(ConnectionFilter.class),
             mock(BinaryPacketDecoder.class),
             mock(NetworkReaderStatistic.class),
+            NettyWsWriter.newInstance(mock(NetworkWriterStatistic.class)),
+            null,
             mock(WebSocketSslContext.class),
             true));
 
@@ -90,6 +99,8 @@ class NettyWsInitializerTest {
         mock(ConnectionFilter.class),
         mock(BinaryPacketDecoder.class),
         mock(NetworkReaderStatistic.class),
+        NettyWsWriter.newInstance(mock(NetworkWriterStatistic.class)),
+        null,
         mock(WebSocketSslContext.class),
         false);
 
@@ -102,6 +113,34 @@ class NettyWsInitializerTest {
     assertDoesNotThrow(() -> initializer.initChannel(channel));
 
     verify(pipeline, atLeast(2)).addLast(anyString(), any(ChannelHandler.class));
+    verify(pipeline).addLast(eq("writer"), any(NettyWsWriter.class));
+    verify(pipeline, never()).addLast(eq("permessage-deflate"), any(ChannelHandler.class));
+  }
+
+  @Test
+  @DisplayName("initChannel with permessage-deflate adds the extension handler")
+  void testInitChannelWithPerMessageDeflateAddsExtensionHandler() {
+    NettyWsInitializer initializer = NettyWsInitializer.newInstance(
+        mock(EventManager.class),
+        mock(SessionManager.class),
+        mock(ConnectionFilter.class),
+        mock(BinaryPacketDecoder.class),
+        mock(NetworkReaderStatistic.class),
+        NettyWsWriter.newInstance(mock(NetworkWriterStatistic.class)),
+        PerMessageDeflateConfiguration.getDefault(),
+        mock(WebSocketSslContext.class),
+        false);
+
+    io.netty.channel.socket.SocketChannel channel =
+        mock(io.netty.channel.socket.SocketChannel.class);
+    ChannelPipeline pipeline = mock(ChannelPipeline.class);
+    when(channel.pipeline()).thenReturn(pipeline);
+    when(pipeline.addLast(anyString(), any(ChannelHandler.class))).thenReturn(pipeline);
+
+    assertDoesNotThrow(() -> initializer.initChannel(channel));
+
+    verify(pipeline).addLast(eq("permessage-deflate"),
+        any(WebSocketServerExtensionHandler.class));
   }
 
   @Test
@@ -119,6 +158,8 @@ class NettyWsInitializerTest {
         mock(ConnectionFilter.class),
         mock(BinaryPacketDecoder.class),
         mock(NetworkReaderStatistic.class),
+        NettyWsWriter.newInstance(mock(NetworkWriterStatistic.class)),
+        null,
         wsSslContext,
         true);
 
@@ -0,0 +1,199 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.netty.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.tenio.core.network.define.ResponseGuarantee;
+import com.tenio.core.network.entity.outbound.packet.OutboundQueue;
+import com.tenio.core.network.entity.outbound.packet.Packet;
+import com.tenio.core.network.entity.outbound.packet.implement.OutboundQueueImpl;
+import com.tenio.core.network.entity.outbound.packet.implement.PacketImpl;
+import com.tenio.core.network.entity.outbound.packet.policy.DefaultOutboundQueuePolicy;
+import com.tenio.core.network.entity.session.Session;
+import com.tenio.core.network.entity.session.manager.SessionManager;
+import com.tenio.core.network.statistic.NetworkWriterStatistic;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.EventLoop;
+import io.netty.handler.codec.http.websocketx.BinaryWebSocketFrame;
+import io.netty.util.DefaultAttributeMap;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For NettyWsWriter")
+class NettyWsWriterTest {
+
+  private NettyWsWriter writer;
+  private NetworkWriterStatistic networkWriterStatistic;
+  private Session session;
+  private Channel channel;
+  private OutboundQueue outboundQueue;
+  private List<Byte> writtenFrames;
+
+  @BeforeEach
+  void setUp() {
+    networkWriterStatistic = mock(NetworkWriterStatistic.class);
+    writer = NettyWsWriter.newInstance(networkWriterStatistic);
+
+    outboundQueue = OutboundQueueImpl.newInstance();
+    outboundQueue.configureMaxSize(10);
+    outboundQueue.configureOutboundQueuePolicy(new DefaultOutboundQueuePolicy());
+
+    channel = mock(Channel.class);
+    session = mock(Session.class);
+    when(session.fetchWebSocketChannel()).thenReturn(channel);
+    when(session.fetchOutboundQueue()).thenReturn(outboundQueue);
+    when(session.isActivated()).thenReturn(true);
+
+    // records the first byte of each written frame to check the order
+    writtenFrames = new ArrayList<>();
+    when(channel.writeAndFlush(any())).thenAnswer(invocation -> {
+      BinaryWebSocketFrame frame = invocation.getArgument(0);
+      writtenFrames.add(frame.content().getByte(0));
+      frame.release();
+      return null;
+    });
+    EventLoop eventLoop = mock(EventLoop.class);
+    when(channel.eventLoop()).thenReturn(eventLoop);
+    doAnswer(invocation -> {
+      ((Runnable) invocation.getArgument(0)).run();
+      return null;
+    }).when(eventLoop).execute(any(Runnable.class));
+  }
+
+  @Test
+  @DisplayName("A writable channel with nothing parked gets the packet at once")
+  void testWriteToWritableChannel() {
+    when(channel.isWritable()).thenReturn(true);
+
+    write(createPacket(1, ResponseGuarantee.NORMAL));
+
+    assertEquals(List.of((byte) 1), writtenFrames);
+    verify(networkWriterStatistic).updateWrittenPackets(1);
+    verify(session).addWrittenBytes(3L);
+  }
+
+  @Test
+  @DisplayName("A saturated channel gets its packets parked in the outbound queue")
+  void testWriteToSaturatedChannelParksPacket() {
+    when(channel.isWritable()).thenReturn(false);
+
+    write(createPacket(1, ResponseGuarantee.NORMAL));
+
+    assertEquals(0, writtenFrames.size());
+    assertEquals(1, outboundQueue.getSize());
+    verify(networkWriterStatistic, never()).updateWrittenPackets(1);
+  }
+
+  @Test
+  @DisplayName("A new packet never overtakes the parked ones")
+  void testWriteKeepsOrderBehindParkedPackets() {
+    when(channel.isWritable()).thenReturn(false);
+    write(createPacket(1, ResponseGuarantee.NORMAL));
+    write(createPacket(2, ResponseGuarantee.NORMAL));
+
+    when(channel.isWritable()).thenReturn(true);
+    write(createPacket(3, ResponseGuarantee.NORMAL));
+
+    assertEquals(List.of((byte) 1, (byte) 2, (byte) 3), writtenFrames);
+    assertEquals(0, outboundQueue.getSize());
+  }
+
+  @Test
+  @DisplayName("A full outbound queue drops the packet and reports it")
+  void testWriteDropsPacketWhenQueueIsFull() {
+    when(channel.isWritable()).thenReturn(false);
+    for (int i = 0; i < 10; i++) {
+      write(createPacket(i, ResponseGuarantee.GUARANTEED));
+    }
+
+    write(createPacket(10, ResponseGuarantee.GUARANTEED));
+
+    assertEquals(10, outboundQueue.getSize());
+    verify(session).addDroppedPackets(1);
+    verify(networkWriterStatistic).updateWrittenDroppedPacketsByFull(1);
+  }
+
+  @Test
+  @DisplayName("A nearly full outbound queue drops the packets with a low guarantee")
+  void testWriteDropsPacketViolatingPolicy() {
+    when(channel.isWritable()).thenReturn(false);
+    for (int i = 0; i < 8; i++) {
+      write(createPacket(i, ResponseGuarantee.GUARANTEED));
+    }
+
+    write(createPacket(8, ResponseGuarantee.NON_GUARANTEED));
+
+    assertEquals(8, outboundQueue.getSize());
+    verify(session).addDroppedPackets(1);
+    verify(networkWriterStatistic).updateWrittenDroppedPacketsByPolicy(1);
+  }
+
+  @Test
+  @DisplayName("The parked packets are written once the channel is writable again")
+  void testChannelWritabilityChangedWritesParkedPackets() {
+    when(channel.isWritable()).thenReturn(false);
+    write(createPacket(1, ResponseGuarantee.NORMAL));
+    write(createPacket(2, ResponseGuarantee.NORMAL));
+
+    var attributes = new DefaultAttributeMap();
+    attributes.attr(SessionManager.WEBSOCKET_SESSION_ATTRIBUTE).set(session);
+    when(channel.hasAttr(any())).thenAnswer(invocation -> attributes.hasAttr(invocation.getArgument(0)));
+    when(channel.attr(any())).thenAnswer(invocation -> attributes.attr(invocation.getArgument(0)));
+    when(channel.isWritable()).thenReturn(true);
+    ChannelHandlerContext ctx = mock(ChannelHandlerContext.class);
+    when(ctx.channel()).thenReturn(channel);
+
+    writer.channelWritabilityChanged(ctx);
+
+    assertEquals(List.of((byte) 1, (byte) 2), writtenFrames);
+    verify(ctx).fireChannelWritabilityChanged();
+  }
+
+  private void write(Packet packet) {
+    ByteBuf content = Unpooled.wrappedBuffer(packet.getData());
+    writer.write(session, packet, content);
+    content.release();
+  }
+
+  private Packet createPacket(int marker, ResponseGuarantee guarantee) {
+    var packet = PacketImpl.newInstance();
+    packet.setData(new byte[] {(byte) marker, 0, 0});
+    packet.setGuarantee(guarantee);
+    return packet;
+  }
+}
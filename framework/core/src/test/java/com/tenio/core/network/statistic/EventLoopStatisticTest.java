@@ -0,0 +1,94 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.statistic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class EventLoopStatisticTest {
+
+  @Test
+  void testChannelsCanBeIncreasedAndResynchronized() {
+    EventLoopStatistic stat = EventLoopStatistic.newInstance();
+    stat.increaseChannels();
+    stat.increaseChannels();
+    assertEquals(2, stat.getChannels());
+    stat.updateChannels(1);
+    assertEquals(1, stat.getChannels());
+  }
+
+  @Test
+  void testRecentValuesAreZeroBeforeTheFirstWindowEnds() {
+    EventLoopStatistic stat = EventLoopStatistic.newInstance();
+    stat.updateBusyTime(100L);
+    stat.updateReadBytes(100L);
+    assertEquals(0.0, stat.getUtilization());
+    assertEquals(0.0, stat.getRecentByteRate());
+    assertEquals(100L, stat.getReadBytes());
+  }
+
+  @Test
+  void testSampleCalculatesUtilizationAndByteRateOverTheWindow() {
+    EventLoopStatistic stat = EventLoopStatistic.newInstance();
+    stat.updateBusyTime(300L);
+    stat.updateIdleTime(100L);
+    stat.updateReadBytes(2048L);
+
+    long now = System.nanoTime() + 2 * EventLoopStatistic.SAMPLING_INTERVAL_IN_NANOSECONDS;
+    stat.sample(now);
+
+    assertEquals(0.75, stat.getUtilization(), 0.0001);
+    // 2048 bytes in a bit more than 2 seconds
+    assertTrue(stat.getRecentByteRate() > 900.0 && stat.getRecentByteRate() <= 1024.0);
+
+    // the next window has nothing recorded
+    stat.sample(now + EventLoopStatistic.SAMPLING_INTERVAL_IN_NANOSECONDS);
+    assertEquals(0.0, stat.getUtilization());
+    assertEquals(0.0, stat.getRecentByteRate());
+  }
+
+  @Test
+  void testSampleCalculatesPacketRateOverTheWindow() {
+    EventLoopStatistic stat = EventLoopStatistic.newInstance();
+    stat.updateReadPackets(200L);
+    assertEquals(200L, stat.getReadPackets());
+
+    long now = System.nanoTime() + 2 * EventLoopStatistic.SAMPLING_INTERVAL_IN_NANOSECONDS;
+    stat.sample(now);
+
+    // 200 packets in a bit more than 2 seconds
+    assertTrue(stat.getRecentPacketRate() > 90.0 && stat.getRecentPacketRate() <= 100.0);
+
+    stat.sample(now + EventLoopStatistic.SAMPLING_INTERVAL_IN_NANOSECONDS);
+    assertEquals(0.0, stat.getRecentPacketRate());
+  }
+
+  @Test
+  void testToStringContainsClassName() {
+    assertTrue(EventLoopStatistic.newInstance().toString().contains("EventLoopStatistic"));
+  }
+}
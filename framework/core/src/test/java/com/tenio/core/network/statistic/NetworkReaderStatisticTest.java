@@ -28,6 +28,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.tenio.core.monitoring.metric.Counter;
+import com.tenio.core.monitoring.metric.MetricRegistry;
 import org.junit.jupiter.api.Test;
 
 class NetworkReaderStatisticTest {
@@ -80,4 +82,16 @@ class NetworkReaderStatisticTest {
     assertNotNull(stat.toString());
     assertTrue(stat.toString().contains("NetworkReaderStatistic"));
   }
+
+  @Test
+  void testRegisteredMetricsReadTheCounters() {
+    NetworkReaderStatistic stat = NetworkReaderStatistic.newInstance();
+    MetricRegistry registry = MetricRegistry.newInstance();
+    stat.registerMetrics(registry);
+    stat.updateReadBytes(128L);
+
+    Counter counter = (Counter) registry.getMetric("tenio_network_read_bytes_total");
+    assertEquals(128L, counter.get());
+    assertEquals(3, registry.size());
+  }
 }
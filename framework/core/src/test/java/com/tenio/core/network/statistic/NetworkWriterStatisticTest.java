@@ -82,6 +82,26 @@ class NetworkWriterStatisticTest {
     assertEquals(15L, stat.getWrittenPackets());
   }
 
+  @Test
+  void testUpdatePartialWriteTimeTracksCountTotalAndMax() {
+    NetworkWriterStatistic stat = NetworkWriterStatistic.newInstance();
+    stat.updatePartialWriteTime(300L);
+    stat.updatePartialWriteTime(100L);
+    assertEquals(2L, stat.getWrittenPartialPackets());
+    assertEquals(400L, stat.getPartialWriteTime());
+    assertEquals(300L, stat.getMaxPartialWriteTime());
+  }
+
+  @Test
+  void testUpdateWrittenBundleTracksSavedDatagrams() {
+    NetworkWriterStatistic stat = NetworkWriterStatistic.newInstance();
+    stat.updateWrittenBundle(5L);
+    stat.updateWrittenBundle(3L);
+    assertEquals(2L, stat.getWrittenBundles());
+    assertEquals(8L, stat.getBundledPackets());
+    assertEquals(6L, stat.getSavedDatagrams());
+  }
+
   @Test
   void testToStringContainsClassName() {
     NetworkWriterStatistic stat = NetworkWriterStatistic.newInstance();
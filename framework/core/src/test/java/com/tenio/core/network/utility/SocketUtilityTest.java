@@ -34,10 +34,12 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.tenio.core.network.configuration.SocketTuning;
 import io.netty.channel.Channel;
 import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.net.StandardSocketOptions;
 import java.nio.ByteBuffer;
 import java.nio.channels.DatagramChannel;
 import java.nio.channels.SelectionKey;
@@ -133,6 +135,36 @@ class SocketUtilityTest {
     verify(serverSocketChannel).close();
   }
 
+  @Test
+  @DisplayName("applySocketTuning sets the TCP options on a socket channel")
+  void testApplySocketTuningOnSocketChannel() throws IOException {
+    try (SocketChannel socketChannel = SocketChannel.open()) {
+      SocketUtility.applySocketTuning(socketChannel,
+          new SocketTuning(true, true, 64 * 1024, 64 * 1024, 128, 0, SocketTuning.UNSET));
+
+      assertTrue(socketChannel.getOption(StandardSocketOptions.TCP_NODELAY));
+      assertTrue(socketChannel.getOption(StandardSocketOptions.SO_KEEPALIVE));
+      assertEquals(0, (int) socketChannel.getOption(StandardSocketOptions.SO_LINGER));
+      assertTrue(SocketUtility.describeSocketTuning(socketChannel).contains("TCP_NODELAY=true"));
+    }
+  }
+
+  @Test
+  @DisplayName("applySocketTuning only sets the options supported by the channel")
+  void testApplySocketTuningSkipsUnsupportedOptions() throws IOException {
+    var tuning = new SocketTuning(true, true, 64 * 1024, 64 * 1024, 128, 0, SocketTuning.UNSET);
+    try (ServerSocketChannel serverSocketChannel = ServerSocketChannel.open();
+         DatagramChannel datagramChannel = DatagramChannel.open()) {
+      SocketUtility.applySocketTuning(serverSocketChannel, tuning);
+      SocketUtility.applySocketTuning(datagramChannel, tuning);
+
+      assertFalse(SocketUtility.describeSocketTuning(serverSocketChannel).contains("TCP_NODELAY"));
+      assertTrue(SocketUtility.describeSocketTuning(serverSocketChannel).contains("SO_RCVBUF"));
+      assertFalse(SocketUtility.describeSocketTuning(datagramChannel).contains("SO_LINGER"));
+      assertTrue(SocketUtility.describeSocketTuning(datagramChannel).contains("SO_SNDBUF"));
+    }
+  }
+
   @Test
   @DisplayName("SocketUtility constructor throws UnsupportedOperationException via reflection")
   void testConstructorThrowsUnsupportedOperation() throws Exception {
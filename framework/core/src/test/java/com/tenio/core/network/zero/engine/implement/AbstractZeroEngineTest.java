@@ -35,6 +35,9 @@ import com.tenio.core.event.implement.EventManager;
 import com.tenio.core.network.entity.session.manager.SessionManager;
 import com.tenio.core.network.zero.handler.DatagramIoHandler;
 import com.tenio.core.network.zero.handler.SocketIoHandler;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -178,6 +181,42 @@ class AbstractZeroEngineTest {
     minimalEngine.shutdown();
   }
 
+  @Test
+  @DisplayName("start() with event loop enabled runs the workers on platform threads")
+  void testStartWithEventLoopRunsOnPlatformThreads() throws InterruptedException {
+    AtomicBoolean virtual = new AtomicBoolean(true);
+    CountDownLatch running = new CountDownLatch(1);
+    AbstractZeroEngine eventLoopEngine = new AbstractZeroEngine(mock(EventManager.class)) {
+      @Override
+      public void onInitialized() {}
+
+      @Override
+      public void onStarted() {}
+
+      @Override
+      public void onRunning() {
+        virtual.set(Thread.currentThread().isVirtual());
+        running.countDown();
+      }
+
+      @Override
+      public void onShutdown() {}
+
+      @Override
+      public void onDestroyed() {}
+    };
+    eventLoopEngine.setName("event-loop-engine");
+    eventLoopEngine.setThreadPoolSize(1);
+    eventLoopEngine.setEventLoopEnabled(true);
+    assertTrue(eventLoopEngine.isEventLoopEnabled());
+    eventLoopEngine.initialize();
+    eventLoopEngine.start();
+
+    assertTrue(running.await(2, TimeUnit.SECONDS));
+    assertFalse(virtual.get());
+    eventLoopEngine.shutdown();
+  }
+
   @Test
   @DisplayName("run(Runnable, String) executes extra worker task when within limit")
   void testRunWithExtraWorkerExecutesTask() throws InterruptedException {
@@ -27,10 +27,12 @@ package com.tenio.core.network.zero.engine.implement;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -39,11 +41,14 @@ import com.tenio.core.network.codec.decoder.BinaryPacketDecoder;
 import java.io.IOException;
 import org.mockito.MockedConstruction;
 import com.tenio.core.network.configuration.SocketConfiguration;
+import com.tenio.core.network.define.SocketReaderAssignment;
 import com.tenio.core.network.define.TransportType;
 import com.tenio.core.network.entity.session.manager.SessionManager;
+import com.tenio.core.network.statistic.EventLoopStatistic;
 import com.tenio.core.network.statistic.NetworkReaderStatistic;
 import com.tenio.core.network.zero.engine.ZeroReader;
 import com.tenio.core.network.zero.engine.listener.ZeroReaderListener;
+import com.tenio.core.network.zero.engine.listener.ZeroWriterListener;
 import com.tenio.core.network.zero.engine.reader.DatagramReaderHandler;
 import com.tenio.core.network.zero.engine.reader.SocketReaderHandler;
 import com.tenio.core.network.zero.engine.reader.policy.DatagramPacketPolicy;
@@ -100,10 +105,33 @@ class ZeroReaderImplTest {
   }
 
   @Test
-  @DisplayName("getNumberOfExtraWorkers returns 2 after UDP config is set (configuration.example.xml)")
-  void testGetNumberOfExtraWorkersReturnsOneWithUdpConfig() {
-    reader.setUdpChannelConfiguration(new SocketConfiguration("udp", TransportType.UDP, 8081, 4));
-    assertEquals(2, ((AbstractZeroEngine) reader).getNumberOfExtraWorkers());
+  @DisplayName("getNumberOfExtraWorkers returns one lane for each UDP channel")
+  void testGetNumberOfExtraWorkersReturnsOneLaneForEachUdpChannel() {
+    reader.setUdpChannelConfiguration(new SocketConfiguration("udp", TransportType.UDP, 8081, 3));
+    assertEquals(3, ((AbstractZeroEngine) reader).getNumberOfExtraWorkers());
+  }
+
+  @Test
+  @DisplayName("getNumberOfExtraWorkers always leaves one worker for the socket readers")
+  void testGetNumberOfExtraWorkersLeavesOneWorkerForSocketReaders() {
+    reader.setUdpChannelConfiguration(new SocketConfiguration("udp", TransportType.UDP, 8081, 10));
+    assertEquals(4, ((AbstractZeroEngine) reader).getNumberOfExtraWorkers());
+    reader.setThreadPoolSize(1);
+    assertEquals(0, ((AbstractZeroEngine) reader).getNumberOfExtraWorkers());
+  }
+
+  @Test
+  @DisplayName("getDatagramEventLoopStatistics returns one statistic for each running lane")
+  void testGetDatagramEventLoopStatisticsReturnsOneForEachLane() throws Exception {
+    DatagramReaderHandler lane = mock(DatagramReaderHandler.class);
+    EventLoopStatistic statistic = EventLoopStatistic.newInstance();
+    when(lane.getEventLoopStatistic()).thenReturn(statistic);
+
+    Field datagramField = ZeroReaderImpl.class.getDeclaredField("datagramReaderHandlers");
+    datagramField.setAccessible(true);
+    datagramField.set(reader, List.of(lane));
+
+    assertEquals(List.of(statistic), reader.getDatagramEventLoopStatistics());
   }
 
   @Test
@@ -273,7 +301,8 @@ class ZeroReaderImplTest {
     // Create a real SocketReaderHandler and populate the list
     SocketReaderHandler socketReaderHandler = new SocketReaderHandler(
         ByteBuffer.allocate(256), mock(SessionManager.class),
-        mock(NetworkReaderStatistic.class), mock(SocketIoHandler.class));
+        mock(NetworkReaderStatistic.class), mock(SocketIoHandler.class),
+        mock(ZeroWriterListener.class));
 
     Field socketReadersField = ZeroReaderImpl.class.getDeclaredField("socketReaderHandlers");
     socketReadersField.setAccessible(true);
@@ -292,6 +321,69 @@ class ZeroReaderImplTest {
     }
   }
 
+  @Test
+  @DisplayName("acceptClientSocketChannel picks the reader having the fewest channels")
+  void testAcceptClientSocketChannelPicksLeastChannelsReader() throws Exception {
+    reader.setSocketReaderAssignment(SocketReaderAssignment.LEAST_CHANNELS);
+    List<SocketReaderHandler> handlers = mockSocketReaderHandlers(new int[] {3, 1, 2},
+        new double[] {0.0, 0.0, 0.0});
+
+    SocketChannel channel = mock(SocketChannel.class);
+    ((ZeroReaderListener) reader).acceptClientSocketChannel(channel, mock(Consumer.class),
+        mock(Runnable.class));
+
+    verify(handlers.get(1)).registerClientSocketChannel(any(), any(), any());
+    verify(handlers.get(0), never()).registerClientSocketChannel(any(), any(), any());
+    verify(handlers.get(2), never()).registerClientSocketChannel(any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("acceptClientSocketChannel picks the reader having the lowest recent byte rate")
+  void testAcceptClientSocketChannelPicksLeastByteRateReader() throws Exception {
+    reader.setSocketReaderAssignment(SocketReaderAssignment.LEAST_BYTE_RATE);
+    List<SocketReaderHandler> handlers = mockSocketReaderHandlers(new int[] {1, 5, 5},
+        new double[] {4096.0, 1024.0, 1024.0 * 1024});
+
+    SocketChannel channel = mock(SocketChannel.class);
+    ((ZeroReaderListener) reader).acceptClientSocketChannel(channel, mock(Consumer.class),
+        mock(Runnable.class));
+
+    verify(handlers.get(1)).registerClientSocketChannel(any(), any(), any());
+    verify(handlers.get(0), never()).registerClientSocketChannel(any(), any(), any());
+    verify(handlers.get(2), never()).registerClientSocketChannel(any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("getEventLoopStatistics returns one statistic for each socket reader")
+  void testGetEventLoopStatisticsReturnsOnePerReader() throws Exception {
+    List<SocketReaderHandler> handlers = mockSocketReaderHandlers(new int[] {0, 0},
+        new double[] {0.0, 0.0});
+
+    List<EventLoopStatistic> statistics = reader.getEventLoopStatistics();
+
+    assertEquals(2, statistics.size());
+    assertEquals(handlers.get(0).getEventLoopStatistic(), statistics.get(0));
+    assertEquals(handlers.get(1).getEventLoopStatistic(), statistics.get(1));
+  }
+
+  private List<SocketReaderHandler> mockSocketReaderHandlers(int[] channels, double[] byteRates)
+      throws Exception {
+    List<SocketReaderHandler> handlers = new ArrayList<>();
+    for (int i = 0; i < channels.length; i++) {
+      EventLoopStatistic statistic = mock(EventLoopStatistic.class);
+      when(statistic.getChannels()).thenReturn(channels[i]);
+      when(statistic.getRecentByteRate()).thenReturn(byteRates[i]);
+      SocketReaderHandler handler = mock(SocketReaderHandler.class);
+      when(handler.getEventLoopStatistic()).thenReturn(statistic);
+      handlers.add(handler);
+    }
+
+    Field socketReadersField = ZeroReaderImpl.class.getDeclaredField("socketReaderHandlers");
+    socketReadersField.setAccessible(true);
+    socketReadersField.set(reader, handlers);
+    return handlers;
+  }
+
   @Test
   @DisplayName("onRunning catches IOException thrown by socketReaderHandler.running()")
   void testOnRunningCatchesIOExceptionFromSocketReaderHandler() throws Exception {
@@ -45,7 +45,11 @@ import com.tenio.core.network.entity.outbound.packet.Packet;
 import com.tenio.core.network.entity.session.Session;
 import com.tenio.core.network.statistic.NetworkWriterStatistic;
 import com.tenio.core.network.zero.engine.ZeroWriter;
+import com.tenio.core.network.zero.engine.listener.ZeroWriterListener;
+import com.tenio.core.network.zero.engine.manager.SessionTicketsQueueManager;
 import com.tenio.core.network.zero.engine.writer.WriterHandler;
+import com.tenio.core.network.zero.engine.writer.implement.DatagramWriterHandler;
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.List;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -144,6 +148,24 @@ class ZeroWriterImplTest {
     writer.shutdown();
   }
 
+  @Test
+  @DisplayName("continueWriting puts the session back to its tickets queue")
+  void testContinueWritingPutsSessionBackToTicketsQueue() throws Exception {
+    writer.initialize();
+
+    Session session = mock(Session.class);
+    when(session.getId()).thenReturn(0L);
+
+    ((ZeroWriterListener) writer).continueWriting(session);
+
+    Field field = ZeroWriterImpl.class.getDeclaredField("sessionTicketsQueueManager");
+    field.setAccessible(true);
+    var sessionTicketsQueueManager = (SessionTicketsQueueManager) field.get(writer);
+    assertEquals(session, sessionTicketsQueueManager.getQueueByElementId(0L).peek());
+
+    writer.shutdown();
+  }
+
   @Test
   @DisplayName("enqueuePacket with multiple recipients deep-copies the packet per session")
   void testEnqueuePacketWithMultipleRecipientsDeepCopiesPacket() {
@@ -359,7 +381,8 @@ class ZeroWriterImplTest {
   void testWritingWithQueuedSessionProcessesWithoutThrowing() throws Exception {
     writer.initialize();
     Method m = ZeroWriterImpl.class.getDeclaredMethod(
-        "writing", java.util.concurrent.BlockingQueue.class, WriterHandler.class, WriterHandler.class);
+        "writing", java.util.concurrent.BlockingQueue.class, WriterHandler.class,
+        DatagramWriterHandler.class);
     m.setAccessible(true);
 
     Session session = mock(Session.class);
@@ -368,7 +391,7 @@ class ZeroWriterImplTest {
     queue.add(session);
 
     WriterHandler socketHandler = mock(WriterHandler.class);
-    WriterHandler datagramHandler = mock(WriterHandler.class);
+    DatagramWriterHandler datagramHandler = mock(DatagramWriterHandler.class);
 
     assertDoesNotThrow(() -> m.invoke(writer, queue, socketHandler, datagramHandler));
     writer.shutdown();
@@ -410,14 +433,15 @@ class ZeroWriterImplTest {
   void testWritingCatchesThrowableFromTake() throws Exception {
     writer.initialize();
     Method m = ZeroWriterImpl.class.getDeclaredMethod(
-        "writing", BlockingQueue.class, WriterHandler.class, WriterHandler.class);
+        "writing", BlockingQueue.class, WriterHandler.class, DatagramWriterHandler.class);
     m.setAccessible(true);
 
     @SuppressWarnings("unchecked")
     BlockingQueue<Session> mockQueue = mock(BlockingQueue.class);
     when(mockQueue.take()).thenThrow(new RuntimeException("test error"));
 
-    assertDoesNotThrow(() -> m.invoke(writer, mockQueue, mock(WriterHandler.class), mock(WriterHandler.class)));
+    assertDoesNotThrow(() -> m.invoke(writer, mockQueue, mock(WriterHandler.class),
+        mock(DatagramWriterHandler.class)));
     writer.shutdown();
   }
 }
@@ -0,0 +1,183 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.zero.engine.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.tenio.core.network.configuration.ReliableDatagramConfiguration;
+import com.tenio.core.network.entity.session.Session;
+import com.tenio.core.network.zero.engine.reliable.DatagramLossSimulator;
+import com.tenio.core.network.zero.engine.reliable.ReliableChannel;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For ReliableDatagramManager")
+class ReliableDatagramManagerTest {
+
+  private static final int CONVEY_ID = 3;
+  private static final int CONTENTS = 200;
+
+  private ReliableDatagramManager manager;
+  private DatagramChannel serverChannel;
+  private DatagramChannel clientChannel;
+  private Session session;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    serverChannel = DatagramChannel.open().bind(new InetSocketAddress("127.0.0.1", 0));
+    serverChannel.configureBlocking(false);
+    clientChannel = DatagramChannel.open().bind(new InetSocketAddress("127.0.0.1", 0));
+    clientChannel.configureBlocking(false);
+
+    session = mock(Session.class);
+    when(session.getUdpConveyId()).thenReturn(CONVEY_ID);
+    when(session.isActivated()).thenReturn(true);
+    when(session.fetchDatagramChannel()).thenReturn(serverChannel);
+    when(session.getDatagramRemoteAddress()).thenReturn(clientChannel.getLocalAddress());
+
+    manager = ReliableDatagramManager.newInstance(ReliableDatagramConfiguration.getDefault());
+    // 20% of the server's segments are lost over loopback, the others are delayed and reordered
+    manager.setDatagramLossSimulator(DatagramLossSimulator.newInstance(0.2, 5, 10, 11L));
+    manager.start();
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    manager.shutdown();
+    serverChannel.close();
+    clientChannel.close();
+  }
+
+  @Test
+  @DisplayName("Contents sent to a session arrive in order over a lossy loopback link")
+  void testServerToClientOverLossyLoopback() throws IOException {
+    var received = new ArrayList<byte[]>();
+    var client = new ReliableChannel(CONVEY_ID, ReliableDatagramConfiguration.getDefault(),
+        this::sendToServer);
+
+    for (int i = 0; i < CONTENTS; i++) {
+      manager.send(session, new byte[] {(byte) (i >> 8), (byte) i}, true);
+    }
+
+    long deadline = now() + 10000;
+    while (received.size() < CONTENTS && now() < deadline) {
+      pump(client, received::add, content -> {
+      });
+    }
+
+    assertEquals(CONTENTS, received.size());
+    for (int i = 0; i < CONTENTS; i++) {
+      assertEquals(i, ((received.get(i)[0] & 0xFF) << 8) | (received.get(i)[1] & 0xFF));
+    }
+    assertNotNull(manager.getChannel(CONVEY_ID));
+    assertEquals(1, manager.getChannelCount());
+  }
+
+  @Test
+  @DisplayName("Contents sent by a client are delivered in order once")
+  void testClientToServerOverLoopback() throws IOException {
+    var delivered = new ArrayList<byte[]>();
+    var client = new ReliableChannel(CONVEY_ID, ReliableDatagramConfiguration.getDefault(),
+        this::sendToServer);
+
+    for (int i = 0; i < CONTENTS; i++) {
+      client.send(new byte[] {(byte) (i >> 8), (byte) i}, true);
+    }
+
+    long deadline = now() + 10000;
+    while ((delivered.size() < CONTENTS || client.getPendingSegments() > 0) && now() < deadline) {
+      pump(client, content -> {
+      }, delivered::add);
+    }
+
+    assertEquals(CONTENTS, delivered.size());
+    for (int i = 0; i < CONTENTS; i++) {
+      assertEquals(i, ((delivered.get(i)[0] & 0xFF) << 8) | (delivered.get(i)[1] & 0xFF));
+    }
+  }
+
+  @Test
+  @DisplayName("The control block of an inactivated session is removed")
+  void testInactivatedSessionIsRemoved() {
+    manager.send(session, new byte[] {1}, true);
+    assertEquals(1, manager.getChannelCount());
+
+    when(session.isActivated()).thenReturn(false);
+    manager.update(now());
+
+    assertEquals(0, manager.getChannelCount());
+    assertNull(manager.getChannel(CONVEY_ID));
+  }
+
+  private void pump(ReliableChannel client, Consumer<byte[]> clientReceiver,
+                    Consumer<byte[]> serverReceiver) throws IOException {
+    var buffer = ByteBuffer.allocate(2048);
+    while (clientChannel.receive(buffer) != null) {
+      client.input(drain(buffer), now(), clientReceiver);
+    }
+    while (serverChannel.receive(buffer) != null) {
+      manager.input(session, drain(buffer), serverReceiver);
+    }
+    client.flush(now());
+    try {
+      TimeUnit.MILLISECONDS.sleep(1);
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void sendToServer(byte[] datagram) {
+    try {
+      clientChannel.send(ByteBuffer.wrap(datagram), serverChannel.getLocalAddress());
+    } catch (IOException exception) {
+      throw new IllegalStateException(exception);
+    }
+  }
+
+  private static byte[] drain(ByteBuffer buffer) {
+    buffer.flip();
+    byte[] datagram = new byte[buffer.remaining()];
+    buffer.get(datagram);
+    buffer.clear();
+    return datagram;
+  }
+
+  private static long now() {
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+  }
+}
@@ -25,6 +25,7 @@ THE SOFTWARE.
 package com.tenio.core.network.zero.engine.reader;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -37,6 +38,7 @@ import static org.mockito.Mockito.when;
 
 import com.tenio.common.data.DataCollection;
 import com.tenio.core.network.codec.decoder.BinaryPacketDecoder;
+import com.tenio.core.network.codec.packet.PacketHeader;
 import com.tenio.core.network.entity.session.Session;
 import com.tenio.core.network.entity.session.manager.SessionManager;
 import com.tenio.core.network.statistic.NetworkReaderStatistic;
@@ -130,7 +132,7 @@ class DatagramReaderHandlerTest {
     NetworkReaderStatistic statistic = mock(NetworkReaderStatistic.class);
     DataCollection dataCollection = mock(DataCollection.class);
 
-    when(decoder.decode(any(byte[].class))).thenReturn(dataCollection);
+    when(decoder.decode(any(PacketHeader.class), any(byte[].class))).thenReturn(dataCollection);
     when(policy.applyPolicy(dataCollection)).thenReturn(Pair.of(0, dataCollection));
     when(sessionManager.getSessionByDatagram(0)).thenReturn(null);
 
@@ -163,7 +165,7 @@ class DatagramReaderHandlerTest {
       DatagramPacketPolicy policy, SessionManager sessionManager,
       BinaryPacketDecoder decoder, NetworkReaderStatistic statistic,
       DataCollection dataCollection, int conveyId) throws Exception {
-    when(decoder.decode(any(byte[].class))).thenReturn(dataCollection);
+    when(decoder.decode(any(PacketHeader.class), any(byte[].class))).thenReturn(dataCollection);
     when(policy.applyPolicy(dataCollection)).thenReturn(Pair.of(conveyId, dataCollection));
     DatagramReaderHandler udpHandler = new DatagramReaderHandler(
         ByteBuffer.allocate(512), sessionManager, decoder, statistic, ioHandler, policy);
@@ -237,6 +239,34 @@ class DatagramReaderHandlerTest {
     udpHandler.shutdown();
   }
 
+  @Test
+  @DisplayName("running() decodes the datagram inline and counts it on the lane statistic")
+  void testRunningDecodesInlineAndUpdatesLaneStatistic() throws Exception {
+    DatagramIoHandler ioHandler = mock(DatagramIoHandler.class);
+    DatagramPacketPolicy policy = mock(DatagramPacketPolicy.class);
+    SessionManager sessionManager = mock(SessionManager.class);
+    BinaryPacketDecoder decoder = mock(BinaryPacketDecoder.class);
+    DataCollection dataCollection = mock(DataCollection.class);
+
+    DatagramReaderHandler udpHandler = createUdpHandler(ioHandler, policy, sessionManager,
+        decoder, mock(NetworkReaderStatistic.class), dataCollection, 0);
+    assertEquals(1, udpHandler.getEventLoopStatistic().getChannels());
+
+    int port = getUdpPort(udpHandler);
+    DatagramChannel sender = DatagramChannel.open();
+    sender.send(ByteBuffer.wrap(new byte[]{1, 2, 3}), new InetSocketAddress("127.0.0.1", port));
+    sender.close();
+
+    udpHandler.running();
+
+    // the header byte is consumed in place, only the body reaches the decoder
+    verify(decoder).decode(any(PacketHeader.class), eq(new byte[]{2, 3}));
+    verify(ioHandler).channelRead(any(), any(), eq(dataCollection));
+    assertEquals(1L, udpHandler.getEventLoopStatistic().getReadPackets());
+    assertEquals(3L, udpHandler.getEventLoopStatistic().getReadBytes());
+    udpHandler.shutdown();
+  }
+
   @Test
   @DisplayName("readUpdData with Exception from receive calls channelException")
   void testReadUpdDataWithExceptionFromReceiveCallsChannelException() throws Exception {
@@ -25,6 +25,7 @@ THE SOFTWARE.
 package com.tenio.core.network.zero.engine.reader;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -38,6 +39,7 @@ import static org.mockito.Mockito.when;
 import com.tenio.core.network.entity.session.Session;
 import com.tenio.core.network.entity.session.manager.SessionManager;
 import com.tenio.core.network.statistic.NetworkReaderStatistic;
+import com.tenio.core.network.zero.engine.listener.ZeroWriterListener;
 import com.tenio.core.network.zero.handler.SocketIoHandler;
 import java.io.IOException;
 import java.net.InetSocketAddress;
@@ -46,6 +48,7 @@ import java.nio.channels.SelectionKey;
 import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -64,7 +67,8 @@ class SocketReaderHandlerTest {
         ByteBuffer.allocate(512),
         mock(SessionManager.class),
         mock(NetworkReaderStatistic.class),
-        socketIoHandler
+        socketIoHandler,
+        mock(ZeroWriterListener.class)
     );
   }
 
@@ -125,7 +129,8 @@ class SocketReaderHandlerTest {
     NetworkReaderStatistic statistic = mock(NetworkReaderStatistic.class);
     SocketIoHandler ioHandler = mock(SocketIoHandler.class);
     SocketReaderHandler h = new SocketReaderHandler(
-        ByteBuffer.allocate(512), sessionManager, statistic, ioHandler);
+        ByteBuffer.allocate(512), sessionManager, statistic, ioHandler,
+        mock(ZeroWriterListener.class));
 
     ServerSocketChannel serverSocketChannel = ServerSocketChannel.open();
     serverSocketChannel.bind(new InetSocketAddress("127.0.0.1", 0));
@@ -153,6 +158,44 @@ class SocketReaderHandlerTest {
     h.shutdown();
   }
 
+  @Test
+  @DisplayName("running() routes a writable channel back to the writer and drops OP_WRITE interest")
+  void testRunningRoutesWritableChannelToWriter() throws Exception {
+    SessionManager sessionManager = mock(SessionManager.class);
+    NetworkReaderStatistic statistic = mock(NetworkReaderStatistic.class);
+    SocketIoHandler ioHandler = mock(SocketIoHandler.class);
+    ZeroWriterListener writerListener = mock(ZeroWriterListener.class);
+    SocketReaderHandler h = new SocketReaderHandler(
+        ByteBuffer.allocate(512), sessionManager, statistic, ioHandler, writerListener);
+
+    ServerSocketChannel serverSocketChannel = ServerSocketChannel.open();
+    serverSocketChannel.bind(new InetSocketAddress("127.0.0.1", 0));
+    int port = ((InetSocketAddress) serverSocketChannel.getLocalAddress()).getPort();
+
+    SocketChannel clientChannel = SocketChannel.open(new InetSocketAddress("127.0.0.1", port));
+    SocketChannel serverChannel = serverSocketChannel.accept();
+    serverSocketChannel.close();
+    serverChannel.configureBlocking(false);
+
+    Session session = mock(Session.class);
+    when(sessionManager.getSessionBySocket(serverChannel)).thenReturn(session);
+    when(session.isActivated()).thenReturn(true);
+
+    AtomicReference<SelectionKey> selectionKey = new AtomicReference<>();
+    h.registerClientSocketChannel(serverChannel, selectionKey::set, () -> {});
+    h.running(); // processes pending channel, registers it for OP_READ
+
+    // the writer asks for OP_WRITE after a partial write, an empty socket is writable at once
+    selectionKey.get().interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+    h.running();
+
+    verify(writerListener).continueWriting(session);
+    assertEquals(SelectionKey.OP_READ, selectionKey.get().interestOps());
+    clientChannel.close();
+    serverChannel.close();
+    h.shutdown();
+  }
+
   @Test
   @DisplayName("running() with closed channel on pending queue invokes onFailed")
   void testRunningWithClosedPendingChannelInvokesOnFailed() throws Exception {
@@ -175,7 +218,8 @@ class SocketReaderHandlerTest {
     NetworkReaderStatistic statistic = mock(NetworkReaderStatistic.class);
     SocketIoHandler ioHandler = mock(SocketIoHandler.class);
     SocketReaderHandler h = new SocketReaderHandler(
-        ByteBuffer.allocate(512), sessionManager, statistic, ioHandler);
+        ByteBuffer.allocate(512), sessionManager, statistic, ioHandler,
+        mock(ZeroWriterListener.class));
 
     ServerSocketChannel serverSocketChannel = ServerSocketChannel.open();
     serverSocketChannel.bind(new InetSocketAddress("127.0.0.1", 0));
@@ -207,7 +251,8 @@ class SocketReaderHandlerTest {
     NetworkReaderStatistic statistic = mock(NetworkReaderStatistic.class);
     SocketIoHandler ioHandler = mock(SocketIoHandler.class);
     SocketReaderHandler h = new SocketReaderHandler(
-        ByteBuffer.allocate(512), sessionManager, statistic, ioHandler);
+        ByteBuffer.allocate(512), sessionManager, statistic, ioHandler,
+        mock(ZeroWriterListener.class));
 
     ServerSocketChannel serverSocketChannel = ServerSocketChannel.open();
     serverSocketChannel.bind(new InetSocketAddress("127.0.0.1", 0));
@@ -241,7 +286,8 @@ class SocketReaderHandlerTest {
     NetworkReaderStatistic statistic = mock(NetworkReaderStatistic.class);
     SocketIoHandler ioHandler = mock(SocketIoHandler.class);
     SocketReaderHandler h = new SocketReaderHandler(
-        ByteBuffer.allocate(512), sessionManager, statistic, ioHandler);
+        ByteBuffer.allocate(512), sessionManager, statistic, ioHandler,
+        mock(ZeroWriterListener.class));
 
     ServerSocketChannel serverSocketChannel = ServerSocketChannel.open();
     serverSocketChannel.bind(new InetSocketAddress("127.0.0.1", 0));
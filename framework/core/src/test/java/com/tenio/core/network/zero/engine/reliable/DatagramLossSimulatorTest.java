@@ -0,0 +1,108 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.zero.engine.reliable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For DatagramLossSimulator")
+class DatagramLossSimulatorTest {
+
+  @Test
+  @DisplayName("Datagrams pass at once without loss, latency or jitter")
+  void testPassThrough() {
+    var simulator = DatagramLossSimulator.newInstance(0, 0, 0, 1L);
+    var received = new ArrayList<byte[]>();
+
+    simulator.offer(new byte[] {1}, received::add, 0);
+
+    assertEquals(1, received.size());
+    assertEquals(0, simulator.getDelayedDatagrams());
+  }
+
+  @Test
+  @DisplayName("Datagrams are released after the latency")
+  void testLatency() {
+    var simulator = DatagramLossSimulator.newInstance(0, 50, 0, 1L);
+    var received = new ArrayList<byte[]>();
+
+    simulator.offer(new byte[] {1}, received::add, 100);
+    simulator.flush(149);
+    assertEquals(0, received.size());
+
+    simulator.flush(150);
+    assertEquals(1, received.size());
+  }
+
+  @Test
+  @DisplayName("The drop rate follows the loss rate")
+  void testLossRate() {
+    var simulator = DatagramLossSimulator.newInstance(0.3, 0, 0, 42L);
+    var received = new ArrayList<byte[]>();
+
+    for (int i = 0; i < 10000; i++) {
+      simulator.offer(new byte[] {1}, received::add, 0);
+    }
+
+    assertEquals(10000, received.size() + simulator.getDroppedDatagrams());
+    assertTrue(simulator.getDroppedDatagrams() > 2700 && simulator.getDroppedDatagrams() < 3300);
+  }
+
+  @Test
+  @DisplayName("Jitter reorders datagrams but never drops them")
+  void testJitterReorders() {
+    var simulator = DatagramLossSimulator.newInstance(0, 10, 40, 7L);
+    var received = new ArrayList<byte[]>();
+
+    for (int i = 0; i < 100; i++) {
+      simulator.offer(new byte[] {(byte) i}, received::add, i);
+    }
+    simulator.flush(1000);
+
+    assertEquals(100, received.size());
+    boolean reordered = false;
+    for (int i = 1; i < received.size(); i++) {
+      if (received.get(i)[0] < received.get(i - 1)[0]) {
+        reordered = true;
+        break;
+      }
+    }
+    assertTrue(reordered);
+  }
+
+  @Test
+  @DisplayName("Invalid settings are refused")
+  void testInvalidSettings() {
+    assertThrows(IllegalArgumentException.class,
+        () -> DatagramLossSimulator.newInstance(1, 0, 0, 1L));
+    assertThrows(IllegalArgumentException.class,
+        () -> DatagramLossSimulator.newInstance(0, -1, 0, 1L));
+  }
+}
@@ -0,0 +1,380 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.zero.engine.reliable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tenio.core.network.configuration.ReliableDatagramConfiguration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For ReliableChannel")
+class ReliableChannelTest {
+
+  private static final int CONVEY_ID = 7;
+  private static final ReliableDatagramConfiguration CONFIGURATION =
+      ReliableDatagramConfiguration.getDefault();
+
+  @Test
+  @DisplayName("Contents are delivered once and in order over a lossless link")
+  void testLosslessOrderedDelivery() {
+    var link = new Link(DatagramLossSimulator.newInstance(0, 5, 0, 1L),
+        DatagramLossSimulator.newInstance(0, 5, 0, 2L));
+    for (int i = 0; i < 100; i++) {
+      link.sender.send(new byte[] {(byte) i}, true);
+    }
+
+    link.runUntil(() -> link.received.size() == 100 && link.sender.getPendingSegments() == 0,
+        5000);
+
+    assertEquals(100, link.received.size());
+    for (int i = 0; i < 100; i++) {
+      assertEquals((byte) i, link.received.get(i)[0]);
+    }
+    assertEquals(0, link.sender.getRetransmittedSegments());
+    assertEquals(0, link.sender.getPendingSegments());
+  }
+
+  @Test
+  @DisplayName("Contents survive a lossy, jittery link and keep their order")
+  void testLossyOrderedDelivery() {
+    var link = new Link(DatagramLossSimulator.newInstance(0.2, 20, 15, 3L),
+        DatagramLossSimulator.newInstance(0.2, 20, 15, 4L));
+    for (int i = 0; i < 500; i++) {
+      link.sender.send(new byte[] {(byte) (i >> 8), (byte) i}, true);
+    }
+
+    link.runUntil(() -> link.received.size() == 500, 60000);
+
+    assertEquals(500, link.received.size());
+    for (int i = 0; i < 500; i++) {
+      assertEquals(i, ((link.received.get(i)[0] & 0xFF) << 8) | (link.received.get(i)[1] & 0xFF));
+    }
+    assertTrue(link.sender.getRetransmittedSegments() > 0);
+    assertFalse(link.sender.isDead());
+  }
+
+  @Test
+  @DisplayName("Unordered contents are delivered without waiting for a lost one")
+  void testUnorderedDeliveryIsNotBlocked() {
+    var link = new Link(null, null);
+    link.dropFromSender = datagram -> datagram.length > ReliableChannel.HEADER_SIZE &&
+        datagram[ReliableChannel.HEADER_SIZE] == 0 && link.droppedOnce++ == 0;
+    for (int i = 0; i < 4; i++) {
+      link.sender.send(new byte[] {(byte) i}, false);
+    }
+
+    link.step();
+
+    // the first one was lost, the others arrive at once
+    assertEquals(3, link.received.size());
+    assertEquals(1, link.received.get(0)[0]);
+
+    link.runUntil(() -> link.received.size() == 4, 5000);
+    assertEquals(0, link.received.get(3)[0]);
+  }
+
+  @Test
+  @DisplayName("Ordered contents wait for a lost one and are never duplicated")
+  void testOrderedDeliveryWaitsForRetransmission() {
+    var link = new Link(null, null);
+    link.dropFromSender = datagram -> datagram.length > ReliableChannel.HEADER_SIZE &&
+        datagram[ReliableChannel.HEADER_SIZE] == 0 && link.droppedOnce++ == 0;
+    for (int i = 0; i < 4; i++) {
+      link.sender.send(new byte[] {(byte) i}, true);
+    }
+
+    link.step();
+    assertEquals(0, link.received.size());
+
+    link.runUntil(() -> link.received.size() == 4, 5000);
+    link.run(1000);
+
+    assertEquals(4, link.received.size());
+    for (int i = 0; i < 4; i++) {
+      assertEquals((byte) i, link.received.get(i)[0]);
+    }
+  }
+
+  @Test
+  @DisplayName("A segment skipped by later acknowledgements is retransmitted before its timeout")
+  void testFastRetransmission() {
+    var link = new Link(null, null);
+    link.dropFromSender = datagram -> datagram.length > ReliableChannel.HEADER_SIZE &&
+        datagram[ReliableChannel.HEADER_SIZE] == 0 && link.droppedOnce++ == 0;
+    var configuration = new ReliableDatagramConfiguration(10, 1000, 2, 128, 128, false, 20, 1024);
+    link.reset(configuration);
+
+    link.sender.send(new byte[] {0}, true);
+    link.step();
+    for (int i = 1; i < 4; i++) {
+      link.sender.send(new byte[] {(byte) i}, true);
+      link.step();
+    }
+    link.step();
+
+    assertTrue(link.sender.getFastRetransmittedSegments() > 0);
+    // delivered long before the 1 second timeout
+    assertEquals(4, link.received.size());
+    assertTrue(link.now < 1000);
+  }
+
+  @Test
+  @DisplayName("The smoothed RTT follows the round trip latency")
+  void testRttEstimation() {
+    var link = new Link(DatagramLossSimulator.newInstance(0, 50, 0, 5L),
+        DatagramLossSimulator.newInstance(0, 50, 0, 6L));
+    for (int i = 0; i < 50; i++) {
+      link.sender.send(new byte[] {(byte) i}, true);
+      link.run(20);
+    }
+    link.runUntil(() -> link.sender.getPendingSegments() == 0, 5000);
+
+    int smoothedRtt = link.sender.getSmoothedRtt();
+    assertTrue(smoothedRtt >= 90 && smoothedRtt <= 130, "smoothed RTT: " + smoothedRtt);
+    assertTrue(link.sender.getRto() >= smoothedRtt);
+  }
+
+  @Test
+  @DisplayName("The congestion window grows when segments are acknowledged")
+  void testCongestionWindowGrows() {
+    var link = new Link(DatagramLossSimulator.newInstance(0, 5, 0, 7L),
+        DatagramLossSimulator.newInstance(0, 5, 0, 8L));
+    int initialWindow = link.sender.getCongestionWindow();
+    for (int i = 0; i < 200; i++) {
+      link.sender.send(new byte[] {(byte) i}, true);
+    }
+
+    link.runUntil(() -> link.received.size() == 200, 10000);
+
+    assertTrue(link.sender.getCongestionWindow() > initialWindow);
+  }
+
+  @Test
+  @DisplayName("The link is dead when nothing is ever acknowledged")
+  void testDeadLink() {
+    var configuration = new ReliableDatagramConfiguration(10, 10, 0, 16, 16, true, 3, 1024);
+    var channel = new ReliableChannel(CONVEY_ID, configuration, datagram -> {
+    });
+    channel.send(new byte[] {1}, true);
+
+    for (long now = 0; now < 60000 && !channel.isDead(); now += 10) {
+      channel.flush(now);
+    }
+
+    assertTrue(channel.isDead());
+    assertFalse(channel.send(new byte[] {2}, true));
+  }
+
+  @Test
+  @DisplayName("Contents are rejected when too many segments are waiting")
+  void testWaitingSegmentsLimit() {
+    var configuration = new ReliableDatagramConfiguration(10, 10, 2, 16, 16, true, 20, 2);
+    var channel = new ReliableChannel(CONVEY_ID, configuration, datagram -> {
+    });
+
+    assertTrue(channel.send(new byte[] {1}, true));
+    assertTrue(channel.send(new byte[] {2}, true));
+    assertFalse(channel.send(new byte[] {3}, true));
+  }
+
+  @Test
+  @DisplayName("A content which does not fit in a datagram is refused")
+  void testOversizedContent() {
+    var channel = new ReliableChannel(CONVEY_ID, CONFIGURATION, datagram -> {
+    });
+
+    assertThrows(IllegalArgumentException.class,
+        () -> channel.send(new byte[ReliableChannel.MAXIMUM_CONTENT_SIZE + 1], true));
+  }
+
+  @Test
+  @DisplayName("Segments carry the reliable header flag and their convey ID")
+  void testSegmentHeader() {
+    var segments = new ArrayList<byte[]>();
+    var channel = new ReliableChannel(CONVEY_ID, CONFIGURATION, segments::add);
+    channel.send(new byte[] {1, 2, 3}, true);
+    channel.flush(0);
+
+    assertEquals(1, segments.size());
+    assertTrue(ReliableChannel.isReliableSegment(segments.get(0)));
+    assertEquals(CONVEY_ID, ReliableChannel.readConveyId(segments.get(0)));
+    assertEquals(ReliableChannel.HEADER_SIZE + 3, segments.get(0).length);
+    assertFalse(ReliableChannel.isReliableSegment(new byte[] {(byte) 0x80, 0, 1}));
+  }
+
+  @Test
+  @DisplayName("Segments of another convey ID are ignored")
+  void testOtherConveyIdIsIgnored() {
+    var segments = new ArrayList<byte[]>();
+    var sender = new ReliableChannel(CONVEY_ID + 1, CONFIGURATION, segments::add);
+    var receiver = new ReliableChannel(CONVEY_ID, CONFIGURATION, datagram -> {
+    });
+    sender.send(new byte[] {1}, true);
+    sender.flush(0);
+
+    var received = new ArrayList<byte[]>();
+    assertFalse(receiver.input(segments.get(0), 0, received::add));
+    assertTrue(received.isEmpty());
+  }
+
+  @Test
+  @DisplayName("Only a few segments are sent until the peer's receive window is known")
+  void testRemoteWindowIsUnknownFirst() {
+    var configuration = new ReliableDatagramConfiguration(10, 10, 0, 128, 128, false, 20, 1024);
+    var segments = new ArrayList<byte[]>();
+    var sender = new ReliableChannel(CONVEY_ID, configuration, segments::add);
+    var acknowledgements = new ArrayList<byte[]>();
+    var peer = new ReliableChannel(CONVEY_ID, configuration, acknowledgements::add);
+    for (int i = 0; i < 15; i++) {
+      sender.send(new byte[] {(byte) i}, true);
+    }
+
+    sender.flush(0);
+    assertEquals(10, segments.size());
+
+    peer.input(segments.get(0), 0, content -> {
+    });
+    peer.flush(0);
+    sender.input(acknowledgements.get(0), 0, content -> {
+    });
+    sender.flush(10);
+    assertEquals(15, segments.size());
+  }
+
+  @Test
+  @DisplayName("Segments beyond the receive window are not acknowledged")
+  void testOutOfWindowSegmentsAreNotAcknowledged() {
+    var segments = new ArrayList<byte[]>();
+    var sender = new ReliableChannel(CONVEY_ID,
+        new ReliableDatagramConfiguration(10, 10, 0, 16, 16, false, 20, 1024), segments::add);
+    var acknowledgements = new ArrayList<byte[]>();
+    var peer = new ReliableChannel(CONVEY_ID, CONFIGURATION, acknowledgements::add);
+    // the first exchange opens the sender's window
+    sender.send(new byte[] {0}, true);
+    sender.flush(0);
+    peer.input(segments.get(0), 0, content -> {
+    });
+    peer.flush(0);
+    sender.input(acknowledgements.get(0), 0, content -> {
+    });
+    segments.clear();
+    for (int i = 1; i <= 8; i++) {
+      sender.send(new byte[] {(byte) i}, true);
+    }
+    sender.flush(10);
+    assertEquals(8, segments.size());
+
+    // the segment 0 never reaches this receiver, so only the segments 1 to 3 fit in its window
+    acknowledgements.clear();
+    var receiver = new ReliableChannel(CONVEY_ID,
+        new ReliableDatagramConfiguration(10, 10, 0, 16, 4, false, 20, 1024),
+        acknowledgements::add);
+    for (var segment : segments) {
+      assertTrue(receiver.input(segment, 10, content -> {
+      }));
+    }
+    receiver.flush(10);
+
+    assertEquals(1, acknowledgements.size());
+    assertEquals(ReliableChannel.HEADER_SIZE + 3 * 8, acknowledgements.get(0).length);
+  }
+
+  /**
+   * Two control blocks connected through simulated networks, driven by a virtual clock.
+   */
+  private static final class Link {
+
+    private final DatagramLossSimulator forward;
+    private final DatagramLossSimulator backward;
+    private final List<byte[]> received = new ArrayList<>();
+    private ReliableChannel sender;
+    private ReliableChannel receiver;
+    private Predicate<byte[]> dropFromSender = datagram -> false;
+    private int droppedOnce;
+    private long now;
+
+    private Link(DatagramLossSimulator forward, DatagramLossSimulator backward) {
+      this.forward = forward;
+      this.backward = backward;
+      reset(CONFIGURATION);
+    }
+
+    private void reset(ReliableDatagramConfiguration configuration) {
+      sender = new ReliableChannel(CONVEY_ID, configuration, datagram -> {
+        if (dropFromSender.test(datagram)) {
+          return;
+        }
+        deliver(forward, datagram, segment -> receiver.input(segment, now, received::add));
+      });
+      receiver = new ReliableChannel(CONVEY_ID, configuration,
+          datagram -> deliver(backward, datagram, segment -> sender.input(segment, now, content -> {
+          })));
+    }
+
+    private void deliver(DatagramLossSimulator simulator, byte[] datagram,
+                         Consumer<byte[]> target) {
+      if (simulator == null) {
+        target.accept(datagram);
+      } else {
+        simulator.offer(datagram, target, now);
+      }
+    }
+
+    private void step() {
+      sender.flush(now);
+      receiver.flush(now);
+      if (forward != null) {
+        forward.flush(now);
+      }
+      if (backward != null) {
+        backward.flush(now);
+      }
+      now += CONFIGURATION.intervalInMilliseconds();
+    }
+
+    private void run(long duration) {
+      long end = now + duration;
+      while (now < end) {
+        step();
+      }
+    }
+
+    private void runUntil(BooleanSupplier condition, long timeout) {
+      long end = now + timeout;
+      while (!condition.getAsBoolean() && now < end) {
+        step();
+      }
+    }
+  }
+}
@@ -0,0 +1,107 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.network.zero.engine.writer.implement;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tenio.core.network.codec.CodecUtility;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For DatagramBundle")
+class DatagramBundleTest {
+
+  private static byte[] toArray(ByteBuffer buffer) {
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+    return bytes;
+  }
+
+  @Test
+  @DisplayName("isBundleable accounts for the bundle header and the entry length")
+  void testIsBundleable() {
+    assertTrue(DatagramBundle.isBundleable(61, 64));
+    assertFalse(DatagramBundle.isBundleable(62, 64));
+    assertFalse(DatagramBundle.isBundleable(0, 64));
+  }
+
+  @Test
+  @DisplayName("A bundle of several packets can be unbundled by the client")
+  void testDrainToWritesUnbundleableDatagram() {
+    var bundle = DatagramBundle.newInstance(null, 64);
+    bundle.add(new byte[] {1, 2, 3}, 0L);
+    bundle.add(new byte[] {1, 4}, 0L);
+    assertEquals(2, bundle.getPackets());
+
+    ByteBuffer target = ByteBuffer.allocate(64);
+    bundle.drainTo(target);
+    byte[] datagram = toArray(target);
+
+    List<byte[]> packets = new ArrayList<>();
+    assertEquals(2, CodecUtility.unbundle(datagram, datagram.length, packets::add));
+    assertArrayEquals(new byte[] {1, 2, 3}, packets.get(0));
+    assertArrayEquals(new byte[] {1, 4}, packets.get(1));
+    assertTrue(bundle.isEmpty());
+  }
+
+  @Test
+  @DisplayName("A bundle of one packet is drained as the plain packet")
+  void testDrainToWritesLonePacketWithoutFraming() {
+    var bundle = DatagramBundle.newInstance(null, 64);
+    bundle.add(new byte[] {1, 2, 3}, 0L);
+
+    ByteBuffer target = ByteBuffer.allocate(64);
+    bundle.drainTo(target);
+
+    assertArrayEquals(new byte[] {1, 2, 3}, toArray(target));
+  }
+
+  @Test
+  @DisplayName("hasRoomFor refuses a packet which would exceed the maximum transmission unit")
+  void testHasRoomFor() {
+    var bundle = DatagramBundle.newInstance(null, 64);
+    assertTrue(bundle.hasRoomFor(61));
+    bundle.add(new byte[30], 0L);
+    assertTrue(bundle.hasRoomFor(29));
+    assertFalse(bundle.hasRoomFor(30));
+  }
+
+  @Test
+  @DisplayName("A bundle expires once its oldest packet reaches the deadline")
+  void testIsExpired() {
+    var bundle = DatagramBundle.newInstance(null, 64);
+    assertFalse(bundle.isExpired(1_000L, 10L));
+    bundle.add(new byte[] {1}, 100L);
+    bundle.add(new byte[] {1}, 105L);
+    assertFalse(bundle.isExpired(109L, 10L));
+    assertTrue(bundle.isExpired(110L, 10L));
+  }
+}
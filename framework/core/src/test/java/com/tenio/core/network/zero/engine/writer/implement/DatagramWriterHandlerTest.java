@@ -24,10 +24,15 @@ THE SOFTWARE.
 
 package com.tenio.core.network.zero.engine.writer.implement;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -36,14 +41,21 @@ import static org.mockito.Mockito.when;
 
 import java.io.IOException;
 
+import com.tenio.core.network.codec.CodecUtility;
 import com.tenio.core.network.codec.encoder.BinaryPacketEncoder;
+import com.tenio.core.network.configuration.DatagramBundleConfiguration;
+import com.tenio.core.network.define.ResponseGuarantee;
 import com.tenio.core.network.entity.outbound.packet.Packet;
 import com.tenio.core.network.entity.outbound.packet.OutboundQueue;
 import com.tenio.core.network.entity.session.Session;
 import com.tenio.core.network.statistic.NetworkWriterStatistic;
+import com.tenio.core.network.zero.engine.manager.ReliableDatagramManager;
 import com.tenio.core.network.zero.engine.manager.SessionTicketsQueueManager;
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
 import java.nio.channels.DatagramChannel;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -222,4 +234,254 @@ class DatagramWriterHandlerTest {
     assertDoesNotThrow(() -> handler.send(outboundQueue, session, packet));
     verify(outboundQueue, never()).take();
   }
+
+  @Test
+  @DisplayName("send passes guaranteed packets to the reliable datagram manager in order")
+  void testSendGuaranteedPacketReliably() throws Exception {
+    var reliableDatagramManager = mock(ReliableDatagramManager.class);
+    DatagramChannel datagramChannel = mock(DatagramChannel.class);
+    BinaryPacketEncoder encoder = mock(BinaryPacketEncoder.class);
+    Session session = mock(Session.class);
+    OutboundQueue outboundQueue = mock(OutboundQueue.class);
+    Packet packet = mock(Packet.class);
+    byte[] data = new byte[] {1, 2, 3};
+
+    handler.setPacketEncoder(encoder);
+    handler.setReliableDatagramManager(reliableDatagramManager);
+    when(session.fetchDatagramChannel()).thenReturn(datagramChannel);
+    when(session.getDatagramRemoteAddress()).thenReturn(new InetSocketAddress("127.0.0.1", 8080));
+    when(encoder.encode(packet)).thenReturn(packet);
+    when(packet.getData()).thenReturn(data);
+    when(packet.getGuarantee()).thenReturn(ResponseGuarantee.GUARANTEED);
+    when(reliableDatagramManager.send(session, data, true)).thenReturn(true);
+
+    handler.send(outboundQueue, session, packet);
+
+    verify(reliableDatagramManager).send(session, data, true);
+    verify(datagramChannel, never()).send(any(), any());
+    verify(writerStatistic).updateWrittenPackets(1);
+    verify(outboundQueue).take();
+  }
+
+  @Test
+  @DisplayName("send passes the quickest guaranteed packets to the reliable manager unordered")
+  void testSendGuaranteedQuickestPacketUnordered() {
+    var reliableDatagramManager = mock(ReliableDatagramManager.class);
+    BinaryPacketEncoder encoder = mock(BinaryPacketEncoder.class);
+    Session session = mock(Session.class);
+    OutboundQueue outboundQueue = mock(OutboundQueue.class);
+    Packet packet = mock(Packet.class);
+    byte[] data = new byte[] {1, 2, 3};
+
+    handler.setPacketEncoder(encoder);
+    handler.setReliableDatagramManager(reliableDatagramManager);
+    when(session.fetchDatagramChannel()).thenReturn(mock(DatagramChannel.class));
+    when(session.getDatagramRemoteAddress()).thenReturn(new InetSocketAddress("127.0.0.1", 8080));
+    when(encoder.encode(packet)).thenReturn(packet);
+    when(packet.getData()).thenReturn(data);
+    when(packet.getGuarantee()).thenReturn(ResponseGuarantee.GUARANTEED_QUICKEST);
+    when(reliableDatagramManager.send(session, data, false)).thenReturn(true);
+
+    handler.send(outboundQueue, session, packet);
+
+    verify(reliableDatagramManager).send(session, data, false);
+  }
+
+  @Test
+  @DisplayName("send keeps non-guaranteed packets fire-and-forget with a reliable manager")
+  void testSendNonGuaranteedPacketOnce() throws Exception {
+    var reliableDatagramManager = mock(ReliableDatagramManager.class);
+    DatagramChannel datagramChannel = mock(DatagramChannel.class);
+    BinaryPacketEncoder encoder = mock(BinaryPacketEncoder.class);
+    Session session = mock(Session.class);
+    OutboundQueue outboundQueue = mock(OutboundQueue.class);
+    Packet packet = mock(Packet.class);
+
+    handler.setPacketEncoder(encoder);
+    handler.setReliableDatagramManager(reliableDatagramManager);
+    when(session.fetchDatagramChannel()).thenReturn(datagramChannel);
+    when(session.getDatagramRemoteAddress()).thenReturn(new InetSocketAddress("127.0.0.1", 8080));
+    when(encoder.encode(packet)).thenReturn(packet);
+    when(packet.getData()).thenReturn(new byte[] {1, 2, 3});
+    when(packet.getGuarantee()).thenReturn(ResponseGuarantee.NON_GUARANTEED);
+    when(datagramChannel.send(any(), any())).thenReturn(3);
+
+    handler.send(outboundQueue, session, packet);
+
+    verify(reliableDatagramManager, never()).send(any(), any(), anyBoolean());
+    verify(datagramChannel).send(any(), any());
+    verify(writerStatistic).updateWrittenBytes(3);
+  }
+
+  @Test
+  @DisplayName("send counts a dropped packet when the reliable manager rejects it")
+  void testSendReliablyRejectedPacketIsDropped() {
+    var reliableDatagramManager = mock(ReliableDatagramManager.class);
+    BinaryPacketEncoder encoder = mock(BinaryPacketEncoder.class);
+    Session session = mock(Session.class);
+    OutboundQueue outboundQueue = mock(OutboundQueue.class);
+    Packet packet = mock(Packet.class);
+
+    handler.setPacketEncoder(encoder);
+    handler.setReliableDatagramManager(reliableDatagramManager);
+    when(session.fetchDatagramChannel()).thenReturn(mock(DatagramChannel.class));
+    when(session.getDatagramRemoteAddress()).thenReturn(new InetSocketAddress("127.0.0.1", 8080));
+    when(encoder.encode(packet)).thenReturn(packet);
+    when(packet.getData()).thenReturn(new byte[] {1, 2, 3});
+    when(packet.getGuarantee()).thenReturn(ResponseGuarantee.GUARANTEED);
+    when(reliableDatagramManager.send(any(), any(), anyBoolean())).thenReturn(false);
+
+    handler.send(outboundQueue, session, packet);
+
+    verify(session).addDroppedPackets(1);
+    verify(writerStatistic).updateWrittenDroppedPacketsByFull(1);
+    verify(outboundQueue).take();
+  }
+
+  private List<byte[]> captureDatagrams(DatagramChannel datagramChannel) throws IOException {
+    List<byte[]> datagrams = new ArrayList<>();
+    doAnswer(invocation -> {
+      ByteBuffer buffer = invocation.getArgument(0);
+      byte[] datagram = new byte[buffer.remaining()];
+      buffer.get(datagram);
+      datagrams.add(datagram);
+      return datagram.length;
+    }).when(datagramChannel).send(any(), any());
+    return datagrams;
+  }
+
+  private Session mockBundlingSession(DatagramChannel datagramChannel) {
+    // a busy session is put back to its tickets queue
+    handler.setSessionTicketsQueueManager(new SessionTicketsQueueManager(1));
+    Session session = mock(Session.class);
+    when(session.getId()).thenReturn(1L);
+    when(session.isActivated()).thenReturn(true);
+    when(session.fetchDatagramChannel()).thenReturn(datagramChannel);
+    when(session.getDatagramRemoteAddress()).thenReturn(new InetSocketAddress("127.0.0.1", 8080));
+    return session;
+  }
+
+  private Packet mockPacket(BinaryPacketEncoder encoder, byte[] data) {
+    Packet packet = mock(Packet.class);
+    when(encoder.encode(packet)).thenReturn(packet);
+    when(packet.getData()).thenReturn(data);
+    return packet;
+  }
+
+  @Test
+  @DisplayName("send bundles the queued packets of a session into one datagram")
+  void testSendBundlesQueuedPackets() throws Exception {
+    DatagramChannel datagramChannel = mock(DatagramChannel.class);
+    List<byte[]> datagrams = captureDatagrams(datagramChannel);
+    BinaryPacketEncoder encoder = mock(BinaryPacketEncoder.class);
+    Session session = mockBundlingSession(datagramChannel);
+    OutboundQueue outboundQueue = mock(OutboundQueue.class);
+    Packet first = mockPacket(encoder, new byte[] {1, 10, 11});
+    Packet second = mockPacket(encoder, new byte[] {1, 20});
+
+    handler.setPacketEncoder(encoder);
+    handler.setDatagramBundleConfiguration(new DatagramBundleConfiguration(128));
+    when(outboundQueue.isSnapshotEmpty()).thenReturn(false, true);
+
+    handler.send(outboundQueue, session, first);
+    assertEquals(0, datagrams.size());
+    handler.send(outboundQueue, session, second);
+    assertEquals(1, datagrams.size());
+
+    List<byte[]> packets = new ArrayList<>();
+    byte[] datagram = datagrams.get(0);
+    assertEquals(2, CodecUtility.unbundle(datagram, datagram.length, packets::add));
+    assertArrayEquals(new byte[] {1, 10, 11}, packets.get(0));
+    assertArrayEquals(new byte[] {1, 20}, packets.get(1));
+    verify(writerStatistic).updateWrittenBundle(2);
+    verify(writerStatistic).updateWrittenBytes(datagram.length);
+  }
+
+  @Test
+  @DisplayName("send writes a lone packet without the bundle framing")
+  void testSendLonePacketIsNotFramed() throws Exception {
+    DatagramChannel datagramChannel = mock(DatagramChannel.class);
+    List<byte[]> datagrams = captureDatagrams(datagramChannel);
+    BinaryPacketEncoder encoder = mock(BinaryPacketEncoder.class);
+    Session session = mockBundlingSession(datagramChannel);
+    OutboundQueue outboundQueue = mock(OutboundQueue.class);
+
+    handler.setPacketEncoder(encoder);
+    handler.setDatagramBundleConfiguration(new DatagramBundleConfiguration(128));
+    when(outboundQueue.isSnapshotEmpty()).thenReturn(true);
+
+    handler.send(outboundQueue, session, mockPacket(encoder, new byte[] {1, 2, 3}));
+
+    assertEquals(1, datagrams.size());
+    assertArrayEquals(new byte[] {1, 2, 3}, datagrams.get(0));
+    verify(writerStatistic, never()).updateWrittenBundle(anyLong());
+  }
+
+  @Test
+  @DisplayName("send flushes a full bundle before it takes the next packet")
+  void testSendFlushesFullBundle() throws Exception {
+    DatagramChannel datagramChannel = mock(DatagramChannel.class);
+    List<byte[]> datagrams = captureDatagrams(datagramChannel);
+    BinaryPacketEncoder encoder = mock(BinaryPacketEncoder.class);
+    Session session = mockBundlingSession(datagramChannel);
+    OutboundQueue outboundQueue = mock(OutboundQueue.class);
+
+    handler.setPacketEncoder(encoder);
+    // room for 2 packets of 30 bytes: 1 + (2 + 30) * 2 = 65
+    handler.setDatagramBundleConfiguration(new DatagramBundleConfiguration(70));
+    when(outboundQueue.isSnapshotEmpty()).thenReturn(false, false, true);
+
+    for (int i = 0; i < 3; i++) {
+      handler.send(outboundQueue, session, mockPacket(encoder, new byte[30]));
+    }
+
+    assertEquals(2, datagrams.size());
+    assertEquals(65, datagrams.get(0).length);
+    assertEquals(30, datagrams.get(1).length);
+    verify(writerStatistic).updateWrittenBundle(2);
+  }
+
+  @Test
+  @DisplayName("send flushes the pending bundle before a packet which is too big to be bundled")
+  void testSendFlushesPendingBundleBeforeBigPacket() throws Exception {
+    DatagramChannel datagramChannel = mock(DatagramChannel.class);
+    List<byte[]> datagrams = captureDatagrams(datagramChannel);
+    BinaryPacketEncoder encoder = mock(BinaryPacketEncoder.class);
+    Session session = mockBundlingSession(datagramChannel);
+    OutboundQueue outboundQueue = mock(OutboundQueue.class);
+
+    handler.setPacketEncoder(encoder);
+    handler.setDatagramBundleConfiguration(new DatagramBundleConfiguration(64));
+    when(outboundQueue.isSnapshotEmpty()).thenReturn(false, true);
+
+    handler.send(outboundQueue, session, mockPacket(encoder, new byte[] {1, 2}));
+    handler.send(outboundQueue, session, mockPacket(encoder, new byte[100]));
+
+    assertEquals(2, datagrams.size());
+    assertArrayEquals(new byte[] {1, 2}, datagrams.get(0));
+    assertEquals(100, datagrams.get(1).length);
+  }
+
+  @Test
+  @DisplayName("flushExpiredBundles sends a held bundle once its deadline is reached")
+  void testFlushExpiredBundlesSendsHeldBundle() throws Exception {
+    DatagramChannel datagramChannel = mock(DatagramChannel.class);
+    List<byte[]> datagrams = captureDatagrams(datagramChannel);
+    BinaryPacketEncoder encoder = mock(BinaryPacketEncoder.class);
+    Session session = mockBundlingSession(datagramChannel);
+    OutboundQueue outboundQueue = mock(OutboundQueue.class);
+
+    handler.setPacketEncoder(encoder);
+    handler.setDatagramBundleConfiguration(new DatagramBundleConfiguration(128, 50));
+    // the next queued packet is not sent by this handler, so the bundle stays
+    when(outboundQueue.isSnapshotEmpty()).thenReturn(false);
+
+    handler.send(outboundQueue, session, mockPacket(encoder, new byte[] {1, 2}));
+    handler.flushExpiredBundles(System.nanoTime());
+    assertEquals(0, datagrams.size());
+
+    handler.flushExpiredBundles(System.nanoTime() + 100_000_000L);
+    assertEquals(1, datagrams.size());
+    assertArrayEquals(new byte[] {1, 2}, datagrams.get(0));
+  }
 }
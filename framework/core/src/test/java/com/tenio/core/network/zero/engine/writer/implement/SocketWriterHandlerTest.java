@@ -29,8 +29,10 @@ import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -43,7 +45,9 @@ import com.tenio.core.network.entity.session.Session;
 import com.tenio.core.network.statistic.NetworkWriterStatistic;
 import com.tenio.core.network.zero.engine.manager.SessionTicketsQueueManager;
 import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
 import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -163,6 +167,8 @@ class SocketWriterHandlerTest {
     when(channel.write(any(ByteBuffer.class))).thenReturn(3);
     when(session.fectchSocketSelectionKey()).thenReturn(selectionKey);
     when(selectionKey.interestOps()).thenReturn(SelectionKey.OP_READ);
+    // the mocked channel leaves the buffer untouched, so the writer waits for OP_WRITE
+    when(selectionKey.selector()).thenReturn(mock(Selector.class));
     when(packet.isMarkedAsLast()).thenReturn(false);
     when(session.isActivated()).thenReturn(false);
 
@@ -191,6 +197,8 @@ class SocketWriterHandlerTest {
     when(channel.write(any(ByteBuffer.class))).thenReturn(3);
     when(session.fectchSocketSelectionKey()).thenReturn(selectionKey);
     when(selectionKey.interestOps()).thenReturn(SelectionKey.OP_READ);
+    // the mocked channel leaves the buffer untouched, so the writer waits for OP_WRITE
+    when(selectionKey.selector()).thenReturn(mock(Selector.class));
     when(packet.isMarkedAsLast()).thenReturn(true);
     when(session.isActivated()).thenReturn(true);
 
@@ -256,6 +264,8 @@ class SocketWriterHandlerTest {
     when(channel.write(any(ByteBuffer.class))).thenReturn(3);
     when(session.fectchSocketSelectionKey()).thenReturn(selectionKey);
     when(selectionKey.interestOps()).thenReturn(SelectionKey.OP_READ);
+    // the mocked channel leaves the buffer untouched, so the writer waits for OP_WRITE
+    when(selectionKey.selector()).thenReturn(mock(Selector.class));
     when(packet.isMarkedAsLast()).thenReturn(false);
     when(session.isActivated()).thenReturn(false);
 
@@ -272,6 +282,7 @@ class SocketWriterHandlerTest {
     Session session = mock(Session.class);
     OutboundQueue outboundQueue = mock(OutboundQueue.class);
     Packet packet = mock(Packet.class);
+    Selector selector = mock(Selector.class);
 
     handler.setPacketEncoder(encoder);
     when(session.fetchSocketChannel()).thenReturn(channel);
@@ -287,10 +298,65 @@ class SocketWriterHandlerTest {
       return written;
     });
     when(session.fectchSocketSelectionKey()).thenReturn(selectionKey);
-    when(selectionKey.interestOps()).thenReturn(SelectionKey.OP_READ);
+    when(selectionKey.interestOpsOr(SelectionKey.OP_WRITE)).thenReturn(SelectionKey.OP_READ);
+    when(selectionKey.selector()).thenReturn(selector);
 
     assertDoesNotThrow(() -> handler.send(outboundQueue, session, packet));
     verify(packet).setFragmentBuffer(any(byte[].class));
+    verify(selectionKey).interestOpsOr(SelectionKey.OP_WRITE);
+    verify(selector).wakeup();
+  }
+
+  @Test
+  @DisplayName("send skips a fragmented packet while the channel is waiting for OP_WRITE")
+  void testSendSkipsFragmentedPacketWhileWaitingForWritable() throws Exception {
+    SocketChannel channel = mock(SocketChannel.class);
+    SelectionKey selectionKey = mock(SelectionKey.class);
+    Session session = mock(Session.class);
+    OutboundQueue outboundQueue = mock(OutboundQueue.class);
+    Packet packet = mock(Packet.class);
+
+    when(session.fetchSocketChannel()).thenReturn(channel);
+    when(channel.isOpen()).thenReturn(true);
+    when(channel.isConnected()).thenReturn(true);
+    when(packet.isFragmented()).thenReturn(true);
+    when(session.fectchSocketSelectionKey()).thenReturn(selectionKey);
+    when(selectionKey.interestOps()).thenReturn(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+
+    assertDoesNotThrow(() -> handler.send(outboundQueue, session, packet));
+    verify(channel, never()).write(any(ByteBuffer.class));
+  }
+
+  @Test
+  @DisplayName("send does not encode a fragmented packet again and records its partial-write time")
+  void testSendFragmentedPacketRecordsPartialWriteTime() throws Exception {
+    SocketChannel channel = mock(SocketChannel.class);
+    SelectionKey selectionKey = mock(SelectionKey.class);
+    BinaryPacketEncoder encoder = mock(BinaryPacketEncoder.class);
+    Session session = mock(Session.class);
+    OutboundQueue outboundQueue = mock(OutboundQueue.class);
+    Packet packet = mock(Packet.class);
+
+    handler.setPacketEncoder(encoder);
+    when(session.fetchSocketChannel()).thenReturn(channel);
+    when(channel.isOpen()).thenReturn(true);
+    when(channel.isConnected()).thenReturn(true);
+    when(packet.isFragmented()).thenReturn(true);
+    when(packet.getFragmentBuffer()).thenReturn(new byte[]{9, 8, 7});
+    when(packet.getFragmentedTime()).thenReturn(System.nanoTime());
+    when(channel.write(any(ByteBuffer.class))).thenAnswer(inv -> {
+      ByteBuffer buf = inv.getArgument(0);
+      int remaining = buf.remaining();
+      buf.position(buf.limit());
+      return remaining;
+    });
+    when(session.fectchSocketSelectionKey()).thenReturn(selectionKey);
+    when(selectionKey.interestOps()).thenReturn(SelectionKey.OP_READ);
+
+    assertDoesNotThrow(() -> handler.send(outboundQueue, session, packet));
+    verify(encoder, never()).encode(packet);
+    verify(writerStatistic).updatePartialWriteTime(anyLong());
+    verify(outboundQueue).take();
   }
 
   @Test
@@ -316,6 +382,34 @@ class SocketWriterHandlerTest {
     verify(session).close(ConnectionDisconnectMode.LOST_IN_WRITTEN, PlayerDisconnectMode.CONNECTION_LOST);
   }
 
+  @Test
+  @DisplayName("send with a cancelled selection key closes session")
+  void testSendWithCancelledSelectionKeyClosesSession() throws Exception {
+    SocketChannel channel = mock(SocketChannel.class);
+    SelectionKey selectionKey = mock(SelectionKey.class);
+    BinaryPacketEncoder encoder = mock(BinaryPacketEncoder.class);
+    Session session = mock(Session.class);
+    OutboundQueue outboundQueue = mock(OutboundQueue.class);
+    Packet packet = mock(Packet.class);
+
+    handler.setPacketEncoder(encoder);
+    when(session.fetchSocketChannel()).thenReturn(channel);
+    when(channel.isOpen()).thenReturn(true);
+    when(channel.isConnected()).thenReturn(true);
+    when(encoder.encode(packet)).thenReturn(packet);
+    when(packet.isFragmented()).thenReturn(false);
+    when(packet.getData()).thenReturn(new byte[]{1, 2, 3});
+    when(channel.write(any(ByteBuffer.class))).thenReturn(0);
+    when(session.fectchSocketSelectionKey()).thenReturn(selectionKey);
+    when(selectionKey.interestOpsOr(SelectionKey.OP_WRITE))
+        .thenThrow(new CancelledKeyException());
+    when(session.isActivated()).thenReturn(true);
+
+    assertDoesNotThrow(() -> handler.send(outboundQueue, session, packet));
+    verify(outboundQueue).clear();
+    verify(session).close(ConnectionDisconnectMode.LOST_IN_WRITTEN, PlayerDisconnectMode.CONNECTION_LOST);
+  }
+
   @Test
   @DisplayName("send removes OP_WRITE from interest ops when buffer is fully consumed")
   void testSendRemovesOpWriteWhenBufferFullyConsumed() throws Exception {
@@ -341,13 +435,11 @@ class SocketWriterHandlerTest {
       return remaining;
     });
     when(session.fectchSocketSelectionKey()).thenReturn(selectionKey);
-    // Return OP_READ | OP_WRITE so the "remove OP_WRITE" branch is taken
-    when(selectionKey.interestOps()).thenReturn(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
     when(packet.isMarkedAsLast()).thenReturn(false);
     when(session.isActivated()).thenReturn(false);
 
     assertDoesNotThrow(() -> handler.send(outboundQueue, session, packet));
-    verify(selectionKey).interestOps(SelectionKey.OP_READ); // OP_WRITE removed
+    verify(selectionKey).interestOpsAnd(~SelectionKey.OP_WRITE); // OP_WRITE removed
   }
 
   @Test
@@ -397,6 +489,8 @@ class SocketWriterHandlerTest {
     when(channel.write(any(ByteBuffer.class))).thenReturn(3);
     when(session.fectchSocketSelectionKey()).thenReturn(selectionKey);
     when(selectionKey.interestOps()).thenReturn(SelectionKey.OP_READ);
+    // the mocked channel leaves the buffer untouched, so the writer waits for OP_WRITE
+    when(selectionKey.selector()).thenReturn(mock(Selector.class));
     when(packet.isMarkedAsLast()).thenReturn(false);
     when(session.isActivated()).thenReturn(true);
     when(session.getId()).thenReturn(1L);
@@ -0,0 +1,82 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class ProcessorStatisticTest {
+
+  @Test
+  void testNewInstance() {
+    ProcessorStatistic stat = ProcessorStatistic.newInstance();
+    assertEquals(0L, stat.getPendingRequests());
+    assertEquals(0L, stat.getProcessedRequests());
+    assertEquals(0L, stat.getStolenBatches());
+    assertEquals(0L, stat.getShedRequests());
+  }
+
+  @Test
+  void testUpdatePendingRequestsAcceptsNegativeValue() {
+    ProcessorStatistic stat = ProcessorStatistic.newInstance();
+    stat.updatePendingRequests(5L);
+    stat.updatePendingRequests(-2L);
+    assertEquals(3L, stat.getPendingRequests());
+  }
+
+  @Test
+  void testUpdateProcessedRequestsAccumulates() {
+    ProcessorStatistic stat = ProcessorStatistic.newInstance();
+    stat.updateProcessedRequests(10L);
+    stat.updateProcessedRequests(5L);
+    assertEquals(15L, stat.getProcessedRequests());
+  }
+
+  @Test
+  void testUpdateStolenBatchesAccumulates() {
+    ProcessorStatistic stat = ProcessorStatistic.newInstance();
+    stat.updateStolenBatches(1L);
+    stat.updateStolenBatches(1L);
+    assertEquals(2L, stat.getStolenBatches());
+  }
+
+  @Test
+  void testUpdateShedRequestsAccumulates() {
+    ProcessorStatistic stat = ProcessorStatistic.newInstance();
+    stat.updateShedRequests(4L);
+    stat.updateShedRequests(1L);
+    assertEquals(5L, stat.getShedRequests());
+  }
+
+  @Test
+  void testToStringContainsClassName() {
+    ProcessorStatistic stat = ProcessorStatistic.newInstance();
+    assertNotNull(stat.toString());
+    assertTrue(stat.toString().contains("ProcessorStatistic"));
+  }
+}
@@ -148,6 +148,24 @@ class ProcessorTest {
     assertDoesNotThrow(priorityProcessor::initialize);
   }
 
+  @Test
+  @DisplayName("enqueueRequest in session affinity mode counts the pending request")
+  void testEnqueueRequestInSessionAffinityMode() {
+    processor.setThreadPoolSize(2);
+    processor.setSessionAffinity(true);
+    processor.initialize();
+    Request req = mock(Request.class);
+    when(req.getAffinityId()).thenReturn(7L);
+    assertDoesNotThrow(() -> processor.enqueueRequest(req));
+    assertEquals(1L, processor.getProcessorStatistic().getPendingRequests());
+  }
+
+  @Test
+  @DisplayName("getProcessorStatistic is available before initialize")
+  void testGetProcessorStatisticBeforeInitialize() {
+    assertEquals(0L, processor.getProcessorStatistic().getProcessedRequests());
+  }
+
   static class TestProcessor extends AbstractProcessor {
 
     TestProcessor(EventManager eventManager) {
@@ -0,0 +1,124 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.tenio.core.configuration.define.ServerEvent;
+import com.tenio.core.network.entity.inbound.Request;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For RequestAdmissionController")
+class RequestAdmissionControllerTest {
+
+  private static final long TARGET = 10L;
+  private static final long INTERVAL = 100L;
+
+  private RequestAdmissionController controller;
+
+  @BeforeEach
+  void setUp() {
+    controller = RequestAdmissionController.newInstance(TARGET, INTERVAL,
+        request -> request.getPriority() > 0);
+  }
+
+  private Request createRequest(long createdTimestamp, int priority) {
+    Request request = mock(Request.class);
+    when(request.getEvent()).thenReturn(ServerEvent.SESSION_REQUEST_CONNECTION);
+    when(request.getCreatedTimestamp()).thenReturn(createdTimestamp);
+    when(request.getPriority()).thenReturn(priority);
+    return request;
+  }
+
+  @Test
+  @DisplayName("Non-positive time values should throw IllegalArgumentException")
+  void testInvalidTimeValuesThrow() {
+    assertThrows(IllegalArgumentException.class,
+        () -> RequestAdmissionController.newInstance(0L, INTERVAL, request -> true));
+    assertThrows(IllegalArgumentException.class,
+        () -> RequestAdmissionController.newInstance(TARGET, 0L, request -> true));
+  }
+
+  @Test
+  @DisplayName("Requests below the target sojourn time are always admitted")
+  void testRequestsBelowTargetAreAdmitted() {
+    assertTrue(controller.admit(createRequest(1000L, 1), 1005L));
+    assertEquals(5L, controller.getSojournTime(ServerEvent.SESSION_REQUEST_CONNECTION));
+    assertFalse(controller.isShedding(ServerEvent.SESSION_REQUEST_CONNECTION));
+  }
+
+  @Test
+  @DisplayName("A short burst within one interval does not trigger shedding")
+  void testShortBurstIsTolerated() {
+    assertTrue(controller.admit(createRequest(1000L, 1), 1050L));
+    assertTrue(controller.admit(createRequest(1050L, 1), 1100L));
+    assertTrue(controller.admit(createRequest(1145L, 1), 1150L));
+    assertFalse(controller.isShedding(ServerEvent.SESSION_REQUEST_CONNECTION));
+  }
+
+  @Test
+  @DisplayName("Sheddable requests are refused when the delay persists for an interval")
+  void testPersistentDelayShedsSheddableRequests() {
+    assertTrue(controller.admit(createRequest(1000L, 1), 1050L));
+    assertFalse(controller.admit(createRequest(1100L, 1), 1150L));
+    assertTrue(controller.isShedding(ServerEvent.SESSION_REQUEST_CONNECTION));
+    // the next refusal follows the control law
+    assertTrue(controller.admit(createRequest(1110L, 1), 1160L));
+    assertFalse(controller.admit(createRequest(1200L, 1), 1250L));
+  }
+
+  @Test
+  @DisplayName("High priority requests are never refused")
+  void testNonSheddableRequestsAreAdmitted() {
+    assertTrue(controller.admit(createRequest(1000L, 0), 1050L));
+    assertTrue(controller.admit(createRequest(1100L, 0), 1150L));
+    assertTrue(controller.isShedding(ServerEvent.SESSION_REQUEST_CONNECTION));
+  }
+
+  @Test
+  @DisplayName("Shedding stops once the sojourn time gets back below the target")
+  void testSheddingStopsWhenQueueDrains() {
+    assertTrue(controller.admit(createRequest(1000L, 1), 1050L));
+    assertFalse(controller.admit(createRequest(1100L, 1), 1150L));
+    assertTrue(controller.admit(createRequest(1200L, 1), 1201L));
+    assertFalse(controller.isShedding(ServerEvent.SESSION_REQUEST_CONNECTION));
+  }
+
+  @Test
+  @DisplayName("Request types are tracked separately")
+  void testRequestTypesAreTrackedSeparately() {
+    assertTrue(controller.admit(createRequest(1000L, 1), 1050L));
+    assertFalse(controller.admit(createRequest(1100L, 1), 1150L));
+    assertFalse(controller.isShedding(ServerEvent.DATAGRAM_CHANNEL_REQUEST_ACCESS));
+    assertEquals(0L, controller.getSojournTime(ServerEvent.DATAGRAM_CHANNEL_REQUEST_ACCESS));
+  }
+}
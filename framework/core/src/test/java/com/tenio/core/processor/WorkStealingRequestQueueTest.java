@@ -0,0 +1,148 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.core.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.tenio.core.network.entity.inbound.Request;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Unit Test Cases For WorkStealingRequestQueue")
+class WorkStealingRequestQueueTest {
+
+  private ProcessorStatistic processorStatistic;
+  private WorkStealingRequestQueue queue;
+
+  @BeforeEach
+  void setUp() {
+    processorStatistic = ProcessorStatistic.newInstance();
+    queue = WorkStealingRequestQueue.newInstance(2, 2, 1L, false, processorStatistic);
+  }
+
+  private Request createRequest(long id, long affinityId) {
+    return createRequest(id, affinityId, 0);
+  }
+
+  private Request createRequest(long id, long affinityId, int priority) {
+    Request request = mock(Request.class);
+    when(request.getId()).thenReturn(id);
+    when(request.getAffinityId()).thenReturn(affinityId);
+    when(request.getPriority()).thenReturn(priority);
+    return request;
+  }
+
+  @Test
+  @DisplayName("Invalid sizes should throw IllegalArgumentException")
+  void testInvalidSizesThrow() {
+    assertThrows(IllegalArgumentException.class, () -> WorkStealingRequestQueue.newInstance(0,
+        1, 1L, false, processorStatistic));
+    assertThrows(IllegalArgumentException.class, () -> WorkStealingRequestQueue.newInstance(1,
+        0, 1L, false, processorStatistic));
+  }
+
+  @Test
+  @DisplayName("Requests of one sender are scheduled once on their home worker")
+  void testRequestsAreScheduledOnHomeWorker() {
+    queue.add(createRequest(1L, 3L));
+    queue.add(createRequest(2L, 3L));
+    assertEquals(0, queue.getScheduledBatches(0));
+    assertEquals(1, queue.getScheduledBatches(1));
+    assertEquals(2L, processorStatistic.getPendingRequests());
+  }
+
+  @Test
+  @DisplayName("Requests of one sender are processed in order and limited by the batch size")
+  void testRequestsAreProcessedInOrder() throws InterruptedException {
+    for (long id = 1L; id <= 3L; id++) {
+      queue.add(createRequest(id, 1L));
+    }
+    List<Long> processed = new ArrayList<>();
+    assertEquals(2, queue.poll(1, request -> processed.add(request.getId())));
+    assertEquals(1, queue.poll(1, request -> processed.add(request.getId())));
+    assertEquals(List.of(1L, 2L, 3L), processed);
+    assertEquals(0L, processorStatistic.getPendingRequests());
+    assertEquals(0, queue.getScheduledBatches(1));
+  }
+
+  @Test
+  @DisplayName("The priority never reorders the requests of one sender")
+  void testPriorityKeepsTheOrderOfOneSender() throws InterruptedException {
+    queue = WorkStealingRequestQueue.newInstance(1, 4, 1L, true, processorStatistic);
+    queue.add(createRequest(1L, 1L, 5));
+    queue.add(createRequest(2L, 1L, 1));
+    queue.add(createRequest(3L, 1L, 3));
+    List<Long> processed = new ArrayList<>();
+    assertEquals(3, queue.poll(0, request -> processed.add(request.getId())));
+    assertEquals(List.of(1L, 2L, 3L), processed);
+  }
+
+  @Test
+  @DisplayName("The priority decides which sender's batch is taken first")
+  void testPriorityOrdersTheBatches() throws InterruptedException {
+    queue = WorkStealingRequestQueue.newInstance(1, 1, 1L, true, processorStatistic);
+    queue.add(createRequest(1L, 1L, 5));
+    queue.add(createRequest(2L, 1L, 0));
+    queue.add(createRequest(3L, 2L, 1));
+    queue.add(createRequest(4L, 3L, 5));
+    List<Long> processed = new ArrayList<>();
+    while (queue.poll(0, request -> processed.add(request.getId())) > 0) {
+      // polls until all the batches are drained
+    }
+    // the batch of sender 1 goes back to the lane of its next request after each turn
+    assertEquals(List.of(3L, 1L, 2L, 4L), processed);
+  }
+
+  @Test
+  @DisplayName("An idle worker steals a batch from the other worker")
+  void testIdleWorkerStealsBatch() throws InterruptedException {
+    queue.add(createRequest(1L, 1L));
+    List<Long> processed = new ArrayList<>();
+    assertEquals(1, queue.poll(0, request -> processed.add(request.getId())));
+    assertEquals(List.of(1L), processed);
+    assertEquals(1L, processorStatistic.getStolenBatches());
+  }
+
+  @Test
+  @DisplayName("Polling without any work returns 0 after the idle wait")
+  void testPollWithoutWork() throws InterruptedException {
+    assertEquals(0, queue.poll(0, request -> {
+    }));
+  }
+
+  @Test
+  @DisplayName("Clear removes all scheduled batches")
+  void testClear() {
+    queue.add(createRequest(1L, 0L));
+    queue.clear();
+    assertEquals(0, queue.getScheduledBatches(0));
+  }
+}
@@ -25,6 +25,7 @@ THE SOFTWARE.
 package com.tenio.core.server.core;
 
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
@@ -179,6 +180,58 @@ public class ZeroProcessorImplTest {
         eq(PlayerDisconnectMode.CONNECTION_LOST));
   }
 
+  @Test
+  public void shouldRefuseConnectionWhenServerOverloaded() throws Exception {
+    when(session.isActivated()).thenReturn(true);
+
+    Request request = SessionRequest.newInstance()
+            .setEvent(ServerEvent.SESSION_REQUEST_CONNECTION)
+            .setSender(session)
+            .setMessage(message);
+
+    processor.refuseRequest(request);
+
+    verify(eventManager).emit(eq(ServerEvent.CONNECTION_ESTABLISHED_RESULT),
+        eq(session), eq(message), eq(ConnectionEstablishedResult.SERVER_OVERLOADED));
+    verify(session).close(eq(ConnectionDisconnectMode.REFUSED_CONNECTION),
+        eq(PlayerDisconnectMode.CONNECTION_LOST));
+  }
+
+  @Test
+  public void shouldRefuseDatagramChannelAccessToTheRequestingPlayerWhenServerOverloaded() {
+    when(eventManager.emit(eq(ServerEvent.ACCESS_DATAGRAM_CHANNEL_REQUEST_VALIDATION), eq(message)))
+        .thenReturn(Optional.of(player));
+
+    Request request = DatagramRequest.newInstance()
+            .setEvent(ServerEvent.DATAGRAM_CHANNEL_REQUEST_ACCESS)
+            .setSender(datagramChannel)
+            .setMessage(message);
+
+    processor.refuseRequest(request);
+
+    verify(eventManager).emit(eq(ServerEvent.ACCESS_DATAGRAM_CHANNEL_REQUEST_VALIDATION_RESULT),
+        eq(player), eq(Session.EMPTY_DATAGRAM_CONVEY_ID),
+        eq(AccessDatagramChannelResult.SERVER_OVERLOADED));
+    verify(sessionManager, never()).addDatagramForSession(any(), anyInt(), any());
+  }
+
+  @Test
+  public void shouldRefuseDatagramChannelAccessWithoutPlayerWhenServerOverloaded() {
+    when(eventManager.emit(eq(ServerEvent.ACCESS_DATAGRAM_CHANNEL_REQUEST_VALIDATION), eq(message)))
+        .thenReturn(Optional.empty());
+
+    Request request = DatagramRequest.newInstance()
+            .setEvent(ServerEvent.DATAGRAM_CHANNEL_REQUEST_ACCESS)
+            .setSender(datagramChannel)
+            .setMessage(message);
+
+    processor.refuseRequest(request);
+
+    verify(eventManager).emit(eq(ServerEvent.ACCESS_DATAGRAM_CHANNEL_REQUEST_VALIDATION_RESULT),
+        eq(null), eq(Session.EMPTY_DATAGRAM_CONVEY_ID),
+        eq(AccessDatagramChannelResult.PLAYER_NOT_FOUND));
+  }
+
   @Test
   public void shouldHandlePlayerReconnectionSuccessfully() {
     when(session.transitionAssociatedState(Session.AssociatedState.NONE,
@@ -0,0 +1,127 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.engine.ecs;
+
+import com.tenio.engine.ecs.basis.Group;
+import com.tenio.engine.ecs.basis.Matcher;
+import com.tenio.engine.ecs.basis.implement.ContextInfo;
+import com.tenio.engine.ecs.model.GameComponent;
+import com.tenio.engine.ecs.model.GameContext;
+import com.tenio.engine.ecs.model.GameEntity;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the way systems find their entities in every frame: scanning all the entities of a
+ * context and checking their components against iterating the groups which are maintained by the
+ * context. One operation is a frame of all the systems.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GroupBenchmark {
+
+  private static final int ENTITIES = 100_000;
+  private static final int SYSTEMS = 10;
+
+  private GameContext gameContext;
+  private GameEntity[] entities;
+  private int[][] systemComponents;
+  private Group<GameEntity>[] groups;
+
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    var info = new ContextInfo("Game", GameComponent.getComponentNames(),
+        GameComponent.getComponentTypes(), GameComponent.getNumberComponents());
+    gameContext = new GameContext(info);
+    for (int i = 0; i < ENTITIES; i++) {
+      var entity = gameContext.createEntity();
+      // only a few entities match the more specific systems
+      entity.setPosition(i, i);
+      entity.setMotion(i % 4 == 0);
+      entity.setAnimation(i % 16 == 0);
+      entity.setView(i % 64 == 0);
+    }
+
+    systemComponents = new int[SYSTEMS][];
+    groups = new Group[SYSTEMS];
+    for (int i = 0; i < SYSTEMS; i++) {
+      systemComponents[i] = switch (i % 4) {
+        case 0 -> new int[] {GameComponent.POSITION, GameComponent.MOTION};
+        case 1 -> new int[] {GameComponent.POSITION, GameComponent.ANIMATION};
+        case 2 -> new int[] {GameComponent.VIEW};
+        default -> new int[] {GameComponent.MOTION, GameComponent.ANIMATION, GameComponent.VIEW};
+      };
+      groups[i] = gameContext.getGroup(Matcher.newInstance().allOf(systemComponents[i]));
+    }
+    entities = gameContext.getEntities().values().toArray(new GameEntity[0]);
+  }
+
+  @TearDown
+  public void tearDown() {
+    gameContext.reset();
+  }
+
+  @Benchmark
+  public long scanContext() {
+    long processed = 0;
+    for (int system = 0; system < SYSTEMS; system++) {
+      for (var entity : entities) {
+        if (entity.hasComponents(systemComponents[system])) {
+          processed++;
+        }
+      }
+    }
+    return processed;
+  }
+
+  @Benchmark
+  public long iterateGroups() {
+    long processed = 0;
+    for (int system = 0; system < SYSTEMS; system++) {
+      var group = groups[system];
+      for (int i = 0; i < group.getEntitiesCount(); i++) {
+        if (group.getEntity(i) != null) {
+          processed++;
+        }
+      }
+    }
+    return processed;
+  }
+}
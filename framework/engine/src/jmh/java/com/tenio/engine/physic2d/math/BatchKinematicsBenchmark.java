@@ -0,0 +1,118 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.engine.physic2d.math;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares integrating and truncating many movers per tick with a {@link Vector2} for each mover
+ * against the batch kernels on arrays, plain and vectorized. One operation is a tick of all the
+ * movers. The vectorized kernels are only measured when they are built with the {@code vector}
+ * profile, otherwise {@link #batch()} falls back to the scalar kernels.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class BatchKinematicsBenchmark {
+
+  private static final int MOVERS = 100_000;
+  private static final float DELTA_TIME = 1.0f / 60;
+  private static final float MAX_SPEED = 20.0f;
+
+  private final float[] positionsX = new float[MOVERS];
+  private final float[] positionsY = new float[MOVERS];
+  private final float[] velocitiesX = new float[MOVERS];
+  private final float[] velocitiesY = new float[MOVERS];
+  private final float[] accelerationsX = new float[MOVERS];
+  private final float[] accelerationsY = new float[MOVERS];
+  private final float[] maxSpeeds = new float[MOVERS];
+  private BatchKinematics scalarKinematics;
+  private BatchKinematics kinematics;
+
+  @Setup
+  public void setUp() {
+    var random = new Random(2026);
+    for (int i = 0; i < MOVERS; i++) {
+      positionsX[i] = random.nextFloat() * 1000.0f;
+      positionsY[i] = random.nextFloat() * 1000.0f;
+      velocitiesX[i] = random.nextFloat() * 10.0f - 5.0f;
+      velocitiesY[i] = random.nextFloat() * 10.0f - 5.0f;
+      accelerationsX[i] = random.nextFloat() * 100.0f - 50.0f;
+      accelerationsY[i] = random.nextFloat() * 100.0f - 50.0f;
+      maxSpeeds[i] = MAX_SPEED;
+    }
+    scalarKinematics = BatchKinematics.newScalarInstance();
+    kinematics = BatchKinematics.newInstance();
+  }
+
+  @Benchmark
+  public float[] perMoverVectors() {
+    for (int i = 0; i < MOVERS; i++) {
+      // the way a moveable entity updates itself
+      var acceleration = Vector2.valueOf(accelerationsX[i], accelerationsY[i]);
+      var velocity = Vector2.valueOf(velocitiesX[i], velocitiesY[i])
+          .add(acceleration.mul(DELTA_TIME));
+      float lengthSqr = velocity.x * velocity.x + velocity.y * velocity.y;
+      if (lengthSqr > MAX_SPEED * MAX_SPEED) {
+        velocity.mul(MAX_SPEED / (float) Math.sqrt(lengthSqr));
+      }
+      var position = Vector2.valueOf(positionsX[i], positionsY[i])
+          .add(velocity.clone().mul(DELTA_TIME));
+      velocitiesX[i] = velocity.x;
+      velocitiesY[i] = velocity.y;
+      positionsX[i] = position.x;
+      positionsY[i] = position.y;
+    }
+    return positionsX;
+  }
+
+  @Benchmark
+  public float[] scalarBatch() {
+    scalarKinematics.integrate(positionsX, positionsY, velocitiesX, velocitiesY, accelerationsX,
+        accelerationsY, maxSpeeds, DELTA_TIME, MOVERS);
+    return positionsX;
+  }
+
+  @Benchmark
+  public float[] batch() {
+    kinematics.integrate(positionsX, positionsY, velocitiesX, velocitiesY, accelerationsX,
+        accelerationsY, maxSpeeds, DELTA_TIME, MOVERS);
+    return positionsX;
+  }
+}
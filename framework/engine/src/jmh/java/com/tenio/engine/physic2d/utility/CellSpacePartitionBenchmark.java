@@ -0,0 +1,183 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.engine.physic2d.utility;
+
+import com.tenio.engine.fsm.entity.Telegram;
+import com.tenio.engine.physic2d.common.BaseGameEntity;
+import com.tenio.engine.physic2d.common.InvertedAabbBox2D;
+import com.tenio.engine.physic2d.math.Vector2;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the neighbor queries of the partition against the previous implementation, which
+ * tested the bounding box of every cell and kept the members in linked lists. One operation is a
+ * frame in which every agent looks for its neighbors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CellSpacePartitionBenchmark {
+
+  private static final int AGENTS = 10_000;
+  private static final float SPACE_SIZE = 2_000.0f;
+  private static final int CELLS = 50;
+  private static final float QUERY_RADIUS = 40.0f;
+
+  private CellSpacePartition<Agent> partition;
+  private LegacyPartition legacyPartition;
+  private List<Agent> agents;
+  private List<Agent> neighbors;
+
+  @Setup
+  public void setUp() {
+    var random = new Random(2026);
+    partition = new CellSpacePartition<>(SPACE_SIZE, SPACE_SIZE, CELLS, CELLS, AGENTS);
+    legacyPartition = new LegacyPartition(SPACE_SIZE, SPACE_SIZE, CELLS, CELLS);
+    agents = new ArrayList<>(AGENTS);
+    for (int i = 0; i < AGENTS; i++) {
+      var agent = new Agent(random.nextFloat() * SPACE_SIZE, random.nextFloat() * SPACE_SIZE);
+      partition.addEntity(agent);
+      legacyPartition.addEntity(agent);
+      agents.add(agent);
+    }
+    neighbors = new ArrayList<>();
+  }
+
+  @Benchmark
+  public long scanCells() {
+    long found = 0;
+    for (var agent : agents) {
+      neighbors.clear();
+      legacyPartition.calculateNeighbors(agent.getPosition(), QUERY_RADIUS, neighbors);
+      found += neighbors.size();
+    }
+    return found;
+  }
+
+  @Benchmark
+  public long queryCellRange() {
+    long found = 0;
+    for (var agent : agents) {
+      neighbors.clear();
+      found += partition.calculateNeighbors(agent.getPosition(), QUERY_RADIUS, neighbors);
+    }
+    return found;
+  }
+
+  @Benchmark
+  public int calculatePairs() {
+    return partition.calculatePairsInRange(QUERY_RADIUS, (first, second) -> {
+    });
+  }
+
+  private static final class Agent extends BaseGameEntity {
+
+    Agent(float x, float y) {
+      setPosition(x, y);
+    }
+
+    @Override
+    public void update(float deltaTime) {
+    }
+
+    @Override
+    public boolean handleMessage(Telegram msg) {
+      return false;
+    }
+  }
+
+  /**
+   * The previous way of querying: every cell's bounding box is tested against the query box.
+   */
+  private static final class LegacyPartition {
+
+    private final List<InvertedAabbBox2D> boxes = new ArrayList<>();
+    private final List<List<Agent>> members = new ArrayList<>();
+    private final InvertedAabbBox2D queryBox = InvertedAabbBox2D.newInstance();
+    private final float spaceWidth;
+    private final float spaceHeight;
+    private final int numCellsX;
+    private final int numCellsY;
+
+    private LegacyPartition(float width, float height, int cellsX, int cellsY) {
+      spaceWidth = width;
+      spaceHeight = height;
+      numCellsX = cellsX;
+      numCellsY = cellsY;
+      float cellSizeX = width / cellsX;
+      float cellSizeY = height / cellsY;
+      for (int y = 0; y < cellsY; ++y) {
+        for (int x = 0; x < cellsX; ++x) {
+          float left = x * cellSizeX;
+          float top = y * cellSizeY;
+          boxes.add(InvertedAabbBox2D.valueOf(left, top, left + cellSizeX, top + cellSizeY));
+          members.add(new LinkedList<>());
+        }
+      }
+    }
+
+    private void addEntity(Agent agent) {
+      var position = agent.getPosition();
+      int idx = (int) (numCellsX * position.x / spaceWidth)
+          + ((int) (numCellsY * position.y / spaceHeight) * numCellsX);
+      members.get(Math.min(idx, members.size() - 1)).add(agent);
+    }
+
+    private void calculateNeighbors(Vector2 targetPos, float queryRadius, List<Agent> result) {
+      queryBox.setLeft(targetPos.x - queryRadius);
+      queryBox.setTop(targetPos.y - queryRadius);
+      queryBox.setRight(targetPos.x + queryRadius);
+      queryBox.setBottom(targetPos.y + queryRadius);
+      var temp = Vector2.newInstance();
+      for (int i = 0; i < boxes.size(); i++) {
+        if (boxes.get(i).isOverlappedWith(queryBox) && !members.get(i).isEmpty()) {
+          for (var agent : members.get(i)) {
+            if (temp.set(agent.getPosition()).getDistanceSqrValue(targetPos)
+                < queryRadius * queryRadius) {
+              result.add(agent);
+            }
+          }
+        }
+      }
+    }
+  }
+}
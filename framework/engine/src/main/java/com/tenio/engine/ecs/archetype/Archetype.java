@@ -0,0 +1,237 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.engine.ecs.archetype;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * An archetype groups all entities which have exactly the same set of components. Its entities
+ * are densely packed into chunks, the row {@code r} of the archetype is the row
+ * {@code r % chunkCapacity} of the chunk {@code r / chunkCapacity}.
+ *
+ * @since 0.7.4
+ */
+final class Archetype {
+
+  private final BitSet signature;
+  private final long[] mask;
+  private final ComponentLayout[] layouts;
+  private final int[] columnOffsets;
+  private final int columnCount;
+  private final int chunkCapacity;
+  private final List<ArchetypeChunk> chunks;
+  // the archetypes reached by adding or removing one component, they are resolved lazily
+  private final Archetype[] addEdges;
+  private final Archetype[] removeEdges;
+  private int size;
+
+  Archetype(BitSet signature, ComponentLayout[] layouts, int chunkCapacity) {
+    this.signature = signature;
+    mask = signature.toLongArray();
+    this.layouts = layouts;
+    this.chunkCapacity = chunkCapacity;
+    columnOffsets = new int[layouts.length];
+    int offset = 0;
+    for (int component = 0; component < layouts.length; component++) {
+      if (signature.get(component)) {
+        columnOffsets[component] = offset;
+        offset += layouts[component].getFieldCount();
+      } else {
+        columnOffsets[component] = -1;
+      }
+    }
+    columnCount = offset;
+    chunks = new ArrayList<>();
+    addEdges = new Archetype[layouts.length];
+    removeEdges = new Archetype[layouts.length];
+  }
+
+  BitSet getSignature() {
+    return signature;
+  }
+
+  long[] getMask() {
+    return mask;
+  }
+
+  boolean hasComponent(int component) {
+    return signature.get(component);
+  }
+
+  boolean hasComponents(int[] components) {
+    for (int component : components) {
+      if (!signature.get(component)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  int getColumnIndex(int component, int field) {
+    if (!signature.get(component)) {
+      throw new IllegalArgumentException("The archetype " + this + " has no component: " +
+          component);
+    }
+    if (field < 0 || field >= layouts[component].getFieldCount()) {
+      throw new IllegalArgumentException("The component " + component + " has no field: " +
+          field);
+    }
+    return columnOffsets[component] + field;
+  }
+
+  Object[] newColumns(int capacity) {
+    var columns = new Object[columnCount];
+    for (int component = signature.nextSetBit(0); component >= 0;
+         component = signature.nextSetBit(component + 1)) {
+      var layout = layouts[component];
+      for (int field = 0; field < layout.getFieldCount(); field++) {
+        columns[columnOffsets[component] + field] = layout.newColumn(field, capacity);
+      }
+    }
+    return columns;
+  }
+
+  int getSize() {
+    return size;
+  }
+
+  List<ArchetypeChunk> getChunks() {
+    return chunks;
+  }
+
+  int getChunkCount() {
+    return (size + chunkCapacity - 1) / chunkCapacity;
+  }
+
+  ArchetypeChunk getChunk(int row) {
+    return chunks.get(row / chunkCapacity);
+  }
+
+  int getLocalRow(int row) {
+    return row % chunkCapacity;
+  }
+
+  int getColumnOffset(int component) {
+    return columnOffsets[component];
+  }
+
+  Archetype getAddEdge(int component) {
+    return addEdges[component];
+  }
+
+  void setAddEdge(int component, Archetype archetype) {
+    addEdges[component] = archetype;
+  }
+
+  Archetype getRemoveEdge(int component) {
+    return removeEdges[component];
+  }
+
+  void setRemoveEdge(int component, Archetype archetype) {
+    removeEdges[component] = archetype;
+  }
+
+  int add(int handle) {
+    int chunkIndex = size / chunkCapacity;
+    if (chunkIndex == chunks.size()) {
+      chunks.add(new ArchetypeChunk(this, chunkCapacity));
+    }
+    chunks.get(chunkIndex).add(handle);
+    return size++;
+  }
+
+  /**
+   * Removes a row by moving the last row into its place.
+   *
+   * @param row the removing row
+   * @return the handle of the moved entity, or {@link EntityHandle#NULL_HANDLE} when the removed
+   * row was the last one
+   */
+  int remove(int row) {
+    int lastRow = size - 1;
+    var lastChunk = getChunk(lastRow);
+    int lastLocalRow = getLocalRow(lastRow);
+    int movedHandle = EntityHandle.NULL_HANDLE;
+    if (row != lastRow) {
+      var chunk = getChunk(row);
+      int localRow = getLocalRow(row);
+      var sourceColumns = lastChunk.getColumns();
+      var targetColumns = chunk.getColumns();
+      for (int column = 0; column < columnCount; column++) {
+        System.arraycopy(sourceColumns[column], lastLocalRow, targetColumns[column], localRow, 1);
+      }
+      movedHandle = lastChunk.getHandle(lastLocalRow);
+      chunk.setHandle(localRow, movedHandle);
+    }
+    lastChunk.removeLast();
+    size--;
+    return movedHandle;
+  }
+
+  /**
+   * Copies the values of the components shared by both archetypes from a row of this archetype
+   * into a row of the target one.
+   */
+  void copyRow(int row, Archetype target, int targetRow) {
+    var sourceColumns = getChunk(row).getColumns();
+    int localRow = getLocalRow(row);
+    var targetColumns = target.getChunk(targetRow).getColumns();
+    int targetLocalRow = target.getLocalRow(targetRow);
+    for (int component = signature.nextSetBit(0); component >= 0;
+         component = signature.nextSetBit(component + 1)) {
+      if (!target.hasComponent(component)) {
+        continue;
+      }
+      int sourceOffset = columnOffsets[component];
+      int targetOffset = target.getColumnOffset(component);
+      for (int field = 0; field < layouts[component].getFieldCount(); field++) {
+        System.arraycopy(sourceColumns[sourceOffset + field], localRow,
+            targetColumns[targetOffset + field], targetLocalRow, 1);
+      }
+    }
+  }
+
+  void clear() {
+    for (var chunk : chunks) {
+      chunk.clear();
+    }
+    size = 0;
+  }
+
+  void release() {
+    clear();
+    chunks.clear();
+    Arrays.fill(addEdges, null);
+    Arrays.fill(removeEdges, null);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("Archetype{signature=%s, size=%d}", signature, size);
+  }
+}
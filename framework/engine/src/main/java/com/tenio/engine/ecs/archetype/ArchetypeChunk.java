@@ -0,0 +1,239 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.engine.ecs.archetype;
+
+import java.util.Arrays;
+
+/**
+ * A chunk holds a fixed number of entities which share the same archetype. Every field of every
+ * component is stored in its own contiguous array (struct of arrays), the row {@code i} of each
+ * array belongs to the entity {@link #getHandle(int)}.
+ *
+ * <p>The arrays returned by the column getters are the chunk's storage, systems read and write
+ * them directly for the rows from {@code 0} to {@link #getSize()} exclusive. A column is
+ * addressed by the component index and the field index, see
+ * {@link ArchetypeContext#getFieldIndex(int, String)}.
+ *
+ * @see ArchetypeContext#forEachChunk(java.util.function.Consumer, int...)
+ * @since 0.7.4
+ */
+public final class ArchetypeChunk {
+
+  private final Archetype archetype;
+  private final int[] handles;
+  private final Object[] columns;
+  private int size;
+
+  ArchetypeChunk(Archetype archetype, int capacity) {
+    this.archetype = archetype;
+    handles = new int[capacity];
+    columns = archetype.newColumns(capacity);
+  }
+
+  /**
+   * Retrieves the number of entities in this chunk.
+   *
+   * @return the number of entities
+   */
+  public int getSize() {
+    return size;
+  }
+
+  /**
+   * Retrieves the maximum number of entities this chunk can hold.
+   *
+   * @return the chunk's capacity
+   */
+  public int getCapacity() {
+    return handles.length;
+  }
+
+  /**
+   * Retrieves the handle of an entity.
+   *
+   * @param row the entity's row in this chunk
+   * @return the entity handle
+   * @see EntityHandle
+   */
+  public int getHandle(int row) {
+    return handles[row];
+  }
+
+  /**
+   * Determines whether the entities of this chunk have a component.
+   *
+   * @param component the component index
+   * @return {@code true} if the component is part of the chunk's archetype, otherwise
+   * {@code false}
+   */
+  public boolean hasComponent(int component) {
+    return archetype.hasComponent(component);
+  }
+
+  /**
+   * Retrieves a column of {@code float} values.
+   *
+   * @param component the component index
+   * @param field     the field index
+   * @return the column
+   */
+  public float[] getFloats(int component, int field) {
+    return (float[]) getColumn(component, field);
+  }
+
+  /**
+   * Retrieves a column of {@code double} values.
+   *
+   * @param component the component index
+   * @param field     the field index
+   * @return the column
+   */
+  public double[] getDoubles(int component, int field) {
+    return (double[]) getColumn(component, field);
+  }
+
+  /**
+   * Retrieves a column of {@code int} values.
+   *
+   * @param component the component index
+   * @param field     the field index
+   * @return the column
+   */
+  public int[] getInts(int component, int field) {
+    return (int[]) getColumn(component, field);
+  }
+
+  /**
+   * Retrieves a column of {@code long} values.
+   *
+   * @param component the component index
+   * @param field     the field index
+   * @return the column
+   */
+  public long[] getLongs(int component, int field) {
+    return (long[]) getColumn(component, field);
+  }
+
+  /**
+   * Retrieves a column of {@code boolean} values.
+   *
+   * @param component the component index
+   * @param field     the field index
+   * @return the column
+   */
+  public boolean[] getBooleans(int component, int field) {
+    return (boolean[]) getColumn(component, field);
+  }
+
+  /**
+   * Retrieves a column of a non-primitive field.
+   *
+   * @param component the component index
+   * @param field     the field index
+   * @return the column
+   */
+  public Object[] getObjects(int component, int field) {
+    return (Object[]) getColumn(component, field);
+  }
+
+  /**
+   * Retrieves a column, it is an array of the field's type.
+   *
+   * @param component the component index
+   * @param field     the field index
+   * @return the column
+   */
+  public Object getColumn(int component, int field) {
+    return columns[archetype.getColumnIndex(component, field)];
+  }
+
+  Object[] getColumns() {
+    return columns;
+  }
+
+  boolean isFull() {
+    return size == handles.length;
+  }
+
+  int add(int handle) {
+    int row = size++;
+    handles[row] = handle;
+    for (var column : columns) {
+      clearCell(column, row);
+    }
+    return row;
+  }
+
+  void setHandle(int row, int handle) {
+    handles[row] = handle;
+  }
+
+  void removeLast() {
+    size--;
+    for (var column : columns) {
+      // the references must not be kept, the primitive values are cleared on reuse
+      if (column instanceof Object[] objects) {
+        objects[size] = null;
+      }
+    }
+  }
+
+  void clear() {
+    for (var column : columns) {
+      if (column instanceof Object[] objects) {
+        Arrays.fill(objects, 0, size, null);
+      }
+    }
+    size = 0;
+  }
+
+  private static void clearCell(Object column, int row) {
+    if (column instanceof float[] floats) {
+      floats[row] = 0.0f;
+    } else if (column instanceof int[] ints) {
+      ints[row] = 0;
+    } else if (column instanceof double[] doubles) {
+      doubles[row] = 0.0;
+    } else if (column instanceof long[] longs) {
+      longs[row] = 0L;
+    } else if (column instanceof boolean[] booleans) {
+      booleans[row] = false;
+    } else if (column instanceof byte[] bytes) {
+      bytes[row] = 0;
+    } else if (column instanceof short[] shorts) {
+      shorts[row] = 0;
+    } else if (column instanceof char[] chars) {
+      chars[row] = 0;
+    } else {
+      ((Object[]) column)[row] = null;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return String.format("ArchetypeChunk{archetype=%s, size=%d, capacity=%d}", archetype,
+        size, handles.length);
+  }
+}
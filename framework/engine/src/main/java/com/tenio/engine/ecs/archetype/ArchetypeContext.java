@@ -0,0 +1,560 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.engine.ecs.archetype;
+
+import com.tenio.engine.ecs.basis.Component;
+import com.tenio.engine.ecs.basis.Context;
+import com.tenio.engine.ecs.basis.Entity;
+import com.tenio.engine.ecs.basis.Group;
+import com.tenio.engine.ecs.basis.Matcher;
+import com.tenio.engine.ecs.basis.implement.GroupImpl;
+import com.tenio.engine.ecs.basis.implement.ContextImpl;
+import com.tenio.engine.ecs.basis.implement.ContextInfo;
+import com.tenio.engine.exception.ComponentIsNotExistedException;
+import com.tenio.engine.exception.DuplicatedComponentException;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * A context which groups its entities by their sets of components (archetypes) and stores the
+ * components' fields in contiguous arrays, see {@link ArchetypeChunk}. Systems iterate the chunks
+ * matching their components instead of chasing every entity and component object across the heap
+ * like in {@link ContextImpl}.
+ *
+ * <p>Entities are addressed by {@code int} handles, see {@link EntityHandle}. The {@link Entity}
+ * and {@link Component} API stays available through {@link ArchetypeEntity}, which copies the
+ * components' values in and out of the columns.
+ *
+ * <p>Structural changes (creating or destroying entities, adding or removing components) move
+ * entities between chunks, so they must not happen while chunks are being iterated. This class
+ * is not thread-safe.
+ *
+ * @see Context
+ * @since 0.7.4
+ */
+public class ArchetypeContext implements Context<ArchetypeEntity> {
+
+  /**
+   * The default number of entities per chunk.
+   */
+  public static final int DEFAULT_CHUNK_CAPACITY = 1024;
+
+  private static final int INITIAL_NUMBER_ENTITIES = 1024;
+
+  private final ContextInfo contextInfo;
+  private final ComponentLayout[] layouts;
+  private final int chunkCapacity;
+  private final Map<BitSet, Archetype> archetypes;
+  private final List<Archetype> archetypesList;
+  private final Archetype emptyArchetype;
+  private final Map<Matcher, GroupImpl<ArchetypeEntity>> groups;
+  private final List<GroupImpl<ArchetypeEntity>> groupsList;
+  private int[] generations;
+  private Archetype[] entityArchetypes;
+  private int[] entityRows;
+  private ArchetypeEntity[] adapters;
+  private int[] freeIndices;
+  private int freeIndicesCount;
+  private int nextIndex;
+  private int entitiesCount;
+
+  /**
+   * Initialization.
+   *
+   * @param contextInfo the context information
+   */
+  public ArchetypeContext(ContextInfo contextInfo) {
+    this(contextInfo, DEFAULT_CHUNK_CAPACITY);
+  }
+
+  /**
+   * Initialization.
+   *
+   * @param contextInfo   the context information
+   * @param chunkCapacity the number of entities per chunk
+   */
+  public ArchetypeContext(ContextInfo contextInfo, int chunkCapacity) {
+    if (chunkCapacity < 1) {
+      throw new IllegalArgumentException("Chunk capacity must be greater than 0");
+    }
+    this.contextInfo = contextInfo;
+    this.chunkCapacity = chunkCapacity;
+    layouts = new ComponentLayout[contextInfo.getNumberComponents()];
+    for (int i = 0; i < layouts.length; i++) {
+      var componentType = contextInfo.getComponentTypes()[i];
+      if (componentType != null) {
+        layouts[i] = new ComponentLayout(componentType);
+      }
+    }
+    archetypes = new HashMap<>();
+    archetypesList = new ArrayList<>();
+    groups = new HashMap<>();
+    groupsList = new ArrayList<>();
+    emptyArchetype = getArchetype(new BitSet(layouts.length));
+    initializeEntities();
+  }
+
+  private void initializeEntities() {
+    generations = new int[INITIAL_NUMBER_ENTITIES];
+    entityArchetypes = new Archetype[INITIAL_NUMBER_ENTITIES];
+    entityRows = new int[INITIAL_NUMBER_ENTITIES];
+    adapters = new ArchetypeEntity[INITIAL_NUMBER_ENTITIES];
+    freeIndices = new int[INITIAL_NUMBER_ENTITIES];
+    freeIndicesCount = 0;
+    nextIndex = 0;
+    entitiesCount = 0;
+  }
+
+  /**
+   * Creates a new entity without any component.
+   *
+   * @return the new entity handle
+   */
+  public int create() {
+    int index;
+    if (freeIndicesCount > 0) {
+      index = freeIndices[--freeIndicesCount];
+    } else {
+      if (nextIndex == EntityHandle.MAX_ENTITIES) {
+        throw new IllegalStateException("The context is full: " + EntityHandle.MAX_ENTITIES);
+      }
+      index = nextIndex++;
+      ensureCapacity(index + 1);
+      generations[index] = 1;
+    }
+    int handle = EntityHandle.of(index, generations[index]);
+    entityArchetypes[index] = emptyArchetype;
+    entityRows[index] = emptyArchetype.add(handle);
+    entitiesCount++;
+    updateGroups(index, handle, emptyArchetype);
+    return handle;
+  }
+
+  /**
+   * Determines whether a handle refers to an existing entity.
+   *
+   * @param handle the entity handle
+   * @return {@code true} if the entity exists, otherwise {@code false}
+   */
+  public boolean isAlive(int handle) {
+    int index = EntityHandle.getIndex(handle);
+    return handle != EntityHandle.NULL_HANDLE && index < nextIndex &&
+        entityArchetypes[index] != null &&
+        generations[index] == EntityHandle.getGeneration(handle);
+  }
+
+  /**
+   * Destroys an entity, its handle becomes stale.
+   *
+   * @param handle the entity handle
+   */
+  public void destroy(int handle) {
+    int index = checkHandle(handle);
+    removeRow(entityArchetypes[index], entityRows[index]);
+    for (int i = 0; i < groupsList.size(); i++) {
+      groupsList.get(i).remove(index);
+    }
+    entityArchetypes[index] = null;
+    adapters[index] = null;
+    generations[index] = EntityHandle.nextGeneration(generations[index]);
+    freeIndices[freeIndicesCount++] = index;
+    entitiesCount--;
+  }
+
+  /**
+   * Adds a component to an entity, its fields start with their default values.
+   *
+   * @param handle    the entity handle
+   * @param component the component index
+   * @throws DuplicatedComponentException when the entity already has the component
+   */
+  public void addComponent(int handle, int component) {
+    int index = checkHandle(handle);
+    checkComponent(component);
+    var archetype = entityArchetypes[index];
+    if (archetype.hasComponent(component)) {
+      throw new DuplicatedComponentException();
+    }
+    var target = archetype.getAddEdge(component);
+    if (target == null) {
+      var signature = (BitSet) archetype.getSignature().clone();
+      signature.set(component);
+      target = getArchetype(signature);
+      archetype.setAddEdge(component, target);
+    }
+    move(index, target);
+  }
+
+  /**
+   * Removes a component from an entity.
+   *
+   * @param handle    the entity handle
+   * @param component the component index
+   * @throws ComponentIsNotExistedException when the entity does not have the component
+   */
+  public void removeComponent(int handle, int component) {
+    int index = checkHandle(handle);
+    checkComponent(component);
+    var archetype = entityArchetypes[index];
+    if (!archetype.hasComponent(component)) {
+      throw new ComponentIsNotExistedException();
+    }
+    var target = archetype.getRemoveEdge(component);
+    if (target == null) {
+      var signature = (BitSet) archetype.getSignature().clone();
+      signature.clear(component);
+      target = getArchetype(signature);
+      archetype.setRemoveEdge(component, target);
+    }
+    move(index, target);
+  }
+
+  /**
+   * Determines whether an entity has a component.
+   *
+   * @param handle    the entity handle
+   * @param component the component index
+   * @return {@code true} if the entity has the component, otherwise {@code false}
+   */
+  public boolean hasComponent(int handle, int component) {
+    int index = checkHandle(handle);
+    return component >= 0 && component < layouts.length &&
+        entityArchetypes[index].hasComponent(component);
+  }
+
+  /**
+   * Retrieves the index of a component's field, it is used to address the columns.
+   *
+   * @param component the component index
+   * @param fieldName the field's name
+   * @return the field index
+   */
+  public int getFieldIndex(int component, String fieldName) {
+    checkComponent(component);
+    return layouts[component].getFieldIndex(fieldName);
+  }
+
+  /**
+   * Retrieves a field value of an entity's component. The value is boxed, systems should
+   * iterate the chunks instead.
+   *
+   * @param handle    the entity handle
+   * @param component the component index
+   * @param field     the field index
+   * @return the field value
+   */
+  public Object getValue(int handle, int component, int field) {
+    int index = checkHandle(handle);
+    var archetype = entityArchetypes[index];
+    int row = entityRows[index];
+    return Array.get(archetype.getChunk(row).getColumn(component, field),
+        archetype.getLocalRow(row));
+  }
+
+  /**
+   * Updates a field value of an entity's component. The value is boxed, systems should iterate
+   * the chunks instead.
+   *
+   * @param handle    the entity handle
+   * @param component the component index
+   * @param field     the field index
+   * @param value     the new value
+   */
+  public void setValue(int handle, int component, int field, Object value) {
+    int index = checkHandle(handle);
+    var archetype = entityArchetypes[index];
+    int row = entityRows[index];
+    Array.set(archetype.getChunk(row).getColumn(component, field), archetype.getLocalRow(row),
+        value);
+  }
+
+  /**
+   * Iterates all non-empty chunks whose entities have the components.
+   *
+   * @param consumer   the chunk consumer
+   * @param components the required component indices, an empty array matches all chunks
+   */
+  public void forEachChunk(Consumer<ArchetypeChunk> consumer, int... components) {
+    for (int i = 0; i < archetypesList.size(); i++) {
+      var archetype = archetypesList.get(i);
+      if (archetype.getSize() == 0 || !archetype.hasComponents(components)) {
+        continue;
+      }
+      var chunks = archetype.getChunks();
+      int chunkCount = archetype.getChunkCount();
+      for (int chunk = 0; chunk < chunkCount; chunk++) {
+        consumer.accept(chunks.get(chunk));
+      }
+    }
+  }
+
+  /**
+   * Iterates all non-empty chunks whose entities match a matcher.
+   *
+   * @param matcher  the {@link Matcher}
+   * @param consumer the chunk consumer
+   */
+  public void forEachChunk(Matcher matcher, Consumer<ArchetypeChunk> consumer) {
+    for (int i = 0; i < archetypesList.size(); i++) {
+      var archetype = archetypesList.get(i);
+      if (archetype.getSize() == 0 || !matcher.matches(archetype.getMask())) {
+        continue;
+      }
+      var chunks = archetype.getChunks();
+      int chunkCount = archetype.getChunkCount();
+      for (int chunk = 0; chunk < chunkCount; chunk++) {
+        consumer.accept(chunks.get(chunk));
+      }
+    }
+  }
+
+  /**
+   * Retrieves the number of archetypes created so far.
+   *
+   * @return the number of archetypes
+   */
+  public int getArchetypesCount() {
+    return archetypesList.size();
+  }
+
+  /**
+   * Retrieves the adapter of an entity, which provides the {@link Entity} API.
+   *
+   * @param handle the entity handle
+   * @return the {@link ArchetypeEntity}, or {@code null} if the entity does not exist
+   */
+  public ArchetypeEntity getEntity(int handle) {
+    if (!isAlive(handle)) {
+      return null;
+    }
+    int index = EntityHandle.getIndex(handle);
+    var adapter = adapters[index];
+    if (adapter == null) {
+      adapter = new ArchetypeEntity(this, handle);
+      adapters[index] = adapter;
+    }
+    return adapter;
+  }
+
+  Component readComponent(int handle, int component) {
+    int index = checkHandle(handle);
+    var archetype = entityArchetypes[index];
+    if (component < 0 || component >= layouts.length || !archetype.hasComponent(component)) {
+      return null;
+    }
+    int row = entityRows[index];
+    return layouts[component].read(archetype.getChunk(row).getColumns(),
+        archetype.getColumnOffset(component), archetype.getLocalRow(row));
+  }
+
+  void writeComponent(int handle, int component, Component value) {
+    int index = checkHandle(handle);
+    var archetype = entityArchetypes[index];
+    int row = entityRows[index];
+    layouts[component].write(value, archetype.getChunk(row).getColumns(),
+        archetype.getColumnOffset(component), archetype.getLocalRow(row));
+  }
+
+  @Override
+  public ArchetypeEntity createEntity() {
+    return getEntity(create());
+  }
+
+  /**
+   * Retrieves an entity by its id, which is the decimal value of its handle.
+   *
+   * @param entityId the entity id
+   * @return the corresponding entity, or {@code null} if it does not exist
+   */
+  @Override
+  public ArchetypeEntity getEntity(String entityId) {
+    try {
+      return getEntity(Integer.parseInt(entityId));
+    } catch (NumberFormatException exception) {
+      return null;
+    }
+  }
+
+  @Override
+  public boolean hasEntity(ArchetypeEntity entity) {
+    return entity.getContext() == this && isAlive(entity.getHandle());
+  }
+
+  @Override
+  public void destroyEntity(ArchetypeEntity entity) {
+    destroy(entity.getHandle());
+  }
+
+  /**
+   * Retrieves all entities of the current context. A new map is built on every call, it is
+   * meant for tools and tests, not for the frame loop.
+   *
+   * @return a new map of entities by their ids
+   */
+  @Override
+  public Map<String, ArchetypeEntity> getEntities() {
+    Map<String, ArchetypeEntity> entities = new LinkedHashMap<>();
+    for (int index = 0; index < nextIndex; index++) {
+      if (entityArchetypes[index] != null) {
+        var entity = getEntity(EntityHandle.of(index, generations[index]));
+        entities.put(entity.getId(), entity);
+      }
+    }
+    return entities;
+  }
+
+  @Override
+  public Group<ArchetypeEntity> getGroup(Matcher matcher) {
+    var group = groups.get(matcher);
+    if (group == null) {
+      group = new GroupImpl<>(matcher, entity -> EntityHandle.getIndex(entity.getHandle()));
+      for (int index = 0; index < nextIndex; index++) {
+        var archetype = entityArchetypes[index];
+        if (archetype != null && matcher.matches(archetype.getMask())) {
+          group.add(index, getEntity(EntityHandle.of(index, generations[index])));
+        }
+      }
+      groups.put(matcher, group);
+      groupsList.add(group);
+    }
+    return group;
+  }
+
+  @Override
+  public ContextInfo getContextInfo() {
+    return contextInfo;
+  }
+
+  @Override
+  public int getEntitiesCount() {
+    return entitiesCount;
+  }
+
+  @Override
+  public void destroyAllEntities() {
+    for (var archetype : archetypesList) {
+      archetype.clear();
+    }
+    for (int index = 0; index < nextIndex; index++) {
+      if (entityArchetypes[index] != null) {
+        entityArchetypes[index] = null;
+        adapters[index] = null;
+        generations[index] = EntityHandle.nextGeneration(generations[index]);
+        freeIndices[freeIndicesCount++] = index;
+      }
+    }
+    entitiesCount = 0;
+    groupsList.forEach(GroupImpl::clear);
+  }
+
+  /**
+   * Destroys all entities and releases the archetypes, the generations are kept so the handles
+   * issued before stay stale.
+   */
+  @Override
+  public void reset() {
+    destroyAllEntities();
+    archetypes.clear();
+    archetypesList.clear();
+    emptyArchetype.release();
+    archetypes.put(emptyArchetype.getSignature(), emptyArchetype);
+    archetypesList.add(emptyArchetype);
+  }
+
+  private Archetype getArchetype(BitSet signature) {
+    var archetype = archetypes.get(signature);
+    if (archetype == null) {
+      archetype = new Archetype(signature, layouts, chunkCapacity);
+      archetypes.put(signature, archetype);
+      archetypesList.add(archetype);
+    }
+    return archetype;
+  }
+
+  private void move(int index, Archetype target) {
+    var source = entityArchetypes[index];
+    int row = entityRows[index];
+    int targetRow = target.add(source.getChunk(row).getHandle(source.getLocalRow(row)));
+    source.copyRow(row, target, targetRow);
+    removeRow(source, row);
+    entityArchetypes[index] = target;
+    entityRows[index] = targetRow;
+    updateGroups(index, EntityHandle.of(index, generations[index]), target);
+  }
+
+  private void updateGroups(int index, int handle, Archetype archetype) {
+    for (int i = 0; i < groupsList.size(); i++) {
+      var group = groupsList.get(i);
+      if (group.getMatcher().matches(archetype.getMask())) {
+        if (!group.contains(index)) {
+          group.add(index, getEntity(handle));
+        }
+      } else {
+        group.remove(index);
+      }
+    }
+  }
+
+  private void removeRow(Archetype archetype, int row) {
+    int movedHandle = archetype.remove(row);
+    if (movedHandle != EntityHandle.NULL_HANDLE) {
+      entityRows[EntityHandle.getIndex(movedHandle)] = row;
+    }
+  }
+
+  private int checkHandle(int handle) {
+    if (!isAlive(handle)) {
+      throw new IllegalArgumentException("The entity handle is not alive: " + handle);
+    }
+    return EntityHandle.getIndex(handle);
+  }
+
+  private void checkComponent(int component) {
+    if (component < 0 || component >= layouts.length || layouts[component] == null) {
+      throw new IllegalArgumentException("The component is not declared in the context: " +
+          component);
+    }
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (capacity <= generations.length) {
+      return;
+    }
+    int newCapacity = Math.min(Math.max(capacity, generations.length * 2),
+        EntityHandle.MAX_ENTITIES);
+    generations = Arrays.copyOf(generations, newCapacity);
+    entityArchetypes = Arrays.copyOf(entityArchetypes, newCapacity);
+    entityRows = Arrays.copyOf(entityRows, newCapacity);
+    adapters = Arrays.copyOf(adapters, newCapacity);
+    freeIndices = Arrays.copyOf(freeIndices, newCapacity);
+  }
+}
@@ -0,0 +1,238 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.engine.ecs.archetype;
+
+import com.tenio.common.pool.ElementPool;
+import com.tenio.engine.ecs.basis.Component;
+import com.tenio.engine.ecs.basis.Entity;
+import com.tenio.engine.ecs.basis.implement.ContextInfo;
+import com.tenio.engine.exception.ComponentIsNotExistedException;
+import com.tenio.engine.exception.DuplicatedComponentException;
+
+/**
+ * The adapter which provides the {@link Entity} API for an entity of an
+ * {@link ArchetypeContext}. The component values live in the context's columns, so the
+ * components returned by this adapter are copies: changing them has no effect until they are
+ * written back by {@link #replaceComponent(int, Component)}. The components given to this adapter
+ * are copied as well and not kept, there are no component pools.
+ *
+ * @see ArchetypeContext#getEntity(int)
+ * @since 0.7.4
+ */
+public final class ArchetypeEntity implements Entity {
+
+  private final ArchetypeContext context;
+  private final int handle;
+  private final String id;
+
+  ArchetypeEntity(ArchetypeContext context, int handle) {
+    this.context = context;
+    this.handle = handle;
+    id = Integer.toString(handle);
+  }
+
+  /**
+   * Retrieves the entity handle.
+   *
+   * @return the entity handle
+   * @see EntityHandle
+   */
+  public int getHandle() {
+    return handle;
+  }
+
+  /**
+   * Retrieves the context which owns this entity.
+   *
+   * @return the {@link ArchetypeContext}
+   */
+  public ArchetypeContext getContext() {
+    return context;
+  }
+
+  /**
+   * Retrieves the entity's id, it is the decimal value of the entity handle.
+   *
+   * @return entity's id
+   */
+  @Override
+  public String getId() {
+    return id;
+  }
+
+  /**
+   * The id is derived from the entity handle, so it cannot be changed.
+   *
+   * @param id the desired id
+   * @throws UnsupportedOperationException always
+   */
+  @Override
+  public void setId(String id) {
+    throw new UnsupportedOperationException("The id is derived from the entity handle");
+  }
+
+  /**
+   * The components are stored in columns, so there are no component pools.
+   *
+   * @return {@code null}
+   */
+  @Override
+  public ElementPool<Component>[] getComponentPools() {
+    return null;
+  }
+
+  @Override
+  public void setComponentPools(ElementPool<Component>[] componentPools) {
+    // there are no component pools
+  }
+
+  @Override
+  public ContextInfo getContextInfo() {
+    return context.getContextInfo();
+  }
+
+  @Override
+  public void setContextInfo(ContextInfo contextInfo) {
+    // the context information is the one of the owner context
+  }
+
+  @Override
+  public void setComponent(int index, Component component) {
+    if (hasComponent(index)) {
+      throw new DuplicatedComponentException();
+    }
+    context.addComponent(handle, index);
+    if (component != null) {
+      context.writeComponent(handle, index, component);
+    }
+  }
+
+  @Override
+  public void removeComponent(int index) {
+    if (!hasComponent(index)) {
+      throw new ComponentIsNotExistedException();
+    }
+    context.removeComponent(handle, index);
+  }
+
+  @Override
+  public void replaceComponent(int index, Component component) {
+    if (hasComponent(index)) {
+      if (component == null) {
+        context.removeComponent(handle, index);
+      } else {
+        context.writeComponent(handle, index, component);
+      }
+    } else if (component != null) {
+      setComponent(index, component);
+    }
+  }
+
+  /**
+   * Retrieves a copy of the component by index.
+   *
+   * @param index the component index
+   * @return a copy of the component, or {@code null} if the entity does not have it
+   */
+  @Override
+  public Component getComponent(int index) {
+    return context.readComponent(handle, index);
+  }
+
+  /**
+   * Retrieves copies of all the entity's components.
+   *
+   * @return a new array of components indexed by the component indices
+   */
+  @Override
+  public Component[] getComponents() {
+    var components = new Component[context.getContextInfo().getNumberComponents()];
+    for (int index = 0; index < components.length; index++) {
+      components[index] = context.readComponent(handle, index);
+    }
+    return components;
+  }
+
+  @Override
+  public boolean hasComponent(int index) {
+    return context.hasComponent(handle, index);
+  }
+
+  @Override
+  public boolean hasComponents(int... indices) {
+    for (int index : indices) {
+      if (!hasComponent(index)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public boolean hasAnyComponent(int... indices) {
+    for (int index : indices) {
+      if (hasComponent(index)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public void removeAllComponents() {
+    for (int index = 0; index < context.getContextInfo().getNumberComponents(); index++) {
+      if (hasComponent(index)) {
+        context.removeComponent(handle, index);
+      }
+    }
+  }
+
+  @Override
+  public void reset() {
+    removeAllComponents();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof ArchetypeEntity other)) {
+      return false;
+    }
+    return context == other.context && handle == other.handle;
+  }
+
+  @Override
+  public int hashCode() {
+    return handle;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("ArchetypeEntity{index=%d, generation=%d}",
+        EntityHandle.getIndex(handle), EntityHandle.getGeneration(handle));
+  }
+}
@@ -0,0 +1,110 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.engine.ecs.archetype;
+
+import com.tenio.engine.ecs.basis.Component;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The layout of a component type, each of its instance fields becomes a column in the archetype
+ * chunks. The primitive fields are stored in primitive arrays, the others in arrays of their
+ * declared types.
+ *
+ * @since 0.7.4
+ */
+final class ComponentLayout {
+
+  private final Class<?> type;
+  private final Field[] fields;
+
+  ComponentLayout(Class<?> type) {
+    if (!Component.class.isAssignableFrom(type)) {
+      throw new IllegalArgumentException("The type " + type.getName() + " is not a component");
+    }
+    this.type = type;
+    List<Field> instanceFields = new ArrayList<>();
+    for (var clazz = type; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+      for (var field : clazz.getDeclaredFields()) {
+        int modifiers = field.getModifiers();
+        if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)) {
+          continue;
+        }
+        field.setAccessible(true);
+        instanceFields.add(field);
+      }
+    }
+    fields = instanceFields.toArray(new Field[0]);
+  }
+
+  Class<?> getType() {
+    return type;
+  }
+
+  int getFieldCount() {
+    return fields.length;
+  }
+
+  int getFieldIndex(String fieldName) {
+    for (int i = 0; i < fields.length; i++) {
+      if (fields[i].getName().equals(fieldName)) {
+        return i;
+      }
+    }
+    throw new IllegalArgumentException("The component " + type.getSimpleName() +
+        " has no field: " + fieldName);
+  }
+
+  Object newColumn(int field, int capacity) {
+    return Array.newInstance(fields[field].getType(), capacity);
+  }
+
+  void write(Component component, Object[] columns, int offset, int row) {
+    try {
+      for (int i = 0; i < fields.length; i++) {
+        Array.set(columns[offset + i], row, fields[i].get(component));
+      }
+    } catch (IllegalAccessException exception) {
+      throw new IllegalStateException(exception);
+    }
+  }
+
+  Component read(Object[] columns, int offset, int row) {
+    try {
+      var component = (Component) type.getDeclaredConstructor().newInstance();
+      for (int i = 0; i < fields.length; i++) {
+        fields[i].set(component, Array.get(columns[offset + i], row));
+      }
+      return component;
+    } catch (InstantiationException | IllegalAccessException | InvocationTargetException
+             | NoSuchMethodException exception) {
+      throw new IllegalStateException(exception);
+    }
+  }
+}
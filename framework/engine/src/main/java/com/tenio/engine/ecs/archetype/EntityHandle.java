@@ -0,0 +1,99 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.engine.ecs.archetype;
+
+/**
+ * An entity handle is an {@code int} value which packs the entity's index in its context and the
+ * generation of that index. Whenever an entity is destroyed, the generation of its index is
+ * increased, so the stale handles held elsewhere can be detected.
+ *
+ * @since 0.7.4
+ */
+public final class EntityHandle {
+
+  /**
+   * The handle which never refers to any entity.
+   */
+  public static final int NULL_HANDLE = 0;
+  /**
+   * The number of bits used by the index.
+   */
+  public static final int INDEX_BITS = 22;
+  /**
+   * The maximum number of entities a context can hold at the same time.
+   */
+  public static final int MAX_ENTITIES = 1 << INDEX_BITS;
+
+  private static final int INDEX_MASK = MAX_ENTITIES - 1;
+  private static final int GENERATION_MASK = (1 << (Integer.SIZE - INDEX_BITS)) - 1;
+
+  private EntityHandle() {
+    throw new UnsupportedOperationException("This class does not support to create a new "
+        + "instance");
+  }
+
+  /**
+   * Creates a new handle.
+   *
+   * @param index      the entity's index
+   * @param generation the index's generation, it starts from {@code 1}
+   * @return a new handle
+   */
+  public static int of(int index, int generation) {
+    return (generation << INDEX_BITS) | index;
+  }
+
+  /**
+   * Retrieves the entity's index.
+   *
+   * @param handle the entity handle
+   * @return the entity's index
+   */
+  public static int getIndex(int handle) {
+    return handle & INDEX_MASK;
+  }
+
+  /**
+   * Retrieves the generation of the entity's index.
+   *
+   * @param handle the entity handle
+   * @return the generation
+   */
+  public static int getGeneration(int handle) {
+    return handle >>> INDEX_BITS;
+  }
+
+  /**
+   * Retrieves the generation which follows the given one, the generation {@code 0} is skipped
+   * when it wraps around, so that {@link #NULL_HANDLE} is never issued.
+   *
+   * @param generation the current generation
+   * @return the next generation
+   */
+  static int nextGeneration(int generation) {
+    int next = (generation + 1) & GENERATION_MASK;
+    return next == 0 ? 1 : next;
+  }
+}
@@ -71,6 +71,17 @@ public interface Context<T extends Entity> {
    */
   Map<String, T> getEntities();
 
+  /**
+   * Retrieves the group of entities which match a matcher. The group is created on the first
+   * call and then kept up to date by the context, the same matcher always retrieves the same
+   * group.
+   *
+   * @param matcher the {@link Matcher}
+   * @return the {@link Group} of matching entities
+   * @since 0.7.4
+   */
+  Group<T> getGroup(Matcher matcher);
+
   /**
    * Retrieves the context information.
    *
@@ -0,0 +1,86 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.engine.ecs.basis;
+
+import java.util.function.Consumer;
+
+/**
+ * A group holds the entities of a context which match a {@link Matcher}. Its members are updated
+ * by the context whenever a component is added or removed, or an entity is created or destroyed,
+ * so systems iterate only their matching entities:
+ *
+ * <pre>{@code
+ * for (int i = 0; i < group.getEntitiesCount(); i++) {
+ *   var entity = group.getEntity(i);
+ * }
+ * }</pre>
+ *
+ * <p>Removing an entity from the group moves the last member into its position, when the
+ * components of the iterated entities are changed in a loop, the group should be iterated
+ * backwards.
+ *
+ * @param <T> the entity template
+ * @see Context#getGroup(Matcher)
+ * @since 0.7.4
+ */
+public interface Group<T extends Entity> {
+
+  /**
+   * Retrieves the group's matcher.
+   *
+   * @return the {@link Matcher}
+   */
+  Matcher getMatcher();
+
+  /**
+   * Retrieves the number of entities in the group.
+   *
+   * @return the entities count
+   */
+  int getEntitiesCount();
+
+  /**
+   * Retrieves an entity by its position in the group.
+   *
+   * @param position the position, from {@code 0} to {@link #getEntitiesCount()} exclusive
+   * @return the entity
+   */
+  T getEntity(int position);
+
+  /**
+   * Determines whether an entity is a member of the group.
+   *
+   * @param entity the entity
+   * @return {@code true} if the entity is a member, otherwise {@code false}
+   */
+  boolean containsEntity(T entity);
+
+  /**
+   * Performs an action for each entity of the group.
+   *
+   * @param action the action
+   */
+  void forEach(Consumer<T> action);
+}
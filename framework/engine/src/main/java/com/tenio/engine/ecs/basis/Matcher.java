@@ -0,0 +1,186 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.engine.ecs.basis;
+
+import java.util.Arrays;
+
+/**
+ * A matcher describes which entities belong to a group by their components: the entities must
+ * have all of the {@link #allOf(int...)} components, at least one of the {@link #anyOf(int...)}
+ * components (when there are any) and none of the {@link #noneOf(int...)} components. Each set is
+ * kept as a bitmask of component indices.
+ *
+ * <p>A matcher is immutable, every method returns a new one. Two matchers with the same sets are
+ * equal, so they share the same group in a context.
+ *
+ * @see Group
+ * @see Context#getGroup(Matcher)
+ * @since 0.7.4
+ */
+public final class Matcher {
+
+  private static final long[] EMPTY_MASK = new long[0];
+
+  private final long[] allOfMask;
+  private final long[] anyOfMask;
+  private final long[] noneOfMask;
+
+  private Matcher(long[] allOfMask, long[] anyOfMask, long[] noneOfMask) {
+    this.allOfMask = allOfMask;
+    this.anyOfMask = anyOfMask;
+    this.noneOfMask = noneOfMask;
+  }
+
+  /**
+   * Creates a new matcher which matches all entities.
+   *
+   * @return a new instance of {@link Matcher}
+   */
+  public static Matcher newInstance() {
+    return new Matcher(EMPTY_MASK, EMPTY_MASK, EMPTY_MASK);
+  }
+
+  /**
+   * Retrieves a new matcher which also requires all the components.
+   *
+   * @param indices the component indices
+   * @return a new instance of {@link Matcher}
+   */
+  public Matcher allOf(int... indices) {
+    return new Matcher(merge(allOfMask, indices), anyOfMask, noneOfMask);
+  }
+
+  /**
+   * Retrieves a new matcher which also accepts any of the components, an entity must have at
+   * least one of all the "any of" components.
+   *
+   * @param indices the component indices
+   * @return a new instance of {@link Matcher}
+   */
+  public Matcher anyOf(int... indices) {
+    return new Matcher(allOfMask, merge(anyOfMask, indices), noneOfMask);
+  }
+
+  /**
+   * Retrieves a new matcher which also excludes the components.
+   *
+   * @param indices the component indices
+   * @return a new instance of {@link Matcher}
+   */
+  public Matcher noneOf(int... indices) {
+    return new Matcher(allOfMask, anyOfMask, merge(noneOfMask, indices));
+  }
+
+  /**
+   * Determines whether a set of components matches.
+   *
+   * @param mask the bitmask of component indices, the bit {@code i} of the word {@code i / 64}
+   *             is set when the component {@code i} is present
+   * @return {@code true} if the components match, otherwise {@code false}
+   */
+  public boolean matches(long[] mask) {
+    for (int i = 0; i < allOfMask.length; i++) {
+      if ((word(mask, i) & allOfMask[i]) != allOfMask[i]) {
+        return false;
+      }
+    }
+    if (anyOfMask.length > 0) {
+      boolean any = false;
+      for (int i = 0; i < anyOfMask.length && !any; i++) {
+        any = (word(mask, i) & anyOfMask[i]) != 0L;
+      }
+      if (!any) {
+        return false;
+      }
+    }
+    for (int i = 0; i < noneOfMask.length; i++) {
+      if ((word(mask, i) & noneOfMask[i]) != 0L) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Determines whether the matching result may change when a component is added or removed.
+   *
+   * @param index the component index
+   * @return {@code true} if the component is one of the matcher's components, otherwise
+   * {@code false}
+   */
+  public boolean isInterestedIn(int index) {
+    return isSet(allOfMask, index) || isSet(anyOfMask, index) || isSet(noneOfMask, index);
+  }
+
+  private static long word(long[] mask, int index) {
+    return index < mask.length ? mask[index] : 0L;
+  }
+
+  private static boolean isSet(long[] mask, int index) {
+    return (word(mask, index >>> 6) & (1L << index)) != 0L;
+  }
+
+  private static long[] merge(long[] mask, int[] indices) {
+    int words = mask.length;
+    for (int index : indices) {
+      if (index < 0) {
+        throw new IllegalArgumentException("Invalid component index: " + index);
+      }
+      words = Math.max(words, (index >>> 6) + 1);
+    }
+    var merged = Arrays.copyOf(mask, words);
+    for (int index : indices) {
+      merged[index >>> 6] |= 1L << index;
+    }
+    return merged;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof Matcher matcher)) {
+      return false;
+    }
+    return Arrays.equals(allOfMask, matcher.allOfMask) &&
+        Arrays.equals(anyOfMask, matcher.anyOfMask) &&
+        Arrays.equals(noneOfMask, matcher.noneOfMask);
+  }
+
+  @Override
+  public int hashCode() {
+    int result = Arrays.hashCode(allOfMask);
+    result = 31 * result + Arrays.hashCode(anyOfMask);
+    result = 31 * result + Arrays.hashCode(noneOfMask);
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("Matcher{allOf=%s, anyOf=%s, noneOf=%s}", Arrays.toString(allOfMask),
+        Arrays.toString(anyOfMask), Arrays.toString(noneOfMask));
+  }
+}
@@ -28,9 +28,13 @@ import com.tenio.common.pool.ElementPool;
 import com.tenio.engine.ecs.basis.Component;
 import com.tenio.engine.ecs.basis.Context;
 import com.tenio.engine.ecs.basis.Entity;
+import com.tenio.engine.ecs.basis.Group;
+import com.tenio.engine.ecs.basis.Matcher;
 import com.tenio.engine.ecs.pool.ComponentPool;
 import com.tenio.engine.ecs.pool.EntityPool;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -45,6 +49,10 @@ public class ContextImpl<T extends EntityImpl> implements Context<T> {
   private final ContextInfo contextInfo;
   private final ElementPool<Entity> entityPool;
   private final ElementPool<Component>[] componentPools;
+  private final Map<Matcher, GroupImpl<T>> groups;
+  // the groups which have to be updated when a component is added or removed, by component index
+  private final List<List<GroupImpl<T>>> groupsByComponent;
+  private int nextEntityIndex;
 
   /**
    * Initialization.
@@ -63,6 +71,12 @@ public class ContextImpl<T extends EntityImpl> implements Context<T> {
         componentPools[i] = new ComponentPool(this.contextInfo.getComponentTypes()[i]);
       }
     }
+
+    groups = new HashMap<>();
+    groupsByComponent = new ArrayList<>(this.contextInfo.getNumberComponents());
+    for (int i = 0; i < this.contextInfo.getNumberComponents(); i++) {
+      groupsByComponent.add(new ArrayList<>());
+    }
   }
 
   @Override
@@ -70,7 +84,16 @@ public class ContextImpl<T extends EntityImpl> implements Context<T> {
     @SuppressWarnings("unchecked")
     var entity = (T) entityPool.get();
     entity.setComponentPools(componentPools);
+    // the pooled entities keep their indices, they are only issued by this context
+    if (entity.getIndex() < 0) {
+      entity.setIndex(nextEntityIndex++);
+    }
+    entity.setContext(this);
     entities.put(entity.getId(), entity);
+    // an entity without components can match a group which only excludes components
+    for (var group : groups.values()) {
+      group.update(entity.getIndex(), entity, entity.getComponentMask());
+    }
     return entity;
   }
 
@@ -81,7 +104,11 @@ public class ContextImpl<T extends EntityImpl> implements Context<T> {
 
   @Override
   public void destroyEntity(T entity) {
+    entity.setContext(null);
     entity.reset();
+    for (var group : groups.values()) {
+      group.remove(entity.getIndex());
+    }
     entities.remove(entity.getId());
     entityPool.repay(entity);
   }
@@ -96,6 +123,39 @@ public class ContextImpl<T extends EntityImpl> implements Context<T> {
     return entities;
   }
 
+  @Override
+  public Group<T> getGroup(Matcher matcher) {
+    var group = groups.get(matcher);
+    if (group == null) {
+      group = new GroupImpl<>(matcher, EntityImpl::getIndex);
+      for (var entity : entities.values()) {
+        group.update(entity.getIndex(), entity, entity.getComponentMask());
+      }
+      for (int i = 0; i < contextInfo.getNumberComponents(); i++) {
+        if (matcher.isInterestedIn(i)) {
+          groupsByComponent.get(i).add(group);
+        }
+      }
+      groups.put(matcher, group);
+    }
+    return group;
+  }
+
+  /**
+   * Updates the groups whose matchers are interested in a component, it is called by an entity
+   * whenever the component is added or removed.
+   *
+   * @param entity the entity
+   * @param index  the component index
+   */
+  @SuppressWarnings("unchecked")
+  void onComponentChanged(EntityImpl entity, int index) {
+    var interestedGroups = groupsByComponent.get(index);
+    for (int i = 0; i < interestedGroups.size(); i++) {
+      interestedGroups.get(i).update(entity.getIndex(), (T) entity, entity.getComponentMask());
+    }
+  }
+
   @Override
   public ContextInfo getContextInfo() {
     return contextInfo;
@@ -108,8 +168,12 @@ public class ContextImpl<T extends EntityImpl> implements Context<T> {
 
   @Override
   public void destroyAllEntities() {
-    entities.values().forEach(EntityImpl::reset);
+    for (var entity : entities.values()) {
+      entity.setContext(null);
+      entity.reset();
+    }
     entities.clear();
+    groups.values().forEach(GroupImpl::clear);
   }
 
   @Override
@@ -44,8 +44,11 @@ public class EntityImpl extends AbstractLogger implements Entity {
 
   private ElementPool<Component>[] componentPools = null;
   private Component[] components = null;
+  private long[] componentMask = null;
+  private ContextImpl<?> context = null;
   private ContextInfo contextInfo = null;
   private String id = null;
+  private int index = -1;
 
   @Override
   public String getId() {
@@ -81,9 +84,26 @@ public class EntityImpl extends AbstractLogger implements Entity {
     }
     if (components == null) {
       components = new Component[contextInfo.getNumberComponents()];
+      componentMask = new long[(contextInfo.getNumberComponents() + Long.SIZE - 1) / Long.SIZE];
     }
   }
 
+  int getIndex() {
+    return index;
+  }
+
+  void setIndex(int index) {
+    this.index = index;
+  }
+
+  void setContext(ContextImpl<?> context) {
+    this.context = context;
+  }
+
+  long[] getComponentMask() {
+    return componentMask;
+  }
+
   @Override
   public void setComponent(int index, Component component) {
     if (hasComponent(index)) {
@@ -95,6 +115,9 @@ public class EntityImpl extends AbstractLogger implements Entity {
     }
 
     components[index] = component;
+    if (component != null) {
+      updateComponentMask(index, true);
+    }
   }
 
   @Override
@@ -126,6 +149,20 @@ public class EntityImpl extends AbstractLogger implements Entity {
 
     if (replacement != previousComponent) {
       components[index] = replacement;
+      if (replacement == null) {
+        updateComponentMask(index, false);
+      }
+    }
+  }
+
+  private void updateComponentMask(int index, boolean present) {
+    if (present) {
+      componentMask[index >>> 6] |= 1L << index;
+    } else {
+      componentMask[index >>> 6] &= ~(1L << index);
+    }
+    if (context != null) {
+      context.onComponentChanged(this, index);
     }
   }
 
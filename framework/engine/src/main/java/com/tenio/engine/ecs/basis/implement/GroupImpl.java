@@ -0,0 +1,188 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.engine.ecs.basis.implement;
+
+import com.tenio.engine.ecs.basis.Entity;
+import com.tenio.engine.ecs.basis.Group;
+import com.tenio.engine.ecs.basis.Matcher;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * The group implementation is a sparse set: the members are densely packed in an array which is
+ * iterated, and the position of each member is looked up by the entity's index in its context.
+ * Adding and removing a member take constant time.
+ *
+ * @param <T> the entity template
+ * @see Group
+ * @since 0.7.4
+ */
+public final class GroupImpl<T extends Entity> implements Group<T> {
+
+  private static final int INITIAL_CAPACITY = 64;
+  private static final int ABSENT = -1;
+
+  private final Matcher matcher;
+  private final ToIntFunction<T> indexer;
+  private Object[] entities;
+  private int[] indices;
+  private int[] positions;
+  private int size;
+
+  /**
+   * Initialization.
+   *
+   * @param matcher the group's {@link Matcher}
+   * @param indexer retrieves the entity's index in its context
+   */
+  public GroupImpl(Matcher matcher, ToIntFunction<T> indexer) {
+    this.matcher = matcher;
+    this.indexer = indexer;
+    entities = new Object[INITIAL_CAPACITY];
+    indices = new int[INITIAL_CAPACITY];
+    positions = new int[INITIAL_CAPACITY];
+    Arrays.fill(positions, ABSENT);
+  }
+
+  @Override
+  public Matcher getMatcher() {
+    return matcher;
+  }
+
+  @Override
+  public int getEntitiesCount() {
+    return size;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public T getEntity(int position) {
+    if (position >= size) {
+      throw new IndexOutOfBoundsException(position);
+    }
+    return (T) entities[position];
+  }
+
+  @Override
+  public boolean containsEntity(T entity) {
+    int index = indexer.applyAsInt(entity);
+    return contains(index) && entities[positions[index]] == entity;
+  }
+
+  /**
+   * Determines whether the entity with the index is a member of the group.
+   *
+   * @param index the entity's index in its context
+   * @return {@code true} if the entity is a member, otherwise {@code false}
+   */
+  public boolean contains(int index) {
+    return index >= 0 && index < positions.length && positions[index] != ABSENT;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public void forEach(Consumer<T> action) {
+    for (int position = 0; position < size; position++) {
+      action.accept((T) entities[position]);
+    }
+  }
+
+  /**
+   * Adds or removes an entity according to the group's matcher.
+   *
+   * @param index  the entity's index in its context
+   * @param entity the entity
+   * @param mask   the bitmask of the entity's components
+   */
+  public void update(int index, T entity, long[] mask) {
+    if (matcher.matches(mask)) {
+      add(index, entity);
+    } else {
+      remove(index);
+    }
+  }
+
+  /**
+   * Adds an entity to the group, nothing happens if it is already a member.
+   *
+   * @param index  the entity's index in its context
+   * @param entity the entity
+   */
+  public void add(int index, T entity) {
+    if (contains(index)) {
+      return;
+    }
+    if (index >= positions.length) {
+      int oldLength = positions.length;
+      positions = Arrays.copyOf(positions, Math.max(index + 1, oldLength * 2));
+      Arrays.fill(positions, oldLength, positions.length, ABSENT);
+    }
+    if (size == entities.length) {
+      entities = Arrays.copyOf(entities, size * 2);
+      indices = Arrays.copyOf(indices, size * 2);
+    }
+    entities[size] = entity;
+    indices[size] = index;
+    positions[index] = size;
+    size++;
+  }
+
+  /**
+   * Removes an entity from the group, nothing happens if it is not a member.
+   *
+   * @param index the entity's index in its context
+   */
+  public void remove(int index) {
+    if (!contains(index)) {
+      return;
+    }
+    int position = positions[index];
+    int lastPosition = --size;
+    if (position != lastPosition) {
+      entities[position] = entities[lastPosition];
+      indices[position] = indices[lastPosition];
+      positions[indices[position]] = position;
+    }
+    entities[lastPosition] = null;
+    positions[index] = ABSENT;
+  }
+
+  /**
+   * Removes all entities from the group.
+   */
+  public void clear() {
+    for (int position = 0; position < size; position++) {
+      positions[indices[position]] = ABSENT;
+      entities[position] = null;
+    }
+    size = 0;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("Group{matcher=%s, size=%d}", matcher, size);
+  }
+}
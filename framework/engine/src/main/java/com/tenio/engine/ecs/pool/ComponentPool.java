@@ -21,17 +21,14 @@ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
 OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
 THE SOFTWARE.
 */
-
 package com.tenio.engine.ecs.pool;
 
-import com.tenio.common.constant.CommonConstant;
 import com.tenio.common.exception.NullElementPoolException;
 import com.tenio.common.logger.SystemLogger;
+import com.tenio.common.pool.ConcurrentElementPool;
 import com.tenio.common.pool.ElementPool;
 import com.tenio.engine.ecs.basis.Component;
 import java.lang.reflect.InvocationTargetException;
-import java.util.Arrays;
-import javax.annotation.concurrent.GuardedBy;
 
 /**
  * The object pool mechanism for {@link Component}.
@@ -39,10 +36,7 @@ import javax.annotation.concurrent.GuardedBy;
 public final class ComponentPool extends SystemLogger implements ElementPool<Component> {
 
   private final Class<?> clazz;
-  @GuardedBy("this")
-  private Component[] pool;
-  @GuardedBy("this")
-  private boolean[] used;
+  private final ConcurrentElementPool<Component> pool;
 
   /**
    * Initialization.
@@ -51,76 +45,37 @@ public final class ComponentPool extends SystemLogger implements ElementPool<Com
    */
   public ComponentPool(Class<?> clazz) {
     this.clazz = clazz;
-    pool = new Component[CommonConstant.DEFAULT_NUMBER_ELEMENTS_POOL];
-    used = new boolean[CommonConstant.DEFAULT_NUMBER_ELEMENTS_POOL];
+    pool = ConcurrentElementPool.newInstance(this::newComponent, null);
+  }
 
-    for (int i = 0; i < pool.length; i++) {
-      try {
-        var component = (Component) this.clazz.getDeclaredConstructor().newInstance();
-        pool[i] = component;
-        used[i] = false;
-      } catch (InstantiationException | IllegalAccessException | IllegalArgumentException
-          | InvocationTargetException | NoSuchMethodException | SecurityException exception) {
-        if (isErrorEnabled()) {
-          error(exception);
-        }
+  private Component newComponent() {
+    try {
+      return (Component) clazz.getDeclaredConstructor().newInstance();
+    } catch (InstantiationException | IllegalAccessException | IllegalArgumentException
+        | InvocationTargetException | NoSuchMethodException | SecurityException exception) {
+      if (isErrorEnabled()) {
+        error(exception);
       }
+      return null;
     }
   }
 
   @Override
-  public synchronized Component get() {
-    for (int i = 0; i < used.length; i++) {
-      if (!used[i]) {
-        used[i] = true;
-        return pool[i];
-      }
-    }
-    // If we got here, then all the Elements are in use. We will
-    // increase the number in our pool by @ADD_ELEMENT_POOL (arbitrary value for
-    // illustration purposes).
-    var oldUsed = used;
-    used = new boolean[oldUsed.length + CommonConstant.ADDITIONAL_NUMBER_ELEMENTS_POOL];
-    System.arraycopy(oldUsed, 0, used, 0, oldUsed.length);
-
-    var oldPool = pool;
-    pool = new Component[oldPool.length + CommonConstant.ADDITIONAL_NUMBER_ELEMENTS_POOL];
-    System.arraycopy(oldPool, 0, pool, 0, oldPool.length);
-
-    for (int i = oldPool.length; i < pool.length; i++) {
-      try {
-        pool[i] = (Component) clazz.getDeclaredConstructor().newInstance();
-        used[i] = false;
-      } catch (InstantiationException | IllegalAccessException | IllegalArgumentException
-          | InvocationTargetException | NoSuchMethodException | SecurityException exception) {
-        if (isErrorEnabled()) {
-          error(exception);
-        }
-      }
+  public Component get() {
+    int poolSize = pool.getPoolSize();
+    var component = pool.get();
+    if (isInfoEnabled() && pool.getPoolSize() > poolSize) {
+      info("COMPONENT POOL", buildgen("Increase the number of elements to ",
+          pool.getPoolSize()));
     }
-
-    if (isInfoEnabled()) {
-      info("COMPONENT POOL", buildgen("Increase the number of elements by ",
-          CommonConstant.ADDITIONAL_NUMBER_ELEMENTS_POOL, " to ", used.length));
-    }
-
-    // and allocate the last old element
-    used[oldPool.length - 1] = true;
-    return pool[oldPool.length - 1];
+    return component;
   }
 
   @Override
-  public synchronized void repay(Component element) {
-    boolean flagFound = false;
-    for (int i = 0; i < pool.length; i++) {
-      if (pool[i] == element) {
-        used[i] = false;
-        flagFound = true;
-        break;
-      }
-    }
-    if (!flagFound) {
-      var exception = new NullElementPoolException(element.toString());
+  public void repay(Component element) {
+    try {
+      pool.repay(element);
+    } catch (NullElementPoolException exception) {
       if (isErrorEnabled()) {
         error(exception);
       }
@@ -129,26 +84,17 @@ public final class ComponentPool extends SystemLogger implements ElementPool<Com
   }
 
   @Override
-  public synchronized void cleanup() {
-    Arrays.fill(pool, null);
-    used = null;
-    pool = null;
+  public void cleanup() {
+    pool.cleanup();
   }
 
   @Override
-  public synchronized int getPoolSize() {
-    return (pool.length == used.length) ? pool.length : -1;
+  public int getPoolSize() {
+    return pool.getPoolSize();
   }
 
   @Override
   public int getAvailableSlot() {
-    int slot = 0;
-    for (boolean b : used) {
-      if (!b) {
-        slot++;
-      }
-    }
-
-    return slot;
+    return pool.getAvailableSlot();
   }
 }
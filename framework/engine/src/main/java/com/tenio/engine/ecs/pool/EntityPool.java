@@ -21,20 +21,17 @@ LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
 OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
 THE SOFTWARE.
 */
-
 package com.tenio.engine.ecs.pool;
 
-import com.tenio.common.constant.CommonConstant;
 import com.tenio.common.exception.NullElementPoolException;
 import com.tenio.common.logger.SystemLogger;
+import com.tenio.common.pool.ConcurrentElementPool;
 import com.tenio.common.pool.ElementPool;
 import com.tenio.engine.ecs.basis.Entity;
 import com.tenio.engine.ecs.basis.implement.ContextInfo;
 import com.tenio.engine.ecs.basis.implement.EntityImpl;
 import java.lang.reflect.InvocationTargetException;
-import java.util.Arrays;
 import java.util.UUID;
-import javax.annotation.concurrent.GuardedBy;
 
 /**
  * The object pool mechanism for {@link Entity}.
@@ -43,10 +40,7 @@ public final class EntityPool extends SystemLogger implements ElementPool<Entity
 
   private final Class<? extends EntityImpl> clazz;
   private final ContextInfo contextInfo;
-  @GuardedBy("this")
-  private Entity[] pool;
-  @GuardedBy("this")
-  private boolean[] used;
+  private final ConcurrentElementPool<Entity> pool;
 
   /**
    * Initialization.
@@ -57,82 +51,39 @@ public final class EntityPool extends SystemLogger implements ElementPool<Entity
   public EntityPool(Class<? extends EntityImpl> clazz, ContextInfo contextInfo) {
     this.clazz = clazz;
     this.contextInfo = contextInfo;
-    pool = new Entity[CommonConstant.DEFAULT_NUMBER_ELEMENTS_POOL];
-    used = new boolean[CommonConstant.DEFAULT_NUMBER_ELEMENTS_POOL];
+    pool = ConcurrentElementPool.newInstance(this::newEntity, Entity::reset);
+  }
 
-    for (int i = 0; i < pool.length; i++) {
-      try {
-        var entity = this.clazz.getDeclaredConstructor().newInstance();
-        entity.setId(UUID.randomUUID().toString());
-        entity.setContextInfo(this.contextInfo);
-        pool[i] = entity;
-        used[i] = false;
-      } catch (InstantiationException | IllegalAccessException | IllegalArgumentException
-          | InvocationTargetException | NoSuchMethodException | SecurityException exception) {
-        if (isErrorEnabled()) {
-          error(exception);
-        }
+  private Entity newEntity() {
+    try {
+      var entity = clazz.getDeclaredConstructor().newInstance();
+      entity.setId(UUID.randomUUID().toString());
+      entity.setContextInfo(contextInfo);
+      return entity;
+    } catch (InstantiationException | IllegalAccessException | IllegalArgumentException
+        | InvocationTargetException | NoSuchMethodException | SecurityException exception) {
+      if (isErrorEnabled()) {
+        error(exception);
       }
+      return null;
     }
   }
 
   @Override
-  public synchronized Entity get() {
-    for (int i = 0; i < used.length; i++) {
-      if (!used[i]) {
-        used[i] = true;
-        return pool[i];
-      }
-    }
-    // If we got here, then all the Elements are in use. We will
-    // increase the number in our pool by @ADD_ELEMENT_POOL (arbitrary value for
-    // illustration purposes).
-    var oldUsed = used;
-    used = new boolean[oldUsed.length + CommonConstant.ADDITIONAL_NUMBER_ELEMENTS_POOL];
-    System.arraycopy(oldUsed, 0, used, 0, oldUsed.length);
-
-    var oldPool = pool;
-    pool = new Entity[oldPool.length + CommonConstant.ADDITIONAL_NUMBER_ELEMENTS_POOL];
-    System.arraycopy(oldPool, 0, pool, 0, oldPool.length);
-
-    for (int i = oldPool.length; i < pool.length; i++) {
-      try {
-        var entity = clazz.getDeclaredConstructor().newInstance();
-        entity.setId(UUID.randomUUID().toString());
-        entity.setContextInfo(contextInfo);
-        pool[i] = entity;
-        used[i] = false;
-      } catch (InstantiationException | IllegalAccessException | IllegalArgumentException
-          | InvocationTargetException | NoSuchMethodException | SecurityException exception) {
-        if (isErrorEnabled()) {
-          error(exception);
-        }
-      }
+  public Entity get() {
+    int poolSize = pool.getPoolSize();
+    var entity = pool.get();
+    if (isInfoEnabled() && pool.getPoolSize() > poolSize) {
+      info("ENTITY POOL", buildgen("Increase the number of elements to ", pool.getPoolSize()));
     }
-
-    if (isInfoEnabled()) {
-      info("COMPONENT POOL", buildgen("Increase the number of elements by ",
-          CommonConstant.ADDITIONAL_NUMBER_ELEMENTS_POOL, " to ", used.length));
-    }
-
-    // and allocate the last old element
-    used[oldPool.length - 1] = true;
-    return pool[oldPool.length - 1];
+    return entity;
   }
 
   @Override
-  public synchronized void repay(Entity element) {
-    boolean flagFound = false;
-    for (int i = 0; i < pool.length; i++) {
-      if (pool[i] == element) {
-        used[i] = false;
-        element.reset();
-        flagFound = true;
-        break;
-      }
-    }
-    if (!flagFound) {
-      var exception = new NullElementPoolException(element.toString());
+  public void repay(Entity element) {
+    try {
+      pool.repay(element);
+    } catch (NullElementPoolException exception) {
       if (isErrorEnabled()) {
         error(exception);
       }
@@ -141,26 +92,17 @@ public final class EntityPool extends SystemLogger implements ElementPool<Entity
   }
 
   @Override
-  public synchronized void cleanup() {
-    Arrays.fill(pool, null);
-    used = null;
-    pool = null;
+  public void cleanup() {
+    pool.cleanup();
   }
 
   @Override
-  public synchronized int getPoolSize() {
-    return (pool.length == used.length) ? pool.length : -1;
+  public int getPoolSize() {
+    return pool.getPoolSize();
   }
 
   @Override
   public int getAvailableSlot() {
-    int slot = 0;
-    for (boolean b : used) {
-      if (!b) {
-        slot++;
-      }
-    }
-
-    return slot;
+    return pool.getAvailableSlot();
   }
 }
@@ -0,0 +1,55 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.engine.ecs.system;
+
+/**
+ * Concurrent systems declare the components they read and write in every frame, so a
+ * scheduler can run the systems which do not conflict at the same time. Two systems conflict
+ * when one of them writes a component which the other one reads or writes.
+ *
+ * <p>The declared sets must cover every component the system touches in
+ * {@link #execute(float)}, and the sets must not change after the system is added. The sets only
+ * cover the components' values, a system which adds or removes components, or creates or destroys
+ * entities, defers it with
+ * {@link com.tenio.engine.ecs.system.implement.SystemScheduler#defer(Runnable)}.
+ *
+ * @see com.tenio.engine.ecs.system.implement.SystemScheduler
+ * @since 0.7.4
+ */
+public interface ConcurrentSystem extends ExecuteSystem {
+
+  /**
+   * Retrieves the indices of components which are only read by the system.
+   *
+   * @return an array of component indices
+   */
+  int[] getReadComponents();
+
+  /**
+   * Retrieves the indices of components which are written by the system.
+   *
+   * @return an array of component indices
+   */
+  int[] getWriteComponents();
+}
@@ -0,0 +1,435 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.engine.ecs.system.implement;
+
+import com.tenio.engine.ecs.basis.Entity;
+import com.tenio.engine.ecs.basis.Group;
+import com.tenio.engine.ecs.system.ConcurrentSystem;
+import com.tenio.engine.ecs.system.ExecuteSystem;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountedCompleter;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * The scheduler runs the {@link ExecuteSystem}s of a frame on a {@link ForkJoinPool}. A system
+ * waits for every system added before it which conflicts with it, the other systems run at the
+ * same time:
+ *
+ * <ul>
+ *   <li>A {@link ConcurrentSystem} conflicts with another one when either of them writes a
+ *   component which the other one reads or writes.</li>
+ *   <li>Any other system conflicts with all systems, so it runs alone, after the systems added
+ *   before it and before the systems added after it.</li>
+ * </ul>
+ *
+ * <p>The conflicting systems always run in the order they were added, so every system sees the
+ * same component values as it would when all systems run one by one, and the results of a frame
+ * do not depend on the number of threads. The dependency graph is built again in the first frame
+ * after the systems are changed.
+ *
+ * <p>A system can also split its own iteration with {@link #forEach(Group, int, Consumer)}, the
+ * batches run on the same pool.
+ *
+ * <p>The contexts, groups, entities and component pools are not thread-safe. Structural changes
+ * (creating or destroying entities, adding, replacing or removing components) made while a frame
+ * runs must be passed to {@link #defer(Runnable)}. They are applied on the calling thread after
+ * all systems of the frame have finished, in the order of the systems which recorded them.
+ *
+ * @see ConcurrentSystem
+ * @see Systems
+ * @since 0.7.4
+ */
+public final class SystemScheduler {
+
+  private final ForkJoinPool pool;
+  private final boolean ownedPool;
+  private final List<ExecuteSystem> systems;
+  // the node of the system (or its batch) which the current thread is running
+  private final ThreadLocal<Node> running;
+  private Node[] nodes;
+
+  private SystemScheduler(ForkJoinPool pool, boolean ownedPool) {
+    this.pool = pool;
+    this.ownedPool = ownedPool;
+    systems = new ArrayList<>();
+    running = new ThreadLocal<>();
+  }
+
+  /**
+   * Creates a new scheduler which uses a thread for every available processor.
+   *
+   * @return a new instance of {@link SystemScheduler}
+   */
+  public static SystemScheduler newInstance() {
+    return newInstance(Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Creates a new scheduler with its own pool.
+   *
+   * @param parallelism the number of threads
+   * @return a new instance of {@link SystemScheduler}
+   */
+  public static SystemScheduler newInstance(int parallelism) {
+    return new SystemScheduler(new ForkJoinPool(parallelism), true);
+  }
+
+  /**
+   * Creates a new scheduler on a shared pool, the pool is not shut down by the scheduler.
+   *
+   * @param pool the {@link ForkJoinPool}
+   * @return a new instance of {@link SystemScheduler}
+   */
+  public static SystemScheduler newInstance(ForkJoinPool pool) {
+    return new SystemScheduler(pool, false);
+  }
+
+  /**
+   * Adds a system, it is executed from the next frame.
+   *
+   * @param system the {@link ExecuteSystem}
+   */
+  public void add(ExecuteSystem system) {
+    systems.add(system);
+    nodes = null;
+  }
+
+  /**
+   * Removes all systems.
+   */
+  public void clear() {
+    systems.clear();
+    nodes = null;
+  }
+
+  /**
+   * Retrieves the number of systems.
+   *
+   * @return the systems count
+   */
+  public int getSystemsCount() {
+    return systems.size();
+  }
+
+  /**
+   * Retrieves the pool's parallelism.
+   *
+   * @return the number of threads
+   */
+  public int getParallelism() {
+    return pool.getParallelism();
+  }
+
+  /**
+   * Executes all systems for a frame and waits for them to finish, then applies the deferred
+   * changes. When a system throws an exception, the systems which have not started yet are
+   * skipped, the deferred changes of the frame are discarded and the first exception is rethrown
+   * after the frame.
+   *
+   * @param deltaTime the delta time
+   */
+  public void execute(float deltaTime) {
+    if (systems.isEmpty()) {
+      return;
+    }
+    if (nodes == null) {
+      nodes = buildGraph(systems);
+    }
+    var frame = new FrameTask(this, nodes, deltaTime);
+    pool.invoke(frame);
+    var cause = applyChanges(nodes, frame.failure.get());
+    if (cause instanceof RuntimeException exception) {
+      throw exception;
+    } else if (cause instanceof Error error) {
+      throw error;
+    } else if (cause != null) {
+      throw new IllegalStateException(cause);
+    }
+  }
+
+  /**
+   * Records a structural change from a system which is running in a frame, e.g. adding a
+   * component to an entity. The change is applied after the frame, the changes recorded by one
+   * system keep their order, except the ones recorded by concurrent batches of
+   * {@link #forEach(int, int, IntConsumer)}. Outside a frame, the change is applied at once.
+   *
+   * @param change the change to apply
+   */
+  public void defer(Runnable change) {
+    var node = running.get();
+    if (node == null) {
+      change.run();
+    } else {
+      node.changes.add(change);
+    }
+  }
+
+  /**
+   * Performs an action for every entity of a group in parallel batches. The action may only
+   * change the components' values of the entity it is given, the structural changes must be
+   * deferred.
+   *
+   * @param group     the {@link Group}
+   * @param batchSize the maximum number of entities in a batch
+   * @param action    the action
+   * @param <T>       the entity template
+   */
+  public <T extends Entity> void forEach(Group<T> group, int batchSize, Consumer<T> action) {
+    forEach(group.getEntitiesCount(), batchSize,
+        position -> action.accept(group.getEntity(position)));
+  }
+
+  /**
+   * Performs an action for every index from {@code 0} to {@code count} exclusive in parallel
+   * batches, e.g. the rows of a chunk.
+   *
+   * @param count     the number of indices
+   * @param batchSize the maximum number of indices in a batch
+   * @param action    the action
+   */
+  public void forEach(int count, int batchSize, IntConsumer action) {
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("The batch size must be positive: " + batchSize);
+    }
+    if (count <= batchSize) {
+      for (int i = 0; i < count; i++) {
+        action.accept(i);
+      }
+      return;
+    }
+    var task = new RangeTask(this, running.get(), 0, count, batchSize, action);
+    // a system which is running on the pool splits its work there instead of waiting for it
+    if (ForkJoinTask.getPool() == pool) {
+      task.invoke();
+    } else {
+      pool.invoke(task);
+    }
+  }
+
+  /**
+   * Shuts down the scheduler's own pool.
+   */
+  public void shutdown() {
+    if (ownedPool) {
+      pool.shutdown();
+    }
+  }
+
+  private static Node[] buildGraph(List<ExecuteSystem> systems) {
+    var nodes = new Node[systems.size()];
+    for (int i = 0; i < nodes.length; i++) {
+      nodes[i] = new Node(systems.get(i));
+    }
+    List<List<Integer>> dependents = new ArrayList<>(nodes.length);
+    for (int i = 0; i < nodes.length; i++) {
+      dependents.add(new ArrayList<>());
+      for (int j = 0; j < i; j++) {
+        if (nodes[i].conflictsWith(nodes[j])) {
+          dependents.get(j).add(i);
+          nodes[i].dependencies++;
+        }
+      }
+    }
+    for (int i = 0; i < nodes.length; i++) {
+      nodes[i].dependents = dependents.get(i).stream().mapToInt(Integer::intValue).toArray();
+    }
+    return nodes;
+  }
+
+  private static Throwable applyChanges(Node[] nodes, Throwable failure) {
+    for (var node : nodes) {
+      Runnable change;
+      while ((change = node.changes.poll()) != null) {
+        if (failure == null) {
+          try {
+            change.run();
+          } catch (Throwable cause) {
+            failure = cause;
+          }
+        }
+      }
+    }
+    return failure;
+  }
+
+  private static BitSet toBitSet(int[] components) {
+    var bitSet = new BitSet();
+    if (components != null) {
+      for (int component : components) {
+        bitSet.set(component);
+      }
+    }
+    return bitSet;
+  }
+
+  private static final class Node {
+
+    private final ExecuteSystem system;
+    private final boolean exclusive;
+    private final BitSet reads;
+    private final BitSet writes;
+    private final Queue<Runnable> changes;
+    private int dependencies;
+    private int[] dependents;
+
+    private Node(ExecuteSystem system) {
+      this.system = system;
+      changes = new ConcurrentLinkedQueue<>();
+      if (system instanceof ConcurrentSystem concurrentSystem) {
+        exclusive = false;
+        writes = toBitSet(concurrentSystem.getWriteComponents());
+        reads = toBitSet(concurrentSystem.getReadComponents());
+        reads.or(writes);
+      } else {
+        exclusive = true;
+        writes = null;
+        reads = null;
+      }
+    }
+
+    private boolean conflictsWith(Node other) {
+      return exclusive || other.exclusive || writes.intersects(other.reads)
+          || other.writes.intersects(reads);
+    }
+  }
+
+  private static final class FrameTask extends CountedCompleter<Void> {
+
+    private final SystemScheduler scheduler;
+    private final Node[] nodes;
+    private final float deltaTime;
+    private final AtomicIntegerArray pendingDependencies;
+    private final AtomicReference<Throwable> failure;
+
+    private FrameTask(SystemScheduler scheduler, Node[] nodes, float deltaTime) {
+      this.scheduler = scheduler;
+      this.nodes = nodes;
+      this.deltaTime = deltaTime;
+      pendingDependencies = new AtomicIntegerArray(nodes.length);
+      failure = new AtomicReference<>();
+    }
+
+    @Override
+    public void compute() {
+      // every system task completes once, and this task completes itself after the last one
+      setPendingCount(nodes.length);
+      for (int i = 0; i < nodes.length; i++) {
+        pendingDependencies.set(i, nodes[i].dependencies);
+      }
+      for (int i = 0; i < nodes.length; i++) {
+        if (nodes[i].dependencies == 0) {
+          new SystemTask(this, i).fork();
+        }
+      }
+      tryComplete();
+    }
+  }
+
+  private static final class SystemTask extends CountedCompleter<Void> {
+
+    private final FrameTask frame;
+    private final int index;
+
+    private SystemTask(FrameTask frame, int index) {
+      super(frame);
+      this.frame = frame;
+      this.index = index;
+    }
+
+    @Override
+    public void compute() {
+      var node = frame.nodes[index];
+      if (frame.failure.get() == null) {
+        // a thread which waits for its batches may run another task meanwhile, so the previous
+        // node is restored instead of cleared
+        var running = frame.scheduler.running;
+        var previous = running.get();
+        running.set(node);
+        try {
+          node.system.execute(frame.deltaTime);
+        } catch (Throwable cause) {
+          frame.failure.compareAndSet(null, cause);
+        } finally {
+          running.set(previous);
+        }
+      }
+      for (int dependent : node.dependents) {
+        if (frame.pendingDependencies.decrementAndGet(dependent) == 0) {
+          new SystemTask(frame, dependent).fork();
+        }
+      }
+      tryComplete();
+    }
+  }
+
+  private static final class RangeTask extends RecursiveAction {
+
+    private final SystemScheduler scheduler;
+    private final Node node;
+    private final int from;
+    private final int to;
+    private final int batchSize;
+    private final IntConsumer action;
+
+    private RangeTask(SystemScheduler scheduler, Node node, int from, int to, int batchSize,
+                      IntConsumer action) {
+      this.scheduler = scheduler;
+      this.node = node;
+      this.from = from;
+      this.to = to;
+      this.batchSize = batchSize;
+      this.action = action;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= batchSize) {
+        // the batch defers its changes to the system which split the iteration
+        var previous = scheduler.running.get();
+        scheduler.running.set(node);
+        try {
+          for (int i = from; i < to; i++) {
+            action.accept(i);
+          }
+        } finally {
+          scheduler.running.set(previous);
+        }
+        return;
+      }
+      int middle = (from + to) >>> 1;
+      invokeAll(new RangeTask(scheduler, node, from, middle, batchSize, action),
+          new RangeTask(scheduler, node, middle, to, batchSize, action));
+    }
+  }
+}
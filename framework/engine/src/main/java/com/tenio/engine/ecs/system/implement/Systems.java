@@ -38,6 +38,10 @@ import java.util.List;
  * {@link InitializeSystem}, {@link ExecuteSystem}, {@link RenderSystem},
  * {@link TearDownSystem}, initialized and executed based on the order you added
  * them.
+ *
+ * <p>When the systems are created with a {@link SystemScheduler}, the {@link ExecuteSystem}s run
+ * on the scheduler instead, the systems which do not conflict with each other run at the same
+ * time.
  */
 public final class Systems
     implements InitializeSystem, ExecuteSystem, RenderSystem, TearDownSystem {
@@ -46,6 +50,7 @@ public final class Systems
   private final List<ExecuteSystem> executeSystems;
   private final List<RenderSystem> renderSystems;
   private final List<TearDownSystem> tearDownSystems;
+  private final SystemScheduler scheduler;
 
   /**
    * Check if systems is running or not.
@@ -56,6 +61,18 @@ public final class Systems
    * Creates a new systems instance.
    */
   public Systems() {
+    this(null);
+  }
+
+  /**
+   * Creates a new systems instance which executes its systems on a scheduler.
+   *
+   * @param scheduler the {@link SystemScheduler}, or {@code null} to execute the systems in
+   *                  order on the calling thread
+   * @since 0.7.4
+   */
+  public Systems(SystemScheduler scheduler) {
+    this.scheduler = scheduler;
     initializeSystems = new ArrayList<>();
     executeSystems = new ArrayList<>();
     renderSystems = new ArrayList<>();
@@ -75,6 +92,9 @@ public final class Systems
       }
       if (system instanceof ExecuteSystem) {
         executeSystems.add((ExecuteSystem) system);
+        if (scheduler != null) {
+          scheduler.add((ExecuteSystem) system);
+        }
       }
       if (system instanceof RenderSystem) {
         renderSystems.add((RenderSystem) system);
@@ -107,6 +127,10 @@ public final class Systems
    */
   public void execute(float deltaTime) {
     if (flagRunning) {
+      if (scheduler != null) {
+        scheduler.execute(deltaTime);
+        return;
+      }
       for (var system : executeSystems) {
         system.execute(deltaTime);
       }
@@ -149,6 +173,9 @@ public final class Systems
     executeSystems.clear();
     renderSystems.clear();
     tearDownSystems.clear();
+    if (scheduler != null) {
+      scheduler.clear();
+    }
   }
 
   /**
@@ -24,14 +24,16 @@ THE SOFTWARE.
 
 package com.tenio.engine.fsm;
 
-import com.tenio.common.utility.TimeUtility;
 import com.tenio.engine.constant.EngineConstant;
 import com.tenio.engine.fsm.entity.AbstractEntity;
 import com.tenio.engine.fsm.entity.Telegram;
 import com.tenio.engine.message.ExtraMessage;
+import com.tenio.engine.message.MessageInbox;
+import com.tenio.engine.message.TimingWheel;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 
 /**
  * This class is used for sending messages between entities.
@@ -39,11 +41,25 @@ import java.util.TreeSet;
 public final class MessageDispatcher {
 
   /**
-   * A Set is used as the container for the delayed messages because of the
-   * benefit of automatic sorting and avoidance of duplicates. Messages are sorted
-   * by their dispatch time. See {@link Telegram}
+   * The resolution of the delayed messages, a telegram is dispatched by the first update which
+   * happens at or after the millisecond it is due.
    */
-  private final TreeSet<Telegram> telegrams;
+  private static final long TICK_IN_NANOSECONDS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  /**
+   * The delayed telegrams are sent to the inbox, then drained into the timing wheel by each
+   * update, which holds them until they are due. See {@link Telegram}
+   */
+  private final MessageInbox<Telegram> inbox;
+  private final TimingWheel<Telegram> wheel;
+  /**
+   * The time the wheel's tick zero starts at, in nanoseconds.
+   */
+  private final long originTime;
+  /**
+   * The source of the current time in nanoseconds.
+   */
+  private final LongSupplier clock;
 
   private final EntityManager entityManager;
 
@@ -55,8 +71,21 @@ public final class MessageDispatcher {
    * @param manager the entity manager
    */
   public MessageDispatcher(EntityManager manager) {
+    this(manager, System::nanoTime);
+  }
+
+  /**
+   * Initialization with a clock, e.g. a manual one in tests.
+   *
+   * @param manager the entity manager
+   * @param clock   the source of the current time in nanoseconds
+   */
+  MessageDispatcher(EntityManager manager, LongSupplier clock) {
     entityManager = manager;
-    telegrams = new TreeSet<>();
+    this.clock = clock;
+    inbox = MessageInbox.newInstance();
+    wheel = TimingWheel.newInstance(0L);
+    originTime = clock.getAsLong();
     messageListeners = new ArrayList<>();
   }
 
@@ -93,8 +122,8 @@ public final class MessageDispatcher {
       // else calculate the time when the telegram should be dispatched
       telegram.setDelayTime(delay);
 
-      // and put it in the queue
-      telegrams.add(telegram);
+      // and put it in the inbox
+      inbox.offer(telegram, clock.getAsLong() + (long) (delay * TimeUnit.SECONDS.toNanos(1)));
     }
   }
 
@@ -105,26 +134,25 @@ public final class MessageDispatcher {
    */
   public void update(float deltaTime) {
 
-    // get current time
-    double currentTime = TimeUtility.currentTimeSeconds();
+    // move the telegrams sent so far into the wheel
+    inbox.drain(this::schedule);
 
-    // now peek at the queue to see if any telegrams need dispatching.
-    // remove all telegrams from the front of the queue that have gone
-    // past their sell by date
-    while (!telegrams.isEmpty() && (telegrams.last().getDelayTime() < currentTime)
-        && (telegrams.last().getDelayTime() > 0)) {
-      // read the telegram from the front of the queue
-
-      var telegram = telegrams.last();
+    // then dispatch all telegrams which have gone past their sell by date
+    wheel.advance((clock.getAsLong() - originTime) / TICK_IN_NANOSECONDS, this::dispatch);
+  }
 
-      // find the recipient
-      var preceiver = entityManager.get(telegram.getReceiver());
+  private void schedule(Telegram telegram, long deliveryTime) {
+    // rounds up, so a telegram is never dispatched before it is due
+    long tick = -Math.floorDiv(originTime - deliveryTime, TICK_IN_NANOSECONDS);
+    wheel.schedule(telegram, tick);
+  }
 
+  private void dispatch(Telegram telegram) {
+    // find the recipient, it may have been removed while the telegram was waiting
+    var preceiver = entityManager.get(telegram.getReceiver());
+    if (preceiver != null) {
       // send the telegram to the recipient
       discharge(preceiver, telegram);
-
-      // remove it from the queue
-      telegrams.remove(telegrams.last());
     }
   }
 
@@ -150,6 +178,7 @@ public final class MessageDispatcher {
 
   public void clear() {
     messageListeners.clear();
-    telegrams.clear();
+    inbox.clear();
+    wheel.clear();
   }
 }
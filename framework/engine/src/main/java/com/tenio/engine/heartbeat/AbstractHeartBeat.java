@@ -26,8 +26,9 @@ package com.tenio.engine.heartbeat;
 
 import com.tenio.common.logger.AbstractLogger;
 import com.tenio.common.utility.MathUtility;
-import com.tenio.common.utility.TimeUtility;
 import com.tenio.engine.message.ExtraMessage;
+import com.tenio.engine.message.MessageInbox;
+import com.tenio.engine.message.TimingWheel;
 import com.tenio.engine.physic2d.graphic.Paint;
 import java.awt.BorderLayout;
 import java.awt.Color;
@@ -35,8 +36,9 @@ import java.awt.Graphics;
 import java.awt.GridLayout;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
-import java.util.TreeSet;
 import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import javax.swing.JButton;
 import javax.swing.JFrame;
 import javax.swing.JPanel;
@@ -67,11 +69,20 @@ public abstract class AbstractHeartBeat extends AbstractLogger
   private static final int MAX_UPDATES_BEFORE_RENDER = 5;
 
   /**
-   * A Set is used as the container for the delayed messages because of the
-   * benefit of automatic sorting and avoidance of duplicates. Messages are sorted
-   * by their dispatch time. See {@link HeartbeatMessage}
+   * The messages sent from outside, they are drained at the start of each update into the
+   * timing wheel, which holds them until the update they are due.
    */
-  private TreeSet<HeartbeatMessage> listener;
+  private final MessageInbox<ExtraMessage> inbox;
+  /**
+   * The action which wakes up the sleeping heart-beat when a message arrives, it is set by the
+   * {@link TickScheduler} while the heart-beat sleeps.
+   */
+  private final AtomicReference<Runnable> waker;
+  private TimingWheel<ExtraMessage> wheel;
+  /**
+   * The time the wheel's tick zero starts at, in nanoseconds.
+   */
+  private long wheelOriginTime;
 
   /**
    * For holding a frame.
@@ -108,9 +119,16 @@ public abstract class AbstractHeartBeat extends AbstractLogger
 
   private int currentCcu;
 
-  private boolean running;
+  private volatile boolean running;
   private boolean debugging;
 
+  /**
+   * The fixed-step clock, in nanoseconds.
+   */
+  private double lastUpdateTime;
+  private double lastRenderTime;
+  private int lastSecondTime;
+
   /**
    * Create a new instance with default FPS value, see {@value #TARGET_FPS}.
    */
@@ -121,6 +139,10 @@ public abstract class AbstractHeartBeat extends AbstractLogger
 
     running = true;
     debugging = false;
+
+    inbox = MessageInbox.newInstance();
+    waker = new AtomicReference<>();
+    wheel = TimingWheel.newInstance(0L);
   }
 
   /**
@@ -136,24 +158,93 @@ public abstract class AbstractHeartBeat extends AbstractLogger
   }
 
   /**
-   * Set the listener for the heart-beat. It's used to communicate with outside.
-   * This method must be called before {@link #call()}.
+   * Sends a message to the heart-beat, it can be called by any thread. A sleeping heart-beat is
+   * woken up to dispatch the message instead of waiting for its next check.
    *
-   * @param listener the messages' listener
+   * @param message      the {@link ExtraMessage}
+   * @param deliveryTime the time the message should be delivered at, in nanoseconds of
+   *                     {@link System#nanoTime()}
+   */
+  void offerMessage(ExtraMessage message, long deliveryTime) {
+    inbox.offer(message, deliveryTime);
+    if (waker.get() != null) {
+      var action = waker.getAndSet(null);
+      if (action != null) {
+        action.run();
+      }
+    }
+  }
+
+  /**
+   * Sets the action which wakes up the heart-beat when a message arrives. The
+   * {@link TickScheduler} sets it before checking whether the heart-beat sleeps and clears it
+   * when the heart-beat is awake, so a message sent meanwhile is never missed.
+   *
+   * @param action the action, it can be <b>null</b>
    */
-  public void setMessageListener(TreeSet<HeartbeatMessage> listener) {
-    this.listener = listener;
+  void setWaker(Runnable action) {
+    waker.set(action);
   }
 
   /**
    * Start a new life cycle (game loop).
    */
   private void start() {
+    begin(System.nanoTime());
+    // main loop
+    loop();
+  }
+
+  /**
+   * Creates the heart-beat and starts its clock, it is called once before the first
+   * {@link #advance(long, TickStatistic)}.
+   *
+   * @param now the current time in nanoseconds
+   */
+  void begin(long now) {
     // seed random number generator
     MathUtility.setSeed(0);
     onCreate();
-    // main loop
-    loop();
+    wheel = TimingWheel.newInstance(0L);
+    restartClock(now);
+  }
+
+  /**
+   * Restarts the fixed-step clock, so the time passed before is not caught up.
+   *
+   * @param now the current time in nanoseconds
+   */
+  void restartClock(long now) {
+    lastUpdateTime = now;
+    lastRenderTime = now;
+    lastSecondTime = (int) (lastUpdateTime / 1000000000);
+    // keeps the wheel's ticks aligned with the updates
+    wheelOriginTime = now - (long) (wheel.getCurrentTick() * TIME_BETWEEN_UPDATES);
+  }
+
+  /**
+   * Determines whether the heart-beat can be skipped: it is paused, or it is idle and has no
+   * messages to dispatch.
+   *
+   * @return <b>true</b> if the heart-beat can be skipped
+   */
+  boolean isSleeping() {
+    if (!running) {
+      return true;
+    }
+    return isIdle() && inbox.isEmpty() && wheel.isEmpty();
+  }
+
+  /**
+   * Determines whether the heart-beat has nothing to update, e.g. its room has no players. While
+   * it is idle and has no messages, a {@link TickScheduler} skips its ticks, and its clock is
+   * restarted when it wakes up. It is never idle by default.
+   *
+   * @return <b>true</b> if the heart-beat is idle
+   * @since 0.7.4
+   */
+  protected boolean isIdle() {
+    return false;
   }
 
   /**
@@ -243,97 +334,112 @@ public abstract class AbstractHeartBeat extends AbstractLogger
    * <a href="http://www.java-gaming.org/index.php?topic=24220.0">reference</a>.
    */
   private void loop() {
-    // We will need the last update time.
-    double lastUpdateTime = System.nanoTime();
-    // Store the last time we rendered.
-    double lastRenderTime = System.nanoTime();
-
-    // Simple way of finding FPS.
-    int lastSecondTime = (int) (lastUpdateTime / 1000000000);
-
     while (running) {
-      double now = System.nanoTime();
-      int updateCount = 0;
-
-      // Do as many game updates as we need to, potentially playing catch-up.
-      while (now - lastUpdateTime > TIME_BETWEEN_UPDATES
-          && updateCount < MAX_UPDATES_BEFORE_RENDER) {
-        float delta = 1.0f / currentFps;
-
-        // Message communication
-        // get current time
-        double currentTime = TimeUtility.currentTimeSeconds();
-
-        // now peek at the queue to see if any telegrams need dispatching.
-        // remove all telegrams from the front of the queue that have gone
-        // past their sell by date
-        while (!listener.isEmpty() && (listener.last().getDelayTime() < currentTime)) {
-          // read the message from the front of the queue
-          var message = listener.last();
-          // listening
-          onMessage(message.getMessage());
-          // remove it from the queue
-          listener.remove(message);
-        }
+      long nextUpdateTime = advance(System.nanoTime(), null);
 
-        // Main update
-        onUpdate(delta);
-
-        lastUpdateTime += TIME_BETWEEN_UPDATES;
-        updateCount++;
+      // Wait until the next update. This saves the CPU from hogging.
+      long waitingTime = nextUpdateTime - System.nanoTime();
+      try {
+        if (Thread.currentThread().isInterrupted()) {
+          throw new InterruptedException();
+        }
+        if (waitingTime > 0) {
+          TimeUnit.NANOSECONDS.sleep(waitingTime);
+        }
+      } catch (InterruptedException exception) {
+        // can dispose
+        onDispose();
+        return;
       }
+    }
+  }
 
-      // If for some reason an update takes forever, we don't want to do an insane
-      // number of catch-ups.
-      // If you were doing some sort of game that needed to keep EXACT time, you would
-      // get rid of this.
-      if (now - lastUpdateTime > TIME_BETWEEN_UPDATES) {
-        lastUpdateTime = now - TIME_BETWEEN_UPDATES;
+  /**
+   * Runs the updates which are due, potentially playing catch-up, and renders once.
+   *
+   * @param now       the current time in nanoseconds
+   * @param statistic the {@link TickStatistic} to update, it can be <b>null</b>
+   * @return the time of the next update in nanoseconds
+   */
+  long advance(long now, TickStatistic statistic) {
+    int updateCount = 0;
+
+    // Do as many game updates as we need to, potentially playing catch-up.
+    while (now - lastUpdateTime > TIME_BETWEEN_UPDATES
+        && updateCount < MAX_UPDATES_BEFORE_RENDER) {
+      // every update advances the clock by the same step, the measured FPS is only displayed
+      float delta = 1.0f / TARGET_FPS;
+      long tickStartedTime = System.nanoTime();
+
+      // Message communication
+      // move the messages sent so far into the wheel, then dispatch the ones which are due at
+      // this update
+      inbox.drain(this::scheduleMessage);
+      wheel.advance(toTick(lastUpdateTime + TIME_BETWEEN_UPDATES), this::onMessage);
+
+      // Main update
+      onUpdate(delta);
+      long tickTime = System.nanoTime() - tickStartedTime;
+      HeartbeatOverrunEvent.emit(getClass().getName(), tickTime, (long) TIME_BETWEEN_UPDATES,
+          updateCount);
+      if (statistic != null) {
+        statistic.updateTick(tickTime, (long) TIME_BETWEEN_UPDATES);
       }
 
-      // Render. To do so, we need to calculate interpolation for a smooth render.
-      // float interpolation = Math.min(1.0f, (float) ((now - lastUpdateTime) /
-      // TIME_BETWEEN_UPDATES));
-      if (debugging) {
-        draw();
-      }
+      lastUpdateTime += TIME_BETWEEN_UPDATES;
+      updateCount++;
+    }
+
+    // If for some reason an update takes forever, we don't want to do an insane
+    // number of catch-ups.
+    // If you were doing some sort of game that needed to keep EXACT time, you would
+    // get rid of this.
+    if (now - lastUpdateTime > TIME_BETWEEN_UPDATES) {
+      lastUpdateTime = now - TIME_BETWEEN_UPDATES;
+    }
+
+    // Render. To do so, we need to calculate interpolation for a smooth render.
+    // float interpolation = Math.min(1.0f, (float) ((now - lastUpdateTime) /
+    // TIME_BETWEEN_UPDATES));
+    if (debugging && now - lastRenderTime >= TIME_BETWEEN_RENDER) {
+      draw();
       lastRenderTime = now;
+    }
 
-      // Update the frames we got.
-      int thisSecond = (int) (lastUpdateTime / 1000000000);
-      if (thisSecond > lastSecondTime) {
-        currentFps = frameCount;
-        frameCount = 0;
-        lastSecondTime = thisSecond;
-      }
+    // Update the frames we got.
+    int thisSecond = (int) (lastUpdateTime / 1000000000);
+    if (thisSecond > lastSecondTime) {
+      currentFps = frameCount;
+      frameCount = 0;
+      lastSecondTime = thisSecond;
+    }
 
-      // Yield until it has been at least the target time between renders. This saves
-      // the CPU from hogging.
-      while (now - lastRenderTime < TIME_BETWEEN_RENDER
-          && now - lastUpdateTime < TIME_BETWEEN_UPDATES) {
-        Thread.yield();
-
-        // This stops the application from consuming all your CPU. It makes this
-        // slightly less
-        // accurate, but is worth it.
-        // You can remove this line, and it will still work (better), your CPU just
-        // climbs on certain OSes.
-        // FYI on some OS's this can cause pretty bad shuttering. Scroll down and have a
-        // look at different peoples' solutions to this.
-        try {
-          Thread.sleep(1);
-        } catch (Exception exception) {
-          // can dispose
-          onDispose();
-          return;
-        }
+    // update counter
+    frameCount++;
 
-        now = System.nanoTime();
-      }
+    // the next update is due once more than the time between updates has passed
+    return (long) (lastUpdateTime + TIME_BETWEEN_UPDATES) + 1;
+  }
 
-      // update counter
-      frameCount++;
-    }
+  /**
+   * Schedules a message at the first update which starts at or after its delivery time.
+   *
+   * @param message      the message
+   * @param deliveryTime the delivery time in nanoseconds
+   */
+  private void scheduleMessage(ExtraMessage message, long deliveryTime) {
+    long tick = (long) Math.ceil((deliveryTime - wheelOriginTime) / TIME_BETWEEN_UPDATES);
+    wheel.schedule(message, tick);
+  }
+
+  /**
+   * Converts a time to the wheel's tick it belongs to.
+   *
+   * @param time the time in nanoseconds
+   * @return the tick
+   */
+  private long toTick(double time) {
+    return (long) Math.floor((time - wheelOriginTime) / TIME_BETWEEN_UPDATES);
   }
 
   /**
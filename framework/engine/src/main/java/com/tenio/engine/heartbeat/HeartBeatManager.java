@@ -27,11 +27,9 @@ package com.tenio.engine.heartbeat;
 import com.tenio.engine.message.ExtraMessage;
 
 /**
- * The Java ExecutorService is a construct that allows you to pass a task to be
- * executed by a thread asynchronously. The executor service creates and
- * maintains a reusable pool of threads for executing submitted tasks. This
- * class helps you create and manage your HeartBeats. See:
- * {@link AbstractHeartBeat}
+ * This class helps you create and manage your HeartBeats. See:
+ * {@link AbstractHeartBeat}. The heart-beats are driven by a shared pool of
+ * threads, see {@link TickScheduler}.
  */
 public interface HeartBeatManager {
 
@@ -72,6 +70,14 @@ public interface HeartBeatManager {
    */
   void clear();
 
+  /**
+   * Retrieves the statistic of the heart-beats' ticks.
+   *
+   * @return the {@link TickStatistic}, or <b>null</b> if the manager is not initialized
+   * @since 0.7.4
+   */
+  TickStatistic getTickStatistic();
+
   /**
    * Send a message to a particular heart-beat with a delay time.
    *
@@ -27,21 +27,18 @@ package com.tenio.engine.heartbeat;
 import com.tenio.common.logger.SystemLogger;
 import com.tenio.engine.exception.HeartbeatNotFoundException;
 import com.tenio.engine.message.ExtraMessage;
+import com.tenio.engine.message.MessageInbox;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.TreeSet;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
- * The Java ExecutorService is a construct that allows you to pass a task to be
- * executed by a thread asynchronously. The executor service creates and
- * maintains a reusable pool of threads for executing submitted tasks. This
- * class helps you create and manage your HeartBeats. See:
- * {@link AbstractHeartBeat}
+ * This class helps you create and manage your HeartBeats. See:
+ * {@link AbstractHeartBeat}. The heart-beats share the threads of a {@link TickScheduler}, which
+ * wakes each of them when its next update is due, so a server can host many more heart-beats
+ * than it has threads.
  *
  * @see HeartBeatManager
  */
@@ -49,26 +46,31 @@ import javax.annotation.concurrent.ThreadSafe;
 public final class HeartBeatManagerImpl extends SystemLogger implements HeartBeatManager {
 
   @GuardedBy("this")
-  private final Map<String, Future<Void>> threadsManager;
+  private final Map<String, AbstractHeartBeat> threadsManager;
   /**
-   * A Set is used as the container for the delayed messages because of the
-   * benefit of automatic sorting and avoidance of duplicates. Messages are sorted
-   * by their dispatch time. @see {@link HeartbeatMessage}
+   * The heart-beats which receive the messages, they are sent without holding the manager's
+   * lock. See {@link MessageInbox}
    */
-  @GuardedBy("this")
-  private final Map<String, TreeSet<HeartbeatMessage>> messagesManager;
-  private ExecutorService executorService;
+  private final Map<String, AbstractHeartBeat> receivers;
+  private TickScheduler tickScheduler;
 
   public HeartBeatManagerImpl() {
     threadsManager = new HashMap<>();
-    messagesManager = new HashMap<>();
+    receivers = new ConcurrentHashMap<>();
   }
 
+  /**
+   * Starts the tick scheduler, it uses at most one thread for each available processor.
+   *
+   * @param maxHeartbeat the maximum number of threads for the heart-beats
+   */
   @Override
-  public void initialize(final int maxHeartbeat) throws Exception {
-    executorService = Executors.newFixedThreadPool(maxHeartbeat);
+  public synchronized void initialize(final int maxHeartbeat) throws Exception {
+    int threads = Math.min(maxHeartbeat, Runtime.getRuntime().availableProcessors());
+    tickScheduler = TickScheduler.newInstance(Math.max(1, threads));
     if (isInfoEnabled()) {
-      info("INITIALIZE HEART BEAT", buildgen(maxHeartbeat));
+      info("INITIALIZE HEART BEAT", buildgen(maxHeartbeat, ", threads: ",
+          tickScheduler.getThreadsCount()));
     }
   }
 
@@ -78,13 +80,11 @@ public final class HeartBeatManagerImpl extends SystemLogger implements HeartBea
       if (isInfoEnabled()) {
         info("CREATE HEART BEAT", buildgen("id: ", id));
       }
-      // Add the listener
-      var listener = new TreeSet<HeartbeatMessage>();
-      heartbeat.setMessageListener(listener);
-      messagesManager.put(id, listener);
+      // Add the receiver
+      receivers.put(id, heartbeat);
       // Start the heart-beat
-      var future = executorService.submit(heartbeat);
-      threadsManager.put(id, future);
+      tickScheduler.schedule(heartbeat);
+      threadsManager.put(id, heartbeat);
     } catch (Exception exception) {
       if (isErrorEnabled()) {
         error(exception, "id: ", id);
@@ -99,21 +99,20 @@ public final class HeartBeatManagerImpl extends SystemLogger implements HeartBea
         throw new HeartbeatNotFoundException();
       }
 
-      var future = threadsManager.get(id);
-      if (future == null) {
+      var heartbeat = threadsManager.get(id);
+      if (heartbeat == null) {
         throw new NullPointerException();
       }
 
-      future.cancel(true);
+      tickScheduler.unschedule(heartbeat);
       threadsManager.remove(id);
 
       if (isInfoEnabled()) {
         info("DISPOSE HEART BEAT", buildgen(id));
       }
 
-      // Remove the listener
-      messagesManager.get(id).clear();
-      messagesManager.remove(id);
+      // Remove the receiver, the messages left are dropped with the heart-beat
+      receivers.remove(id);
     } catch (Exception exception) {
       if (isErrorEnabled()) {
         error(exception, "id: ", id);
@@ -128,19 +127,24 @@ public final class HeartBeatManagerImpl extends SystemLogger implements HeartBea
 
   @Override
   public synchronized void clear() {
-    if (executorService != null) {
-      executorService.shutdownNow();
+    if (tickScheduler != null) {
+      tickScheduler.shutdown();
     }
-    executorService = null;
+    tickScheduler = null;
     threadsManager.clear();
+    receivers.clear();
+  }
+
+  @Override
+  public synchronized TickStatistic getTickStatistic() {
+    return tickScheduler != null ? tickScheduler.getTickStatistic() : null;
   }
 
   @Override
   public void sendMessage(String id, ExtraMessage message, double delayTime) {
-    var container = HeartbeatMessage.newInstance(message, delayTime);
-    var treeSet = messagesManager.get(id);
-    synchronized (treeSet) {
-      treeSet.add(container);
+    var heartbeat = receivers.get(id);
+    if (heartbeat != null) {
+      heartbeat.offerMessage(message, System.nanoTime() + (long) (delayTime * 1_000_000_000L));
     }
   }
 
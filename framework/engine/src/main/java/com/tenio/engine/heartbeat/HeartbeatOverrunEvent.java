@@ -0,0 +1,94 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.engine.heartbeat;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The flight recorder event which is committed when a heart-beat tick (the messages dispatching
+ * and the update) takes longer than the time between two updates. It is enabled by the
+ * framework's flight recorder profile.
+ *
+ * @see AbstractHeartBeat
+ * @since 0.7.4
+ */
+@Name("com.tenio.engine.HeartbeatOverrun")
+@Label("Heartbeat Overrun")
+@Category({"TenIO", "Engine"})
+@Description("A heart-beat tick has taken longer than its budget")
+@Enabled(false)
+@StackTrace(false)
+public final class HeartbeatOverrunEvent extends jdk.jfr.Event {
+
+  @Label("Heartbeat")
+  private String heartbeat;
+
+  @Label("Budget")
+  @Timespan(Timespan.NANOSECONDS)
+  private long budget;
+
+  @Label("Overrun")
+  @Timespan(Timespan.NANOSECONDS)
+  private long overrun;
+
+  @Label("Catch-up Updates")
+  @Description("The number of updates already run in the same loop iteration to catch up")
+  private int catchUpUpdates;
+
+  /**
+   * Creates a new event, the instances are only created by {@link #emit}.
+   */
+  private HeartbeatOverrunEvent() {
+  }
+
+  /**
+   * Commits a new event if the tick exceeded its budget and the event is enabled in the running
+   * recordings. The tick is measured by the caller, the event itself has no duration.
+   *
+   * @param heartbeat      the heart-beat's name
+   * @param tickTime       the time taken by the tick in nanoseconds
+   * @param budget         the time between two updates in nanoseconds
+   * @param catchUpUpdates the number of updates already run in the same loop iteration
+   */
+  public static void emit(String heartbeat, long tickTime, long budget, int catchUpUpdates) {
+    if (tickTime <= budget) {
+      return;
+    }
+    var event = new HeartbeatOverrunEvent();
+    if (event.shouldCommit()) {
+      event.heartbeat = heartbeat;
+      event.budget = budget;
+      event.overrun = tickTime - budget;
+      event.catchUpUpdates = catchUpUpdates;
+      event.commit();
+    }
+  }
+}
@@ -0,0 +1,289 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.engine.heartbeat;
+
+import com.tenio.common.logger.SystemLogger;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The tick scheduler drives many heart-beats from a few threads. Each thread keeps its
+ * heart-beats ordered by the time of their next update and sleeps until the earliest one is
+ * due, so a heart-beat costs nothing between its ticks. A heart-beat always runs on the same
+ * thread, it does not need to be thread-safe.
+ *
+ * <p>The heart-beats keep their fixed-step semantics: every update advances the clock by the
+ * same step, and a late heart-beat plays catch-up for a few updates. The heart-beats which are
+ * paused, or idle without messages (see {@link AbstractHeartBeat#isIdle()}), are skipped and
+ * checked again after {@link #IDLE_CHECK_INTERVAL_IN_NANOSECONDS}, or as soon as a message is sent
+ * to them.
+ *
+ * @see AbstractHeartBeat
+ * @see TickStatistic
+ * @since 0.7.4
+ */
+public final class TickScheduler extends SystemLogger {
+
+  /**
+   * The time between two checks of a sleeping heart-beat.
+   */
+  public static final long IDLE_CHECK_INTERVAL_IN_NANOSECONDS = TimeUnit.MILLISECONDS.toNanos(100L);
+
+  private final Worker[] workers;
+  private final TickStatistic tickStatistic;
+
+  private TickScheduler(int threads) {
+    if (threads <= 0) {
+      throw new IllegalArgumentException("The number of threads must be positive: " + threads);
+    }
+    tickStatistic = TickStatistic.newInstance();
+    workers = new Worker[threads];
+    for (int i = 0; i < threads; i++) {
+      workers[i] = new Worker();
+      var thread = new Thread(workers[i], "heartbeat-tick-" + i);
+      workers[i].thread = thread;
+      thread.start();
+    }
+  }
+
+  /**
+   * Creates a new scheduler and starts its threads.
+   *
+   * @param threads the number of threads
+   * @return a new instance of {@link TickScheduler}
+   */
+  public static TickScheduler newInstance(int threads) {
+    return new TickScheduler(threads);
+  }
+
+  /**
+   * Schedules a heart-beat on the least loaded thread, it is created on that thread.
+   *
+   * @param heartbeat the {@link AbstractHeartBeat}
+   */
+  public void schedule(AbstractHeartBeat heartbeat) {
+    var selectedWorker = workers[0];
+    for (int i = 1; i < workers.length; i++) {
+      if (workers[i].load.get() < selectedWorker.load.get()) {
+        selectedWorker = workers[i];
+      }
+    }
+    var worker = selectedWorker;
+    worker.load.incrementAndGet();
+    worker.execute(() -> worker.add(heartbeat));
+  }
+
+  /**
+   * Stops a heart-beat, it is disposed on its thread.
+   *
+   * @param heartbeat the {@link AbstractHeartBeat}
+   */
+  public void unschedule(AbstractHeartBeat heartbeat) {
+    for (var worker : workers) {
+      worker.execute(() -> worker.remove(heartbeat));
+    }
+  }
+
+  /**
+   * Retrieves the number of scheduled heart-beats.
+   *
+   * @return the heart-beats count
+   */
+  public int getHeartbeatsCount() {
+    int count = 0;
+    for (var worker : workers) {
+      count += worker.load.get();
+    }
+    return count;
+  }
+
+  /**
+   * Retrieves the number of threads.
+   *
+   * @return the number of threads
+   */
+  public int getThreadsCount() {
+    return workers.length;
+  }
+
+  /**
+   * Retrieves the statistic of all ticks.
+   *
+   * @return the {@link TickStatistic}
+   */
+  public TickStatistic getTickStatistic() {
+    return tickStatistic;
+  }
+
+  /**
+   * Stops all threads, the heart-beats are disposed on their threads.
+   */
+  public void shutdown() {
+    for (var worker : workers) {
+      worker.thread.interrupt();
+    }
+  }
+
+  private static final class Slot {
+
+    private final AbstractHeartBeat heartbeat;
+    private long deadline;
+    private boolean sleeping;
+    private Runnable waker;
+
+    private Slot(AbstractHeartBeat heartbeat, long deadline) {
+      this.heartbeat = heartbeat;
+      this.deadline = deadline;
+    }
+  }
+
+  private final class Worker implements Runnable {
+
+    private final PriorityQueue<Slot> deadlines;
+    private final Map<AbstractHeartBeat, Slot> slots;
+    private final Queue<Runnable> commands;
+    private final AtomicInteger load;
+    private volatile Thread thread;
+
+    private Worker() {
+      deadlines = new PriorityQueue<>(Comparator.comparingLong(slot -> slot.deadline));
+      slots = new IdentityHashMap<>();
+      commands = new ConcurrentLinkedQueue<>();
+      load = new AtomicInteger();
+    }
+
+    private void execute(Runnable command) {
+      commands.add(command);
+      LockSupport.unpark(thread);
+    }
+
+    @Override
+    public void run() {
+      try {
+        while (!Thread.currentThread().isInterrupted()) {
+          Runnable command;
+          while ((command = commands.poll()) != null) {
+            command.run();
+          }
+          var slot = deadlines.peek();
+          long now = System.nanoTime();
+          if (slot == null) {
+            LockSupport.park(this);
+          } else if (slot.deadline > now) {
+            LockSupport.parkNanos(this, slot.deadline - now);
+          } else {
+            deadlines.poll();
+            tick(slot, now);
+            deadlines.add(slot);
+          }
+        }
+      } finally {
+        // the heart-beats are disposed on the thread they ran on
+        List<AbstractHeartBeat> heartbeats = new ArrayList<>(slots.keySet());
+        heartbeats.forEach(this::remove);
+      }
+    }
+
+    private void add(AbstractHeartBeat heartbeat) {
+      long now = System.nanoTime();
+      try {
+        heartbeat.begin(now);
+      } catch (Throwable cause) {
+        load.decrementAndGet();
+        if (isErrorEnabled()) {
+          error(cause, "heart-beat: ", heartbeat.getClass().getName());
+        }
+        return;
+      }
+      var slot = new Slot(heartbeat, now);
+      slot.waker = () -> execute(() -> wake(slot));
+      slots.put(heartbeat, slot);
+      deadlines.add(slot);
+    }
+
+    private void remove(AbstractHeartBeat heartbeat) {
+      var slot = slots.remove(heartbeat);
+      if (slot == null) {
+        return;
+      }
+      deadlines.remove(slot);
+      load.decrementAndGet();
+      try {
+        heartbeat.onDispose();
+      } catch (Throwable cause) {
+        if (isErrorEnabled()) {
+          error(cause, "heart-beat: ", heartbeat.getClass().getName());
+        }
+      }
+    }
+
+    private void wake(Slot slot) {
+      // the heart-beat can be removed or already awake when the command runs
+      if (!slot.sleeping || slots.get(slot.heartbeat) != slot) {
+        return;
+      }
+      long now = System.nanoTime();
+      slot.sleeping = false;
+      slot.heartbeat.restartClock(now);
+      deadlines.remove(slot);
+      slot.deadline = now;
+      deadlines.add(slot);
+    }
+
+    private void tick(Slot slot, long now) {
+      var heartbeat = slot.heartbeat;
+      try {
+        // the waker is set before the inbox is checked, so a message which arrives after the
+        // check wakes the heart-beat up
+        heartbeat.setWaker(slot.waker);
+        slot.sleeping = heartbeat.isSleeping();
+        if (slot.sleeping) {
+          tickStatistic.updateSkippedTicks();
+          // a heart-beat which wakes up starts from the current time instead of catching up
+          heartbeat.restartClock(now);
+          slot.deadline = now + IDLE_CHECK_INTERVAL_IN_NANOSECONDS;
+          return;
+        }
+        heartbeat.setWaker(null);
+        tickStatistic.updateJitter(now - slot.deadline);
+        slot.deadline = heartbeat.advance(now, tickStatistic);
+      } catch (Throwable cause) {
+        // the heart-beat keeps its clock, it is tried again a bit later and catches up then
+        slot.deadline = now + IDLE_CHECK_INTERVAL_IN_NANOSECONDS;
+        if (isErrorEnabled()) {
+          error(cause, "heart-beat: ", heartbeat.getClass().getName());
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,170 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.engine.heartbeat;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks the ticks of the heart-beats driven by a {@link TickScheduler}.
+ *
+ * <p>Key features:
+ * <ul>
+ *   <li>Number of ticks (updates) and number of ticks which took longer than their budget</li>
+ *   <li>Number of ticks skipped because their heart-beats were idle</li>
+ *   <li>Jitter, how late a heart-beat is woken after its deadline</li>
+ * </ul>
+ *
+ * @see TickScheduler
+ * @since 0.7.4
+ */
+public final class TickStatistic {
+
+  private final LongAdder ticks;
+  private final LongAdder overruns;
+  private final LongAdder skippedTicks;
+  private final LongAdder jitterTime;
+  private final LongAdder jitterSamples;
+  private final AtomicLong maxJitter;
+  private final AtomicLong maxTickTime;
+
+  private TickStatistic() {
+    ticks = new LongAdder();
+    overruns = new LongAdder();
+    skippedTicks = new LongAdder();
+    jitterTime = new LongAdder();
+    jitterSamples = new LongAdder();
+    maxJitter = new AtomicLong();
+    maxTickTime = new AtomicLong();
+  }
+
+  /**
+   * Initialization.
+   *
+   * @return a new instance of {@link TickStatistic}
+   */
+  public static TickStatistic newInstance() {
+    return new TickStatistic();
+  }
+
+  /**
+   * Updates a tick.
+   *
+   * @param tickTime the time the tick took in nanoseconds
+   * @param budget   the time between two ticks in nanoseconds
+   */
+  public void updateTick(long tickTime, long budget) {
+    ticks.increment();
+    if (tickTime > budget) {
+      overruns.increment();
+    }
+    maxTickTime.accumulateAndGet(tickTime, Math::max);
+  }
+
+  /**
+   * Updates how late a heart-beat was woken.
+   *
+   * @param lateness the time between the deadline and the wake-up in nanoseconds
+   */
+  public void updateJitter(long lateness) {
+    long jitter = Math.max(0L, lateness);
+    jitterTime.add(jitter);
+    jitterSamples.increment();
+    maxJitter.accumulateAndGet(jitter, Math::max);
+  }
+
+  /**
+   * Updates a tick which was skipped by an idle heart-beat.
+   */
+  public void updateSkippedTicks() {
+    skippedTicks.increment();
+  }
+
+  /**
+   * Retrieves the number of ticks.
+   *
+   * @return the number of ticks
+   */
+  public long getTicks() {
+    return ticks.sum();
+  }
+
+  /**
+   * Retrieves the number of ticks which took longer than their budget.
+   *
+   * @return the number of overruns
+   */
+  public long getOverruns() {
+    return overruns.sum();
+  }
+
+  /**
+   * Retrieves the number of ticks skipped by idle heart-beats.
+   *
+   * @return the number of skipped ticks
+   */
+  public long getSkippedTicks() {
+    return skippedTicks.sum();
+  }
+
+  /**
+   * Retrieves the average jitter.
+   *
+   * @return the average jitter in nanoseconds
+   */
+  public double getAverageJitter() {
+    long samples = jitterSamples.sum();
+    return samples == 0L ? 0.0 : (double) jitterTime.sum() / samples;
+  }
+
+  /**
+   * Retrieves the maximum jitter.
+   *
+   * @return the maximum jitter in nanoseconds
+   */
+  public long getMaxJitter() {
+    return maxJitter.get();
+  }
+
+  /**
+   * Retrieves the longest tick.
+   *
+   * @return the longest tick time in nanoseconds
+   */
+  public long getMaxTickTime() {
+    return maxTickTime.get();
+  }
+
+  @Override
+  public String toString() {
+    return "TickStatistic{" +
+        "ticks=" + getTicks() +
+        ", overruns=" + getOverruns() +
+        ", skippedTicks=" + getSkippedTicks() +
+        ", averageJitter=" + getAverageJitter() +
+        ", maxJitter=" + getMaxJitter() +
+        ", maxTickTime=" + getMaxTickTime() +
+        '}';
+  }
+}
@@ -25,6 +25,7 @@ THE SOFTWARE.
 package com.tenio.engine.heartbeat.ecs;
 
 import com.tenio.engine.ecs.system.System;
+import com.tenio.engine.ecs.system.implement.SystemScheduler;
 import com.tenio.engine.ecs.system.implement.Systems;
 import com.tenio.engine.heartbeat.AbstractHeartBeat;
 import com.tenio.engine.message.ExtraMessage;
@@ -37,10 +38,24 @@ import com.tenio.engine.physic2d.graphic.Paint;
  */
 public class EcsHeartBeat extends AbstractHeartBeat {
 
-  private final Systems systems = new Systems();
+  private final Systems systems;
 
   public EcsHeartBeat(int viewWidth, int viewHeight) {
+    this(viewWidth, viewHeight, null);
+  }
+
+  /**
+   * Creates a new heartbeat which executes its systems on a scheduler.
+   *
+   * @param viewWidth  the view's width
+   * @param viewHeight the view's height
+   * @param scheduler  the {@link SystemScheduler}, or {@code null} to execute the systems in
+   *                   order on the heartbeat thread
+   * @since 0.7.4
+   */
+  public EcsHeartBeat(int viewWidth, int viewHeight, SystemScheduler scheduler) {
     super(viewWidth, viewHeight);
+    systems = new Systems(scheduler);
   }
 
   public void addSystem(System system) {
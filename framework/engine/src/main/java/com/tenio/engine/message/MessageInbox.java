@@ -0,0 +1,201 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.engine.message;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * An inbox which many threads can send messages to while one thread receives them. The
+ * messages are kept in a ring of slots which are claimed by a single compare-and-set, so sending
+ * a message neither takes a lock nor allocates. When the ring is full, the messages are kept in
+ * an unbounded overflow queue instead of being dropped, and the following messages join them
+ * until the receiver has drained that queue, so the messages of a sender are always received in
+ * their sending order.
+ *
+ * <p>The receiver usually drains the inbox at the start of a tick into a {@link TimingWheel},
+ * which holds the messages until they are due.
+ *
+ * @param <T> the message type
+ * @see TimingWheel
+ * @since 0.7.4
+ */
+public final class MessageInbox<T> {
+
+  /**
+   * The default number of slots in the ring.
+   */
+  public static final int DEFAULT_CAPACITY = 1024;
+
+  private final int mask;
+  private final Object[] messages;
+  private final long[] deliveryTimes;
+  // a slot can be written when its sequence equals the claiming position, and read when it
+  // equals that position plus one
+  private final AtomicLongArray sequences;
+  private final AtomicLong tail;
+  private final Queue<Overflow<T>> overflows;
+  // it is increased before a message is added to the overflow queue and decreased once it is
+  // taken out, so the queue is empty and no message is on its way there when it is 0
+  private final AtomicLong pendingOverflows;
+  private long head;
+
+  private MessageInbox(int capacity) {
+    if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException("The capacity must be a power of two: " + capacity);
+    }
+    mask = capacity - 1;
+    messages = new Object[capacity];
+    deliveryTimes = new long[capacity];
+    sequences = new AtomicLongArray(capacity);
+    for (int i = 0; i < capacity; i++) {
+      sequences.set(i, i);
+    }
+    tail = new AtomicLong();
+    overflows = new ConcurrentLinkedQueue<>();
+    pendingOverflows = new AtomicLong();
+  }
+
+  /**
+   * Creates a new inbox with the default capacity.
+   *
+   * @param <T> the message type
+   * @return a new instance of {@link MessageInbox}
+   */
+  public static <T> MessageInbox<T> newInstance() {
+    return new MessageInbox<>(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates a new inbox.
+   *
+   * @param capacity the number of slots in the ring, a power of two
+   * @param <T>      the message type
+   * @return a new instance of {@link MessageInbox}
+   */
+  public static <T> MessageInbox<T> newInstance(int capacity) {
+    return new MessageInbox<>(capacity);
+  }
+
+  /**
+   * Sends a message, it can be called by any thread.
+   *
+   * @param message      the message
+   * @param deliveryTime the time the message should be delivered at, in nanoseconds of
+   *                     {@link System#nanoTime()}
+   */
+  public void offer(T message, long deliveryTime) {
+    // a message must not overtake the ones waiting in the overflow queue, the ring is only used
+    // again once the receiver has drained them
+    while (pendingOverflows.get() == 0L) {
+      long position = tail.get();
+      int index = (int) (position & mask);
+      long difference = sequences.get(index) - position;
+      if (difference == 0L) {
+        if (tail.compareAndSet(position, position + 1)) {
+          messages[index] = message;
+          deliveryTimes[index] = deliveryTime;
+          sequences.lazySet(index, position + 1);
+          return;
+        }
+      } else if (difference < 0L) {
+        // the receiver has not drained the slot yet
+        break;
+      }
+    }
+    pendingOverflows.incrementAndGet();
+    overflows.add(new Overflow<>(message, deliveryTime));
+  }
+
+  /**
+   * Receives all messages sent so far, it must only be called by the receiving thread.
+   *
+   * @param receiver the receiver of each message and its delivery time
+   * @return the number of received messages
+   */
+  @SuppressWarnings("unchecked")
+  public int drain(Receiver<T> receiver) {
+    int count = 0;
+    while (true) {
+      int index = (int) (head & mask);
+      if (sequences.get(index) != head + 1) {
+        break;
+      }
+      var message = (T) messages[index];
+      long deliveryTime = deliveryTimes[index];
+      messages[index] = null;
+      sequences.lazySet(index, head + messages.length);
+      head++;
+      receiver.receive(message, deliveryTime);
+      count++;
+    }
+    Overflow<T> overflow;
+    while ((overflow = overflows.poll()) != null) {
+      pendingOverflows.decrementAndGet();
+      receiver.receive(overflow.message(), overflow.deliveryTime());
+      count++;
+    }
+    return count;
+  }
+
+  /**
+   * Determines whether there is no message to receive, it must only be called by the receiving
+   * thread.
+   *
+   * @return {@code true} if the inbox is empty, otherwise {@code false}
+   */
+  public boolean isEmpty() {
+    return sequences.get((int) (head & mask)) != head + 1 && overflows.isEmpty();
+  }
+
+  /**
+   * Removes all messages, it must only be called by the receiving thread.
+   */
+  public void clear() {
+    drain((message, deliveryTime) -> {
+    });
+  }
+
+  /**
+   * Receives the messages of an inbox.
+   *
+   * @param <T> the message type
+   */
+  @FunctionalInterface
+  public interface Receiver<T> {
+
+    /**
+     * Receives a message.
+     *
+     * @param message      the message
+     * @param deliveryTime the time the message should be delivered at, in nanoseconds
+     */
+    void receive(T message, long deliveryTime);
+  }
+
+  private record Overflow<T>(T message, long deliveryTime) {
+  }
+}
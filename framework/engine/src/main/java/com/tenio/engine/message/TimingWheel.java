@@ -0,0 +1,218 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.engine.message;
+
+import java.util.function.Consumer;
+
+/**
+ * A hashed timing wheel holds messages until the tick they are due. Each tick has a slot in a
+ * ring, a message is added to the slot of its tick and delivered when the wheel reaches the tick,
+ * the messages due further than one turn stay in their slot for the next turns. Scheduling and
+ * delivering a message take a constant time, and the messages of the same tick are delivered in
+ * the order they were scheduled.
+ *
+ * <p>The wheel is not thread-safe, it belongs to the thread which advances it, other threads send
+ * their messages through a {@link MessageInbox}.
+ *
+ * @param <T> the message type
+ * @see MessageInbox
+ * @since 0.7.4
+ */
+public final class TimingWheel<T> {
+
+  /**
+   * The default number of slots in the ring.
+   */
+  public static final int DEFAULT_SLOTS = 512;
+
+  private final int mask;
+  private final Entry<T>[] heads;
+  private final Entry<T>[] tails;
+  private Entry<T> freeEntries;
+  private long currentTick;
+  private int size;
+
+  @SuppressWarnings("unchecked")
+  private TimingWheel(int slots, long startTick) {
+    if (slots <= 0 || Integer.bitCount(slots) != 1) {
+      throw new IllegalArgumentException("The number of slots must be a power of two: " + slots);
+    }
+    mask = slots - 1;
+    heads = new Entry[slots];
+    tails = new Entry[slots];
+    currentTick = startTick;
+  }
+
+  /**
+   * Creates a new wheel with the default number of slots.
+   *
+   * @param startTick the current tick
+   * @param <T>       the message type
+   * @return a new instance of {@link TimingWheel}
+   */
+  public static <T> TimingWheel<T> newInstance(long startTick) {
+    return new TimingWheel<>(DEFAULT_SLOTS, startTick);
+  }
+
+  /**
+   * Creates a new wheel.
+   *
+   * @param slots     the number of slots, a power of two
+   * @param startTick the current tick
+   * @param <T>       the message type
+   * @return a new instance of {@link TimingWheel}
+   */
+  public static <T> TimingWheel<T> newInstance(int slots, long startTick) {
+    return new TimingWheel<>(slots, startTick);
+  }
+
+  /**
+   * Schedules a message, a message due at the current tick or before is delivered with the next
+   * tick.
+   *
+   * @param message the message
+   * @param tick    the tick the message is due
+   */
+  public void schedule(T message, long tick) {
+    long dueTick = Math.max(tick, currentTick + 1);
+    var entry = freeEntries;
+    if (entry != null) {
+      freeEntries = entry.next;
+      entry.next = null;
+    } else {
+      entry = new Entry<>();
+    }
+    entry.message = message;
+    entry.tick = dueTick;
+    int slot = (int) (dueTick & mask);
+    if (tails[slot] == null) {
+      heads[slot] = entry;
+    } else {
+      tails[slot].next = entry;
+    }
+    tails[slot] = entry;
+    size++;
+  }
+
+  /**
+   * Advances the wheel tick by tick and delivers the due messages.
+   *
+   * @param tick     the tick to advance to
+   * @param consumer the consumer of the due messages, it may schedule new messages
+   */
+  public void advance(long tick, Consumer<T> consumer) {
+    while (currentTick < tick) {
+      if (size == 0) {
+        // nothing can become due, so the ticks in between are skipped
+        currentTick = tick;
+        return;
+      }
+      currentTick++;
+      int slot = (int) (currentTick & mask);
+      Entry<T> previous = null;
+      var entry = heads[slot];
+      while (entry != null) {
+        var next = entry.next;
+        if (entry.tick <= currentTick) {
+          unlink(slot, previous, entry);
+          var message = entry.message;
+          release(entry);
+          consumer.accept(message);
+        } else {
+          previous = entry;
+        }
+        entry = next;
+      }
+    }
+  }
+
+  /**
+   * Retrieves the current tick.
+   *
+   * @return the current tick
+   */
+  public long getCurrentTick() {
+    return currentTick;
+  }
+
+  /**
+   * Retrieves the number of scheduled messages.
+   *
+   * @return the number of messages
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Determines whether there is no scheduled message.
+   *
+   * @return {@code true} if the wheel is empty, otherwise {@code false}
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Removes all scheduled messages.
+   */
+  public void clear() {
+    for (int slot = 0; slot < heads.length; slot++) {
+      var entry = heads[slot];
+      while (entry != null) {
+        var next = entry.next;
+        release(entry);
+        entry = next;
+      }
+      heads[slot] = null;
+      tails[slot] = null;
+    }
+    size = 0;
+  }
+
+  private void unlink(int slot, Entry<T> previous, Entry<T> entry) {
+    if (previous == null) {
+      heads[slot] = entry.next;
+    } else {
+      previous.next = entry.next;
+    }
+    if (tails[slot] == entry) {
+      tails[slot] = previous;
+    }
+    size--;
+  }
+
+  private void release(Entry<T> entry) {
+    entry.message = null;
+    entry.next = freeEntries;
+    freeEntries = entry;
+  }
+
+  private static final class Entry<T> {
+
+    private T message;
+    private long tick;
+    private Entry<T> next;
+  }
+}
@@ -0,0 +1,179 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.engine.physic2d.math;
+
+/**
+ * Kinematics kernels which operate on many movers at once. The movers are kept as a structure of
+ * arrays, e.g. all x coordinates of the positions in one array and all y coordinates in another,
+ * and the mover at an index has its values at the same index of each array. Nothing is allocated
+ * and each array is walked in order, so the kernels can process whole lanes at once.
+ *
+ * <p>{@link #newInstance()} uses the SIMD instructions of the host through the Vector API when
+ * the {@code jdk.incubator.vector} module is added to the runtime, e.g. with
+ * {@code --add-modules jdk.incubator.vector}, and falls back to plain loops otherwise. Both give
+ * the same results, apart from the rounding of the sums whose order differs. The vectorized
+ * kernels are only built with the {@code vector} profile, so the default build does not depend on
+ * the incubator module.
+ *
+ * <p>Unlike {@link Vector2}, the kernels work on primitive arrays only, so they fit many movers
+ * which are updated by a system on every tick, while {@link Vector2} still fits single entities.
+ *
+ * @since 0.7.4
+ */
+public interface BatchKinematics {
+
+  /**
+   * Creates new kernels, they use the Vector API when it is available.
+   *
+   * @return a new instance of {@link BatchKinematics}
+   */
+  static BatchKinematics newInstance() {
+    if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+      try {
+        // loaded by name, so the class is never linked when the module is missing
+        var kinematics = (BatchKinematics) Class.forName(
+                "com.tenio.engine.physic2d.math.VectorBatchKinematics")
+            .getDeclaredConstructor().newInstance();
+        if (kinematics.isVectorized()) {
+          return kinematics;
+        }
+      } catch (ReflectiveOperationException | LinkageError exception) {
+        // falls back to the scalar kernels
+      }
+    }
+    return newScalarInstance();
+  }
+
+  /**
+   * Creates new kernels which never use the Vector API.
+   *
+   * @return a new instance of {@link BatchKinematics}
+   */
+  static BatchKinematics newScalarInstance() {
+    return new ScalarBatchKinematics();
+  }
+
+  /**
+   * Determines whether the kernels use SIMD instructions.
+   *
+   * @return {@code true} if the kernels are vectorized, otherwise {@code false}
+   */
+  boolean isVectorized();
+
+  /**
+   * Integrates the movers over a time step the way a moving entity updates itself: the
+   * velocities are increased by the accelerations and truncated to the max speeds, then the
+   * positions are moved by the new velocities.
+   *
+   * @param positionsX     the positions' x coordinates, they are updated
+   * @param positionsY     the positions' y coordinates, they are updated
+   * @param velocitiesX    the velocities' x coordinates, they are updated
+   * @param velocitiesY    the velocities' y coordinates, they are updated
+   * @param accelerationsX the accelerations' x coordinates
+   * @param accelerationsY the accelerations' y coordinates
+   * @param maxSpeeds      the max speed of each mover
+   * @param deltaTime      the time step
+   * @param count          the number of movers
+   */
+  void integrate(float[] positionsX, float[] positionsY, float[] velocitiesX,
+                 float[] velocitiesY, float[] accelerationsX, float[] accelerationsY,
+                 float[] maxSpeeds, float deltaTime, int count);
+
+  /**
+   * Truncates the vectors whose lengths exceed their maximum lengths, see
+   * {@link Vector2#truncate(float)}.
+   *
+   * @param vectorsX   the vectors' x coordinates, they are updated
+   * @param vectorsY   the vectors' y coordinates, they are updated
+   * @param maxLengths the maximum length of each vector, e.g. the movers' max speeds
+   * @param count      the number of vectors
+   */
+  void truncate(float[] vectorsX, float[] vectorsY, float[] maxLengths, int count);
+
+  /**
+   * Normalizes the vectors, the zero vectors are kept. See {@link Vector2#normalize()}.
+   *
+   * @param vectorsX the vectors' x coordinates, they are updated
+   * @param vectorsY the vectors' y coordinates, they are updated
+   * @param count    the number of vectors
+   */
+  void normalize(float[] vectorsX, float[] vectorsY, int count);
+
+  /**
+   * Sums the separation force of a mover from its neighbors: each neighbor pushes the mover away
+   * inversely proportional to their distance. The neighbors at the mover's position are skipped.
+   *
+   * @param x          the mover's x coordinate
+   * @param y          the mover's y coordinate
+   * @param neighborsX the neighbors' x coordinates
+   * @param neighborsY the neighbors' y coordinates
+   * @param count      the number of neighbors
+   * @param result     the array which receives the sum's x and y coordinates at 0 and 1
+   */
+  void sumSeparation(float x, float y, float[] neighborsX, float[] neighborsY, int count,
+                     float[] result);
+
+  /**
+   * Sums the headings of a mover's neighbors, the sum divided by the number of neighbors is
+   * their average heading.
+   *
+   * @param headingsX the neighbors' headings x coordinates
+   * @param headingsY the neighbors' headings y coordinates
+   * @param count     the number of neighbors
+   * @param result    the array which receives the sum's x and y coordinates at 0 and 1
+   */
+  void sumAlignment(float[] headingsX, float[] headingsY, int count, float[] result);
+
+  /**
+   * Sums the positions of a mover's neighbors, the sum divided by the number of neighbors is
+   * their center of mass.
+   *
+   * @param positionsX the neighbors' x coordinates
+   * @param positionsY the neighbors' y coordinates
+   * @param count      the number of neighbors
+   * @param result     the array which receives the sum's x and y coordinates at 0 and 1
+   */
+  void sumCohesion(float[] positionsX, float[] positionsY, int count, float[] result);
+
+  /**
+   * Finds the boxes which overlap a query box, see
+   * {@link com.tenio.engine.physic2d.common.InvertedAabbBox2D#isOverlappedWith}.
+   *
+   * @param left    the query box's left
+   * @param top     the query box's top
+   * @param right   the query box's right
+   * @param bottom  the query box's bottom
+   * @param lefts   the boxes' lefts
+   * @param tops    the boxes' tops
+   * @param rights  the boxes' rights
+   * @param bottoms the boxes' bottoms
+   * @param count   the number of boxes
+   * @param result  the array which receives the indices of the overlapping boxes in order, it
+   *                must be able to hold all boxes
+   * @return the number of overlapping boxes
+   */
+  int findOverlaps(float left, float top, float right, float bottom, float[] lefts,
+                   float[] tops, float[] rights, float[] bottoms, int count, int[] result);
+}
@@ -0,0 +1,174 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.engine.physic2d.math;
+
+/**
+ * The kernels of {@link BatchKinematics} in plain loops. The ranges are also used by
+ * the vectorized kernels for the elements left after the last full lane.
+ *
+ * @since 0.7.4
+ */
+final class ScalarBatchKinematics implements BatchKinematics {
+
+  @Override
+  public boolean isVectorized() {
+    return false;
+  }
+
+  @Override
+  public void integrate(float[] positionsX, float[] positionsY, float[] velocitiesX,
+                        float[] velocitiesY, float[] accelerationsX, float[] accelerationsY,
+                        float[] maxSpeeds, float deltaTime, int count) {
+    integrate(positionsX, positionsY, velocitiesX, velocitiesY, accelerationsX, accelerationsY,
+        maxSpeeds, deltaTime, 0, count);
+  }
+
+  static void integrate(float[] positionsX, float[] positionsY, float[] velocitiesX,
+                        float[] velocitiesY, float[] accelerationsX, float[] accelerationsY,
+                        float[] maxSpeeds, float deltaTime, int from, int to) {
+    for (int i = from; i < to; i++) {
+      float velocityX = velocitiesX[i] + accelerationsX[i] * deltaTime;
+      float velocityY = velocitiesY[i] + accelerationsY[i] * deltaTime;
+      float speedSqr = velocityX * velocityX + velocityY * velocityY;
+      float maxSpeed = maxSpeeds[i];
+      if (speedSqr > maxSpeed * maxSpeed) {
+        float scale = maxSpeed / (float) Math.sqrt(speedSqr);
+        velocityX *= scale;
+        velocityY *= scale;
+      }
+      velocitiesX[i] = velocityX;
+      velocitiesY[i] = velocityY;
+      positionsX[i] += velocityX * deltaTime;
+      positionsY[i] += velocityY * deltaTime;
+    }
+  }
+
+  @Override
+  public void truncate(float[] vectorsX, float[] vectorsY, float[] maxLengths, int count) {
+    truncate(vectorsX, vectorsY, maxLengths, 0, count);
+  }
+
+  static void truncate(float[] vectorsX, float[] vectorsY, float[] maxLengths, int from,
+                       int to) {
+    for (int i = from; i < to; i++) {
+      float x = vectorsX[i];
+      float y = vectorsY[i];
+      float lengthSqr = x * x + y * y;
+      float maxLength = maxLengths[i];
+      if (lengthSqr > maxLength * maxLength) {
+        float scale = maxLength / (float) Math.sqrt(lengthSqr);
+        vectorsX[i] = x * scale;
+        vectorsY[i] = y * scale;
+      }
+    }
+  }
+
+  @Override
+  public void normalize(float[] vectorsX, float[] vectorsY, int count) {
+    normalize(vectorsX, vectorsY, 0, count);
+  }
+
+  static void normalize(float[] vectorsX, float[] vectorsY, int from, int to) {
+    for (int i = from; i < to; i++) {
+      float x = vectorsX[i];
+      float y = vectorsY[i];
+      float length = (float) Math.sqrt(x * x + y * y);
+      if (length != 0) {
+        vectorsX[i] = x / length;
+        vectorsY[i] = y / length;
+      }
+    }
+  }
+
+  @Override
+  public void sumSeparation(float x, float y, float[] neighborsX, float[] neighborsY, int count,
+                            float[] result) {
+    result[0] = 0;
+    result[1] = 0;
+    sumSeparation(x, y, neighborsX, neighborsY, 0, count, result);
+  }
+
+  static void sumSeparation(float x, float y, float[] neighborsX, float[] neighborsY, int from,
+                            int to, float[] result) {
+    float sumX = 0;
+    float sumY = 0;
+    for (int i = from; i < to; i++) {
+      float toAgentX = x - neighborsX[i];
+      float toAgentY = y - neighborsY[i];
+      float distanceSqr = toAgentX * toAgentX + toAgentY * toAgentY;
+      // the normalized direction divided by the distance
+      if (distanceSqr != 0) {
+        sumX += toAgentX / distanceSqr;
+        sumY += toAgentY / distanceSqr;
+      }
+    }
+    result[0] += sumX;
+    result[1] += sumY;
+  }
+
+  @Override
+  public void sumAlignment(float[] headingsX, float[] headingsY, int count, float[] result) {
+    result[0] = 0;
+    result[1] = 0;
+    sum(headingsX, headingsY, 0, count, result);
+  }
+
+  @Override
+  public void sumCohesion(float[] positionsX, float[] positionsY, int count, float[] result) {
+    result[0] = 0;
+    result[1] = 0;
+    sum(positionsX, positionsY, 0, count, result);
+  }
+
+  static void sum(float[] vectorsX, float[] vectorsY, int from, int to, float[] result) {
+    float sumX = 0;
+    float sumY = 0;
+    for (int i = from; i < to; i++) {
+      sumX += vectorsX[i];
+      sumY += vectorsY[i];
+    }
+    result[0] += sumX;
+    result[1] += sumY;
+  }
+
+  @Override
+  public int findOverlaps(float left, float top, float right, float bottom, float[] lefts,
+                          float[] tops, float[] rights, float[] bottoms, int count,
+                          int[] result) {
+    return findOverlaps(left, top, right, bottom, lefts, tops, rights, bottoms, 0, count, result,
+        0);
+  }
+
+  static int findOverlaps(float left, float top, float right, float bottom, float[] lefts,
+                          float[] tops, float[] rights, float[] bottoms, int from, int to,
+                          int[] result, int found) {
+    for (int i = from; i < to; i++) {
+      if (tops[i] <= bottom && bottoms[i] >= top && lefts[i] <= right && rights[i] >= left) {
+        result[found++] = i;
+      }
+    }
+    return found;
+  }
+}
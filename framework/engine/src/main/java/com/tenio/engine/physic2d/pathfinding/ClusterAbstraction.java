@@ -0,0 +1,496 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.engine.physic2d.pathfinding;
+
+import java.util.Arrays;
+
+/**
+ * The hierarchical abstraction of a {@link NavigationGrid} (HPA*). The grid is divided into
+ * square clusters, and the walkable openings on the borders between two clusters become
+ * entrances. Each entrance puts an abstract node on both sides of the border, the two nodes
+ * are linked by an inter-edge, and the nodes of the same cluster are linked by intra-edges
+ * whose costs are the cheapest ways inside the cluster.
+ * <br>
+ * A query links its start and goal cells to the nodes of their clusters, searches the small
+ * abstract graph, then refines each abstract edge into cells with a search which is limited
+ * to one cluster. The paths are nearly optimal: they only cross the borders at the entrances.
+ * A query between two neighboring clusters searches their cells directly first.
+ * <br>
+ * An obstacle change only marks the borders and clusters it touches, they are rebuilt by the
+ * next {@link #rebuild()}. The rebuilding is not thread-safe, the queries are safe to run
+ * concurrently with each other.
+ *
+ * @see PathFinder
+ * @since 0.7.4
+ */
+final class ClusterAbstraction {
+
+  /**
+   * An opening which is at least this long gets an entrance at both of its ends, a shorter
+   * one gets an entrance at its middle.
+   */
+  private static final int LONG_ENTRANCE_LENGTH = 6;
+  private static final int NO_NODE = -1;
+
+  private final NavigationGrid grid;
+  private final int clusterSize;
+  private final int clustersX;
+  private final int clustersY;
+  // the abstract node of each cell, or NO_NODE
+  private final int[] cellNodes;
+  // the abstract nodes of each cluster
+  private final int[][] clusterNodes;
+  private final int[] clusterNodesCounts;
+  // the pairs of nodes linked through each border, a vertical border is on the right of its
+  // cluster and a horizontal border is below its cluster
+  private final int[][] verticalTransitions;
+  private final int[] verticalTransitionsCounts;
+  private final int[][] horizontalTransitions;
+  private final int[] horizontalTransitionsCounts;
+  private final boolean[] dirtyVerticalBorders;
+  private final boolean[] dirtyHorizontalBorders;
+  private final boolean[] dirtyClusters;
+  private final SearchState buildState;
+  // the abstract nodes by their indices, a removed node's index is reused
+  private int[] nodeCells;
+  private int[][] interNodes;
+  private int[] interNodesCounts;
+  private int[][] intraNodes;
+  private float[][] intraCosts;
+  private int[] intraNodesCounts;
+  private int[] freeNodes;
+  private int freeNodesCount;
+  private int nodesCount;
+  private boolean dirty;
+
+  ClusterAbstraction(NavigationGrid grid, int clusterSize) {
+    this.grid = grid;
+    this.clusterSize = clusterSize;
+    clustersX = (grid.getNumberOfCellsX() + clusterSize - 1) / clusterSize;
+    clustersY = (grid.getNumberOfCellsY() + clusterSize - 1) / clusterSize;
+    int clustersCount = clustersX * clustersY;
+
+    cellNodes = new int[grid.getCellsCount()];
+    Arrays.fill(cellNodes, NO_NODE);
+    clusterNodes = new int[clustersCount][];
+    clusterNodesCounts = new int[clustersCount];
+    verticalTransitions = new int[clustersCount][];
+    verticalTransitionsCounts = new int[clustersCount];
+    horizontalTransitions = new int[clustersCount][];
+    horizontalTransitionsCounts = new int[clustersCount];
+    dirtyVerticalBorders = new boolean[clustersCount];
+    dirtyHorizontalBorders = new boolean[clustersCount];
+    dirtyClusters = new boolean[clustersCount];
+    buildState = new SearchState(grid.getCellsCount());
+
+    int capacity = Math.max(16, clustersCount * 4);
+    nodeCells = new int[capacity];
+    interNodes = new int[capacity][];
+    interNodesCounts = new int[capacity];
+    intraNodes = new int[capacity][];
+    intraCosts = new float[capacity][];
+    intraNodesCounts = new int[capacity];
+    freeNodes = new int[capacity];
+
+    // everything is built by the first rebuilding
+    Arrays.fill(dirtyVerticalBorders, true);
+    Arrays.fill(dirtyHorizontalBorders, true);
+    Arrays.fill(dirtyClusters, true);
+    dirty = true;
+  }
+
+  boolean isDirty() {
+    return dirty;
+  }
+
+  /**
+   * Retrieves the upper bound of the abstract nodes' indices.
+   *
+   * @return the number of indices which have been used
+   */
+  int getNodesCount() {
+    return nodesCount;
+  }
+
+  /**
+   * Marks the parts of the abstraction which an obstacle change in a cell touches.
+   *
+   * @param cell the changed cell's index
+   */
+  void markDirty(int cell) {
+    int x = grid.getCellX(cell);
+    int y = grid.getCellY(cell);
+    int clusterX = x / clusterSize;
+    int clusterY = y / clusterSize;
+    int cluster = clusterY * clustersX + clusterX;
+    dirtyClusters[cluster] = true;
+    if (x % clusterSize == 0 && clusterX > 0) {
+      dirtyVerticalBorders[cluster - 1] = true;
+    }
+    if (x % clusterSize == clusterSize - 1 && clusterX < clustersX - 1) {
+      dirtyVerticalBorders[cluster] = true;
+    }
+    if (y % clusterSize == 0 && clusterY > 0) {
+      dirtyHorizontalBorders[cluster - clustersX] = true;
+    }
+    if (y % clusterSize == clusterSize - 1 && clusterY < clustersY - 1) {
+      dirtyHorizontalBorders[cluster] = true;
+    }
+    dirty = true;
+  }
+
+  /**
+   * Rebuilds the marked borders and clusters.
+   */
+  void rebuild() {
+    if (!dirty) {
+      return;
+    }
+    for (int cluster = 0; cluster < dirtyClusters.length; cluster++) {
+      if (dirtyVerticalBorders[cluster]) {
+        dirtyVerticalBorders[cluster] = false;
+        if (cluster % clustersX < clustersX - 1) {
+          rebuildVerticalBorder(cluster);
+          dirtyClusters[cluster] = true;
+          dirtyClusters[cluster + 1] = true;
+        }
+      }
+      if (dirtyHorizontalBorders[cluster]) {
+        dirtyHorizontalBorders[cluster] = false;
+        if (cluster / clustersX < clustersY - 1) {
+          rebuildHorizontalBorder(cluster);
+          dirtyClusters[cluster] = true;
+          dirtyClusters[cluster + clustersX] = true;
+        }
+      }
+    }
+    for (int cluster = 0; cluster < dirtyClusters.length; cluster++) {
+      if (dirtyClusters[cluster]) {
+        dirtyClusters[cluster] = false;
+        rebuildIntraEdges(cluster);
+      }
+    }
+    dirty = false;
+  }
+
+  /**
+   * Finds a path between two walkable cells.
+   *
+   * @param context the {@link SearchContext} of the current thread
+   * @param start   the start cell's index
+   * @param goal    the goal cell's index
+   * @return the found {@link GridPath}, or {@link GridPath#NOT_FOUND}
+   */
+  GridPath findPath(SearchContext context, int start, int goal) {
+    var cellState = context.cellState;
+    var nodeState = context.nodeState;
+    int startCluster = getCluster(start);
+    int goalCluster = getCluster(goal);
+
+    // the cells of neighboring clusters are searched directly, the entrances would make their
+    // paths take visible detours
+    int startClusterX = startCluster % clustersX;
+    int startClusterY = startCluster / clustersX;
+    int goalClusterX = goalCluster % clustersX;
+    int goalClusterY = goalCluster / clustersX;
+    if (Math.abs(startClusterX - goalClusterX) <= 1
+        && Math.abs(startClusterY - goalClusterY) <= 1) {
+      int minX = Math.min(startClusterX, goalClusterX) * clusterSize;
+      int minY = Math.min(startClusterY, goalClusterY) * clusterSize;
+      int maxX = Math.min((Math.max(startClusterX, goalClusterX) + 1) * clusterSize,
+          grid.getNumberOfCellsX());
+      int maxY = Math.min((Math.max(startClusterY, goalClusterY) + 1) * clusterSize,
+          grid.getNumberOfCellsY());
+      float cost = GridSearch.search(grid, cellState, start, goal, minX, minY, maxX, maxY);
+      if (cost < Float.POSITIVE_INFINITY) {
+        var cells = context.cells;
+        cells.clear();
+        cells.add(start);
+        cells.addWay(cellState, goal);
+        return GridPath.newInstance(cells.toArray(), cost);
+      }
+    }
+
+    // links the start and goal cells to the abstract nodes of their clusters
+    int startNode = nodesCount;
+    int goalNode = nodesCount + 1;
+    context.beginLinks(nodesCount);
+    searchCluster(cellState, start, -1, startCluster);
+    for (int i = 0; i < clusterNodesCounts[startCluster]; i++) {
+      int node = clusterNodes[startCluster][i];
+      float cost = cellState.getCost(nodeCells[node]);
+      if (cost < Float.POSITIVE_INFINITY) {
+        context.addStartLink(node, cost);
+      }
+    }
+    searchCluster(cellState, goal, -1, goalCluster);
+    for (int i = 0; i < clusterNodesCounts[goalCluster]; i++) {
+      int node = clusterNodes[goalCluster][i];
+      float cost = cellState.getCost(nodeCells[node]);
+      if (cost < Float.POSITIVE_INFINITY) {
+        context.setGoalLink(node, cost);
+      }
+    }
+
+    int goalX = grid.getCellX(goal);
+    int goalY = grid.getCellY(goal);
+    nodeState.begin();
+    nodeState.relax(startNode, 0.0f, estimate(start, goalX, goalY), -1);
+    while (!nodeState.isEmpty()) {
+      int node = nodeState.poll();
+      if (node == goalNode) {
+        break;
+      }
+      float cost = nodeState.getCost(node);
+      if (node == startNode) {
+        for (int i = 0; i < context.startLinks.size(); i++) {
+          relax(nodeState, context.startLinks.get(i), cost + context.getStartLinkCost(i), node,
+              goalX, goalY);
+        }
+        continue;
+      }
+      for (int i = 0; i < interNodesCounts[node]; i++) {
+        relax(nodeState, interNodes[node][i], cost + 1.0f, node, goalX, goalY);
+      }
+      for (int i = 0; i < intraNodesCounts[node]; i++) {
+        relax(nodeState, intraNodes[node][i], cost + intraCosts[node][i], node, goalX, goalY);
+      }
+      float goalLinkCost = context.getGoalLinkCost(node);
+      if (goalLinkCost < Float.POSITIVE_INFINITY) {
+        nodeState.relax(goalNode, cost + goalLinkCost, cost + goalLinkCost, node);
+      }
+    }
+    if (!nodeState.isClosed(goalNode)) {
+      return GridPath.NOT_FOUND;
+    }
+
+    var nodes = context.nodes;
+    nodes.clear();
+    nodes.addWay(nodeState, goalNode);
+    return refine(context, start, goal, goalNode);
+  }
+
+  private GridPath refine(SearchContext context, int start, int goal, int goalNode) {
+    var cells = context.cells;
+    var nodes = context.nodes;
+    cells.clear();
+    cells.add(start);
+    float totalCost = 0.0f;
+    int from = start;
+    for (int i = 0; i < nodes.size(); i++) {
+      int node = nodes.get(i);
+      int to = node == goalNode ? goal : nodeCells[node];
+      if (to == from) {
+        continue;
+      }
+      int cluster = getCluster(from);
+      if (cluster != getCluster(to)) {
+        // an inter-edge, the cells are next to each other across a border
+        cells.add(to);
+        totalCost += 1.0f;
+      } else {
+        float cost = searchCluster(context.cellState, from, to, cluster);
+        if (cost == Float.POSITIVE_INFINITY) {
+          return GridPath.NOT_FOUND;
+        }
+        cells.addWay(context.cellState, to);
+        totalCost += cost;
+      }
+      from = to;
+    }
+    return GridPath.newInstance(cells.toArray(), totalCost);
+  }
+
+  private void relax(SearchState nodeState, int node, float cost, int parent, int goalX,
+                     int goalY) {
+    if (!nodeState.isClosed(node)) {
+      nodeState.relax(node, cost, cost + estimate(nodeCells[node], goalX, goalY), parent);
+    }
+  }
+
+  private float estimate(int cell, int goalX, int goalY) {
+    return GridSearch.estimate(grid.getCellX(cell), grid.getCellY(cell), goalX, goalY);
+  }
+
+  private float searchCluster(SearchState state, int start, int goal, int cluster) {
+    int minX = (cluster % clustersX) * clusterSize;
+    int minY = (cluster / clustersX) * clusterSize;
+    return GridSearch.search(grid, state, start, goal, minX, minY,
+        Math.min(minX + clusterSize, grid.getNumberOfCellsX()),
+        Math.min(minY + clusterSize, grid.getNumberOfCellsY()));
+  }
+
+  private int getCluster(int cell) {
+    return (grid.getCellY(cell) / clusterSize) * clustersX + grid.getCellX(cell) / clusterSize;
+  }
+
+  private void rebuildVerticalBorder(int cluster) {
+    removeTransitions(verticalTransitions[cluster], verticalTransitionsCounts[cluster]);
+    verticalTransitionsCounts[cluster] = 0;
+    int leftX = (cluster % clustersX + 1) * clusterSize - 1;
+    int fromY = (cluster / clustersX) * clusterSize;
+    int toY = Math.min(fromY + clusterSize, grid.getNumberOfCellsY());
+    int openingStart = -1;
+    for (int y = fromY; y <= toY; y++) {
+      boolean open = y < toY && grid.isWalkable(leftX, y) && grid.isWalkable(leftX + 1, y);
+      if (open && openingStart < 0) {
+        openingStart = y;
+      } else if (!open && openingStart >= 0) {
+        for (int entranceY : getEntrances(openingStart, y - 1)) {
+          addTransition(verticalTransitions, verticalTransitionsCounts, cluster,
+              grid.getCellIndex(leftX, entranceY), grid.getCellIndex(leftX + 1, entranceY));
+        }
+        openingStart = -1;
+      }
+    }
+  }
+
+  private void rebuildHorizontalBorder(int cluster) {
+    removeTransitions(horizontalTransitions[cluster], horizontalTransitionsCounts[cluster]);
+    horizontalTransitionsCounts[cluster] = 0;
+    int topY = (cluster / clustersX + 1) * clusterSize - 1;
+    int fromX = (cluster % clustersX) * clusterSize;
+    int toX = Math.min(fromX + clusterSize, grid.getNumberOfCellsX());
+    int openingStart = -1;
+    for (int x = fromX; x <= toX; x++) {
+      boolean open = x < toX && grid.isWalkable(x, topY) && grid.isWalkable(x, topY + 1);
+      if (open && openingStart < 0) {
+        openingStart = x;
+      } else if (!open && openingStart >= 0) {
+        for (int entranceX : getEntrances(openingStart, x - 1)) {
+          addTransition(horizontalTransitions, horizontalTransitionsCounts, cluster,
+              grid.getCellIndex(entranceX, topY), grid.getCellIndex(entranceX, topY + 1));
+        }
+        openingStart = -1;
+      }
+    }
+  }
+
+  private static int[] getEntrances(int first, int last) {
+    if (last - first + 1 >= LONG_ENTRANCE_LENGTH) {
+      return new int[] {first, last};
+    }
+    return new int[] {(first + last) >>> 1};
+  }
+
+  private void addTransition(int[][] transitions, int[] transitionsCounts, int border,
+                             int firstCell, int secondCell) {
+    int firstNode = getOrCreateNode(firstCell);
+    int secondNode = getOrCreateNode(secondCell);
+    addTo(interNodes, interNodesCounts, firstNode, secondNode);
+    addTo(interNodes, interNodesCounts, secondNode, firstNode);
+    addTo(transitions, transitionsCounts, border, firstNode);
+    addTo(transitions, transitionsCounts, border, secondNode);
+  }
+
+  private void removeTransitions(int[] transitions, int transitionsCount) {
+    for (int i = 0; i < transitionsCount; i += 2) {
+      int firstNode = transitions[i];
+      int secondNode = transitions[i + 1];
+      removeFrom(interNodes, interNodesCounts, firstNode, secondNode);
+      removeFrom(interNodes, interNodesCounts, secondNode, firstNode);
+      releaseIfUnused(firstNode);
+      releaseIfUnused(secondNode);
+    }
+  }
+
+  private int getOrCreateNode(int cell) {
+    if (cellNodes[cell] != NO_NODE) {
+      return cellNodes[cell];
+    }
+    int node;
+    if (freeNodesCount > 0) {
+      node = freeNodes[--freeNodesCount];
+    } else {
+      node = nodesCount++;
+      if (node == nodeCells.length) {
+        int capacity = nodeCells.length * 2;
+        nodeCells = Arrays.copyOf(nodeCells, capacity);
+        interNodes = Arrays.copyOf(interNodes, capacity);
+        interNodesCounts = Arrays.copyOf(interNodesCounts, capacity);
+        intraNodes = Arrays.copyOf(intraNodes, capacity);
+        intraCosts = Arrays.copyOf(intraCosts, capacity);
+        intraNodesCounts = Arrays.copyOf(intraNodesCounts, capacity);
+        freeNodes = Arrays.copyOf(freeNodes, capacity);
+      }
+    }
+    nodeCells[node] = cell;
+    interNodesCounts[node] = 0;
+    intraNodesCounts[node] = 0;
+    cellNodes[cell] = node;
+    addTo(clusterNodes, clusterNodesCounts, getCluster(cell), node);
+    return node;
+  }
+
+  private void releaseIfUnused(int node) {
+    // a node at a cluster's corner can still belong to the other border
+    if (interNodesCounts[node] > 0 || cellNodes[nodeCells[node]] != node) {
+      return;
+    }
+    removeFrom(clusterNodes, clusterNodesCounts, getCluster(nodeCells[node]), node);
+    cellNodes[nodeCells[node]] = NO_NODE;
+    intraNodesCounts[node] = 0;
+    freeNodes[freeNodesCount++] = node;
+  }
+
+  private void rebuildIntraEdges(int cluster) {
+    int[] nodes = clusterNodes[cluster];
+    int count = clusterNodesCounts[cluster];
+    for (int i = 0; i < count; i++) {
+      int node = nodes[i];
+      if (intraNodes[node] == null || intraNodes[node].length < count) {
+        intraNodes[node] = new int[count];
+        intraCosts[node] = new float[count];
+      }
+      intraNodesCounts[node] = 0;
+      searchCluster(buildState, nodeCells[node], -1, cluster);
+      for (int j = 0; j < count; j++) {
+        float cost = buildState.getCost(nodeCells[nodes[j]]);
+        if (j != i && cost < Float.POSITIVE_INFINITY) {
+          intraNodes[node][intraNodesCounts[node]] = nodes[j];
+          intraCosts[node][intraNodesCounts[node]++] = cost;
+        }
+      }
+    }
+  }
+
+  private static void addTo(int[][] lists, int[] counts, int list, int value) {
+    if (lists[list] == null) {
+      lists[list] = new int[4];
+    } else if (counts[list] == lists[list].length) {
+      lists[list] = Arrays.copyOf(lists[list], counts[list] * 2);
+    }
+    lists[list][counts[list]++] = value;
+  }
+
+  private static void removeFrom(int[][] lists, int[] counts, int list, int value) {
+    // swaps the last value into the removed one's position, the order does not matter
+    for (int i = 0; i < counts[list]; i++) {
+      if (lists[list][i] == value) {
+        lists[list][i] = lists[list][--counts[list]];
+        return;
+      }
+    }
+  }
+}
@@ -0,0 +1,122 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.engine.physic2d.pathfinding;
+
+import java.util.Arrays;
+
+/**
+ * An immutable path on a {@link NavigationGrid}, from its start cell to its goal cell. The
+ * same instance can be shared by the path finder's cache and many callers.
+ *
+ * @see PathFinder
+ * @since 0.7.4
+ */
+public final class GridPath {
+
+  /**
+   * The result when there is no path between two cells.
+   */
+  public static final GridPath NOT_FOUND = new GridPath(new int[0], Float.POSITIVE_INFINITY);
+
+  private final int[] cells;
+  private final float cost;
+
+  private GridPath(int[] cells, float cost) {
+    this.cells = cells;
+    this.cost = cost;
+  }
+
+  /**
+   * Creates a new path, it takes the ownership of the given cells.
+   *
+   * @param cells the cells' indices from the start cell to the goal cell
+   * @param cost  the path's cost
+   * @return a new instance of {@link GridPath}
+   */
+  static GridPath newInstance(int[] cells, float cost) {
+    return new GridPath(cells, cost);
+  }
+
+  /**
+   * Determines whether the path was found.
+   *
+   * @return {@code true} if there is a path, otherwise {@code false}
+   */
+  public boolean isFound() {
+    return cells.length > 0;
+  }
+
+  public int getCellsCount() {
+    return cells.length;
+  }
+
+  /**
+   * Retrieves a cell of the path.
+   *
+   * @param index the cell's position in the path, it starts from {@code 0} at the start cell
+   * @return the cell's index in the grid
+   */
+  public int getCell(int index) {
+    return cells[index];
+  }
+
+  /**
+   * Retrieves the cells of the path.
+   *
+   * @return a new array of the cells' indices, from the start cell to the goal cell
+   */
+  public int[] getCells() {
+    return cells.clone();
+  }
+
+  /**
+   * Retrieves the cost of the path, a straight step costs {@code 1} and a diagonal step
+   * costs the square root of {@code 2}.
+   *
+   * @return the path's cost, it is {@link Float#POSITIVE_INFINITY} when the path was not found
+   */
+  public float getCost() {
+    return cost;
+  }
+
+  /**
+   * Determines whether the path goes through a cell.
+   *
+   * @param cell the cell's index
+   * @return {@code true} if the path contains the cell, otherwise {@code false}
+   */
+  public boolean contains(int cell) {
+    for (int pathCell : cells) {
+      if (pathCell == cell) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("GridPath{cells=%s, cost=%f}", Arrays.toString(cells), cost);
+  }
+}
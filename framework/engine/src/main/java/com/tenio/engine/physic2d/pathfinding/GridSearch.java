@@ -0,0 +1,123 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.engine.physic2d.pathfinding;
+
+/**
+ * The A* search on the cells of a {@link NavigationGrid}. An agent can move to its 8 neighbors,
+ * a straight step costs {@code 1} and a diagonal step costs the square root of {@code 2}. A
+ * diagonal step is only allowed when both of the cells it cuts are walkable.
+ *
+ * @since 0.7.4
+ */
+final class GridSearch {
+
+  /**
+   * The cost of a diagonal step.
+   */
+  static final float DIAGONAL_COST = (float) Math.sqrt(2.0);
+
+  // the straight directions go first, then the diagonal ones
+  private static final int[] DIRECTIONS_X = {1, -1, 0, 0, 1, 1, -1, -1};
+  private static final int[] DIRECTIONS_Y = {0, 0, 1, -1, 1, -1, 1, -1};
+  private static final int STRAIGHT_DIRECTIONS = 4;
+
+  private GridSearch() {
+    throw new UnsupportedOperationException("This class does not support to create a new instance");
+  }
+
+  /**
+   * Searches for the cheapest way between two cells inside a rectangle of the grid. When
+   * there is no goal cell, all the reachable cells of the rectangle are visited and their
+   * costs can be read from the state.
+   *
+   * @param grid  the {@link NavigationGrid}
+   * @param state the {@link SearchState} to use, it keeps the result
+   * @param start the start cell's index, it must be walkable
+   * @param goal  the goal cell's index, or {@code -1} to visit the whole rectangle
+   * @param minX  the rectangle's first column
+   * @param minY  the rectangle's first row
+   * @param maxX  the column after the rectangle's last one
+   * @param maxY  the row after the rectangle's last one
+   * @return the cost of the way to the goal cell, it is {@link Float#POSITIVE_INFINITY} when
+   *     the goal cell cannot be reached, or {@code 0} when there is no goal cell
+   */
+  static float search(NavigationGrid grid, SearchState state, int start, int goal, int minX,
+                      int minY, int maxX, int maxY) {
+    int width = grid.getNumberOfCellsX();
+    boolean hasGoal = goal >= 0;
+    int goalX = hasGoal ? grid.getCellX(goal) : 0;
+    int goalY = hasGoal ? grid.getCellY(goal) : 0;
+
+    state.begin();
+    state.relax(start, 0.0f, hasGoal ? estimate(grid.getCellX(start), grid.getCellY(start),
+        goalX, goalY) : 0.0f, -1);
+    while (!state.isEmpty()) {
+      int cell = state.poll();
+      if (cell == goal) {
+        return state.getCost(cell);
+      }
+      int x = cell % width;
+      int y = cell / width;
+      float cost = state.getCost(cell);
+      for (int direction = 0; direction < DIRECTIONS_X.length; direction++) {
+        int nextX = x + DIRECTIONS_X[direction];
+        int nextY = y + DIRECTIONS_Y[direction];
+        if (nextX < minX || nextX >= maxX || nextY < minY || nextY >= maxY) {
+          continue;
+        }
+        int next = nextY * width + nextX;
+        if (!grid.isWalkable(next) || state.isClosed(next)) {
+          continue;
+        }
+        float step = 1.0f;
+        if (direction >= STRAIGHT_DIRECTIONS) {
+          if (!grid.isWalkable(y * width + nextX) || !grid.isWalkable(nextY * width + x)) {
+            continue;
+          }
+          step = DIAGONAL_COST;
+        }
+        float nextCost = cost + step;
+        state.relax(next, nextCost,
+            hasGoal ? nextCost + estimate(nextX, nextY, goalX, goalY) : nextCost, cell);
+      }
+    }
+    return hasGoal ? Float.POSITIVE_INFINITY : 0.0f;
+  }
+
+  /**
+   * Estimates the cost between two cells when there is no obstacle (the octile distance), it
+   * never overestimates the real cost.
+   *
+   * @param fromX the first cell's column
+   * @param fromY the first cell's row
+   * @param toX   the second cell's column
+   * @param toY   the second cell's row
+   * @return the estimated cost
+   */
+  static float estimate(int fromX, int fromY, int toX, int toY) {
+    int deltaX = Math.abs(fromX - toX);
+    int deltaY = Math.abs(fromY - toY);
+    return Math.max(deltaX, deltaY) + (DIAGONAL_COST - 1.0f) * Math.min(deltaX, deltaY);
+  }
+}
@@ -0,0 +1,88 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.engine.physic2d.pathfinding;
+
+import java.util.Arrays;
+
+/**
+ * A growable list of indices which is reused by the searches of a thread.
+ *
+ * @since 0.7.4
+ */
+final class IndexList {
+
+  private int[] indices;
+  private int size;
+
+  IndexList(int capacity) {
+    indices = new int[Math.max(1, capacity)];
+  }
+
+  void clear() {
+    size = 0;
+  }
+
+  int size() {
+    return size;
+  }
+
+  int get(int position) {
+    return indices[position];
+  }
+
+  void add(int index) {
+    ensureCapacity(size + 1);
+    indices[size++] = index;
+  }
+
+  /**
+   * Appends the way which was found by a search, from the node after the search's start node
+   * to the given node.
+   *
+   * @param state the {@link SearchState} which found the way
+   * @param node  the way's last node
+   */
+  void addWay(SearchState state, int node) {
+    int count = 0;
+    for (int current = node; state.getParent(current) >= 0; current = state.getParent(current)) {
+      count++;
+    }
+    ensureCapacity(size + count);
+    int position = size + count;
+    for (int current = node; state.getParent(current) >= 0; current = state.getParent(current)) {
+      indices[--position] = current;
+    }
+    size += count;
+  }
+
+  int[] toArray() {
+    return Arrays.copyOf(indices, size);
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (capacity > indices.length) {
+      indices = Arrays.copyOf(indices, Math.max(capacity, indices.length * 2));
+    }
+  }
+}
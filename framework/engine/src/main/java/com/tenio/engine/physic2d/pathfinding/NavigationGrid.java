@@ -0,0 +1,196 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.engine.physic2d.pathfinding;
+
+import com.tenio.engine.physic2d.math.Vector2;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The walkable map for path-finding. It divides a 2D space into a grid of cells the same way
+ * as a {@link com.tenio.engine.physic2d.utility.CellSpacePartition} with the same bounds does,
+ * so a cell index means the same cell in both of them. A cell is either walkable or blocked.
+ * <br>
+ * The obstacles are changed through the {@link PathFinder} which uses the grid, so it can
+ * invalidate its cached paths and abstraction.
+ *
+ * @see PathFinder
+ * @since 0.7.4
+ */
+public final class NavigationGrid {
+
+  private final float spaceWidth;
+  private final float spaceHeight;
+  private final int numCellsX;
+  private final int numCellsY;
+  private final float cellSizeX;
+  private final float cellSizeY;
+  private final boolean[] blocked;
+
+  private NavigationGrid(float width, float height, int cellsX, int cellsY) {
+    if (cellsX <= 0 || cellsY <= 0) {
+      throw new IllegalArgumentException(
+          String.format("The number of cells must be positive: %d x %d", cellsX, cellsY));
+    }
+    spaceWidth = width;
+    spaceHeight = height;
+    numCellsX = cellsX;
+    numCellsY = cellsY;
+    cellSizeX = width / cellsX;
+    cellSizeY = height / cellsY;
+    blocked = new boolean[cellsX * cellsY];
+  }
+
+  /**
+   * Creates a new grid, all its cells are walkable.
+   *
+   * @param width  width of 2D space
+   * @param height height of 2D space
+   * @param cellsX number of divisions horizontally
+   * @param cellsY number of divisions vertically
+   * @return a new instance of {@link NavigationGrid}
+   */
+  public static NavigationGrid newInstance(float width, float height, int cellsX, int cellsY) {
+    return new NavigationGrid(width, height, cellsX, cellsY);
+  }
+
+  public int getNumberOfCellsX() {
+    return numCellsX;
+  }
+
+  public int getNumberOfCellsY() {
+    return numCellsY;
+  }
+
+  public int getCellsCount() {
+    return blocked.length;
+  }
+
+  /**
+   * Retrieves the index of a cell.
+   *
+   * @param cellX the cell's column
+   * @param cellY the cell's row
+   * @return the cell's index
+   */
+  public int getCellIndex(int cellX, int cellY) {
+    return cellY * numCellsX + cellX;
+  }
+
+  /**
+   * Retrieves the index of the cell which contains a position, the position is clamped into
+   * the space.
+   *
+   * @param x the position's x coordinate
+   * @param y the position's y coordinate
+   * @return the cell's index
+   */
+  public int getCellIndex(float x, float y) {
+    return getCellCoordinate(x, numCellsX, spaceWidth)
+        + getCellCoordinate(y, numCellsY, spaceHeight) * numCellsX;
+  }
+
+  public int getCellX(int cell) {
+    return cell % numCellsX;
+  }
+
+  public int getCellY(int cell) {
+    return cell / numCellsX;
+  }
+
+  /**
+   * Determines whether a cell can be walked through.
+   *
+   * @param cell the cell's index
+   * @return {@code true} if the cell is walkable, otherwise {@code false}
+   */
+  public boolean isWalkable(int cell) {
+    return !blocked[cell];
+  }
+
+  /**
+   * Determines whether a cell can be walked through.
+   *
+   * @param cellX the cell's column
+   * @param cellY the cell's row
+   * @return {@code true} if the cell is walkable, otherwise {@code false}
+   */
+  public boolean isWalkable(int cellX, int cellY) {
+    return !blocked[getCellIndex(cellX, cellY)];
+  }
+
+  /**
+   * Retrieves the center of a cell.
+   *
+   * @param cell the cell's index
+   * @return a new {@link Vector2} instance at the cell's center
+   */
+  public Vector2 getCellCenter(int cell) {
+    return Vector2.valueOf((getCellX(cell) + 0.5f) * cellSizeX,
+        (getCellY(cell) + 0.5f) * cellSizeY);
+  }
+
+  /**
+   * Converts a path into the way-points which can be given to a
+   * {@link com.tenio.engine.physic2d.common.Path}, there is one way-point at the center of
+   * each cell.
+   *
+   * @param path the {@link GridPath}
+   * @return a new list of way-points, it is empty when the path was not found
+   */
+  public List<Vector2> getWayPoints(GridPath path) {
+    var wayPoints = new ArrayList<Vector2>(path.getCellsCount());
+    for (int i = 0; i < path.getCellsCount(); i++) {
+      wayPoints.add(getCellCenter(path.getCell(i)));
+    }
+    return wayPoints;
+  }
+
+  /**
+   * Changes a cell's obstacle, it is only called by the path finder.
+   *
+   * @param cell    the cell's index
+   * @param blocked {@code true} if the cell is blocked
+   * @return {@code true} if the cell was changed, otherwise {@code false}
+   */
+  boolean setBlocked(int cell, boolean blocked) {
+    if (this.blocked[cell] == blocked) {
+      return false;
+    }
+    this.blocked[cell] = blocked;
+    return true;
+  }
+
+  private static int getCellCoordinate(float value, int numCells, float size) {
+    // a position on the space's far edge would overshoot the last cell
+    int coordinate = (int) (numCells * value / size);
+    return Math.max(0, Math.min(coordinate, numCells - 1));
+  }
+
+  @Override
+  public String toString() {
+    return String.format("NavigationGrid{width=%f, height=%f, cellsX=%d, cellsY=%d}", spaceWidth,
+        spaceHeight, numCellsX, numCellsY);
+  }
+}
@@ -0,0 +1,299 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.engine.physic2d.pathfinding;
+
+import com.tenio.engine.physic2d.math.Vector2;
+import java.io.Serial;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * The path-finding service on a {@link NavigationGrid}. It finds paths with A* on the grid's
+ * cells, or with HPA* (see {@link ClusterAbstraction}) when the grid is larger than one
+ * cluster. The open and closed sets are primitive arrays which live in a search context, each
+ * thread has its own context and reuses it for all its searches.
+ * <br>
+ * The found paths are cached by their start and goal cells, and the least recently used one is
+ * evicted when the cache is full. Blocking a cell removes the cached
+ * paths which go through it, and opening a cell removes all of them since it may make any path
+ * shorter. The abstraction is rebuilt lazily by the next search, only around the changed cells.
+ * <br>
+ * The searches can run concurrently with each other, an obstacle change waits until the
+ * running searches are finished. A heart-beat should not search for many paths in its update,
+ * {@link #findPathsAsync(List, Executor)} spreads them across worker threads instead.
+ *
+ * @see NavigationGrid
+ * @see GridPath
+ * @since 0.7.4
+ */
+@ThreadSafe
+public final class PathFinder {
+
+  /**
+   * The default number of cells on a cluster's side.
+   */
+  public static final int DEFAULT_CLUSTER_SIZE = 16;
+  /**
+   * The default maximum number of cached paths.
+   */
+  public static final int DEFAULT_CACHE_CAPACITY = 4096;
+  /**
+   * The number of queries which are handled together by a worker thread.
+   */
+  private static final int BATCH_SIZE = 32;
+
+  private final NavigationGrid grid;
+  @GuardedBy("lock")
+  private final ClusterAbstraction abstraction;
+  private final ThreadLocal<SearchContext> contexts;
+  @GuardedBy("cache")
+  private final PathCache cache;
+  private final int cacheCapacity;
+  private final ReadWriteLock lock;
+
+  private PathFinder(NavigationGrid grid, int clusterSize, int cacheCapacity) {
+    this.grid = grid;
+    this.cacheCapacity = cacheCapacity;
+    // a grid which fits in one cluster does not need the abstraction
+    abstraction = clusterSize > 0 && (grid.getNumberOfCellsX() > clusterSize
+        || grid.getNumberOfCellsY() > clusterSize)
+        ? new ClusterAbstraction(grid, clusterSize) : null;
+    contexts = ThreadLocal.withInitial(() -> new SearchContext(grid.getCellsCount()));
+    cache = new PathCache(cacheCapacity);
+    lock = new ReentrantReadWriteLock();
+  }
+
+  /**
+   * Creates a new path finder with the default cluster size and cache capacity.
+   *
+   * @param grid the {@link NavigationGrid}
+   * @return a new instance of {@link PathFinder}
+   */
+  public static PathFinder newInstance(NavigationGrid grid) {
+    return new PathFinder(grid, DEFAULT_CLUSTER_SIZE, DEFAULT_CACHE_CAPACITY);
+  }
+
+  /**
+   * Creates a new path finder.
+   *
+   * @param grid          the {@link NavigationGrid}
+   * @param clusterSize   the number of cells on a cluster's side, a non-positive value
+   *                      disables the hierarchical search so all the paths are optimal
+   * @param cacheCapacity the maximum number of cached paths, {@code 0} disables the cache
+   * @return a new instance of {@link PathFinder}
+   */
+  public static PathFinder newInstance(NavigationGrid grid, int clusterSize, int cacheCapacity) {
+    if (cacheCapacity < 0) {
+      throw new IllegalArgumentException("The cache capacity must not be negative: "
+          + cacheCapacity);
+    }
+    return new PathFinder(grid, clusterSize, cacheCapacity);
+  }
+
+  public NavigationGrid getGrid() {
+    return grid;
+  }
+
+  /**
+   * Finds a path between two cells.
+   *
+   * @param startCell the start cell's index
+   * @param goalCell  the goal cell's index
+   * @return the found {@link GridPath}, or {@link GridPath#NOT_FOUND} when one of the cells is
+   *     blocked or there is no way between them
+   */
+  public GridPath findPath(int startCell, int goalCell) {
+    long key = ((long) startCell << Integer.SIZE) | (goalCell & 0xFFFFFFFFL);
+    GridPath path;
+    if (cacheCapacity > 0) {
+      // a hit moves the path to the end of the access order, so it is guarded as well
+      synchronized (cache) {
+        path = cache.get(key);
+      }
+      if (path != null) {
+        return path;
+      }
+    }
+
+    lock.readLock().lock();
+    try {
+      while (abstraction != null && abstraction.isDirty()) {
+        // the read lock cannot be upgraded, so it is released while the abstraction is rebuilt
+        // and taken again before the write lock is released
+        lock.readLock().unlock();
+        lock.writeLock().lock();
+        try {
+          abstraction.rebuild();
+        } finally {
+          lock.readLock().lock();
+          lock.writeLock().unlock();
+        }
+      }
+      path = search(contexts.get(), startCell, goalCell);
+      // the cache is changed under the read lock, so a path cannot miss an obstacle change
+      if (cacheCapacity > 0) {
+        synchronized (cache) {
+          cache.put(key, path);
+        }
+      }
+      return path;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Finds a path between the cells which contain two positions.
+   *
+   * @param start the start position
+   * @param goal  the goal position
+   * @return the found {@link GridPath}, or {@link GridPath#NOT_FOUND}
+   * @see NavigationGrid#getWayPoints(GridPath)
+   */
+  public GridPath findPath(Vector2 start, Vector2 goal) {
+    return findPath(grid.getCellIndex(start.x, start.y), grid.getCellIndex(goal.x, goal.y));
+  }
+
+  /**
+   * Finds the paths of many queries on worker threads. The queries are split into small
+   * batches, and each batch is handled by one task of the executor.
+   *
+   * @param queries  the list of {@link PathQuery}
+   * @param executor the {@link Executor} which runs the batches
+   * @return a {@link CompletableFuture} of the found paths, they are in the queries' order
+   */
+  public CompletableFuture<List<GridPath>> findPathsAsync(List<PathQuery> queries,
+                                                          Executor executor) {
+    var paths = new GridPath[queries.size()];
+    var batches = new CompletableFuture<?>[(paths.length + BATCH_SIZE - 1) / BATCH_SIZE];
+    for (int batch = 0; batch < batches.length; batch++) {
+      int from = batch * BATCH_SIZE;
+      int to = Math.min(from + BATCH_SIZE, paths.length);
+      batches[batch] = CompletableFuture.runAsync(() -> {
+        for (int i = from; i < to; i++) {
+          var query = queries.get(i);
+          paths[i] = findPath(query.startCell(), query.goalCell());
+        }
+      }, executor);
+    }
+    return CompletableFuture.allOf(batches).thenApply(ignored -> Arrays.asList(paths));
+  }
+
+  /**
+   * Blocks or opens a cell. The cached paths which may be changed are removed.
+   *
+   * @param cellX   the cell's column
+   * @param cellY   the cell's row
+   * @param blocked {@code true} to block the cell, {@code false} to open it
+   */
+  public void setBlocked(int cellX, int cellY, boolean blocked) {
+    int cell = grid.getCellIndex(cellX, cellY);
+    lock.writeLock().lock();
+    try {
+      if (!grid.setBlocked(cell, blocked)) {
+        return;
+      }
+      if (abstraction != null) {
+        abstraction.markDirty(cell);
+      }
+      synchronized (cache) {
+        if (blocked) {
+          cache.values().removeIf(path -> path.contains(cell));
+        } else {
+          cache.clear();
+        }
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public int getCachedPathsCount() {
+    synchronized (cache) {
+      return cache.size();
+    }
+  }
+
+  /**
+   * Removes all the cached paths.
+   */
+  public void clearCache() {
+    synchronized (cache) {
+      cache.clear();
+    }
+  }
+
+  private GridPath search(SearchContext context, int start, int goal) {
+    if (!grid.isWalkable(start) || !grid.isWalkable(goal)) {
+      return GridPath.NOT_FOUND;
+    }
+    if (start == goal) {
+      return GridPath.newInstance(new int[] {start}, 0.0f);
+    }
+    if (abstraction != null) {
+      return abstraction.findPath(context, start, goal);
+    }
+    var state = context.cellState;
+    float cost = GridSearch.search(grid, state, start, goal, 0, 0, grid.getNumberOfCellsX(),
+        grid.getNumberOfCellsY());
+    if (cost == Float.POSITIVE_INFINITY) {
+      return GridPath.NOT_FOUND;
+    }
+    var cells = context.cells;
+    cells.clear();
+    cells.add(start);
+    cells.addWay(state, goal);
+    return GridPath.newInstance(cells.toArray(), cost);
+  }
+
+  /**
+   * The paths in their access order, the least recently used one is evicted once the capacity
+   * is exceeded.
+   */
+  private static final class PathCache extends LinkedHashMap<Long, GridPath> {
+
+    @Serial
+    private static final long serialVersionUID = 5384201758302945317L;
+
+    private final int capacity;
+
+    private PathCache(int capacity) {
+      super(16, 0.75f, true);
+      this.capacity = capacity;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Long, GridPath> eldest) {
+      return size() > capacity;
+    }
+  }
+}
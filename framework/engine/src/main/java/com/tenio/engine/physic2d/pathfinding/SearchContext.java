@@ -0,0 +1,123 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.engine.physic2d.pathfinding;
+
+import java.util.Arrays;
+
+/**
+ * Everything a thread needs to find paths on a grid, it is created once for each thread and
+ * reused by all its searches, so a search does not allocate anything but its result.
+ *
+ * @see PathFinder
+ * @since 0.7.4
+ */
+final class SearchContext {
+
+  private static final int DEFAULT_ABSTRACT_CAPACITY = 256;
+
+  /**
+   * The search over the grid's cells.
+   */
+  final SearchState cellState;
+  /**
+   * The search over the abstract nodes.
+   */
+  final SearchState nodeState;
+  /**
+   * The cells of the path which is being built.
+   */
+  final IndexList cells;
+  /**
+   * The abstract nodes of the path which is being refined.
+   */
+  final IndexList nodes;
+  /**
+   * The abstract nodes which can be reached from the start cell, and their costs.
+   */
+  final IndexList startLinks;
+  private float[] startLinkCosts;
+  // the costs from the abstract nodes to the goal cell, they are valid in the current round
+  private float[] goalLinkCosts;
+  private int[] goalLinkRounds;
+  private int round;
+
+  SearchContext(int cellsCount) {
+    cellState = new SearchState(cellsCount);
+    nodeState = new SearchState(DEFAULT_ABSTRACT_CAPACITY);
+    cells = new IndexList(DEFAULT_ABSTRACT_CAPACITY);
+    nodes = new IndexList(DEFAULT_ABSTRACT_CAPACITY);
+    startLinks = new IndexList(DEFAULT_ABSTRACT_CAPACITY);
+    startLinkCosts = new float[DEFAULT_ABSTRACT_CAPACITY];
+    goalLinkCosts = new float[DEFAULT_ABSTRACT_CAPACITY];
+    goalLinkRounds = new int[DEFAULT_ABSTRACT_CAPACITY];
+  }
+
+  /**
+   * Starts linking the start and goal cells of a new abstract search.
+   *
+   * @param nodesCount the number of abstract nodes' indices
+   */
+  void beginLinks(int nodesCount) {
+    nodeState.ensureCapacity(nodesCount + 2);
+    startLinks.clear();
+    if (goalLinkCosts.length < nodesCount) {
+      int capacity = Math.max(nodesCount, goalLinkCosts.length * 2);
+      goalLinkCosts = Arrays.copyOf(goalLinkCosts, capacity);
+      goalLinkRounds = Arrays.copyOf(goalLinkRounds, capacity);
+    }
+    if (++round == Integer.MAX_VALUE) {
+      Arrays.fill(goalLinkRounds, 0);
+      round = 1;
+    }
+  }
+
+  void addStartLink(int node, float cost) {
+    int position = startLinks.size();
+    startLinks.add(node);
+    if (position >= startLinkCosts.length) {
+      startLinkCosts = Arrays.copyOf(startLinkCosts, startLinkCosts.length * 2);
+    }
+    startLinkCosts[position] = cost;
+  }
+
+  float getStartLinkCost(int position) {
+    return startLinkCosts[position];
+  }
+
+  void setGoalLink(int node, float cost) {
+    goalLinkCosts[node] = cost;
+    goalLinkRounds[node] = round;
+  }
+
+  /**
+   * Retrieves the cost from an abstract node to the goal cell.
+   *
+   * @param node the abstract node
+   * @return the cost, it is {@link Float#POSITIVE_INFINITY} when the node is not linked to the
+   *     goal cell
+   */
+  float getGoalLinkCost(int node) {
+    return goalLinkRounds[node] == round ? goalLinkCosts[node] : Float.POSITIVE_INFINITY;
+  }
+}
@@ -0,0 +1,200 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.engine.physic2d.pathfinding;
+
+import java.util.Arrays;
+
+/**
+ * The state of one search over nodes identified by indices. The open set is a binary heap of
+ * node indices and the closed set is an array, both are reused by the next search: a node's
+ * slots are only trusted when they were written in the current search's generation, so
+ * nothing has to be cleared between two searches.
+ * <br>
+ * An instance is used by a single thread.
+ *
+ * @since 0.7.4
+ */
+final class SearchState {
+
+  private static final int NO_POSITION = -1;
+
+  private float[] costs;
+  private float[] priorities;
+  private int[] parents;
+  private int[] positions;
+  private int[] seenGenerations;
+  private int[] closedGenerations;
+  private int[] heap;
+  private int heapSize;
+  private int generation;
+
+  SearchState(int capacity) {
+    costs = new float[capacity];
+    priorities = new float[capacity];
+    parents = new int[capacity];
+    positions = new int[capacity];
+    seenGenerations = new int[capacity];
+    closedGenerations = new int[capacity];
+    heap = new int[capacity];
+  }
+
+  /**
+   * Makes sure the nodes' indices are smaller than the capacity.
+   *
+   * @param capacity the number of nodes
+   */
+  void ensureCapacity(int capacity) {
+    if (capacity <= costs.length) {
+      return;
+    }
+    int newCapacity = Math.max(capacity, costs.length * 2);
+    costs = Arrays.copyOf(costs, newCapacity);
+    priorities = Arrays.copyOf(priorities, newCapacity);
+    parents = Arrays.copyOf(parents, newCapacity);
+    positions = Arrays.copyOf(positions, newCapacity);
+    seenGenerations = Arrays.copyOf(seenGenerations, newCapacity);
+    closedGenerations = Arrays.copyOf(closedGenerations, newCapacity);
+    heap = Arrays.copyOf(heap, newCapacity);
+  }
+
+  /**
+   * Starts a new search, the previous one is forgotten.
+   */
+  void begin() {
+    heapSize = 0;
+    if (++generation == Integer.MAX_VALUE) {
+      Arrays.fill(seenGenerations, 0);
+      Arrays.fill(closedGenerations, 0);
+      generation = 1;
+    }
+  }
+
+  boolean isSeen(int node) {
+    return seenGenerations[node] == generation;
+  }
+
+  boolean isClosed(int node) {
+    return closedGenerations[node] == generation;
+  }
+
+  /**
+   * Retrieves the cost of the best known way to a node.
+   *
+   * @param node the node's index
+   * @return the cost, it is {@link Float#POSITIVE_INFINITY} when the node was not reached
+   */
+  float getCost(int node) {
+    return isSeen(node) ? costs[node] : Float.POSITIVE_INFINITY;
+  }
+
+  int getParent(int node) {
+    return parents[node];
+  }
+
+  /**
+   * Offers a way to a node, it is kept when the node is not closed and the way is cheaper
+   * than the known one.
+   *
+   * @param node     the node's index
+   * @param cost     the cost from the start node
+   * @param priority the cost plus the estimated cost to the goal node
+   * @param parent   the previous node of the way, or {@code -1} for the start node
+   */
+  void relax(int node, float cost, float priority, int parent) {
+    if (!isSeen(node)) {
+      seenGenerations[node] = generation;
+      costs[node] = cost;
+      priorities[node] = priority;
+      parents[node] = parent;
+      positions[node] = heapSize;
+      heap[heapSize++] = node;
+      siftUp(heapSize - 1);
+    } else if (cost < costs[node] && !isClosed(node)) {
+      priorities[node] = priority;
+      costs[node] = cost;
+      parents[node] = parent;
+      siftUp(positions[node]);
+    }
+  }
+
+  boolean isEmpty() {
+    return heapSize == 0;
+  }
+
+  /**
+   * Removes the open node with the lowest priority and closes it.
+   *
+   * @return the node's index
+   */
+  int poll() {
+    int node = heap[0];
+    heap[0] = heap[--heapSize];
+    positions[heap[0]] = 0;
+    siftDown(0);
+    positions[node] = NO_POSITION;
+    closedGenerations[node] = generation;
+    return node;
+  }
+
+  private void siftUp(int position) {
+    int node = heap[position];
+    float priority = priorities[node];
+    while (position > 0) {
+      int parentPosition = (position - 1) >>> 1;
+      int parentNode = heap[parentPosition];
+      if (priorities[parentNode] <= priority) {
+        break;
+      }
+      heap[position] = parentNode;
+      positions[parentNode] = position;
+      position = parentPosition;
+    }
+    heap[position] = node;
+    positions[node] = position;
+  }
+
+  private void siftDown(int position) {
+    if (heapSize == 0) {
+      return;
+    }
+    int node = heap[position];
+    float priority = priorities[node];
+    int half = heapSize >>> 1;
+    while (position < half) {
+      int child = 2 * position + 1;
+      int right = child + 1;
+      if (right < heapSize && priorities[heap[right]] < priorities[heap[child]]) {
+        child = right;
+      }
+      if (priorities[heap[child]] >= priority) {
+        break;
+      }
+      heap[position] = heap[child];
+      positions[heap[child]] = position;
+      position = child;
+    }
+    heap[position] = node;
+    positions[node] = position;
+  }
+}
@@ -1,25 +1,92 @@
 package com.tenio.engine.physic2d.utility;
 
 import com.tenio.engine.physic2d.common.InvertedAabbBox2D;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.Arrays;
 
 /**
- * This class is used to define a cell containing a list of pointers to
- * entities.
+ * This class is used to define a cell containing the indices of the entities
+ * inhabiting it. The indices are kept in a plain array, an entity is removed by
+ * moving the last member into its slot.
  */
-class Cell<T> {
-  /**
-   * All the entities inhabiting this cell.
-   */
-  public final List<T> members = new LinkedList<>();
+final class Cell {
+
+  private static final int DEFAULT_CAPACITY = 4;
+
   /**
    * The cell's bounding box (it's inverted because the Window's default
    * co-ordinate system has a y-axis that increases as it descends).
    */
   public final InvertedAabbBox2D bbox;
+  /**
+   * The indices of all the entities inhabiting this cell, only the first
+   * {@link #size()} ones are valid.
+   */
+  private int[] members;
+  private int size;
 
   public Cell(float left, float top, float right, float bottom) {
     bbox = InvertedAabbBox2D.valueOf(left, top, right, bottom);
+    members = new int[DEFAULT_CAPACITY];
+  }
+
+  /**
+   * Adds an entity's index.
+   *
+   * @param member the entity's index
+   * @return the slot the index is stored in
+   */
+  public int add(int member) {
+    if (size == members.length) {
+      members = Arrays.copyOf(members, size * 2);
+    }
+    members[size] = member;
+    return size++;
+  }
+
+  /**
+   * Removes the index in a slot, the last index is moved into the slot.
+   *
+   * @param slot the slot
+   * @return the index moved into the slot, or <b>-1</b> if the removed one was the last
+   */
+  public int removeAt(int slot) {
+    size--;
+    if (slot == size) {
+      return -1;
+    }
+    members[slot] = members[size];
+    return members[slot];
+  }
+
+  /**
+   * Replaces the index in a slot.
+   *
+   * @param slot   the slot
+   * @param member the new entity's index
+   */
+  public void set(int slot, int member) {
+    members[slot] = member;
+  }
+
+  /**
+   * Retrieves the index in a slot.
+   *
+   * @param slot the slot
+   * @return the entity's index
+   */
+  public int get(int slot) {
+    return members[slot];
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public void clear() {
+    size = 0;
   }
 }
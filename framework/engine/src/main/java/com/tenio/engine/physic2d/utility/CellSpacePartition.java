@@ -1,13 +1,40 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
 package com.tenio.engine.physic2d.utility;
 
 import com.tenio.engine.physic2d.common.BaseGameEntity;
-import com.tenio.engine.physic2d.common.InvertedAabbBox2D;
 import com.tenio.engine.physic2d.graphic.Paint;
 import com.tenio.engine.physic2d.graphic.Renderable;
 import com.tenio.engine.physic2d.math.Vector2;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
+import java.util.function.BiConsumer;
 
 /**
  * This class is used to divide a 2D space into a grid of cells each of which
@@ -17,7 +44,13 @@ import java.util.ListIterator;
  * <br>
  * If an entity is capable of moving, and therefore capable of moving between
  * cells, the Update method should be called each update-cycle to synchronize
- * the entity and the cell space it occupies
+ * the entity and the cell space it occupies. The partition keeps the positions
+ * it was given, so the queries see an entity where it was last added or updated.
+ * <br>
+ * A query only visits the cells its range overlaps, which are calculated from the
+ * query box instead of being tested one by one. The queries which fill a given
+ * list do not change the partition, so they can run concurrently as long as no
+ * entity is added, updated or removed at the same time.
  *
  * @param <T> the game entity template
  * @author sallyx (<a href="https://www.sallyx.org/sally/en/game-ai/">https://www.sallyx.org/sally/en/game-ai/</a>)
@@ -25,25 +58,34 @@ import java.util.ListIterator;
 public class CellSpacePartition<T extends BaseGameEntity> implements Renderable {
 
   /**
-   * Only for temporary calculations.
+   * The required amount of cells in the space, row by row.
    */
-  private final InvertedAabbBox2D aabbBox2D = InvertedAabbBox2D.newInstance();
-
-  /**
-   * The required amount of cells in the space.
-   */
-  private final List<Cell<T>> cells = new ArrayList<>();
+  private final Cell[] cells;
   /**
    * This is used to store any valid neighbors when an agent searches its
    * neighboring space.
    */
   private final List<T> neighbors;
+  /**
+   * The entities' indices, an entity's index can change when another one is removed.
+   */
+  private final Map<T, Integer> indices;
   // The width and height of the world space the entities inhabit
   private final float spaceWidth;
   private final float spaceHeight;
   // The number of cells the space is going to be divided up into
   private final int numCellsX;
   private final int numCellsY;
+  // The size of each cell
+  private final float cellSizeX;
+  private final float cellSizeY;
+  // The entities and their positions, cells and slots in their cells by their indices
+  private T[] entities;
+  private float[] positionsX;
+  private float[] positionsY;
+  private int[] entityCells;
+  private int[] entitySlots;
+  private int entitiesCount;
   /**
    * This iterator will be used by the methods next and begin to traverse through
    * the above vector of neighbors.
@@ -57,19 +99,23 @@ public class CellSpacePartition<T extends BaseGameEntity> implements Renderable
    * @param height      height of 2D space
    * @param cellsX      number of divisions horizontally
    * @param cellsY      number of divisions vertically
-   * @param maxEntities maximum number of entities to partition
+   * @param maxEntities maximum number of entities to partition, the partition grows beyond it
+   *                    if needed
    */
+  @SuppressWarnings("unchecked")
   public CellSpacePartition(float width, float height, int cellsX, int cellsY, int maxEntities) {
     spaceWidth = width;
     spaceHeight = height;
     numCellsX = cellsX;
     numCellsY = cellsY;
     neighbors = new ArrayList<>(maxEntities);
+    indices = new IdentityHashMap<>(maxEntities);
     // calculate bounds of each cell
-    float cellSizeX = width / cellsX;
-    float cellSizeY = height / cellsY;
+    cellSizeX = width / cellsX;
+    cellSizeY = height / cellsY;
 
     // create the cells
+    cells = new Cell[Math.max(0, numCellsX) * Math.max(0, numCellsY)];
     for (int y = 0; y < numCellsY; ++y) {
       for (int x = 0; x < numCellsX; ++x) {
         float left = x * cellSizeX;
@@ -77,29 +123,44 @@ public class CellSpacePartition<T extends BaseGameEntity> implements Renderable
         float top = y * cellSizeY;
         float bot = top + cellSizeY;
 
-        cells.add(new Cell<>(left, top, right, bot));
+        cells[y * numCellsX + x] = new Cell(left, top, right, bot);
       }
     }
+
+    int capacity = Math.max(1, maxEntities);
+    entities = (T[]) new BaseGameEntity[capacity];
+    positionsX = new float[capacity];
+    positionsY = new float[capacity];
+    entityCells = new int[capacity];
+    entitySlots = new int[capacity];
   }
 
   /**
-   * Given a 2D vector representing a position within the game world, this method
-   * calculates an index into its appropriate cell.
+   * Given a coordinate, this method calculates the column or row of the cell it is in.
    *
-   * @param position the desired position
-   * @return the index
+   * @param value    the coordinate
+   * @param numCells the number of cells in the coordinate's direction
+   * @param size     the size of the space in the coordinate's direction
+   * @return the column or row, it is clamped into the space
    */
-  private int getIndexByPosition(Vector2 position) {
-    int idx = (int) (numCellsX * position.x / spaceWidth)
-        + ((int) ((numCellsY) * position.y / spaceHeight) * numCellsX);
-
-    // if the entity's position is equal to Vector2D(m_dSpaceWidth, m_dSpaceHeight)
-    // then the index will overshoot. We need to check for this and adjust
-    if (idx > cells.size() - 1) {
-      idx = cells.size() - 1;
-    }
+  private static int getCellCoordinate(float value, int numCells, float size) {
+    // if the entity's position is equal to the space's width or height then the
+    // coordinate will overshoot. We need to check for this and adjust
+    int coordinate = (int) (numCells * value / size);
+    return Math.max(0, Math.min(coordinate, numCells - 1));
+  }
 
-    return idx;
+  /**
+   * Given a position within the game world, this method calculates an index into
+   * its appropriate cell.
+   *
+   * @param x the position's x coordinate
+   * @param y the position's y coordinate
+   * @return the index
+   */
+  private int getIndexByPosition(float x, float y) {
+    return getCellCoordinate(x, numCellsX, spaceWidth)
+        + getCellCoordinate(y, numCellsY, spaceHeight) * numCellsX;
   }
 
   /**
@@ -109,32 +170,124 @@ public class CellSpacePartition<T extends BaseGameEntity> implements Renderable
    * @param entity an entity
    */
   public void addEntity(T entity) {
-    int idx = getIndexByPosition(entity.getPosition());
-    cells.get(idx).members.add(entity);
+    var position = entity.getPosition();
+    addEntity(entity, position.x, position.y);
+  }
+
+  private void addEntity(T entity, float x, float y) {
+    if (cells.length == 0 || indices.containsKey(entity)) {
+      return;
+    }
+    if (entitiesCount == entities.length) {
+      int capacity = entitiesCount * 2;
+      entities = Arrays.copyOf(entities, capacity);
+      positionsX = Arrays.copyOf(positionsX, capacity);
+      positionsY = Arrays.copyOf(positionsY, capacity);
+      entityCells = Arrays.copyOf(entityCells, capacity);
+      entitySlots = Arrays.copyOf(entitySlots, capacity);
+    }
+    int index = entitiesCount++;
+    int cell = getIndexByPosition(x, y);
+    entities[index] = entity;
+    positionsX[index] = x;
+    positionsY[index] = y;
+    entityCells[index] = cell;
+    entitySlots[index] = cells[cell].add(index);
+    indices.put(entity, index);
   }
 
   /**
    * Update an entity's cell by calling this from your entity's Update method
    * Checks to see if an entity has moved cells. If so the data structure is
-   * updated accordingly.
+   * updated accordingly. An entity which was not added yet is added.
    *
    * @param entity      an entity
-   * @param oldPosition see {@link Vector2}
+   * @param oldPosition see {@link Vector2}, it is ignored
+   * @deprecated the partition remembers the entity's cell, so the old position is not needed,
+   *     use {@link #updateEntity(BaseGameEntity)} instead
    */
+  @Deprecated(since = "0.7.4")
   public void updateEntity(T entity, Vector2 oldPosition) {
-    // if the index for the old position and the new position are not equal then
-    // the entity has moved to another cell.
-    int oldIdx = getIndexByPosition(oldPosition);
-    int newIdx = getIndexByPosition(entity.getPosition());
+    updateEntity(entity);
+  }
 
-    if (newIdx == oldIdx) {
+  /**
+   * Update an entity's cell by calling this from your entity's Update method
+   * Checks to see if an entity has moved cells. If so the data structure is
+   * updated accordingly. An entity which was not added yet is added.
+   *
+   * @param entity an entity
+   * @since 0.7.4
+   */
+  public void updateEntity(T entity) {
+    var position = entity.getPosition();
+    var index = indices.get(entity);
+    if (index == null) {
+      addEntity(entity, position.x, position.y);
+      return;
+    }
+
+    positionsX[index] = position.x;
+    positionsY[index] = position.y;
+
+    // if the index for the old cell and the new cell are not equal then
+    // the entity has moved to another cell.
+    int oldCell = entityCells[index];
+    int newCell = getIndexByPosition(position.x, position.y);
+    if (newCell == oldCell) {
       return;
     }
 
     // the entity has moved into another cell so delete from current cell
     // and add to new one
-    cells.get(oldIdx).members.remove(entity);
-    cells.get(newIdx).members.add(entity);
+    removeFromCell(index);
+    entityCells[index] = newCell;
+    entitySlots[index] = cells[newCell].add(index);
+  }
+
+  /**
+   * Removes an entity from the partition.
+   *
+   * @param entity an entity
+   * @since 0.7.4
+   */
+  public void removeEntity(T entity) {
+    var index = indices.remove(entity);
+    if (index == null) {
+      return;
+    }
+    removeFromCell(index);
+
+    // the last entity takes the removed one's index, so the entities stay packed
+    int last = --entitiesCount;
+    if (index != last) {
+      var moved = entities[last];
+      entities[index] = moved;
+      positionsX[index] = positionsX[last];
+      positionsY[index] = positionsY[last];
+      entityCells[index] = entityCells[last];
+      entitySlots[index] = entitySlots[last];
+      cells[entityCells[index]].set(entitySlots[index], index);
+      indices.put(moved, index);
+    }
+    entities[last] = null;
+  }
+
+  private void removeFromCell(int index) {
+    int moved = cells[entityCells[index]].removeAt(entitySlots[index]);
+    if (moved >= 0) {
+      entitySlots[moved] = entitySlots[index];
+    }
+  }
+
+  /**
+   * Retrieves the number of entities in the partition.
+   *
+   * @return the number of entities
+   * @since 0.7.4
+   */
+  public int getEntitiesCount() {
+    return entitiesCount;
   }
 
   /**
@@ -145,43 +298,131 @@ public class CellSpacePartition<T extends BaseGameEntity> implements Renderable
    * <br>
    * this method stores a target's neighbors in the neighbor vector. After you
    * have called this method use the beginning, next and end methods to iterate
-   * through the vector.
+   * through the vector. The vector is shared, so prefer
+   * {@link #calculateNeighbors(Vector2, float, List)} when queries can run concurrently.
    *
    * @param targetPos   see {@link Vector2}
    * @param queryRadius radius value
    */
   public void calculateNeighbors(Vector2 targetPos, float queryRadius) {
     neighbors.clear();
+    calculateNeighbors(targetPos, queryRadius, neighbors);
+  }
 
-    // create the query box that is the bounding box of the target's query area
-    var temp = Vector2.newInstance().set(targetPos).sub(queryRadius, queryRadius);
-    aabbBox2D.setLeft(temp.x);
-    aabbBox2D.setTop(temp.y);
-    temp.set(targetPos).add(queryRadius, queryRadius);
-    aabbBox2D.setRight(temp.x);
-    aabbBox2D.setBottom(temp.y);
-
-    // iterate through each cell and test to see if its bounding box overlaps
-    // with the query box. If it does, and it also contains entities then
-    // make further proximity tests.
-    var cellListIterator = cells.listIterator();
-    while (cellListIterator.hasNext()) {
-      var curCell = cellListIterator.next();
-      // test to see if this cell contains members and if it overlaps the
-      // query box
-      if (curCell.bbox.isOverlappedWith(aabbBox2D) && !curCell.members.isEmpty()) {
+  /**
+   * Adds the entities situated within the target's neighborhood region to a given list. Only the
+   * cells overlapped by the bounding box of the query area are examined.
+   *
+   * @param targetPos   see {@link Vector2}
+   * @param queryRadius radius value
+   * @param result      the list which the neighbors are added to, it is not cleared
+   * @return the number of added neighbors
+   * @since 0.7.4
+   */
+  public int calculateNeighbors(Vector2 targetPos, float queryRadius, List<? super T> result) {
+    if (cells.length == 0 || !(queryRadius > 0)) {
+      return 0;
+    }
+    float x = targetPos.x;
+    float y = targetPos.y;
+    float radiusSqr = queryRadius * queryRadius;
 
+    // the range of cells the query box overlaps
+    int left = getCellCoordinate(x - queryRadius, numCellsX, spaceWidth);
+    int right = getCellCoordinate(x + queryRadius, numCellsX, spaceWidth);
+    int top = getCellCoordinate(y - queryRadius, numCellsY, spaceHeight);
+    int bottom = getCellCoordinate(y + queryRadius, numCellsY, spaceHeight);
+
+    int count = 0;
+    for (int cellY = top; cellY <= bottom; cellY++) {
+      for (int cellX = left; cellX <= right; cellX++) {
+        var cell = cells[cellY * numCellsX + cellX];
         // add any entities found within query radius to the neighbor list
-        var it = curCell.members.listIterator();
-        while (it.hasNext()) {
-          T ent = it.next();
-          if (temp.set(ent.getPosition()).getDistanceSqrValue(targetPos)
-              < queryRadius * queryRadius) {
-            neighbors.add(ent);
+        for (int slot = 0; slot < cell.size(); slot++) {
+          int member = cell.get(slot);
+          float dx = positionsX[member] - x;
+          float dy = positionsY[member] - y;
+          if (dx * dx + dy * dy < radiusSqr) {
+            result.add(entities[member]);
+            count++;
           }
         }
       }
-    } // next cell
+    }
+    return count;
+  }
+
+  /**
+   * Finds all pairs of entities situated within a given distance of each other, e.g. for the
+   * flocking behaviors. Each pair is reported once, the cells are compared only with the cells
+   * after them in the range of the distance.
+   *
+   * @param radius   the distance value
+   * @param consumer the consumer of each pair
+   * @return the number of pairs
+   * @since 0.7.4
+   */
+  public int calculatePairsInRange(float radius, BiConsumer<? super T, ? super T> consumer) {
+    if (cells.length == 0 || !(radius > 0)) {
+      return 0;
+    }
+    float radiusSqr = radius * radius;
+    // the number of cells the distance can reach in each direction
+    int rangeX = getCellsInRange(radius, cellSizeX, numCellsX);
+    int rangeY = getCellsInRange(radius, cellSizeY, numCellsY);
+
+    int count = 0;
+    for (int cellY = 0; cellY < numCellsY; cellY++) {
+      for (int cellX = 0; cellX < numCellsX; cellX++) {
+        var cell = cells[cellY * numCellsX + cellX];
+        if (cell.isEmpty()) {
+          continue;
+        }
+        // the pairs inside the cell
+        count += calculatePairs(cell, cell, radiusSqr, consumer);
+        // the pairs with the following cells of the same row and of the rows below
+        for (int otherY = cellY; otherY <= Math.min(cellY + rangeY, numCellsY - 1); otherY++) {
+          int fromX = otherY == cellY ? cellX + 1 : Math.max(0, cellX - rangeX);
+          int toX = Math.min(cellX + rangeX, numCellsX - 1);
+          for (int otherX = fromX; otherX <= toX; otherX++) {
+            var other = cells[otherY * numCellsX + otherX];
+            if (!other.isEmpty()) {
+              count += calculatePairs(cell, other, radiusSqr, consumer);
+            }
+          }
+        }
+      }
+    }
+    return count;
+  }
+
+  private static int getCellsInRange(float radius, float cellSize, int numCells) {
+    float cells = radius / cellSize;
+    if (!(cells < numCells)) {
+      return numCells;
+    }
+    return (int) Math.ceil(cells);
+  }
+
+  private int calculatePairs(Cell cell, Cell other, float radiusSqr,
+                             BiConsumer<? super T, ? super T> consumer) {
+    int count = 0;
+    for (int slot = 0; slot < cell.size(); slot++) {
+      int member = cell.get(slot);
+      float x = positionsX[member];
+      float y = positionsY[member];
+      // inside the same cell, only the members after this one are compared
+      for (int otherSlot = cell == other ? slot + 1 : 0; otherSlot < other.size(); otherSlot++) {
+        int otherMember = other.get(otherSlot);
+        float dx = positionsX[otherMember] - x;
+        float dy = positionsY[otherMember] - y;
+        if (dx * dx + dy * dy < radiusSqr) {
+          consumer.accept(entities[member], entities[otherMember]);
+          count++;
+        }
+      }
+    }
+    return count;
   }
 
   /**
@@ -222,17 +463,19 @@ public class CellSpacePartition<T extends BaseGameEntity> implements Renderable
    * Clears the cells of all entities.
    */
   public void clearCells() {
-    var it = cells.listIterator();
-    while (it.hasNext()) {
-      it.next().members.clear();
+    for (var cell : cells) {
+      cell.clear();
     }
+    Arrays.fill(entities, 0, entitiesCount, null);
+    entitiesCount = 0;
+    indices.clear();
+    neighbors.clear();
   }
 
   @Override
   public void render(Paint paint) {
-    var curCell = cells.listIterator();
-    while (curCell.hasNext()) {
-      curCell.next().bbox.render(paint);
+    for (var cell : cells) {
+      cell.bbox.render(paint);
     }
   }
 }
@@ -37,6 +37,7 @@ import org.junit.runner.RunWith;
     "com.tenio.engine.exception",
     "com.tenio.engine.fsm",
     "com.tenio.engine.heartbeat",
+    "com.tenio.engine.message",
     "com.tenio.engine.physic2d"
 })
 class TenIOEngineTest {
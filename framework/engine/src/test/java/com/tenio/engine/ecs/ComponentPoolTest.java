@@ -37,6 +37,9 @@ import com.tenio.common.pool.ElementPool;
 import com.tenio.engine.ecs.basis.Component;
 import com.tenio.engine.ecs.model.component.View;
 import com.tenio.engine.ecs.pool.ComponentPool;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -124,4 +127,17 @@ class ComponentPoolTest {
     assertAll("createNumberOfElements", () -> assertEquals(expected, componentPool.getPoolSize()),
         () -> assertTrue(componentPool.getPoolSize() > numberElement));
   }
+
+  @Test
+  public void growingThePoolShouldNotHandOutAnElementInUse() {
+    Set<Component> elements = Collections.newSetFromMap(new IdentityHashMap<>());
+    int numberElement = CommonConstant.DEFAULT_NUMBER_ELEMENTS_POOL
+        + CommonConstant.ADDITIONAL_NUMBER_ELEMENTS_POOL * 2 + 1;
+    // nothing is repaid, so the pool grows while all its elements are checked out
+    for (int i = 0; i < numberElement; i++) {
+      elements.add(componentPool.get());
+    }
+
+    assertEquals(numberElement, elements.size());
+  }
 }
@@ -40,6 +40,9 @@ import com.tenio.engine.ecs.basis.implement.EntityImpl;
 import com.tenio.engine.ecs.model.GameComponent;
 import com.tenio.engine.ecs.model.GameEntity;
 import com.tenio.engine.ecs.pool.EntityPool;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -131,4 +134,17 @@ class EntityPoolTest {
     assertAll("createNumberOfElements", () -> assertEquals(expected, entityPool.getPoolSize()),
         () -> assertTrue(entityPool.getPoolSize() > numberElement));
   }
+
+  @Test
+  public void growingThePoolShouldNotHandOutAnElementInUse() {
+    Set<Entity> elements = Collections.newSetFromMap(new IdentityHashMap<>());
+    int numberElement = CommonConstant.DEFAULT_NUMBER_ELEMENTS_POOL
+        + CommonConstant.ADDITIONAL_NUMBER_ELEMENTS_POOL * 2 + 1;
+    // nothing is repaid, so the pool grows while all its elements are checked out
+    for (int i = 0; i < numberElement; i++) {
+      elements.add(entityPool.get());
+    }
+
+    assertEquals(numberElement, elements.size());
+  }
 }
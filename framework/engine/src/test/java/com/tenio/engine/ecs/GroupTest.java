@@ -0,0 +1,173 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.engine.ecs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tenio.engine.ecs.basis.Matcher;
+import com.tenio.engine.ecs.basis.implement.ContextInfo;
+import com.tenio.engine.ecs.model.GameComponent;
+import com.tenio.engine.ecs.model.GameContext;
+import com.tenio.engine.ecs.model.GameEntity;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GroupTest {
+
+  private GameContext gameContext;
+
+  @BeforeEach
+  void initialize() {
+    var info = new ContextInfo("Game", GameComponent.getComponentNames(),
+        GameComponent.getComponentTypes(), GameComponent.getNumberComponents());
+    gameContext = new GameContext(info);
+  }
+
+  @AfterEach
+  void tearDown() {
+    gameContext.reset();
+  }
+
+  @Test
+  void testMatcherShouldCheckAllAnyAndNoneOfComponents() {
+    var matcher = Matcher.newInstance().allOf(GameComponent.POSITION)
+        .anyOf(GameComponent.MOTION, GameComponent.ANIMATION).noneOf(GameComponent.VIEW);
+
+    assertTrue(matcher.matches(mask(GameComponent.POSITION, GameComponent.MOTION)));
+    assertTrue(matcher.matches(mask(GameComponent.POSITION, GameComponent.ANIMATION)));
+    assertFalse(matcher.matches(mask(GameComponent.POSITION)));
+    assertFalse(matcher.matches(mask(GameComponent.MOTION)));
+    assertFalse(matcher.matches(
+        mask(GameComponent.POSITION, GameComponent.MOTION, GameComponent.VIEW)));
+    assertTrue(matcher.isInterestedIn(GameComponent.VIEW));
+    assertTrue(Matcher.newInstance().matches(new long[0]));
+  }
+
+  @Test
+  void testMatchersWithTheSameComponentsShouldBeEqual() {
+    var first = Matcher.newInstance().allOf(GameComponent.POSITION, GameComponent.MOTION);
+    var second = Matcher.newInstance().allOf(GameComponent.MOTION).allOf(GameComponent.POSITION);
+
+    assertEquals(first, second);
+    assertEquals(first.hashCode(), second.hashCode());
+    assertNotEquals(first, Matcher.newInstance().anyOf(GameComponent.POSITION));
+    assertThrows(IllegalArgumentException.class, () -> Matcher.newInstance().allOf(-1));
+  }
+
+  @Test
+  void testTheSameGroupShouldBeReturnedForEqualMatchers() {
+    var group = gameContext.getGroup(Matcher.newInstance().allOf(GameComponent.POSITION));
+
+    assertSame(group, gameContext.getGroup(Matcher.newInstance().allOf(GameComponent.POSITION)));
+  }
+
+  @Test
+  void testGroupShouldContainTheExistingMatchingEntities() {
+    var moving = gameContext.createEntity();
+    moving.setMotion(true).setPosition(0, 0);
+    var standing = gameContext.createEntity();
+    standing.setPosition(1, 1);
+
+    var group = gameContext.getGroup(
+        Matcher.newInstance().allOf(GameComponent.MOTION, GameComponent.POSITION));
+
+    assertEquals(1, group.getEntitiesCount());
+    assertSame(moving, group.getEntity(0));
+    assertFalse(group.containsEntity(standing));
+  }
+
+  @Test
+  void testGroupShouldFollowComponentChanges() {
+    var group = gameContext.getGroup(
+        Matcher.newInstance().allOf(GameComponent.POSITION).noneOf(GameComponent.VIEW));
+    var entity = gameContext.createEntity();
+    assertFalse(group.containsEntity(entity));
+
+    entity.setPosition(0, 0);
+    assertTrue(group.containsEntity(entity));
+
+    entity.setView(true);
+    assertFalse(group.containsEntity(entity));
+
+    entity.setView(false);
+    assertTrue(group.containsEntity(entity));
+
+    entity.removePosition();
+    assertFalse(group.containsEntity(entity));
+    assertEquals(0, group.getEntitiesCount());
+  }
+
+  @Test
+  void testDestroyedEntitiesShouldLeaveTheGroups() {
+    var group = gameContext.getGroup(Matcher.newInstance().allOf(GameComponent.ANIMATION));
+    List<GameEntity> entities = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      var entity = gameContext.createEntity();
+      entity.setAnimation(true);
+      entities.add(entity);
+    }
+    assertEquals(5, group.getEntitiesCount());
+
+    gameContext.destroyEntity(entities.get(1));
+    assertEquals(4, group.getEntitiesCount());
+    assertFalse(group.containsEntity(entities.get(1)));
+    List<GameEntity> members = new ArrayList<>();
+    group.forEach(members::add);
+    assertEquals(4, members.size());
+    assertFalse(members.contains(entities.get(1)));
+
+    gameContext.destroyAllEntities();
+    assertEquals(0, group.getEntitiesCount());
+  }
+
+  @Test
+  void testReusedEntityShouldJoinTheGroupsAgain() {
+    var group = gameContext.getGroup(Matcher.newInstance().allOf(GameComponent.MOTION));
+    var entity = gameContext.createEntity();
+    entity.setMotion(true);
+    gameContext.destroyEntity(entity);
+
+    var reused = gameContext.createEntity();
+    assertFalse(group.containsEntity(reused));
+    reused.setMotion(true);
+    assertTrue(group.containsEntity(reused));
+    assertEquals(1, group.getEntitiesCount());
+  }
+
+  private static long[] mask(int... indices) {
+    var mask = new long[1];
+    for (int index : indices) {
+      mask[0] |= 1L << index;
+    }
+    return mask;
+  }
+}
@@ -0,0 +1,210 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.engine.ecs.archetype;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tenio.engine.ecs.basis.Matcher;
+import com.tenio.engine.ecs.basis.implement.ContextInfo;
+import com.tenio.engine.ecs.model.GameComponent;
+import com.tenio.engine.ecs.model.component.Position;
+import com.tenio.engine.exception.ComponentIsNotExistedException;
+import com.tenio.engine.exception.DuplicatedComponentException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ArchetypeContextTest {
+
+  private ArchetypeContext context;
+  private int x;
+  private int y;
+
+  @BeforeEach
+  void initialize() {
+    var info = new ContextInfo("Game", GameComponent.getComponentNames(),
+        GameComponent.getComponentTypes(), GameComponent.getNumberComponents());
+    context = new ArchetypeContext(info, 2);
+    x = context.getFieldIndex(GameComponent.POSITION, "x");
+    y = context.getFieldIndex(GameComponent.POSITION, "y");
+  }
+
+  private int createPositioned(float valueX, float valueY) {
+    int handle = context.create();
+    context.addComponent(handle, GameComponent.POSITION);
+    context.setValue(handle, GameComponent.POSITION, x, valueX);
+    context.setValue(handle, GameComponent.POSITION, y, valueY);
+    return handle;
+  }
+
+  @Test
+  void testComponentValuesAreKeptWhenTheEntityChangesArchetype() {
+    int handle = createPositioned(1.0f, 2.0f);
+    context.addComponent(handle, GameComponent.MOTION);
+
+    assertTrue(context.hasComponent(handle, GameComponent.MOTION));
+    assertEquals(1.0f, context.getValue(handle, GameComponent.POSITION, x));
+    assertEquals(2.0f, context.getValue(handle, GameComponent.POSITION, y));
+
+    context.removeComponent(handle, GameComponent.MOTION);
+    assertFalse(context.hasComponent(handle, GameComponent.MOTION));
+    assertEquals(1.0f, context.getValue(handle, GameComponent.POSITION, x));
+  }
+
+  @Test
+  void testDestroyedHandleIsStaleAndItsIndexIsReused() {
+    int handle = context.create();
+    context.destroy(handle);
+
+    assertFalse(context.isAlive(handle));
+    assertThrows(IllegalArgumentException.class,
+        () -> context.addComponent(handle, GameComponent.POSITION));
+
+    int reused = context.create();
+    assertEquals(EntityHandle.getIndex(handle), EntityHandle.getIndex(reused));
+    assertNotEquals(handle, reused);
+    assertTrue(context.isAlive(reused));
+    assertEquals(1, context.getEntitiesCount());
+  }
+
+  @Test
+  void testDestroyingAnEntityKeepsTheOthersValues() {
+    int first = createPositioned(1.0f, 1.0f);
+    int second = createPositioned(2.0f, 2.0f);
+    int third = createPositioned(3.0f, 3.0f);
+
+    context.destroy(first);
+
+    assertEquals(2.0f, context.getValue(second, GameComponent.POSITION, x));
+    assertEquals(3.0f, context.getValue(third, GameComponent.POSITION, x));
+  }
+
+  @Test
+  void testChunksAreIteratedByTheirComponents() {
+    for (int i = 0; i < 5; i++) {
+      createPositioned(i, i);
+    }
+    int motionHandle = createPositioned(10.0f, 10.0f);
+    context.addComponent(motionHandle, GameComponent.MOTION);
+
+    List<ArchetypeChunk> chunks = new ArrayList<>();
+    context.forEachChunk(chunk -> {
+      var xs = chunk.getFloats(GameComponent.POSITION, x);
+      for (int row = 0; row < chunk.getSize(); row++) {
+        xs[row] += 100.0f;
+      }
+      chunks.add(chunk);
+    }, GameComponent.POSITION);
+
+    // 5 entities in chunks of 2, then the one which has motion as well
+    assertEquals(4, chunks.size());
+    assertEquals(110.0f, context.getValue(motionHandle, GameComponent.POSITION, x));
+
+    chunks.clear();
+    context.forEachChunk(chunks::add, GameComponent.MOTION);
+    assertEquals(1, chunks.size());
+    assertEquals(motionHandle, chunks.get(0).getHandle(0));
+  }
+
+  @Test
+  void testAddingAndRemovingComponentsTwiceThrowExceptions() {
+    int handle = context.create();
+    context.addComponent(handle, GameComponent.ANIMATION);
+
+    assertThrows(DuplicatedComponentException.class,
+        () -> context.addComponent(handle, GameComponent.ANIMATION));
+    assertThrows(ComponentIsNotExistedException.class,
+        () -> context.removeComponent(handle, GameComponent.VIEW));
+    // the index 2 has no component type in the game context
+    assertThrows(IllegalArgumentException.class, () -> context.addComponent(handle, 2));
+  }
+
+  @Test
+  void testEntityAdapterCopiesTheComponents() {
+    var entity = context.createEntity();
+    var position = new Position();
+    position.x = 5.0f;
+    position.y = 6.0f;
+    entity.setComponent(GameComponent.POSITION, position);
+
+    var copy = (Position) entity.getComponent(GameComponent.POSITION);
+    assertEquals(5.0f, copy.x);
+    copy.x = 7.0f;
+    assertEquals(5.0f, context.getValue(entity.getHandle(), GameComponent.POSITION, x));
+
+    entity.replaceComponent(GameComponent.POSITION, copy);
+    assertEquals(7.0f, context.getValue(entity.getHandle(), GameComponent.POSITION, x));
+
+    assertThrows(DuplicatedComponentException.class,
+        () -> entity.setComponent(GameComponent.POSITION, position));
+    assertNull(entity.getComponent(GameComponent.MOTION));
+    assertEquals(entity, context.getEntity(entity.getId()));
+
+    context.destroyEntity(entity);
+    assertFalse(context.hasEntity(entity));
+    assertNull(context.getEntity(entity.getId()));
+  }
+
+  @Test
+  void testResetDestroysAllEntities() {
+    int handle = createPositioned(1.0f, 1.0f);
+    context.reset();
+
+    assertEquals(0, context.getEntitiesCount());
+    assertFalse(context.isAlive(handle));
+    assertTrue(context.getEntities().isEmpty());
+    assertEquals(1, context.getArchetypesCount());
+  }
+
+  @Test
+  void testGroupsFollowTheEntitiesArchetypes() {
+    var group = context.getGroup(Matcher.newInstance().allOf(GameComponent.POSITION)
+        .noneOf(GameComponent.VIEW));
+    int first = createPositioned(1.0f, 1.0f);
+    int second = context.create();
+    assertEquals(1, group.getEntitiesCount());
+    assertEquals(first, group.getEntity(0).getHandle());
+
+    context.addComponent(second, GameComponent.POSITION);
+    assertEquals(2, group.getEntitiesCount());
+
+    context.addComponent(first, GameComponent.VIEW);
+    assertEquals(1, group.getEntitiesCount());
+    assertEquals(second, group.getEntity(0).getHandle());
+
+    List<Integer> sizes = new ArrayList<>();
+    context.forEachChunk(group.getMatcher(), chunk -> sizes.add(chunk.getSize()));
+    assertEquals(List.of(1), sizes);
+
+    context.destroy(second);
+    assertEquals(0, group.getEntitiesCount());
+  }
+}
@@ -0,0 +1,305 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.engine.ecs.system.implement;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tenio.engine.ecs.basis.Matcher;
+import com.tenio.engine.ecs.basis.implement.ContextInfo;
+import com.tenio.engine.ecs.model.GameComponent;
+import com.tenio.engine.ecs.model.GameContext;
+import com.tenio.engine.ecs.system.ConcurrentSystem;
+import com.tenio.engine.ecs.system.ExecuteSystem;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SystemSchedulerTest {
+
+  private static final int POSITION = 0;
+  private static final int MOTION = 1;
+  private static final int VIEW = 2;
+
+  private SystemScheduler scheduler;
+  private List<String> executions;
+
+  @BeforeEach
+  void initialize() {
+    scheduler = SystemScheduler.newInstance(4);
+    executions = Collections.synchronizedList(new ArrayList<>());
+  }
+
+  @AfterEach
+  void tearDown() {
+    scheduler.shutdown();
+  }
+
+  @Test
+  void testConflictingSystemsRunInTheOrderTheyWereAdded() {
+    for (int frame = 0; frame < 50; frame++) {
+      executions.clear();
+      scheduler.clear();
+      scheduler.add(new RecordingSystem("move", new int[] {MOTION}, new int[] {POSITION}));
+      scheduler.add(new RecordingSystem("view", new int[] {POSITION}, new int[] {VIEW}));
+      scheduler.add(new RecordingSystem("push", new int[0], new int[] {POSITION}));
+      scheduler.execute(1.0f);
+
+      assertEquals(List.of("move", "view", "push"), executions);
+    }
+  }
+
+  @Test
+  void testSystemsWithoutConflictsRunAtTheSameTime() {
+    var barrier = new CyclicBarrier(2);
+    // each system waits for the other one, so they only finish when they run concurrently
+    scheduler.add(new WaitingSystem(barrier, new int[] {POSITION}, new int[] {MOTION}));
+    scheduler.add(new WaitingSystem(barrier, new int[] {POSITION}, new int[] {VIEW}));
+
+    assertDoesNotThrow(() -> scheduler.execute(1.0f));
+  }
+
+  @Test
+  void testUndeclaredSystemsRunAlone() {
+    scheduler.add(new RecordingSystem("first", new int[0], new int[] {POSITION}));
+    scheduler.add((ExecuteSystem) deltaTime -> executions.add("barrier"));
+    scheduler.add(new RecordingSystem("second", new int[0], new int[] {MOTION}));
+    scheduler.execute(1.0f);
+
+    assertEquals(List.of("first", "barrier", "second"), executions);
+  }
+
+  @Test
+  void testExceptionIsRethrownAfterTheFrame() {
+    scheduler.add((ExecuteSystem) deltaTime -> {
+      throw new IllegalStateException("failed");
+    });
+    scheduler.add(new RecordingSystem("skipped", new int[0], new int[0]));
+
+    var exception = assertThrows(IllegalStateException.class, () -> scheduler.execute(1.0f));
+    assertEquals("failed", exception.getMessage());
+    assertTrue(executions.isEmpty());
+  }
+
+  @Test
+  void testParallelIterationVisitsEveryIndexOnce() {
+    int count = 10_000;
+    var visits = new AtomicIntegerArray(count);
+    scheduler.forEach(count, 128, visits::incrementAndGet);
+
+    var expected = new int[count];
+    var actual = new int[count];
+    for (int i = 0; i < count; i++) {
+      expected[i] = 1;
+      actual[i] = visits.get(i);
+    }
+    assertArrayEquals(expected, actual);
+    assertThrows(IllegalArgumentException.class, () -> scheduler.forEach(count, 0, i -> {
+    }));
+  }
+
+  @Test
+  void testParallelIterationInsideASystemGivesTheSequentialResult() {
+    int count = 4096;
+    var values = new float[count];
+    scheduler.add(new ConcurrentSystem() {
+      @Override
+      public int[] getReadComponents() {
+        return new int[0];
+      }
+
+      @Override
+      public int[] getWriteComponents() {
+        return new int[] {POSITION};
+      }
+
+      @Override
+      public void execute(float deltaTime) {
+        scheduler.forEach(count, 64, i -> values[i] += i * deltaTime);
+      }
+    });
+    for (int frame = 0; frame < 3; frame++) {
+      scheduler.execute(0.5f);
+    }
+
+    for (int i = 0; i < count; i++) {
+      assertEquals(i * 1.5f, values[i], 0.0001f);
+    }
+  }
+
+  @Test
+  void testStructuralChangesOfConcurrentSystemsAreAppliedAfterTheFrame() {
+    var info = new ContextInfo("Game", GameComponent.getComponentNames(),
+        GameComponent.getComponentTypes(), GameComponent.getNumberComponents());
+    var context = new GameContext(info);
+    var group = context.getGroup(
+        Matcher.newInstance().allOf(GameComponent.POSITION).noneOf(GameComponent.VIEW));
+    int count = 500;
+    for (int i = 0; i < count; i++) {
+      context.createEntity().setPosition(i, i);
+    }
+
+    var barrier = new CyclicBarrier(2);
+    var firstSeen = new AtomicInteger();
+    var secondSeen = new AtomicInteger();
+    // both systems iterate the same group at the same time, one of them removes its entities
+    // from the group and the other one adds a component to them
+    scheduler.add(new GroupSystem(barrier, GameComponent.VIEW, () -> {
+      firstSeen.set(group.getEntitiesCount());
+      scheduler.forEach(group, 32, entity -> scheduler.defer(() -> entity.setView(true)));
+    }));
+    scheduler.add(new GroupSystem(barrier, GameComponent.ANIMATION, () -> {
+      secondSeen.set(group.getEntitiesCount());
+      group.forEach(entity -> scheduler.defer(() -> entity.setAnimation(true)));
+    }));
+    scheduler.execute(1.0f);
+
+    assertEquals(count, firstSeen.get());
+    assertEquals(count, secondSeen.get());
+    assertEquals(0, group.getEntitiesCount());
+    var withAnimation = context.getGroup(
+        Matcher.newInstance().allOf(GameComponent.ANIMATION, GameComponent.VIEW));
+    assertEquals(count, withAnimation.getEntitiesCount());
+
+    // outside a frame, the change is applied at once
+    var entity = context.createEntity();
+    scheduler.defer(() -> entity.setPosition(0, 0));
+    assertTrue(entity.hasPosition());
+    context.reset();
+  }
+
+  @Test
+  void testSystemsExecuteOnTheScheduler() {
+    var systems = new Systems(scheduler);
+    systems.add(new RecordingSystem("move", new int[0], new int[] {POSITION}));
+    systems.execute(1.0f);
+    assertEquals(List.of("move"), executions);
+
+    systems.clearSystems();
+    assertEquals(0, scheduler.getSystemsCount());
+  }
+
+  private final class RecordingSystem implements ConcurrentSystem {
+
+    private final String name;
+    private final int[] reads;
+    private final int[] writes;
+
+    private RecordingSystem(String name, int[] reads, int[] writes) {
+      this.name = name;
+      this.reads = reads;
+      this.writes = writes;
+    }
+
+    @Override
+    public int[] getReadComponents() {
+      return reads;
+    }
+
+    @Override
+    public int[] getWriteComponents() {
+      return writes;
+    }
+
+    @Override
+    public void execute(float deltaTime) {
+      executions.add(name);
+    }
+  }
+
+  private static final class GroupSystem implements ConcurrentSystem {
+
+    private final CyclicBarrier barrier;
+    private final int write;
+    private final Runnable action;
+
+    private GroupSystem(CyclicBarrier barrier, int write, Runnable action) {
+      this.barrier = barrier;
+      this.write = write;
+      this.action = action;
+    }
+
+    @Override
+    public int[] getReadComponents() {
+      return new int[] {GameComponent.POSITION};
+    }
+
+    @Override
+    public int[] getWriteComponents() {
+      return new int[] {write};
+    }
+
+    @Override
+    public void execute(float deltaTime) {
+      try {
+        barrier.await(5, TimeUnit.SECONDS);
+      } catch (Exception exception) {
+        throw new IllegalStateException(exception);
+      }
+      action.run();
+    }
+  }
+
+  private static final class WaitingSystem implements ConcurrentSystem {
+
+    private final CyclicBarrier barrier;
+    private final int[] reads;
+    private final int[] writes;
+
+    private WaitingSystem(CyclicBarrier barrier, int[] reads, int[] writes) {
+      this.barrier = barrier;
+      this.reads = reads;
+      this.writes = writes;
+    }
+
+    @Override
+    public int[] getReadComponents() {
+      return reads;
+    }
+
+    @Override
+    public int[] getWriteComponents() {
+      return writes;
+    }
+
+    @Override
+    public void execute(float deltaTime) {
+      try {
+        barrier.await(5, TimeUnit.SECONDS);
+      } catch (Exception exception) {
+        throw new IllegalStateException(exception);
+      }
+    }
+  }
+}
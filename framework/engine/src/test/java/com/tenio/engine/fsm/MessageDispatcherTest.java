@@ -1,28 +1,33 @@
 package com.tenio.engine.fsm;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
 import com.tenio.engine.fsm.entity.AbstractEntity;
 import com.tenio.engine.fsm.entity.Telegram;
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 class MessageDispatcherTest {
 
+  private static final long MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1);
+
   private EntityManager entityManager;
+  private AtomicLong clock;
   private MessageDispatcher dispatcher;
 
   @BeforeEach
   void setUp() {
     entityManager = new EntityManager();
-    dispatcher = new MessageDispatcher(entityManager);
+    clock = new AtomicLong();
+    dispatcher = new MessageDispatcher(entityManager, clock::get);
   }
 
   @Test
@@ -79,16 +84,50 @@ class MessageDispatcherTest {
   }
 
   @Test
-  @SuppressWarnings("unchecked")
-  void testUpdateDispatchesPastDueTelegrams() throws Exception {
+  void testUpdateDispatchesPastDueTelegrams() {
+    List<Boolean> results = new ArrayList<>();
+    entityManager.register(new TestEntity("target", true));
+    dispatcher.listen((msg, handled) -> results.add(handled));
+    dispatcher.dispatchMessage(0.002, "sender", "target", 1, null);
+
+    dispatcher.update(0.1f);
+    assertTrue(results.isEmpty());
+
+    clock.addAndGet(MILLISECOND);
+    dispatcher.update(0.1f);
+    assertTrue(results.isEmpty());
+
+    clock.addAndGet(MILLISECOND);
+    dispatcher.update(0.1f);
+    assertEquals(1, results.size());
+    assertTrue(results.get(0));
+  }
+
+  @Test
+  void testUpdateDispatchesTelegramsOfTheSameTimeInOrder() {
+    List<Integer> types = new ArrayList<>();
+    entityManager.register(new TestEntity("target", true));
+    dispatcher.listen((msg, handled) -> types.add(msg.getType()));
+    for (int type = 0; type < 5; type++) {
+      dispatcher.dispatchMessage(0.001, "sender", "target", type, null);
+    }
+
+    clock.addAndGet(MILLISECOND);
+    dispatcher.update(0.1f);
+    assertEquals(List.of(0, 1, 2, 3, 4), types);
+  }
+
+  @Test
+  void testClearDropsDelayedTelegrams() {
+    List<Boolean> results = new ArrayList<>();
     entityManager.register(new TestEntity("target", true));
-    // Create telegram with delay time in the past (Unix epoch second 1 is long past)
-    var pastTelegram = new Telegram(1.0, "sender", "target", 1, null);
-    Field field = MessageDispatcher.class.getDeclaredField("telegrams");
-    field.setAccessible(true);
-    TreeSet<Telegram> telegrams = (TreeSet<Telegram>) field.get(dispatcher);
-    telegrams.add(pastTelegram);
-    assertDoesNotThrow(() -> dispatcher.update(0.1f));
+    dispatcher.dispatchMessage(0.001, "sender", "target", 1, null);
+    dispatcher.clear();
+    dispatcher.listen((msg, handled) -> results.add(handled));
+
+    clock.addAndGet(MILLISECOND);
+    dispatcher.update(0.1f);
+    assertTrue(results.isEmpty());
   }
 
   private static class TestEntity extends AbstractEntity {
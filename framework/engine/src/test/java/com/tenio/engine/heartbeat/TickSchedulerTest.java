@@ -0,0 +1,213 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.engine.heartbeat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tenio.engine.message.ExtraMessage;
+import com.tenio.engine.physic2d.graphic.Paint;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TickSchedulerTest {
+
+  private TickScheduler scheduler;
+
+  @BeforeEach
+  void setUp() {
+    scheduler = TickScheduler.newInstance(2);
+  }
+
+  @AfterEach
+  void tearDown() {
+    scheduler.shutdown();
+  }
+
+  @Test
+  void testManyHeartbeatsAreUpdatedByFewThreads() throws InterruptedException {
+    List<CountingHeartBeat> heartbeats = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      var heartbeat = new CountingHeartBeat();
+      heartbeats.add(heartbeat);
+      scheduler.schedule(heartbeat);
+    }
+
+    assertEquals(500, scheduler.getHeartbeatsCount());
+    assertTrue(await(() -> heartbeats.stream()
+        .allMatch(heartbeat -> heartbeat.updates.get() >= 3)));
+    for (var heartbeat : heartbeats) {
+      // a heart-beat never moves between threads
+      assertEquals(1, heartbeat.threads.size());
+    }
+    var statistic = scheduler.getTickStatistic();
+    assertTrue(statistic.getTicks() >= 1500);
+    assertTrue(statistic.getMaxTickTime() >= 0);
+  }
+
+  @Test
+  void testIdleHeartbeatIsSkippedUntilItWakesUp() throws InterruptedException {
+    var heartbeat = new CountingHeartBeat();
+    heartbeat.idle = true;
+    scheduler.schedule(heartbeat);
+
+    assertTrue(await(() -> scheduler.getTickStatistic().getSkippedTicks() >= 2));
+    assertEquals(0, heartbeat.updates.get());
+
+    heartbeat.idle = false;
+    assertTrue(await(() -> heartbeat.updates.get() >= 2));
+  }
+
+  @Test
+  void testDueMessagesWakeAnIdleHeartbeat() throws InterruptedException {
+    var heartbeat = new CountingHeartBeat();
+    heartbeat.idle = true;
+    scheduler.schedule(heartbeat);
+    heartbeat.offerMessage(null, System.nanoTime());
+
+    assertTrue(await(() -> heartbeat.messages.get() == 1));
+  }
+
+  @Test
+  void testMessageWakesASleepingHeartbeatBeforeItsNextCheck() throws InterruptedException {
+    var heartbeat = new CountingHeartBeat();
+    heartbeat.idle = true;
+    scheduler.schedule(heartbeat);
+    var statistic = scheduler.getTickStatistic();
+    assertTrue(await(() -> statistic.getSkippedTicks() >= 1));
+
+    // right after a skip, the next check is a whole interval away
+    long skippedTicks = statistic.getSkippedTicks();
+    while (statistic.getSkippedTicks() == skippedTicks) {
+      Thread.onSpinWait();
+    }
+    long sentTime = System.nanoTime();
+    heartbeat.offerMessage(null, sentTime);
+
+    assertTrue(await(() -> heartbeat.messages.get() == 1));
+    assertTrue(System.nanoTime() - sentTime < TickScheduler.IDLE_CHECK_INTERVAL_IN_NANOSECONDS / 2);
+  }
+
+  @Test
+  void testUnscheduledHeartbeatIsDisposedOnItsThread() throws InterruptedException {
+    var heartbeat = new CountingHeartBeat();
+    scheduler.schedule(heartbeat);
+    assertTrue(await(() -> heartbeat.updates.get() >= 1));
+
+    scheduler.unschedule(heartbeat);
+    assertTrue(heartbeat.disposed.await(5, TimeUnit.SECONDS));
+    assertEquals(0, scheduler.getHeartbeatsCount());
+    assertEquals(1, heartbeat.threads.size());
+    int updates = heartbeat.updates.get();
+    Thread.sleep(100);
+    assertEquals(updates, heartbeat.updates.get());
+  }
+
+  @Test
+  void testShutdownDisposesAllHeartbeats() throws InterruptedException {
+    var first = new CountingHeartBeat();
+    var second = new CountingHeartBeat();
+    scheduler.schedule(first);
+    scheduler.schedule(second);
+    assertTrue(await(() -> first.updates.get() >= 1 && second.updates.get() >= 1));
+
+    scheduler.shutdown();
+    assertTrue(first.disposed.await(5, TimeUnit.SECONDS));
+    assertTrue(second.disposed.await(5, TimeUnit.SECONDS));
+  }
+
+  private static boolean await(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (System.nanoTime() < deadline) {
+      if (condition.getAsBoolean()) {
+        return true;
+      }
+      Thread.sleep(10);
+    }
+    return condition.getAsBoolean();
+  }
+
+  private static final class CountingHeartBeat extends AbstractHeartBeat {
+
+    private final AtomicInteger updates = new AtomicInteger();
+    private final AtomicInteger messages = new AtomicInteger();
+    private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    private final CountDownLatch disposed = new CountDownLatch(1);
+    private volatile boolean idle;
+
+    @Override
+    protected boolean isIdle() {
+      return idle;
+    }
+
+    @Override
+    protected void onCreate() {
+      threads.add(Thread.currentThread());
+    }
+
+    @Override
+    protected void onMessage(ExtraMessage message) {
+      messages.incrementAndGet();
+    }
+
+    @Override
+    protected void onUpdate(float deltaTime) {
+      threads.add(Thread.currentThread());
+      updates.incrementAndGet();
+    }
+
+    @Override
+    protected void onRender(Paint paint) {}
+
+    @Override
+    protected void onPause() {}
+
+    @Override
+    protected void onResume() {}
+
+    @Override
+    protected void onDispose() {
+      threads.add(Thread.currentThread());
+      disposed.countDown();
+    }
+
+    @Override
+    protected void onAction1() {}
+
+    @Override
+    protected void onAction2() {}
+
+    @Override
+    protected void onAction3() {}
+  }
+}
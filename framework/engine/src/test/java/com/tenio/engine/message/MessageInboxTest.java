@@ -0,0 +1,148 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.engine.message;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.Test;
+
+class MessageInboxTest {
+
+  @Test
+  void testCapacityMustBeAPowerOfTwo() {
+    assertThrows(IllegalArgumentException.class, () -> MessageInbox.newInstance(3));
+    assertThrows(IllegalArgumentException.class, () -> MessageInbox.newInstance(0));
+  }
+
+  @Test
+  void testDrainReceivesMessagesInOrderWithTheirDeliveryTimes() {
+    MessageInbox<String> inbox = MessageInbox.newInstance(4);
+    inbox.offer("a", 1L);
+    inbox.offer("b", 2L);
+
+    List<String> received = new ArrayList<>();
+    assertEquals(2, inbox.drain((message, deliveryTime) -> received.add(message + deliveryTime)));
+    assertEquals(List.of("a1", "b2"), received);
+    assertTrue(inbox.isEmpty());
+  }
+
+  @Test
+  void testMessagesOverflowingTheRingAreKept() {
+    MessageInbox<Integer> inbox = MessageInbox.newInstance(4);
+    for (int i = 0; i < 10; i++) {
+      inbox.offer(i, 0L);
+    }
+
+    List<Integer> received = new ArrayList<>();
+    assertEquals(10, inbox.drain((message, deliveryTime) -> received.add(message)));
+    assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), received);
+
+    // the ring's slots can be reused after the drain
+    inbox.offer(10, 0L);
+    received.clear();
+    inbox.drain((message, deliveryTime) -> received.add(message));
+    assertEquals(List.of(10), received);
+  }
+
+  @Test
+  void testMessagesDoNotOvertakeTheOverflowingOnes() {
+    MessageInbox<Integer> inbox = MessageInbox.newInstance(4);
+    for (int i = 0; i < 5; i++) {
+      inbox.offer(i, 0L);
+    }
+
+    // the first received message frees a slot of the ring while the message 4 is still waiting
+    // in the overflow queue
+    List<Integer> received = new ArrayList<>();
+    inbox.drain((message, deliveryTime) -> {
+      received.add(message);
+      if (message == 0) {
+        inbox.offer(5, 0L);
+      }
+    });
+    assertEquals(List.of(0, 1, 2, 3, 4, 5), received);
+
+    // once the overflow queue is drained, the ring is used again
+    inbox.offer(6, 0L);
+    received.clear();
+    inbox.drain((message, deliveryTime) -> received.add(message));
+    assertEquals(List.of(6), received);
+  }
+
+  @Test
+  void testClearRemovesAllMessages() {
+    MessageInbox<String> inbox = MessageInbox.newInstance();
+    inbox.offer("a", 0L);
+    inbox.clear();
+    assertTrue(inbox.isEmpty());
+    assertEquals(0, inbox.drain((message, deliveryTime) -> {
+    }));
+  }
+
+  @Test
+  void testMessagesOfManyProducersAreAllReceived() throws InterruptedException {
+    int producers = 4;
+    int messages = 50_000;
+    MessageInbox<long[]> inbox = MessageInbox.newInstance(256);
+    var start = new CountDownLatch(1);
+    List<Thread> threads = new ArrayList<>();
+    for (int producer = 0; producer < producers; producer++) {
+      final int id = producer;
+      var thread = new Thread(() -> {
+        try {
+          start.await();
+        } catch (InterruptedException exception) {
+          return;
+        }
+        for (int i = 0; i < messages; i++) {
+          inbox.offer(new long[] {id, i}, 0L);
+        }
+      });
+      thread.start();
+      threads.add(thread);
+    }
+    start.countDown();
+
+    int[] received = new int[producers];
+    MessageInbox.Receiver<long[]> receiver =
+        (message, deliveryTime) -> received[(int) message[0]]++;
+    for (var thread : threads) {
+      while (thread.isAlive()) {
+        inbox.drain(receiver);
+      }
+      thread.join();
+    }
+    inbox.drain(receiver);
+
+    for (int producer = 0; producer < producers; producer++) {
+      assertEquals(messages, received[producer]);
+    }
+  }
+}
@@ -0,0 +1,123 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.engine.message;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTest {
+
+  @Test
+  void testNumberOfSlotsMustBeAPowerOfTwo() {
+    assertThrows(IllegalArgumentException.class, () -> TimingWheel.newInstance(6, 0L));
+  }
+
+  @Test
+  void testMessagesAreDeliveredAtTheirTickInScheduledOrder() {
+    TimingWheel<String> wheel = TimingWheel.newInstance(8, 0L);
+    wheel.schedule("b", 2L);
+    wheel.schedule("a", 1L);
+    wheel.schedule("c", 2L);
+
+    List<String> delivered = new ArrayList<>();
+    wheel.advance(1L, delivered::add);
+    assertEquals(List.of("a"), delivered);
+    wheel.advance(2L, delivered::add);
+    assertEquals(List.of("a", "b", "c"), delivered);
+    assertTrue(wheel.isEmpty());
+  }
+
+  @Test
+  void testMessagesDueInLaterTurnsWaitForTheirTick() {
+    TimingWheel<String> wheel = TimingWheel.newInstance(4, 0L);
+    wheel.schedule("late", 9L);
+    wheel.schedule("soon", 1L);
+
+    List<String> delivered = new ArrayList<>();
+    wheel.advance(8L, delivered::add);
+    assertEquals(List.of("soon"), delivered);
+    assertEquals(1, wheel.size());
+    wheel.advance(9L, delivered::add);
+    assertEquals(List.of("soon", "late"), delivered);
+  }
+
+  @Test
+  void testMessagesDueInThePastAreDeliveredWithTheNextTick() {
+    TimingWheel<String> wheel = TimingWheel.newInstance(8, 5L);
+    wheel.schedule("past", 2L);
+
+    List<String> delivered = new ArrayList<>();
+    wheel.advance(5L, delivered::add);
+    assertTrue(delivered.isEmpty());
+    wheel.advance(6L, delivered::add);
+    assertEquals(List.of("past"), delivered);
+  }
+
+  @Test
+  void testEmptyWheelSkipsToTheTick() {
+    TimingWheel<String> wheel = TimingWheel.newInstance(8, 0L);
+    wheel.advance(1_000_000L, message -> {
+    });
+    assertEquals(1_000_000L, wheel.getCurrentTick());
+
+    List<String> delivered = new ArrayList<>();
+    wheel.schedule("next", 1_000_001L);
+    wheel.advance(1_000_001L, delivered::add);
+    assertEquals(List.of("next"), delivered);
+  }
+
+  @Test
+  void testMessagesCanBeScheduledWhileDelivering() {
+    TimingWheel<String> wheel = TimingWheel.newInstance(8, 0L);
+    wheel.schedule("first", 1L);
+
+    List<String> delivered = new ArrayList<>();
+    wheel.advance(3L, message -> {
+      delivered.add(message);
+      if (message.equals("first")) {
+        wheel.schedule("second", 2L);
+      }
+    });
+    assertEquals(List.of("first", "second"), delivered);
+  }
+
+  @Test
+  void testClearRemovesAllMessages() {
+    TimingWheel<String> wheel = TimingWheel.newInstance(8, 0L);
+    wheel.schedule("a", 1L);
+    wheel.schedule("b", 12L);
+    wheel.clear();
+    assertEquals(0, wheel.size());
+
+    List<String> delivered = new ArrayList<>();
+    wheel.advance(20L, delivered::add);
+    assertTrue(delivered.isEmpty());
+  }
+}
@@ -0,0 +1,196 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.engine.physic2d.math;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.tenio.engine.physic2d.common.InvertedAabbBox2D;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class BatchKinematicsTest {
+
+  // not a multiple of any lane count, so the scalar tail is used too
+  private static final int COUNT = 1_003;
+
+  private final BatchKinematics kinematics = BatchKinematics.newInstance();
+  private final BatchKinematics scalarKinematics = BatchKinematics.newScalarInstance();
+
+  @Test
+  void testScalarInstanceIsNotVectorized() {
+    assertFalse(scalarKinematics.isVectorized());
+  }
+
+  @Test
+  void testIntegrateMovesByTheTruncatedVelocities() {
+    var random = new Random(1);
+    float[] accelerationsX = randomArray(random, 10.0f);
+    float[] accelerationsY = randomArray(random, 10.0f);
+    float[] velocitiesX = randomArray(random, 5.0f);
+    float[] velocitiesY = randomArray(random, 5.0f);
+    float[] positionsX = randomArray(random, 100.0f);
+    float[] positionsY = randomArray(random, 100.0f);
+    float[] maxSpeeds = new float[COUNT];
+    Arrays.fill(maxSpeeds, 6.0f);
+    float[] expectedX = positionsX.clone();
+    float[] expectedY = positionsY.clone();
+    float[] expectedVelocitiesX = velocitiesX.clone();
+    float[] expectedVelocitiesY = velocitiesY.clone();
+    for (int i = 0; i < COUNT; i++) {
+      var velocity = Vector2.valueOf(velocitiesX[i], velocitiesY[i])
+          .add(Vector2.valueOf(accelerationsX[i], accelerationsY[i]).mul(0.5f)).truncate(6.0f);
+      expectedVelocitiesX[i] = velocity.x;
+      expectedVelocitiesY[i] = velocity.y;
+      var position = Vector2.valueOf(positionsX[i], positionsY[i]).add(velocity.mul(0.5f));
+      expectedX[i] = position.x;
+      expectedY[i] = position.y;
+    }
+
+    kinematics.integrate(positionsX, positionsY, velocitiesX, velocitiesY, accelerationsX,
+        accelerationsY, maxSpeeds, 0.5f, COUNT);
+
+    assertArrayEquals(expectedVelocitiesX, velocitiesX, 0.0001f);
+    assertArrayEquals(expectedVelocitiesY, velocitiesY, 0.0001f);
+    assertArrayEquals(expectedX, positionsX, 0.0001f);
+    assertArrayEquals(expectedY, positionsY, 0.0001f);
+  }
+
+  @Test
+  void testTruncateAndNormalizeMatchTheScalarKernels() {
+    var random = new Random(2);
+    float[] vectorsX = randomArray(random, 10.0f);
+    float[] vectorsY = randomArray(random, 10.0f);
+    float[] maxLengths = randomArray(random, 5.0f);
+    for (int i = 0; i < COUNT; i++) {
+      maxLengths[i] = Math.abs(maxLengths[i]);
+    }
+    // zero vectors are kept as they are
+    vectorsX[7] = 0;
+    vectorsY[7] = 0;
+    float[] scalarX = vectorsX.clone();
+    float[] scalarY = vectorsY.clone();
+
+    kinematics.truncate(vectorsX, vectorsY, maxLengths, COUNT);
+    scalarKinematics.truncate(scalarX, scalarY, maxLengths, COUNT);
+    assertArrayEquals(scalarX, vectorsX);
+    assertArrayEquals(scalarY, vectorsY);
+    for (int i = 0; i < COUNT; i++) {
+      float length = Vector2.valueOf(vectorsX[i], vectorsY[i]).getLength();
+      assertTrue(length <= maxLengths[i] * 1.0001f);
+    }
+
+    kinematics.normalize(vectorsX, vectorsY, COUNT);
+    scalarKinematics.normalize(scalarX, scalarY, COUNT);
+    assertArrayEquals(scalarX, vectorsX);
+    assertArrayEquals(scalarY, vectorsY);
+    assertEquals(0.0f, vectorsX[7]);
+    assertEquals(1.0f, Vector2.valueOf(vectorsX[8], vectorsY[8]).getLength(), 0.0001f);
+  }
+
+  @Test
+  void testFlockingSumsMatchTheirDefinitions() {
+    var random = new Random(3);
+    float[] neighborsX = randomArray(random, 50.0f);
+    float[] neighborsY = randomArray(random, 50.0f);
+    // a neighbor at the mover's position pushes nothing
+    neighborsX[3] = 1.0f;
+    neighborsY[3] = 2.0f;
+
+    float expectedX = 0;
+    float expectedY = 0;
+    // the rounding errors of the sums grow with the magnitudes of their terms
+    float tolerance = 0;
+    for (int i = 0; i < COUNT; i++) {
+      var toAgent = Vector2.valueOf(1.0f, 2.0f).sub(neighborsX[i], neighborsY[i]);
+      if (!toAgent.isZero()) {
+        float length = toAgent.getLength();
+        toAgent.normalize().div(length);
+        expectedX += toAgent.x;
+        expectedY += toAgent.y;
+        tolerance += (Math.abs(toAgent.x) + Math.abs(toAgent.y)) * 0.0001f;
+      }
+    }
+    float[] result = new float[2];
+    kinematics.sumSeparation(1.0f, 2.0f, neighborsX, neighborsY, COUNT, result);
+    assertEquals(expectedX, result[0], tolerance);
+    assertEquals(expectedY, result[1], tolerance);
+
+    float sumX = 0;
+    float sumY = 0;
+    for (int i = 0; i < COUNT; i++) {
+      sumX += neighborsX[i];
+      sumY += neighborsY[i];
+    }
+    kinematics.sumCohesion(neighborsX, neighborsY, COUNT, result);
+    assertEquals(sumX, result[0], 0.01f);
+    assertEquals(sumY, result[1], 0.01f);
+    kinematics.sumAlignment(neighborsX, neighborsY, 5, result);
+    assertEquals(neighborsX[0] + neighborsX[1] + neighborsX[2] + neighborsX[3] + neighborsX[4],
+        result[0], 0.0001f);
+  }
+
+  @Test
+  void testFindOverlapsMatchesTheBoxes() {
+    var random = new Random(4);
+    float[] lefts = new float[COUNT];
+    float[] tops = new float[COUNT];
+    float[] rights = new float[COUNT];
+    float[] bottoms = new float[COUNT];
+    for (int i = 0; i < COUNT; i++) {
+      lefts[i] = random.nextFloat() * 100.0f;
+      tops[i] = random.nextFloat() * 100.0f;
+      rights[i] = lefts[i] + random.nextFloat() * 10.0f;
+      bottoms[i] = tops[i] + random.nextFloat() * 10.0f;
+    }
+    var query = InvertedAabbBox2D.valueOf(40.0f, 40.0f, 60.0f, 55.0f);
+
+    int[] expected = new int[COUNT];
+    int expectedCount = 0;
+    for (int i = 0; i < COUNT; i++) {
+      if (InvertedAabbBox2D.valueOf(lefts[i], tops[i], rights[i], bottoms[i])
+          .isOverlappedWith(query)) {
+        expected[expectedCount++] = i;
+      }
+    }
+    int[] result = new int[COUNT];
+    int count = kinematics.findOverlaps(40.0f, 40.0f, 60.0f, 55.0f, lefts, tops, rights, bottoms,
+        COUNT, result);
+
+    assertEquals(expectedCount, count);
+    assertArrayEquals(expected, result);
+  }
+
+  private static float[] randomArray(Random random, float scale) {
+    float[] array = new float[COUNT];
+    for (int i = 0; i < COUNT; i++) {
+      array[i] = (random.nextFloat() * 2.0f - 1.0f) * scale;
+    }
+    return array;
+  }
+}
@@ -0,0 +1,76 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.engine.physic2d.pathfinding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class NavigationGridTest {
+
+  @Test
+  void testCellIndicesMatchCellSpacePartition() {
+    var grid = NavigationGrid.newInstance(100.0f, 50.0f, 10, 5);
+
+    assertEquals(50, grid.getCellsCount());
+    assertEquals(23, grid.getCellIndex(3, 2));
+    assertEquals(23, grid.getCellIndex(35.0f, 25.0f));
+    assertEquals(3, grid.getCellX(23));
+    assertEquals(2, grid.getCellY(23));
+    // the positions outside the space are clamped into it
+    assertEquals(0, grid.getCellIndex(-5.0f, -5.0f));
+    assertEquals(49, grid.getCellIndex(100.0f, 50.0f));
+  }
+
+  @Test
+  void testCellCenterAndWayPoints() {
+    var grid = NavigationGrid.newInstance(100.0f, 50.0f, 10, 5);
+    var center = grid.getCellCenter(23);
+
+    assertEquals(35.0f, center.x);
+    assertEquals(25.0f, center.y);
+    assertTrue(grid.getWayPoints(GridPath.NOT_FOUND).isEmpty());
+    assertEquals(3, grid.getWayPoints(GridPath.newInstance(new int[] {0, 1, 2}, 2.0f)).size());
+  }
+
+  @Test
+  void testSetBlocked() {
+    var grid = NavigationGrid.newInstance(10.0f, 10.0f, 10, 10);
+
+    assertTrue(grid.isWalkable(3, 4));
+    assertTrue(grid.setBlocked(grid.getCellIndex(3, 4), true));
+    assertFalse(grid.setBlocked(grid.getCellIndex(3, 4), true));
+    assertFalse(grid.isWalkable(3, 4));
+    assertFalse(grid.isWalkable(43));
+  }
+
+  @Test
+  void testCreateWithoutCellsShouldThrowException() {
+    assertThrows(IllegalArgumentException.class,
+        () -> NavigationGrid.newInstance(10.0f, 10.0f, 0, 10));
+  }
+}
@@ -0,0 +1,288 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+package com.tenio.engine.physic2d.pathfinding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class PathFinderTest {
+
+  private static final float TOLERANCE = 0.001f;
+
+  @Test
+  void testFindPathAroundWall() {
+    var pathFinder = PathFinder.newInstance(NavigationGrid.newInstance(10.0f, 10.0f, 10, 10), 0,
+        PathFinder.DEFAULT_CACHE_CAPACITY);
+    // a wall in column 5 which is only open at the bottom row
+    for (int y = 0; y < 9; y++) {
+      pathFinder.setBlocked(5, y, true);
+    }
+    var grid = pathFinder.getGrid();
+
+    var path = pathFinder.findPath(grid.getCellIndex(0, 0), grid.getCellIndex(9, 0));
+
+    assertTrue(path.isFound());
+    assertValid(grid, path, grid.getCellIndex(0, 0), grid.getCellIndex(9, 0));
+    assertTrue(path.contains(grid.getCellIndex(5, 9)));
+    // the corners of the opening cannot be cut, so 4 diagonal and 5 straight steps lead to its
+    // left side, 2 straight steps go through it and 3 diagonal and 6 straight steps go up
+    assertEquals(13.0f + 7.0f * GridSearch.DIAGONAL_COST, path.getCost(), TOLERANCE);
+  }
+
+  @Test
+  void testFindPathBetweenSameOrBlockedCells() {
+    var pathFinder = PathFinder.newInstance(NavigationGrid.newInstance(10.0f, 10.0f, 10, 10));
+    pathFinder.setBlocked(3, 3, true);
+    var grid = pathFinder.getGrid();
+
+    var path = pathFinder.findPath(grid.getCellIndex(1, 1), grid.getCellIndex(1, 1));
+
+    assertEquals(1, path.getCellsCount());
+    assertEquals(0.0f, path.getCost());
+    assertSame(GridPath.NOT_FOUND,
+        pathFinder.findPath(grid.getCellIndex(1, 1), grid.getCellIndex(3, 3)));
+  }
+
+  @Test
+  void testFindPathWhenGoalIsEnclosed() {
+    var pathFinder = PathFinder.newInstance(NavigationGrid.newInstance(64.0f, 64.0f, 64, 64), 8,
+        PathFinder.DEFAULT_CACHE_CAPACITY);
+    for (int i = 40; i <= 44; i++) {
+      pathFinder.setBlocked(i, 40, true);
+      pathFinder.setBlocked(i, 44, true);
+      pathFinder.setBlocked(40, i, true);
+      pathFinder.setBlocked(44, i, true);
+    }
+    var grid = pathFinder.getGrid();
+
+    assertFalse(pathFinder.findPath(grid.getCellIndex(0, 0), grid.getCellIndex(42, 42))
+        .isFound());
+  }
+
+  @Test
+  void testHierarchicalPathsAreValidAndNearlyOptimal() {
+    var random = new Random(2026);
+    var flatFinder = PathFinder.newInstance(NavigationGrid.newInstance(96.0f, 96.0f, 96, 96), 0,
+        0);
+    var hierarchicalFinder = PathFinder.newInstance(
+        NavigationGrid.newInstance(96.0f, 96.0f, 96, 96), 8, 0);
+    for (int i = 0; i < 96 * 96 / 4; i++) {
+      int x = random.nextInt(96);
+      int y = random.nextInt(96);
+      flatFinder.setBlocked(x, y, true);
+      hierarchicalFinder.setBlocked(x, y, true);
+    }
+    var grid = hierarchicalFinder.getGrid();
+
+    int foundPaths = 0;
+    for (int i = 0; i < 200; i++) {
+      int start = random.nextInt(grid.getCellsCount());
+      int goal = random.nextInt(grid.getCellsCount());
+      var optimalPath = flatFinder.findPath(start, goal);
+      var path = hierarchicalFinder.findPath(start, goal);
+
+      assertEquals(optimalPath.isFound(), path.isFound());
+      if (path.isFound()) {
+        foundPaths++;
+        assertValid(grid, path, start, goal);
+        assertTrue(path.getCost() >= optimalPath.getCost() - TOLERANCE);
+        assertTrue(path.getCost() <= optimalPath.getCost() * 1.5f + 2.0f);
+      }
+    }
+    assertTrue(foundPaths > 0);
+  }
+
+  @Test
+  void testObstacleChangesRebuildAbstraction() {
+    var pathFinder = PathFinder.newInstance(NavigationGrid.newInstance(32.0f, 32.0f, 32, 32), 8,
+        0);
+    var grid = pathFinder.getGrid();
+    int start = grid.getCellIndex(2, 2);
+    int goal = grid.getCellIndex(29, 2);
+    assertTrue(pathFinder.findPath(start, goal).isFound());
+
+    // a wall across the whole map, then a door at its bottom
+    for (int y = 0; y < 32; y++) {
+      pathFinder.setBlocked(16, y, true);
+    }
+    assertFalse(pathFinder.findPath(start, goal).isFound());
+    pathFinder.setBlocked(16, 31, false);
+
+    var path = pathFinder.findPath(start, goal);
+    assertTrue(path.isFound());
+    assertValid(grid, path, start, goal);
+    assertTrue(path.contains(grid.getCellIndex(16, 31)));
+  }
+
+  @Test
+  void testFindPathBetweenNeighboringClustersIsOptimal() {
+    var pathFinder = PathFinder.newInstance(NavigationGrid.newInstance(32.0f, 32.0f, 32, 32), 8,
+        0);
+    var grid = pathFinder.getGrid();
+
+    var path = pathFinder.findPath(grid.getCellIndex(2, 2), grid.getCellIndex(13, 2));
+
+    assertValid(grid, path, grid.getCellIndex(2, 2), grid.getCellIndex(13, 2));
+    assertEquals(11.0f, path.getCost(), TOLERANCE);
+  }
+
+  @Test
+  void testCacheInvalidation() {
+    var pathFinder = PathFinder.newInstance(NavigationGrid.newInstance(32.0f, 32.0f, 32, 32));
+    var grid = pathFinder.getGrid();
+    int start = grid.getCellIndex(0, 0);
+    int goal = grid.getCellIndex(31, 0);
+    int otherGoal = grid.getCellIndex(0, 31);
+
+    var path = pathFinder.findPath(start, goal);
+    var otherPath = pathFinder.findPath(start, otherGoal);
+    assertSame(path, pathFinder.findPath(start, goal));
+    assertEquals(2, pathFinder.getCachedPathsCount());
+
+    // blocking a cell only removes the paths through it
+    pathFinder.setBlocked(15, 0, true);
+    assertEquals(1, pathFinder.getCachedPathsCount());
+    assertSame(otherPath, pathFinder.findPath(start, otherGoal));
+    var detour = pathFinder.findPath(start, goal);
+    assertNotSame(path, detour);
+    assertFalse(detour.contains(grid.getCellIndex(15, 0)));
+
+    // opening a cell can shorten any path
+    pathFinder.setBlocked(15, 0, false);
+    assertEquals(0, pathFinder.getCachedPathsCount());
+    assertEquals(31.0f, pathFinder.findPath(start, goal).getCost(), TOLERANCE);
+  }
+
+  @Test
+  void testCacheEvictsTheLeastRecentlyUsedPath() {
+    var pathFinder = PathFinder.newInstance(NavigationGrid.newInstance(16.0f, 16.0f, 16, 16), 0, 2);
+    var grid = pathFinder.getGrid();
+    int start = grid.getCellIndex(0, 0);
+    var first = pathFinder.findPath(start, grid.getCellIndex(15, 0));
+    var second = pathFinder.findPath(start, grid.getCellIndex(0, 15));
+
+    // the first path is used again, so the second one is evicted by the third one
+    assertSame(first, pathFinder.findPath(start, grid.getCellIndex(15, 0)));
+    pathFinder.findPath(start, grid.getCellIndex(15, 15));
+
+    assertEquals(2, pathFinder.getCachedPathsCount());
+    assertSame(first, pathFinder.findPath(start, grid.getCellIndex(15, 0)));
+    assertNotSame(second, pathFinder.findPath(start, grid.getCellIndex(0, 15)));
+  }
+
+  @Test
+  void testCacheNeverExceedsItsCapacityUnderConcurrentSearches() throws Exception {
+    int capacity = 16;
+    var pathFinder = PathFinder.newInstance(NavigationGrid.newInstance(32.0f, 32.0f, 32, 32), 8,
+        capacity);
+    var random = new Random(11);
+    var queries = new ArrayList<PathQuery>();
+    for (int i = 0; i < 2000; i++) {
+      queries.add(new PathQuery(random.nextInt(32 * 32), random.nextInt(32 * 32)));
+    }
+    var maxCachedPaths = new AtomicInteger();
+    var running = new AtomicBoolean(true);
+    var watcher = new Thread(() -> {
+      while (running.get()) {
+        maxCachedPaths.accumulateAndGet(pathFinder.getCachedPathsCount(), Math::max);
+      }
+    });
+    var executor = Executors.newFixedThreadPool(8);
+    watcher.start();
+    try {
+      for (int round = 0; round < 3; round++) {
+        pathFinder.findPathsAsync(queries, executor).get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      running.set(false);
+      watcher.join();
+      executor.shutdownNow();
+    }
+
+    assertEquals(capacity, pathFinder.getCachedPathsCount());
+    assertTrue(maxCachedPaths.get() <= capacity);
+  }
+
+  @Test
+  void testFindPathsAsync() throws Exception {
+    var random = new Random(7);
+    var pathFinder = PathFinder.newInstance(NavigationGrid.newInstance(64.0f, 64.0f, 64, 64));
+    for (int i = 0; i < 600; i++) {
+      pathFinder.setBlocked(random.nextInt(64), random.nextInt(64), true);
+    }
+    var queries = new ArrayList<PathQuery>();
+    for (int i = 0; i < 300; i++) {
+      queries.add(new PathQuery(random.nextInt(64 * 64), random.nextInt(64 * 64)));
+    }
+    var executor = Executors.newFixedThreadPool(4);
+    try {
+      var paths = pathFinder.findPathsAsync(queries, executor).get(30, TimeUnit.SECONDS);
+
+      assertEquals(queries.size(), paths.size());
+      for (int i = 0; i < queries.size(); i++) {
+        var query = queries.get(i);
+        assertSame(pathFinder.findPath(query.startCell(), query.goalCell()), paths.get(i));
+        if (paths.get(i).isFound()) {
+          assertValid(pathFinder.getGrid(), paths.get(i), query.startCell(), query.goalCell());
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static void assertValid(NavigationGrid grid, GridPath path, int start, int goal) {
+    assertEquals(start, path.getCell(0));
+    assertEquals(goal, path.getCell(path.getCellsCount() - 1));
+    float cost = 0.0f;
+    for (int i = 1; i < path.getCellsCount(); i++) {
+      int from = path.getCell(i - 1);
+      int to = path.getCell(i);
+      int deltaX = grid.getCellX(to) - grid.getCellX(from);
+      int deltaY = grid.getCellY(to) - grid.getCellY(from);
+      assertTrue(grid.isWalkable(to));
+      assertTrue(Math.abs(deltaX) <= 1 && Math.abs(deltaY) <= 1 && from != to);
+      if (deltaX != 0 && deltaY != 0) {
+        // a diagonal step does not cut corners
+        assertTrue(grid.isWalkable(grid.getCellX(from) + deltaX, grid.getCellY(from)));
+        assertTrue(grid.isWalkable(grid.getCellX(from), grid.getCellY(from) + deltaY));
+        cost += GridSearch.DIAGONAL_COST;
+      } else {
+        cost += 1.0f;
+      }
+    }
+    assertEquals(cost, path.getCost(), TOLERANCE);
+  }
+}
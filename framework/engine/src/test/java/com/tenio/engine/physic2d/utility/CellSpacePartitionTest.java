@@ -1,6 +1,7 @@
 package com.tenio.engine.physic2d.utility;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -9,11 +10,19 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.tenio.engine.fsm.entity.Telegram;
 import com.tenio.engine.physic2d.common.BaseGameEntity;
 import com.tenio.engine.physic2d.graphic.Paint;
 import com.tenio.engine.physic2d.math.Vector2;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 
 class CellSpacePartitionTest {
@@ -35,7 +44,7 @@ class CellSpacePartitionTest {
             3);
     BaseGameEntity baseGameEntity = mock(BaseGameEntity.class);
     when(baseGameEntity.getPosition()).thenReturn(Vector2.newInstance());
-    cellSpacePartition.updateEntity(baseGameEntity, Vector2.newInstance());
+    cellSpacePartition.updateEntity(baseGameEntity);
     verify(baseGameEntity).getPosition();
   }
 
@@ -46,7 +55,7 @@ class CellSpacePartitionTest {
             3);
     BaseGameEntity baseGameEntity = mock(BaseGameEntity.class);
     when(baseGameEntity.getPosition()).thenReturn(Vector2.newInstance());
-    cellSpacePartition.updateEntity(baseGameEntity, Vector2.newInstance());
+    cellSpacePartition.updateEntity(baseGameEntity);
     verify(baseGameEntity).getPosition();
   }
 
@@ -59,7 +68,7 @@ class CellSpacePartitionTest {
     newInstanceResult.add(10.0f, 10.0f);
     BaseGameEntity baseGameEntity = mock(BaseGameEntity.class);
     when(baseGameEntity.getPosition()).thenReturn(newInstanceResult);
-    cellSpacePartition.updateEntity(baseGameEntity, Vector2.newInstance());
+    cellSpacePartition.updateEntity(baseGameEntity);
     verify(baseGameEntity).getPosition();
   }
 
@@ -209,5 +218,123 @@ class CellSpacePartitionTest {
     paint.startDrawing(g);
     assertDoesNotThrow(() -> csp.render(paint));
   }
-}
 
+  @Test
+  void testCalculateNeighborsIntoListMatchesAllEntitiesInRange() {
+    var csp = new CellSpacePartition<PointEntity>(100.0f, 100.0f, 10, 10, 8);
+    var entities = createEntities(csp, 500, 100.0f, new Random(7));
+    var target = Vector2.newInstance().set(42.0f, 57.0f);
+
+    List<PointEntity> neighbors = new ArrayList<>();
+    int count = csp.calculateNeighbors(target, 15.0f, neighbors);
+
+    var expected = new HashSet<PointEntity>();
+    for (var entity : entities) {
+      if (entity.getPosition().getDistanceSqrValue(target) < 15.0f * 15.0f) {
+        expected.add(entity);
+      }
+    }
+    assertEquals(expected.size(), count);
+    assertEquals(expected, new HashSet<>(neighbors));
+  }
+
+  @Test
+  void testUpdateAndRemoveEntityKeepTheCellsConsistent() {
+    var csp = new CellSpacePartition<PointEntity>(100.0f, 100.0f, 4, 4, 1);
+    var first = new PointEntity(5.0f, 5.0f);
+    var second = new PointEntity(6.0f, 6.0f);
+    var third = new PointEntity(90.0f, 90.0f);
+    csp.addEntity(first);
+    csp.addEntity(second);
+    csp.addEntity(third);
+    assertEquals(3, csp.getEntitiesCount());
+
+    // moves the first entity next to the third one
+    first.setPosition(91.0f, 91.0f);
+    csp.updateEntity(first);
+    List<PointEntity> neighbors = new ArrayList<>();
+    csp.calculateNeighbors(Vector2.newInstance().set(90.0f, 90.0f), 5.0f, neighbors);
+    assertEquals(Set.of(first, third), new HashSet<>(neighbors));
+
+    csp.removeEntity(third);
+    assertEquals(2, csp.getEntitiesCount());
+    neighbors.clear();
+    csp.calculateNeighbors(Vector2.newInstance().set(90.0f, 90.0f), 5.0f, neighbors);
+    assertEquals(List.of(first), neighbors);
+    neighbors.clear();
+    csp.calculateNeighbors(Vector2.newInstance().set(5.0f, 5.0f), 5.0f, neighbors);
+    assertEquals(List.of(second), neighbors);
+
+    csp.clearCells();
+    assertEquals(0, csp.getEntitiesCount());
+    assertEquals(0, csp.calculateNeighbors(Vector2.newInstance(), 200.0f, neighbors));
+  }
+
+  @Test
+  void testCalculatePairsInRangeFindsEachPairOnce() {
+    var csp = new CellSpacePartition<PointEntity>(100.0f, 100.0f, 20, 20, 8);
+    var entities = createEntities(csp, 400, 100.0f, new Random(11));
+    // the distance reaches further than one cell
+    float radius = 12.0f;
+
+    Set<Long> pairs = new HashSet<>();
+    int count = csp.calculatePairsInRange(radius, (first, second) ->
+        assertTrue(pairs.add(pairOf(entities.indexOf(first), entities.indexOf(second)))));
+
+    Set<Long> expected = new HashSet<>();
+    for (int i = 0; i < entities.size(); i++) {
+      for (int j = i + 1; j < entities.size(); j++) {
+        var position = Vector2.newInstance().set(entities.get(i).getPosition());
+        if (position.getDistanceSqrValue(entities.get(j).getPosition()) < radius * radius) {
+          expected.add(pairOf(i, j));
+        }
+      }
+    }
+    assertEquals(expected.size(), count);
+    assertEquals(expected, pairs);
+  }
+
+  @Test
+  void testConcurrentQueriesUseTheirOwnLists() {
+    var csp = new CellSpacePartition<PointEntity>(100.0f, 100.0f, 10, 10, 8);
+    createEntities(csp, 1000, 100.0f, new Random(3));
+    var target = Vector2.newInstance().set(50.0f, 50.0f);
+    int expected = csp.calculateNeighbors(target, 20.0f, new ArrayList<>());
+
+    var counts = new ConcurrentLinkedQueue<Integer>();
+    IntStream.range(0, 64).parallel().forEach(i ->
+        counts.add(csp.calculateNeighbors(target, 20.0f, new ArrayList<>())));
+    counts.forEach(count -> assertEquals(expected, count.intValue()));
+  }
+
+  private static List<PointEntity> createEntities(CellSpacePartition<PointEntity> csp, int count,
+                                                  float size, Random random) {
+    List<PointEntity> entities = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      var entity = new PointEntity(random.nextFloat() * size, random.nextFloat() * size);
+      csp.addEntity(entity);
+      entities.add(entity);
+    }
+    return entities;
+  }
+
+  private static long pairOf(int first, int second) {
+    return ((long) Math.min(first, second) << 32) | Math.max(first, second);
+  }
+
+  private static final class PointEntity extends BaseGameEntity {
+
+    PointEntity(float x, float y) {
+      setPosition(x, y);
+    }
+
+    @Override
+    public void update(float deltaTime) {
+    }
+
+    @Override
+    public boolean handleMessage(Telegram msg) {
+      return false;
+    }
+  }
+}
@@ -9,14 +9,30 @@ import org.junit.jupiter.api.Test;
 class CellTest {
   @Test
   void testConstructor() {
-    Cell<Object> actualCell = new Cell<Object>(10.0f, 10.0f, 10.0f, 10.0f);
+    Cell actualCell = new Cell(10.0f, 10.0f, 10.0f, 10.0f);
 
-    assertTrue(actualCell.members.isEmpty());
+    assertTrue(actualCell.isEmpty());
     InvertedAabbBox2D invertedAabbBox2D = actualCell.bbox;
     assertEquals(10.0f, invertedAabbBox2D.getTop());
     assertEquals(10.0f, invertedAabbBox2D.getRight());
     assertEquals(10.0f, invertedAabbBox2D.getLeft());
     assertEquals(10.0f, invertedAabbBox2D.getBottom());
   }
-}
 
+  @Test
+  void testRemoveAtMovesTheLastMemberIntoTheSlot() {
+    Cell cell = new Cell(0.0f, 0.0f, 10.0f, 10.0f);
+    for (int member = 0; member < 10; member++) {
+      assertEquals(member, cell.add(member * 10));
+    }
+    assertEquals(10, cell.size());
+
+    assertEquals(90, cell.removeAt(2));
+    assertEquals(90, cell.get(2));
+    assertEquals(-1, cell.removeAt(8));
+    assertEquals(8, cell.size());
+
+    cell.clear();
+    assertTrue(cell.isEmpty());
+  }
+}
@@ -0,0 +1,190 @@
+/*
+The MIT License
+
+Copyright (c) 2016-2026 kong <congcoi123@gmail.com>
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included in
+all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+THE SOFTWARE.
+*/
+
+package com.tenio.engine.physic2d.math;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The kernels of {@link BatchKinematics} on the Vector API, each loop processes as many movers at
+ * once as the host's preferred vector holds, e.g. 8 floats with AVX2. The elements left after the
+ * last full lane are processed by {@link ScalarBatchKinematics}. It requires the
+ * {@code jdk.incubator.vector} module, so it is only created by
+ * {@link BatchKinematics#newInstance()} when the module is present.
+ *
+ * @since 0.7.4
+ */
+final class VectorBatchKinematics implements BatchKinematics {
+
+  private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+  VectorBatchKinematics() {
+  }
+
+  /**
+   * Lanes of a single float gain nothing over the scalar loops.
+   *
+   * @return {@code true} if the preferred vector holds more than one float
+   */
+  @Override
+  public boolean isVectorized() {
+    return SPECIES.length() > 1;
+  }
+
+  @Override
+  public void integrate(float[] positionsX, float[] positionsY, float[] velocitiesX,
+                        float[] velocitiesY, float[] accelerationsX, float[] accelerationsY,
+                        float[] maxSpeeds, float deltaTime, int count) {
+    int upper = SPECIES.loopBound(count);
+    int i = 0;
+    for (; i < upper; i += SPECIES.length()) {
+      var velocityX = FloatVector.fromArray(SPECIES, velocitiesX, i)
+          .add(FloatVector.fromArray(SPECIES, accelerationsX, i).mul(deltaTime));
+      var velocityY = FloatVector.fromArray(SPECIES, velocitiesY, i)
+          .add(FloatVector.fromArray(SPECIES, accelerationsY, i).mul(deltaTime));
+      var maxSpeed = FloatVector.fromArray(SPECIES, maxSpeeds, i);
+      var speedSqr = velocityX.mul(velocityX).add(velocityY.mul(velocityY));
+      var exceeded = speedSqr.compare(VectorOperators.GT, maxSpeed.mul(maxSpeed));
+      if (exceeded.anyTrue()) {
+        var scale = maxSpeed.div(speedSqr.sqrt());
+        velocityX = velocityX.blend(velocityX.mul(scale), exceeded);
+        velocityY = velocityY.blend(velocityY.mul(scale), exceeded);
+      }
+      velocityX.intoArray(velocitiesX, i);
+      velocityY.intoArray(velocitiesY, i);
+      FloatVector.fromArray(SPECIES, positionsX, i).add(velocityX.mul(deltaTime))
+          .intoArray(positionsX, i);
+      FloatVector.fromArray(SPECIES, positionsY, i).add(velocityY.mul(deltaTime))
+          .intoArray(positionsY, i);
+    }
+    ScalarBatchKinematics.integrate(positionsX, positionsY, velocitiesX, velocitiesY,
+        accelerationsX, accelerationsY, maxSpeeds, deltaTime, i, count);
+  }
+
+  @Override
+  public void truncate(float[] vectorsX, float[] vectorsY, float[] maxLengths, int count) {
+    int upper = SPECIES.loopBound(count);
+    int i = 0;
+    for (; i < upper; i += SPECIES.length()) {
+      var x = FloatVector.fromArray(SPECIES, vectorsX, i);
+      var y = FloatVector.fromArray(SPECIES, vectorsY, i);
+      var maxLength = FloatVector.fromArray(SPECIES, maxLengths, i);
+      var lengthSqr = x.mul(x).add(y.mul(y));
+      var exceeded = lengthSqr.compare(VectorOperators.GT, maxLength.mul(maxLength));
+      if (exceeded.anyTrue()) {
+        var scale = maxLength.div(lengthSqr.sqrt());
+        x.blend(x.mul(scale), exceeded).intoArray(vectorsX, i);
+        y.blend(y.mul(scale), exceeded).intoArray(vectorsY, i);
+      }
+    }
+    ScalarBatchKinematics.truncate(vectorsX, vectorsY, maxLengths, i, count);
+  }
+
+  @Override
+  public void normalize(float[] vectorsX, float[] vectorsY, int count) {
+    int upper = SPECIES.loopBound(count);
+    int i = 0;
+    for (; i < upper; i += SPECIES.length()) {
+      var x = FloatVector.fromArray(SPECIES, vectorsX, i);
+      var y = FloatVector.fromArray(SPECIES, vectorsY, i);
+      var length = x.mul(x).add(y.mul(y)).sqrt();
+      var nonZero = length.compare(VectorOperators.NE, 0);
+      x.blend(x.div(length), nonZero).intoArray(vectorsX, i);
+      y.blend(y.div(length), nonZero).intoArray(vectorsY, i);
+    }
+    ScalarBatchKinematics.normalize(vectorsX, vectorsY, i, count);
+  }
+
+  @Override
+  public void sumSeparation(float x, float y, float[] neighborsX, float[] neighborsY, int count,
+                            float[] result) {
+    var sumX = FloatVector.zero(SPECIES);
+    var sumY = FloatVector.zero(SPECIES);
+    int upper = SPECIES.loopBound(count);
+    int i = 0;
+    for (; i < upper; i += SPECIES.length()) {
+      var toAgentX = FloatVector.broadcast(SPECIES, x)
+          .sub(FloatVector.fromArray(SPECIES, neighborsX, i));
+      var toAgentY = FloatVector.broadcast(SPECIES, y)
+          .sub(FloatVector.fromArray(SPECIES, neighborsY, i));
+      var distanceSqr = toAgentX.mul(toAgentX).add(toAgentY.mul(toAgentY));
+      VectorMask<Float> apart = distanceSqr.compare(VectorOperators.NE, 0);
+      sumX = sumX.add(toAgentX.div(distanceSqr), apart);
+      sumY = sumY.add(toAgentY.div(distanceSqr), apart);
+    }
+    result[0] = sumX.reduceLanes(VectorOperators.ADD);
+    result[1] = sumY.reduceLanes(VectorOperators.ADD);
+    ScalarBatchKinematics.sumSeparation(x, y, neighborsX, neighborsY, i, count, result);
+  }
+
+  @Override
+  public void sumAlignment(float[] headingsX, float[] headingsY, int count, float[] result) {
+    sum(headingsX, headingsY, count, result);
+  }
+
+  @Override
+  public void sumCohesion(float[] positionsX, float[] positionsY, int count, float[] result) {
+    sum(positionsX, positionsY, count, result);
+  }
+
+  private void sum(float[] vectorsX, float[] vectorsY, int count, float[] result) {
+    var sumX = FloatVector.zero(SPECIES);
+    var sumY = FloatVector.zero(SPECIES);
+    int upper = SPECIES.loopBound(count);
+    int i = 0;
+    for (; i < upper; i += SPECIES.length()) {
+      sumX = sumX.add(FloatVector.fromArray(SPECIES, vectorsX, i));
+      sumY = sumY.add(FloatVector.fromArray(SPECIES, vectorsY, i));
+    }
+    result[0] = sumX.reduceLanes(VectorOperators.ADD);
+    result[1] = sumY.reduceLanes(VectorOperators.ADD);
+    ScalarBatchKinematics.sum(vectorsX, vectorsY, i, count, result);
+  }
+
+  @Override
+  public int findOverlaps(float left, float top, float right, float bottom, float[] lefts,
+                          float[] tops, float[] rights, float[] bottoms, int count,
+                          int[] result) {
+    int found = 0;
+    int upper = SPECIES.loopBound(count);
+    int i = 0;
+    for (; i < upper; i += SPECIES.length()) {
+      var overlapped = FloatVector.fromArray(SPECIES, tops, i).compare(VectorOperators.LE, bottom)
+          .and(FloatVector.fromArray(SPECIES, bottoms, i).compare(VectorOperators.GE, top))
+          .and(FloatVector.fromArray(SPECIES, lefts, i).compare(VectorOperators.LE, right))
+          .and(FloatVector.fromArray(SPECIES, rights, i).compare(VectorOperators.GE, left));
+      // most lanes miss, so only the set bits are visited
+      long bits = overlapped.toLong();
+      while (bits != 0) {
+        result[found++] = i + Long.numberOfTrailingZeros(bits);
+        bits &= bits - 1;
+      }
+    }
+    return ScalarBatchKinematics.findOverlaps(left, top, right, bottom, lefts, tops, rights,
+        bottoms, i, count, result, found);
+  }
+}